@@ -19,19 +19,18 @@ package org.apache.zeppelin.bigquery;
 import com.google.api.client.googleapis.auth.oauth2.GoogleCredential;
 import com.google.api.client.http.HttpTransport;
 import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.api.client.json.GenericJson;
 import com.google.api.client.json.JsonFactory;
 import com.google.api.client.json.jackson2.JacksonFactory;
 import com.google.api.client.util.Joiner;
 import com.google.api.services.bigquery.Bigquery;
 import com.google.api.services.bigquery.Bigquery.Jobs.GetQueryResults;
-import com.google.api.services.bigquery.BigqueryRequest;
 import com.google.api.services.bigquery.BigqueryScopes;
+import com.google.api.services.bigquery.model.ExplainQueryStage;
 import com.google.api.services.bigquery.model.GetQueryResultsResponse;
 import com.google.api.services.bigquery.model.Job;
-import com.google.api.services.bigquery.model.JobCancelResponse;
-import com.google.api.services.bigquery.model.QueryRequest;
-import com.google.api.services.bigquery.model.QueryResponse;
+import com.google.api.services.bigquery.model.JobConfiguration;
+import com.google.api.services.bigquery.model.JobConfigurationQuery;
+import com.google.api.services.bigquery.model.JobStatistics;
 import com.google.api.services.bigquery.model.TableCell;
 import com.google.api.services.bigquery.model.TableFieldSchema;
 import com.google.api.services.bigquery.model.TableRow;
@@ -43,18 +42,18 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
-import java.util.NoSuchElementException;
 import java.util.Properties;
 
 import org.apache.zeppelin.interpreter.Interpreter;
 import org.apache.zeppelin.interpreter.InterpreterContext;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.InterpreterResult.Code;
+import org.apache.zeppelin.interpreter.ResultMessages;
 import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
 import org.apache.zeppelin.scheduler.Scheduler;
 import org.apache.zeppelin.scheduler.SchedulerFactory;
+import org.apache.zeppelin.tabledata.TableDataUtils;
 
 /**
  * BigQuery interpreter for Zeppelin.
@@ -63,6 +62,7 @@ import org.apache.zeppelin.scheduler.SchedulerFactory;
  * <li>{@code zeppelin.bigquery.project_id} - Project ID in GCP</li>
  * <li>{@code zeppelin.bigquery.wait_time} - Query Timeout in ms</li>
  * <li>{@code zeppelin.bigquery.max_no_of_rows} - Max Result size</li>
+ * <li>{@code zeppelin.bigquery.page_size} - Rows fetched and displayed per result page</li>
  * </ul>
  * 
  * <p>
@@ -90,9 +90,17 @@ public class BigQueryInterpreter extends Interpreter {
   static final String WAIT_TIME = "zeppelin.bigquery.wait_time";
   static final String MAX_ROWS = "zeppelin.bigquery.max_no_of_rows";
   static final String SQL_DIALECT = "zeppelin.bigquery.sql_dialect";
+  static final String PAGE_SIZE = "zeppelin.bigquery.page_size";
 
-  private static String jobId = null;
-  private static String projectId = null;
+  private static final String DONE = "DONE";
+  private static final long INITIAL_POLL_INTERVAL_MS = 100;
+  private static final long MAX_POLL_INTERVAL_MS = 2000;
+
+  private volatile String jobId = null;
+  private volatile String projectId = null;
+  private volatile String location = null;
+  private volatile boolean cancelled = false;
+  private volatile int progress = 0;
 
   private static final List NO_COMPLETION = new ArrayList<>();
   private Exception exceptionOnConnect;
@@ -143,89 +151,81 @@ public class BigQueryInterpreter extends Interpreter {
         .setApplicationName("Zeppelin/1.0 (GPN:Apache Zeppelin;)").build();
   }
 
-  //Function that generates and returns the schema and the rows as string
-  public static String printRows(final GetQueryResultsResponse response) {
+  //Function that generates and returns the schema header of a result page
+  static String printHeader(final GetQueryResultsResponse response) {
+    List<String> schemNames = new ArrayList<String>();
+    for (TableFieldSchema schem: response.getSchema().getFields()) {
+      schemNames.add(TableDataUtils.normalizeColumn(schem.getName()));
+    }
+    return Joiner.on(TAB).join(schemNames) + NEWLINE;
+  }
+
+  //Function that generates and returns the rows of a result page as string
+  static String printRows(final List<TableRow> rows) {
     StringBuilder msg = new StringBuilder();
-    try {
-      List<String> schemNames = new ArrayList<String>();
-      for (TableFieldSchema schem: response.getSchema().getFields()) {
-        schemNames.add(schem.getName());
+    for (TableRow row : rows) {
+      List<String> fieldValues = new ArrayList<String>();
+      for (TableCell field : row.getF()) {
+        fieldValues.add(TableDataUtils.normalizeColumn(field.getV()));
       }
-      msg.append(Joiner.on(TAB).join(schemNames));
+      msg.append(Joiner.on(TAB).join(fieldValues));
       msg.append(NEWLINE);
-      for (TableRow row : response.getRows()) {
-        List<String> fieldValues = new ArrayList<String>();
-        for (TableCell field : row.getF()) {
-          fieldValues.add(field.getV().toString());
-        }
-        msg.append(Joiner.on(TAB).join(fieldValues));
-        msg.append(NEWLINE);
-      }
-      return msg.toString();
-    } catch (NullPointerException ex) {
-      throw new NullPointerException("SQL Execution returned an error!");
     }
+    return msg.toString();
   }
 
-  //Function to poll a job for completion. Future use
-  public static Job pollJob(final Bigquery.Jobs.Get request, final long interval) 
-      throws IOException, InterruptedException {
-    Job job = request.execute();
-    while (!job.getStatus().getState().equals("DONE")) {
-      System.out.println("Job is " 
-          + job.getStatus().getState() 
-          + " waiting " + interval + " milliseconds...");
-      Thread.sleep(interval);
-      job = request.execute();
+  //Function that computes the progress of a running job from its query plan
+  static int getJobProgress(final Job job) {
+    if (DONE.equals(job.getStatus().getState())) {
+      return 100;
     }
-    return job;
-  }
-
-  //Function to page through the results of an arbitrary bigQuery request
-  public static <T extends GenericJson> Iterator<T> getPages(
-      final BigqueryRequest<T> requestTemplate) {
-    class PageIterator implements Iterator<T> {
-      private BigqueryRequest<T> request;
-      private boolean hasNext = true;
-      PageIterator(final BigqueryRequest<T> requestTemplate) {
-        this.request = requestTemplate;
-      }
-      public boolean hasNext() {
-        return hasNext;
+    JobStatistics statistics = job.getStatistics();
+    if (statistics == null || statistics.getQuery() == null
+        || statistics.getQuery().getQueryPlan() == null) {
+      return 0;
+    }
+    long parallelInputs = 0;
+    long completedParallelInputs = 0;
+    for (ExplainQueryStage stage : statistics.getQuery().getQueryPlan()) {
+      if (stage.getParallelInputs() != null) {
+        parallelInputs += stage.getParallelInputs();
       }
-      public T next() {
-        if (!hasNext) {
-          throw new NoSuchElementException();
-        }
-        try {
-          T response = request.execute();
-          if (response.containsKey("pageToken")) {
-            request = request.set("pageToken", response.get("pageToken"));
-          } else {
-            hasNext = false;
-          }
-          return response;
-        } catch (IOException e) {
-          return null;
-        }
+      if (stage.getCompletedParallelInputs() != null) {
+        completedParallelInputs += stage.getCompletedParallelInputs();
       }
+    }
+    if (parallelInputs == 0) {
+      return 0;
+    }
+    // 100 is only reported once the job is done
+    return (int) Math.min(99, completedParallelInputs * 100 / parallelInputs);
+  }
 
-      public void remove() {
-        this.next();
+  //Function to poll a job for completion, with exponential backoff between the polls.
+  //Returns the last polled job, which is not DONE if the wait time is exceeded.
+  private Job pollJob(Job job, final long wTime) throws IOException, InterruptedException {
+    long deadline = System.currentTimeMillis() + wTime;
+    long interval = INITIAL_POLL_INTERVAL_MS;
+    while (!DONE.equals(job.getStatus().getState()) && !cancelled) {
+      long remaining = deadline - System.currentTimeMillis();
+      if (remaining <= 0) {
+        break;
       }
+      Thread.sleep(Math.min(interval, remaining));
+      interval = Math.min(interval * 2, MAX_POLL_INTERVAL_MS);
+      job = service.jobs().get(projectId, jobId).setLocation(location).execute();
+      progress = getJobProgress(job);
+      logger.debug("Job {} is {}, progress {}", jobId, job.getStatus().getState(), progress);
     }
-
-    return new PageIterator(requestTemplate);
+    return job;
   }
-  
-  //Function to call bigQuery to run SQL and return results to the Interpreter for output
-  private InterpreterResult executeSql(String sql) {
-    int counter = 0;
-    StringBuilder finalmessage = null;
-    finalmessage = new StringBuilder("%table ");
+
+  //Function to call bigQuery to run SQL and stream the results to the Interpreter output
+  private InterpreterResult executeSql(String sql, InterpreterContext context) {
     String projId = getProperty(PROJECT_ID);
     long wTime = Long.parseLong(getProperty(WAIT_TIME));
     long maxRows = Long.parseLong(getProperty(MAX_ROWS));
+    long pageSize = Long.parseLong(getProperty(PAGE_SIZE, "10000"));
     String sqlDialect = getProperty(SQL_DIALECT, "").toLowerCase();
     Boolean useLegacySql;
     switch (sqlDialect) {
@@ -239,46 +239,83 @@ public class BigQueryInterpreter extends Interpreter {
         // Enable query prefix like '#standardSQL' if specified
         useLegacySql = null;
     }
-    Iterator<GetQueryResultsResponse> pages;
+    cancelled = false;
+    progress = 0;
     try {
-      pages = run(sql, projId, wTime, maxRows, useLegacySql);
+      Job job = pollJob(submitJob(sql, projId, useLegacySql), wTime);
+      if (cancelled) {
+        return new InterpreterResult(Code.INCOMPLETE, "Query Execution cancelled");
+      }
+      if (!DONE.equals(job.getStatus().getState())) {
+        cancel(context);
+        return new InterpreterResult(Code.ERROR,
+            "Query did not complete in " + wTime + " ms, see " + WAIT_TIME);
+      }
+      if (job.getStatus().getErrorResult() != null) {
+        return new InterpreterResult(Code.ERROR, job.getStatus().getErrorResult().getMessage());
+      }
+      return writeResults(context, maxRows, pageSize);
     } catch (IOException ex) {
       logger.error(ex.getMessage());
       return new InterpreterResult(Code.ERROR, ex.getMessage());
-    }
-    try {
-      while (pages.hasNext()) {
-        finalmessage.append(printRows(pages.next()));
-      }
-      return new InterpreterResult(Code.SUCCESS, finalmessage.toString());
-    } catch (NullPointerException ex) {
-      return new InterpreterResult(Code.ERROR, ex.getMessage());
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return new InterpreterResult(Code.INCOMPLETE, "Query Execution interrupted");
+    } finally {
+      jobId = null;
     }
   }
 
-  //Function to run the SQL on bigQuery service
-  public static Iterator<GetQueryResultsResponse> run(final String queryString,
-      final String projId, final long wTime, final long maxRows, Boolean useLegacySql)
-          throws IOException {
-    try {
-      logger.info("Use legacy sql: {}", useLegacySql);
-      QueryResponse query;
-      query = service
-          .jobs()
-          .query(
-              projId,
-              new QueryRequest().setTimeoutMs(wTime)
-                  .setUseLegacySql(useLegacySql).setQuery(queryString)
-                  .setMaxResults(maxRows)).execute();
-      jobId = query.getJobReference().getJobId();
-      projectId = query.getJobReference().getProjectId();
-      GetQueryResults getRequest = service.jobs().getQueryResults(
-          projectId,
-          jobId);
-      return getPages(getRequest);
-    } catch (IOException ex) {
-      throw ex;
+  //Function to submit the SQL as an asynchronous query job on bigQuery service
+  private Job submitJob(final String queryString, final String projId, Boolean useLegacySql)
+      throws IOException {
+    logger.info("Use legacy sql: {}", useLegacySql);
+    Job job = service.jobs().insert(projId, new Job().setConfiguration(
+        new JobConfiguration().setQuery(new JobConfigurationQuery()
+            .setQuery(queryString)
+            .setUseLegacySql(useLegacySql)))).execute();
+    jobId = job.getJobReference().getJobId();
+    projectId = job.getJobReference().getProjectId();
+    location = job.getJobReference().getLocation();
+    return job;
+  }
+
+  //Function to page through the results of the finished job, every page is written
+  //to the Interpreter output as soon as it arrives
+  private InterpreterResult writeResults(InterpreterContext context, long maxRows,
+      long pageSize) throws IOException {
+    long rowCount = 0;
+    String pageToken = null;
+    do {
+      GetQueryResults request = service.jobs().getQueryResults(projectId, jobId)
+          .setLocation(location)
+          .setMaxResults(Math.min(pageSize, maxRows - rowCount));
+      if (pageToken != null) {
+        request.setPageToken(pageToken);
+      }
+      GetQueryResultsResponse response = request.execute();
+      if (response.getSchema() == null) {
+        return new InterpreterResult(Code.SUCCESS, "Query executed successfully.");
+      }
+      if (pageToken == null) {
+        context.out.write("%table " + printHeader(response));
+      }
+      if (response.getRows() != null) {
+        context.out.write(printRows(response.getRows()));
+        rowCount += response.getRows().size();
+      }
+      context.out.flush();
+      pageToken = response.getPageToken();
+    } while (pageToken != null && rowCount < maxRows && !cancelled);
+
+    if (cancelled) {
+      return new InterpreterResult(Code.INCOMPLETE, "Query Execution cancelled");
+    }
+    if (pageToken != null) {
+      context.out.write(NEWLINE + ResultMessages.getExceedsLimitRowsMessage((int) maxRows,
+          MAX_ROWS).toString());
     }
+    return new InterpreterResult(Code.SUCCESS);
   }
 
   @Override
@@ -291,7 +328,7 @@ public class BigQueryInterpreter extends Interpreter {
   @Override
   public InterpreterResult interpret(String sql, InterpreterContext contextInterpreter) {
     logger.info("Run SQL command '{}'", sql);
-    return executeSql(sql);
+    return executeSql(sql, contextInterpreter);
   }
 
   @Override
@@ -307,21 +344,23 @@ public class BigQueryInterpreter extends Interpreter {
 
   @Override
   public int getProgress(InterpreterContext context) {
-    return 0;
+    return progress;
   }
 
   @Override
   public void cancel(InterpreterContext context) {
     logger.info("Trying to Cancel current query statement.");
 
-    if (service != null && jobId != null && projectId != null) {
+    String currentJobId = jobId;
+    if (service != null && currentJobId != null && projectId != null) {
+      cancelled = true;
       try {
-        Bigquery.Jobs.Cancel request = service.jobs().cancel(projectId, jobId);
-        JobCancelResponse response = request.execute();
-        jobId = null;
+        Bigquery.Jobs.Cancel request = service.jobs().cancel(projectId, currentJobId)
+            .setLocation(location);
+        request.execute();
         logger.info("Query Execution cancelled");
       } catch (IOException ex) {
-        logger.error("Could not cancel the SQL execution");
+        logger.error("Could not cancel the SQL execution", ex);
       }
     } else {
       logger.info("Query Execution was already cancelled");
@@ -26,13 +26,16 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.Properties;
 
 import org.apache.zeppelin.interpreter.InterpreterContext;
 import org.apache.zeppelin.interpreter.InterpreterGroup;
+import org.apache.zeppelin.interpreter.InterpreterOutput;
 import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
 
 public class BigQueryInterpreterTest {
   protected static class Constants {
@@ -81,13 +84,18 @@ public class BigQueryInterpreterTest {
     bqInterpreter = new BigQueryInterpreter(p);
     bqInterpreter.setInterpreterGroup(intpGroup);
     bqInterpreter.open();
+
+    context = InterpreterContext.builder()
+        .setInterpreterOut(new InterpreterOutput(null))
+        .build();
   }
 
   @Test
-  public void sqlSuccess() {
+  public void sqlSuccess() throws IOException {
     InterpreterResult ret = bqInterpreter.interpret(constants.getOne(), context);
     assertEquals(InterpreterResult.Code.SUCCESS, ret.code());
-    assertEquals(ret.message().get(0).getType(), InterpreterResult.Type.TABLE);
+    InterpreterResultMessage output = context.out.toInterpreterResultMessage().get(0);
+    assertEquals(output.getType(), InterpreterResult.Type.TABLE);
   }
 
   @Test
@@ -104,9 +112,9 @@ public class BigQueryInterpreterTest {
   }
 
   @Test
-  public void testInterpreterOutputData() {
-    InterpreterResult ret = bqInterpreter.interpret("SELECT 1 AS col1, 2 AS col2", context);
-    String[] lines = ret.message().get(0).getData().split("\\n");
+  public void testInterpreterOutputData() throws IOException {
+    bqInterpreter.interpret("SELECT 1 AS col1, 2 AS col2", context);
+    String[] lines = context.out.toInterpreterResultMessage().get(0).getData().split("\\n");
     assertEquals(2, lines.length);
     assertEquals("col1\tcol2", lines[0]);
     assertEquals("1\t2", lines[1]);
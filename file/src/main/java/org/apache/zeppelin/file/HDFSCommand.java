@@ -18,12 +18,16 @@
 
 package org.apache.zeppelin.file;
 
+import org.apache.zeppelin.interpreter.http.HttpRequest;
+import org.apache.zeppelin.interpreter.http.HttpResponse;
+import org.apache.zeppelin.interpreter.http.PooledHttpClient;
 import org.slf4j.Logger;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
 
 import javax.ws.rs.core.UriBuilder;
 
@@ -72,17 +76,24 @@ public class HDFSCommand {
   String user = null;
   int maxLength = 0;
   Logger logger;
+  PooledHttpClient httpClient;
 
   // Define all the commands available
   public Op getFileStatus = new Op("GETFILESTATUS", HttpType.GET, 0);
   public Op listStatus = new Op("LISTSTATUS", HttpType.GET, 0);
 
   public HDFSCommand(String url, String user, Logger logger, int maxLength) {
+    this(url, user, logger, maxLength, PooledHttpClient.getShared(new Properties()));
+  }
+
+  public HDFSCommand(String url, String user, Logger logger, int maxLength,
+                     PooledHttpClient httpClient) {
     super();
     this.url = url;
     this.user = user;
     this.maxLength = maxLength;
     this.logger = logger;
+    this.httpClient = httpClient;
   }
 
   public String checkArgs(Op op, String path, Arg[] args) throws Exception {
@@ -123,23 +134,24 @@ public class HDFSCommand {
     java.net.URI uri = builder.build();
 
     // Connect and get response string
-    URL hdfsUrl = uri.toURL();
-    HttpURLConnection con = (HttpURLConnection) hdfsUrl.openConnection();
-
     if (op.cmd == HttpType.GET) {
-      con.setRequestMethod("GET");
-      int responseCode = con.getResponseCode();
-      logger.info("Sending 'GET' request to URL : " + hdfsUrl);
-      logger.info("Response Code : " + responseCode);
-      StringBuffer response = new StringBuffer();
-      try (BufferedReader in = new BufferedReader(
-              new InputStreamReader(con.getInputStream()));) {
-        String inputLine;
-        while ((inputLine = in.readLine()) != null) {
-          response.append(inputLine);
+      logger.info("Sending 'GET' request to URL : " + uri);
+      try (HttpResponse response = httpClient.execute(HttpRequest.get(uri.toString()))) {
+        logger.info("Response Code : " + response.getStatus());
+        if (!response.isSuccess()) {
+          throw new IOException("Server returned HTTP response code: " + response.getStatus()
+              + " for URL: " + uri);
+        }
+        StringBuilder content = new StringBuilder();
+        try (BufferedReader in = new BufferedReader(
+                new InputStreamReader(response.getBody(), StandardCharsets.UTF_8))) {
+          String inputLine;
+          while ((inputLine = in.readLine()) != null) {
+            content.append(inputLine);
+          }
         }
+        return content.toString();
       }
-      return response.toString();
     }
     return null;
   }
@@ -32,6 +32,7 @@ import java.util.Properties;
 import org.apache.zeppelin.completer.CompletionType;
 import org.apache.zeppelin.interpreter.InterpreterContext;
 import org.apache.zeppelin.interpreter.InterpreterException;
+import org.apache.zeppelin.interpreter.http.PooledHttpClient;
 import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
 
 /**
@@ -50,7 +51,8 @@ public class HDFSFileInterpreter extends FileInterpreter {
     String userName = getProperty(HDFS_USER);
     String hdfsUrl = getProperty(HDFS_URL);
     int i = Integer.parseInt(getProperty(HDFS_MAXLENGTH));
-    cmd = new HDFSCommand(hdfsUrl, userName, logger, i);
+    cmd = new HDFSCommand(hdfsUrl, userName, logger, i,
+        PooledHttpClient.getShared(getProperties()));
     gson = new Gson();
   }
 
@@ -14,7 +14,6 @@
  */
 package org.apache.zeppelin.geode;
 
-import org.apache.commons.lang3.StringUtils;
 import org.apache.geode.cache.client.ClientCache;
 import org.apache.geode.cache.client.ClientCacheFactory;
 import org.apache.geode.cache.query.QueryService;
@@ -28,6 +27,8 @@ import org.apache.zeppelin.interpreter.InterpreterResult.Code;
 import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
 import org.apache.zeppelin.scheduler.Scheduler;
 import org.apache.zeppelin.scheduler.SchedulerFactory;
+import org.apache.zeppelin.tabledata.ColumnDef;
+import org.apache.zeppelin.tabledata.TableWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -85,16 +86,13 @@ public class GeodeOqlInterpreter extends Interpreter {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(GeodeOqlInterpreter.class);
 
-  private static final char NEWLINE = '\n';
-  private static final char TAB = '\t';
-  private static final char WHITESPACE = ' ';
-
-  private static final String TABLE_MAGIC_TAG = "%table ";
+  private static final String MAX_RESULT_PROPERTY = "geode.max.result";
 
   private ClientCache clientCache = null;
   private QueryService queryService = null;
   private Exception exceptionOnConnect;
   private int maxResult;
+  private volatile TableWriter tableWriter;
 
   public GeodeOqlInterpreter(Properties property) {
     super(property);
@@ -119,7 +117,7 @@ public class GeodeOqlInterpreter extends Interpreter {
     close();
 
     try {
-      maxResult = Integer.valueOf(getProperty("geode.max.result"));
+      maxResult = Integer.valueOf(getProperty(MAX_RESULT_PROPERTY));
 
       clientCache = getClientCache();
       queryService = clientCache.getQueryService();
@@ -152,7 +150,7 @@ public class GeodeOqlInterpreter extends Interpreter {
     }
   }
 
-  private InterpreterResult executeOql(String oql) {
+  private InterpreterResult executeOql(String oql, InterpreterContext context) {
     try {
 
       if (getExceptionOnConnect() != null) {
@@ -163,100 +161,101 @@ public class GeodeOqlInterpreter extends Interpreter {
       SelectResults<Object> results =
           (SelectResults<Object>) getQueryService().newQuery(oql).execute();
 
-      StringBuilder msg = new StringBuilder(TABLE_MAGIC_TAG);
+      TableWriter writer = new TableWriter(context.out, getMaxResult(), MAX_RESULT_PROPERTY);
+      writer.setExpectedRows(results.size());
+      tableWriter = writer;
       boolean isTableHeaderSet = false;
 
       Iterator<Object> iterator = results.iterator();
-      int rowDisplayCount = 0;
-
-      while (iterator.hasNext() && (rowDisplayCount < getMaxResult())) {
+      while (iterator.hasNext()) {
 
         Object entry = iterator.next();
-        rowDisplayCount++;
-
+        Object[] row;
         if (entry instanceof Number) {
-          handleNumberEntry(isTableHeaderSet, entry, msg);
+          row = handleNumberEntry(isTableHeaderSet, entry, writer);
         } else if (entry instanceof Struct) {
-          handleStructEntry(isTableHeaderSet, entry, msg);
+          row = handleStructEntry(isTableHeaderSet, entry, writer);
         } else if (entry instanceof PdxInstance) {
-          handlePdxInstanceEntry(isTableHeaderSet, entry, msg);
+          row = handlePdxInstanceEntry(isTableHeaderSet, entry, writer);
         } else {
-          handleUnsupportedTypeEntry(isTableHeaderSet, entry, msg);
+          row = handleUnsupportedTypeEntry(isTableHeaderSet, entry, writer);
         }
 
         isTableHeaderSet = true;
-        msg.append(NEWLINE);
+        if (!writer.addRow(row)) {
+          break;
+        }
       }
+      writer.close();
 
-      return new InterpreterResult(Code.SUCCESS, msg.toString());
+      return new InterpreterResult(Code.SUCCESS);
 
     } catch (Exception ex) {
       LOGGER.error("Cannot run " + oql, ex);
       return new InterpreterResult(Code.ERROR, ex.getMessage());
+    } finally {
+      tableWriter = null;
     }
   }
 
-  /**
-   * Zeppelin's %TABLE convention uses tab (\t) to delimit fields and new-line (\n) to delimit rows
-   * To complain with this convention we need to replace any occurrences of tab and/or newline
-   * characters in the content.
-   */
-  private String replaceReservedChars(String str) {
-
-    if (StringUtils.isBlank(str)) {
-      return str;
-    }
-
-    return str.replace(TAB, WHITESPACE).replace(NEWLINE, WHITESPACE);
-  }
-
-  private void handleStructEntry(boolean isHeaderSet, Object entry, StringBuilder msg) {
+  private Object[] handleStructEntry(boolean isHeaderSet, Object entry, TableWriter writer) {
     Struct struct = (Struct) entry;
+    String[] fieldNames = struct.getStructType().getFieldNames();
     if (!isHeaderSet) {
-      for (String titleName : struct.getStructType().getFieldNames()) {
-        msg.append(replaceReservedChars(titleName)).append(TAB);
+      for (String titleName : fieldNames) {
+        writer.addColumn(titleName);
       }
-      msg.append(NEWLINE);
     }
 
-    for (String titleName : struct.getStructType().getFieldNames()) {
-      msg.append(replaceReservedChars("" + struct.get(titleName))).append(TAB);
+    Object[] row = new Object[fieldNames.length];
+    for (int i = 0; i < fieldNames.length; i++) {
+      row[i] = struct.get(fieldNames[i]);
     }
+    return row;
   }
 
-  private void handlePdxInstanceEntry(boolean isHeaderSet, Object entry, StringBuilder msg) {
+  private Object[] handlePdxInstanceEntry(boolean isHeaderSet, Object entry, TableWriter writer) {
     PdxInstance pdxEntry = (PdxInstance) entry;
+    List<String> fieldNames = pdxEntry.getFieldNames();
     if (!isHeaderSet) {
-      for (String titleName : pdxEntry.getFieldNames()) {
-        msg.append(replaceReservedChars(titleName)).append(TAB);
+      for (String titleName : fieldNames) {
+        writer.addColumn(titleName);
       }
-      msg.append(NEWLINE);
     }
 
-    for (String titleName : pdxEntry.getFieldNames()) {
-      msg.append(replaceReservedChars("" + pdxEntry.getField(titleName))).append(TAB);
+    Object[] row = new Object[fieldNames.size()];
+    for (int i = 0; i < row.length; i++) {
+      row[i] = pdxEntry.getField(fieldNames.get(i));
     }
+    return row;
   }
 
-  private void handleNumberEntry(boolean isHeaderSet, Object entry, StringBuilder msg) {
+  private Object[] handleNumberEntry(boolean isHeaderSet, Object entry, TableWriter writer) {
     if (!isHeaderSet) {
-      msg.append("Result").append(NEWLINE);
+      ColumnDef.TYPE type = ColumnDef.TYPE.STRING;
+      if (entry instanceof Integer || entry instanceof Short || entry instanceof Byte) {
+        type = ColumnDef.TYPE.INT;
+      } else if (entry instanceof Long) {
+        type = ColumnDef.TYPE.LONG;
+      }
+      writer.addColumn("Result", type);
     }
-    msg.append(entry);
+    return new Object[]{entry};
   }
 
-  private void handleUnsupportedTypeEntry(boolean isHeaderSet, Object entry, StringBuilder msg) {
+  private Object[] handleUnsupportedTypeEntry(boolean isHeaderSet, Object entry,
+                                              TableWriter writer) {
     if (!isHeaderSet) {
-      msg.append("Unsuppoted Type").append(NEWLINE);
+      writer.addColumn("Unsuppoted Type");
     }
-    msg.append("" + entry);
+    return new Object[]{entry};
   }
 
 
   @Override
   public InterpreterResult interpret(String cmd, InterpreterContext contextInterpreter) {
     LOGGER.info("Run OQL command '{}'", cmd);
-    return executeOql(cmd);
+    return executeOql(cmd, contextInterpreter);
   }
 
   @Override
@@ -271,7 +270,8 @@ public class GeodeOqlInterpreter extends Interpreter {
 
   @Override
   public int getProgress(InterpreterContext context) {
-    return 0;
+    TableWriter writer = tableWriter;
+    return writer == null ? 0 : writer.getProgress();
   }
 
   @Override
@@ -23,8 +23,12 @@ import org.apache.geode.pdx.PdxInstance;
 import org.apache.geode.pdx.internal.PdxInstanceImpl;
 import org.apache.geode.pdx.internal.PdxType;
 import org.apache.zeppelin.interpreter.Interpreter.FormType;
+import org.apache.zeppelin.interpreter.InterpreterContext;
+import org.apache.zeppelin.interpreter.InterpreterOutput;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.InterpreterResult.Code;
+import org.apache.zeppelin.interpreter.InterpreterResult.Type;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
@@ -32,6 +36,7 @@ import java.io.DataInputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Properties;
 
 import static org.junit.Assert.assertEquals;
@@ -82,8 +87,8 @@ public class GeodeOqlInterpreterTest {
     Struct s1 = new StructImpl(new StructTypeImpl(fields), new String[]{"val11", "val12"});
     Struct s2 = new StructImpl(new StructTypeImpl(fields), new String[]{"val21", "val22"});
 
-    testOql(asIterator(s1, s2), "field1\tfield2\t\nval11\tval12\t\nval21\tval22\t\n", 10);
-    testOql(asIterator(s1, s2), "field1\tfield2\t\nval11\tval12\t\n", 1);
+    testOql(asIterator(s1, s2), "field1\tfield2\nval11\tval12\nval21\tval22\n", 10);
+    testOql(asIterator(s1, s2), "field1\tfield2\nval11\tval12\n", 1);
   }
 
   @Test
@@ -91,7 +96,7 @@ public class GeodeOqlInterpreterTest {
     String[] fields = new String[]{"fi\teld1", "f\nield2"};
     Struct s1 = new StructImpl(new StructTypeImpl(fields), new String[]{"v\nal\t1", "val2"});
 
-    testOql(asIterator(s1), "fi eld1\tf ield2\t\nv al 1\tval2\t\n", 10);
+    testOql(asIterator(s1), "fi eld1\tf ield2\nv al 1\tval2\n", 10);
   }
 
   @Test
@@ -137,10 +142,22 @@ public class GeodeOqlInterpreterTest {
 
     when(mockResults.iterator()).thenReturn(queryResponseIterator);
 
-    InterpreterResult interpreterResult = spyGeodeOqlInterpreter.interpret(OQL_QUERY, null);
+    InterpreterContext context = InterpreterContext.builder()
+        .setInterpreterOut(new InterpreterOutput(null))
+        .build();
+    InterpreterResult interpreterResult = spyGeodeOqlInterpreter.interpret(OQL_QUERY, context);
 
     assertEquals(Code.SUCCESS, interpreterResult.code());
-    assertEquals(expectedOutput, interpreterResult.message().get(0).getData());
+    List<InterpreterResultMessage> messages = context.out.toInterpreterResultMessage();
+    assertEquals(Type.TABLE, messages.get(0).getType());
+    assertEquals(expectedOutput, messages.get(0).getData());
+    if (maxResult < 2) {
+      // the rows over the limit are reported
+      assertEquals(2, messages.size());
+      assertEquals(Type.HTML, messages.get(1).getType());
+    } else {
+      assertEquals(1, messages.size());
+    }
   }
 
   @Test
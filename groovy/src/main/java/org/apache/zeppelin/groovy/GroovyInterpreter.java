@@ -26,14 +26,13 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
-import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import groovy.lang.GroovyShell;
 import groovy.lang.Script;
@@ -43,6 +42,7 @@ import org.apache.zeppelin.interpreter.InterpreterContext;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.InterpreterResult.Code;
 import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
+import org.apache.zeppelin.interpreter.util.CompiledScriptCache;
 import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.scheduler.Scheduler;
 import org.apache.zeppelin.scheduler.SchedulerFactory;
@@ -52,12 +52,16 @@ import org.apache.zeppelin.scheduler.SchedulerFactory;
  */
 public class GroovyInterpreter extends Interpreter {
   Logger log = LoggerFactory.getLogger(GroovyInterpreter.class);
+  private static final AtomicLong SCRIPT_CACHE_NAMESPACES = new AtomicLong();
+
   GroovyShell shell = null; //new GroovyShell();
   //here we will store Interpreters shared variables. concurrent just in case.
   Map<String, Object> sharedBindings = new ConcurrentHashMap<String, Object>();
-  //cache for groovy compiled scripts
-  Map<String, Class<Script>> scriptCache = Collections
-      .synchronizedMap(new WeakHashMap<String, Class<Script>>(100));
+  //cache for groovy compiled scripts, shared by the interpreters of the process
+  CompiledScriptCache scriptCache;
+  //the classes compiled by the shell of this interpreter
+  String scriptCacheNamespace =
+      GroovyInterpreter.class.getName() + "-" + SCRIPT_CACHE_NAMESPACES.incrementAndGet();
 
   public GroovyInterpreter(Properties property) {
     super(property);
@@ -68,6 +72,7 @@ public class GroovyInterpreter extends Interpreter {
     CompilerConfiguration conf = new CompilerConfiguration();
     conf.setDebug(true);
     shell = new GroovyShell(conf);
+    scriptCache = CompiledScriptCache.getShared(getProperties());
     String classes = getProperty("GROOVY_CLASSES");
     if (classes == null || classes.length() == 0) {
       try {
@@ -92,6 +97,9 @@ public class GroovyInterpreter extends Interpreter {
   @Override
   public void close() {
     shell = null;
+    if (scriptCache != null) {
+      scriptCache.invalidate(scriptCacheNamespace);
+    }
   }
 
   @Override
@@ -126,12 +134,11 @@ public class GroovyInterpreter extends Interpreter {
       throw new RuntimeException("Groovy Shell is not initialized: null");
     }
     try {
-      Class<Script> clazz = scriptCache.get(scriptText);
-      if (clazz == null) {
-        String scriptName = id + "_" + Long.toHexString(scriptText.hashCode()) + ".groovy";
-        clazz = (Class<Script>) shell.parse(scriptText, scriptName).getClass();
-        scriptCache.put(scriptText, clazz);
-      }
+      GroovyShell groovyShell = shell;
+      Class<Script> clazz = scriptCache.get(scriptCacheNamespace, scriptText, text -> {
+        String scriptName = id + "_" + Long.toHexString(text.hashCode()) + ".groovy";
+        return (Class<Script>) groovyShell.parse(text, scriptName).getClass();
+      });
 
       Script script = (Script) clazz.newInstance();
       return script;
@@ -14,6 +14,7 @@
 
 package org.apache.zeppelin.hbase;
 
+import org.jruby.embed.EmbedEvalUnit;
 import org.jruby.embed.LocalContextScope;
 import org.jruby.embed.ScriptingContainer;
 import org.slf4j.Logger;
@@ -25,14 +26,20 @@ import java.io.IOException;
 import java.io.StringWriter;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.zeppelin.interpreter.Interpreter;
 import org.apache.zeppelin.interpreter.InterpreterContext;
 import org.apache.zeppelin.interpreter.InterpreterException;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
+import org.apache.zeppelin.interpreter.util.CompiledScriptCache;
 import org.apache.zeppelin.scheduler.Scheduler;
 import org.apache.zeppelin.scheduler.SchedulerFactory;
 
@@ -51,16 +58,49 @@ import org.apache.zeppelin.scheduler.SchedulerFactory;
  * hbase.ruby.sources: Dir where shell ruby code is installed.
  *                          Path is relative to hbase.home. Default: lib/ruby
  * zeppelin.hbase.test.mode: (Testing only) Disable checks for unit and manual tests. Default: false
+ * zeppelin.hbase.maxSessions: Max number of users running the shell at the same time. Default: 5
+ *
+ * Each user has its own shell, in its own JRuby runtime, so users don't block each other. The
+ * shells of the least recently active users are closed beyond zeppelin.hbase.maxSessions.
+ * The paragraphs of a user run one at a time in its shell, whichever thread of the scheduler
+ * they run in, so the shell keeps its SINGLETHREAD scope and its global variables.
  */
 public class HbaseInterpreter extends Interpreter {
   public static final String HBASE_HOME = "hbase.home";
   public static final String HBASE_RUBY_SRC = "hbase.ruby.sources";
   public static final String HBASE_TEST_MODE = "zeppelin.hbase.test.mode";
+  public static final String HBASE_MAX_SESSIONS = "zeppelin.hbase.maxSessions";
+  private static final String ANONYMOUS = "anonymous";
+  private static final AtomicLong SESSION_IDS = new AtomicLong();
 
   private Logger logger = LoggerFactory.getLogger(HbaseInterpreter.class);
-  private ScriptingContainer scriptingContainer;
+  // shell per user, in access order
+  private final Map<String, HbaseSession> sessions = new LinkedHashMap<>(16, 0.75f, true);
+  private int maxSessions;
+  private boolean testMode;
+  private Path absHirbPath;
+  private CompiledScriptCache scriptCache;
+
+  /**
+   * HBase shell of a user, its parsed commands are cached by {@link #scriptCache}.
+   */
+  private static class HbaseSession {
+    private final ScriptingContainer scriptingContainer;
+    private final StringWriter writer = new StringWriter();
+    private final String scriptCacheNamespace;
+    // number of paragraphs running or waiting for this session
+    private int users;
 
-  private StringWriter writer;
+    HbaseSession() {
+      // its own runtime, used by one paragraph at a time. Unlike the THREADSAFE and CONCURRENT
+      // scopes, its variables don't depend on the thread running the paragraph.
+      this.scriptingContainer = new ScriptingContainer(LocalContextScope.SINGLETHREAD);
+      this.scriptingContainer.setOutput(writer);
+      // the units parsed by another runtime can't run in this one
+      this.scriptCacheNamespace = HbaseInterpreter.class.getName() + "-"
+          + SESSION_IDS.incrementAndGet();
+    }
+  }
 
   public HbaseInterpreter(Properties property) {
     super(property);
@@ -68,11 +108,11 @@ public class HbaseInterpreter extends Interpreter {
 
   @Override
   public void open() throws InterpreterException {
-    this.scriptingContainer  = new ScriptingContainer(LocalContextScope.SINGLETON);
-    this.writer = new StringWriter();
-    scriptingContainer.setOutput(this.writer);
+    this.maxSessions = Math.max(1, Integer.parseInt(getProperty(HBASE_MAX_SESSIONS, "5")));
+    this.testMode = Boolean.parseBoolean(getProperty(HBASE_TEST_MODE));
+    this.scriptCache = CompiledScriptCache.getShared(getProperties());
 
-    if (!Boolean.parseBoolean(getProperty(HBASE_TEST_MODE))) {
+    if (!testMode) {
       String hbaseHome = getProperty(HBASE_HOME);
       String rubySrc = getProperty(HBASE_RUBY_SRC);
       Path absRubySrc = Paths.get(hbaseHome, rubySrc).toAbsolutePath();
@@ -91,36 +131,109 @@ public class HbaseInterpreter extends Interpreter {
       Properties sysProps = System.getProperties();
       sysProps.setProperty(HBASE_RUBY_SRC, absRubySrc.toString());
 
-      Path absHirbPath = Paths.get(hbaseHome, "bin/hirb.rb");
-      try {
-        FileInputStream fis = new FileInputStream(absHirbPath.toFile());
-        this.scriptingContainer.runScriptlet(fis, "hirb.rb");
-        fis.close();
-      } catch (IOException e) {
-        throw new InterpreterException(e.getCause());
+      absHirbPath = Paths.get(hbaseHome, "bin/hirb.rb");
+    }
+    // fail fast if the shell can't start
+    releaseSession(acquireSession(ANONYMOUS));
+  }
+
+  private HbaseSession createSession() throws InterpreterException {
+    HbaseSession session = new HbaseSession();
+    if (!testMode) {
+      try (FileInputStream fis = new FileInputStream(absHirbPath.toFile())) {
+        session.scriptingContainer.runScriptlet(fis, "hirb.rb");
+      } catch (IOException | RuntimeException e) {
+        closeSession(session);
+        throw new InterpreterException("Fail to load " + absHirbPath, e);
+      }
+    }
+    return session;
+  }
+
+  private HbaseSession acquireSession(String user) throws InterpreterException {
+    List<HbaseSession> evicted = new ArrayList<>();
+    HbaseSession session;
+    synchronized (sessions) {
+      session = sessions.get(user);
+      if (session == null) {
+        Iterator<HbaseSession> iterator = sessions.values().iterator();
+        while (sessions.size() >= maxSessions && iterator.hasNext()) {
+          HbaseSession idle = iterator.next();
+          if (idle.users == 0) {
+            iterator.remove();
+            evicted.add(idle);
+          }
+        }
+      } else {
+        session.users++;
+      }
+    }
+    evicted.forEach(this::closeSession);
+    if (session == null) {
+      // created out of the lock, as loading the shell takes seconds
+      session = createSession();
+      synchronized (sessions) {
+        HbaseSession current = sessions.putIfAbsent(user, session);
+        if (current != null) {
+          closeSession(session);
+          session = current;
+        }
+        session.users++;
       }
     }
+    return session;
+  }
+
+  private void releaseSession(HbaseSession session) {
+    synchronized (sessions) {
+      session.users--;
+    }
+  }
+
+  private void closeSession(HbaseSession session) {
+    session.scriptingContainer.terminate();
+    scriptCache.invalidate(session.scriptCacheNamespace);
   }
 
   @Override
   public void close() {
-    if (this.scriptingContainer != null) {
-      this.scriptingContainer.terminate();
+    List<HbaseSession> closed;
+    synchronized (sessions) {
+      closed = new ArrayList<>(sessions.values());
+      sessions.clear();
     }
+    closed.forEach(this::closeSession);
   }
 
   @Override
   public InterpreterResult interpret(String cmd, InterpreterContext interpreterContext) {
+    String user = interpreterContext == null || interpreterContext.getAuthenticationInfo() == null
+        ? ANONYMOUS : interpreterContext.getAuthenticationInfo().getUser();
+    HbaseSession session;
     try {
-      logger.info(cmd);
-      this.writer.getBuffer().setLength(0);
-      this.scriptingContainer.runScriptlet(cmd);
-      this.writer.flush();
-      logger.debug(writer.toString());
-      return new InterpreterResult(InterpreterResult.Code.SUCCESS, writer.getBuffer().toString());
-    } catch (Throwable t) {
-      logger.error("Can not run '" + cmd + "'", t);
-      return new InterpreterResult(InterpreterResult.Code.ERROR, t.getMessage());
+      session = acquireSession(user == null ? ANONYMOUS : user);
+    } catch (InterpreterException e) {
+      logger.error("Can not start the HBase shell of " + user, e);
+      return new InterpreterResult(InterpreterResult.Code.ERROR, e.getMessage());
+    }
+    // the paragraphs of a user run one at a time in its shell
+    synchronized (session) {
+      try {
+        logger.info(cmd);
+        session.writer.getBuffer().setLength(0);
+        EmbedEvalUnit unit = scriptCache.get(session.scriptCacheNamespace, cmd,
+            script -> session.scriptingContainer.parse(script));
+        unit.run();
+        session.writer.flush();
+        logger.debug(session.writer.toString());
+        return new InterpreterResult(InterpreterResult.Code.SUCCESS,
+            session.writer.getBuffer().toString());
+      } catch (Throwable t) {
+        logger.error("Can not run '" + cmd + "'", t);
+        return new InterpreterResult(InterpreterResult.Code.ERROR, t.getMessage());
+      } finally {
+        releaseSession(session);
+      }
     }
   }
 
@@ -139,8 +252,9 @@ public class HbaseInterpreter extends Interpreter {
 
   @Override
   public Scheduler getScheduler() {
-    return SchedulerFactory.singleton().createOrGetFIFOScheduler(
-        HbaseInterpreter.class.getName() + this.hashCode());
+    return SchedulerFactory.singleton().createOrGetParallelScheduler(
+        HbaseInterpreter.class.getName() + this.hashCode(),
+        Math.max(1, Integer.parseInt(getProperty(HBASE_MAX_SESSIONS, "5"))));
   }
 
   @Override
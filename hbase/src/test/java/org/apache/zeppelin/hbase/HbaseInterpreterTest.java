@@ -24,10 +24,17 @@ import org.junit.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import org.apache.zeppelin.interpreter.InterpreterContext;
 import org.apache.zeppelin.interpreter.InterpreterException;
 import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.user.AuthenticationInfo;
 
 /**
  * Tests for HBase Interpreter.
@@ -69,6 +76,72 @@ public class HbaseInterpreterTest {
     assertEquals("16\n", result.message().get(0).getData());
   }
 
+  @Test
+  public void testSessionPerUser() {
+    assertEquals("1\n", interpret("$var = 1; puts $var", "user1"));
+    assertEquals("2\n", interpret("$var = 2; puts $var", "user2"));
+    assertEquals("1\n", interpret("puts $var", "user1"));
+    assertEquals("2\n", interpret("puts $var", "user2"));
+  }
+
+  @Test
+  public void testConcurrentParagraphs() throws Exception {
+    interpret("$count = 0", "user3");
+    interpret("$count = 0", "user4");
+    // the paragraphs of a user run one at a time, in the threads of the parallel scheduler
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<String>> results = new ArrayList<>();
+      for (int i = 0; i < 20; i++) {
+        String user = i % 2 == 0 ? "user3" : "user4";
+        results.add(executor.submit(() ->
+            interpret("count = $count; sleep 0.01; $count = count + 1", user)));
+      }
+      for (Future<String> result : results) {
+        result.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals("10\n", interpret("puts $count", "user3"));
+    assertEquals("10\n", interpret("puts $count", "user4"));
+  }
+
+  @Test
+  public void testMaxSessions() throws InterpreterException {
+    Properties properties = new Properties();
+    properties.put("hbase.home", "");
+    properties.put("hbase.ruby.sources", "");
+    properties.put("zeppelin.hbase.test.mode", "true");
+    properties.put("zeppelin.hbase.maxSessions", "2");
+    HbaseInterpreter interpreter = new HbaseInterpreter(properties);
+    interpreter.open();
+    try {
+      assertEquals("1\n", interpret(interpreter, "$var = 1; puts $var", "user1"));
+      assertEquals("2\n", interpret(interpreter, "$var = 2; puts $var", "user2"));
+      assertEquals("1\n", interpret(interpreter, "puts $var", "user1"));
+      // closes the shell of user2, the least recently used
+      assertEquals("3\n", interpret(interpreter, "$var = 3; puts $var", "user3"));
+      assertEquals("1\n", interpret(interpreter, "puts $var", "user1"));
+      assertEquals("nil\n", interpret(interpreter, "puts $var.inspect", "user2"));
+    } finally {
+      interpreter.close();
+    }
+  }
+
+  private static String interpret(String cmd, String user) {
+    return interpret(hbaseInterpreter, cmd, user);
+  }
+
+  private static String interpret(HbaseInterpreter interpreter, String cmd, String user) {
+    InterpreterContext context = InterpreterContext.builder()
+        .setAuthenticationInfo(new AuthenticationInfo(user))
+        .build();
+    InterpreterResult result = interpreter.interpret(cmd, context);
+    assertEquals(result.toString(), InterpreterResult.Code.SUCCESS, result.code());
+    return result.message().isEmpty() ? "" : result.message().get(0).getData();
+  }
+
   @Test
   public void testException() {
     InterpreterResult result = hbaseInterpreter.interpret("plot practical joke", null);
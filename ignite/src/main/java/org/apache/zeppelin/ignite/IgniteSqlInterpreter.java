@@ -25,6 +25,7 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Properties;
@@ -37,6 +38,8 @@ import org.apache.zeppelin.interpreter.InterpreterResult.Code;
 import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
 import org.apache.zeppelin.scheduler.Scheduler;
 import org.apache.zeppelin.scheduler.SchedulerFactory;
+import org.apache.zeppelin.tabledata.ColumnDef;
+import org.apache.zeppelin.tabledata.TableWriter;
 
 /**
  * Apache Ignite SQL interpreter (http://ignite.apache.org/).
@@ -56,12 +59,15 @@ public class IgniteSqlInterpreter extends Interpreter {
   private static final String IGNITE_JDBC_DRIVER_NAME = "org.apache.ignite.IgniteJdbcDriver";
 
   static final String IGNITE_JDBC_URL = "ignite.jdbc.url";
+  static final String IGNITE_JDBC_MAX_RESULT = "ignite.jdbc.maxResult";
+  private static final String DEFAULT_MAX_RESULT = "1000";
 
   private Logger logger = LoggerFactory.getLogger(IgniteSqlInterpreter.class);
 
   private Connection conn;
   private Throwable connEx;
   private Statement curStmt;
+  private volatile TableWriter tableWriter;
 
   public IgniteSqlInterpreter(Properties property) {
     super(property);
@@ -108,40 +114,40 @@ public class IgniteSqlInterpreter extends Interpreter {
       return new InterpreterResult(Code.ERROR, connEx.getMessage());
     }
 
-    StringBuilder msg = new StringBuilder("%table ");
+    int maxResult = Integer.parseInt(getProperty(IGNITE_JDBC_MAX_RESULT,
+        DEFAULT_MAX_RESULT));
     try (Statement stmt = conn.createStatement()) {
       curStmt = stmt;
+      // one more row tells whether the result is truncated
+      stmt.setMaxRows(maxResult + 1);
       try (ResultSet res = stmt.executeQuery(st)) {
         ResultSetMetaData md = res.getMetaData();
-
+        TableWriter writer = new TableWriter(context.out, maxResult, IGNITE_JDBC_MAX_RESULT);
         for (int i = 1; i <= md.getColumnCount(); i++) {
-          if (i > 1) {
-            msg.append('\t');
-          }
-          msg.append(md.getColumnName(i));
+          writer.addColumn(md.getColumnName(i), getColumnType(md.getColumnType(i)));
         }
-        msg.append('\n');
+        tableWriter = writer;
 
+        Object[] row = new Object[md.getColumnCount()];
         while (res.next()) {
-          for (int i = 1; i <= md.getColumnCount(); i++) {
-            msg.append(res.getString(i));
-
-            if (i != md.getColumnCount()) {
-              msg.append('\t');
-            }
+          for (int i = 1; i <= row.length; i++) {
+            row[i - 1] = res.getString(i);
+          }
+          if (!writer.addRow(row)) {
+            break;
           }
-
-          msg.append('\n');
         }
+        writer.close();
       }
     } catch (Exception e) {
       logger.error("Exception in IgniteSqlInterpreter while InterpreterResult interpret: ", e);
       return IgniteInterpreterUtils.buildErrorResult(e);
     } finally {
       curStmt = null;
+      tableWriter = null;
     }
 
-    return new InterpreterResult(Code.SUCCESS, msg.toString());
+    return new InterpreterResult(Code.SUCCESS);
   }
 
   @Override
@@ -165,7 +171,21 @@ public class IgniteSqlInterpreter extends Interpreter {
 
   @Override
   public int getProgress(InterpreterContext context) {
-    return 0;
+    TableWriter writer = tableWriter;
+    return writer == null ? 0 : writer.getProgress();
+  }
+
+  private static ColumnDef.TYPE getColumnType(int sqlType) {
+    switch (sqlType) {
+      case Types.TINYINT:
+      case Types.SMALLINT:
+      case Types.INTEGER:
+        return ColumnDef.TYPE.INT;
+      case Types.BIGINT:
+        return ColumnDef.TYPE.LONG;
+      default:
+        return ColumnDef.TYPE.STRING;
+    }
   }
 
   @Override
@@ -25,14 +25,18 @@ import org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi;
 import org.apache.ignite.spi.discovery.tcp.ipfinder.vm.TcpDiscoveryVmIpFinder;
 import org.apache.zeppelin.interpreter.InterpreterContext;
 import org.apache.zeppelin.interpreter.InterpreterException;
+import org.apache.zeppelin.interpreter.InterpreterOutput;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.InterpreterResult.Code;
 import org.apache.zeppelin.interpreter.InterpreterResult.Type;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
 import java.util.Properties;
 
 import static org.junit.Assert.assertEquals;
@@ -43,13 +47,16 @@ import static org.junit.Assert.assertEquals;
 public class IgniteSqlInterpreterTest {
   private static final String HOST = "127.0.0.1:47500..47509";
 
-  private static final InterpreterContext INTP_CONTEXT = InterpreterContext.builder().build();
-
   private Ignite ignite;
   private IgniteSqlInterpreter intp;
+  private InterpreterContext context;
 
   @Before
   public void setUp() {
+    context = InterpreterContext.builder()
+        .setInterpreterOut(new InterpreterOutput(null))
+        .build();
+
     TcpDiscoveryVmIpFinder ipFinder = new TcpDiscoveryVmIpFinder();
     ipFinder.setAddresses(Collections.singletonList(HOST));
 
@@ -89,18 +96,33 @@ public class IgniteSqlInterpreterTest {
   }
 
   @Test
-  public void testSql() {
+  public void testSql() throws IOException {
+    InterpreterResult result = intp.interpret("select name, age from person where age > 10",
+            context);
+
+    assertEquals(Code.SUCCESS, result.code());
+    List<InterpreterResultMessage> messages = context.out.toInterpreterResultMessage();
+    assertEquals(1, messages.size());
+    assertEquals(Type.TABLE, messages.get(0).getType());
+    assertEquals("NAME\tAGE\nsun\t100\nmoon\t50\n", messages.get(0).getData());
+  }
+
+  @Test
+  public void testMaxResult() throws IOException {
+    intp.setProperty(IgniteSqlInterpreter.IGNITE_JDBC_MAX_RESULT, "1");
     InterpreterResult result = intp.interpret("select name, age from person where age > 10",
-            INTP_CONTEXT);
+            context);
 
     assertEquals(Code.SUCCESS, result.code());
-    assertEquals(Type.TABLE, result.message().get(0).getType());
-    assertEquals("NAME\tAGE\nsun\t100\nmoon\t50\n", result.message().get(0).getData());
+    List<InterpreterResultMessage> messages = context.out.toInterpreterResultMessage();
+    assertEquals(2, messages.size());
+    assertEquals("NAME\tAGE\nsun\t100\n", messages.get(0).getData());
+    assertEquals(Type.HTML, messages.get(1).getType());
   }
 
   @Test
   public void testInvalidSql() throws Exception {
-    InterpreterResult result = intp.interpret("select * hrom person", INTP_CONTEXT);
+    InterpreterResult result = intp.interpret("select * hrom person", context);
 
     assertEquals(Code.ERROR, result.code());
   }
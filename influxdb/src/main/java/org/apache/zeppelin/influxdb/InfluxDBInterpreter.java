@@ -14,8 +14,8 @@
  */
 package org.apache.zeppelin.influxdb;
 
+import java.io.IOException;
 import java.util.Properties;
-import java.util.StringJoiner;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -31,6 +31,7 @@ import org.slf4j.LoggerFactory;
 import org.apache.zeppelin.interpreter.InterpreterContext;
 import org.apache.zeppelin.interpreter.InterpreterException;
 import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.tabledata.TableWriter;
 
 /**
  * <a href="https://v2.docs.influxdata.com/v2.0/">InfluxDB 2.0</a> interpreter for Zeppelin.
@@ -58,14 +59,14 @@ public class InfluxDBInterpreter extends AbstractInterpreter {
   private static final String INFLUXDB_ORG_PROPERTY = "influxdb.org";
   private static final String INFLUXDB_LOGLEVEL_PROPERTY = "influxdb.logLevel";
 
-  private static final String TABLE_MAGIC_TAG = "%table ";
-  private static final String WHITESPACE = " ";
-  private static final String NEWLINE = "\n";
-  private static final String TAB = "\t";
+  private static final String INFLUXDB_MAX_RESULT_PROPERTY = "influxdb.maxResult";
+  private static final String DEFAULT_MAX_RESULT = "1000";
+
   private static final String EMPTY_COLUMN_VALUE = "";
 
   private volatile InfluxDBClient client;
   private volatile QueryApi queryApi;
+  private volatile TableWriter tableWriter;
 
   public InfluxDBInterpreter(Properties properties) {
     super(properties);
@@ -85,46 +86,55 @@ public class InfluxDBInterpreter extends AbstractInterpreter {
 
     QueryApi queryService = getInfluxDBClient(context);
 
+    int maxResult = Integer.parseInt(getProperty(INFLUXDB_MAX_RESULT_PROPERTY,
+        DEFAULT_MAX_RESULT));
     final int[] actualIndex = {-1};
+    // writer of the table being received, one table result per flux table
+    AtomicReference<TableWriter> writerRef = new AtomicReference<>();
 
     AtomicReference<InterpreterResult> resultRef = new AtomicReference<>();
     CountDownLatch countDownLatch = new CountDownLatch(1);
 
-    StringBuilder result = new StringBuilder();
     queryService.query(
         query,
 
         //process record
         (cancellable, fluxRecord) -> {
+          try {
+            Integer tableIndex = fluxRecord.getTable();
+            if (actualIndex[0] != tableIndex) {
+              if (writerRef.get() != null) {
+                writerRef.get().close();
+              }
+              actualIndex[0] = tableIndex;
+
+              TableWriter writer = new TableWriter(context.out, maxResult,
+                  INFLUXDB_MAX_RESULT_PROPERTY);
+              fluxRecord.getValues().keySet().forEach(writer::addColumn);
+              writerRef.set(writer);
+              tableWriter = writer;
+            }
 
-          Integer tableIndex = fluxRecord.getTable();
-          if (actualIndex[0] != tableIndex) {
-            result.append(NEWLINE);
-            result.append(TABLE_MAGIC_TAG);
-            actualIndex[0] = tableIndex;
-
-            //add column names to table header
-            StringJoiner joiner = new StringJoiner(TAB);
-            fluxRecord.getValues().keySet().forEach(c -> joiner.add(replaceReservedChars(c)));
-            result.append(joiner.toString());
-            result.append(NEWLINE);
-          }
-
-          StringJoiner rowsJoiner = new StringJoiner(TAB);
-          for (Object value : fluxRecord.getValues().values()) {
-            if (value == null) {
-              value = EMPTY_COLUMN_VALUE;
+            Object[] row = fluxRecord.getValues().values().toArray();
+            for (int i = 0; i < row.length; i++) {
+              if (row[i] == null) {
+                row[i] = EMPTY_COLUMN_VALUE;
+              }
             }
-            rowsJoiner.add(replaceReservedChars(value.toString()));
+            writerRef.get().addRow(row);
+          } catch (IOException e) {
+            LOGGER.error("Fail to write the query result", e);
+            resultRef.compareAndSet(null,
+                new InterpreterResult(InterpreterResult.Code.ERROR, e.getMessage()));
+            cancellable.cancel();
+            countDownLatch.countDown();
           }
-          result.append(rowsJoiner.toString());
-          result.append(NEWLINE);
         },
 
         throwable -> {
 
           LOGGER.error(throwable.getMessage(), throwable);
-          resultRef.set(new InterpreterResult(InterpreterResult.Code.ERROR,
+          resultRef.compareAndSet(null, new InterpreterResult(InterpreterResult.Code.ERROR,
               throwable.getMessage()));
 
           countDownLatch.countDown();
@@ -132,8 +142,15 @@ public class InfluxDBInterpreter extends AbstractInterpreter {
         }, () -> {
           //on complete
           InterpreterResult intpResult = new InterpreterResult(InterpreterResult.Code.SUCCESS);
-          intpResult.add(result.toString());
-          resultRef.set(intpResult);
+          try {
+            if (writerRef.get() != null) {
+              writerRef.get().close();
+            }
+          } catch (IOException e) {
+            LOGGER.error("Fail to write the query result", e);
+            intpResult = new InterpreterResult(InterpreterResult.Code.ERROR, e.getMessage());
+          }
+          resultRef.compareAndSet(null, intpResult);
           countDownLatch.countDown();
         }
     );
@@ -141,6 +158,8 @@ public class InfluxDBInterpreter extends AbstractInterpreter {
       countDownLatch.await();
     } catch (InterruptedException e) {
       throw new InterpreterException(e);
+    } finally {
+      tableWriter = null;
     }
 
     return resultRef.get();
@@ -191,17 +210,8 @@ public class InfluxDBInterpreter extends AbstractInterpreter {
 
   @Override
   public int getProgress(InterpreterContext context) throws InterpreterException {
-    return 0;
-  }
-
-  /**
-   * For %table response replace Tab and Newline.
-   */
-  private String replaceReservedChars(String str) {
-    if (str == null) {
-      return EMPTY_COLUMN_VALUE;
-    }
-    return str.replace(TAB, WHITESPACE).replace(NEWLINE, WHITESPACE);
+    TableWriter writer = tableWriter;
+    return writer == null ? 0 : writer.getProgress();
   }
 
 }
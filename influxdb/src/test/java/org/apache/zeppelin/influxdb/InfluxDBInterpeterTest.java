@@ -25,6 +25,7 @@ import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import org.apache.zeppelin.interpreter.InterpreterContext;
 import org.apache.zeppelin.interpreter.InterpreterException;
+import org.apache.zeppelin.interpreter.InterpreterOutput;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.InterpreterResultMessage;
 import org.apache.zeppelin.user.AuthenticationInfo;
@@ -216,7 +217,7 @@ public class InfluxDBInterpeterTest {
   }
 
   @Test
-  public void testSigleTable() throws InterpreterException {
+  public void testSigleTable() throws InterpreterException, IOException {
 
     InfluxDBInterpreter t = new InfluxDBInterpreter(properties);
     t.open();
@@ -232,6 +233,7 @@ public class InfluxDBInterpeterTest {
 
     InterpreterContext context = InterpreterContext.builder()
         .setAuthenticationInfo(new AuthenticationInfo("testUser"))
+        .setInterpreterOut(new InterpreterOutput(null))
         .build();
 
     mockServer.enqueue(createResponse(SINGLE_TABLE_RESPONSE));
@@ -241,7 +243,7 @@ public class InfluxDBInterpeterTest {
     // if prefix not found return ERROR and Prefix not found.
     assertEquals(InterpreterResult.Code.SUCCESS, interpreterResult.code());
 
-    List<InterpreterResultMessage> message = interpreterResult.message();
+    List<InterpreterResultMessage> message = context.out.toInterpreterResultMessage();
     Assert.assertEquals(1, message.size());
     Assert.assertEquals(InterpreterResult.Type.TABLE, message.get(0).getType());
     Assert.assertEquals("result\ttable\t_time\t_value\t_field\n" +
@@ -261,7 +263,7 @@ public class InfluxDBInterpeterTest {
   }
 
   @Test
-  public void testMultiTable() throws InterpreterException {
+  public void testMultiTable() throws InterpreterException, IOException {
 
     InfluxDBInterpreter t = new InfluxDBInterpreter(properties);
     t.open();
@@ -276,6 +278,7 @@ public class InfluxDBInterpeterTest {
 
     InterpreterContext context = InterpreterContext.builder()
         .setAuthenticationInfo(new AuthenticationInfo("testUser"))
+        .setInterpreterOut(new InterpreterOutput(null))
         .build();
 
     mockServer.enqueue(createResponse(MULTI_TABLE_RESPONSE));
@@ -287,7 +290,7 @@ public class InfluxDBInterpeterTest {
     }
 
     assertEquals(InterpreterResult.Code.SUCCESS, interpreterResult.code());
-    List<InterpreterResultMessage> message = interpreterResult.message();
+    List<InterpreterResultMessage> message = context.out.toInterpreterResultMessage();
 
     Assert.assertEquals(9, message.size());
 
@@ -324,4 +327,30 @@ public class InfluxDBInterpeterTest {
     t.close();
   }
 
+  @Test
+  public void testMaxResult() throws InterpreterException, IOException {
+    properties.setProperty("influxdb.maxResult", "2");
+    InfluxDBInterpreter t = new InfluxDBInterpreter(properties);
+    t.open();
+
+    InterpreterContext context = InterpreterContext.builder()
+        .setAuthenticationInfo(new AuthenticationInfo("testUser"))
+        .setInterpreterOut(new InterpreterOutput(null))
+        .build();
+
+    mockServer.enqueue(createResponse(SINGLE_TABLE_RESPONSE));
+    InterpreterResult interpreterResult = t.interpret("from(bucket: \"my-bucket\")", context);
+
+    assertEquals(InterpreterResult.Code.SUCCESS, interpreterResult.code());
+    List<InterpreterResultMessage> message = context.out.toInterpreterResultMessage();
+    Assert.assertEquals(2, message.size());
+    Assert.assertEquals("result\ttable\t_time\t_value\t_field\n" +
+            "_result\t0\t2020-01-24T10:23:56Z\t12.114014251781473\tusage_user\n" +
+            "_result\t0\t2020-01-24T10:23:57Z\t12.048493938257717\tusage_user\n",
+        message.get(0).getData());
+    Assert.assertEquals(InterpreterResult.Type.HTML, message.get(1).getType());
+
+    t.close();
+  }
+
 }
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.java;
+
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JavaFileManager keeping the compiled classes in byte arrays rather than in class files.
+ * The sources and the classpath are read through the standard file manager, which keeps its
+ * index of the classpath between compilations.
+ */
+class InMemoryJavaFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+  private final Map<String, ClassFileObject> classFiles = new HashMap<>();
+
+  InMemoryJavaFileManager(StandardJavaFileManager fileManager) {
+    super(fileManager);
+  }
+
+  @Override
+  public JavaFileObject getJavaFileForOutput(Location location,
+                                             String className,
+                                             JavaFileObject.Kind kind,
+                                             FileObject sibling) throws IOException {
+    if (kind != JavaFileObject.Kind.CLASS) {
+      return super.getJavaFileForOutput(location, className, kind, sibling);
+    }
+    ClassFileObject classFile = new ClassFileObject(className);
+    classFiles.put(className, classFile);
+    return classFile;
+  }
+
+  @Override
+  public void close() {
+    // the standard file manager is reused by the next compilations
+  }
+
+  /**
+   * @return bytecode of the compiled classes by class name
+   */
+  Map<String, byte[]> getClasses() {
+    Map<String, byte[]> classes = new HashMap<>();
+    for (Map.Entry<String, ClassFileObject> entry : classFiles.entrySet()) {
+      classes.put(entry.getKey(), entry.getValue().bytes.toByteArray());
+    }
+    return classes;
+  }
+
+  private static class ClassFileObject extends SimpleJavaFileObject {
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    ClassFileObject(String className) {
+      super(URI.create("mem:///" + className.replace('.', '/') + Kind.CLASS.extension),
+          Kind.CLASS);
+    }
+
+    @Override
+    public OutputStream openOutputStream() {
+      return bytes;
+    }
+  }
+}
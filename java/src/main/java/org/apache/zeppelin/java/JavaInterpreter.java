@@ -17,12 +17,11 @@
 
 package org.apache.zeppelin.java;
 
-import java.io.File;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
 import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
-import java.util.UUID;
-import java.util.stream.Stream;
 
 import org.apache.zeppelin.interpreter.Interpreter;
 import org.apache.zeppelin.interpreter.InterpreterContext;
@@ -42,28 +41,38 @@ public class JavaInterpreter extends Interpreter {
     super(property);
   }
 
+  private StaticRepl staticRepl;
+
   @Override
   public void open() {
-
+    staticRepl = new StaticRepl(Integer.parseInt(getProperty("zeppelin.java.classCacheSize",
+        StaticRepl.DEFAULT_CLASS_CACHE_SIZE + "")));
   }
 
   @Override
   public void close() {
-    /* Clean up .class files created during the compilation process. */
-    Stream.of(
-      new File(".").listFiles(f -> f.getAbsolutePath().endsWith(".class")))
-      .forEach(f -> f.delete());
+    if (staticRepl != null) {
+      staticRepl.close();
+      staticRepl = null;
+    }
   }
 
   @Override
   public InterpreterResult interpret(String code, InterpreterContext context) {
-
-    // choosing new name to class containing Main method
-    String generatedClassName = "C" + UUID.randomUUID().toString().replace("-", "");
+    // the output is streamed to the paragraph, or returned when there's no paragraph output
+    ByteArrayOutputStream buffer = null;
+    PrintStream out;
+    if (context.out != null) {
+      out = new PrintStream(context.out, true);
+    } else {
+      buffer = new ByteArrayOutputStream();
+      out = new PrintStream(buffer, true);
+    }
 
     try {
-      String res = StaticRepl.execute(generatedClassName, code);
-      return new InterpreterResult(InterpreterResult.Code.SUCCESS, res);
+      staticRepl.execute(code, out);
+      return buffer == null ? new InterpreterResult(InterpreterResult.Code.SUCCESS) :
+          new InterpreterResult(InterpreterResult.Code.SUCCESS, buffer.toString());
     } catch (Exception e) {
       LOGGER.error("Exception in Interpreter while interpret", e);
       return new InterpreterResult(InterpreterResult.Code.ERROR, e.getMessage());
@@ -29,28 +29,111 @@ import javax.tools.JavaCompiler;
 import javax.tools.JavaCompiler.CompilationTask;
 import javax.tools.JavaFileObject;
 import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
 import javax.tools.ToolProvider;
-import java.io.ByteArrayOutputStream;
-import java.io.File;
+import java.io.IOException;
 import java.io.PrintStream;
+import java.io.PrintWriter;
 import java.io.StringReader;
+import java.io.StringWriter;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URI;
-import java.net.URL;
-import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * StaticRepl for compling the java code in memory
+ *
+ * The compiled classes are kept in memory, in a cache keyed by the hash of the source, so that
+ * running a paragraph again doesn't compile it again. The compiler and its file manager are
+ * reused between compilations. The output of the main method is written to the stream given
+ * for the paragraph, System.out and System.err being redirected for the current thread only.
  */
 public class StaticRepl {
   static Logger logger = LoggerFactory.getLogger(StaticRepl.class);
 
-  public static String execute(String generatedClassName, String code) throws Exception {
+  public static final int DEFAULT_CLASS_CACHE_SIZE = 100;
 
-    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
-    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
+  private final JavaCompiler compiler;
+  private final StandardJavaFileManager fileManager;
+  private final Map<String, CompiledCode> classCache;
+
+  public StaticRepl() {
+    this(DEFAULT_CLASS_CACHE_SIZE);
+  }
+
+  /**
+   * @param classCacheSize number of compiled paragraphs kept in memory
+   */
+  public StaticRepl(int classCacheSize) {
+    this.compiler = ToolProvider.getSystemJavaCompiler();
+    this.fileManager = compiler == null ? null :
+        compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8);
+    this.classCache = Collections.synchronizedMap(
+        new LinkedHashMap<String, CompiledCode>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, CompiledCode> eldest) {
+            return size() > classCacheSize;
+          }
+        });
+  }
+
+  /**
+   * Compile the code if it's not cached, and run its main method.
+   *
+   * @param out stream of the output of the main method
+   */
+  public void execute(String code, PrintStream out) throws Exception {
+    String sourceHash = hash(code);
+    CompiledCode compiled = classCache.get(sourceHash);
+    if (compiled == null) {
+      compiled = compile("C" + sourceHash.substring(0, 32), code);
+      classCache.put(sourceHash, compiled);
+    } else {
+      logger.debug("Run the cached classes of {}", compiled.mainClassName);
+    }
+
+    // classes are loaded again for each run, so they start with a fresh static state
+    ClassLoader classLoader = new MemoryClassLoader(compiled.classes,
+        StaticRepl.class.getClassLoader());
+    ThreadLocalPrintStream.bind(out);
+    try {
+      // execute the Main method
+      Class.forName(compiled.mainClassName, true, classLoader)
+          .getDeclaredMethod("main", new Class[]{String[].class})
+          .invoke(null, new Object[]{null});
+    } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
+        | InvocationTargetException e) {
+      logger.error("Exception in Interpreter while execution", e);
+      StringWriter stackTrace = new StringWriter();
+      e.printStackTrace(new PrintWriter(stackTrace));
+      throw new Exception(stackTrace.toString(), e);
+    } finally {
+      out.flush();
+      ThreadLocalPrintStream.unbind();
+    }
+  }
+
+  private static String hash(String code) throws NoSuchAlgorithmException {
+    byte[] digest = MessageDigest.getInstance("SHA-256")
+        .digest(code.getBytes(StandardCharsets.UTF_8));
+    StringBuilder hex = new StringBuilder();
+    for (byte b : digest) {
+      hex.append(String.format("%02x", b));
+    }
+    return hex.toString();
+  }
+
+  private CompiledCode compile(String generatedClassName, String code) throws Exception {
+    if (compiler == null) {
+      throw new Exception("No java compiler is found, the interpreter needs to run on a JDK.");
+    }
 
     // Java parasing
     JavaProjectBuilder builder = new JavaProjectBuilder();
@@ -90,80 +173,77 @@ public class StaticRepl {
 
     JavaFileObject file = new JavaSourceFromString(generatedClassName, code.toString());
     Iterable<? extends JavaFileObject> compilationUnits = Arrays.asList(file);
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
 
-    ByteArrayOutputStream baosOut = new ByteArrayOutputStream();
-    ByteArrayOutputStream baosErr = new ByteArrayOutputStream();
-
-    // Creating new stream to get the output data
-    PrintStream newOut = new PrintStream(baosOut);
-    PrintStream newErr = new PrintStream(baosErr);
-    // Save the old System.out!
-    PrintStream oldOut = System.out;
-    PrintStream oldErr = System.err;
-    // Tell Java to use your special stream
-    System.setOut(newOut);
-    System.setErr(newErr);
-
-    CompilationTask task = compiler.getTask(null, null, diagnostics, null, null, compilationUnits);
-
-    // executing the compilation process
-    boolean success = task.call();
-
-    // if success is false will get error
-    if (!success) {
-      for (Diagnostic diagnostic : diagnostics.getDiagnostics()) {
-        if (diagnostic.getLineNumber() == -1) {
-          continue;
+    // the file manager is not thread safe
+    synchronized (fileManager) {
+      InMemoryJavaFileManager classFileManager = new InMemoryJavaFileManager(fileManager);
+      CompilationTask task = compiler.getTask(null, classFileManager, diagnostics, null, null,
+          compilationUnits);
+
+      // executing the compilation process
+      boolean success = task.call();
+
+      // if success is false will get error
+      if (!success) {
+        StringBuilder errors = new StringBuilder();
+        for (Diagnostic diagnostic : diagnostics.getDiagnostics()) {
+          if (diagnostic.getLineNumber() == -1) {
+            continue;
+          }
+          errors.append("line " + diagnostic.getLineNumber() + " : "
+              + diagnostic.getMessage(null) + "\n");
         }
-        System.err.println("line " + diagnostic.getLineNumber() + " : "
-            + diagnostic.getMessage(null));
+        logger.error("Exception in Interpreter while compilation", errors);
+        throw new Exception(errors.toString());
       }
-      System.out.flush();
-      System.err.flush();
+      String packageName = src.getPackage() == null ? null : src.getPackage().getName();
+      return new CompiledCode(packageName == null ? generatedClassName :
+          packageName + "." + generatedClassName, classFileManager.getClasses());
+    }
+  }
 
-      System.setOut(oldOut);
-      System.setErr(oldErr);
-      logger.error("Exception in Interpreter while compilation", baosErr.toString());
-      throw new Exception(baosErr.toString());
-    } else {
+  public void close() {
+    if (fileManager != null) {
       try {
+        fileManager.close();
+      } catch (IOException e) {
+        logger.warn("Fail to close the java file manager", e);
+      }
+    }
+    classCache.clear();
+  }
 
-        // creating new class loader
-        URLClassLoader classLoader = URLClassLoader.newInstance(new URL[]{new File("").toURI()
-            .toURL()});
-        // execute the Main method
-        Class.forName(generatedClassName, true, classLoader)
-            .getDeclaredMethod("main", new Class[]{String[].class})
-            .invoke(null, new Object[]{null});
-
-        System.out.flush();
-        System.err.flush();
-
-        // set the stream to old stream
-        System.setOut(oldOut);
-        System.setErr(oldErr);
-
-        return baosOut.toString();
+  private static class CompiledCode {
+    private final String mainClassName;
+    private final Map<String, byte[]> classes;
 
-      } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-          | InvocationTargetException e) {
-        logger.error("Exception in Interpreter while execution", e);
-        System.err.println(e);
-        e.printStackTrace(newErr);
-        throw new Exception(baosErr.toString(), e);
+    CompiledCode(String mainClassName, Map<String, byte[]> classes) {
+      this.mainClassName = mainClassName;
+      this.classes = classes;
+    }
+  }
 
-      } finally {
+  /**
+   * Loads the compiled classes of a paragraph from memory.
+   */
+  private static class MemoryClassLoader extends ClassLoader {
+    private final Map<String, byte[]> classes;
 
-        System.out.flush();
-        System.err.flush();
+    MemoryClassLoader(Map<String, byte[]> classes, ClassLoader parent) {
+      super(parent);
+      this.classes = classes;
+    }
 
-        System.setOut(oldOut);
-        System.setErr(oldErr);
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+      byte[] bytes = classes.get(name);
+      if (bytes == null) {
+        throw new ClassNotFoundException(name);
       }
+      return defineClass(name, bytes, 0, bytes.length);
     }
-
   }
-
 }
 
 class JavaSourceFromString extends SimpleJavaFileObject {
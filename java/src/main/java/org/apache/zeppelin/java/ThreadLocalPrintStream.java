@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.java;
+
+import java.io.PrintStream;
+
+/**
+ * PrintStream writing to the stream bound to the current thread, or to the default stream.
+ * It's set as System.out and System.err, so that each paragraph only gets its own output
+ * while the other threads of the process keep writing to the default streams. The threads
+ * started by a paragraph inherit its stream.
+ */
+class ThreadLocalPrintStream extends PrintStream {
+
+  private static ThreadLocalPrintStream out;
+  private static ThreadLocalPrintStream err;
+
+  private final PrintStream defaultStream;
+  private final InheritableThreadLocal<PrintStream> streams = new InheritableThreadLocal<>();
+
+  private ThreadLocalPrintStream(PrintStream defaultStream) {
+    super(defaultStream, true);
+    this.defaultStream = defaultStream;
+  }
+
+  /**
+   * Set System.out and System.err to thread local streams, if not done yet.
+   */
+  static synchronized void install() {
+    if (out == null) {
+      out = new ThreadLocalPrintStream(System.out);
+      err = new ThreadLocalPrintStream(System.err);
+      System.setOut(out);
+      System.setErr(err);
+    }
+  }
+
+  /**
+   * Redirect System.out and System.err of the current thread, until {@link #unbind()}.
+   */
+  static void bind(PrintStream stream) {
+    install();
+    out.streams.set(stream);
+    err.streams.set(stream);
+  }
+
+  static void unbind() {
+    out.streams.remove();
+    err.streams.remove();
+  }
+
+  private PrintStream target() {
+    PrintStream stream = streams.get();
+    return stream != null ? stream : defaultStream;
+  }
+
+  @Override
+  public void write(int b) {
+    target().write(b);
+  }
+
+  @Override
+  public void write(byte[] buf, int off, int len) {
+    target().write(buf, off, len);
+  }
+
+  @Override
+  public void flush() {
+    target().flush();
+  }
+
+  @Override
+  public boolean checkError() {
+    return target().checkError();
+  }
+}
@@ -18,11 +18,13 @@
 package org.apache.zeppelin.java;
 
 import org.apache.zeppelin.interpreter.InterpreterContext;
+import org.apache.zeppelin.interpreter.InterpreterOutput;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Properties;
@@ -68,6 +70,34 @@ public class JavaInterpreterTest {
     assertEquals(InterpreterResult.Type.TEXT, res.message().get(0).getType());
   }
 
+  @Test
+  public void testStaticReplOutputAndClassCache() throws IOException {
+    StringWriter writer = new StringWriter();
+    PrintWriter out = new PrintWriter(writer);
+    out.println("public class Counter {");
+    out.println("  static int count = 0;");
+    out.println("  public static void main(String args[]) {");
+    out.println("    count++;");
+    out.println("    System.out.println(\"count: \" + count);");
+    out.println("  }");
+    out.println("}");
+    out.close();
+
+    // the second run uses the cached classes, loaded again
+    for (int i = 0; i < 2; i++) {
+      InterpreterContext paragraphContext = InterpreterContext.builder()
+          .setInterpreterOut(new InterpreterOutput(null))
+          .build();
+      InterpreterResult res = java.interpret(writer.toString(), paragraphContext);
+      // the output of the other threads is not in the paragraph output
+      System.out.println("not in the paragraph output");
+
+      assertEquals(InterpreterResult.Code.SUCCESS, res.code());
+      assertEquals("count: 1\n",
+          paragraphContext.out.toInterpreterResultMessage().get(0).getData());
+    }
+  }
+
   @Test
   public void testStaticReplWithoutMain() {
 
@@ -266,7 +266,8 @@ public class JDBCInterpreter extends KerberosInterpreter {
   }
 
   private SqlCompleter createOrUpdateSqlCompleter(SqlCompleter sqlCompleter,
-      final Connection connection, String propertyKey, final String buf, final int cursor) {
+      final Connection connection, String propertyKey, final String buf, final int cursor,
+      final JDBCMetadataCatalog.ConnectionProvider connectionProvider) {
     String schemaFiltersKey = String.format("%s.%s", propertyKey, COMPLETER_SCHEMA_FILTERS_KEY);
     String sqlCompleterTtlKey = String.format("%s.%s", propertyKey, COMPLETER_TTL_KEY);
     final String schemaFiltersString = getProperty(schemaFiltersKey);
@@ -275,7 +276,11 @@ public class JDBCInterpreter extends KerberosInterpreter {
     );
     final SqlCompleter completer;
     if (sqlCompleter == null) {
-      completer = new SqlCompleter(ttlInSeconds);
+      String url = basePropertiesMap.containsKey(propertyKey) ?
+          basePropertiesMap.get(propertyKey).getProperty(URL_KEY) : null;
+      // metadata is shared by all the users of the same database
+      completer = url == null ? new SqlCompleter(ttlInSeconds) : new SqlCompleter(
+          JDBCMetadataCatalog.getOrCreate(url, schemaFiltersString, ttlInSeconds));
     } else {
       completer = sqlCompleter;
     }
@@ -283,7 +288,8 @@ public class JDBCInterpreter extends KerberosInterpreter {
     executorService.execute(new Runnable() {
       @Override
       public void run() {
-        completer.createOrUpdateFromConnection(connection, schemaFiltersString, buf, cursor);
+        completer.createOrUpdateFromConnection(connection, connectionProvider,
+            schemaFiltersString, buf, cursor);
       }
     });
 
@@ -1009,7 +1015,15 @@ public class JDBCInterpreter extends KerberosInterpreter {
       LOGGER.warn("SQLCompleter will created without use connection");
     }
 
-    sqlCompleter = createOrUpdateSqlCompleter(sqlCompleter, connection, propertyKey, buf, cursor);
+    JDBCMetadataCatalog.ConnectionProvider connectionProvider = () -> {
+      try {
+        return getConnection(propertyKey, interpreterContext);
+      } catch (ClassNotFoundException | InterpreterException | IOException e) {
+        throw new SQLException(e);
+      }
+    };
+    sqlCompleter = createOrUpdateSqlCompleter(sqlCompleter, connection, propertyKey, buf, cursor,
+        connectionProvider);
     sqlCompletersMap.put(sqlCompleterKey, sqlCompleter);
     sqlCompleter.complete(buf, cursor, candidates);
 
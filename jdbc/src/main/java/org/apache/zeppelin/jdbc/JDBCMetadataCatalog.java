@@ -0,0 +1,284 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.jdbc;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.zeppelin.completer.CachedCompleter;
+
+/**
+ * Cache of the schema, table and column names of a database used for sql completion.
+ *
+ * Catalogs created by {@link #getOrCreate(String, String, int)} are shared by all the users
+ * and sessions of the interpreter process which use the same jdbc url. Names are loaded
+ * synchronously the first time they are needed; once expired, the stale names keep being
+ * served while they are reloaded in the background.
+ */
+public class JDBCMetadataCatalog {
+  private static final Logger LOGGER = LoggerFactory.getLogger(JDBCMetadataCatalog.class);
+
+  private static final String SCHEMAS_KEY = "schemas";
+
+  private static final Map<String, JDBCMetadataCatalog> CATALOGS = new ConcurrentHashMap<>();
+
+  private static final ExecutorService REFRESH_EXECUTOR = createRefreshExecutor();
+
+  /**
+   * Provides a connection to reload the metadata in the background, it is closed after use.
+   */
+  public interface ConnectionProvider {
+    Connection getConnection() throws SQLException;
+  }
+
+  private interface MetadataLoader {
+    void load(DatabaseMetaData meta) throws SQLException;
+  }
+
+  private final int ttlInSeconds;
+
+  private volatile CachedCompleter schemasCompleter;
+
+  /**
+   * Table completer for every schema name.
+   */
+  private final Map<String, CachedCompleter> tablesCompleters = new ConcurrentHashMap<>();
+
+  /**
+   * Column completer for every table, table names are stored as schema_name.table_name.
+   */
+  private final Map<String, CachedCompleter> columnsCompleters = new ConcurrentHashMap<>();
+
+  private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+  public JDBCMetadataCatalog(int ttlInSeconds) {
+    this.ttlInSeconds = ttlInSeconds;
+  }
+
+  /**
+   * Get the catalog shared by everyone using this url and these schema filters.
+   */
+  public static JDBCMetadataCatalog getOrCreate(String url, String schemaFilters,
+                                                int ttlInSeconds) {
+    String key = url + "|" + StringUtils.defaultString(schemaFilters);
+    return CATALOGS.computeIfAbsent(key, k -> new JDBCMetadataCatalog(ttlInSeconds));
+  }
+
+  private static ExecutorService createRefreshExecutor() {
+    AtomicInteger threadCount = new AtomicInteger();
+    ThreadFactory threadFactory = runnable -> {
+      Thread thread = new Thread(runnable,
+          "JDBCMetadataCatalog-refresh-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 60, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(), threadFactory);
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  public CachedCompleter getSchemas() {
+    return schemasCompleter;
+  }
+
+  public CachedCompleter getTables(String schema) {
+    return schema == null ? null : tablesCompleters.get(schema);
+  }
+
+  public CachedCompleter getColumns(String schemaTable) {
+    return columnsCompleters.get(schemaTable);
+  }
+
+  /**
+   * @return the tables whose columns are cached, in format schema_name.table_name
+   */
+  public Set<String> getTablesWithColumns() {
+    return columnsCompleters.keySet();
+  }
+
+  public void putSchemas(Set<String> schemas) {
+    if (schemas != null && !schemas.isEmpty()) {
+      schemasCompleter = new CachedCompleter(new TrieCompleter(schemas), ttlInSeconds);
+    }
+  }
+
+  public void putTables(String schema, Set<String> tables) {
+    if (tables != null && !tables.isEmpty()) {
+      tablesCompleters.put(schema, new CachedCompleter(new TrieCompleter(tables), ttlInSeconds));
+    }
+  }
+
+  public void putColumns(String schemaTable, Set<String> columns) {
+    if (columns != null && !columns.isEmpty()) {
+      columnsCompleters.put(schemaTable,
+          new CachedCompleter(new TrieCompleter(columns), ttlInSeconds));
+    }
+  }
+
+  /**
+   * Make sure the schema names are loaded. Missing names are loaded with meta, expired
+   * names are reloaded in the background through the provider, or with meta if there is
+   * no provider.
+   */
+  public void loadSchemas(DatabaseMetaData meta, ConnectionProvider provider,
+                          List<String> schemaFilters) {
+    load(SCHEMAS_KEY, schemasCompleter, meta, provider,
+        m -> putSchemas(readSchemaNames(m, schemaFilters)));
+  }
+
+  public void loadTables(DatabaseMetaData meta, ConnectionProvider provider, String schema) {
+    load("tables:" + schema, tablesCompleters.get(schema), meta, provider,
+        m -> putTables(schema, readTableNames(m, schema)));
+  }
+
+  public void loadColumns(DatabaseMetaData meta, ConnectionProvider provider, String schema,
+                          String table) {
+    String schemaTable = String.format("%s.%s", schema, table);
+    load("columns:" + schemaTable, columnsCompleters.get(schemaTable), meta, provider,
+        m -> putColumns(schemaTable, readColumnNames(m, schema, table)));
+  }
+
+  private void load(String key, CachedCompleter current, DatabaseMetaData meta,
+                    ConnectionProvider provider, MetadataLoader loader) {
+    if (current != null && current.getCompleter() != null && !current.isExpired()) {
+      return;
+    }
+    if (current == null || current.getCompleter() == null || provider == null) {
+      try {
+        loader.load(meta);
+      } catch (SQLException e) {
+        LOGGER.error("Failed to load the metadata {}", key, e);
+      }
+      return;
+    }
+    refreshAsync(key, provider, loader);
+  }
+
+  private void refreshAsync(String key, ConnectionProvider provider, MetadataLoader loader) {
+    if (!refreshing.add(key)) {
+      // already being refreshed
+      return;
+    }
+    try {
+      REFRESH_EXECUTOR.execute(() -> {
+        try (Connection connection = provider.getConnection()) {
+          if (connection != null) {
+            loader.load(connection.getMetaData());
+            LOGGER.debug("Refreshed the metadata {}", key);
+          }
+        } catch (SQLException e) {
+          LOGGER.warn("Failed to refresh the metadata {}", key, e);
+        } finally {
+          refreshing.remove(key);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      refreshing.remove(key);
+      LOGGER.warn("Failed to schedule the refresh of the metadata {}", key, e);
+    }
+  }
+
+  /**
+   * Return list of schema names within the database, or the catalog names if the database
+   * has no schema.
+   *
+   * @param meta metadata from connection to database
+   * @param schemaFilters a schema name patterns; must match the schema name
+   *        as it is stored in the database; "" retrieves those without a schema;
+   *        <code>null</code> means that the schema name should not be used to narrow
+   *        the search; supports '%'; for example "prod_v_%"
+   * @return set of all schema names in the database
+   */
+  static Set<String> readSchemaNames(DatabaseMetaData meta, List<String> schemaFilters) {
+    Set<String> res = new HashSet<>();
+    try (ResultSet schemas = meta.getSchemas()) {
+      while (schemas.next()) {
+        String schemaName = schemas.getString("TABLE_SCHEM");
+        if (schemaName == null) {
+          schemaName = "";
+        }
+        addIfMatches(schemaName, schemaFilters, res);
+      }
+    } catch (SQLException t) {
+      LOGGER.error("Failed to retrieve the schema names", t);
+    }
+    if (res.isEmpty()) {
+      try (ResultSet catalogs = meta.getCatalogs()) {
+        while (catalogs.next()) {
+          addIfMatches(catalogs.getString("TABLE_CAT"), schemaFilters, res);
+        }
+      } catch (SQLException t) {
+        LOGGER.error("Failed to retrieve the catalog names", t);
+      }
+    }
+    return res;
+  }
+
+  private static void addIfMatches(String name, List<String> filters, Set<String> names) {
+    for (String filter : filters) {
+      if (filter.equals("") || name.matches(filter.replace("%", ".*?"))) {
+        names.add(name);
+        return;
+      }
+    }
+  }
+
+  static Set<String> readTableNames(DatabaseMetaData meta, String schema) {
+    Set<String> tables = new HashSet<>();
+    try (ResultSet tbls = meta.getTables(schema, schema, "%",
+        new String[]{"TABLE", "VIEW", "ALIAS", "SYNONYM", "GLOBAL TEMPORARY", "LOCAL TEMPORARY"})) {
+      while (tbls.next()) {
+        tables.add(tbls.getString("TABLE_NAME"));
+      }
+    } catch (Throwable t) {
+      LOGGER.error("Failed to retrieve the table name", t);
+    }
+    return tables;
+  }
+
+  static Set<String> readColumnNames(DatabaseMetaData meta, String schema, String table) {
+    Set<String> columns = new HashSet<>();
+    try (ResultSet cols = meta.getColumns(schema, schema, table, "%")) {
+      while (cols.next()) {
+        columns.add(cols.getString("COLUMN_NAME"));
+      }
+    } catch (Throwable t) {
+      LOGGER.error("Failed to retrieve the column name", t);
+    }
+    return columns;
+  }
+}
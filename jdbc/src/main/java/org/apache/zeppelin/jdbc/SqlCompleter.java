@@ -14,7 +14,6 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -56,30 +55,21 @@ public class SqlCompleter {
   };
 
   /**
-   * Schema completer.
+   * Schema, table and column names, possibly shared with other completers.
    */
-  private CachedCompleter schemasCompleter;
-
-  /**
-   * Contain different completer with table list for every schema name.
-   */
-  private Map<String, CachedCompleter> tablesCompleters = new HashMap<>();
-
-  /**
-   * Contains different completer with column list for every table name
-   * Table names store as schema_name.table_name.
-   */
-  private Map<String, CachedCompleter> columnsCompleters = new HashMap<>();
+  private final JDBCMetadataCatalog catalog;
 
   /**
    * Completer for sql keywords.
    */
   private CachedCompleter keywordCompleter;
 
-  private int ttlInSeconds;
-
   public SqlCompleter(int ttlInSeconds) {
-    this.ttlInSeconds = ttlInSeconds;
+    this(new JDBCMetadataCatalog(ttlInSeconds));
+  }
+
+  public SqlCompleter(JDBCMetadataCatalog catalog) {
+    this.catalog = catalog;
   }
 
   public int complete(String buffer, int cursor, List<InterpreterCompletion> candidates) {
@@ -106,107 +96,6 @@ public class SqlCompleter {
     return complete;
   }
 
-  /**
-   * Return list of schema names within the database.
-   *
-   * @param meta metadata from connection to database
-   * @param schemaFilters a schema name patterns; must match the schema name
-   *        as it is stored in the database; "" retrieves those without a schema;
-   *        <code>null</code> means that the schema name should not be used to narrow
-   *        the search; supports '%'; for example "prod_v_%"
-   * @return set of all schema names in the database
-   */
-  private static Set<String> getSchemaNames(DatabaseMetaData meta, List<String> schemaFilters) {
-    Set<String> res = new HashSet<>();
-    try {
-      ResultSet schemas = meta.getSchemas();
-
-      try {
-        while (schemas.next()) {
-          String schemaName = schemas.getString("TABLE_SCHEM");
-          if (schemaName == null) {
-            schemaName = "";
-          }
-          for (String schemaFilter : schemaFilters) {
-            if (schemaFilter.equals("") || schemaName.matches(schemaFilter.replace("%", ".*?"))) {
-              res.add(schemaName);
-            }
-          }
-        }
-      } finally {
-        schemas.close();
-      }
-    } catch (SQLException t) {
-      logger.error("Failed to retrieve the schema names", t);
-    }
-    return res;
-  }
-
-  /**
-   * Return list of catalog names within the database.
-   *
-   * @param meta metadata from connection to database
-   * @param schemaFilters a catalog name patterns; must match the catalog name
-   *        as it is stored in the database; "" retrieves those without a catalog;
-   *        <code>null</code> means that the schema name should not be used to narrow
-   *        the search; supports '%'; for example "prod_v_%"
-   * @return set of all catalog names in the database
-   */
-  private static Set<String> getCatalogNames(DatabaseMetaData meta, List<String> schemaFilters) {
-    Set<String> res = new HashSet<>();
-    try {
-      ResultSet schemas = meta.getCatalogs();
-      try {
-        while (schemas.next()) {
-          String schemaName = schemas.getString("TABLE_CAT");
-          for (String schemaFilter : schemaFilters) {
-            if (schemaFilter.equals("") || schemaName.matches(schemaFilter.replace("%", ".*?"))) {
-              res.add(schemaName);
-            }
-          }
-        }
-      } finally {
-        schemas.close();
-      }
-    } catch (SQLException t) {
-      logger.error("Failed to retrieve the schema names", t);
-    }
-    return res;
-  }
-
-  private static void fillTableNames(String schema, DatabaseMetaData meta, Set<String> tables) {
-    try (ResultSet tbls = meta.getTables(schema, schema, "%",
-        new String[]{"TABLE", "VIEW", "ALIAS", "SYNONYM", "GLOBAL TEMPORARY", "LOCAL TEMPORARY"})) {
-      while (tbls.next()) {
-        String table = tbls.getString("TABLE_NAME");
-        tables.add(table);
-      }
-    } catch (Throwable t) {
-      logger.error("Failed to retrieve the table name", t);
-    }
-  }
-
-  /**
-   * Fill two map with list of tables and list of columns.
-   *
-   * @param schema name of a scheme
-   * @param table name of a table
-   * @param meta meta metadata from connection to database
-   * @param columns function fills this set, for every table name adds set
-   *        of columns within the table; table name is in format schema_name.table_name
-   */
-  private static void fillColumnNames(String schema, String table, DatabaseMetaData meta,
-      Set<String> columns) {
-    try (ResultSet cols = meta.getColumns(schema, schema, table, "%")) {
-      while (cols.next()) {
-        String column = cols.getString("COLUMN_NAME");
-        columns.add(column);
-      }
-    } catch (Throwable t) {
-      logger.error("Failed to retrieve the column name", t);
-    }
-  }
-
   public static Set<String> getSqlKeywordsCompletions(DatabaseMetaData meta) throws IOException,
           SQLException {
     // Add the default SQL completions
@@ -282,6 +171,22 @@ public class SqlCompleter {
    */
   public void createOrUpdateFromConnection(Connection connection, String schemaFiltersString,
       String buffer, int cursor) {
+    createOrUpdateFromConnection(connection, null, schemaFiltersString, buffer, cursor);
+  }
+
+  /**
+   * Initializes all local completers from database connection, expired names are reloaded
+   * in the background with connections of the provider.
+   *
+   * @param connection database connection used to load missing names
+   * @param provider provides connections for background reloads; <code>null</code> to reload
+   *        expired names with the given connection
+   * @param schemaFiltersString a comma separated schema name patterns, supports '%'  symbol;
+   *        for example "prod_v_%,prod_t_%"
+   */
+  public void createOrUpdateFromConnection(Connection connection,
+      JDBCMetadataCatalog.ConnectionProvider provider, String schemaFiltersString,
+      String buffer, int cursor) {
     try (Connection c = connection) {
       if (schemaFiltersString == null) {
         schemaFiltersString = StringUtils.EMPTY;
@@ -289,10 +194,6 @@ public class SqlCompleter {
       List<String> schemaFilters = Arrays.asList(schemaFiltersString.split(","));
       CursorArgument cursorArgument = parseCursorArgument(buffer, cursor);
 
-      Set<String> tables = new HashSet<>();
-      Set<String> columns = new HashSet<>();
-      Set<String> schemas = new HashSet<>();
-      Set<String> catalogs = new HashSet<>();
       Set<String> keywords = new HashSet<>();
 
       if (c != null) {
@@ -302,39 +203,18 @@ public class SqlCompleter {
           keywords = getSqlKeywordsCompletions(databaseMetaData);
           initKeywords(keywords);
         }
-        if (cursorArgument.needLoadSchemas() &&
-            (schemasCompleter == null || schemasCompleter.getCompleter() == null
-            || schemasCompleter.isExpired())) {
-          schemas = getSchemaNames(databaseMetaData, schemaFilters);
-          catalogs = getCatalogNames(databaseMetaData, schemaFilters);
-
-          if (schemas.size() == 0) {
-            schemas.addAll(catalogs);
-          }
-
-          initSchemas(schemas);
+        if (cursorArgument.needLoadSchemas()) {
+          catalog.loadSchemas(databaseMetaData, provider, schemaFilters);
         }
-
-        CachedCompleter tablesCompleter = tablesCompleters.get(cursorArgument.getSchema());
-        if (cursorArgument.needLoadTables() &&
-            (tablesCompleter == null || tablesCompleter.isExpired())) {
-          fillTableNames(cursorArgument.getSchema(), databaseMetaData, tables);
-          initTables(cursorArgument.getSchema(), tables);
+        if (cursorArgument.needLoadTables()) {
+          catalog.loadTables(databaseMetaData, provider, cursorArgument.getSchema());
         }
-
-        String schemaTable =
-            String.format("%s.%s", cursorArgument.getSchema(), cursorArgument.getTable());
-        CachedCompleter columnsCompleter = columnsCompleters.get(schemaTable);
-
-        if (cursorArgument.needLoadColumns() &&
-            (columnsCompleter == null || columnsCompleter.isExpired())) {
-          fillColumnNames(cursorArgument.getSchema(), cursorArgument.getTable(), databaseMetaData,
-              columns);
-          initColumns(schemaTable, columns);
+        if (cursorArgument.needLoadColumns()) {
+          catalog.loadColumns(databaseMetaData, provider, cursorArgument.getSchema(),
+              cursorArgument.getTable());
         }
 
-        logger.info("Completer initialized with " + schemas.size() + " schemas, " +
-            columns.size() + " tables and " + keywords.size() + " keywords");
+        logger.info("Completer initialized with " + keywords.size() + " keywords");
       }
 
     } catch (SQLException | IOException e) {
@@ -349,24 +229,15 @@ public class SqlCompleter {
   }
 
   public void initSchemas(Set<String> schemas) {
-    if (schemas != null && !schemas.isEmpty()) {
-      schemasCompleter = new CachedCompleter(
-          new StringsCompleter(new TreeSet<>(schemas)), ttlInSeconds);
-    }
+    catalog.putSchemas(schemas);
   }
 
   public void initTables(String schema, Set<String> tables) {
-    if (tables != null && !tables.isEmpty()) {
-      tablesCompleters.put(schema, new CachedCompleter(
-          new StringsCompleter(new TreeSet<>(tables)), ttlInSeconds));
-    }
+    catalog.putTables(schema, tables);
   }
 
   public void initColumns(String schemaTable, Set<String> columns) {
-    if (columns != null && !columns.isEmpty()) {
-      columnsCompleters.put(schemaTable,
-          new CachedCompleter(new StringsCompleter(columns), ttlInSeconds));
-    }
+    catalog.putColumns(schemaTable, columns);
   }
 
   /**
@@ -378,7 +249,7 @@ public class SqlCompleter {
   public Map<String, String> findAliasesInSQL(String[] sqlArguments) {
     Map<String, String> res = new HashMap<>();
     for (int i = 0; i < sqlArguments.length - 1; i++) {
-      if (columnsCompleters.keySet().contains(sqlArguments[i]) &&
+      if (catalog.getTablesWithColumns().contains(sqlArguments[i]) &&
               sqlArguments[i + 1].matches("[a-zA-Z]+")) {
         res.put(sqlArguments[i + 1], sqlArguments[i]);
       }
@@ -401,6 +272,10 @@ public class SqlCompleter {
    * @return -1 in case of no candidates found, 0 otherwise
    */
   private int completeSchema(String buffer, int cursor, List<CharSequence> candidates) {
+    CachedCompleter schemasCompleter = catalog.getSchemas();
+    if (schemasCompleter == null) {
+      return -1;
+    }
     return schemasCompleter.getCompleter().complete(buffer, cursor, candidates);
   }
 
@@ -411,11 +286,12 @@ public class SqlCompleter {
    */
   private int completeTable(String schema, String buffer, int cursor,
                             List<CharSequence> candidates) {
+    CachedCompleter tablesCompleter = catalog.getTables(schema);
     // Wrong schema
-    if (schema == null || !tablesCompleters.containsKey(schema)) {
+    if (tablesCompleter == null) {
       return -1;
     } else {
-      return tablesCompleters.get(schema).getCompleter().complete(buffer, cursor, candidates);
+      return tablesCompleter.getCompleter().complete(buffer, cursor, candidates);
     }
   }
 
@@ -427,11 +303,12 @@ public class SqlCompleter {
   private int completeColumn(String schema, String table, String buffer, int cursor,
                              List<CharSequence> candidates) {
     // Wrong schema or wrong table
-    if (schema == null || table == null || !columnsCompleters.containsKey(schema + "." + table)) {
+    CachedCompleter columnsCompleter = schema == null || table == null ? null :
+        catalog.getColumns(schema + "." + table);
+    if (columnsCompleter == null) {
       return -1;
     } else {
-      return columnsCompleters.get(schema + "." + table).getCompleter()
-          .complete(buffer, cursor, candidates);
+      return columnsCompleter.getCompleter().complete(buffer, cursor, candidates);
     }
   }
 
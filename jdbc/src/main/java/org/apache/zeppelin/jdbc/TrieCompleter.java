@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.jdbc;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import jline.console.completer.Completer;
+import jline.internal.Preconditions;
+
+/**
+ * Case-insensitive completer backed by a sorted trie, a prefix lookup only walks the prefix
+ * and the names below it. Candidates are returned in case-insensitive order.
+ */
+public class TrieCompleter implements Completer {
+
+  private final TrieNode root = new TrieNode();
+  private int size;
+
+  public TrieCompleter(final Collection<String> names) {
+    Preconditions.checkNotNull(names);
+    for (String name : names) {
+      add(name);
+    }
+  }
+
+  private void add(String name) {
+    TrieNode node = root;
+    for (int i = 0; i < name.length(); i++) {
+      node = node.children.computeIfAbsent(Character.toLowerCase(name.charAt(i)),
+          c -> new TrieNode());
+    }
+    if (node.names == null) {
+      node.names = new TreeSet<>();
+    }
+    if (node.names.add(name)) {
+      size++;
+    }
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return all the names starting with the prefix, ignoring case
+   */
+  public List<String> find(String prefix) {
+    List<String> result = new ArrayList<>();
+    TrieNode node = root;
+    for (int i = 0; i < prefix.length() && node != null; i++) {
+      node = node.children.get(Character.toLowerCase(prefix.charAt(i)));
+    }
+    if (node != null) {
+      collect(node, result);
+    }
+    return result;
+  }
+
+  private void collect(TrieNode node, List<String> result) {
+    if (node.names != null) {
+      result.addAll(node.names);
+    }
+    for (TrieNode child : node.children.values()) {
+      collect(child, result);
+    }
+  }
+
+  @Override
+  public int complete(final String buffer, final int cursor, final List<CharSequence> candidates) {
+    Preconditions.checkNotNull(candidates);
+    candidates.addAll(find(buffer == null ? "" : buffer.substring(0, cursor)));
+    return candidates.isEmpty() ? -1 : 0;
+  }
+
+  private static class TrieNode {
+    private final Map<Character, TrieNode> children = new TreeMap<>();
+    private TreeSet<String> names;
+  }
+}
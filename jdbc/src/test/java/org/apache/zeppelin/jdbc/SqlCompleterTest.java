@@ -31,6 +31,8 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -383,6 +385,39 @@ public class SqlCompleterTest {
     ).test();
   }
 
+  @Test
+  public void testSharedCatalog() {
+    JDBCMetadataCatalog catalog =
+        JDBCMetadataCatalog.getOrCreate("jdbc:h2:mem:shared_catalog_test", "", 0);
+    assertTrue(catalog ==
+        JDBCMetadataCatalog.getOrCreate("jdbc:h2:mem:shared_catalog_test", "", 0));
+    SqlCompleter firstCompleter = new SqlCompleter(catalog);
+    SqlCompleter secondCompleter = new SqlCompleter(catalog);
+
+    firstCompleter.initSchemas(newHashSet("prod_dds"));
+    firstCompleter.initTables("prod_dds", newHashSet("financial_account", "customer"));
+
+    List<InterpreterCompletion> candidates = new ArrayList<>();
+    secondCompleter.completeName("prod_dds.cu", 11, candidates, new HashMap<>());
+    assertEquals(1, candidates.size());
+    assertTrue(candidates.contains(
+        new InterpreterCompletion("customer", "customer", CompletionType.table.name())));
+  }
+
+  @Test
+  public void testTrieCompleter() {
+    TrieCompleter completer = new TrieCompleter(
+        Arrays.asList("account_id", "Account_rk", "balance_amt", "account_id"));
+    assertEquals(3, completer.size());
+    assertEquals(Arrays.asList("account_id", "Account_rk"), completer.find("ACC"));
+    assertEquals(Collections.emptyList(), completer.find("x"));
+
+    List<CharSequence> candidates = new ArrayList<>();
+    assertEquals(0, completer.complete("bal", 2, candidates));
+    assertEquals(Arrays.asList("balance_amt"), candidates);
+    assertEquals(-1, completer.complete("xyz", 3, new ArrayList<>()));
+  }
+
   @Test
   public void testSqlDelimiterCharacters() {
     assertTrue(sqlCompleter.getSqlDelimiter().isDelimiterChar("r,", 1));
@@ -17,19 +17,21 @@
 
 package org.apache.zeppelin.ksql;
 
-import org.apache.commons.io.IOUtils;
+import org.apache.zeppelin.interpreter.http.HttpRequest;
+import org.apache.zeppelin.interpreter.http.HttpResponse;
+import org.apache.zeppelin.interpreter.http.PooledHttpClient;
 
 import java.io.BufferedReader;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * One KSQL REST call, sent with the pooled http client shared by the interpreter.
+ */
 public class BasicKSQLHttpClient implements Closeable {
 
   public static final String UTF_8 = "utf-8";
@@ -44,66 +46,75 @@ public class BasicKSQLHttpClient implements Closeable {
   private final Map<String, Object> formData;
   private final String type;
   private final Map<String, String> headers;
-  private final URL url;
-  private HttpURLConnection connection;
+  private final String url;
+  private final PooledHttpClient httpClient;
+  private volatile HttpResponse response;
   private final int timeout;
-  private boolean connected;
+  private volatile boolean connected;
 
 
   public BasicKSQLHttpClient(String url, String jsonData, Map<String, Object> formData,
-                 String type, Map<String, String> headers, int timeout)
-      throws IOException {
-    this.url = new URL(url);
+                 String type, Map<String, String> headers, int timeout,
+                 PooledHttpClient httpClient) {
+    this.url = url;
     this.jsonData = jsonData;
     this.formData = formData;
     this.type = type;
     this.headers = headers;
     this.timeout = timeout;
+    this.httpClient = httpClient;
     this.connected = false;
   }
 
+  /**
+   * Stop the request. A streamed response is aborted, its connection is not reused.
+   */
   @Override
   public void close() throws IOException {
     connected = false;
-    if (connection != null) {
-      connection.disconnect();
-    }
-  }
-
-  private void writeOutput(String data) throws IOException {
-    try (OutputStream os = connection.getOutputStream()) {
-      byte[] input = data.getBytes(UTF_8);
-      os.write(input);
+    HttpResponse toClose = response;
+    response = null;
+    if (toClose != null) {
+      toClose.abort();
+      toClose.close();
     }
   }
 
   public String connect() throws IOException {
-    int status = createConnection();
-    boolean isStatusOk = isStatusOk(status);
-    return IOUtils.toString(isStatusOk ?
-        connection.getInputStream() : connection.getErrorStream(), UTF_8);
+    try (HttpResponse httpResponse = createConnection()) {
+      return httpResponse.getBodyAsString();
+    } finally {
+      response = null;
+    }
   }
 
   public void connectAsync(BasicHTTPClientResponse onResponse) throws IOException {
-    int status = createConnection();
+    HttpResponse httpResponse = createConnection();
+    int status = httpResponse.getStatus();
     boolean isStatusOk = isStatusOk(status);
     long start = System.currentTimeMillis();
 
-    try (InputStreamReader in = new InputStreamReader(connection.getInputStream(), UTF_8);
+    try (InputStreamReader in = new InputStreamReader(httpResponse.getBody(), UTF_8);
          BufferedReader br = new BufferedReader(in)) {
-      while (connected && (timeout == -1 || System.currentTimeMillis() - start < timeout)) {
-        if (br.ready()) {
-          String responseLine = br.readLine();
-          if (responseLine == null || responseLine.isEmpty()) {
-            continue;
-          }
-          if (isStatusOk) {
-            onResponse.onMessage(status, responseLine.trim());
-          } else {
-            onResponse.onError(status, responseLine.trim());
-          }
+      String responseLine;
+      while (connected && (timeout == -1 || System.currentTimeMillis() - start < timeout)
+          && (responseLine = br.readLine()) != null) {
+        if (responseLine.isEmpty()) {
+          continue;
         }
+        if (isStatusOk) {
+          onResponse.onMessage(status, responseLine.trim());
+        } else {
+          onResponse.onError(status, responseLine.trim());
+        }
+      }
+    } catch (IOException e) {
+      if (connected) {
+        throw e;
       }
+      // the response is aborted by close()
+    } finally {
+      close();
     }
   }
 
@@ -111,22 +122,24 @@ public class BasicKSQLHttpClient implements Closeable {
     return status >= 200 && status < 300;
   }
 
-  private int createConnection() throws IOException {
-    this.connection = (HttpURLConnection) url.openConnection();
-    connection.setRequestMethod(this.type);
-    this.headers.forEach((k, v) -> connection.setRequestProperty(k, v));
-    connection.setDoOutput(true);
+  private HttpResponse createConnection() throws IOException {
+    HttpRequest request = new HttpRequest(type, url);
+    this.headers.forEach(request::header);
+    if (timeout != -1) {
+      request.timeout(timeout);
+    }
     if (jsonData != null && !jsonData.isEmpty()) {
-      writeOutput(jsonData);
+      request.body(jsonData, null);
     } else if (formData != null && !formData.isEmpty()) {
       String queryStringParams = formData.entrySet()
           .stream()
           .map(e -> e.getKey() + "=" + e.getValue())
           .collect(Collectors.joining("&"));
-      writeOutput(queryStringParams);
+      request.body(queryStringParams, null);
     }
     connected = true;
-    return connection.getResponseCode();
+    this.response = httpClient.execute(request);
+    return response;
   }
 
   static class Builder {
@@ -136,6 +149,7 @@ public class BasicKSQLHttpClient implements Closeable {
     private String type;
     private Map<String, String> headers = new HashMap<>();
     private int timeout = -1;
+    private PooledHttpClient httpClient;
 
     public Builder withTimeout(int timeout) {
       this.timeout = timeout;
@@ -167,8 +181,13 @@ public class BasicKSQLHttpClient implements Closeable {
       return this;
     }
 
+    public Builder withHttpClient(PooledHttpClient httpClient) {
+      this.httpClient = httpClient;
+      return this;
+    }
+
     public BasicKSQLHttpClient build() throws IOException {
-      return new BasicKSQLHttpClient(url, json, formData, type, headers, timeout);
+      return new BasicKSQLHttpClient(url, json, formData, type, headers, timeout, httpClient);
     }
 
   }
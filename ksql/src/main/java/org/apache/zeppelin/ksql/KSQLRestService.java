@@ -19,6 +19,7 @@ package org.apache.zeppelin.ksql;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.zeppelin.interpreter.http.PooledHttpClient;
 
 import java.io.IOException;
 import java.util.Arrays;
@@ -27,6 +28,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
@@ -51,6 +53,7 @@ public class KSQLRestService {
   private final Map<String, String> streamsProperties;
 
   private final Map<String, BasicKSQLHttpClient> clientCache;
+  private final PooledHttpClient httpClient;
 
   public KSQLRestService(Map<String, String> props) {
     baseUrl = Objects.requireNonNull(props.get(KSQL_URL), KSQL_URL).toString();
@@ -60,6 +63,9 @@ public class KSQLRestService {
     this.streamsProperties = props.entrySet().stream()
             .filter(e -> e.getKey().startsWith("ksql.") && !e.getKey().equals(KSQL_URL))
             .collect(Collectors.toMap(e -> e.getKey(), e -> e.getValue()));
+    Properties properties = new Properties();
+    properties.putAll(props);
+    httpClient = PooledHttpClient.getShared(properties);
   }
 
 
@@ -109,6 +115,7 @@ public class KSQLRestService {
             .withUrl(url)
             .withJson(json.writeValueAsString(request))
             .withType("POST")
+            .withHttpClient(httpClient)
             .withHeader("Content-type", KSQL_V1_CONTENT_TYPE)
             .build();
     BasicKSQLHttpClient oldClient = clientCache.put(paragraphId, client);
@@ -222,6 +229,7 @@ public class KSQLRestService {
         .withUrl(ksqlUrl)
         .withJson(json.writeValueAsString(request.toExplainRequest()))
         .withType("POST")
+        .withHttpClient(httpClient)
         .withHeader("Content-type", KSQL_V1_CONTENT_TYPE)
         .build()) {
       List<Map<String, Object>> explainResponseList = json.readValue(client.connect(), List.class);
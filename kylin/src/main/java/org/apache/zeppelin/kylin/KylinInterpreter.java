@@ -17,26 +17,30 @@
 
 package org.apache.zeppelin.kylin;
 
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import org.apache.commons.codec.binary.Base64;
-import org.apache.commons.io.IOUtils;
-import org.apache.http.HttpResponse;
-import org.apache.http.client.HttpClient;
-import org.apache.http.client.methods.HttpPost;
-import org.apache.http.entity.StringEntity;
-import org.apache.http.impl.client.HttpClientBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.apache.zeppelin.interpreter.Interpreter;
 import org.apache.zeppelin.interpreter.InterpreterContext;
 import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.http.HttpRequest;
+import org.apache.zeppelin.interpreter.http.HttpResponse;
+import org.apache.zeppelin.interpreter.http.PooledHttpClient;
 import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
+import org.apache.zeppelin.tabledata.ColumnDef;
+import org.apache.zeppelin.tabledata.TableWriter;
 
 /**
  * Kylin interpreter for Zeppelin. (http://kylin.apache.org)
@@ -51,9 +55,8 @@ public class KylinInterpreter extends Interpreter {
   static final String KYLIN_QUERY_OFFSET = "kylin.query.offset";
   static final String KYLIN_QUERY_LIMIT = "kylin.query.limit";
   static final String KYLIN_QUERY_ACCEPT_PARTIAL = "kylin.query.ispartial";
-  static final Pattern KYLIN_TABLE_FORMAT_REGEX_LABEL = Pattern.compile("\"label\":\"(.*?)\"");
-  static final Pattern KYLIN_TABLE_FORMAT_REGEX_RESULTS =
-          Pattern.compile("\"results\":\\[\\[(.*?)]]");
+
+  private volatile TableWriter tableWriter;
 
   public KylinInterpreter(Properties property) {
     super(property);
@@ -72,7 +75,7 @@ public class KylinInterpreter extends Interpreter {
   @Override
   public InterpreterResult interpret(String st, InterpreterContext context) {
     try {
-      return executeQuery(st);
+      return executeQuery(st, context);
     } catch (IOException e) {
       logger.error("failed to query data in kylin ", e);
       return new InterpreterResult(InterpreterResult.Code.ERROR, e.getMessage());
@@ -91,7 +94,8 @@ public class KylinInterpreter extends Interpreter {
 
   @Override
   public int getProgress(InterpreterContext context) {
-    return 0;
+    TableWriter writer = tableWriter;
+    return writer == null ? 0 : writer.getProgress();
   }
 
   @Override
@@ -116,21 +120,17 @@ public class KylinInterpreter extends Interpreter {
         + "," + "\"sql\":" + "\"" + kylinSql + "\""
         + "," + "\"acceptPartial\":" + "\"" + getProperty(KYLIN_QUERY_ACCEPT_PARTIAL) + "\""
         + "," + "\"offset\":" + "\"" + getProperty(KYLIN_QUERY_OFFSET) + "\""
-        + "," + "\"limit\":" + "\"" + getProperty(KYLIN_QUERY_LIMIT) + "\"" + "}");
+        + "," + "\"limit\":" + "\"" + (getLimit() + 1) + "\"" + "}");
     logger.info("post:" + postContent);
     postContent = postContent.replaceAll("[\u0000-\u001f]", " ");
-    StringEntity entity = new StringEntity(postContent, "UTF-8");
-    entity.setContentType("application/json; charset=UTF-8");
 
     logger.info("post url:" + getProperty(KYLIN_QUERY_API_URL));
 
-    HttpPost postRequest = new HttpPost(getProperty(KYLIN_QUERY_API_URL));
-    postRequest.setEntity(entity);
-    postRequest.addHeader("Authorization", "Basic " + new String(encodeBytes));
-    postRequest.addHeader("Accept-Encoding", "UTF-8");
-
-    HttpClient httpClient = HttpClientBuilder.create().build();
-    return httpClient.execute(postRequest);
+    HttpRequest postRequest = HttpRequest.post(getProperty(KYLIN_QUERY_API_URL))
+        .body(postContent, "application/json; charset=UTF-8")
+        .header("Authorization", "Basic " + new String(encodeBytes))
+        .header("Accept-Encoding", "UTF-8");
+    return PooledHttpClient.getShared(getProperties()).execute(postRequest);
   }
 
   public String getProject(String cmd) {
@@ -165,15 +165,13 @@ public class KylinInterpreter extends Interpreter {
     }
   }
 
-  private InterpreterResult executeQuery(String sql) throws IOException {
-    HttpResponse response = prepareRequest(sql);
-    String result;
-
-    try {
-      int code = response.getStatusLine().getStatusCode();
-      result = IOUtils.toString(response.getEntity().getContent(), "UTF-8");
+  private InterpreterResult executeQuery(String sql, InterpreterContext context)
+      throws IOException {
+    try (HttpResponse response = prepareRequest(sql)) {
+      int code = response.getStatus();
 
       if (code != 200) {
+        String result = response.getBodyAsString();
         StringBuilder errorMessage = new StringBuilder("Failed : HTTP error code " + code + " .");
         logger.error("Failed to execute query: " + result);
 
@@ -196,42 +194,114 @@ public class KylinInterpreter extends Interpreter {
 
         return new InterpreterResult(InterpreterResult.Code.ERROR, errorMessage.toString());
       }
-    } catch (NullPointerException | IOException e) {
+
+      TableWriter writer = new TableWriter(context.out, getLimit(), KYLIN_QUERY_LIMIT);
+      tableWriter = writer;
+      try (InputStream content = response.getBody()) {
+        writeResult(content, writer);
+      }
+      writer.close();
+    } catch (NullPointerException | IllegalStateException | IOException e) {
       throw new IOException(e);
+    } finally {
+      tableWriter = null;
     }
 
-    return new InterpreterResult(InterpreterResult.Code.SUCCESS,
-        formatResult(result));
-  }
-
-  String formatResult(String msg) {
-    StringBuilder res = new StringBuilder("%table ");
-    
-    Matcher ml = KYLIN_TABLE_FORMAT_REGEX_LABEL.matcher(msg);
-    while (!ml.hitEnd() && ml.find()) {
-      res.append(ml.group(1) + " \t");
-    } 
-    res.append(" \n");
-    
-    Matcher mr = KYLIN_TABLE_FORMAT_REGEX_RESULTS.matcher(msg);
-    String table = null;
-    while (!mr.hitEnd() && mr.find()) {
-      table = mr.group(1);
-    }
+    return new InterpreterResult(InterpreterResult.Code.SUCCESS);
+  }
 
-    if (table != null && !table.isEmpty()) {
-      String[] row = table.split("],\\[");
-      for (int i = 0; i < row.length; i++) {
-        String[] col = row[i].split(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)", -1);
-        for (int j = 0; j < col.length; j++) {
-          if (col[j] != null) {
-            col[j] = col[j].replaceAll("^\"|\"$", "");
+  /**
+   * Stream the rows of a query response into the writer, without holding the whole response.
+   */
+  void writeResult(InputStream content, TableWriter writer) throws IOException {
+    JsonReader reader = new JsonReader(new InputStreamReader(content, StandardCharsets.UTF_8));
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String name = reader.nextName();
+      if ("columnMetas".equals(name) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+        reader.beginArray();
+        while (reader.hasNext()) {
+          readColumn(reader, writer);
+        }
+        reader.endArray();
+      } else if ("results".equals(name) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+        reader.beginArray();
+        List<String> row = new ArrayList<>();
+        while (reader.hasNext()) {
+          row.clear();
+          reader.beginArray();
+          while (reader.hasNext()) {
+            row.add(nextValue(reader));
+          }
+          reader.endArray();
+          if (!writer.addRow(row)) {
+            // the rest of the response is not needed
+            return;
           }
-          res.append(col[j] + " \t");
         }
-        res.append(" \n");
+        reader.endArray();
+      } else {
+        reader.skipValue();
+      }
+    }
+    reader.endObject();
+  }
+
+  private void readColumn(JsonReader reader, TableWriter writer) throws IOException {
+    String label = null;
+    ColumnDef.TYPE type = ColumnDef.TYPE.STRING;
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String name = reader.nextName();
+      if ("label".equals(name)) {
+        label = nextValue(reader);
+      } else if ("columnType".equals(name) && reader.peek() == JsonToken.NUMBER) {
+        type = getColumnType(reader.nextInt());
+      } else {
+        reader.skipValue();
       }
     }
-    return res.toString();
+    reader.endObject();
+    writer.addColumn(label, type);
+  }
+
+  private static String nextValue(JsonReader reader) throws IOException {
+    switch (reader.peek()) {
+      case NULL:
+        reader.nextNull();
+        return "null";
+      case BOOLEAN:
+        return String.valueOf(reader.nextBoolean());
+      case STRING:
+      case NUMBER:
+        return reader.nextString();
+      default:
+        reader.skipValue();
+        return "";
+    }
+  }
+
+  private static ColumnDef.TYPE getColumnType(int sqlType) {
+    switch (sqlType) {
+      case Types.TINYINT:
+      case Types.SMALLINT:
+      case Types.INTEGER:
+        return ColumnDef.TYPE.INT;
+      case Types.BIGINT:
+        return ColumnDef.TYPE.LONG;
+      default:
+        return ColumnDef.TYPE.STRING;
+    }
+  }
+
+  /**
+   * Max number of rows displayed, the query asks for one more to know when it is exceeded.
+   */
+  int getLimit() {
+    try {
+      return Integer.parseInt(getProperty(KYLIN_QUERY_LIMIT).trim());
+    } catch (NullPointerException | NumberFormatException e) {
+      return Integer.MAX_VALUE - 1;
+    }
   }
 }
@@ -19,31 +19,51 @@ package org.apache.zeppelin.kylin;
 
 import static org.junit.Assert.assertEquals;
 
-import org.apache.http.Header;
-import org.apache.http.HttpEntity;
-import org.apache.http.HttpResponse;
-import org.apache.http.ProtocolVersion;
-import org.apache.http.StatusLine;
-import org.apache.http.client.methods.HttpPost;
-import org.apache.http.message.AbstractHttpMessage;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.io.IOUtils;
+import org.junit.AfterClass;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
-import java.util.Locale;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Properties;
 
+import org.apache.zeppelin.interpreter.InterpreterContext;
+import org.apache.zeppelin.interpreter.InterpreterOutput;
 import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
+import org.apache.zeppelin.tabledata.TableWriter;
 
 public class KylinInterpreterTest {
   static final Properties KYLIN_PROPERTIES = new Properties();
+  static final String QUERY_RESPONSE = "{\"columnMetas\":" +
+      "[{\"label\":\"PART_DT\"},{\"label\":\"measure\"}]," +
+      "\"results\":[[\"2012-01-03\",\"917.4138\"]," +
+      "[\"2012-05-06\",\"592.4823\"]]}";
+
+  private static HttpServer server;
+  private static String queryUrl;
 
   @BeforeClass
-  public static void setUpClass() {
+  public static void setUpClass() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/kylin/api/query", exchange -> {
+      IOUtils.toByteArray(exchange.getRequestBody());
+      byte[] body = QUERY_RESPONSE.getBytes(StandardCharsets.UTF_8);
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    });
+    server.start();
+    queryUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/kylin/api/query";
+
     KYLIN_PROPERTIES.put("kylin.api.url", "http://localhost:7070/kylin/api/query");
     KYLIN_PROPERTIES.put("kylin.api.user", "ADMIN");
     KYLIN_PROPERTIES.put("kylin.api.password", "KYLIN");
@@ -53,21 +73,45 @@ public class KylinInterpreterTest {
     KYLIN_PROPERTIES.put("kylin.query.ispartial", "true");
   }
 
+  @AfterClass
+  public static void tearDownClass() {
+    server.stop(0);
+  }
+
   @Test
-  public void testWithDefault() {
-    KylinInterpreter t = new MockKylinInterpreter(getDefaultProperties());
+  public void testWithDefault() throws IOException {
+    KylinInterpreter t = new KylinInterpreter(getDefaultProperties());
+    InterpreterContext context = getContext();
     InterpreterResult result = t.interpret(
         "select a.date,sum(b.measure) as measure from kylin_fact_table a " +
-            "inner join kylin_lookup_table b on a.date=b.date group by a.date", null);
+            "inner join kylin_lookup_table b on a.date=b.date group by a.date", context);
     assertEquals("default", t.getProject("select a.date,sum(b.measure) as measure "
             + "from kylin_fact_table a inner join kylin_lookup_table b on a.date=b.date "
             + "group by a.date"));
-    assertEquals(InterpreterResult.Type.TABLE, result.message().get(0).getType());
+    assertEquals(InterpreterResult.Code.SUCCESS, result.code());
+    List<InterpreterResultMessage> messages = context.out.toInterpreterResultMessage();
+    assertEquals(InterpreterResult.Type.TABLE, messages.get(0).getType());
+    assertEquals("PART_DT\tmeasure\n2012-01-03\t917.4138\n2012-05-06\t592.4823\n",
+        messages.get(0).getData());
+  }
+
+  @Test
+  public void testLimit() throws IOException {
+    Properties properties = getDefaultProperties();
+    properties.put("kylin.query.limit", "1");
+    KylinInterpreter t = new KylinInterpreter(properties);
+    InterpreterContext context = getContext();
+    InterpreterResult result = t.interpret("select * from kylin_fact_table", context);
+    assertEquals(InterpreterResult.Code.SUCCESS, result.code());
+    List<InterpreterResultMessage> messages = context.out.toInterpreterResultMessage();
+    assertEquals(2, messages.size());
+    assertEquals("PART_DT\tmeasure\n2012-01-03\t917.4138\n", messages.get(0).getData());
+    assertEquals(InterpreterResult.Type.HTML, messages.get(1).getType());
   }
 
   @Test
   public void testWithProject() {
-    KylinInterpreter t = new MockKylinInterpreter(getDefaultProperties());
+    KylinInterpreter t = new KylinInterpreter(getDefaultProperties());
     assertEquals("project2", t.getProject("(project2)\n select a.date,sum(b.measure) "
             + "as measure from kylin_fact_table a inner join kylin_lookup_table b on "
             + "a.date=b.date group by a.date"));
@@ -86,7 +130,7 @@ public class KylinInterpreterTest {
   }
 
   @Test
-  public void testParseResult() {
+  public void testParseResult() throws IOException {
     String msg = "{\"columnMetas\":[{\"isNullable\":1,\"displaySize\":256,\"label\":\"COUNTRY\","
             + "\"name\":\"COUNTRY\",\"schemaName\":\"DEFAULT\",\"catelogName\":null,"
             + "\"tableName\":\"SALES_TABLE\",\"precision\":256,\"scale\":0,\"columnType\":12,"
@@ -109,18 +153,16 @@ public class KylinInterpreterTest {
             + "\"isException\":false,\"exceptionMessage\":null,\"duration\":134,"
             + "\"totalScanCount\":1,\"hitExceptionCache\":false,\"storageCacheUsed\":false,"
             + "\"partial\":false}";
-    String expected = "%table COUNTRY \tCURRENCY \tCOUNT__ \t \n" +
-            "AMERICA \tUSD \tnull \t \n" +
-            "null \tRMB \t0 \t \n" +
-            "KOR \tnull \t100 \t \n" +
-            "\\\"abc\\\" \ta,b,c \t-1 \t \n";
-    KylinInterpreter t = new MockKylinInterpreter(getDefaultProperties());
-    String actual = t.formatResult(msg);
-    Assert.assertEquals(expected, actual);
+    String expected = "COUNTRY\tCURRENCY\tCOUNT__\n" +
+            "AMERICA\tUSD\tnull\n" +
+            "null\tRMB\t0\n" +
+            "KOR\tnull\t100\n" +
+            "\"abc\"\ta,b,c\t-1\n";
+    Assert.assertEquals(expected, writeResult(msg));
   }
 
   @Test
-  public void testParseEmptyResult() {
+  public void testParseEmptyResult() throws IOException {
     String msg = "{\"columnMetas\":[{\"isNullable\":1,\"displaySize\":256,\"label\":\"COUNTRY\","
             + "\"name\":\"COUNTRY\",\"schemaName\":\"DEFAULT\",\"catelogName\":null,"
             + "\"tableName\":\"SALES_TABLE\",\"precision\":256,\"scale\":0,\"columnType\":12,"
@@ -142,17 +184,33 @@ public class KylinInterpreterTest {
             + "\"isException\":false,\"exceptionMessage\":null,\"duration\":134,"
             + "\"totalScanCount\":1,\"hitExceptionCache\":false,\"storageCacheUsed\":false,"
             + "\"partial\":false}";
-    String expected = "%table COUNTRY \tCURRENCY \tCOUNT__ \t \n";
-    KylinInterpreter t = new MockKylinInterpreter(getDefaultProperties());
-    String actual = t.formatResult(msg);
-    Assert.assertEquals(expected, actual);
+    String expected = "COUNTRY\tCURRENCY\tCOUNT__\n";
+    Assert.assertEquals(expected, writeResult(msg));
+  }
+
+  private String writeResult(String msg) throws IOException {
+    KylinInterpreter t = new KylinInterpreter(getDefaultProperties());
+    InterpreterOutput out = new InterpreterOutput(null);
+    TableWriter writer = new TableWriter(out, t.getLimit(), "kylin.query.limit");
+    t.writeResult(new ByteArrayInputStream(msg.getBytes(StandardCharsets.UTF_8)), writer);
+    writer.close();
+    List<InterpreterResultMessage> messages = out.toInterpreterResultMessage();
+    assertEquals(1, messages.size());
+    assertEquals(InterpreterResult.Type.TABLE, messages.get(0).getType());
+    return messages.get(0).getData();
+  }
+
+  private InterpreterContext getContext() {
+    return InterpreterContext.builder()
+        .setInterpreterOut(new InterpreterOutput(null))
+        .build();
   }
 
   private Properties getDefaultProperties() {
     Properties prop = new Properties();
     prop.put("kylin.api.username", "ADMIN");
     prop.put("kylin.api.password", "KYLIN");
-    prop.put("kylin.api.url", "http://<host>:<port>/kylin/api/query");
+    prop.put("kylin.api.url", queryUrl);
     prop.put("kylin.query.project", "default");
     prop.put("kylin.query.offset", "0");
     prop.put("kylin.query.limit", "5000");
@@ -160,136 +218,3 @@ public class KylinInterpreterTest {
     return prop;
   }
 }
-
-class MockKylinInterpreter extends KylinInterpreter {
-  MockKylinInterpreter(Properties property) {
-    super(property);
-  }
-
-  @Override
-  public HttpResponse prepareRequest(String sql) throws IOException {
-    MockHttpClient client = new MockHttpClient();
-    return client.execute(new HttpPost());
-  }
-}
-
-class MockHttpClient{
-  public MockHttpResponse execute(HttpPost post){
-    return new MockHttpResponse();
-  }
-}
-
-class MockHttpResponse extends AbstractHttpMessage implements HttpResponse{
-  @Override
-  public StatusLine getStatusLine() {
-    return new MockStatusLine();
-  }
-
-  @Override
-  public void setStatusLine(StatusLine statusLine) {
-  }
-
-  @Override
-  public void setStatusLine(ProtocolVersion protocolVersion, int i) {
-  }
-
-  @Override
-  public void setStatusLine(ProtocolVersion protocolVersion, int i, String s) {
-  }
-
-  @Override
-  public void setStatusCode(int i) throws IllegalStateException {
-  }
-
-  @Override
-  public void setReasonPhrase(String s) throws IllegalStateException {
-  }
-
-  @Override
-  public HttpEntity getEntity() {
-    return new MockEntity();
-  }
-
-  @Override
-  public void setEntity(HttpEntity httpEntity) {
-  }
-
-  @Override
-  public Locale getLocale() {
-    return null;
-  }
-
-  @Override
-  public void setLocale(Locale locale) {
-  }
-
-  @Override
-  public ProtocolVersion getProtocolVersion() {
-    return null;
-  }
-}
-
-class MockStatusLine implements StatusLine{
-  @Override
-  public ProtocolVersion getProtocolVersion() {
-    return null;
-  }
-
-  @Override
-  public int getStatusCode() {
-    return 200;
-  }
-
-  @Override
-  public String getReasonPhrase() {
-    return null;
-  }
-}
-
-class MockEntity implements HttpEntity{
-  @Override
-  public boolean isRepeatable() {
-    return false;
-  }
-
-  @Override
-  public boolean isChunked() {
-    return false;
-  }
-
-  @Override
-  public long getContentLength() {
-    return 0;
-  }
-
-  @Override
-  public Header getContentType() {
-    return null;
-  }
-
-  @Override
-  public Header getContentEncoding() {
-    return null;
-  }
-
-  @Override
-  public InputStream getContent() throws IOException, IllegalStateException {
-    return new ByteArrayInputStream(("{\"columnMetas\":" +
-        "[{\"label\":\"PART_DT\"},{\"label\":\"measure\"}]," +
-        "\"results\":[[\"2012-01-03\",\"917.4138\"]," +
-        "[\"2012-05-06\",\"592.4823\"]]}").getBytes());
-  }
-
-  @Override
-  public void writeTo(OutputStream outputStream) throws IOException {
-  }
-
-  @Override
-  public boolean isStreaming() {
-    return false;
-  }
-
-  @Override
-  public void consumeContent() throws IOException {
-  }
-}
@@ -46,7 +46,6 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.security.kerberos.client.KerberosRestTemplate;
 import org.springframework.web.client.HttpClientErrorException;
@@ -77,6 +76,8 @@ import org.apache.zeppelin.interpreter.InterpreterException;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.InterpreterResultMessage;
 import org.apache.zeppelin.interpreter.InterpreterUtils;
+import org.apache.zeppelin.interpreter.http.HttpClientConfig;
+import org.apache.zeppelin.interpreter.http.PooledHttpClient;
 import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
 
 /**
@@ -97,6 +98,8 @@ public abstract class BaseLivyInterpreter extends Interpreter {
   private boolean restartDeadSession;
   protected LivyVersion livyVersion;
   private RestTemplate restTemplate;
+  private static final Map<String, PooledHttpClient> SSL_HTTP_CLIENTS =
+      new ConcurrentHashMap<>();
   private Map<String, String> customHeaders = new HashMap<>();
 
   // delegate to sharedInterpreter when it is available
@@ -615,14 +618,27 @@ public abstract class BaseLivyInterpreter extends Interpreter {
     }
   }
 
+  /**
+   * Pooled client for livyURL. The https ones have their own pool, with the ssl settings of
+   * the interpreter.
+   */
+  private PooledHttpClient getHttpClient() {
+    if (!livyURL.startsWith("https:")) {
+      return PooledHttpClient.getShared(getProperties());
+    }
+    return SSL_HTTP_CLIENTS.computeIfAbsent(livyURL, url ->
+        new PooledHttpClient(HttpClientConfig.fromProperties(getProperties()), getSslContext()));
+  }
+
   private RestTemplate createRestTemplate() {
     String keytabLocation = getProperty("zeppelin.livy.keytab");
     String principal = getProperty("zeppelin.livy.principal");
     boolean isSpnegoEnabled = StringUtils.isNotEmpty(keytabLocation) &&
         StringUtils.isNotEmpty(principal);
 
+    // without kerberos, the requests are sent by the pooled client of getHttpClient()
     HttpClient httpClient = null;
-    if (livyURL.startsWith("https:")) {
+    if (isSpnegoEnabled && livyURL.startsWith("https:")) {
       try {
         SSLContext sslContext = getSslContext();
         SSLConnectionSocketFactory csf = new SSLConnectionSocketFactory(sslContext);
@@ -670,11 +686,7 @@ public abstract class BaseLivyInterpreter extends Interpreter {
         restTemplate = new KerberosRestTemplate(keytabLocation, principal, httpClient);
       }
     } else {
-      if (httpClient == null) {
-        restTemplate = new RestTemplate();
-      } else {
-        restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
-      }
+      restTemplate = new RestTemplate(new PooledClientHttpRequestFactory(getHttpClient()));
     }
     restTemplate.getMessageConverters().add(0,
             new StringHttpMessageConverter(StandardCharsets.UTF_8));
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.livy;
+
+import org.apache.zeppelin.interpreter.http.HttpRequest;
+import org.apache.zeppelin.interpreter.http.HttpResponse;
+import org.apache.zeppelin.interpreter.http.PooledHttpClient;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.AbstractClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends the requests of a RestTemplate with a {@link PooledHttpClient}, so that the
+ * connections to livy are kept alive between the calls.
+ */
+class PooledClientHttpRequestFactory implements ClientHttpRequestFactory {
+
+  private final PooledHttpClient httpClient;
+
+  PooledClientHttpRequestFactory(PooledHttpClient httpClient) {
+    this.httpClient = httpClient;
+  }
+
+  @Override
+  public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) {
+    return new PooledClientHttpRequest(httpClient, uri, httpMethod);
+  }
+
+  private static class PooledClientHttpRequest extends AbstractClientHttpRequest {
+    private final PooledHttpClient httpClient;
+    private final URI uri;
+    private final HttpMethod method;
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream(1024);
+
+    PooledClientHttpRequest(PooledHttpClient httpClient, URI uri, HttpMethod method) {
+      this.httpClient = httpClient;
+      this.uri = uri;
+      this.method = method;
+    }
+
+    @Override
+    public HttpMethod getMethod() {
+      return method;
+    }
+
+    @Override
+    public URI getURI() {
+      return uri;
+    }
+
+    @Override
+    protected OutputStream getBodyInternal(HttpHeaders headers) {
+      return body;
+    }
+
+    @Override
+    protected ClientHttpResponse executeInternal(HttpHeaders headers) throws IOException {
+      HttpRequest request = new HttpRequest(method.name(), uri.toString());
+      for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+        // set by the http client from the body
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(header.getKey())
+            || HttpHeaders.TRANSFER_ENCODING.equalsIgnoreCase(header.getKey())) {
+          continue;
+        }
+        for (String value : header.getValue()) {
+          request.header(header.getKey(), value);
+        }
+      }
+      if (body.size() > 0) {
+        request.body(body.toByteArray(), null);
+      }
+      return new PooledClientHttpResponse(httpClient.execute(request));
+    }
+  }
+
+  private static class PooledClientHttpResponse implements ClientHttpResponse {
+    private final HttpResponse response;
+    private HttpHeaders headers;
+
+    PooledClientHttpResponse(HttpResponse response) {
+      this.response = response;
+    }
+
+    @Override
+    public HttpStatus getStatusCode() {
+      return HttpStatus.valueOf(response.getStatus());
+    }
+
+    @Override
+    public int getRawStatusCode() {
+      return response.getStatus();
+    }
+
+    @Override
+    public String getStatusText() {
+      return response.getReason();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      if (headers == null) {
+        headers = new HttpHeaders();
+        headers.putAll(response.getHeaders());
+      }
+      return headers;
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+      return response.getBody();
+    }
+
+    @Override
+    public void close() {
+      try {
+        response.close();
+      } catch (IOException e) {
+        // the connection is discarded by the pool
+      }
+    }
+  }
+}
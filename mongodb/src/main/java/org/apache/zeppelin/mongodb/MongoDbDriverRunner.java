@@ -0,0 +1,377 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.mongodb;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoException;
+import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoDatabase;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.zeppelin.interpreter.InterpreterContext;
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResult.Code;
+import org.apache.zeppelin.interpreter.ResultMessages;
+import org.apache.zeppelin.tabledata.TableDataUtils;
+import org.bson.BsonInvalidOperationException;
+import org.bson.Document;
+import org.bson.json.JsonParseException;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs paragraphs through the MongoDB java driver instead of the mongo shell.
+ *
+ * A paragraph is a json command document, e.g.
+ * <pre>
+ *   {"find": "users", "filter": {"age": {"$gt": 30}}, "sort": {"age": -1}, "limit": 100}
+ *   {"aggregate": "orders", "pipeline": [{"$group": {"_id": "$status", "n": {"$sum": 1}}}]}
+ * </pre>
+ * find and aggregate results are streamed batch by batch into a %table, any other
+ * command is sent to the server via runCommand and its reply is displayed as json.
+ *
+ * One {@link MongoClient} (and therefore one connection pool) is kept per interpreter
+ * session, running cursors are tracked per paragraph so that cancel can close them.
+ */
+public class MongoDbDriverRunner {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(MongoDbDriverRunner.class);
+
+  private static final String TABLE_MAGIC_TAG = "%table ";
+  private static final String TAB = "\t";
+  private static final String NEWLINE = "\n";
+
+  private final MongoClient client;
+  private final String database;
+  private final int maxRows;
+  private final int batchSize;
+  private final long commandTimeout;
+
+  private final Map<String, MongoCursor<Document>> runningCursors = new ConcurrentHashMap<>();
+
+  public MongoDbDriverRunner(String connectionString,
+                             int poolSize,
+                             String database,
+                             int maxRows,
+                             int batchSize,
+                             long commandTimeout) {
+    MongoClientSettings settings = MongoClientSettings.builder()
+        .applyConnectionString(new ConnectionString(connectionString))
+        .applyToConnectionPoolSettings(builder -> builder.maxSize(poolSize))
+        .build();
+    this.client = MongoClients.create(settings);
+    this.database = database;
+    this.maxRows = maxRows;
+    this.batchSize = batchSize;
+    this.commandTimeout = commandTimeout;
+  }
+
+  /**
+   * Build a mongodb:// connection string from the interpreter properties.
+   */
+  public static String buildConnectionString(String host,
+                                             String port,
+                                             String username,
+                                             String password,
+                                             String authDatabase) {
+    StringBuilder uri = new StringBuilder("mongodb://");
+    if (StringUtils.isNotEmpty(username)) {
+      uri.append(urlEncode(username));
+      if (StringUtils.isNotEmpty(password)) {
+        uri.append(":").append(urlEncode(password));
+      }
+      uri.append("@");
+    }
+    uri.append(host).append(":").append(port).append("/");
+    if (StringUtils.isNotEmpty(username) && StringUtils.isNotEmpty(authDatabase)) {
+      uri.append("?authSource=").append(urlEncode(authDatabase));
+    }
+    return uri.toString();
+  }
+
+  public InterpreterResult run(String script, InterpreterContext context) {
+    String paragraphId = context.getParagraphId();
+    Document command;
+    try {
+      command = Document.parse(script);
+    } catch (JsonParseException | BsonInvalidOperationException e) {
+      return new InterpreterResult(Code.ERROR, "Invalid command document: " + e.getMessage());
+    }
+
+    MongoDatabase db = client.getDatabase(database);
+    try {
+      if (command.containsKey("find")) {
+        return runCursor(db.getCollection(command.getString("find")), command, true,
+            paragraphId, context);
+      } else if (command.containsKey("aggregate")) {
+        if (!(command.get("pipeline") instanceof List)) {
+          return new InterpreterResult(Code.ERROR,
+              "aggregate command requires a pipeline array");
+        }
+        return runCursor(db.getCollection(command.getString("aggregate")), command, false,
+            paragraphId, context);
+      } else {
+        Document reply = db.runCommand(command);
+        context.out.write("%text " + reply.toJson() + NEWLINE);
+        return new InterpreterResult(Code.SUCCESS);
+      }
+    } catch (MongoException | ClassCastException e) {
+      LOGGER.error("Can not run command in paragraph {}", paragraphId, e);
+      return new InterpreterResult(Code.ERROR, e.getMessage());
+    } catch (IOException e) {
+      LOGGER.error("Can not write output of paragraph {}", paragraphId, e);
+      return new InterpreterResult(Code.ERROR, e.getMessage());
+    } finally {
+      closeCursor(paragraphId);
+    }
+  }
+
+  private InterpreterResult runCursor(MongoCollection<Document> collection,
+                                      Document command,
+                                      boolean isFind,
+                                      String paragraphId,
+                                      InterpreterContext context) throws IOException {
+    int limit = maxRows;
+    // Ask for one more document than we display so that truncation can be detected.
+    int fetchLimit = maxRows + 1;
+    if (isFind && command.containsKey("limit")) {
+      int userLimit = ((Number) command.get("limit")).intValue();
+      if (userLimit > 0 && userLimit <= maxRows) {
+        limit = userLimit;
+        fetchLimit = userLimit;
+      }
+    }
+    int fetchBatchSize = Math.min(batchSize, fetchLimit);
+
+    MongoCursor<Document> cursor;
+    if (isFind) {
+      FindIterable<Document> find = collection.find(getDocument(command, "filter"))
+          .limit(fetchLimit)
+          .batchSize(fetchBatchSize)
+          .maxTime(commandTimeout, TimeUnit.MILLISECONDS);
+      if (command.containsKey("projection")) {
+        find.projection(getDocument(command, "projection"));
+      }
+      if (command.containsKey("sort")) {
+        find.sort(getDocument(command, "sort"));
+      }
+      if (command.containsKey("skip")) {
+        find.skip(((Number) command.get("skip")).intValue());
+      }
+      cursor = find.iterator();
+    } else {
+      List<Document> pipeline = new ArrayList<>();
+      for (Object stage : command.get("pipeline", List.class)) {
+        pipeline.add((Document) stage);
+      }
+      AggregateIterable<Document> aggregate = collection.aggregate(pipeline)
+          .batchSize(fetchBatchSize)
+          .maxTime(commandTimeout, TimeUnit.MILLISECONDS);
+      if (command.containsKey("allowDiskUse")) {
+        aggregate.allowDiskUse(command.getBoolean("allowDiskUse"));
+      }
+      cursor = aggregate.iterator();
+    }
+    runningCursors.put(paragraphId, cursor);
+    try {
+      return streamCursor(cursor, limit, fetchBatchSize, paragraphId, context);
+    } catch (MongoException | IllegalStateException e) {
+      // Closing the cursor from cancel() makes the running iteration fail.
+      if (!isRunning(paragraphId, cursor)) {
+        return new InterpreterResult(Code.INCOMPLETE, "Paragraph is cancelled");
+      }
+      throw e;
+    }
+  }
+
+  private InterpreterResult streamCursor(MongoCursor<Document> cursor,
+                                         int limit,
+                                         int fetchBatchSize,
+                                         String paragraphId,
+                                         InterpreterContext context) throws IOException {
+    // The first batch decides the columns of the table, keys only seen in later
+    // documents are not displayed.
+    List<Document> firstBatch = new ArrayList<>();
+    while (firstBatch.size() < fetchBatchSize && isRunning(paragraphId, cursor)
+        && cursor.hasNext()) {
+      firstBatch.add(cursor.next());
+    }
+    if (firstBatch.isEmpty()) {
+      if (!isRunning(paragraphId, cursor)) {
+        return new InterpreterResult(Code.INCOMPLETE, "Paragraph is cancelled");
+      }
+      context.out.write("%text Query returned no documents.\n");
+      return new InterpreterResult(Code.SUCCESS);
+    }
+
+    List<String> columns = new ArrayList<>(getColumns(firstBatch));
+    context.out.write(TABLE_MAGIC_TAG + toHeader(columns));
+
+    int rowCount = 0;
+    for (Document document : firstBatch) {
+      if (rowCount == limit) {
+        break;
+      }
+      context.out.write(toRow(columns, document));
+      rowCount++;
+    }
+    context.out.flush();
+
+    boolean truncated = firstBatch.size() > limit;
+    while (!truncated && isRunning(paragraphId, cursor) && cursor.hasNext()) {
+      Document document = cursor.next();
+      if (rowCount == limit) {
+        truncated = true;
+        break;
+      }
+      context.out.write(toRow(columns, document));
+      if (++rowCount % fetchBatchSize == 0) {
+        context.out.flush();
+      }
+    }
+
+    if (!isRunning(paragraphId, cursor)) {
+      return new InterpreterResult(Code.INCOMPLETE, "Paragraph is cancelled");
+    }
+    if (truncated) {
+      context.out.write(NEWLINE + ResultMessages.getExceedsLimitRowsMessage(limit,
+          "mongo.shell.command.table.limit").toString());
+    }
+    context.out.flush();
+    return new InterpreterResult(Code.SUCCESS);
+  }
+
+  /**
+   * Cancel the running cursor of the paragraph, which also kills it on the server side.
+   */
+  public void cancel(String paragraphId) {
+    closeCursor(paragraphId);
+  }
+
+  public void close() {
+    for (String paragraphId : runningCursors.keySet()) {
+      closeCursor(paragraphId);
+    }
+    client.close();
+  }
+
+  private void closeCursor(String paragraphId) {
+    MongoCursor<Document> cursor = runningCursors.remove(paragraphId);
+    if (cursor != null) {
+      try {
+        cursor.close();
+      } catch (MongoException e) {
+        LOGGER.warn("Fail to close cursor of paragraph {}", paragraphId, e);
+      }
+    }
+  }
+
+  private boolean isRunning(String paragraphId, MongoCursor<Document> cursor) {
+    return runningCursors.get(paragraphId) == cursor;
+  }
+
+  private static Document getDocument(Document command, String key) {
+    Document document = command.get(key, Document.class);
+    return document == null ? new Document() : document;
+  }
+
+  static Set<String> getColumns(List<Document> documents) {
+    Set<String> columns = new LinkedHashSet<>();
+    for (Document document : documents) {
+      columns.addAll(document.keySet());
+    }
+    return columns;
+  }
+
+  static String toHeader(List<String> columns) {
+    StringBuilder header = new StringBuilder();
+    for (int i = 0; i < columns.size(); i++) {
+      if (i > 0) {
+        header.append(TAB);
+      }
+      header.append(TableDataUtils.normalizeColumn(columns.get(i)));
+    }
+    return header.append(NEWLINE).toString();
+  }
+
+  static String toRow(List<String> columns, Document document) {
+    StringBuilder row = new StringBuilder();
+    for (int i = 0; i < columns.size(); i++) {
+      if (i > 0) {
+        row.append(TAB);
+      }
+      String column = columns.get(i);
+      row.append(document.containsKey(column) ?
+          TableDataUtils.normalizeColumn(toCell(document.get(column))) : "");
+    }
+    return row.append(NEWLINE).toString();
+  }
+
+  /**
+   * Convert a BSON value to its table cell representation.
+   */
+  static String toCell(Object value) {
+    if (value == null) {
+      return "null";
+    } else if (value instanceof Document) {
+      return ((Document) value).toJson();
+    } else if (value instanceof List) {
+      StringBuilder builder = new StringBuilder("[");
+      List<?> values = (List<?>) value;
+      for (int i = 0; i < values.size(); i++) {
+        if (i > 0) {
+          builder.append(", ");
+        }
+        builder.append(toCell(values.get(i)));
+      }
+      return builder.append("]").toString();
+    } else if (value instanceof ObjectId) {
+      return ((ObjectId) value).toHexString();
+    } else if (value instanceof Date) {
+      return ((Date) value).toInstant().toString();
+    } else {
+      return value.toString();
+    }
+  }
+
+  private static String urlEncode(String value) {
+    try {
+      return URLEncoder.encode(value, "UTF-8");
+    } catch (UnsupportedEncodingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -43,7 +43,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * MongoDB interpreter. It uses the mongo shell to interpret the commands.
+ * MongoDB interpreter. By default it uses the mongo shell to interpret the commands,
+ * with mongo.interpreter.mode set to driver the commands are run through the java driver
+ * (see {@link MongoDbDriverRunner}).
  */
 public class MongoDbInterpreter extends Interpreter {
 
@@ -53,6 +55,8 @@ public class MongoDbInterpreter extends Interpreter {
 
   private static final int SIGTERM_CODE = 143;
 
+  private static final String DRIVER_MODE = "driver";
+
   private long commandTimeout = 60000;
 
   private String dbAddress;
@@ -61,6 +65,8 @@ public class MongoDbInterpreter extends Interpreter {
 
   private Map<String, Executor> runningProcesses =  new HashMap<>();
 
+  private MongoDbDriverRunner driverRunner;
+
   public MongoDbInterpreter(Properties property) {
     super(property);
   }
@@ -75,11 +81,30 @@ public class MongoDbInterpreter extends Interpreter {
 
     dbAddress = getProperty("mongo.server.host") + ":" + getProperty("mongo.server.port");
 
+    if (DRIVER_MODE.equalsIgnoreCase(getProperty("mongo.interpreter.mode", "shell"))) {
+      String connectionString = MongoDbDriverRunner.buildConnectionString(
+          getProperty("mongo.server.host"),
+          getProperty("mongo.server.port"),
+          getProperty("mongo.server.username"),
+          getProperty("mongo.server.password"),
+          getProperty("mongo.server.authenticationDatabase"));
+      driverRunner = new MongoDbDriverRunner(connectionString,
+          Integer.parseInt(getProperty("mongo.driver.pool.max", String.valueOf(maxConcurrency))),
+          getProperty("mongo.server.database"),
+          Integer.parseInt(getProperty("mongo.shell.command.table.limit")),
+          Integer.parseInt(getProperty("mongo.driver.batch.size", "1000")),
+          commandTimeout);
+    }
+
     prepareShellExtension();
   }
 
   @Override
   public void close() {
+    if (driverRunner != null) {
+      driverRunner.close();
+      driverRunner = null;
+    }
     runningProcesses.clear();
     runningProcesses = null;
   }
@@ -97,6 +122,10 @@ public class MongoDbInterpreter extends Interpreter {
       return new InterpreterResult(Code.SUCCESS);
     }
 
+    if (driverRunner != null) {
+      return driverRunner.run(script, context);
+    }
+
     String paragraphId = context.getParagraphId();
     // Write script in a temporary file
     // The script is enriched with extensions
@@ -161,6 +190,10 @@ public class MongoDbInterpreter extends Interpreter {
 
   @Override
   public void cancel(InterpreterContext context) {
+    if (driverRunner != null) {
+      driverRunner.cancel(context.getParagraphId());
+      return;
+    }
     stopProcess(context.getParagraphId());
     FileUtils.deleteQuietly(new File(getScriptFileName(context.getParagraphId())));
   }
@@ -36,6 +36,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -121,6 +122,43 @@ public class Neo4jConnectionManager {
 
   public List<Record> execute(String cypherQuery,
                               InterpreterContext interpreterContext) {
+    Map<String, Object> params = getParams(cypherQuery, interpreterContext);
+    LOGGER.debug("Executing cypher query {} with params {}", cypherQuery, params);
+    try (Session session = getSession()) {
+      final Result result = params.isEmpty()
+              ? session.run(cypherQuery) : session.run(cypherQuery, params);
+      return result.list();
+    }
+  }
+
+  public List<Record> execute(String cypherQuery) {
+    return execute(cypherQuery, null);
+  }
+
+  /**
+   * Run the query and let the handler consume the result while the session is still open.
+   * Records are pulled from the server fetchSize at a time, so a handler which stops
+   * early (via {@link Result#consume()}) stops the query on the server side.
+   */
+  public <T> T execute(String cypherQuery,
+                       InterpreterContext interpreterContext,
+                       long fetchSize,
+                       Function<Result, T> handler) {
+    Map<String, Object> params = getParams(cypherQuery, interpreterContext);
+    LOGGER.debug("Streaming cypher query {} with params {}", cypherQuery, params);
+    SessionConfig.Builder builder = SessionConfig.builder().withFetchSize(fetchSize);
+    if (StringUtils.isNotEmpty(database)) {
+      builder.withDatabase(database);
+    }
+    try (Session session = getDriver().session(builder.build())) {
+      final Result result = params.isEmpty()
+              ? session.run(cypherQuery) : session.run(cypherQuery, params);
+      return handler.apply(result);
+    }
+  }
+
+  private Map<String, Object> getParams(String cypherQuery,
+                                        InterpreterContext interpreterContext) {
     Map<String, Object> params = new HashMap<>();
     if (interpreterContext != null) {
       ResourcePool resourcePool = interpreterContext.getResourcePool();
@@ -133,16 +171,7 @@ public class Neo4jConnectionManager {
         }
       }
     }
-    LOGGER.debug("Executing cypher query {} with params {}", cypherQuery, params);
-    try (Session session = getSession()) {
-      final Result result = params.isEmpty()
-              ? session.run(cypherQuery) : session.run(cypherQuery, params);
-      return result.list();
-    }
-  }
-
-  public List<Record> execute(String cypherQuery) {
-    return execute(cypherQuery, null);
+    return params;
   }
 
   private Set<String> extractParams(String cypherQuery, Pattern pattern, String replaceChar) {
@@ -18,8 +18,9 @@
 package org.apache.zeppelin.graph.neo4j;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.zeppelin.graph.neo4j.utils.LongObjectHashMap;
+import org.neo4j.driver.Result;
 import org.neo4j.driver.internal.types.InternalTypeSystem;
-import org.neo4j.driver.internal.util.Iterables;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.neo4j.driver.Record;
@@ -28,6 +29,7 @@ import org.neo4j.driver.types.Node;
 import org.neo4j.driver.types.Relationship;
 import org.neo4j.driver.types.TypeSystem;
 import org.neo4j.driver.util.Pair;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -39,6 +41,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.zeppelin.graph.neo4j.utils.Neo4jConversionUtils;
 import org.apache.zeppelin.interpreter.Interpreter;
 import org.apache.zeppelin.interpreter.InterpreterContext;
@@ -69,12 +72,28 @@ public class Neo4jCypherInterpreter extends Interpreter {
 
   private final boolean isMultiStatementEnabled;
 
+  private final boolean isStreamingEnabled;
+
+  private final int streamingBatchSize;
+
+  private final int graphNodeLimit;
+
+  private final Set<String> cancelledParagraphs = ConcurrentHashMap.newKeySet();
+
   public static final String NEO4J_MULTI_STATEMENT = "neo4j.multi.statement";
+  public static final String NEO4J_STREAMING = "neo4j.streaming.enabled";
+  public static final String NEO4J_STREAMING_BATCH_SIZE = "neo4j.streaming.batch.size";
+  public static final String NEO4J_GRAPH_NODE_LIMIT = "neo4j.graph.node.limit";
 
   public Neo4jCypherInterpreter(Properties properties) {
     super(properties);
     boolean isMultiStatementEnabled = isMultiStatementEnabled(properties);
     this.isMultiStatementEnabled = isMultiStatementEnabled;
+    this.isStreamingEnabled = Boolean.parseBoolean(
+            properties.getProperty(NEO4J_STREAMING, "false"));
+    this.streamingBatchSize = Integer.parseInt(
+            properties.getProperty(NEO4J_STREAMING_BATCH_SIZE, "1000"));
+    this.graphNodeLimit = Integer.parseInt(properties.getProperty(NEO4J_GRAPH_NODE_LIMIT, "0"));
     this.neo4jConnectionManager = new Neo4jConnectionManager(properties);
   }
 
@@ -157,36 +176,24 @@ public class Neo4jCypherInterpreter extends Interpreter {
     if (StringUtils.isBlank(cypherQuery)) {
       return new InterpreterResult(Code.SUCCESS);
     }
+    if (isStreamingEnabled) {
+      return streamQuery(cypherQuery, interpreterContext);
+    }
     try {
       Iterator<Record> result = this.neo4jConnectionManager.execute(cypherQuery,
               interpreterContext).iterator();
-      Set<Node> nodes = new HashSet<>();
-      Set<Relationship> relationships = new HashSet<>();
+      LongObjectHashMap<Node> nodes = new LongObjectHashMap<>();
+      LongObjectHashMap<Relationship> relationships = new LongObjectHashMap<>();
       List<String> columns = new ArrayList<>();
       List<List<String>> lines = new ArrayList<List<String>>();
       while (result.hasNext()) {
-        Record record = result.next();
-        List<Pair<String, Value>> fields = record.fields();
-        List<String> line = new ArrayList<>();
-        for (Pair<String, Value> field : fields) {
-          if (field.value().hasType(InternalTypeSystem.TYPE_SYSTEM.NODE())) {
-            nodes.add(field.value().asNode());
-          } else if (field.value().hasType(InternalTypeSystem.TYPE_SYSTEM.RELATIONSHIP())) {
-            relationships.add(field.value().asRelationship());
-          } else if (field.value().hasType(InternalTypeSystem.TYPE_SYSTEM.PATH())) {
-            nodes.addAll(Iterables.asList(field.value().asPath().nodes()));
-            relationships.addAll(Iterables.asList(field.value().asPath().relationships()));
-          } else {
-            setTabularResult(field.key(), field.value(), columns, line,
-                    InternalTypeSystem.TYPE_SYSTEM);
-          }
-        }
+        List<String> line = readRecord(result.next(), columns, nodes, relationships);
         if (!line.isEmpty()) {
           lines.add(line);
         }
       }
       if (!nodes.isEmpty()) {
-        return renderGraph(nodes, relationships);
+        return renderGraph(nodes.values(), relationships.values());
       } else {
         return renderTable(columns, lines);
       }
@@ -196,6 +203,139 @@ public class Neo4jCypherInterpreter extends Interpreter {
     }
   }
 
+  /**
+   * Streaming version of {@link #runQuery}: table rows are written to the interpreter output
+   * every streamingBatchSize records, and the graph is built while the records arrive.
+   * The columns of the table are fixed by the first batch of records.
+   */
+  private InterpreterResult streamQuery(String cypherQuery,
+                                        InterpreterContext interpreterContext) {
+    String paragraphId = interpreterContext.getParagraphId();
+    cancelledParagraphs.remove(paragraphId);
+    try {
+      return this.neo4jConnectionManager.execute(cypherQuery, interpreterContext,
+              streamingBatchSize, result -> streamResult(result, interpreterContext));
+    } catch (Exception e) {
+      LOGGER.error("Exception while interpreting cypher query", e);
+      return new InterpreterResult(Code.ERROR, e.getMessage());
+    } finally {
+      cancelledParagraphs.remove(paragraphId);
+    }
+  }
+
+  private InterpreterResult streamResult(Result result, InterpreterContext interpreterContext) {
+    String paragraphId = interpreterContext.getParagraphId();
+    LongObjectHashMap<Node> nodes = new LongObjectHashMap<>();
+    LongObjectHashMap<Relationship> relationships = new LongObjectHashMap<>();
+    List<String> columns = new ArrayList<>();
+    List<List<String>> lines = new ArrayList<>();
+    int tableColumns = -1;
+    boolean nodeLimitReached = false;
+    try {
+      while (result.hasNext()) {
+        if (paragraphId != null && cancelledParagraphs.contains(paragraphId)) {
+          result.consume();
+          return new InterpreterResult(Code.INCOMPLETE, "Query is cancelled");
+        }
+        List<String> line = readRecord(result.next(), columns, nodes, relationships);
+        // like runQuery, tabular values are not displayed once the result is a graph
+        if (!line.isEmpty() && (nodes.isEmpty() || tableColumns >= 0)) {
+          lines.add(line);
+        }
+        if (graphNodeLimit > 0 && nodes.size() >= graphNodeLimit) {
+          // discard the remaining records on the server instead of transferring them
+          result.consume();
+          nodeLimitReached = true;
+          break;
+        }
+        if (nodes.isEmpty() && lines.size() >= streamingBatchSize) {
+          tableColumns = writeRows(columns, lines, tableColumns, interpreterContext);
+        }
+      }
+      if (nodes.isEmpty() || tableColumns >= 0) {
+        writeRows(columns, lines, tableColumns, interpreterContext);
+      }
+      if (nodes.isEmpty()) {
+        return new InterpreterResult(Code.SUCCESS);
+      }
+      if (nodeLimitReached) {
+        interpreterContext.out.write((tableColumns >= 0 ? NEW_LINE : "")
+                + "%text Graph is limited to " + graphNodeLimit
+                + " nodes, see " + NEO4J_GRAPH_NODE_LIMIT + NEW_LINE);
+      }
+    } catch (IOException e) {
+      LOGGER.error("Fail to write output", e);
+      return new InterpreterResult(Code.ERROR, e.getMessage());
+    }
+    return renderGraph(nodes.values(), relationships.values());
+  }
+
+  /**
+   * Write the buffered lines as table rows and clear them, the header is written by the first
+   * call.
+   *
+   * @return the number of columns of the table
+   */
+  private int writeRows(List<String> columns, List<List<String>> lines, int tableColumns,
+                        InterpreterContext interpreterContext) throws IOException {
+    if (columns.isEmpty()) {
+      lines.clear();
+      return tableColumns;
+    }
+    if (tableColumns < 0) {
+      tableColumns = columns.size();
+      interpreterContext.out.write(TABLE + NEW_LINE + StringUtils.join(columns, TAB) + NEW_LINE);
+    }
+    StringBuilder rows = new StringBuilder();
+    for (List<String> line : lines) {
+      for (int i = 0; i < tableColumns; i++) {
+        if (i > 0) {
+          rows.append(TAB);
+        }
+        rows.append(i < line.size() ? line.get(i) : null);
+      }
+      rows.append(NEW_LINE);
+    }
+    lines.clear();
+    interpreterContext.out.write(rows.toString());
+    interpreterContext.out.flush();
+    return tableColumns;
+  }
+
+  private List<String> readRecord(Record record, List<String> columns,
+                                  LongObjectHashMap<Node> nodes,
+                                  LongObjectHashMap<Relationship> relationships) {
+    List<Pair<String, Value>> fields = record.fields();
+    List<String> line = new ArrayList<>();
+    for (Pair<String, Value> field : fields) {
+      if (field.value().hasType(InternalTypeSystem.TYPE_SYSTEM.NODE())) {
+        addNode(nodes, field.value().asNode());
+      } else if (field.value().hasType(InternalTypeSystem.TYPE_SYSTEM.RELATIONSHIP())) {
+        addRelationship(relationships, field.value().asRelationship());
+      } else if (field.value().hasType(InternalTypeSystem.TYPE_SYSTEM.PATH())) {
+        for (Node node : field.value().asPath().nodes()) {
+          addNode(nodes, node);
+        }
+        for (Relationship relationship : field.value().asPath().relationships()) {
+          addRelationship(relationships, relationship);
+        }
+      } else {
+        setTabularResult(field.key(), field.value(), columns, line,
+                InternalTypeSystem.TYPE_SYSTEM);
+      }
+    }
+    return line;
+  }
+
+  private void addNode(LongObjectHashMap<Node> nodes, Node node) {
+    nodes.putIfAbsent(node.id(), node);
+  }
+
+  private void addRelationship(LongObjectHashMap<Relationship> relationships,
+                               Relationship relationship) {
+    relationships.putIfAbsent(relationship.id(), relationship);
+  }
+
   private void setTabularResult(String key, Object obj, List<String> columns, List<String> line,
                                 TypeSystem typeSystem) {
     if (obj instanceof Value) {
@@ -268,8 +408,8 @@ public class Neo4jCypherInterpreter extends Interpreter {
     return new InterpreterResult(Code.SUCCESS, msg.toString());
   }
 
-  private InterpreterResult renderGraph(Set<Node> nodes,
-      Set<Relationship> relationships) {
+  private InterpreterResult renderGraph(Collection<Node> nodes,
+      Collection<Relationship> relationships) {
     LOGGER.info("Executing renderGraph method");
     List<org.apache.zeppelin.tabledata.Node> nodesList = new ArrayList<>();
     List<org.apache.zeppelin.tabledata.Relationship> relsList = new ArrayList<>();
@@ -303,5 +443,8 @@ public class Neo4jCypherInterpreter extends Interpreter {
 
   @Override
   public void cancel(InterpreterContext context) {
+    if (isStreamingEnabled && context.getParagraphId() != null) {
+      cancelledParagraphs.add(context.getParagraphId());
+    }
   }
 }
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.graph.neo4j.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Open addressing hash map with primitive long keys, used to deduplicate nodes and
+ * relationships by their id without boxing every id. Insertion order of the values is kept.
+ * Not thread safe.
+ */
+public class LongObjectHashMap<V> {
+
+  private static final int DEFAULT_CAPACITY = 64;
+  private static final float LOAD_FACTOR = 0.5f;
+
+  private long[] keys;
+  private int[] slots;
+  private final List<V> values = new ArrayList<>();
+
+  public LongObjectHashMap() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public LongObjectHashMap(int expectedSize) {
+    int capacity = Integer.highestOneBit(Math.max(DEFAULT_CAPACITY,
+        (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+    keys = new long[capacity];
+    slots = new int[capacity];
+  }
+
+  /**
+   * Put the value if the key is absent.
+   *
+   * @return true if the value was added, false if the key was already present
+   */
+  public boolean putIfAbsent(long key, V value) {
+    int mask = keys.length - 1;
+    int index = hash(key) & mask;
+    while (slots[index] != 0) {
+      if (keys[index] == key) {
+        return false;
+      }
+      index = (index + 1) & mask;
+    }
+    keys[index] = key;
+    values.add(value);
+    // slots store the 1-based position in values, 0 marks an empty slot
+    slots[index] = values.size();
+    if (values.size() > keys.length * LOAD_FACTOR) {
+      rehash(keys.length << 1);
+    }
+    return true;
+  }
+
+  public boolean containsKey(long key) {
+    return get(key) != null;
+  }
+
+  public V get(long key) {
+    int mask = keys.length - 1;
+    int index = hash(key) & mask;
+    while (slots[index] != 0) {
+      if (keys[index] == key) {
+        return values.get(slots[index] - 1);
+      }
+      index = (index + 1) & mask;
+    }
+    return null;
+  }
+
+  public int size() {
+    return values.size();
+  }
+
+  public boolean isEmpty() {
+    return values.isEmpty();
+  }
+
+  /**
+   * @return the values in insertion order
+   */
+  public List<V> values() {
+    return values;
+  }
+
+  private void rehash(int capacity) {
+    long[] oldKeys = keys;
+    int[] oldSlots = slots;
+    keys = new long[capacity];
+    slots = new int[capacity];
+    int mask = capacity - 1;
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldSlots[i] != 0) {
+        int index = hash(oldKeys[i]) & mask;
+        while (slots[index] != 0) {
+          index = (index + 1) & mask;
+        }
+        keys[index] = oldKeys[i];
+        slots[index] = oldSlots[i];
+      }
+    }
+  }
+
+  private static int hash(long key) {
+    long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+}
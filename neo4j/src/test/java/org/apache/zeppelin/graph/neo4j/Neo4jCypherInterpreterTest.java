@@ -39,6 +39,7 @@ import org.testcontainers.containers.Neo4jContainer;
 import org.testcontainers.shaded.com.fasterxml.jackson.core.JsonProcessingException;
 import org.testcontainers.shaded.com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -356,6 +357,44 @@ public class Neo4jCypherInterpreterTest {
             result.toString().replace(TABLE_RESULT_PREFIX, StringUtils.EMPTY));
   }
 
+  @Test
+  public void testStreaming() throws IOException {
+    Properties p = new Properties();
+    p.setProperty(Neo4jConnectionManager.NEO4J_SERVER_URL, neo4jContainer.getBoltUrl());
+    p.setProperty(Neo4jConnectionManager.NEO4J_AUTH_TYPE, Neo4jAuthType.NONE.toString());
+    p.setProperty(Neo4jConnectionManager.NEO4J_MAX_CONCURRENCY, "50");
+    p.setProperty(Neo4jCypherInterpreter.NEO4J_MULTI_STATEMENT, "false");
+    p.setProperty(Neo4jCypherInterpreter.NEO4J_STREAMING, "true");
+    p.setProperty(Neo4jCypherInterpreter.NEO4J_STREAMING_BATCH_SIZE, "10");
+    p.setProperty(Neo4jCypherInterpreter.NEO4J_GRAPH_NODE_LIMIT, "5");
+    Neo4jCypherInterpreter streamingInterpreter = new Neo4jCypherInterpreter(p);
+    streamingInterpreter.open();
+    try {
+      context = InterpreterContext.builder()
+              .setInterpreterOut(new InterpreterOutput(null))
+              .build();
+      InterpreterResult result = streamingInterpreter.interpret(
+              "UNWIND range(1, 25) AS x RETURN x AS val", context);
+      assertEquals(Code.SUCCESS, result.code());
+      String table = context.out.toInterpreterResultMessage().get(0).getData();
+      String[] rows = table.split(Neo4jCypherInterpreter.NEW_LINE);
+      assertEquals(26, rows.length);
+      assertEquals("val", rows[0]);
+      assertEquals("25", rows[25]);
+
+      context = InterpreterContext.builder()
+              .setInterpreterOut(new InterpreterOutput(null))
+              .build();
+      result = streamingInterpreter.interpret("MATCH (n:Person) RETURN n", context);
+      assertEquals(Code.SUCCESS, result.code());
+      GraphResult.Graph graph = gson.fromJson(result.toString().replace(NETWORK_RESULT_PREFIX,
+              StringUtils.EMPTY), GraphResult.Graph.class);
+      assertEquals(5, graph.getNodes().size());
+    } finally {
+      streamingInterpreter.close();
+    }
+  }
+
   @Test
   public void testNodeDataTypes() throws JsonProcessingException {
     InterpreterResult result = interpreter.interpret(
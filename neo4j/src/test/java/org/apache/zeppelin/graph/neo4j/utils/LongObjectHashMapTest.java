@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.graph.neo4j.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class LongObjectHashMapTest {
+
+  @Test
+  public void testPutIfAbsent() {
+    LongObjectHashMap<String> map = new LongObjectHashMap<>();
+    assertTrue(map.isEmpty());
+    for (long i = 0; i < 1000; i++) {
+      assertTrue(map.putIfAbsent(i * 31, "v" + i));
+    }
+    assertFalse(map.putIfAbsent(31, "other"));
+    assertEquals(1000, map.size());
+    assertEquals("v1", map.get(31));
+    assertEquals("v999", map.get(999 * 31));
+    assertNull(map.get(1));
+    assertFalse(map.containsKey(-1));
+    assertTrue(map.putIfAbsent(-1, "negative"));
+    assertTrue(map.containsKey(-1));
+    // values keep the insertion order
+    assertEquals("v0", map.values().get(0));
+    assertEquals("negative", map.values().get(1000));
+  }
+}
@@ -37,6 +37,7 @@ import org.apache.zeppelin.interpreter.remote.RemoteInterpreterUtils;
 import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
 import org.apache.zeppelin.interpreter.util.InterpreterOutputStream;
 import org.apache.zeppelin.interpreter.util.ProcessLauncher;
+import org.apache.zeppelin.interpreter.util.RequestChannel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import py4j.GatewayServer;
@@ -48,6 +49,10 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Interpreter for Python, it is the first implementation of interpreter for Python, so with less
@@ -57,6 +62,8 @@ import java.util.Properties;
 public class PythonInterpreter extends Interpreter {
   private static final Logger LOGGER = LoggerFactory.getLogger(PythonInterpreter.class);
   private static final int MAX_TIMEOUT_SEC = 30;
+  private static final String PROCESS_EXITED_MESSAGE =
+      "Python process is abnormally exited, please check your code and log.";
 
   private GatewayServer gatewayServer;
   protected PythonProcessLauncher pythonProcessLauncher;
@@ -71,6 +78,9 @@ public class PythonInterpreter extends Interpreter {
   // set by PythonCondaInterpreter
   private String condaPythonExec;
   private boolean usePy4jAuth = false;
+  // requests to the python process, a new one for each process
+  private volatile RequestChannel<PythonInterpretRequest, PythonInterpretResponse> requestChannel =
+      new RequestChannel<>();
 
   public PythonInterpreter(Properties property) {
     super(property);
@@ -147,7 +157,8 @@ public class PythonInterpreter extends Interpreter {
     LOGGER.info("Launching Python Process Command: " + cmd.getExecutable() +
         " " + StringUtils.join(cmd.getArguments(), " "));
 
-    pythonProcessLauncher = new PythonProcessLauncher(cmd, env);
+    requestChannel = new RequestChannel<>();
+    pythonProcessLauncher = new PythonProcessLauncher(cmd, env, requestChannel);
     pythonProcessLauncher.launch();
     pythonProcessLauncher.waitForReady(MAX_TIMEOUT_SEC * 1000);
 
@@ -248,22 +259,12 @@ public class PythonInterpreter extends Interpreter {
         pythonProcessLauncher.stop();
       }
     }
+    requestChannel.close("PythonInterpreter is closed");
     if (gatewayServer != null) {
       gatewayServer.shutdown();
     }
-
-    // reset these 2 monitors otherwise when you restart PythonInterpreter it would fails to execute
-    // python code as these 2 objects are in incorrect state.
-    statementSetNotifier = new Integer(0);
-    statementFinishedNotifier = new Integer(0);
   }
 
-  private PythonInterpretRequest pythonInterpretRequest = null;
-  private Integer statementSetNotifier = new Integer(0);
-  private Integer statementFinishedNotifier = new Integer(0);
-  private String statementOutput = null;
-  private boolean statementError = false;
-
   public void setPythonExec(String pythonExec) {
     LOGGER.info("Set Python Command : {}", pythonExec);
     this.condaPythonExec = pythonExec;
@@ -276,6 +277,8 @@ public class PythonInterpreter extends Interpreter {
     public String statements;
     public boolean isForCompletion;
     public boolean isCallHooks;
+    // correlation id, set when the python process takes the request
+    private long id;
 
     public PythonInterpretRequest(String statements, boolean isForCompletion) {
       this(statements, isForCompletion, true);
@@ -298,31 +301,49 @@ public class PythonInterpreter extends Interpreter {
     public boolean isCallHooks() {
       return isCallHooks;
     }
+
+    public long id() {
+      return id;
+    }
   }
 
-  // called by Python Process
-  public PythonInterpretRequest getStatements() {
-    synchronized (statementSetNotifier) {
-      while (pythonInterpretRequest == null) {
-        try {
-          statementSetNotifier.wait(1000);
-        } catch (InterruptedException e) {
-          e.printStackTrace();
-        }
-      }
-      PythonInterpretRequest req = pythonInterpretRequest;
-      pythonInterpretRequest = null;
-      return req;
+  /**
+   * Response of Python Daemon.
+   */
+  public static class PythonInterpretResponse {
+    private final String output;
+    private final boolean error;
+
+    public PythonInterpretResponse(String output, boolean error) {
+      this.output = output;
+      this.error = error;
+    }
+
+    public String getOutput() {
+      return output;
+    }
+
+    public boolean isError() {
+      return error;
+    }
+  }
+
+  // called by Python Process, null when the interpreter is closed
+  public PythonInterpretRequest getStatements() throws InterruptedException {
+    RequestChannel.Request<PythonInterpretRequest> request = requestChannel.take();
+    if (request == null) {
+      return null;
     }
+    PythonInterpretRequest req = request.getPayload();
+    req.id = request.getId();
+    return req;
   }
 
   // called by Python Process
-  public void setStatementsFinished(String out, boolean error) {
-    synchronized (statementFinishedNotifier) {
-      LOGGER.debug("Setting python statement output: " + out + ", error: " + error);
-      statementOutput = out;
-      statementError = error;
-      statementFinishedNotifier.notify();
+  public void setStatementsFinished(long id, String out, boolean error) {
+    LOGGER.debug("Setting python statement output: " + out + ", error: " + error);
+    if (!requestChannel.complete(id, new PythonInterpretResponse(out, error))) {
+      LOGGER.debug("Drop the output of python request {}, nobody waits for it", id);
     }
   }
 
@@ -347,21 +368,18 @@ public class PythonInterpreter extends Interpreter {
   }
 
   // blocking call. Send python code to python process and get response
-  protected void callPython(PythonInterpretRequest request) {
-    synchronized (statementSetNotifier) {
-      this.pythonInterpretRequest = request;
-      statementOutput = null;
-      statementSetNotifier.notify();
-    }
-
-    synchronized (statementFinishedNotifier) {
-      while (statementOutput == null && pythonProcessLauncher.isRunning()) {
-        try {
-          statementFinishedNotifier.wait(1000);
-        } catch (InterruptedException e) {
-          // ignore this exception
-        }
-      }
+  protected PythonInterpretResponse callPython(PythonInterpretRequest request) {
+    CompletableFuture<PythonInterpretResponse> response = requestChannel.send(request);
+    try {
+      return response.get();
+    } catch (ExecutionException e) {
+      // the python process is exited
+      return new PythonInterpretResponse(e.getCause().getMessage(), true);
+    } catch (InterruptedException e) {
+      // its output is dropped when the python process is done with it
+      response.cancel(false);
+      Thread.currentThread().interrupt();
+      return new PythonInterpretResponse("Interrupted while waiting for python process", true);
     }
   }
 
@@ -380,10 +398,10 @@ public class PythonInterpreter extends Interpreter {
     InterpreterContext.set(context);
 
     preCallPython(context);
-    callPython(new PythonInterpretRequest(st, false));
+    PythonInterpretResponse response = callPython(new PythonInterpretRequest(st, false));
 
-    if (statementError) {
-      return new InterpreterResult(Code.ERROR, statementOutput);
+    if (response.isError()) {
+      return new InterpreterResult(Code.ERROR, response.getOutput());
     } else {
       try {
         context.out.flush();
@@ -393,8 +411,7 @@ public class PythonInterpreter extends Interpreter {
       if (pythonProcessLauncher.isRunning()) {
         return new InterpreterResult(Code.SUCCESS);
       } else {
-        return new InterpreterResult(Code.ERROR,
-                "Python process is abnormally exited, please check your code and log.");
+        return new InterpreterResult(Code.ERROR, PROCESS_EXITED_MESSAGE);
       }
     }
   }
@@ -450,35 +467,26 @@ public class PythonInterpreter extends Interpreter {
     String completionCommand = "__zeppelin_completion__.getCompletion('" + completionString + "')";
     LOGGER.debug("completionCommand: " + completionCommand);
 
-    pythonInterpretRequest = new PythonInterpretRequest(completionCommand, true);
-    statementOutput = null;
-
-    synchronized (statementSetNotifier) {
-      statementSetNotifier.notify();
-    }
-
+    // queued after the running statement if any, its response is matched by id
+    CompletableFuture<PythonInterpretResponse> response =
+        requestChannel.send(new PythonInterpretRequest(completionCommand, true));
     String[] completionList = null;
-    synchronized (statementFinishedNotifier) {
-      long startTime = System.currentTimeMillis();
-      while (statementOutput == null
-          && pythonProcessLauncher.isRunning()) {
-        try {
-          if (System.currentTimeMillis() - startTime > MAX_TIMEOUT_SEC * 1000) {
-            LOGGER.error("Python completion didn't have response for {}sec.", MAX_TIMEOUT_SEC);
-            break;
-          }
-          statementFinishedNotifier.wait(1000);
-        } catch (InterruptedException e) {
-          // not working
-          LOGGER.info("wait drop");
-          return new LinkedList<>();
-        }
-      }
-      if (statementError) {
+    try {
+      PythonInterpretResponse completionResponse = response.get(MAX_TIMEOUT_SEC, TimeUnit.SECONDS);
+      if (completionResponse.isError()) {
         return new LinkedList<>();
       }
       Gson gson = new Gson();
-      completionList = gson.fromJson(statementOutput, String[].class);
+      completionList = gson.fromJson(completionResponse.getOutput(), String[].class);
+    } catch (TimeoutException e) {
+      LOGGER.error("Python completion didn't have response for {}sec.", MAX_TIMEOUT_SEC);
+      response.cancel(false);
+    } catch (InterruptedException e) {
+      response.cancel(false);
+      Thread.currentThread().interrupt();
+      return new LinkedList<>();
+    } catch (ExecutionException e) {
+      return new LinkedList<>();
     }
     //end code for completion
     if (completionList == null) {
@@ -572,8 +580,12 @@ public class PythonInterpreter extends Interpreter {
 
   public class PythonProcessLauncher extends ProcessLauncher {
 
-    PythonProcessLauncher(CommandLine commandLine, Map<String, String> envs) {
+    private final RequestChannel<?, ?> requestChannel;
+
+    PythonProcessLauncher(CommandLine commandLine, Map<String, String> envs,
+                          RequestChannel<?, ?> requestChannel) {
       super(commandLine, envs);
+      this.requestChannel = requestChannel;
     }
 
     @Override
@@ -605,17 +617,13 @@ public class PythonInterpreter extends Interpreter {
     @Override
     public void onProcessFailed(ExecuteException e) {
       super.onProcessFailed(e);
-      synchronized (statementFinishedNotifier) {
-        statementFinishedNotifier.notify();
-      }
+      requestChannel.close(PROCESS_EXITED_MESSAGE);
     }
 
     @Override
     public void onProcessComplete(int exitValue) {
       super.onProcessComplete(exitValue);
-      synchronized (statementFinishedNotifier) {
-        statementFinishedNotifier.notify();
-      }
+      requestChannel.close(PROCESS_EXITED_MESSAGE);
     }
   }
 }
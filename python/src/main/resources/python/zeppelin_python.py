@@ -40,6 +40,8 @@ class PythonCompletion:
   def __init__(self, interpreter, userNameSpace):
     self.interpreter = interpreter
     self.userNameSpace = userNameSpace
+    # id of the completion request being run
+    self.reqId = None
 
   def getObjectCompletion(self, text_value):
     completions = [completion for completion in list(self.userNameSpace.keys()) if completion.startswith(text_value)]
@@ -72,10 +74,10 @@ class PythonCompletion:
       completionList = self.getMethodCompletion(objName, methodName)
 
     if completionList is None or len(completionList) <= 0:
-      self.interpreter.setStatementsFinished("", False)
+      self.interpreter.setStatementsFinished(self.reqId, "", False)
     else:
       result = json.dumps(list(filter(lambda x : not re.match("^__.*", x), list(completionList))))
-      self.interpreter.setStatementsFinished(result, False)
+      self.interpreter.setStatementsFinished(self.reqId, result, False)
 
 host = sys.argv[1]
 port = int(sys.argv[2])
@@ -110,6 +112,11 @@ sys.stderr = output
 
 while True :
   req = intp.getStatements()
+  if req is None:
+    # the interpreter is closed
+    break
+  reqId = req.id()
+  completion.reqId = reqId
   try:
     stmts = req.statements().split("\n")
     isForCompletion = req.isForCompletion()
@@ -165,7 +172,7 @@ while True :
         if not isForCompletion:
           # only call it when it is not for code completion. code completion will call it in
           # PythonCompletion.getCompletion
-          intp.setStatementsFinished("", False)
+          intp.setStatementsFinished(reqId, "", False)
       except Py4JJavaError:
         # raise it to outside try except
         raise
@@ -179,20 +186,20 @@ while True :
           m = re.search("File \"<stdin>\", line (\d+).*", exception)
           if m:
             line_no = int(m.group(1))
-            intp.setStatementsFinished(
+            intp.setStatementsFinished(reqId,
               "Fail to execute line {}: {}\n".format(line_no, stmts[line_no - 1]) + exception, True)
           else:
-            intp.setStatementsFinished(exception, True)
+            intp.setStatementsFinished(reqId, exception, True)
     else:
-      intp.setStatementsFinished("", False)
+      intp.setStatementsFinished(reqId, "", False)
 
   except Py4JJavaError:
     excInnerError = traceback.format_exc() # format_tb() does not return the inner exception
     innerErrorStart = excInnerError.find("Py4JJavaError:")
     if innerErrorStart > -1:
       excInnerError = excInnerError[innerErrorStart:]
-    intp.setStatementsFinished(excInnerError + str(sys.exc_info()), True)
+    intp.setStatementsFinished(reqId, excInnerError + str(sys.exc_info()), True)
   except:
-    intp.setStatementsFinished(traceback.format_exc(), True)
+    intp.setStatementsFinished(reqId, traceback.format_exc(), True)
 
   output.reset()
@@ -17,12 +17,14 @@
 package org.apache.zeppelin.r;
 
 import org.apache.commons.exec.CommandLine;
+import org.apache.commons.exec.ExecuteException;
 import org.apache.commons.exec.environment.EnvironmentUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.zeppelin.r.SparkRBackend;
 import org.apache.zeppelin.interpreter.InterpreterException;
 import org.apache.zeppelin.interpreter.InterpreterOutput;
 import org.apache.zeppelin.interpreter.util.ProcessLauncher;
+import org.apache.zeppelin.interpreter.util.RequestChannel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,6 +35,8 @@ import java.io.InputStream;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 /**
  * R repl interaction
@@ -46,17 +50,9 @@ public class ZeppelinR {
   private RProcessLauncher rProcessLauncher;
 
   /**
-   * Request to R repl
+   * Requests to R repl, a new channel for each R process
    */
-  private Request rRequestObject = null;
-  private Integer rRequestNotifier = new Integer(0);
-
-  /**
-   * Response from R repl
-   */
-  private Object rResponseValue = null;
-  private boolean rResponseError = false;
-  private Integer rResponseNotifier = new Integer(0);
+  private volatile RequestChannel<Request, Response> requestChannel = new RequestChannel<>();
 
   public ZeppelinR(RInterpreter rInterpreter) {
     this.rInterpreter = rInterpreter;
@@ -131,7 +127,8 @@ public class ZeppelinR {
     LOGGER.info("R Command: " + cmd.toString());
     processOutputStream = new RProcessLogOutputStream(rInterpreter);
     Map env = EnvironmentUtils.getProcEnvironment();
-    rProcessLauncher = new RProcessLauncher(cmd, env, processOutputStream);
+    requestChannel = new RequestChannel<>();
+    rProcessLauncher = new RProcessLauncher(cmd, env, processOutputStream, requestChannel);
     rProcessLauncher.launch();
     rProcessLauncher.waitForReady(30 * 1000);
 
@@ -164,6 +161,8 @@ public class ZeppelinR {
     String type;
     String stmt;
     Object value;
+    // correlation id, set when the R repl takes the request. A string, as R has no long
+    String id;
 
     public Request(String type, String stmt, Object value) {
       this.type = type;
@@ -182,6 +181,23 @@ public class ZeppelinR {
     public Object getValue() {
       return value;
     }
+
+    public String getId() {
+      return id;
+    }
+  }
+
+  /**
+   * Response of R repl
+   */
+  private static class Response {
+    private final Object value;
+    private final boolean error;
+
+    Response(Object value, boolean error) {
+      this.value = value;
+      this.error = error;
+    }
   }
 
   /**
@@ -190,10 +206,7 @@ public class ZeppelinR {
    * @return
    */
   public Object eval(String expr) throws InterpreterException {
-    synchronized (this) {
-      rRequestObject = new Request("eval", expr, null);
-      return request();
-    }
+    return request(new Request("eval", expr, null));
   }
 
   /**
@@ -202,10 +215,7 @@ public class ZeppelinR {
    * @param value
    */
   public void set(String key, Object value) throws InterpreterException {
-    synchronized (this) {
-      rRequestObject = new Request("set", key, value);
-      request();
-    }
+    request(new Request("set", key, value));
   }
 
   /**
@@ -214,10 +224,7 @@ public class ZeppelinR {
    * @return
    */
   public Object get(String key) throws InterpreterException {
-    synchronized (this) {
-      rRequestObject = new Request("get", key, null);
-      return request();
-    }
+    return request(new Request("get", key, null));
   }
 
   /**
@@ -226,10 +233,7 @@ public class ZeppelinR {
    * @return
    */
   public String getS0(String key) throws InterpreterException {
-    synchronized (this) {
-      rRequestObject = new Request("getS", key, null);
-      return (String) request();
-    }
+    return (String) request(new Request("getS", key, null));
   }
 
   private boolean isRProcessInitialized() {
@@ -240,66 +244,55 @@ public class ZeppelinR {
    * Send request to r repl and return response
    * @return responseValue
    */
-  private Object request() throws RuntimeException {
+  private Object request(Request request) throws RuntimeException {
     if (!isRProcessInitialized()) {
       throw new RuntimeException("r repl is not running");
     }
 
-    rResponseValue = null;
-    synchronized (rRequestNotifier) {
-      rRequestNotifier.notify();
-    }
-
-    Object respValue = null;
-    synchronized (rResponseNotifier) {
-      while (rResponseValue == null && isRProcessInitialized()) {
-        try {
-          rResponseNotifier.wait(1000);
-        } catch (InterruptedException e) {
-          LOGGER.error(e.getMessage(), e);
-        }
-      }
-      respValue = rResponseValue;
-      rResponseValue = null;
+    CompletableFuture<Response> future = requestChannel.send(request);
+    Response response;
+    try {
+      response = future.get();
+    } catch (ExecutionException e) {
+      // the r process is exited
+      throw new RuntimeException(e.getCause().getMessage());
+    } catch (InterruptedException e) {
+      // its response is dropped when the r repl is done with it
+      future.cancel(false);
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for r repl", e);
     }
 
-    if (rResponseError) {
-      throw new RuntimeException(respValue.toString());
+    if (response.error) {
+      throw new RuntimeException(String.valueOf(response.value));
     } else {
-      return respValue;
+      return response.value;
     }
   }
 
   /**
    * invoked by src/main/resources/R/zeppelin_sparkr.R
-   * @return
+   * @return next request, null when this R repl is closed
    */
-  public Request getRequest() {
-    synchronized (rRequestNotifier) {
-      while (rRequestObject == null) {
-        try {
-          rRequestNotifier.wait(1000);
-        } catch (InterruptedException e) {
-          LOGGER.error(e.getMessage(), e);
-        }
-      }
-
-      Request req = rRequestObject;
-      rRequestObject = null;
-      return req;
+  public Request getRequest() throws InterruptedException {
+    RequestChannel.Request<Request> request = requestChannel.take();
+    if (request == null) {
+      return null;
     }
+    Request req = request.getPayload();
+    req.id = Long.toString(request.getId());
+    return req;
   }
 
   /**
    * invoked by src/main/resources/R/zeppelin_sparkr.R
+   * @param id id of the request
    * @param value
    * @param error
    */
-  public void setResponse(Object value, boolean error) {
-    synchronized (rResponseNotifier) {
-      rResponseValue = value;
-      rResponseError = error;
-      rResponseNotifier.notify();
+  public void setResponse(String id, Object value, boolean error) {
+    if (!requestChannel.complete(Long.parseLong(id), new Response(value, error))) {
+      LOGGER.debug("Drop the response of r request {}, nobody waits for it", id);
     }
   }
 
@@ -317,6 +310,7 @@ public class ZeppelinR {
     if (rProcessLauncher != null) {
       rProcessLauncher.stop();
     }
+    requestChannel.close("r repl is closed");
     zeppelinR.remove(hashCode());
   }
 
@@ -332,10 +326,26 @@ public class ZeppelinR {
 
   class RProcessLauncher extends ProcessLauncher {
 
+    private final RequestChannel<?, ?> requestChannel;
+
     public RProcessLauncher(CommandLine commandLine,
                            Map<String, String> envs,
-                           ProcessLogOutputStream processLogOutput) {
+                           ProcessLogOutputStream processLogOutput,
+                           RequestChannel<?, ?> requestChannel) {
       super(commandLine, envs, processLogOutput);
+      this.requestChannel = requestChannel;
+    }
+
+    @Override
+    public void onProcessFailed(ExecuteException e) {
+      super.onProcessFailed(e);
+      requestChannel.close("r repl is exited");
+    }
+
+    @Override
+    public void onProcessComplete(int exitValue) {
+      super.onProcessComplete(exitValue);
+      requestChannel.close("r repl is exited");
     }
 
     @Override
@@ -31,6 +31,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
 
 import org.apache.zeppelin.interpreter.InterpreterContext;
 import org.apache.zeppelin.interpreter.InterpreterException;
@@ -39,6 +40,7 @@ import org.apache.zeppelin.interpreter.InterpreterResult.Code;
 import org.apache.zeppelin.interpreter.KerberosInterpreter;
 import org.apache.zeppelin.scheduler.Scheduler;
 import org.apache.zeppelin.scheduler.SchedulerFactory;
+import org.apache.zeppelin.shell.terminal.ShellSession;
 
 /**
  * Shell interpreter for Zeppelin.
@@ -49,10 +51,13 @@ public class ShellInterpreter extends KerberosInterpreter {
   private static final String TIMEOUT_PROPERTY = "shell.command.timeout.millisecs";
   private static final String DEFAULT_TIMEOUT = "60000";
   private static final String DIRECTORY_USER_HOME = "shell.working.directory.user.home";
+  private static final String PERSISTENT_SESSION = "shell.persistent.session";
 
   private final boolean isWindows = System.getProperty("os.name").startsWith("Windows");
   private final String shell = isWindows ? "cmd /c" : "bash -c";
   ConcurrentHashMap<String, DefaultExecutor> executors;
+  // bash process shared by all the paragraphs of this session in persistent mode
+  volatile ShellSession session;
 
   public ShellInterpreter(Properties property) {
     super(property);
@@ -63,6 +68,14 @@ public class ShellInterpreter extends KerberosInterpreter {
     super.open();
     LOGGER.info("Command timeout property: {}", getProperty(TIMEOUT_PROPERTY));
     executors = new ConcurrentHashMap<>();
+    if (isPersistentSession() && isWindows) {
+      LOGGER.warn("{} is not supported on Windows, every paragraph runs in a new process",
+          PERSISTENT_SESSION);
+    }
+  }
+
+  private boolean isPersistentSession() {
+    return Boolean.parseBoolean(getProperty(PERSISTENT_SESSION, "false")) && !isWindows;
   }
 
   @Override
@@ -78,6 +91,12 @@ public class ShellInterpreter extends KerberosInterpreter {
         }
       }
     }
+    synchronized (this) {
+      if (session != null) {
+        session.close();
+        session = null;
+      }
+    }
   }
 
   @Override
@@ -94,6 +113,9 @@ public class ShellInterpreter extends KerberosInterpreter {
   public InterpreterResult internalInterpret(String cmd,
                                              InterpreterContext context) {
     LOGGER.debug("Run shell command '{}'", cmd);
+    if (isPersistentSession()) {
+      return interpretInSession(cmd, context);
+    }
 
     CommandLine cmdLine = CommandLine.parse(shell);
     // the Windows CMD shell doesn't handle multiline statements,
@@ -144,8 +166,58 @@ public class ShellInterpreter extends KerberosInterpreter {
     }
   }
 
+  private InterpreterResult interpretInSession(String cmd, InterpreterContext context) {
+    long timeout = Long.parseLong(getProperty(TIMEOUT_PROPERTY, DEFAULT_TIMEOUT));
+    try {
+      int exitVal = getOrCreateSession(timeout).execute(cmd, context.out, timeout);
+      LOGGER.info("Paragraph {} return with exit value: {}", context.getParagraphId(), exitVal);
+      if (exitVal == 0) {
+        return new InterpreterResult(Code.SUCCESS);
+      } else if (exitVal == ShellSession.EXIT_VALUE_SIGINT) {
+        return new InterpreterResult(Code.INCOMPLETE,
+            "Paragraph received a SIGINT\nExitValue: " + exitVal);
+      } else {
+        return new InterpreterResult(Code.ERROR, "ExitValue: " + exitVal);
+      }
+    } catch (TimeoutException e) {
+      LOGGER.info("The paragraph {} timed out after {} ms", context.getParagraphId(), timeout);
+      return new InterpreterResult(Code.INCOMPLETE,
+          "Paragraph received a SIGINT after " + timeout + " ms timeout");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return new InterpreterResult(Code.ERROR, e.getMessage());
+    } catch (IOException e) {
+      LOGGER.error("Can not run command: " + cmd, e);
+      return new InterpreterResult(Code.ERROR, e.getMessage());
+    }
+  }
+
+  private synchronized ShellSession getOrCreateSession(long timeout) throws IOException {
+    if (session == null || !session.isAlive()) {
+      if (session != null) {
+        LOGGER.warn("Shell session exited, start a new one");
+        session.close();
+      }
+      String workingDirectory = Boolean.valueOf(getProperty(DIRECTORY_USER_HOME)) ?
+          System.getProperty("user.home") : System.getProperty("user.dir");
+      ShellSession newSession = new ShellSession(workingDirectory);
+      newSession.start(timeout);
+      session = newSession;
+    }
+    return session;
+  }
+
   @Override
   public void cancel(InterpreterContext context) {
+    ShellSession currentSession = session;
+    if (currentSession != null) {
+      try {
+        currentSession.interrupt();
+      } catch (IOException e) {
+        LOGGER.error("error interrupting paragraphId: " + context.getParagraphId(), e);
+      }
+      return;
+    }
     DefaultExecutor executor = executors.remove(context.getParagraphId());
     if (executor != null) {
       try {
@@ -168,6 +240,11 @@ public class ShellInterpreter extends KerberosInterpreter {
 
   @Override
   public Scheduler getScheduler() {
+    if (isPersistentSession()) {
+      // paragraphs run one after another in the shell of the session
+      return SchedulerFactory.singleton().createOrGetFIFOScheduler(
+          ShellInterpreter.class.getName() + this.hashCode());
+    }
     return SchedulerFactory.singleton().createOrGetParallelScheduler(
         ShellInterpreter.class.getName() + this.hashCode(), 10);
   }
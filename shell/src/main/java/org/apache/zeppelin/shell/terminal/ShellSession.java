@@ -0,0 +1,340 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.shell.terminal;
+
+import com.pty4j.PtyProcess;
+import com.pty4j.WinSize;
+import org.apache.commons.io.FileUtils;
+import org.apache.zeppelin.shell.terminal.helper.IOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Long-lived bash process running in a pty, commands run one at a time in the same shell so
+ * that the working directory, variables and functions survive between commands.
+ *
+ * Every command is written to a script which is sourced by the shell, followed by a sentinel
+ * line carrying the command id and its exit value. The output of the pty (stdout and stderr)
+ * is streamed to the output of the running command until its sentinel is read. Commands are
+ * interrupted by sending ctrl-c to the pty, which delivers SIGINT to the foreground job.
+ */
+public class ShellSession {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ShellSession.class);
+
+  public static final int EXIT_VALUE_SIGINT = 130;
+
+  private static final byte CTRL_C = 3;
+
+  private final String workingDirectory;
+  // the marker is split in two quoted strings in the commands, so that the shell echo of
+  // a command never matches it
+  private final String markerHead = "__zeppelin_sh_";
+  private final String markerTail = UUID.randomUUID().toString().replace("-", "") + ":";
+  private final byte[] marker =
+      (markerHead + markerTail).getBytes(StandardCharsets.US_ASCII);
+
+  private PtyProcess process;
+  private OutputStream processInput;
+  private Path scriptDir;
+  private Thread readerThread;
+  private long commandId;
+
+  private final Object lock = new Object();
+  private Command current;
+
+  /**
+   * Command being executed, the reader thread streams output to it until its sentinel.
+   */
+  private static class Command {
+    private final long id;
+    private final OutputStream out;
+    private final CompletableFuture<Integer> exitValue = new CompletableFuture<>();
+
+    Command(long id, OutputStream out) {
+      this.id = id;
+      this.out = out;
+    }
+  }
+
+  public ShellSession(String workingDirectory) {
+    this.workingDirectory = workingDirectory;
+  }
+
+  public synchronized void start(long timeoutMs) throws IOException {
+    IOHelper.initLibPty();
+    scriptDir = Files.createTempDirectory("zeppelin-sh-");
+
+    Map<String, String> envs = new HashMap<>(System.getenv());
+    envs.put("TERM", "dumb");
+    String[] command = {"/bin/bash", "--noediting", "-i"};
+    process = PtyProcess.exec(command, envs, workingDirectory);
+    process.setWinSize(new WinSize(250, 50));
+    processInput = process.getOutputStream();
+
+    readerThread = new Thread(this::readOutput, "ShellSession-reader");
+    readerThread.setDaemon(true);
+    readerThread.start();
+
+    // everything the shell prints before the first sentinel (rc files, prompts, echo)
+    // is discarded
+    Command init = register(null);
+    writeLine("stty -echo -onlcr; PS1=''; PS2=''; PROMPT_COMMAND=''; unset HISTFILE; "
+        + sentinel(init.id));
+    try {
+      init.exitValue.get(timeoutMs, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException | ExecutionException | TimeoutException e) {
+      close();
+      throw new IOException("Fail to start the shell session", e);
+    } finally {
+      unregister(init);
+    }
+    LOGGER.info("Shell session started in {}", workingDirectory);
+  }
+
+  public synchronized boolean isAlive() {
+    return process != null && process.isAlive();
+  }
+
+  /**
+   * Run the command and stream its output to out.
+   *
+   * @return the exit value of the command
+   * @throws TimeoutException if the command does not finish in time, it is interrupted
+   */
+  public int execute(String cmd, OutputStream out, long timeoutMs)
+      throws IOException, InterruptedException, TimeoutException {
+    Path script = Files.createTempFile(scriptDir, "paragraph-", ".sh");
+    Command command = register(out);
+    try {
+      Files.write(script, cmd.getBytes(StandardCharsets.UTF_8));
+      // stdin is redirected as the commands used to run without any input
+      writeLine(". '" + script + "' < /dev/null; " + sentinel(command.id));
+      try {
+        return waitFor(command, timeoutMs);
+      } catch (TimeoutException e) {
+        interrupt();
+        // give the command a chance to handle SIGINT before reporting the timeout
+        try {
+          waitFor(command, timeoutMs);
+        } catch (TimeoutException e2) {
+          LOGGER.warn("Command {} ignored SIGINT, close the shell session", command.id);
+          close();
+        }
+        throw e;
+      }
+    } finally {
+      unregister(command);
+      Files.deleteIfExists(script);
+    }
+  }
+
+  /**
+   * Send SIGINT to the running command, the sentinel is written again as the shell drops
+   * the rest of an interrupted command line.
+   */
+  public void interrupt() throws IOException {
+    long id;
+    synchronized (lock) {
+      if (current == null || current.out == null) {
+        return;
+      }
+      id = current.id;
+    }
+    LOGGER.info("Send SIGINT to the command {}", id);
+    synchronized (this) {
+      if (process == null) {
+        return;
+      }
+      processInput.write(CTRL_C);
+      processInput.flush();
+      writeLine(sentinel(id));
+    }
+  }
+
+  public synchronized void close() {
+    if (process != null) {
+      process.destroy();
+      process = null;
+    }
+    synchronized (lock) {
+      if (current != null) {
+        current.exitValue.completeExceptionally(new IOException("Shell session closed"));
+      }
+    }
+    if (scriptDir != null) {
+      FileUtils.deleteQuietly(scriptDir.toFile());
+    }
+  }
+
+  private int waitFor(Command command, long timeoutMs)
+      throws IOException, InterruptedException, TimeoutException {
+    try {
+      return command.exitValue.get(timeoutMs, TimeUnit.MILLISECONDS);
+    } catch (ExecutionException e) {
+      throw new IOException(e.getCause().getMessage(), e.getCause());
+    }
+  }
+
+  private Command register(OutputStream out) {
+    synchronized (lock) {
+      current = new Command(++commandId, out);
+      return current;
+    }
+  }
+
+  private void unregister(Command command) {
+    synchronized (lock) {
+      if (current == command) {
+        current = null;
+      }
+    }
+  }
+
+  private String sentinel(long id) {
+    return String.format("printf '%%s%%s%%d:%%d\\n' '%s' '%s' %d $?", markerHead, markerTail, id);
+  }
+
+  private synchronized void writeLine(String line) throws IOException {
+    processInput.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+    processInput.flush();
+  }
+
+  private void readOutput() {
+    byte[] data = new byte[8 * 1024];
+    ByteArrayOutputStream pending = new ByteArrayOutputStream();
+    try {
+      InputStream inputStream = process.getInputStream();
+      int nRead;
+      while ((nRead = inputStream.read(data)) != -1) {
+        pending.write(data, 0, nRead);
+        byte[] buffer = pending.toByteArray();
+        int consumed = dispatch(buffer);
+        pending.reset();
+        pending.write(buffer, consumed, buffer.length - consumed);
+      }
+    } catch (IOException e) {
+      LOGGER.debug("Shell session output closed", e);
+    }
+    synchronized (lock) {
+      if (current != null) {
+        current.exitValue.completeExceptionally(new IOException("Shell session exited"));
+      }
+    }
+  }
+
+  /**
+   * Forward the output to the running command and complete it when its sentinel is read.
+   *
+   * @return the number of bytes consumed, the rest may be the beginning of a sentinel
+   */
+  private int dispatch(byte[] buffer) throws IOException {
+    int start = 0;
+    while (true) {
+      int index = indexOf(buffer, marker, start);
+      if (index < 0) {
+        int end = buffer.length - partialMarkerLength(buffer);
+        forward(buffer, start, end);
+        return end;
+      }
+      int lineEnd = indexOf(buffer, new byte[]{'\n'}, index + marker.length);
+      if (lineEnd < 0) {
+        forward(buffer, start, index);
+        return index;
+      }
+      forward(buffer, start, index);
+      onSentinel(new String(buffer, index + marker.length, lineEnd - index - marker.length,
+          StandardCharsets.US_ASCII).trim());
+      start = lineEnd + 1;
+    }
+  }
+
+  private void forward(byte[] buffer, int start, int end) throws IOException {
+    if (end <= start) {
+      return;
+    }
+    synchronized (lock) {
+      if (current != null && current.out != null) {
+        current.out.write(buffer, start, end - start);
+        current.out.flush();
+      }
+    }
+  }
+
+  private void onSentinel(String value) {
+    String[] tokens = value.split(":");
+    if (tokens.length != 2) {
+      return;
+    }
+    try {
+      long id = Long.parseLong(tokens[0]);
+      int exitValue = Integer.parseInt(tokens[1]);
+      synchronized (lock) {
+        // a sentinel of an interrupted command may be printed twice, the duplicate is ignored
+        if (current != null && current.id == id) {
+          current.exitValue.complete(exitValue);
+        }
+      }
+    } catch (NumberFormatException e) {
+      LOGGER.debug("Invalid sentinel {}", value);
+    }
+  }
+
+  /**
+   * @return the length of the longest suffix of buffer which is a prefix of the marker
+   */
+  private int partialMarkerLength(byte[] buffer) {
+    for (int length = Math.min(marker.length - 1, buffer.length); length > 0; length--) {
+      boolean match = true;
+      for (int i = 0; i < length && match; i++) {
+        match = buffer[buffer.length - length + i] == marker[i];
+      }
+      if (match) {
+        return length;
+      }
+    }
+    return 0;
+  }
+
+  private static int indexOf(byte[] buffer, byte[] target, int from) {
+    outer:
+    for (int i = from; i <= buffer.length - target.length; i++) {
+      for (int j = 0; j < target.length; j++) {
+        if (buffer[i + j] != target[j]) {
+          continue outer;
+        }
+      }
+      return i;
+    }
+    return -1;
+  }
+}
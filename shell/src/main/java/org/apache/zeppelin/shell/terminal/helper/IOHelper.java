@@ -46,6 +46,15 @@ public class IOHelper {
     }
   }
 
+  /**
+   * Copy the native pty libraries to ~/.terminalfx and point pty4j to them.
+   */
+  public static void initLibPty() throws IOException {
+    Path dataDir = Paths.get(System.getProperty("user.home")).resolve(".terminalfx");
+    copyLibPty(dataDir);
+    System.setProperty("PTY_LIB_FOLDER", dataDir.resolve("libpty").toString());
+  }
+
   public static synchronized void copyLibPty(Path dataDir) throws IOException {
     Path donePath = dataDir.resolve(".DONE");
 
@@ -31,8 +31,6 @@ import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -70,8 +68,7 @@ public class TerminalService {
     LOGGER.info("initialize TerminalService Process");
 
     String userHome = System.getProperty("user.home");
-    Path dataDir = Paths.get(userHome).resolve(".terminalfx");
-    IOHelper.copyLibPty(dataDir);
+    IOHelper.initLibPty();
 
     boolean isWindows = System.getProperty("os.name").startsWith("Windows");
     if (isWindows) {
@@ -83,8 +80,6 @@ public class TerminalService {
     Map<String, String> envs = new HashMap<>(System.getenv());
     envs.put("TERM", "xterm");
 
-    System.setProperty("PTY_LIB_FOLDER", dataDir.resolve("libpty").toString());
-
     this.process = PtyProcess.exec(termCommand, envs, userHome);
 
     process.setWinSize(new WinSize(columns, rows));
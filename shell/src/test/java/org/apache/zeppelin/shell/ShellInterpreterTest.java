@@ -25,9 +25,11 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.IOException;
 import java.util.Properties;
 
 import org.apache.zeppelin.interpreter.InterpreterContext;
+import org.apache.zeppelin.interpreter.InterpreterOutput;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.InterpreterResult.Code;
 
@@ -87,4 +89,50 @@ public class ShellInterpreterTest {
     assertEquals(Code.INCOMPLETE, result.code());
     assertTrue(result.message().get(0).getData().contains("Paragraph received a SIGTERM"));
   }
+
+  @Test
+  public void testPersistentSession() throws InterpreterException, IOException {
+    if (System.getProperty("os.name").startsWith("Windows")) {
+      return;
+    }
+    Properties p = new Properties();
+    p.setProperty("shell.command.timeout.millisecs", "2000");
+    p.setProperty("shell.persistent.session", "true");
+    ShellInterpreter persistentShell = new ShellInterpreter(p);
+    persistentShell.open();
+    try {
+      result = persistentShell.interpret("cd /tmp\nexport ZEPPELIN_SH_TEST=value", newContext());
+      assertEquals(Code.SUCCESS, result.code());
+
+      // the working directory and the variables are kept between paragraphs
+      InterpreterContext context = newContext();
+      result = persistentShell.interpret("pwd\necho $ZEPPELIN_SH_TEST\necho error >&2",
+          context);
+      assertEquals(Code.SUCCESS, result.code());
+      assertEquals("/tmp\nvalue\nerror\n",
+          context.out.toInterpreterResultMessage().get(0).getData());
+
+      result = persistentShell.interpret("false", newContext());
+      assertEquals(Code.ERROR, result.code());
+
+      // a command which times out is interrupted, the session is still usable after that
+      result = persistentShell.interpret("sleep 10", newContext());
+      assertEquals(Code.INCOMPLETE, result.code());
+      assertTrue(result.message().get(0).getData().contains("Paragraph received a SIGINT"));
+
+      context = newContext();
+      result = persistentShell.interpret("echo $ZEPPELIN_SH_TEST", context);
+      assertEquals(Code.SUCCESS, result.code());
+      assertEquals("value\n", context.out.toInterpreterResultMessage().get(0).getData());
+    } finally {
+      persistentShell.close();
+    }
+  }
+
+  private InterpreterContext newContext() {
+    return InterpreterContext.builder()
+        .setParagraphId("paragraphId")
+        .setInterpreterOut(new InterpreterOutput(null))
+        .build();
+  }
 }
@@ -51,6 +51,19 @@ public abstract class AbstractSparkScalaInterpreter {
   public abstract int getProgress(String jobGroup,
                                   InterpreterContext context) throws InterpreterException;
 
+  /**
+   * Called before the jobs of a paragraph run are submitted, so that the progress of the
+   * paragraph only counts the jobs of this run.
+   */
+  public void startJobGroup(String jobGroup, InterpreterContext context) {
+  }
+
+  /**
+   * Called when the paragraph run started by {@link #startJobGroup} is done.
+   */
+  public void finishJobGroup(String jobGroup) {
+  }
+
   public void cancel(InterpreterContext context) throws InterpreterException {
     getSparkContext().cancelJobGroup(Utils.buildJobGroupId(context));
   }
@@ -101,6 +101,7 @@ public class IPySparkInterpreter extends IPythonInterpreter {
       System.setErr(new PrintStream(context.out));
       Utils.printDeprecateMessage(sparkInterpreter.getSparkVersion(), context, properties);
       InterpreterContext.set(context);
+      sparkInterpreter.startJobGroup(context);
       String jobGroupId = Utils.buildJobGroupId(context);
       String jobDesc = Utils.buildJobDesc(context);
       String setJobGroupStmt = "sc.setJobGroup('" + jobGroupId + "', '" + jobDesc + "')";
@@ -127,6 +128,7 @@ public class IPySparkInterpreter extends IPythonInterpreter {
 
       return super.interpret(st, context);
     } finally {
+      sparkInterpreter.finishJobGroup(context);
       System.setOut(originalStdout);
       System.setErr(originalStderr);
     }
@@ -122,6 +122,7 @@ public class KotlinSparkInterpreter extends Interpreter {
     z.setNoteGui(context.getNoteGui());
     InterpreterContext.set(context);
 
+    sparkInterpreter.startJobGroup(context);
     jsc.setJobGroup(buildJobGroupId(context), buildJobDesc(context), false);
     jsc.setLocalProperty("spark.scheduler.pool", context.getLocalProperties().get("pool"));
 
@@ -130,10 +131,12 @@ public class KotlinSparkInterpreter extends Interpreter {
     PrintStream newOut = (out != null) ? new PrintStream(out) : null;
 
     Console.setOut(newOut);
-    InterpreterResult result = interpreter.interpret(st, context);
-    Console.setOut(scalaOut);
-
-    return result;
+    try {
+      return interpreter.interpret(st, context);
+    } finally {
+      Console.setOut(scalaOut);
+      sparkInterpreter.finishJobGroup(context);
+    }
   }
 
   @Override
@@ -139,6 +139,7 @@ public class PySparkInterpreter extends PythonInterpreter {
 
       return super.interpret(st, context);
     } finally {
+      sparkInterpreter.finishJobGroup(context);
       System.setOut(originalStdout);
       System.setErr(originalStderr);
     }
@@ -146,6 +147,7 @@ public class PySparkInterpreter extends PythonInterpreter {
 
   @Override
   protected void preCallPython(InterpreterContext context) {
+    sparkInterpreter.startJobGroup(context);
     String jobGroup = Utils.buildJobGroupId(context);
     String jobDesc = Utils.buildJobDesc(context);
     callPython(new PythonInterpretRequest(
@@ -93,6 +93,7 @@ public class SparkIRInterpreter extends IRInterpreter {
             context, properties);
     String jobGroup = Utils.buildJobGroupId(context);
     String jobDesc = Utils.buildJobDesc(context);
+    sparkInterpreter.startJobGroup(context);
     sparkInterpreter.getSparkContext().setJobGroup(jobGroup, jobDesc, false);
     String setJobGroup = "";
     // assign setJobGroup to dummy__, otherwise it would print NULL for this statement
@@ -113,6 +114,10 @@ public class SparkIRInterpreter extends IRInterpreter {
       }
       lines = setPoolStmt + "\n" + lines;
     }
-    return super.internalInterpret(lines, context);
+    try {
+      return super.internalInterpret(lines, context);
+    } finally {
+      sparkInterpreter.finishJobGroup(context);
+    }
   }
 }
@@ -175,12 +175,17 @@ public class SparkInterpreter extends AbstractInterpreter {
   public InterpreterResult internalInterpret(String st,
                                              InterpreterContext context) throws InterpreterException {
     context.out.clear();
+    startJobGroup(context);
     sc.setJobGroup(Utils.buildJobGroupId(context), Utils.buildJobDesc(context), false);
     // set spark.scheduler.pool to null to clear the pool assosiated with this paragraph
     // sc.setLocalProperty("spark.scheduler.pool", null) will clean the pool
     sc.setLocalProperty("spark.scheduler.pool", context.getLocalProperties().get("pool"));
 
-    return innerInterpreter.interpret(st, context);
+    try {
+      return innerInterpreter.interpret(st, context);
+    } finally {
+      finishJobGroup(context);
+    }
   }
 
   @Override
@@ -205,6 +210,26 @@ public class SparkInterpreter extends AbstractInterpreter {
     return innerInterpreter.getProgress(Utils.buildJobGroupId(context), context);
   }
 
+  /**
+   * Start tracking a new run of the paragraph, to be called by the interpreters of this session
+   * before they set the job group of the paragraph.
+   */
+  public void startJobGroup(InterpreterContext context) {
+    if (innerInterpreter != null) {
+      innerInterpreter.startJobGroup(Utils.buildJobGroupId(context), context);
+    }
+  }
+
+  /**
+   * Stop tracking the run of the paragraph started by {@link #startJobGroup}, to be called when
+   * the paragraph is done.
+   */
+  public void finishJobGroup(InterpreterContext context) {
+    if (innerInterpreter != null) {
+      innerInterpreter.finishJobGroup(Utils.buildJobGroupId(context));
+    }
+  }
+
   public ZeppelinContext getZeppelinContext() {
     if (this.innerInterpreter == null) {
       LOGGER.error("innerInterpreter is null!");
@@ -97,6 +97,7 @@ public class SparkRInterpreter extends RInterpreter {
             interpreterContext, properties);
     String jobGroup = Utils.buildJobGroupId(interpreterContext);
     String jobDesc = Utils.buildJobDesc(interpreterContext);
+    sparkInterpreter.startJobGroup(interpreterContext);
     sparkInterpreter.getSparkContext().setJobGroup(jobGroup, jobDesc, false);
     String setJobGroup = "";
     // assign setJobGroup to dummy__, otherwise it would print NULL for this statement
@@ -117,7 +118,11 @@ public class SparkRInterpreter extends RInterpreter {
       }
       lines = setPoolStmt + "\n" + lines;
     }
-    return super.internalInterpret(lines, interpreterContext);
+    try {
+      return super.internalInterpret(lines, interpreterContext);
+    } finally {
+      sparkInterpreter.finishJobGroup(interpreterContext);
+    }
   }
 
   @Override
@@ -91,6 +91,7 @@ public class SparkSqlInterpreter extends AbstractInterpreter {
             "" + sparkInterpreter.getZeppelinContext().getMaxResult()));
 
     sc.setLocalProperty("spark.scheduler.pool", context.getLocalProperties().get("pool"));
+    sparkInterpreter.startJobGroup(context);
     sc.setJobGroup(Utils.buildJobGroupId(context), Utils.buildJobDesc(context), false);
     String curSql = null;
     ClassLoader originalClassLoader = Thread.currentThread().getContextClassLoader();
@@ -133,6 +134,7 @@ public class SparkSqlInterpreter extends AbstractInterpreter {
       }
     } finally {
       sc.clearJobGroup();
+      sparkInterpreter.finishJobGroup(context);
       if (!sparkInterpreter.isScala212()) {
         Thread.currentThread().setContextClassLoader(originalClassLoader);
       }
@@ -65,6 +65,8 @@ public class IPySparkInterpreterTest extends IPythonInterpreterTest {
     p.setProperty("zeppelin.dep.localrepo", Files.createTempDir().getAbsolutePath());
     p.setProperty("zeppelin.python.gatewayserver_address", "127.0.0.1");
     p.setProperty("zeppelin.spark.deprecatedMsg.show", "false");
+    // only the spark job url is sent to the paragraph infos
+    p.setProperty("zeppelin.spark.stageMetrics", "false");
     return p;
   }
 
@@ -47,6 +47,7 @@ import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
 
@@ -73,6 +74,8 @@ public class SparkInterpreterTest {
     properties.setProperty(SparkStringConstants.APP_NAME_PROP_NAME, "test");
     properties.setProperty("zeppelin.spark.maxResult", "100");
     properties.setProperty("zeppelin.spark.uiWebUrl", "fake_spark_weburl/{{applicationId}}");
+    // only the spark job url is sent to the paragraph infos
+    properties.setProperty("zeppelin.spark.stageMetrics", "false");
     // disable color output for easy testing
     properties.setProperty("zeppelin.spark.scala.color", "false");
     properties.setProperty("zeppelin.spark.deprecatedMsg.show", "false");
@@ -503,6 +506,7 @@ public class SparkInterpreterTest {
     properties.setProperty(SparkStringConstants.APP_NAME_PROP_NAME, "test");
     properties.setProperty("zeppelin.spark.maxResult", "100");
     properties.setProperty("spark.ui.enabled", "false");
+    properties.setProperty("zeppelin.spark.stageMetrics", "false");
     // disable color output for easy testing
     properties.setProperty("zeppelin.spark.scala.color", "false");
     properties.setProperty("zeppelin.spark.deprecatedMsg.show", "false");
@@ -528,6 +532,7 @@ public class SparkInterpreterTest {
     properties.setProperty(SparkStringConstants.APP_NAME_PROP_NAME, "test");
     properties.setProperty("zeppelin.spark.maxResult", "100");
     properties.setProperty("zeppelin.spark.ui.hidden", "true");
+    properties.setProperty("zeppelin.spark.stageMetrics", "false");
     // disable color output for easy testing
     properties.setProperty("zeppelin.spark.scala.color", "false");
     properties.setProperty("zeppelin.spark.deprecatedMsg.show", "false");
@@ -545,6 +550,61 @@ public class SparkInterpreterTest {
     verify(mockRemoteEventClient, never()).onParaInfosReceived(any(Map.class));
   }
 
+  @Test
+  public void testStageMetrics() throws InterpreterException, InterruptedException {
+    Properties properties = new Properties();
+    properties.setProperty(SparkStringConstants.MASTER_PROP_NAME, "local");
+    properties.setProperty(SparkStringConstants.APP_NAME_PROP_NAME, "test");
+    properties.setProperty("zeppelin.spark.maxResult", "100");
+    properties.setProperty("zeppelin.spark.ui.hidden", "true");
+    // disable color output for easy testing
+    properties.setProperty("zeppelin.spark.scala.color", "false");
+    properties.setProperty("zeppelin.spark.deprecatedMsg.show", "false");
+
+    interpreter = new SparkInterpreter(properties);
+    interpreter.setInterpreterGroup(mock(InterpreterGroup.class));
+    InterpreterContext.set(getInterpreterContext());
+    interpreter.open();
+    if (interpreter.getSparkVersion().isSpark1()) {
+      // progress and metrics are polled from the status tracker
+      return;
+    }
+
+    // the progress covers all the jobs of the paragraph
+    InterpreterContext context = getInterpreterContext();
+    context.setParagraphId("pid_1");
+    InterpreterResult result = interpreter.interpret(
+        "sc.range(1, 10, 1, 2).sum\nsc.range(1, 10, 1, 2).map(e => (e % 3, e)).groupByKey.count",
+        context);
+    assertEquals(InterpreterResult.Code.SUCCESS, result.code());
+
+    // metrics of the 3 completed stages are sent with the totals of the paragraph, the spark
+    // job url is hidden
+    ArgumentCaptor<Map> captorEvent = ArgumentCaptor.forClass(Map.class);
+    verify(mockRemoteEventClient, timeout(10000).times(3))
+        .onParaInfosReceived(captorEvent.capture());
+    for (Map infos : captorEvent.getAllValues()) {
+      assertEquals("pid_1", infos.get("paraId"));
+    }
+    String lastStage = (String) captorEvent.getAllValues().get(2).get("sparkStageMetrics");
+    assertTrue(lastStage, lastStage.contains("\"shuffleReadBytes\""));
+    assertTrue(lastStage, lastStage.contains("\"paragraph\""));
+
+    // the job group isn't tracked after the paragraph is done, once its jobs ended
+    long start = System.currentTimeMillis();
+    while (interpreter.getProgress(context) != 0 && System.currentTimeMillis() - start < 10000) {
+      Thread.sleep(100);
+    }
+    assertEquals(0, interpreter.getProgress(context));
+
+    // a new run of the paragraph doesn't count the jobs of the previous run
+    context = getInterpreterContext();
+    context.setParagraphId("pid_1");
+    result = interpreter.interpret("val a = 1", context);
+    assertEquals(InterpreterResult.Code.SUCCESS, result.code());
+    assertEquals(0, interpreter.getProgress(context));
+  }
+
   @Test
   public void testScopedMode() throws InterpreterException {
     Properties properties = new Properties();
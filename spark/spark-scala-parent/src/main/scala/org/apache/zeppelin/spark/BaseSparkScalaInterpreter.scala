@@ -75,6 +75,8 @@ abstract class BaseSparkScalaInterpreter(val conf: SparkConf,
 
   protected var z: SparkZeppelinContext = _
 
+  protected var jobListener: ParagraphJobListener = _
+
   protected val interpreterOutput: InterpreterOutputStream
 
   protected val sparkMaster: String = conf.get(SparkStringConstants.MASTER_PROP_NAME,
@@ -164,7 +166,24 @@ abstract class BaseSparkScalaInterpreter(val conf: SparkConf,
   protected def scalaInterpret(code: String): scala.tools.nsc.interpreter.IR.Result
 
   protected def getProgress(jobGroup: String, context: InterpreterContext): Int = {
-    JobProgressUtil.progress(sc, jobGroup)
+    if (jobListener != null) {
+      // 0 when the paragraph isn't running
+      jobListener.progress(jobGroup).getOrElse(0)
+    } else {
+      JobProgressUtil.progress(sc, jobGroup)
+    }
+  }
+
+  override def startJobGroup(jobGroup: String, context: InterpreterContext): Unit = {
+    if (jobListener != null) {
+      jobListener.start(jobGroup, context)
+    }
+  }
+
+  override def finishJobGroup(jobGroup: String): Unit = {
+    if (jobListener != null) {
+      jobListener.finish(jobGroup)
+    }
   }
 
   override def getSparkContext: SparkContext = sc
@@ -351,6 +370,7 @@ abstract class BaseSparkScalaInterpreter(val conf: SparkConf,
     }
 
     sparkShims.setupSparkListener(sc.master, sparkUrl, InterpreterContext.get)
+    setupJobListener()
 
     z = new SparkZeppelinContext(sc, sparkShims,
       interpreterGroup.getInterpreterHookRegistry,
@@ -358,6 +378,17 @@ abstract class BaseSparkScalaInterpreter(val conf: SparkConf,
     bind("z", z.getClass.getCanonicalName, z, List("""@transient"""))
   }
 
+  private def setupJobListener(): Unit = {
+    // SparkListener is a trait in spark 1, so the listener compiled against spark 2 can't load
+    if (!SparkVersion.fromVersionString(sc.version).isSpark1) {
+      jobListener = new ParagraphJobListener(InterpreterContext.get.getIntpEventClient,
+        properties.getProperty("zeppelin.spark.stageMetrics", "true").toBoolean)
+      sc.addSparkListener(jobListener)
+    } else {
+      LOGGER.info("Progress of spark " + sc.version + " jobs is polled from the status tracker")
+    }
+  }
+
   private def useYarnProxyURLIfNeeded() {
     if (properties.getProperty("spark.webui.yarn.useProxy", "false").toBoolean) {
       if (sparkMaster.startsWith("yarn")) {
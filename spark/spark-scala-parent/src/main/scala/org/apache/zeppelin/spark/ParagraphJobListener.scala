@@ -0,0 +1,305 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.spark
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.{AtomicInteger, AtomicLong, LongAdder}
+
+import com.google.gson.Gson
+import org.apache.spark.scheduler._
+import org.apache.zeppelin.interpreter.InterpreterContext
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreterEventClient
+import org.slf4j.{Logger, LoggerFactory}
+
+import scala.collection.JavaConverters._
+import scala.util.control.NonFatal
+
+/**
+  * SparkListener which aggregates the task and stage events of each paragraph, by job group.
+  *
+  * The progress of a paragraph covers all the jobs it launched since its last run started, and
+  * is set in the InterpreterContext of the paragraph only when it changes. The runtime metrics
+  * of each completed stage (shuffle bytes, spill, input rows, task skew) are sent with the
+  * totals of the paragraph as paragraph infos, when stageMetricsEnabled.
+  *
+  * The counters are updated by the listener bus thread and read by the progress polls, so
+  * they are lock free. A job group is tracked from the start to the finish of its paragraph
+  * run, or while it has running jobs when it's set without start.
+  */
+class ParagraphJobListener(eventClient: RemoteInterpreterEventClient,
+                           stageMetricsEnabled: Boolean) extends SparkListener {
+
+  import ParagraphJobListener._
+
+  private val groups = new ConcurrentHashMap[String, GroupStats]()
+  private val jobs = new ConcurrentHashMap[Int, JobStats]()
+  private val stages = new ConcurrentHashMap[Int, StageStats]()
+
+  /**
+    * Start a new run of the paragraph of this job group, the jobs of its previous runs
+    * are not counted anymore.
+    */
+  def start(jobGroup: String, context: InterpreterContext): Unit = {
+    Option(groups.put(jobGroup, new GroupStats(jobGroup, context))).foreach(_.context = null)
+  }
+
+  /**
+    * Stop tracking the run of the paragraph of this job group. The events of its jobs still
+    * running are only used for the stage metrics.
+    */
+  def finish(jobGroup: String): Unit = {
+    Option(groups.remove(jobGroup)).foreach(_.context = null)
+  }
+
+  /**
+    * @return progress of the last run of the paragraph, None if it's not tracked
+    */
+  def progress(jobGroup: String): Option[Int] = Option(groups.get(jobGroup)).map(_.progress)
+
+  /**
+    * @return metrics of the last run of the paragraph, None if it's not tracked
+    */
+  def metrics(jobGroup: String): Option[Map[String, Long]] =
+    Option(groups.get(jobGroup)).map(_.metrics.toMap)
+
+  override def onJobStart(jobStart: SparkListenerJobStart): Unit = {
+    val jobGroup = Option(jobStart.properties).map(_.getProperty(JOB_GROUP_PROPERTY)).orNull
+    if (jobGroup == null) {
+      return
+    }
+    var group = groups.get(jobGroup)
+    if (group == null) {
+      // job group set without start, e.g. by user code
+      val newGroup = new GroupStats(jobGroup, null)
+      group = Option(groups.putIfAbsent(jobGroup, newGroup)).getOrElse(newGroup)
+    }
+    val job = new JobStats(jobStart.jobId, group, jobStart.stageInfos.map(_.numTasks.toLong).sum)
+    group.jobs.put(job.jobId, job)
+    jobs.put(job.jobId, job)
+    jobStart.stageInfos.foreach { stageInfo =>
+      stages.put(stageInfo.stageId, new StageStats(stageInfo.stageId, job))
+    }
+    updateProgress(group)
+  }
+
+  override def onTaskEnd(taskEnd: SparkListenerTaskEnd): Unit = {
+    val stage = stages.get(taskEnd.stageId)
+    if (stage == null) {
+      return
+    }
+    if (taskEnd.taskInfo != null && taskEnd.taskInfo.successful) {
+      stage.job.completedTasks.increment()
+    }
+    val taskMetrics = taskEnd.taskMetrics
+    if (taskMetrics != null) {
+      try {
+        stage.add(taskMetrics.executorRunTime,
+          taskMetrics.shuffleReadMetrics.totalBytesRead,
+          taskMetrics.shuffleWriteMetrics.bytesWritten,
+          taskMetrics.memoryBytesSpilled,
+          taskMetrics.diskBytesSpilled,
+          taskMetrics.inputMetrics.recordsRead)
+      } catch {
+        case NonFatal(e) => LOGGER.debug("Fail to read task metrics", e)
+      }
+    }
+    updateProgress(stage.job.group)
+  }
+
+  override def onStageCompleted(stageCompleted: SparkListenerStageCompleted): Unit = {
+    val stageInfo = stageCompleted.stageInfo
+    val stage = stages.remove(stageInfo.stageId)
+    if (stage == null) {
+      return
+    }
+    val group = stage.job.group
+    group.add(stage)
+    if (stageMetricsEnabled) {
+      sendStageMetrics(stage, stageInfo)
+    }
+  }
+
+  override def onJobEnd(jobEnd: SparkListenerJobEnd): Unit = {
+    val job = jobs.remove(jobEnd.jobId)
+    if (job == null) {
+      return
+    }
+    // the skipped stages of the job are not run, neither completed
+    val group = job.group
+    group.finishedTasks.addAndGet(job.totalTasks)
+    group.jobs.remove(job.jobId)
+    stages.asScala.foreach { case (stageId, stage) =>
+      if (stage.job eq job) {
+        stages.remove(stageId, stage)
+      }
+    }
+    updateProgress(group)
+    if (group.context == null && group.jobs.isEmpty) {
+      // set without start, or its paragraph finished
+      groups.remove(group.jobGroup, group)
+    }
+  }
+
+  private def updateProgress(group: GroupStats): Unit = {
+    val progress = group.progress
+    val context = group.context
+    if (context != null && group.lastProgress.getAndSet(progress) != progress) {
+      context.setProgress(progress)
+    }
+  }
+
+  private def sendStageMetrics(stage: StageStats, stageInfo: StageInfo): Unit = {
+    val group = stage.job.group
+    val stageMetrics = new java.util.LinkedHashMap[String, Any]()
+    stageMetrics.put("stageId", stage.stageId)
+    stageMetrics.put("name", stageInfo.name)
+    stageMetrics.put("numTasks", stageInfo.numTasks)
+    stageMetrics.put("failed", stageInfo.failureReason.isDefined)
+    stage.metrics.foreach { case (name, value) => stageMetrics.put(name, value) }
+    stageMetrics.put("paragraph", group.metrics.toMap.asJava)
+
+    val infos = new java.util.HashMap[String, String]()
+    infos.put(STAGE_METRICS_INFO, GSON.toJson(stageMetrics))
+    infos.put("label", "SPARK STAGES")
+    infos.put("tooltip", "Metrics of the completed spark stages")
+    try {
+      infos.put("noteId", SparkShims.getNoteId(group.jobGroup))
+      infos.put("paraId", SparkShims.getParagraphId(group.jobGroup))
+      eventClient.onParaInfosReceived(infos)
+    } catch {
+      case NonFatal(e) => LOGGER.debug("Fail to send stage metrics of " + group.jobGroup, e)
+    }
+  }
+}
+
+object ParagraphJobListener {
+
+  private val LOGGER: Logger = LoggerFactory.getLogger(classOf[ParagraphJobListener])
+
+  private val GSON = new Gson()
+
+  val JOB_GROUP_PROPERTY = "spark.jobGroup.id"
+
+  val STAGE_METRICS_INFO = "sparkStageMetrics"
+
+  private class GroupStats(val jobGroup: String, @volatile var context: InterpreterContext) {
+    // running jobs
+    val jobs = new ConcurrentHashMap[Int, JobStats]()
+    // tasks of the ended jobs
+    val finishedTasks = new AtomicLong()
+    val lastProgress = new AtomicInteger(-1)
+    // totals of the completed stages
+    val runTime = new AtomicLong()
+    val shuffleReadBytes = new AtomicLong()
+    val shuffleWriteBytes = new AtomicLong()
+    val memorySpilledBytes = new AtomicLong()
+    val diskSpilledBytes = new AtomicLong()
+    val inputRows = new AtomicLong()
+    // in percent, as the metrics are longs
+    val maxTaskSkewPercent = new AtomicLong(100)
+
+    def progress: Int = {
+      val finished = finishedTasks.get()
+      var total = finished
+      var completed = finished
+      jobs.values().asScala.foreach { job =>
+        total += job.totalTasks
+        completed += math.min(job.completedTasks.sum(), job.totalTasks)
+      }
+      if (total == 0) 0 else (100 * completed.toDouble / total).toInt
+    }
+
+    def add(stage: StageStats): Unit = {
+      runTime.addAndGet(stage.runTime.sum())
+      shuffleReadBytes.addAndGet(stage.shuffleReadBytes.sum())
+      shuffleWriteBytes.addAndGet(stage.shuffleWriteBytes.sum())
+      memorySpilledBytes.addAndGet(stage.memorySpilledBytes.sum())
+      diskSpilledBytes.addAndGet(stage.diskSpilledBytes.sum())
+      inputRows.addAndGet(stage.inputRows.sum())
+      updateMax(maxTaskSkewPercent, stage.taskSkewPercent)
+    }
+
+    def metrics: Seq[(String, Long)] = Seq(
+      "runTimeMs" -> runTime.get(),
+      "shuffleReadBytes" -> shuffleReadBytes.get(),
+      "shuffleWriteBytes" -> shuffleWriteBytes.get(),
+      "memorySpilledBytes" -> memorySpilledBytes.get(),
+      "diskSpilledBytes" -> diskSpilledBytes.get(),
+      "inputRows" -> inputRows.get(),
+      "maxTaskSkewPercent" -> maxTaskSkewPercent.get())
+  }
+
+  private class JobStats(val jobId: Int, val group: GroupStats, val totalTasks: Long) {
+    // speculative and retried tasks may complete more than once
+    val completedTasks = new LongAdder()
+  }
+
+  private class StageStats(val stageId: Int, val job: JobStats) {
+    val tasks = new LongAdder()
+    val runTime = new LongAdder()
+    val maxRunTime = new AtomicLong()
+    val shuffleReadBytes = new LongAdder()
+    val shuffleWriteBytes = new LongAdder()
+    val memorySpilledBytes = new LongAdder()
+    val diskSpilledBytes = new LongAdder()
+    val inputRows = new LongAdder()
+
+    def add(taskRunTime: Long,
+            shuffleRead: Long,
+            shuffleWrite: Long,
+            memorySpilled: Long,
+            diskSpilled: Long,
+            rows: Long): Unit = {
+      tasks.increment()
+      runTime.add(taskRunTime)
+      updateMax(maxRunTime, taskRunTime)
+      shuffleReadBytes.add(shuffleRead)
+      shuffleWriteBytes.add(shuffleWrite)
+      memorySpilledBytes.add(memorySpilled)
+      diskSpilledBytes.add(diskSpilled)
+      inputRows.add(rows)
+    }
+
+    /**
+      * Run time of the slowest task over the mean task run time in percent, 100 when the tasks
+      * are even.
+      */
+    def taskSkewPercent: Long = {
+      val count = tasks.sum()
+      val total = runTime.sum()
+      if (count == 0 || total == 0) 100 else 100 * maxRunTime.get() * count / total
+    }
+
+    def metrics: Seq[(String, Long)] = Seq(
+      "runTimeMs" -> runTime.sum(),
+      "maxTaskRunTimeMs" -> maxRunTime.get(),
+      "shuffleReadBytes" -> shuffleReadBytes.sum(),
+      "shuffleWriteBytes" -> shuffleWriteBytes.sum(),
+      "memorySpilledBytes" -> memorySpilledBytes.sum(),
+      "diskSpilledBytes" -> diskSpilledBytes.sum(),
+      "inputRows" -> inputRows.sum(),
+      "taskSkewPercent" -> taskSkewPercent)
+  }
+
+  private def updateMax(max: AtomicLong, value: Long): Unit = {
+    var current = max.get()
+    while (value > current && !max.compareAndSet(current, value)) {
+      current = max.get()
+    }
+  }
+}
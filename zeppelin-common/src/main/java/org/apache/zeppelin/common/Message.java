@@ -198,6 +198,8 @@ public class Message implements JsonSerializable {
     COLLABORATIVE_MODE_STATUS,    // [s-c] collaborative mode status
     PATCH_PARAGRAPH,              // [c-s][s-c] patch editor text
     NOTE_RUNNING_STATUS,        // [s-c] sequential run status will be change
+    PROTOCOL,                     // [c-s][s-c] negotiate the protocol version of the connection
+    PARAGRAPH_RESYNC,             // [c-s] ask the full paragraph after a missed binary frame
     NOTICE                        // [s-c] Notice
   }
 
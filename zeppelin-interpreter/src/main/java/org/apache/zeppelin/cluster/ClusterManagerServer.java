@@ -32,6 +32,7 @@ import io.atomix.protocols.raft.storage.RaftStorage;
 import io.atomix.storage.StorageLevel;
 import io.atomix.utils.net.Address;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.zeppelin.cluster.event.ClusterBinaryEventListener;
 import org.apache.zeppelin.cluster.event.ClusterEventListener;
 import org.apache.zeppelin.cluster.meta.ClusterMeta;
 import org.apache.zeppelin.cluster.protocol.RaftServerMessagingProtocol;
@@ -70,12 +71,15 @@ public class ClusterManagerServer extends ClusterManager {
   private List<ClusterEventListener> clusterNoteEventListeners = new ArrayList<>();
   private List<ClusterEventListener> clusterAuthEventListeners = new ArrayList<>();
   private List<ClusterEventListener> clusterIntpSettingEventListeners = new ArrayList<>();
+  private List<ClusterBinaryEventListener> clusterNoteDeltaEventListeners = new ArrayList<>();
 
   // zeppelin cluster event
   public static String CLUSTER_INTP_EVENT_TOPIC = "CLUSTER_INTP_EVENT_TOPIC";
   public static String CLUSTER_NOTE_EVENT_TOPIC = "CLUSTER_NOTE_EVENT_TOPIC";
   public static String CLUSTER_AUTH_EVENT_TOPIC = "CLUSTER_AUTH_EVENT_TOPIC";
   public static String CLUSTER_INTP_SETTING_EVENT_TOPIC = "CLUSTER_INTP_SETTING_EVENT_TOPIC";
+  // binary note delta events, see ClusterNoteEventCodec
+  public static String CLUSTER_NOTE_DELTA_EVENT_TOPIC = "CLUSTER_NOTE_DELTA_EVENT_TOPIC";
 
   private ClusterManagerServer(ZeppelinConfiguration zConf) {
     super(zConf);
@@ -212,6 +216,8 @@ public class ClusterManagerServer extends ClusterManager {
             subscribeClusterAuthEvent, MoreExecutors.directExecutor());
         messagingService.registerHandler(CLUSTER_INTP_SETTING_EVENT_TOPIC,
             subscribeIntpSettingEvent, MoreExecutors.directExecutor());
+        messagingService.registerHandler(CLUSTER_NOTE_DELTA_EVENT_TOPIC,
+            subscribeClusterNoteDeltaEvent, MoreExecutors.directExecutor());
 
         HashMap<String, Object> meta = new HashMap<String, Object>();
         String nodeName = getClusterNodeName();
@@ -325,6 +331,38 @@ public class ClusterManagerServer extends ClusterManager {
     }
   }
 
+  /**
+   * Broadcast a binary event to all the other servers of the cluster.
+   */
+  public void broadcastClusterEvent(String topic, byte[] msg) {
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("send broadcastClusterEvent topic {}, {} bytes", topic, msg.length);
+    }
+    for (Node node : clusterNodes) {
+      if (StringUtils.equals(node.address().host(), zeplServerHost)
+          && node.address().port() == raftServerPort) {
+        // skip myself
+        continue;
+      }
+
+      CompletableFuture<byte[]> response = messagingService.sendAndReceive(node.address(),
+          topic, msg, Duration.ofSeconds(2));
+      response.whenComplete((r, e) -> {
+        if (null != e) {
+          LOGGER.warn("Fail to send {} to {}", topic, node.address(), e);
+        }
+      });
+    }
+  }
+
+  private BiFunction<Address, byte[], byte[]> subscribeClusterNoteDeltaEvent = (address, data) -> {
+    for (ClusterBinaryEventListener eventListener : clusterNoteDeltaEventListeners) {
+      eventListener.onClusterEvent(data);
+    }
+
+    return null;
+  };
+
   private BiFunction<Address, byte[], byte[]> subscribeClusterIntpEvent = (address, data) -> {
     String message = new String(data);
     if (LOGGER.isDebugEnabled()) {
@@ -386,4 +424,12 @@ public class ClusterManagerServer extends ClusterManager {
       LOGGER.error("Unknow cluster event topic : {}", topic);
     }
   }
+
+  public void addClusterBinaryEventListeners(String topic, ClusterBinaryEventListener listener) {
+    if (StringUtils.equals(topic, CLUSTER_NOTE_DELTA_EVENT_TOPIC)) {
+      clusterNoteDeltaEventListeners.add(listener);
+    } else {
+      LOGGER.error("Unknow binary cluster event topic : {}", topic);
+    }
+  }
 }
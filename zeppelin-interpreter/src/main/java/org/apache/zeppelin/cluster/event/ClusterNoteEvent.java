@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.cluster.event;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Note event sent between the zeppelin servers of a cluster.
+ *
+ * The events of a note sent by a server are numbered by a version which is incremented for
+ * each event, so that a peer which misses an event can detect it and ask for a snapshot.
+ */
+public class ClusterNoteEvent {
+
+  /**
+   * Event type.
+   */
+  public enum Type {
+    // the whole note, resets the state of the peers
+    NOTE_SNAPSHOT,
+    // changes of a paragraph
+    PARAGRAPH_DELTA,
+    // a paragraph added to the note
+    NEW_PARAGRAPH,
+    // ask the server targetNodeId to send a snapshot of the note
+    RESYNC_REQUEST
+  }
+
+  private final Type type;
+  private final String noteId;
+  private long version;
+
+  private String noteJson;
+
+  private String paragraphId;
+  private String msgId;
+  private int index = -1;
+  // the delta is computed from an empty paragraph, the state of the peer can be dropped
+  private boolean full;
+  private List<JsonDelta.Op> noteOps = Collections.emptyList();
+  private List<JsonDelta.Op> paragraphOps = Collections.emptyList();
+
+  private String targetNodeId;
+
+  public ClusterNoteEvent(Type type, String noteId) {
+    this.type = type;
+    this.noteId = noteId;
+  }
+
+  public static ClusterNoteEvent snapshot(String noteId, String noteJson) {
+    ClusterNoteEvent event = new ClusterNoteEvent(Type.NOTE_SNAPSHOT, noteId);
+    event.noteJson = noteJson;
+    return event;
+  }
+
+  public static ClusterNoteEvent paragraph(Type type, String noteId, String paragraphId,
+                                           String msgId, int index, boolean full,
+                                           List<JsonDelta.Op> noteOps,
+                                           List<JsonDelta.Op> paragraphOps) {
+    ClusterNoteEvent event = new ClusterNoteEvent(type, noteId);
+    event.paragraphId = paragraphId;
+    event.msgId = msgId;
+    event.index = index;
+    event.full = full;
+    event.noteOps = noteOps;
+    event.paragraphOps = paragraphOps;
+    return event;
+  }
+
+  public static ClusterNoteEvent resyncRequest(String noteId, String targetNodeId) {
+    ClusterNoteEvent event = new ClusterNoteEvent(Type.RESYNC_REQUEST, noteId);
+    event.targetNodeId = targetNodeId;
+    return event;
+  }
+
+  public Type getType() {
+    return type;
+  }
+
+  public String getNoteId() {
+    return noteId;
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public void setVersion(long version) {
+    this.version = version;
+  }
+
+  public String getNoteJson() {
+    return noteJson;
+  }
+
+  public String getParagraphId() {
+    return paragraphId;
+  }
+
+  public String getMsgId() {
+    return msgId;
+  }
+
+  public int getIndex() {
+    return index;
+  }
+
+  public boolean isFull() {
+    return full;
+  }
+
+  public List<JsonDelta.Op> getNoteOps() {
+    return noteOps;
+  }
+
+  public List<JsonDelta.Op> getParagraphOps() {
+    return paragraphOps;
+  }
+
+  public String getTargetNodeId() {
+    return targetNodeId;
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.cluster.event;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Binary encoding of a batch of {@link ClusterNoteEvent} sent by one server.
+ *
+ * A frame starts with a format version and a compression flag, followed by the (deflated
+ * when large) body: the id of the sender and the events. Json values are only used for the
+ * content of the fields which changed.
+ */
+public class ClusterNoteEventCodec {
+  private static final byte FORMAT_VERSION = 1;
+  private static final byte UNCOMPRESSED = 0;
+  private static final byte DEFLATED = 1;
+  // bodies smaller than this are not worth compressing
+  private static final int COMPRESSION_THRESHOLD = 1024;
+
+  /**
+   * Events decoded from a frame.
+   */
+  public static class Frame {
+    public final String senderId;
+    public final List<ClusterNoteEvent> events;
+
+    public Frame(String senderId, List<ClusterNoteEvent> events) {
+      this.senderId = senderId;
+      this.events = events;
+    }
+  }
+
+  private ClusterNoteEventCodec() {
+  }
+
+  public static byte[] encode(String senderId, List<ClusterNoteEvent> events) throws IOException {
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(body);
+    out.writeUTF(senderId);
+    out.writeInt(events.size());
+    for (ClusterNoteEvent event : events) {
+      writeEvent(out, event);
+    }
+    out.flush();
+
+    ByteArrayOutputStream frame = new ByteArrayOutputStream(body.size() + 2);
+    frame.write(FORMAT_VERSION);
+    if (body.size() > COMPRESSION_THRESHOLD) {
+      frame.write(DEFLATED);
+      try (DeflaterOutputStream deflater = new DeflaterOutputStream(frame)) {
+        body.writeTo(deflater);
+      }
+    } else {
+      frame.write(UNCOMPRESSED);
+      body.writeTo(frame);
+    }
+    return frame.toByteArray();
+  }
+
+  public static Frame decode(byte[] frame) throws IOException {
+    if (frame.length < 2 || frame[0] != FORMAT_VERSION) {
+      throw new IOException("Unsupported cluster note event format");
+    }
+    InputStream body = new ByteArrayInputStream(frame, 2, frame.length - 2);
+    if (frame[1] == DEFLATED) {
+      body = new InflaterInputStream(body);
+    }
+    try (DataInputStream in = new DataInputStream(body)) {
+      String senderId = in.readUTF();
+      int count = in.readInt();
+      List<ClusterNoteEvent> events = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        events.add(readEvent(in));
+      }
+      return new Frame(senderId, events);
+    }
+  }
+
+  private static void writeEvent(DataOutputStream out, ClusterNoteEvent event)
+      throws IOException {
+    out.writeByte(event.getType().ordinal());
+    out.writeUTF(event.getNoteId());
+    out.writeLong(event.getVersion());
+    switch (event.getType()) {
+      case NOTE_SNAPSHOT:
+        writeString(out, event.getNoteJson());
+        break;
+      case PARAGRAPH_DELTA:
+      case NEW_PARAGRAPH:
+        out.writeUTF(event.getParagraphId());
+        writeNullableString(out, event.getMsgId());
+        out.writeInt(event.getIndex());
+        out.writeBoolean(event.isFull());
+        JsonDelta.writeOps(out, event.getNoteOps());
+        JsonDelta.writeOps(out, event.getParagraphOps());
+        break;
+      case RESYNC_REQUEST:
+        out.writeUTF(event.getTargetNodeId());
+        break;
+      default:
+        throw new IOException("Unknown event type " + event.getType());
+    }
+  }
+
+  private static ClusterNoteEvent readEvent(DataInputStream in) throws IOException {
+    int typeOrdinal = in.readByte();
+    if (typeOrdinal < 0 || typeOrdinal >= ClusterNoteEvent.Type.values().length) {
+      throw new IOException("Unknown event type " + typeOrdinal);
+    }
+    ClusterNoteEvent.Type type = ClusterNoteEvent.Type.values()[typeOrdinal];
+    String noteId = in.readUTF();
+    long version = in.readLong();
+    ClusterNoteEvent event;
+    switch (type) {
+      case NOTE_SNAPSHOT:
+        event = ClusterNoteEvent.snapshot(noteId, readString(in));
+        break;
+      case PARAGRAPH_DELTA:
+      case NEW_PARAGRAPH:
+        String paragraphId = in.readUTF();
+        String msgId = readNullableString(in);
+        int index = in.readInt();
+        boolean full = in.readBoolean();
+        List<JsonDelta.Op> noteOps = JsonDelta.readOps(in);
+        List<JsonDelta.Op> paragraphOps = JsonDelta.readOps(in);
+        event = ClusterNoteEvent.paragraph(type, noteId, paragraphId, msgId, index, full,
+            noteOps, paragraphOps);
+        break;
+      default:
+        event = ClusterNoteEvent.resyncRequest(noteId, in.readUTF());
+        break;
+    }
+    event.setVersion(version);
+    return event;
+  }
+
+  private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      writeString(out, value);
+    }
+  }
+
+  private static String readNullableString(DataInputStream in) throws IOException {
+    return in.readBoolean() ? readString(in) : null;
+  }
+
+  // unlike writeUTF, not limited to 64k
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
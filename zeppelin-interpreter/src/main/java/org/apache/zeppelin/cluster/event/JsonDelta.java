@@ -0,0 +1,278 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.cluster.event;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Difference between two json documents, as a list of operations on the fields which changed.
+ * A string which was only appended to, such as a paragraph output, is sent as the appended
+ * text only.
+ */
+public class JsonDelta {
+
+  /**
+   * Operation type.
+   */
+  public enum OpType {
+    SET,
+    REMOVE,
+    APPEND
+  }
+
+  /**
+   * Operation on the element at path, a path segment is either a field name (String)
+   * or an array index (Integer).
+   */
+  public static class Op {
+    public final OpType type;
+    public final List<Object> path;
+    // new element of SET, appended string of APPEND
+    public final JsonElement value;
+
+    public Op(OpType type, List<Object> path, JsonElement value) {
+      this.type = type;
+      this.path = path;
+      this.value = value;
+    }
+  }
+
+  private static final byte PATH_KEY = 0;
+  private static final byte PATH_INDEX = 1;
+
+  private JsonDelta() {
+  }
+
+  /**
+   * @return the operations to turn from into to, empty if both are equal
+   */
+  public static List<Op> diff(JsonObject from, JsonObject to) {
+    List<Op> ops = new ArrayList<>();
+    diff(new ArrayList<>(), from, to, ops);
+    return ops;
+  }
+
+  private static void diff(List<Object> path, JsonElement from, JsonElement to, List<Op> ops) {
+    if (from.equals(to)) {
+      return;
+    }
+    if (from.isJsonObject() && to.isJsonObject()) {
+      JsonObject fromObject = from.getAsJsonObject();
+      JsonObject toObject = to.getAsJsonObject();
+      for (Map.Entry<String, JsonElement> entry : toObject.entrySet()) {
+        List<Object> childPath = child(path, entry.getKey());
+        if (fromObject.has(entry.getKey())) {
+          diff(childPath, fromObject.get(entry.getKey()), entry.getValue(), ops);
+        } else {
+          ops.add(new Op(OpType.SET, childPath, entry.getValue()));
+        }
+      }
+      for (Map.Entry<String, JsonElement> entry : fromObject.entrySet()) {
+        if (!toObject.has(entry.getKey())) {
+          ops.add(new Op(OpType.REMOVE, child(path, entry.getKey()), null));
+        }
+      }
+    } else if (from.isJsonArray() && to.isJsonArray()
+        && to.getAsJsonArray().size() >= from.getAsJsonArray().size()) {
+      JsonArray fromArray = from.getAsJsonArray();
+      JsonArray toArray = to.getAsJsonArray();
+      for (int i = 0; i < toArray.size(); i++) {
+        if (i < fromArray.size()) {
+          diff(child(path, i), fromArray.get(i), toArray.get(i), ops);
+        } else {
+          ops.add(new Op(OpType.SET, child(path, i), toArray.get(i)));
+        }
+      }
+    } else if (isString(from) && isString(to) && !from.getAsString().isEmpty()
+        && to.getAsString().startsWith(from.getAsString())) {
+      ops.add(new Op(OpType.APPEND, path,
+          new JsonPrimitive(to.getAsString().substring(from.getAsString().length()))));
+    } else {
+      ops.add(new Op(OpType.SET, path, to));
+    }
+  }
+
+  /**
+   * Apply the operations to the document.
+   *
+   * @throws IllegalArgumentException if the operations don't match the document
+   */
+  public static void apply(JsonObject document, List<Op> ops) {
+    for (Op op : ops) {
+      if (op.path.isEmpty()) {
+        throw new IllegalArgumentException("Can't apply " + op.type + " to the root element");
+      }
+      JsonElement parent = document;
+      for (Object segment : op.path.subList(0, op.path.size() - 1)) {
+        parent = get(parent, segment);
+        if (parent == null) {
+          throw new IllegalArgumentException("No element at " + op.path);
+        }
+      }
+      Object last = op.path.get(op.path.size() - 1);
+      switch (op.type) {
+        case SET:
+          set(parent, last, op.value);
+          break;
+        case REMOVE:
+          if (parent.isJsonObject()) {
+            parent.getAsJsonObject().remove((String) last);
+          } else {
+            parent.getAsJsonArray().remove((int) (Integer) last);
+          }
+          break;
+        case APPEND:
+          JsonElement current = get(parent, last);
+          if (!isString(current)) {
+            throw new IllegalArgumentException("No string to append to at " + op.path);
+          }
+          set(parent, last, new JsonPrimitive(current.getAsString() + op.value.getAsString()));
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown operation " + op.type);
+      }
+    }
+  }
+
+  /**
+   * Binary encoding of the operations, json is only used for the values of SET.
+   */
+  public static void writeOps(DataOutputStream out, List<Op> ops) throws IOException {
+    out.writeInt(ops.size());
+    for (Op op : ops) {
+      out.writeByte(op.type.ordinal());
+      out.writeInt(op.path.size());
+      for (Object segment : op.path) {
+        if (segment instanceof Integer) {
+          out.writeByte(PATH_INDEX);
+          out.writeInt((Integer) segment);
+        } else {
+          out.writeByte(PATH_KEY);
+          out.writeUTF((String) segment);
+        }
+      }
+      switch (op.type) {
+        case SET:
+          writeString(out, op.value.toString());
+          break;
+        case APPEND:
+          writeString(out, op.value.getAsString());
+          break;
+        default:
+          break;
+      }
+    }
+  }
+
+  public static List<Op> readOps(DataInputStream in) throws IOException {
+    int count = in.readInt();
+    if (count == 0) {
+      return Collections.emptyList();
+    }
+    List<Op> ops = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      int typeOrdinal = in.readByte();
+      if (typeOrdinal < 0 || typeOrdinal >= OpType.values().length) {
+        throw new IOException("Unknown operation type " + typeOrdinal);
+      }
+      OpType type = OpType.values()[typeOrdinal];
+      int pathLength = in.readInt();
+      List<Object> path = new ArrayList<>(pathLength);
+      for (int j = 0; j < pathLength; j++) {
+        if (in.readByte() == PATH_INDEX) {
+          path.add(in.readInt());
+        } else {
+          path.add(in.readUTF());
+        }
+      }
+      JsonElement value = null;
+      if (type == OpType.SET) {
+        value = JsonParser.parseString(readString(in));
+      } else if (type == OpType.APPEND) {
+        value = new JsonPrimitive(readString(in));
+      }
+      ops.add(new Op(type, path, value));
+    }
+    return ops;
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static JsonElement get(JsonElement parent, Object segment) {
+    if (segment instanceof String && parent.isJsonObject()) {
+      return parent.getAsJsonObject().get((String) segment);
+    } else if (segment instanceof Integer && parent.isJsonArray()) {
+      int index = (Integer) segment;
+      JsonArray array = parent.getAsJsonArray();
+      return index < array.size() ? array.get(index) : null;
+    }
+    return null;
+  }
+
+  private static void set(JsonElement parent, Object segment, JsonElement value) {
+    if (segment instanceof String && parent.isJsonObject()) {
+      parent.getAsJsonObject().add((String) segment, value);
+    } else if (segment instanceof Integer && parent.isJsonArray()) {
+      int index = (Integer) segment;
+      JsonArray array = parent.getAsJsonArray();
+      if (index == array.size()) {
+        array.add(value);
+      } else if (index < array.size()) {
+        array.set(index, value);
+      } else {
+        throw new IllegalArgumentException("Array index " + index + " out of range");
+      }
+    } else {
+      throw new IllegalArgumentException("Can't set " + segment + " of " + parent);
+    }
+  }
+
+  private static boolean isString(JsonElement element) {
+    return element != null && element.isJsonPrimitive()
+        && element.getAsJsonPrimitive().isString();
+  }
+
+  private static List<Object> child(List<Object> path, Object segment) {
+    List<Object> childPath = new ArrayList<>(path.size() + 1);
+    childPath.addAll(path);
+    childPath.add(segment);
+    return Collections.unmodifiableList(childPath);
+  }
+}
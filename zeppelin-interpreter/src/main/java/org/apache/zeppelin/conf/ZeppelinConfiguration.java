@@ -25,9 +25,12 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Predicate;
 import org.apache.commons.configuration.ConfigurationException;
 import org.apache.commons.configuration.XMLConfiguration;
@@ -42,6 +45,9 @@ import org.slf4j.LoggerFactory;
 /**
  * Zeppelin configuration.
  *
+ * The values of the {@link ConfVars} are resolved and parsed once into an immutable snapshot,
+ * which is rebuilt when a property is set or when the configuration is reloaded, so that reads
+ * don't need any lock.
  */
 public class ZeppelinConfiguration extends XMLConfiguration {
   private static final String ZEPPELIN_SITE_XML = "zeppelin-site.xml";
@@ -52,9 +58,16 @@ public class ZeppelinConfiguration extends XMLConfiguration {
 
   private static final String HELIUM_PACKAGE_DEFAULT_URL =
       "https://s3.amazonaws.com/helium-package/helium.json";
-  private static ZeppelinConfiguration conf;
+  private static volatile ZeppelinConfiguration conf;
 
-  private Map<String, String> properties = new HashMap<>();
+  private Map<String, String> properties = new ConcurrentHashMap<>();
+  // properties set after the configuration is loaded, kept when it is reloaded
+  private final Map<String, String> overrides = new ConcurrentHashMap<>();
+  private final transient Object snapshotLock = new Object();
+  private transient volatile Snapshot snapshot;
+  private final transient List<ReloadListener> reloadListeners = new CopyOnWriteArrayList<>();
+  // null if the configuration was not loaded from zeppelin-site.xml
+  private URL url;
 
   public enum RUN_MODE {
     LOCAL,
@@ -66,6 +79,7 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     setDelimiterParsingDisabled(true);
     load(url);
     initProperties();
+    this.url = url;
   }
 
   private void initProperties() {
@@ -114,7 +128,15 @@ public class ZeppelinConfiguration extends XMLConfiguration {
    *url = ZeppelinConfiguration.class.getResource(ZEPPELIN_SITE_XML);
    * @throws ConfigurationException
    */
-  public static synchronized ZeppelinConfiguration create() {
+  public static ZeppelinConfiguration create() {
+    ZeppelinConfiguration current = conf;
+    if (current != null) {
+      return current;
+    }
+    return createInstance();
+  }
+
+  private static synchronized ZeppelinConfiguration createInstance() {
     if (conf != null) {
       return conf;
     }
@@ -189,8 +211,80 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     return conf;
   }
 
+  /**
+   * Notified after the configuration is reloaded.
+   */
+  public interface ReloadListener {
+    void onReload(ZeppelinConfiguration conf);
+  }
+
+  public void addReloadListener(ReloadListener listener) {
+    reloadListeners.add(listener);
+  }
+
+  public void removeReloadListener(ReloadListener listener) {
+    reloadListeners.remove(listener);
+  }
+
+  /**
+   * Read zeppelin-site.xml again (if the configuration was loaded from it), replace the
+   * snapshot of the values and notify the reload listeners. The properties set through
+   * {@link #setProperty(String, String)} are kept.
+   */
+  public void reloadConfiguration() throws ConfigurationException {
+    synchronized (snapshotLock) {
+      if (url != null) {
+        Map<String, String> reloaded = new HashMap<>(new ZeppelinConfiguration(url).properties);
+        reloaded.putAll(overrides);
+        properties.keySet().retainAll(reloaded.keySet());
+        properties.putAll(reloaded);
+      }
+      snapshot = new Snapshot(properties);
+    }
+    LOG.info("Configuration is reloaded");
+    for (ReloadListener listener : reloadListeners) {
+      try {
+        listener.onReload(this);
+      } catch (RuntimeException e) {
+        LOG.warn("Fail to notify the configuration reload to " + listener, e);
+      }
+    }
+  }
+
+  private Snapshot snapshot() {
+    Snapshot current = snapshot;
+    if (current == null) {
+      synchronized (snapshotLock) {
+        current = snapshot;
+        if (current == null) {
+          current = new Snapshot(properties);
+          snapshot = current;
+        }
+      }
+    }
+    return current;
+  }
+
+  private void putProperty(String name, String value) {
+    synchronized (snapshotLock) {
+      if (value == null) {
+        properties.remove(name);
+        overrides.remove(name);
+      } else {
+        properties.put(name, value);
+        overrides.put(name, value);
+      }
+      snapshot = null;
+    }
+  }
+
+  /**
+   * @return the properties of zeppelin-site.xml and the ones set on this configuration, not
+   * the environment and system overrides. Use {@link #setProperty(String, String)} to change
+   * them.
+   */
   public Map<String, String> getProperties() {
-    return this.properties;
+    return Collections.unmodifiableMap(this.properties);
   }
 
   public static void reset() {
@@ -199,12 +293,12 @@ public class ZeppelinConfiguration extends XMLConfiguration {
 
   public void setProperty(String name, String value) {
     if (StringUtils.isNotBlank(name) && StringUtils.isNotBlank(value)) {
-      this.properties.put(name, value);
+      putProperty(name, value);
     }
   }
 
   private String getStringValue(String name, String d) {
-    String value = this.properties.get(name);
+    String value = snapshot().properties.get(name);
     if (value != null) {
       return value;
     }
@@ -212,7 +306,7 @@ public class ZeppelinConfiguration extends XMLConfiguration {
   }
 
   private int getIntValue(String name, int d) {
-    String value = this.properties.get(name);
+    String value = snapshot().properties.get(name);
     if (value != null) {
       return Integer.parseInt(value);
     }
@@ -220,7 +314,7 @@ public class ZeppelinConfiguration extends XMLConfiguration {
   }
 
   private long getLongValue(String name, long d) {
-    String value = this.properties.get(name);
+    String value = snapshot().properties.get(name);
     if (value != null) {
       return Long.parseLong(value);
     }
@@ -228,7 +322,7 @@ public class ZeppelinConfiguration extends XMLConfiguration {
   }
 
   private float getFloatValue(String name, float d) {
-    String value = this.properties.get(name);
+    String value = snapshot().properties.get(name);
     if (value != null) {
       return Float.parseFloat(value);
     }
@@ -236,83 +330,131 @@ public class ZeppelinConfiguration extends XMLConfiguration {
   }
 
   private boolean getBooleanValue(String name, boolean d) {
-    String value = this.properties.get(name);
+    String value = snapshot().properties.get(name);
     if (value != null) {
       return Boolean.parseBoolean(value);
     }
     return d;
   }
 
+  /**
+   * @return the value of c from the environment, the system properties, zeppelin-site.xml or
+   * its default, in this order. Typed according to c, or the string to parse if it can't be
+   * parsed.
+   */
+  private Object resolve(ConfVars c) {
+    Snapshot current = snapshot();
+    Object envValue = current.envValues[c.ordinal()];
+    if (envValue != null) {
+      return envValue;
+    }
+    String systemValue = System.getProperty(c.getVarName());
+    if (systemValue != null) {
+      return Snapshot.parse(c, systemValue);
+    }
+    return current.values[c.ordinal()];
+  }
+
   public String getString(ConfVars c) {
-    return getString(c.name(), c.getVarName(), c.getStringValue());
+    if (c.getType() != ConfVars.VarType.STRING) {
+      return getString(c.name(), c.getVarName(), c.getStringValue());
+    }
+    return (String) resolve(c);
   }
 
   public String getString(String envName, String propertyName, String defaultValue) {
-    if (System.getenv(envName) != null) {
-      return System.getenv(envName);
+    Snapshot current = snapshot();
+    String envValue = current.env.get(envName);
+    if (envValue != null) {
+      return envValue;
     }
-    if (System.getProperty(propertyName) != null) {
-      return System.getProperty(propertyName);
+    String systemValue = System.getProperty(propertyName);
+    if (systemValue != null) {
+      return systemValue;
     }
-
     return getStringValue(propertyName, defaultValue);
   }
 
   public int getInt(ConfVars c) {
-    return getInt(c.name(), c.getVarName(), c.getIntValue());
+    if (c.getType() != ConfVars.VarType.INT) {
+      return getInt(c.name(), c.getVarName(), c.getIntValue());
+    }
+    Object value = resolve(c);
+    return value instanceof Integer ? (Integer) value : Integer.parseInt((String) value);
   }
 
   public int getInt(String envName, String propertyName, int defaultValue) {
-    if (System.getenv(envName) != null) {
-      return Integer.parseInt(System.getenv(envName));
+    Snapshot current = snapshot();
+    String envValue = current.env.get(envName);
+    if (envValue != null) {
+      return Integer.parseInt(envValue);
     }
-
-    if (System.getProperty(propertyName) != null) {
-      return Integer.parseInt(System.getProperty(propertyName));
+    String systemValue = System.getProperty(propertyName);
+    if (systemValue != null) {
+      return Integer.parseInt(systemValue);
     }
     return getIntValue(propertyName, defaultValue);
   }
 
   public long getLong(ConfVars c) {
-    return getLong(c.name(), c.getVarName(), c.getLongValue());
+    if (c.getType() != ConfVars.VarType.LONG) {
+      return getLong(c.name(), c.getVarName(), c.getLongValue());
+    }
+    Object value = resolve(c);
+    return value instanceof Long ? (Long) value : Long.parseLong((String) value);
   }
 
   public long getLong(String envName, String propertyName, long defaultValue) {
-    if (System.getenv(envName) != null) {
-      return Long.parseLong(System.getenv(envName));
+    Snapshot current = snapshot();
+    String envValue = current.env.get(envName);
+    if (envValue != null) {
+      return Long.parseLong(envValue);
     }
-
-    if (System.getProperty(propertyName) != null) {
-      return Long.parseLong(System.getProperty(propertyName));
+    String systemValue = System.getProperty(propertyName);
+    if (systemValue != null) {
+      return Long.parseLong(systemValue);
     }
     return getLongValue(propertyName, defaultValue);
   }
 
   public float getFloat(ConfVars c) {
-    return getFloat(c.name(), c.getVarName(), c.getFloatValue());
+    if (c.getType() != ConfVars.VarType.FLOAT) {
+      return getFloat(c.name(), c.getVarName(), c.getFloatValue());
+    }
+    Object value = resolve(c);
+    return value instanceof Float ? (Float) value : Float.parseFloat((String) value);
   }
 
   public float getFloat(String envName, String propertyName, float defaultValue) {
-    if (System.getenv(envName) != null) {
-      return Float.parseFloat(System.getenv(envName));
+    Snapshot current = snapshot();
+    String envValue = current.env.get(envName);
+    if (envValue != null) {
+      return Float.parseFloat(envValue);
     }
-    if (System.getProperty(propertyName) != null) {
-      return Float.parseFloat(System.getProperty(propertyName));
+    String systemValue = System.getProperty(propertyName);
+    if (systemValue != null) {
+      return Float.parseFloat(systemValue);
     }
     return getFloatValue(propertyName, defaultValue);
   }
 
   public boolean getBoolean(ConfVars c) {
-    return getBoolean(c.name(), c.getVarName(), c.getBooleanValue());
+    if (c.getType() != ConfVars.VarType.BOOLEAN) {
+      return getBoolean(c.name(), c.getVarName(), c.getBooleanValue());
+    }
+    Object value = resolve(c);
+    return value instanceof Boolean ? (Boolean) value : Boolean.parseBoolean((String) value);
   }
 
   public boolean getBoolean(String envName, String propertyName, boolean defaultValue) {
-    if (System.getenv(envName) != null) {
-      return Boolean.parseBoolean(System.getenv(envName));
+    Snapshot current = snapshot();
+    String envValue = current.env.get(envName);
+    if (envValue != null) {
+      return Boolean.parseBoolean(envValue);
     }
-
-    if (System.getProperty(propertyName) != null) {
-      return Boolean.parseBoolean(System.getProperty(propertyName));
+    String systemValue = System.getProperty(propertyName);
+    if (systemValue != null) {
+      return Boolean.parseBoolean(systemValue);
     }
     return getBooleanValue(propertyName, defaultValue);
   }
@@ -339,7 +481,7 @@ public class ZeppelinConfiguration extends XMLConfiguration {
 
   @VisibleForTesting
   public void setServerPort(int port) {
-    properties.put(ConfVars.ZEPPELIN_PORT.getVarName(), String.valueOf(port));
+    putProperty(ConfVars.ZEPPELIN_PORT.getVarName(), String.valueOf(port));
   }
 
   public int getServerPort() {
@@ -790,6 +932,30 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     return getString(ConfVars.ZEPPELIN_NOTEBOOK_CRON_FOLDERS);
   }
 
+  public int getZeppelinNotebookCronMaxConcurrency() {
+    return getInt(ConfVars.ZEPPELIN_NOTEBOOK_CRON_MAX_CONCURRENCY);
+  }
+
+  public int getZeppelinNotebookCronMaxConcurrencyPerSetting() {
+    return getInt(ConfVars.ZEPPELIN_NOTEBOOK_CRON_MAX_CONCURRENCY_PER_SETTING);
+  }
+
+  public long getZeppelinNotebookCronMaxJitter() {
+    return getLong(ConfVars.ZEPPELIN_NOTEBOOK_CRON_MAX_JITTER);
+  }
+
+  public String getZeppelinNotebookCronMisfire() {
+    return getString(ConfVars.ZEPPELIN_NOTEBOOK_CRON_MISFIRE);
+  }
+
+  public boolean isParagraphResultCacheEnabled() {
+    return getBoolean(ConfVars.ZEPPELIN_PARAGRAPH_RESULT_CACHE_ENABLE);
+  }
+
+  public String getParagraphResultCacheDir() {
+    return getAbsoluteDir(ConfVars.ZEPPELIN_PARAGRAPH_RESULT_CACHE_DIR);
+  }
+
   public Boolean isZeppelinNotebookCollaborativeModeEnable() {
     return getBoolean(ConfVars.ZEPPELIN_NOTEBOOK_COLLABORATIVE_MODE_ENABLE);
   }
@@ -827,7 +993,7 @@ public class ZeppelinConfiguration extends XMLConfiguration {
   }
 
   public void setClusterAddress(String clusterAddr) {
-    properties.put(ConfVars.ZEPPELIN_CLUSTER_ADDR.getVarName(), clusterAddr);
+    putProperty(ConfVars.ZEPPELIN_CLUSTER_ADDR.getVarName(), clusterAddr);
   }
 
   public boolean isClusterMode() {
@@ -857,7 +1023,7 @@ public class ZeppelinConfiguration extends XMLConfiguration {
 
   @VisibleForTesting
   public void setRunMode(RUN_MODE runMode) {
-    properties.put(ConfVars.ZEPPELIN_RUN_MODE.getVarName(), runMode.name());
+    putProperty(ConfVars.ZEPPELIN_RUN_MODE.getVarName(), runMode.name());
   }
 
   public boolean getK8sPortForward() {
@@ -945,6 +1111,55 @@ public class ZeppelinConfiguration extends XMLConfiguration {
 
   }
 
+  /**
+   * Immutable values of the configuration. The environment and zeppelin-site.xml values of the
+   * ConfVars are resolved and parsed when the snapshot is built. System properties can change at
+   * any time, so they are read when a value is resolved.
+   */
+  private static final class Snapshot {
+    private final Map<String, String> env;
+    private final Map<String, String> properties;
+    // indexed by ConfVars ordinal, the typed value or the string if it can't be parsed
+    private final Object[] envValues;
+    private final Object[] values;
+
+    Snapshot(Map<String, String> properties) {
+      this.env = System.getenv();
+      this.properties = Collections.unmodifiableMap(new HashMap<>(properties));
+      ConfVars[] vars = ConfVars.values();
+      this.envValues = new Object[vars.length];
+      this.values = new Object[vars.length];
+      for (ConfVars v : vars) {
+        String envValue = env.get(v.name());
+        if (envValue != null) {
+          envValues[v.ordinal()] = parse(v, envValue);
+        }
+        String value = this.properties.get(v.getVarName());
+        values[v.ordinal()] = value != null ? parse(v, value) : v.getDefaultValue();
+      }
+    }
+
+    private static Object parse(ConfVars v, String value) {
+      try {
+        switch (v.getType()) {
+          case INT:
+            return Integer.parseInt(value);
+          case LONG:
+            return Long.parseLong(value);
+          case FLOAT:
+            return Float.parseFloat(value);
+          case BOOLEAN:
+            return Boolean.parseBoolean(value);
+          default:
+            return value;
+        }
+      } catch (NumberFormatException e) {
+        // parsed again, and fails, when it is read
+        return value;
+      }
+    }
+  }
+
   /**
    * Wrapper class.
    */
@@ -981,8 +1196,27 @@ public class ZeppelinConfiguration extends XMLConfiguration {
         "https://repo1.maven.org/maven2/"),
     ZEPPELIN_INTERPRETER_CONNECT_TIMEOUT("zeppelin.interpreter.connect.timeout", 60000),
     ZEPPELIN_INTERPRETER_CONNECTION_POOL_SIZE("zeppelin.interpreter.connection.poolsize", 10),
+    ZEPPELIN_INTERPRETER_RPC_TRANSPORT("zeppelin.interpreter.rpc.transport", "blocking"),
     ZEPPELIN_INTERPRETER_GROUP_DEFAULT("zeppelin.interpreter.group.default", "spark"),
     ZEPPELIN_INTERPRETER_OUTPUT_LIMIT("zeppelin.interpreter.output.limit", 1024 * 100),
+    ZEPPELIN_INTERPRETER_OUTPUT_APPEND_BUFFER_SIZE("zeppelin.interpreter.output.append.bufferSize",
+        1024 * 1024),
+    ZEPPELIN_INTERPRETER_OUTPUT_APPEND_OVERFLOW_POLICY(
+        "zeppelin.interpreter.output.append.overflowPolicy", "truncate_middle"),
+    ZEPPELIN_INTERPRETER_OUTPUT_APPEND_FLUSH_THREADS(
+        "zeppelin.interpreter.output.append.flushThreads", 2),
+    ZEPPELIN_INTERPRETER_RESOURCE_POOL_MEMORY_LIMIT(
+        "zeppelin.interpreter.resourcePool.memory.limit", 0L),
+    ZEPPELIN_INTERPRETER_RESOURCE_POOL_OFF_HEAP_LIMIT(
+        "zeppelin.interpreter.resourcePool.offHeap.limit", 0L),
+    ZEPPELIN_INTERPRETER_RESOURCE_POOL_SPILL_THRESHOLD(
+        "zeppelin.interpreter.resourcePool.spill.threshold", 1024L * 1024),
+    ZEPPELIN_INTERPRETER_RESOURCE_POOL_SPILL_DIR("zeppelin.interpreter.resourcePool.spill.dir",
+        ""),
+    ZEPPELIN_INTERPRETER_RESOURCE_POOL_SERIALIZER("zeppelin.interpreter.resourcePool.serializer",
+        "kryo"),
+    ZEPPELIN_INTERPRETER_RESOURCE_POOL_KRYO_CLASSES(
+        "zeppelin.interpreter.resourcePool.kryo.classes", ""),
     ZEPPELIN_INTERPRETER_INCLUDES("zeppelin.interpreter.include", ""),
     ZEPPELIN_INTERPRETER_EXCLUDES("zeppelin.interpreter.exclude", ""),
 
@@ -1085,6 +1319,7 @@ public class ZeppelinConfiguration extends XMLConfiguration {
         "zeppelin.interpreter.lifecyclemanager.timeout.checkinterval", 60000L),
     ZEPPELIN_INTERPRETER_LIFECYCLE_MANAGER_TIMEOUT_THRESHOLD(
         "zeppelin.interpreter.lifecyclemanager.timeout.threshold", 3600000L),
+    ZEPPELIN_INTERPRETER_METRICS_INTERVAL("zeppelin.interpreter.metrics.interval", 30000L),
 
     ZEPPELIN_INTERPRETER_YARN_MONITOR_INTERVAL_SECS(
             "zeppelin.interpreter.yarn.monitor.interval_secs", 10),
@@ -1120,6 +1355,18 @@ public class ZeppelinConfiguration extends XMLConfiguration {
             true),
     ZEPPELIN_NOTEBOOK_CRON_ENABLE("zeppelin.notebook.cron.enable", false),
     ZEPPELIN_NOTEBOOK_CRON_FOLDERS("zeppelin.notebook.cron.folders", null),
+    ZEPPELIN_NOTEBOOK_CRON_MAX_CONCURRENCY("zeppelin.notebook.cron.maxConcurrency", 10),
+    ZEPPELIN_NOTEBOOK_CRON_MAX_CONCURRENCY_PER_SETTING(
+        "zeppelin.notebook.cron.maxConcurrencyPerSetting", 0),
+    ZEPPELIN_NOTEBOOK_CRON_MAX_JITTER("zeppelin.notebook.cron.maxJitter", 0L),
+    ZEPPELIN_NOTEBOOK_CRON_MISFIRE("zeppelin.notebook.cron.misfire", "skip"),
+    ZEPPELIN_PARAGRAPH_RESULT_CACHE_ENABLE("zeppelin.paragraph.result.cache.enable", false),
+    ZEPPELIN_PARAGRAPH_RESULT_CACHE_TTL("zeppelin.paragraph.result.cache.ttl", 3600L),
+    ZEPPELIN_PARAGRAPH_RESULT_CACHE_MEMORY_SIZE("zeppelin.paragraph.result.cache.memory.size",
+            64L * 1024 * 1024),
+    ZEPPELIN_PARAGRAPH_RESULT_CACHE_DISK_SIZE("zeppelin.paragraph.result.cache.disk.size",
+            1024L * 1024 * 1024),
+    ZEPPELIN_PARAGRAPH_RESULT_CACHE_DIR("zeppelin.paragraph.result.cache.dir", "paragraph-cache"),
     ZEPPELIN_PROXY_URL("zeppelin.proxy.url", null),
     ZEPPELIN_PROXY_USER("zeppelin.proxy.user", null),
     ZEPPELIN_PROXY_PASSWORD("zeppelin.proxy.password", null),
@@ -1229,6 +1476,21 @@ public class ZeppelinConfiguration extends XMLConfiguration {
       return type;
     }
 
+    Object getDefaultValue() {
+      switch (type) {
+        case INT:
+          return intValue;
+        case LONG:
+          return longValue;
+        case FLOAT:
+          return floatValue;
+        case BOOLEAN:
+          return booleanValue;
+        default:
+          return stringValue;
+      }
+    }
+
     enum VarType {
       STRING {
         @Override
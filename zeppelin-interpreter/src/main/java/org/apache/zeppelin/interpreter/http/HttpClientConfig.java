@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.http;
+
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * Settings of a {@link PooledHttpClient}. They are read from the interpreter properties
+ * prefixed by zeppelin.interpreter.http, any interpreter setting can define them.
+ */
+public class HttpClientConfig {
+
+  public static final String MAX_CONNECTIONS_PER_HOST =
+      "zeppelin.interpreter.http.maxConnectionsPerHost";
+  public static final String MAX_CONNECTIONS = "zeppelin.interpreter.http.maxConnections";
+  public static final String CONNECT_TIMEOUT = "zeppelin.interpreter.http.connectTimeout";
+  public static final String SOCKET_TIMEOUT = "zeppelin.interpreter.http.socketTimeout";
+  public static final String KEEP_ALIVE = "zeppelin.interpreter.http.keepAlive";
+  public static final String RETRIES = "zeppelin.interpreter.http.retries";
+
+  private int maxConnectionsPerHost = 20;
+  private int maxConnections = 200;
+  private int connectTimeoutMs = 10 * 1000;
+  // 0 is no timeout, REST APIs such as the KSQL queries stream their response
+  private int socketTimeoutMs = 0;
+  private long keepAliveMs = 60 * 1000;
+  private int retries = 2;
+  private long retryBackoffMs = 200;
+
+  public static HttpClientConfig fromProperties(Properties properties) {
+    HttpClientConfig config = new HttpClientConfig();
+    config.maxConnectionsPerHost = getInt(properties, MAX_CONNECTIONS_PER_HOST,
+        config.maxConnectionsPerHost);
+    config.maxConnections = getInt(properties, MAX_CONNECTIONS, config.maxConnections);
+    config.connectTimeoutMs = getInt(properties, CONNECT_TIMEOUT, config.connectTimeoutMs);
+    config.socketTimeoutMs = getInt(properties, SOCKET_TIMEOUT, config.socketTimeoutMs);
+    config.keepAliveMs = getInt(properties, KEEP_ALIVE, (int) config.keepAliveMs);
+    config.retries = getInt(properties, RETRIES, config.retries);
+    return config;
+  }
+
+  private static int getInt(Properties properties, String key, int defaultValue) {
+    String value = properties == null ? null : properties.getProperty(key);
+    if (value == null || value.trim().isEmpty()) {
+      return defaultValue;
+    }
+    return Integer.parseInt(value.trim());
+  }
+
+  public HttpClientConfig setMaxConnectionsPerHost(int maxConnectionsPerHost) {
+    this.maxConnectionsPerHost = maxConnectionsPerHost;
+    return this;
+  }
+
+  public HttpClientConfig setMaxConnections(int maxConnections) {
+    this.maxConnections = maxConnections;
+    return this;
+  }
+
+  public HttpClientConfig setConnectTimeoutMs(int connectTimeoutMs) {
+    this.connectTimeoutMs = connectTimeoutMs;
+    return this;
+  }
+
+  public HttpClientConfig setSocketTimeoutMs(int socketTimeoutMs) {
+    this.socketTimeoutMs = socketTimeoutMs;
+    return this;
+  }
+
+  public HttpClientConfig setKeepAliveMs(long keepAliveMs) {
+    this.keepAliveMs = keepAliveMs;
+    return this;
+  }
+
+  public HttpClientConfig setRetries(int retries) {
+    this.retries = retries;
+    return this;
+  }
+
+  public HttpClientConfig setRetryBackoffMs(long retryBackoffMs) {
+    this.retryBackoffMs = retryBackoffMs;
+    return this;
+  }
+
+  public int getMaxConnectionsPerHost() {
+    return maxConnectionsPerHost;
+  }
+
+  public int getMaxConnections() {
+    return maxConnections;
+  }
+
+  public int getConnectTimeoutMs() {
+    return connectTimeoutMs;
+  }
+
+  public int getSocketTimeoutMs() {
+    return socketTimeoutMs;
+  }
+
+  public long getKeepAliveMs() {
+    return keepAliveMs;
+  }
+
+  public int getRetries() {
+    return retries;
+  }
+
+  public long getRetryBackoffMs() {
+    return retryBackoffMs;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof HttpClientConfig)) {
+      return false;
+    }
+    HttpClientConfig that = (HttpClientConfig) o;
+    return maxConnectionsPerHost == that.maxConnectionsPerHost
+        && maxConnections == that.maxConnections
+        && connectTimeoutMs == that.connectTimeoutMs
+        && socketTimeoutMs == that.socketTimeoutMs
+        && keepAliveMs == that.keepAliveMs
+        && retries == that.retries
+        && retryBackoffMs == that.retryBackoffMs;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(maxConnectionsPerHost, maxConnections, connectTimeoutMs,
+        socketTimeoutMs, keepAliveMs, retries, retryBackoffMs);
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.http;
+
+/**
+ * Requests and connections of a {@link PooledHttpClient} to one host.
+ */
+public class HttpHostStats {
+
+  private final String host;
+  private final long requests;
+  private final long failures;
+  private final long retries;
+  private final long serverErrors;
+  private final long totalTimeMs;
+  private final int leased;
+  private final int available;
+  private final int pending;
+
+  HttpHostStats(String host, long requests, long failures, long retries, long serverErrors,
+                long totalTimeMs, int leased, int available, int pending) {
+    this.host = host;
+    this.requests = requests;
+    this.failures = failures;
+    this.retries = retries;
+    this.serverErrors = serverErrors;
+    this.totalTimeMs = totalTimeMs;
+    this.leased = leased;
+    this.available = available;
+    this.pending = pending;
+  }
+
+  /**
+   * Host and port of the calls, as host:port.
+   */
+  public String getHost() {
+    return host;
+  }
+
+  /**
+   * Requests sent, a retry counts as a request.
+   */
+  public long getRequests() {
+    return requests;
+  }
+
+  /**
+   * Requests without response, because of a connection or io error.
+   */
+  public long getFailures() {
+    return failures;
+  }
+
+  public long getRetries() {
+    return retries;
+  }
+
+  /**
+   * Responses with a 5xx status.
+   */
+  public long getServerErrors() {
+    return serverErrors;
+  }
+
+  /**
+   * Time waiting for the response headers of all the requests, in msec.
+   */
+  public long getTotalTimeMs() {
+    return totalTimeMs;
+  }
+
+  /**
+   * Connections in use.
+   */
+  public int getLeased() {
+    return leased;
+  }
+
+  /**
+   * Idle connections kept alive.
+   */
+  public int getAvailable() {
+    return available;
+  }
+
+  /**
+   * Requests waiting for a connection.
+   */
+  public int getPending() {
+    return pending;
+  }
+
+  @Override
+  public String toString() {
+    return "HttpHostStats{host=" + host + ", requests=" + requests + ", failures=" + failures
+        + ", retries=" + retries + ", serverErrors=" + serverErrors + ", totalTimeMs="
+        + totalTimeMs + ", leased=" + leased + ", available=" + available + ", pending="
+        + pending + "}";
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.http;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Request sent with a {@link PooledHttpClient}.
+ */
+public class HttpRequest {
+
+  private final String method;
+  private final String url;
+  private final List<Map.Entry<String, String>> headers = new ArrayList<>();
+  private byte[] body;
+  private String contentType;
+  // -1 is the client setting
+  private int timeoutMs = -1;
+  private int retries = -1;
+
+  public HttpRequest(String method, String url) {
+    this.method = method.toUpperCase();
+    this.url = url;
+  }
+
+  public static HttpRequest get(String url) {
+    return new HttpRequest("GET", url);
+  }
+
+  public static HttpRequest post(String url) {
+    return new HttpRequest("POST", url);
+  }
+
+  public static HttpRequest put(String url) {
+    return new HttpRequest("PUT", url);
+  }
+
+  public static HttpRequest delete(String url) {
+    return new HttpRequest("DELETE", url);
+  }
+
+  public HttpRequest header(String name, String value) {
+    headers.add(new AbstractMap.SimpleImmutableEntry<>(name, value));
+    return this;
+  }
+
+  public HttpRequest body(String body, String contentType) {
+    return body(body.getBytes(StandardCharsets.UTF_8), contentType);
+  }
+
+  public HttpRequest body(byte[] body, String contentType) {
+    this.body = body;
+    this.contentType = contentType;
+    return this;
+  }
+
+  /**
+   * Max time in msec without data from the server, instead of the one of the client.
+   */
+  public HttpRequest timeout(int timeoutMs) {
+    this.timeoutMs = timeoutMs;
+    return this;
+  }
+
+  /**
+   * Number of retries on connection failures, instead of the one of the client.
+   */
+  public HttpRequest retries(int retries) {
+    this.retries = retries;
+    return this;
+  }
+
+  public String getMethod() {
+    return method;
+  }
+
+  public String getUrl() {
+    return url;
+  }
+
+  public List<Map.Entry<String, String>> getHeaders() {
+    return Collections.unmodifiableList(headers);
+  }
+
+  public byte[] getBody() {
+    return body;
+  }
+
+  public String getContentType() {
+    return contentType;
+  }
+
+  int getTimeoutMs() {
+    return timeoutMs;
+  }
+
+  int getRetries() {
+    return retries;
+  }
+
+  /**
+   * A request which can be sent again without side effect, it is retried even when it may
+   * have reached the server.
+   */
+  boolean isIdempotent() {
+    return !"POST".equals(method) && !"PATCH".equals(method);
+  }
+}
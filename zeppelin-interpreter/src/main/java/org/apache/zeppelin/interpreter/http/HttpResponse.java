@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.http;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.util.EntityUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response of a {@link PooledHttpClient}. The body is streamed from the connection, which goes
+ * back to the pool when the body is read to its end and the response is closed.
+ */
+public class HttpResponse implements Closeable {
+
+  private final HttpUriRequest request;
+  private final CloseableHttpResponse response;
+
+  HttpResponse(HttpUriRequest request, CloseableHttpResponse response) {
+    this.request = request;
+    this.response = response;
+  }
+
+  public int getStatus() {
+    return response.getStatusLine().getStatusCode();
+  }
+
+  public String getReason() {
+    return response.getStatusLine().getReasonPhrase();
+  }
+
+  public boolean isSuccess() {
+    return getStatus() >= 200 && getStatus() < 300;
+  }
+
+  /**
+   * @return the first value of the header, or null
+   */
+  public String getHeader(String name) {
+    Header header = response.getFirstHeader(name);
+    return header == null ? null : header.getValue();
+  }
+
+  public Map<String, List<String>> getHeaders() {
+    Map<String, List<String>> headers = new LinkedHashMap<>();
+    for (Header header : response.getAllHeaders()) {
+      headers.computeIfAbsent(header.getName(), k -> new ArrayList<>()).add(header.getValue());
+    }
+    return headers;
+  }
+
+  /**
+   * Body of the response, read from the connection.
+   */
+  public InputStream getBody() throws IOException {
+    HttpEntity entity = response.getEntity();
+    return entity == null ? new ByteArrayInputStream(new byte[0]) : entity.getContent();
+  }
+
+  /**
+   * Whole body of the response, decoded with the charset of the response or UTF-8.
+   */
+  public String getBodyAsString() throws IOException {
+    HttpEntity entity = response.getEntity();
+    if (entity == null) {
+      return "";
+    }
+    return EntityUtils.toString(entity, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Stop the request, e.g. a response streamed until it is cancelled. The connection is
+   * closed instead of going back to the pool.
+   */
+  public void abort() {
+    request.abort();
+  }
+
+  @Override
+  public void close() throws IOException {
+    // a connection with unread body is closed, the other ones are kept alive
+    response.close();
+  }
+}
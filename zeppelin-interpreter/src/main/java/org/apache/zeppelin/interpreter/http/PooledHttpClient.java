@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.http;
+
+import org.apache.http.HeaderElement;
+import org.apache.http.HeaderElementIterator;
+import org.apache.http.HttpHost;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.message.BasicHeaderElementIterator;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HTTP;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLException;
+
+/**
+ * HTTP client of the interpreters calling a REST API. Connections are pooled per host and kept
+ * alive between the requests, so that a paragraph doesn't pay the TCP and TLS handshakes, and
+ * the connections to one host are bounded.
+ *
+ * Requests failing to connect are retried, the other failures only for idempotent methods.
+ * The interpreters of a process with the same settings share {@link #getShared(Properties)}, a
+ * client with its own SSL settings can be created instead.
+ */
+public class PooledHttpClient implements Closeable {
+  private static final Logger LOGGER = LoggerFactory.getLogger(PooledHttpClient.class);
+
+  // a pooled connection idle for this time is checked before being reused
+  private static final int VALIDATE_AFTER_INACTIVITY_MS = 2000;
+
+  // by the settings of the interpreters sharing them
+  private static final Map<HttpClientConfig, PooledHttpClient> SHARED = new HashMap<>();
+
+  private final HttpClientConfig config;
+  private final PoolingHttpClientConnectionManager connectionManager;
+  private final CloseableHttpClient client;
+  private final RequestConfig defaultRequestConfig;
+  private final Map<String, HostCounters> hosts = new ConcurrentHashMap<>();
+
+  /**
+   * Client shared by the interpreters of this process with the same zeppelin.interpreter.http
+   * settings.
+   */
+  public static synchronized PooledHttpClient getShared(Properties properties) {
+    return SHARED.computeIfAbsent(HttpClientConfig.fromProperties(properties),
+        PooledHttpClient::new);
+  }
+
+  public PooledHttpClient(HttpClientConfig config) {
+    this(config, null);
+  }
+
+  /**
+   * @param sslContext used for the https connections, the default one if null
+   */
+  public PooledHttpClient(HttpClientConfig config, SSLContext sslContext) {
+    this.config = config;
+    Registry<ConnectionSocketFactory> registry = RegistryBuilder.<ConnectionSocketFactory>create()
+        .register("http", PlainConnectionSocketFactory.getSocketFactory())
+        .register("https", sslContext == null ? SSLConnectionSocketFactory.getSocketFactory()
+            : new SSLConnectionSocketFactory(sslContext))
+        .build();
+    this.connectionManager = new PoolingHttpClientConnectionManager(registry);
+    connectionManager.setMaxTotal(config.getMaxConnections());
+    connectionManager.setDefaultMaxPerRoute(config.getMaxConnectionsPerHost());
+    connectionManager.setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY_MS);
+    this.defaultRequestConfig = RequestConfig.custom()
+        .setConnectTimeout(config.getConnectTimeoutMs())
+        .setConnectionRequestTimeout(config.getConnectTimeoutMs())
+        .setSocketTimeout(config.getSocketTimeoutMs())
+        .build();
+    this.client = HttpClients.custom()
+        .setConnectionManager(connectionManager)
+        .setDefaultRequestConfig(defaultRequestConfig)
+        .setKeepAliveStrategy(keepAliveStrategy(config.getKeepAliveMs()))
+        .evictIdleConnections(config.getKeepAliveMs(), TimeUnit.MILLISECONDS)
+        // retries are done by execute()
+        .disableAutomaticRetries()
+        .build();
+  }
+
+  /**
+   * Send the request. The response must be closed, once its body is read.
+   *
+   * @throws IOException if there's no response after the retries
+   */
+  public HttpResponse execute(HttpRequest request) throws IOException {
+    URI uri;
+    try {
+      uri = URI.create(request.getUrl());
+    } catch (IllegalArgumentException e) {
+      throw new IOException("Invalid url " + request.getUrl(), e);
+    }
+    HostCounters counters = hosts.computeIfAbsent(getHostKey(uri), k -> new HostCounters());
+    int retries = request.getRetries() < 0 ? config.getRetries() : request.getRetries();
+    for (int attempt = 0; true; attempt++) {
+      HttpUriRequest httpRequest = createRequest(request, uri);
+      long start = System.nanoTime();
+      counters.requests.increment();
+      try {
+        CloseableHttpResponse response = client.execute(httpRequest);
+        counters.timeMs.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        if (response.getStatusLine().getStatusCode() >= 500) {
+          counters.serverErrors.increment();
+        }
+        return new HttpResponse(httpRequest, response);
+      } catch (IOException e) {
+        counters.failures.increment();
+        if (attempt >= retries || !isRetriable(request, e)) {
+          throw e;
+        }
+        counters.retries.increment();
+        LOGGER.warn("Fail to send {} {}, retry {}/{}: {}", request.getMethod(), uri,
+            attempt + 1, retries, e.toString());
+        try {
+          Thread.sleep(config.getRetryBackoffMs() * (attempt + 1));
+        } catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+          throw new InterruptedIOException("Interrupted while retrying " + uri);
+        }
+      }
+    }
+  }
+
+  /**
+   * Statistics per host:port of the hosts called by this client.
+   */
+  public Map<String, HttpHostStats> getHostStats() {
+    Map<String, PoolStats> poolStats = new HashMap<>();
+    for (HttpRoute route : connectionManager.getRoutes()) {
+      HttpHost target = route.getTargetHost();
+      poolStats.put(target.getHostName().toLowerCase(Locale.ROOT) + ":" + target.getPort(),
+          connectionManager.getStats(route));
+    }
+    Map<String, HttpHostStats> stats = new HashMap<>();
+    hosts.forEach((host, counters) -> {
+      PoolStats pool = poolStats.get(host);
+      stats.put(host, new HttpHostStats(host, counters.requests.sum(), counters.failures.sum(),
+          counters.retries.sum(), counters.serverErrors.sum(), counters.timeMs.sum(),
+          pool == null ? 0 : pool.getLeased(), pool == null ? 0 : pool.getAvailable(),
+          pool == null ? 0 : pool.getPending()));
+    });
+    return stats;
+  }
+
+  public HttpClientConfig getConfig() {
+    return config;
+  }
+
+  @Override
+  public void close() throws IOException {
+    client.close();
+  }
+
+  private HttpUriRequest createRequest(HttpRequest request, URI uri) {
+    RequestBuilder builder = RequestBuilder.create(request.getMethod()).setUri(uri);
+    for (Map.Entry<String, String> header : request.getHeaders()) {
+      builder.addHeader(header.getKey(), header.getValue());
+    }
+    if (request.getBody() != null) {
+      builder.setEntity(request.getContentType() == null
+          ? new ByteArrayEntity(request.getBody())
+          : new ByteArrayEntity(request.getBody(), ContentType.parse(request.getContentType())));
+    }
+    if (request.getTimeoutMs() >= 0) {
+      builder.setConfig(RequestConfig.copy(defaultRequestConfig)
+          .setSocketTimeout(request.getTimeoutMs())
+          .build());
+    }
+    return builder.build();
+  }
+
+  static boolean isRetriable(HttpRequest request, IOException e) {
+    if (e instanceof ConnectException || e instanceof ConnectTimeoutException) {
+      // the request was not sent
+      return true;
+    }
+    return request.isIdempotent()
+        && !(e instanceof UnknownHostException)
+        && !(e instanceof SSLException)
+        && !(e instanceof SocketTimeoutException)
+        && !(e instanceof InterruptedIOException);
+  }
+
+  private static String getHostKey(URI uri) {
+    int port = uri.getPort();
+    if (port < 0) {
+      port = "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+    }
+    return String.valueOf(uri.getHost()).toLowerCase(Locale.ROOT) + ":" + port;
+  }
+
+  // the keep-alive time sent by the server, or the configured one
+  private static ConnectionKeepAliveStrategy keepAliveStrategy(long keepAliveMs) {
+    return (response, context) -> {
+      HeaderElementIterator it =
+          new BasicHeaderElementIterator(response.headerIterator(HTTP.CONN_KEEP_ALIVE));
+      while (it.hasNext()) {
+        HeaderElement element = it.nextElement();
+        if ("timeout".equalsIgnoreCase(element.getName()) && element.getValue() != null) {
+          try {
+            return Math.min(keepAliveMs, Long.parseLong(element.getValue()) * 1000);
+          } catch (NumberFormatException e) {
+            // use the configured time
+          }
+        }
+      }
+      return keepAliveMs;
+    };
+  }
+
+  private static class HostCounters {
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final LongAdder timeMs = new LongAdder();
+  }
+}
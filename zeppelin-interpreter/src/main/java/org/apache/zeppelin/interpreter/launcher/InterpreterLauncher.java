@@ -18,6 +18,7 @@
 package org.apache.zeppelin.interpreter.launcher;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Properties;
 
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
@@ -26,6 +27,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_CONNECTION_POOL_SIZE;
+import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RPC_TRANSPORT;
 
 /**
  * Component to Launch interpreter process.
@@ -70,6 +72,15 @@ public abstract class InterpreterLauncher {
             ZEPPELIN_INTERPRETER_CONNECTION_POOL_SIZE.getIntValue() + ""));
   }
 
+  /**
+   * The interpreter process must serve the rpc transport of zeppelin server, it reads it from
+   * this env variable.
+   */
+  protected void setRpcTransportEnv(Map<String, String> env) {
+    env.put(ZEPPELIN_INTERPRETER_RPC_TRANSPORT.name(),
+        zConf.getString(ZEPPELIN_INTERPRETER_RPC_TRANSPORT));
+  }
+
   public static String escapeSpecialCharacter(String command) {
     StringBuilder builder = new StringBuilder();
     for (char c : command.toCharArray()) {
@@ -20,6 +20,7 @@ package org.apache.zeppelin.interpreter.lifecycle;
 import org.apache.thrift.TException;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.interpreter.LifecycleManager;
+import org.apache.zeppelin.interpreter.remote.InterpreterProcessMetrics;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterServer;
 import org.apache.zeppelin.scheduler.ExecutorFactory;
 import org.slf4j.Logger;
@@ -36,12 +37,15 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
  * For now, this class only manage the lifecycle of interpreter group (will close interpreter
  * process after timeout). Managing the lifecycle of interpreter session could be done in future
  * if necessary.
+ *
+ * The process is busy as long as jobs are running or waiting in its schedulers, so a paragraph
+ * running longer than the timeout doesn't get its process closed.
  */
 public class TimeoutLifecycleManager extends LifecycleManager {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(TimeoutLifecycleManager.class);
 
-  private long lastBusyTimeInMillis;
+  private volatile long lastBusyTimeInMillis;
 
   public TimeoutLifecycleManager(ZeppelinConfiguration zConf,
                                  RemoteInterpreterServer remoteInterpreterServer) {
@@ -52,7 +56,11 @@ public class TimeoutLifecycleManager extends LifecycleManager {
         ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_LIFECYCLE_MANAGER_TIMEOUT_THRESHOLD);
     ScheduledExecutorService checkScheduler = ExecutorFactory.singleton()
         .createOrGetScheduled("TimeoutLifecycleManager", 1);
+    InterpreterProcessMetrics processMetrics = remoteInterpreterServer.getProcessMetrics();
     checkScheduler.scheduleAtFixedRate(() -> {
+      if (processMetrics.getRunningJobs() > 0 || processMetrics.getPendingJobs() > 0) {
+        lastBusyTimeInMillis = System.currentTimeMillis();
+      }
       if ((System.currentTimeMillis() - lastBusyTimeInMillis) > timeoutThreshold) {
         LOGGER.info("Interpreter process idle time exceed threshold, try to stop it");
         try {
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import org.apache.zeppelin.scheduler.FairJobQueue;
+import org.apache.zeppelin.scheduler.FairScheduler;
+import org.apache.zeppelin.scheduler.Job;
+import org.apache.zeppelin.scheduler.Scheduler;
+import org.apache.zeppelin.scheduler.SchedulerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+
+/**
+ * JVM and scheduler metrics of an interpreter process. {@link RemoteInterpreterServer} sends
+ * them to zeppelin server every zeppelin.interpreter.metrics.interval msec, which exports them
+ * tagged by interpreter setting, group and user.
+ *
+ * Other components of the process can add their own values with {@link #register}.
+ */
+public class InterpreterProcessMetrics {
+  private static final Logger LOGGER = LoggerFactory.getLogger(InterpreterProcessMetrics.class);
+
+  private final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+  private final OperatingSystemMXBean osBean = ManagementFactory.getOperatingSystemMXBean();
+  private final Map<String, DoubleSupplier> gauges = new ConcurrentHashMap<>();
+
+  // to compute the share of time spent in GC between two collects
+  private long lastCollectTime = System.currentTimeMillis();
+  private long lastGcTime;
+
+  /**
+   * Add a value to the collected metrics, replacing the one with the same name.
+   */
+  public void register(String name, DoubleSupplier value) {
+    gauges.put(name, value);
+  }
+
+  public void unregister(String name) {
+    gauges.remove(name);
+  }
+
+  /**
+   * Current values, by metric name. Memory is in bytes and times in msec.
+   */
+  public synchronized Map<String, Double> collect() {
+    Map<String, Double> metrics = new TreeMap<>();
+    MemoryUsage heap = memoryBean.getHeapMemoryUsage();
+    metrics.put("jvm.memory.heap.used", (double) heap.getUsed());
+    metrics.put("jvm.memory.heap.committed", (double) heap.getCommitted());
+    metrics.put("jvm.memory.heap.max", (double) heap.getMax());
+    metrics.put("jvm.memory.nonheap.used",
+        (double) memoryBean.getNonHeapMemoryUsage().getUsed());
+
+    long gcCount = 0;
+    long gcTime = 0;
+    for (GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+      gcCount += Math.max(0, gcBean.getCollectionCount());
+      gcTime += Math.max(0, gcBean.getCollectionTime());
+    }
+    long now = System.currentTimeMillis();
+    metrics.put("jvm.gc.count", (double) gcCount);
+    metrics.put("jvm.gc.time", (double) gcTime);
+    metrics.put("jvm.gc.time.ratio",
+        (double) (gcTime - lastGcTime) / Math.max(1, now - lastCollectTime));
+    lastGcTime = gcTime;
+    lastCollectTime = now;
+
+    metrics.put("jvm.threads.live", (double) ManagementFactory.getThreadMXBean().getThreadCount());
+    metrics.put("process.cpu.load", getProcessCpuLoad());
+    metrics.put("system.load.average", osBean.getSystemLoadAverage());
+
+    int[] jobs = countJobs();
+    metrics.put("scheduler.jobs.pending", (double) jobs[0]);
+    metrics.put("scheduler.jobs.running", (double) jobs[1]);
+    collectQueueWaits(metrics);
+
+    for (Map.Entry<String, DoubleSupplier> gauge : gauges.entrySet()) {
+      try {
+        metrics.put(gauge.getKey(), gauge.getValue().getAsDouble());
+      } catch (RuntimeException e) {
+        LOGGER.debug("Fail to get metric {}", gauge.getKey(), e);
+      }
+    }
+    return metrics;
+  }
+
+  /**
+   * Recent CPU usage of the process, from 0 to 1 of all the cores, or -1 if not available.
+   */
+  public double getProcessCpuLoad() {
+    if (osBean instanceof com.sun.management.OperatingSystemMXBean) {
+      return ((com.sun.management.OperatingSystemMXBean) osBean).getProcessCpuLoad();
+    }
+    return -1;
+  }
+
+  /**
+   * Number of jobs waiting in the schedulers of the process.
+   */
+  public int getPendingJobs() {
+    return countJobs()[0];
+  }
+
+  /**
+   * Number of jobs running in the schedulers of the process.
+   */
+  public int getRunningJobs() {
+    return countJobs()[1];
+  }
+
+  // queue waits of the fair schedulers since the previous collect, by priority
+  private void collectQueueWaits(Map<String, Double> metrics) {
+    List<FairJobQueue> queues = new ArrayList<>();
+    for (Scheduler scheduler : SchedulerFactory.singleton().getSchedulers()) {
+      if (scheduler instanceof FairScheduler) {
+        queues.add(((FairScheduler) scheduler).getQueue());
+      }
+    }
+    FairJobQueue.putMetrics(metrics, queues);
+  }
+
+
+  private int[] countJobs() {
+    int[] jobs = new int[2];
+    for (Scheduler scheduler : SchedulerFactory.singleton().getSchedulers()) {
+      for (Job job : scheduler.getAllJobs()) {
+        if (job.getStatus() == Job.Status.PENDING) {
+          jobs[0]++;
+        } else if (job.getStatus() == Job.Status.RUNNING) {
+          jobs[1]++;
+        }
+      }
+    }
+    return jobs;
+  }
+}
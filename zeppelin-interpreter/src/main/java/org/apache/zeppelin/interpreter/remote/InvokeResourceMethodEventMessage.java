@@ -67,6 +67,26 @@ public class InvokeResourceMethodEventMessage implements JsonSerializable {
     return types;
   }
 
+  /**
+   * @return the params converted to their declared types, as json turns numbers into doubles
+   */
+  public Object [] getParams() throws ClassNotFoundException {
+    Class [] types = getParamTypes();
+    if (types == null || params == null) {
+      return params;
+    }
+
+    Object [] converted = new Object[params.length];
+    for (int i = 0; i < params.length; i++) {
+      if (params[i] == null || types[i].isInstance(params[i])) {
+        converted[i] = params[i];
+      } else {
+        converted[i] = gson.fromJson(gson.toJson(params[i]), types[i]);
+      }
+    }
+    return converted;
+  }
+
   public boolean shouldPutResultIntoResourcePool() {
     return (returnResourceName != null);
   }
@@ -34,6 +34,7 @@ public class PooledRemoteClient<T extends TServiceClient> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(PooledRemoteClient.class);
   private static final int RETRY_COUNT = 3;
+  private static final long BORROW_TIMEOUT_MS = 5_000;
 
   private GenericObjectPool<T> clientPool;
   private RemoteClientFactory<T> remoteClientFactory;
@@ -50,9 +51,32 @@ public class PooledRemoteClient<T extends TServiceClient> {
     this(supplier, 10);
   }
 
-  public synchronized T getClient() throws Exception {
-    T t = clientPool.borrowObject(5_000);
-    return t;
+  public T getClient() throws Exception {
+    // the pool is thread safe, callers only wait for a free client
+    return clientPool.borrowObject(BORROW_TIMEOUT_MS);
+  }
+
+  public int getNumActive() {
+    return clientPool.getNumActive();
+  }
+
+  public int getNumIdle() {
+    return clientPool.getNumIdle();
+  }
+
+  public int getNumWaiters() {
+    return clientPool.getNumWaiters();
+  }
+
+  /**
+   * Mean time waited for a client by the last borrowers.
+   */
+  public long getMeanBorrowWaitTimeMillis() {
+    return clientPool.getMeanBorrowWaitTimeMillis();
+  }
+
+  public long getMaxBorrowWaitTimeMillis() {
+    return clientPool.getMaxBorrowWaitTimeMillis();
   }
 
   public void shutdown() {
@@ -18,10 +18,6 @@ package org.apache.zeppelin.interpreter.remote;
 
 import com.google.gson.Gson;
 import org.apache.thrift.TException;
-import org.apache.thrift.protocol.TBinaryProtocol;
-import org.apache.thrift.protocol.TProtocol;
-import org.apache.thrift.transport.TSocket;
-import org.apache.thrift.transport.TTransportException;
 import org.apache.zeppelin.display.AngularObject;
 import org.apache.zeppelin.display.AngularObjectRegistryListener;
 import org.apache.zeppelin.interpreter.InterpreterResult;
@@ -65,16 +61,14 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector,
   private String intpGroupId;
 
   public RemoteInterpreterEventClient(String intpEventHost, int intpEventPort) {
-    this.remoteClient = new PooledRemoteClient<>(() -> {
-      TSocket transport = new TSocket(intpEventHost, intpEventPort);
-      try {
-        transport.open();
-      } catch (TTransportException e) {
-        throw new IOException(e);
-      }
-      TProtocol protocol = new TBinaryProtocol(transport);
-      return new RemoteInterpreterEventService.Client(protocol);
-    });
+    this(intpEventHost, intpEventPort, RemoteTransport.BLOCKING);
+  }
+
+  public RemoteInterpreterEventClient(String intpEventHost, int intpEventPort,
+                                      RemoteTransport transport) {
+    this.remoteClient = new PooledRemoteClient<>(() ->
+        new RemoteInterpreterEventService.Client(
+            transport.openProtocol(intpEventHost, intpEventPort)));
   }
 
   public <R> R callRemoteFunction(PooledRemoteClient.RemoteFunction<R, RemoteInterpreterEventService.Client> func) {
@@ -99,6 +93,13 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector,
     });
   }
 
+  public void sendProcessMetrics(Map<String, Double> metrics) {
+    callRemoteFunction(client -> {
+      client.sendProcessMetrics(intpGroupId, metrics);
+      return null;
+    });
+  }
+
   public void sendWebUrlInfo(String webUrl) {
     callRemoteFunction(client -> {
       client.sendWebUrl(new WebUrlInfo(intpGroupId, webUrl));
@@ -22,8 +22,8 @@ import com.google.gson.reflect.TypeToken;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.thrift.TException;
-import org.apache.thrift.server.TThreadPoolServer;
-import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TServerTransport;
 import org.apache.thrift.transport.TTransportException;
 import org.apache.zeppelin.cluster.ClusterManagerClient;
 import org.apache.zeppelin.cluster.meta.ClusterMeta;
@@ -61,14 +61,20 @@ import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterContext;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResult;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResultMessage;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService;
+import org.apache.zeppelin.interpreter.thrift.RemoteJobProgress;
+import org.apache.zeppelin.interpreter.thrift.RemoteJobQuery;
 import org.apache.zeppelin.resource.DistributedResourcePool;
 import org.apache.zeppelin.resource.Resource;
+import org.apache.zeppelin.resource.ResourceMemoryManager;
 import org.apache.zeppelin.resource.ResourcePool;
+import org.apache.zeppelin.resource.ResourceSerializers;
 import org.apache.zeppelin.resource.ResourceSet;
+import org.apache.zeppelin.scheduler.ExecutionTrace;
 import org.apache.zeppelin.scheduler.ExecutorFactory;
 import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.scheduler.Job.Status;
 import org.apache.zeppelin.scheduler.JobListener;
+import org.apache.zeppelin.scheduler.JobPriority;
 import org.apache.zeppelin.scheduler.Scheduler;
 import org.apache.zeppelin.scheduler.SchedulerFactory;
 import org.apache.zeppelin.user.AuthenticationInfo;
@@ -85,6 +91,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -93,6 +100,7 @@ import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
@@ -114,6 +122,7 @@ public class RemoteInterpreterServer extends Thread
   private AngularObjectRegistry angularObjectRegistry;
   private InterpreterHookRegistry hookRegistry;
   private DistributedResourcePool resourcePool;
+  private ResourceMemoryManager resourceMemoryManager;
   private ApplicationLoader appLoader;
   private Gson gson = new Gson();
   private String launcherEnv = System.getenv("ZEPPELIN_INTERPRETER_LAUNCHER");
@@ -122,10 +131,12 @@ public class RemoteInterpreterServer extends Thread
   private int intpEventServerPort;
   private String host;
   private int port;
-  private TThreadPoolServer server;
+  private final RemoteTransport transport;
+  private TServer server;
   RemoteInterpreterEventClient intpEventClient;
   private DependencyResolver depLoader;
   private LifecycleManager lifecycleManager;
+  private final InterpreterProcessMetrics processMetrics = new InterpreterProcessMetrics();
 
   private final Map<String, RunningApplication> runningApplications =
       Collections.synchronizedMap(new HashMap<String, RunningApplication>());
@@ -161,6 +172,7 @@ public class RemoteInterpreterServer extends Thread
                                  String interpreterGroupId,
                                  boolean isTest) throws Exception {
     super("RemoteInterpreterServer-Thread");
+    this.transport = RemoteTransport.fromConf(ZeppelinConfiguration.create());
     if (null != intpEventServerHost) {
       this.intpEventServerHost = intpEventServerHost;
       this.intpEventServerPort = intpEventServerPort;
@@ -169,7 +181,8 @@ public class RemoteInterpreterServer extends Thread
       if (!isTest) {
         LOGGER.info("Starting remote interpreter server on port {}, intpEventServerAddress: {}:{}", port,
           intpEventServerHost, intpEventServerPort);
-        intpEventClient = new RemoteInterpreterEventClient(intpEventServerHost, intpEventServerPort);
+        intpEventClient = new RemoteInterpreterEventClient(intpEventServerHost, intpEventServerPort,
+            transport);
       }
     } else {
       // DevInterpreter
@@ -183,19 +196,17 @@ public class RemoteInterpreterServer extends Thread
   public void run() {
     RemoteInterpreterService.Processor<RemoteInterpreterServer> processor =
       new RemoteInterpreterService.Processor<>(this);
-    try (TServerSocket tSocket = new TServerSocket(port)){
-      server = new TThreadPoolServer(
-      new TThreadPoolServer.Args(tSocket)
-        .stopTimeoutVal(DEFAULT_SHUTDOWN_TIMEOUT)
-        .stopTimeoutUnit(TimeUnit.MILLISECONDS)
-        .processor(processor));
+    try (TServerTransport serverTransport = transport.createServerTransport(port)) {
+      server = transport.createServer(serverTransport, processor, DEFAULT_SHUTDOWN_TIMEOUT,
+          "RemoteInterpreterServer-Worker");
 
       if (null != intpEventServerHost && !isTest) {
         Thread registerThread = new Thread(new RegisterRunnable());
         registerThread.setName("RegisterThread");
         registerThread.start();
       }
-      LOGGER.info("Launching ThriftServer at {}:{}", this.host, this.port);
+      LOGGER.info("Launching ThriftServer at {}:{} with {} transport", this.host, this.port,
+          transport);
       server.serve();
     } catch (TTransportException e) {
       LOGGER.error("Failure in TTransport", e);
@@ -227,6 +238,27 @@ public class RemoteInterpreterServer extends Thread
     } catch (Exception e) {
       throw new TException("Fail to create LifeCycleManager", e);
     }
+    startMetricsReport();
+  }
+
+  private void startMetricsReport() {
+    long interval = zConf.getLong(
+        ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_METRICS_INTERVAL);
+    if (interval <= 0 || intpEventClient == null) {
+      return;
+    }
+    ExecutorFactory.singleton().createOrGetScheduled("InterpreterProcessMetrics", 1)
+        .scheduleWithFixedDelay(() -> {
+          // the interpreter group is only known by zeppelin server once an interpreter is created
+          if (interpreterGroup == null) {
+            return;
+          }
+          try {
+            intpEventClient.sendProcessMetrics(processMetrics.collect());
+          } catch (Exception e) {
+            LOGGER.warn("Fail to send interpreter process metrics", e);
+          }
+        }, interval, interval, TimeUnit.MILLISECONDS);
   }
 
   @Override
@@ -264,6 +296,10 @@ public class RemoteInterpreterServer extends Thread
     return this.lifecycleManager;
   }
 
+  public InterpreterProcessMetrics getProcessMetrics() {
+    return processMetrics;
+  }
+
   public int getPort() {
     return port;
   }
@@ -347,7 +383,17 @@ public class RemoteInterpreterServer extends Thread
         interpreterGroup = new InterpreterGroup(interpreterGroupId);
         angularObjectRegistry = new AngularObjectRegistry(interpreterGroup.getId(), intpEventClient);
         hookRegistry = new InterpreterHookRegistry();
-        resourcePool = new DistributedResourcePool(interpreterGroup.getId(), intpEventClient);
+        ResourceSerializers.configure(properties);
+        resourceMemoryManager = ResourceMemoryManager.create(properties);
+        resourcePool = new DistributedResourcePool(interpreterGroup.getId(), intpEventClient,
+            resourceMemoryManager);
+        if (resourceMemoryManager != null) {
+          ResourceMemoryManager memoryManager = resourceMemoryManager;
+          processMetrics.register("resourcepool.memory.resident",
+              memoryManager::getResidentBytes);
+          processMetrics.register("resourcepool.memory.offheap", memoryManager::getOffHeapBytes);
+          processMetrics.register("resourcepool.memory.disk", memoryManager::getDiskBytes);
+        }
         interpreterGroup.setInterpreterHookRegistry(hookRegistry);
         interpreterGroup.setAngularObjectRegistry(angularObjectRegistry);
         interpreterGroup.setResourcePool(resourcePool);
@@ -496,11 +542,13 @@ public class RemoteInterpreterServer extends Thread
       LOGGER.info("Reconnect to this interpreter process from {}:{}", host, port);
       this.intpEventServerHost = host;
       this.intpEventServerPort = port;
-      intpEventClient = new RemoteInterpreterEventClient(intpEventServerHost, intpEventServerPort);
+      intpEventClient = new RemoteInterpreterEventClient(intpEventServerHost, intpEventServerPort,
+          transport);
       intpEventClient.setIntpGroupId(interpreterGroupId);
 
       this.angularObjectRegistry = new AngularObjectRegistry(interpreterGroup.getId(), intpEventClient);
-      this.resourcePool = new DistributedResourcePool(interpreterGroup.getId(), intpEventClient);
+      this.resourcePool = new DistributedResourcePool(interpreterGroup.getId(), intpEventClient,
+          resourceMemoryManager);
 
       // reset all the available InterpreterContext's components that use intpEventClient.
       for (InterpreterContext context : InterpreterContext.getAllContexts().values()) {
@@ -540,7 +588,8 @@ public class RemoteInterpreterServer extends Thread
         return convert(result,
                 context.getConfig(),
                 context.getGui(),
-                context.getNoteGui());
+                context.getNoteGui(),
+                null);
       }
     } else {
       Scheduler scheduler = intp.getScheduler();
@@ -552,8 +601,21 @@ public class RemoteInterpreterServer extends Thread
               intp,
               st,
               context);
+      interpretJob.setExecutionTrace(
+          ExecutionTrace.fromContext(interpreterContext.getTraceContext()));
       runningJobs.put(context.getParagraphId(), interpretJob);
-      scheduler.submit(interpretJob);
+      try {
+        scheduler.submit(interpretJob);
+      } catch (RejectedExecutionException e) {
+        LOGGER.warn("Paragraph {} is rejected by scheduler {}: {}",
+            context.getParagraphId(), scheduler.getName(), e.getMessage());
+        runningJobs.remove(context.getParagraphId());
+        return convert(new InterpreterResult(Code.ERROR, e.getMessage()),
+            context.getConfig(),
+            context.getGui(),
+            context.getNoteGui(),
+            null);
+      }
     }
 
     while (!interpretJob.isTerminated()) {
@@ -577,10 +639,13 @@ public class RemoteInterpreterServer extends Thread
     if (result == null) {
       result = new InterpreterResult(Code.KEEP_PREVIOUS_RESULT);
     }
+    // a recovered job is traced by the run which submitted it
+    ExecutionTrace trace = isRecover ? null : interpretJob.getExecutionTrace();
     return convert(result,
             context.getConfig(),
             context.getGui(),
-            context.getNoteGui());
+            context.getNoteGui(),
+            trace != null ? trace.getSpans() : null);
   }
 
   class RegisterRunnable implements Runnable {
@@ -658,6 +723,10 @@ public class RemoteInterpreterServer extends Thread
           }
         }
       }
+      if (resourceMemoryManager != null) {
+        LOGGER.info("Close resource pool {}", resourceMemoryManager);
+        resourceMemoryManager.close();
+      }
       if (!isTest) {
         SchedulerFactory.singleton().destroy();
         ExecutorFactory.singleton().shutdownAll();
@@ -742,6 +811,7 @@ public class RemoteInterpreterServer extends Thread
     private InterpreterContext context;
     private Map<String, Object> infos;
     private InterpreterResult results;
+    private ExecutionTrace trace;
 
     public InterpretJob(
         String jobId,
@@ -761,6 +831,34 @@ public class RemoteInterpreterServer extends Thread
       return results;
     }
 
+    /**
+     * @param trace trace of the paragraph run, null if it is not traced
+     */
+    public void setExecutionTrace(ExecutionTrace trace) {
+      this.trace = trace;
+    }
+
+    public ExecutionTrace getExecutionTrace() {
+      return trace;
+    }
+
+    @Override
+    public String getUser() {
+      AuthenticationInfo authenticationInfo = context.getAuthenticationInfo();
+      return authenticationInfo != null ? authenticationInfo.getUser() : null;
+    }
+
+    @Override
+    public String getNoteId() {
+      return context.getNoteId();
+    }
+
+    @Override
+    public JobPriority getPriority() {
+      return JobPriority.fromString(
+          context.getStringLocalProperty(JobPriority.LOCAL_PROPERTY, null));
+    }
+
     @Override
     public int progress() {
       return 0;
@@ -815,6 +913,12 @@ public class RemoteInterpreterServer extends Thread
     @Override
     public InterpreterResult jobRun() throws Throwable {
       ClassLoader currentThreadContextClassloader = Thread.currentThread().getContextClassLoader();
+      ExecutionTrace.Span span = null;
+      if (trace != null) {
+        trace.add("interpreter.queue", trace.getElapsed());
+        ExecutionTrace.setCurrent(trace);
+        span = trace.start("interpreter.run");
+      }
       try {
         InterpreterContext.set(context);
         // clear the result of last run in frontend before running this paragraph.
@@ -886,6 +990,10 @@ public class RemoteInterpreterServer extends Thread
       } finally {
         Thread.currentThread().setContextClassLoader(currentThreadContextClassloader);
         InterpreterContext.remove();
+        if (span != null) {
+          span.close();
+          ExecutionTrace.setCurrent(null);
+        }
       }
     }
 
@@ -1036,7 +1144,8 @@ public class RemoteInterpreterServer extends Thread
   }
 
   private RemoteInterpreterResult convert(InterpreterResult result,
-                                          Map<String, Object> config, GUI gui, GUI noteGui) {
+                                          Map<String, Object> config, GUI gui, GUI noteGui,
+                                          Map<String, Long> traceSpans) {
 
     List<RemoteInterpreterResultMessage> msg = new LinkedList<>();
     for (InterpreterResultMessage m : result.message()) {
@@ -1050,7 +1159,8 @@ public class RemoteInterpreterServer extends Thread
         msg,
         gson.toJson(config),
         gui.toJson(),
-        noteGui.toJson());
+        noteGui.toJson(),
+        traceSpans);
   }
 
   @Override
@@ -1081,6 +1191,28 @@ public class RemoteInterpreterServer extends Thread
     return Status.UNKNOWN.name();
   }
 
+  @Override
+  public List<RemoteJobProgress> getProgressAll(List<RemoteJobQuery> queries)
+      throws TException {
+    List<RemoteJobProgress> result = new ArrayList<>(queries.size());
+    for (RemoteJobQuery query : queries) {
+      RemoteJobProgress jobProgress = new RemoteJobProgress();
+      String jobId = query.getInterpreterContext().getParagraphId();
+      jobProgress.setStatus(getStatus(query.getSessionId(), jobId));
+      if (query.getClassName() != null) {
+        // one failure doesn't fail the progress of the other jobs, progress is left unset
+        try {
+          jobProgress.setProgress(getProgress(query.getSessionId(), query.getClassName(),
+              query.getInterpreterContext()));
+        } catch (Exception e) {
+          LOGGER.debug("Fail to get progress of job {}", jobId, e);
+        }
+      }
+      result.add(jobProgress);
+    }
+    return result;
+  }
+
   /**
    * called when object is updated in client (web) side.
    *
@@ -1196,6 +1328,24 @@ public class RemoteInterpreterServer extends Thread
     return result;
   }
 
+  @Override
+  public List<String> resourcePoolGetAllOf(String noteId, List<String> resourceNames)
+      throws TException {
+    LOGGER.debug("Request resourcePoolGetAllOf {} from ZeppelinServer", noteId);
+    List<String> result = new LinkedList<>();
+
+    if (resourcePool == null) {
+      return result;
+    }
+
+    ResourceSet resourceSet = resourcePool.getAll(false)
+        .filterByNoteIdOrNames(noteId, new HashSet<>(resourceNames));
+    for (Resource r : resourceSet) {
+      result.add(r.toJson());
+    }
+    return result;
+  }
+
   @Override
   public boolean resourceRemove(String noteId, String paragraphId, String resourceName)
       throws TException {
@@ -1235,7 +1385,7 @@ public class RemoteInterpreterServer extends Thread
         Method method = o.getClass().getMethod(
             message.methodName,
             message.getParamTypes());
-        Object ret = method.invoke(o, message.params);
+        Object ret = method.invoke(o, message.getParams());
         if (message.shouldPutResultIntoResourcePool()) {
           // if return resource name is specified,
           // then put result into resource pool
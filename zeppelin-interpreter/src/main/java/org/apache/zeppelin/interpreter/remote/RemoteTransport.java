@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.server.TThreadPoolServer;
+import org.apache.thrift.server.TThreadedSelectorServer;
+import org.apache.thrift.transport.TFramedTransport;
+import org.apache.thrift.transport.TNonblockingServerSocket;
+import org.apache.thrift.transport.TNonblockingServerTransport;
+import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.transport.TServerTransport;
+import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thrift transport between zeppelin server and interpreter processes, set by
+ * zeppelin.interpreter.rpc.transport. Both sides must use the same one.
+ *
+ * <ul>
+ *   <li>blocking: TThreadPoolServer with the binary protocol, one server thread per
+ *   connection.</li>
+ *   <li>nonblocking: TThreadedSelectorServer with framed transport and the compact protocol.
+ *   Idle connections don't hold a server thread, so the client pools can be larger.</li>
+ * </ul>
+ */
+public enum RemoteTransport {
+  BLOCKING,
+  NONBLOCKING;
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(RemoteTransport.class);
+
+  // interpreter results are sent in one frame
+  private static final int MAX_FRAME_SIZE = Integer.MAX_VALUE;
+  private static final int SELECTOR_THREADS = 2;
+
+  public static RemoteTransport fromConf(ZeppelinConfiguration zConf) {
+    String transport = zConf.getString(
+        ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RPC_TRANSPORT);
+    if (StringUtils.isBlank(transport)) {
+      return BLOCKING;
+    }
+    try {
+      return valueOf(transport.trim().toUpperCase());
+    } catch (IllegalArgumentException e) {
+      LOGGER.warn("Unknown rpc transport {}, use blocking", transport);
+      return BLOCKING;
+    }
+  }
+
+  public TServerTransport createServerTransport(int port) throws TTransportException {
+    return this == NONBLOCKING ? new TNonblockingServerSocket(port) : new TServerSocket(port);
+  }
+
+  public static int getLocalPort(TServerTransport serverTransport) {
+    if (serverTransport instanceof TNonblockingServerSocket) {
+      return ((TNonblockingServerSocket) serverTransport).getPort();
+    }
+    return ((TServerSocket) serverTransport).getServerSocket().getLocalPort();
+  }
+
+  /**
+   * @param stopTimeoutMs time given to the running calls when the server is stopped
+   */
+  public TServer createServer(TServerTransport serverTransport,
+                              TProcessor processor,
+                              int stopTimeoutMs,
+                              String threadName) {
+    if (this == NONBLOCKING) {
+      // calls such as interpret last as long as the paragraph, so the workers are not bounded
+      return new TThreadedSelectorServer(
+          new TThreadedSelectorServer.Args((TNonblockingServerTransport) serverTransport)
+              .selectorThreads(SELECTOR_THREADS)
+              .executorService(createWorkers(threadName))
+              .stopTimeoutVal(stopTimeoutMs)
+              .stopTimeoutUnit(TimeUnit.MILLISECONDS)
+              .protocolFactory(new TCompactProtocol.Factory())
+              .processor(processor));
+    }
+    return new TThreadPoolServer(
+        new TThreadPoolServer.Args(serverTransport)
+            .stopTimeoutVal(stopTimeoutMs)
+            .stopTimeoutUnit(TimeUnit.MILLISECONDS)
+            .processor(processor));
+  }
+
+  /**
+   * Open a client connection.
+   */
+  public TProtocol openProtocol(String host, int port) throws IOException {
+    TTransport transport = new TSocket(host, port);
+    if (this == NONBLOCKING) {
+      transport = new TFramedTransport(transport, MAX_FRAME_SIZE);
+    }
+    try {
+      transport.open();
+    } catch (TTransportException e) {
+      throw new IOException(e);
+    }
+    return this == NONBLOCKING ? new TCompactProtocol(transport) : new TBinaryProtocol(transport);
+  }
+
+  private static ExecutorService createWorkers(String threadName) {
+    AtomicInteger count = new AtomicInteger();
+    ThreadFactory threadFactory = r -> {
+      Thread thread = new Thread(r, threadName + "-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+    return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS,
+        new SynchronousQueue<>(), threadFactory);
+  }
+}
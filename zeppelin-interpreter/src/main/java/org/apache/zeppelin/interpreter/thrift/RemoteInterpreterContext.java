@@ -24,7 +24,7 @@
 package org.apache.zeppelin.interpreter.thrift;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.13.0)", date = "2020-09-22")
+@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.13.0)", date = "2026-10-19")
 public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteInterpreterContext, RemoteInterpreterContext._Fields>, java.io.Serializable, Cloneable, Comparable<RemoteInterpreterContext> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("RemoteInterpreterContext");
 
@@ -39,6 +39,7 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
   private static final org.apache.thrift.protocol.TField GUI_FIELD_DESC = new org.apache.thrift.protocol.TField("gui", org.apache.thrift.protocol.TType.STRING, (short)9);
   private static final org.apache.thrift.protocol.TField NOTE_GUI_FIELD_DESC = new org.apache.thrift.protocol.TField("noteGui", org.apache.thrift.protocol.TType.STRING, (short)10);
   private static final org.apache.thrift.protocol.TField LOCAL_PROPERTIES_FIELD_DESC = new org.apache.thrift.protocol.TField("localProperties", org.apache.thrift.protocol.TType.MAP, (short)11);
+  private static final org.apache.thrift.protocol.TField TRACE_CONTEXT_FIELD_DESC = new org.apache.thrift.protocol.TField("traceContext", org.apache.thrift.protocol.TType.MAP, (short)12);
 
   private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new RemoteInterpreterContextStandardSchemeFactory();
   private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new RemoteInterpreterContextTupleSchemeFactory();
@@ -54,6 +55,7 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
   public @org.apache.thrift.annotation.Nullable java.lang.String gui; // required
   public @org.apache.thrift.annotation.Nullable java.lang.String noteGui; // required
   public @org.apache.thrift.annotation.Nullable java.util.Map<java.lang.String,java.lang.String> localProperties; // required
+  public @org.apache.thrift.annotation.Nullable java.util.Map<java.lang.String,java.lang.String> traceContext; // required
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -67,7 +69,8 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
     CONFIG((short)8, "config"),
     GUI((short)9, "gui"),
     NOTE_GUI((short)10, "noteGui"),
-    LOCAL_PROPERTIES((short)11, "localProperties");
+    LOCAL_PROPERTIES((short)11, "localProperties"),
+    TRACE_CONTEXT((short)12, "traceContext");
 
     private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -105,6 +108,8 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
           return NOTE_GUI;
         case 11: // LOCAL_PROPERTIES
           return LOCAL_PROPERTIES;
+        case 12: // TRACE_CONTEXT
+          return TRACE_CONTEXT;
         default:
           return null;
       }
@@ -173,6 +178,10 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
         new org.apache.thrift.meta_data.MapMetaData(org.apache.thrift.protocol.TType.MAP, 
             new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING), 
             new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+    tmpMap.put(_Fields.TRACE_CONTEXT, new org.apache.thrift.meta_data.FieldMetaData("traceContext", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.MapMetaData(org.apache.thrift.protocol.TType.MAP, 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING), 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
     metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(RemoteInterpreterContext.class, metaDataMap);
   }
@@ -191,7 +200,8 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
     java.lang.String config,
     java.lang.String gui,
     java.lang.String noteGui,
-    java.util.Map<java.lang.String,java.lang.String> localProperties)
+    java.util.Map<java.lang.String,java.lang.String> localProperties,
+    java.util.Map<java.lang.String,java.lang.String> traceContext)
   {
     this();
     this.noteId = noteId;
@@ -205,6 +215,7 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
     this.gui = gui;
     this.noteGui = noteGui;
     this.localProperties = localProperties;
+    this.traceContext = traceContext;
   }
 
   /**
@@ -245,6 +256,10 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
       java.util.Map<java.lang.String,java.lang.String> __this__localProperties = new java.util.HashMap<java.lang.String,java.lang.String>(other.localProperties);
       this.localProperties = __this__localProperties;
     }
+    if (other.isSetTraceContext()) {
+      java.util.Map<java.lang.String,java.lang.String> __this__traceContext = new java.util.HashMap<java.lang.String,java.lang.String>(other.traceContext);
+      this.traceContext = __this__traceContext;
+    }
   }
 
   public RemoteInterpreterContext deepCopy() {
@@ -264,6 +279,7 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
     this.gui = null;
     this.noteGui = null;
     this.localProperties = null;
+    this.traceContext = null;
   }
 
   @org.apache.thrift.annotation.Nullable
@@ -552,6 +568,42 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
     }
   }
 
+  public int getTraceContextSize() {
+    return (this.traceContext == null) ? 0 : this.traceContext.size();
+  }
+
+  public void putToTraceContext(java.lang.String key, java.lang.String val) {
+    if (this.traceContext == null) {
+      this.traceContext = new java.util.HashMap<java.lang.String,java.lang.String>();
+    }
+    this.traceContext.put(key, val);
+  }
+
+  @org.apache.thrift.annotation.Nullable
+  public java.util.Map<java.lang.String,java.lang.String> getTraceContext() {
+    return this.traceContext;
+  }
+
+  public RemoteInterpreterContext setTraceContext(@org.apache.thrift.annotation.Nullable java.util.Map<java.lang.String,java.lang.String> traceContext) {
+    this.traceContext = traceContext;
+    return this;
+  }
+
+  public void unsetTraceContext() {
+    this.traceContext = null;
+  }
+
+  /** Returns true if field traceContext is set (has been assigned a value) and false otherwise */
+  public boolean isSetTraceContext() {
+    return this.traceContext != null;
+  }
+
+  public void setTraceContextIsSet(boolean value) {
+    if (!value) {
+      this.traceContext = null;
+    }
+  }
+
   public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
     switch (field) {
     case NOTE_ID:
@@ -642,6 +694,14 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
       }
       break;
 
+    case TRACE_CONTEXT:
+      if (value == null) {
+        unsetTraceContext();
+      } else {
+        setTraceContext((java.util.Map<java.lang.String,java.lang.String>)value);
+      }
+      break;
+
     }
   }
 
@@ -681,6 +741,9 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
     case LOCAL_PROPERTIES:
       return getLocalProperties();
 
+    case TRACE_CONTEXT:
+      return getTraceContext();
+
     }
     throw new java.lang.IllegalStateException();
   }
@@ -714,6 +777,8 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
       return isSetNoteGui();
     case LOCAL_PROPERTIES:
       return isSetLocalProperties();
+    case TRACE_CONTEXT:
+      return isSetTraceContext();
     }
     throw new java.lang.IllegalStateException();
   }
@@ -832,6 +897,15 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
         return false;
     }
 
+    boolean this_present_traceContext = true && this.isSetTraceContext();
+    boolean that_present_traceContext = true && that.isSetTraceContext();
+    if (this_present_traceContext || that_present_traceContext) {
+      if (!(this_present_traceContext && that_present_traceContext))
+        return false;
+      if (!this.traceContext.equals(that.traceContext))
+        return false;
+    }
+
     return true;
   }
 
@@ -883,6 +957,10 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
     if (isSetLocalProperties())
       hashCode = hashCode * 8191 + localProperties.hashCode();
 
+    hashCode = hashCode * 8191 + ((isSetTraceContext()) ? 131071 : 524287);
+    if (isSetTraceContext())
+      hashCode = hashCode * 8191 + traceContext.hashCode();
+
     return hashCode;
   }
 
@@ -1004,6 +1082,16 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
         return lastComparison;
       }
     }
+    lastComparison = java.lang.Boolean.valueOf(isSetTraceContext()).compareTo(other.isSetTraceContext());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetTraceContext()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.traceContext, other.traceContext);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -1112,6 +1200,14 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
       sb.append(this.localProperties);
     }
     first = false;
+    if (!first) sb.append(", ");
+    sb.append("traceContext:");
+    if (this.traceContext == null) {
+      sb.append("null");
+    } else {
+      sb.append(this.traceContext);
+    }
+    first = false;
     sb.append(")");
     return sb.toString();
   }
@@ -1255,6 +1351,26 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 12: // TRACE_CONTEXT
+            if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
+              {
+                org.apache.thrift.protocol.TMap _map4 = iprot.readMapBegin();
+                struct.traceContext = new java.util.HashMap<java.lang.String,java.lang.String>(2*_map4.size);
+                @org.apache.thrift.annotation.Nullable java.lang.String _key5;
+                @org.apache.thrift.annotation.Nullable java.lang.String _val6;
+                for (int _i7 = 0; _i7 < _map4.size; ++_i7)
+                {
+                  _key5 = iprot.readString();
+                  _val6 = iprot.readString();
+                  struct.traceContext.put(_key5, _val6);
+                }
+                iprot.readMapEnd();
+              }
+              struct.setTraceContextIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -1324,10 +1440,23 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
         oprot.writeFieldBegin(LOCAL_PROPERTIES_FIELD_DESC);
         {
           oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, struct.localProperties.size()));
-          for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter4 : struct.localProperties.entrySet())
+          for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter8 : struct.localProperties.entrySet())
           {
-            oprot.writeString(_iter4.getKey());
-            oprot.writeString(_iter4.getValue());
+            oprot.writeString(_iter8.getKey());
+            oprot.writeString(_iter8.getValue());
+          }
+          oprot.writeMapEnd();
+        }
+        oprot.writeFieldEnd();
+      }
+      if (struct.traceContext != null) {
+        oprot.writeFieldBegin(TRACE_CONTEXT_FIELD_DESC);
+        {
+          oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, struct.traceContext.size()));
+          for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter9 : struct.traceContext.entrySet())
+          {
+            oprot.writeString(_iter9.getKey());
+            oprot.writeString(_iter9.getValue());
           }
           oprot.writeMapEnd();
         }
@@ -1384,7 +1513,10 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
       if (struct.isSetLocalProperties()) {
         optionals.set(10);
       }
-      oprot.writeBitSet(optionals, 11);
+      if (struct.isSetTraceContext()) {
+        optionals.set(11);
+      }
+      oprot.writeBitSet(optionals, 12);
       if (struct.isSetNoteId()) {
         oprot.writeString(struct.noteId);
       }
@@ -1418,10 +1550,20 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
       if (struct.isSetLocalProperties()) {
         {
           oprot.writeI32(struct.localProperties.size());
-          for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter5 : struct.localProperties.entrySet())
+          for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter10 : struct.localProperties.entrySet())
+          {
+            oprot.writeString(_iter10.getKey());
+            oprot.writeString(_iter10.getValue());
+          }
+        }
+      }
+      if (struct.isSetTraceContext()) {
+        {
+          oprot.writeI32(struct.traceContext.size());
+          for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter11 : struct.traceContext.entrySet())
           {
-            oprot.writeString(_iter5.getKey());
-            oprot.writeString(_iter5.getValue());
+            oprot.writeString(_iter11.getKey());
+            oprot.writeString(_iter11.getValue());
           }
         }
       }
@@ -1430,7 +1572,7 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, RemoteInterpreterContext struct) throws org.apache.thrift.TException {
       org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-      java.util.BitSet incoming = iprot.readBitSet(11);
+      java.util.BitSet incoming = iprot.readBitSet(12);
       if (incoming.get(0)) {
         struct.noteId = iprot.readString();
         struct.setNoteIdIsSet(true);
@@ -1473,19 +1615,34 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
       }
       if (incoming.get(10)) {
         {
-          org.apache.thrift.protocol.TMap _map6 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-          struct.localProperties = new java.util.HashMap<java.lang.String,java.lang.String>(2*_map6.size);
-          @org.apache.thrift.annotation.Nullable java.lang.String _key7;
-          @org.apache.thrift.annotation.Nullable java.lang.String _val8;
-          for (int _i9 = 0; _i9 < _map6.size; ++_i9)
+          org.apache.thrift.protocol.TMap _map12 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+          struct.localProperties = new java.util.HashMap<java.lang.String,java.lang.String>(2*_map12.size);
+          @org.apache.thrift.annotation.Nullable java.lang.String _key13;
+          @org.apache.thrift.annotation.Nullable java.lang.String _val14;
+          for (int _i15 = 0; _i15 < _map12.size; ++_i15)
           {
-            _key7 = iprot.readString();
-            _val8 = iprot.readString();
-            struct.localProperties.put(_key7, _val8);
+            _key13 = iprot.readString();
+            _val14 = iprot.readString();
+            struct.localProperties.put(_key13, _val14);
           }
         }
         struct.setLocalPropertiesIsSet(true);
       }
+      if (incoming.get(11)) {
+        {
+          org.apache.thrift.protocol.TMap _map16 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+          struct.traceContext = new java.util.HashMap<java.lang.String,java.lang.String>(2*_map16.size);
+          @org.apache.thrift.annotation.Nullable java.lang.String _key17;
+          @org.apache.thrift.annotation.Nullable java.lang.String _val18;
+          for (int _i19 = 0; _i19 < _map16.size; ++_i19)
+          {
+            _key17 = iprot.readString();
+            _val18 = iprot.readString();
+            struct.traceContext.put(_key17, _val18);
+          }
+        }
+        struct.setTraceContextIsSet(true);
+      }
     }
   }
 
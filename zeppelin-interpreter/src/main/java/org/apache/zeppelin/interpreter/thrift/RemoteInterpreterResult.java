@@ -24,7 +24,7 @@
 package org.apache.zeppelin.interpreter.thrift;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.13.0)", date = "2020-09-22")
+@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.13.0)", date = "2026-10-19")
 public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteInterpreterResult, RemoteInterpreterResult._Fields>, java.io.Serializable, Cloneable, Comparable<RemoteInterpreterResult> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("RemoteInterpreterResult");
 
@@ -33,6 +33,7 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
   private static final org.apache.thrift.protocol.TField CONFIG_FIELD_DESC = new org.apache.thrift.protocol.TField("config", org.apache.thrift.protocol.TType.STRING, (short)3);
   private static final org.apache.thrift.protocol.TField GUI_FIELD_DESC = new org.apache.thrift.protocol.TField("gui", org.apache.thrift.protocol.TType.STRING, (short)4);
   private static final org.apache.thrift.protocol.TField NOTE_GUI_FIELD_DESC = new org.apache.thrift.protocol.TField("noteGui", org.apache.thrift.protocol.TType.STRING, (short)5);
+  private static final org.apache.thrift.protocol.TField TRACE_SPANS_FIELD_DESC = new org.apache.thrift.protocol.TField("traceSpans", org.apache.thrift.protocol.TType.MAP, (short)6);
 
   private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new RemoteInterpreterResultStandardSchemeFactory();
   private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new RemoteInterpreterResultTupleSchemeFactory();
@@ -42,6 +43,7 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
   public @org.apache.thrift.annotation.Nullable java.lang.String config; // required
   public @org.apache.thrift.annotation.Nullable java.lang.String gui; // required
   public @org.apache.thrift.annotation.Nullable java.lang.String noteGui; // required
+  public @org.apache.thrift.annotation.Nullable java.util.Map<java.lang.String,java.lang.Long> traceSpans; // required
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -49,7 +51,8 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
     MSG((short)2, "msg"),
     CONFIG((short)3, "config"),
     GUI((short)4, "gui"),
-    NOTE_GUI((short)5, "noteGui");
+    NOTE_GUI((short)5, "noteGui"),
+    TRACE_SPANS((short)6, "traceSpans");
 
     private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -75,6 +78,8 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
           return GUI;
         case 5: // NOTE_GUI
           return NOTE_GUI;
+        case 6: // TRACE_SPANS
+          return TRACE_SPANS;
         default:
           return null;
       }
@@ -130,6 +135,10 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
     tmpMap.put(_Fields.NOTE_GUI, new org.apache.thrift.meta_data.FieldMetaData("noteGui", org.apache.thrift.TFieldRequirementType.DEFAULT, 
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+    tmpMap.put(_Fields.TRACE_SPANS, new org.apache.thrift.meta_data.FieldMetaData("traceSpans", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.MapMetaData(org.apache.thrift.protocol.TType.MAP, 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING), 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
     metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(RemoteInterpreterResult.class, metaDataMap);
   }
@@ -142,7 +151,8 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
     java.util.List<RemoteInterpreterResultMessage> msg,
     java.lang.String config,
     java.lang.String gui,
-    java.lang.String noteGui)
+    java.lang.String noteGui,
+    java.util.Map<java.lang.String,java.lang.Long> traceSpans)
   {
     this();
     this.code = code;
@@ -150,6 +160,7 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
     this.config = config;
     this.gui = gui;
     this.noteGui = noteGui;
+    this.traceSpans = traceSpans;
   }
 
   /**
@@ -175,6 +186,10 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
     if (other.isSetNoteGui()) {
       this.noteGui = other.noteGui;
     }
+    if (other.isSetTraceSpans()) {
+      java.util.Map<java.lang.String,java.lang.Long> __this__traceSpans = new java.util.HashMap<java.lang.String,java.lang.Long>(other.traceSpans);
+      this.traceSpans = __this__traceSpans;
+    }
   }
 
   public RemoteInterpreterResult deepCopy() {
@@ -188,6 +203,7 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
     this.config = null;
     this.gui = null;
     this.noteGui = null;
+    this.traceSpans = null;
   }
 
   @org.apache.thrift.annotation.Nullable
@@ -331,6 +347,42 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
     }
   }
 
+  public int getTraceSpansSize() {
+    return (this.traceSpans == null) ? 0 : this.traceSpans.size();
+  }
+
+  public void putToTraceSpans(java.lang.String key, long val) {
+    if (this.traceSpans == null) {
+      this.traceSpans = new java.util.HashMap<java.lang.String,java.lang.Long>();
+    }
+    this.traceSpans.put(key, val);
+  }
+
+  @org.apache.thrift.annotation.Nullable
+  public java.util.Map<java.lang.String,java.lang.Long> getTraceSpans() {
+    return this.traceSpans;
+  }
+
+  public RemoteInterpreterResult setTraceSpans(@org.apache.thrift.annotation.Nullable java.util.Map<java.lang.String,java.lang.Long> traceSpans) {
+    this.traceSpans = traceSpans;
+    return this;
+  }
+
+  public void unsetTraceSpans() {
+    this.traceSpans = null;
+  }
+
+  /** Returns true if field traceSpans is set (has been assigned a value) and false otherwise */
+  public boolean isSetTraceSpans() {
+    return this.traceSpans != null;
+  }
+
+  public void setTraceSpansIsSet(boolean value) {
+    if (!value) {
+      this.traceSpans = null;
+    }
+  }
+
   public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
     switch (field) {
     case CODE:
@@ -373,6 +425,14 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
       }
       break;
 
+    case TRACE_SPANS:
+      if (value == null) {
+        unsetTraceSpans();
+      } else {
+        setTraceSpans((java.util.Map<java.lang.String,java.lang.Long>)value);
+      }
+      break;
+
     }
   }
 
@@ -394,6 +454,9 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
     case NOTE_GUI:
       return getNoteGui();
 
+    case TRACE_SPANS:
+      return getTraceSpans();
+
     }
     throw new java.lang.IllegalStateException();
   }
@@ -415,6 +478,8 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
       return isSetGui();
     case NOTE_GUI:
       return isSetNoteGui();
+    case TRACE_SPANS:
+      return isSetTraceSpans();
     }
     throw new java.lang.IllegalStateException();
   }
@@ -479,6 +544,15 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
         return false;
     }
 
+    boolean this_present_traceSpans = true && this.isSetTraceSpans();
+    boolean that_present_traceSpans = true && that.isSetTraceSpans();
+    if (this_present_traceSpans || that_present_traceSpans) {
+      if (!(this_present_traceSpans && that_present_traceSpans))
+        return false;
+      if (!this.traceSpans.equals(that.traceSpans))
+        return false;
+    }
+
     return true;
   }
 
@@ -506,6 +580,10 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
     if (isSetNoteGui())
       hashCode = hashCode * 8191 + noteGui.hashCode();
 
+    hashCode = hashCode * 8191 + ((isSetTraceSpans()) ? 131071 : 524287);
+    if (isSetTraceSpans())
+      hashCode = hashCode * 8191 + traceSpans.hashCode();
+
     return hashCode;
   }
 
@@ -567,6 +645,16 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
         return lastComparison;
       }
     }
+    lastComparison = java.lang.Boolean.valueOf(isSetTraceSpans()).compareTo(other.isSetTraceSpans());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetTraceSpans()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.traceSpans, other.traceSpans);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -627,6 +715,14 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
       sb.append(this.noteGui);
     }
     first = false;
+    if (!first) sb.append(", ");
+    sb.append("traceSpans:");
+    if (this.traceSpans == null) {
+      sb.append("null");
+    } else {
+      sb.append(this.traceSpans);
+    }
+    first = false;
     sb.append(")");
     return sb.toString();
   }
@@ -681,14 +777,14 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
           case 2: // MSG
             if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
               {
-                org.apache.thrift.protocol.TList _list10 = iprot.readListBegin();
-                struct.msg = new java.util.ArrayList<RemoteInterpreterResultMessage>(_list10.size);
-                @org.apache.thrift.annotation.Nullable RemoteInterpreterResultMessage _elem11;
-                for (int _i12 = 0; _i12 < _list10.size; ++_i12)
+                org.apache.thrift.protocol.TList _list20 = iprot.readListBegin();
+                struct.msg = new java.util.ArrayList<RemoteInterpreterResultMessage>(_list20.size);
+                @org.apache.thrift.annotation.Nullable RemoteInterpreterResultMessage _elem21;
+                for (int _i22 = 0; _i22 < _list20.size; ++_i22)
                 {
-                  _elem11 = new RemoteInterpreterResultMessage();
-                  _elem11.read(iprot);
-                  struct.msg.add(_elem11);
+                  _elem21 = new RemoteInterpreterResultMessage();
+                  _elem21.read(iprot);
+                  struct.msg.add(_elem21);
                 }
                 iprot.readListEnd();
               }
@@ -721,6 +817,26 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 6: // TRACE_SPANS
+            if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
+              {
+                org.apache.thrift.protocol.TMap _map23 = iprot.readMapBegin();
+                struct.traceSpans = new java.util.HashMap<java.lang.String,java.lang.Long>(2*_map23.size);
+                @org.apache.thrift.annotation.Nullable java.lang.String _key24;
+                long _val25;
+                for (int _i26 = 0; _i26 < _map23.size; ++_i26)
+                {
+                  _key24 = iprot.readString();
+                  _val25 = iprot.readI64();
+                  struct.traceSpans.put(_key24, _val25);
+                }
+                iprot.readMapEnd();
+              }
+              struct.setTraceSpansIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -745,9 +861,9 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
         oprot.writeFieldBegin(MSG_FIELD_DESC);
         {
           oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.msg.size()));
-          for (RemoteInterpreterResultMessage _iter13 : struct.msg)
+          for (RemoteInterpreterResultMessage _iter27 : struct.msg)
           {
-            _iter13.write(oprot);
+            _iter27.write(oprot);
           }
           oprot.writeListEnd();
         }
@@ -768,6 +884,19 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
         oprot.writeString(struct.noteGui);
         oprot.writeFieldEnd();
       }
+      if (struct.traceSpans != null) {
+        oprot.writeFieldBegin(TRACE_SPANS_FIELD_DESC);
+        {
+          oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I64, struct.traceSpans.size()));
+          for (java.util.Map.Entry<java.lang.String, java.lang.Long> _iter28 : struct.traceSpans.entrySet())
+          {
+            oprot.writeString(_iter28.getKey());
+            oprot.writeI64(_iter28.getValue());
+          }
+          oprot.writeMapEnd();
+        }
+        oprot.writeFieldEnd();
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -801,16 +930,19 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
       if (struct.isSetNoteGui()) {
         optionals.set(4);
       }
-      oprot.writeBitSet(optionals, 5);
+      if (struct.isSetTraceSpans()) {
+        optionals.set(5);
+      }
+      oprot.writeBitSet(optionals, 6);
       if (struct.isSetCode()) {
         oprot.writeString(struct.code);
       }
       if (struct.isSetMsg()) {
         {
           oprot.writeI32(struct.msg.size());
-          for (RemoteInterpreterResultMessage _iter14 : struct.msg)
+          for (RemoteInterpreterResultMessage _iter29 : struct.msg)
           {
-            _iter14.write(oprot);
+            _iter29.write(oprot);
           }
         }
       }
@@ -823,26 +955,36 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
       if (struct.isSetNoteGui()) {
         oprot.writeString(struct.noteGui);
       }
+      if (struct.isSetTraceSpans()) {
+        {
+          oprot.writeI32(struct.traceSpans.size());
+          for (java.util.Map.Entry<java.lang.String, java.lang.Long> _iter30 : struct.traceSpans.entrySet())
+          {
+            oprot.writeString(_iter30.getKey());
+            oprot.writeI64(_iter30.getValue());
+          }
+        }
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, RemoteInterpreterResult struct) throws org.apache.thrift.TException {
       org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-      java.util.BitSet incoming = iprot.readBitSet(5);
+      java.util.BitSet incoming = iprot.readBitSet(6);
       if (incoming.get(0)) {
         struct.code = iprot.readString();
         struct.setCodeIsSet(true);
       }
       if (incoming.get(1)) {
         {
-          org.apache.thrift.protocol.TList _list15 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-          struct.msg = new java.util.ArrayList<RemoteInterpreterResultMessage>(_list15.size);
-          @org.apache.thrift.annotation.Nullable RemoteInterpreterResultMessage _elem16;
-          for (int _i17 = 0; _i17 < _list15.size; ++_i17)
+          org.apache.thrift.protocol.TList _list31 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+          struct.msg = new java.util.ArrayList<RemoteInterpreterResultMessage>(_list31.size);
+          @org.apache.thrift.annotation.Nullable RemoteInterpreterResultMessage _elem32;
+          for (int _i33 = 0; _i33 < _list31.size; ++_i33)
           {
-            _elem16 = new RemoteInterpreterResultMessage();
-            _elem16.read(iprot);
-            struct.msg.add(_elem16);
+            _elem32 = new RemoteInterpreterResultMessage();
+            _elem32.read(iprot);
+            struct.msg.add(_elem32);
           }
         }
         struct.setMsgIsSet(true);
@@ -859,6 +1001,21 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
         struct.noteGui = iprot.readString();
         struct.setNoteGuiIsSet(true);
       }
+      if (incoming.get(5)) {
+        {
+          org.apache.thrift.protocol.TMap _map34 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I64, iprot.readI32());
+          struct.traceSpans = new java.util.HashMap<java.lang.String,java.lang.Long>(2*_map34.size);
+          @org.apache.thrift.annotation.Nullable java.lang.String _key35;
+          long _val36;
+          for (int _i37 = 0; _i37 < _map34.size; ++_i37)
+          {
+            _key35 = iprot.readString();
+            _val36 = iprot.readI64();
+            struct.traceSpans.put(_key35, _val36);
+          }
+        }
+        struct.setTraceSpansIsSet(true);
+      }
     }
   }
 
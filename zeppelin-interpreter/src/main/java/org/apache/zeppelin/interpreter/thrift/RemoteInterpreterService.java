@@ -24,7 +24,7 @@
 package org.apache.zeppelin.interpreter.thrift;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.13.0)", date = "2020-09-22")
+@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.13.0)", date = "2026-10-19")
 public class RemoteInterpreterService {
 
   public interface Iface {
@@ -53,8 +53,12 @@ public class RemoteInterpreterService {
 
     public java.lang.String getStatus(java.lang.String sessionId, java.lang.String jobId) throws org.apache.thrift.TException;
 
+    public java.util.List<RemoteJobProgress> getProgressAll(java.util.List<RemoteJobQuery> queries) throws org.apache.thrift.TException;
+
     public java.util.List<java.lang.String> resourcePoolGetAll() throws org.apache.thrift.TException;
 
+    public java.util.List<java.lang.String> resourcePoolGetAllOf(java.lang.String noteId, java.util.List<java.lang.String> resourceNames) throws org.apache.thrift.TException;
+
     public java.nio.ByteBuffer resourceGet(java.lang.String sessionId, java.lang.String paragraphId, java.lang.String resourceName) throws org.apache.thrift.TException;
 
     public boolean resourceRemove(java.lang.String sessionId, java.lang.String paragraphId, java.lang.String resourceName) throws org.apache.thrift.TException;
@@ -103,8 +107,12 @@ public class RemoteInterpreterService {
 
     public void getStatus(java.lang.String sessionId, java.lang.String jobId, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException;
 
+    public void getProgressAll(java.util.List<RemoteJobQuery> queries, org.apache.thrift.async.AsyncMethodCallback<java.util.List<RemoteJobProgress>> resultHandler) throws org.apache.thrift.TException;
+
     public void resourcePoolGetAll(org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler) throws org.apache.thrift.TException;
 
+    public void resourcePoolGetAllOf(java.lang.String noteId, java.util.List<java.lang.String> resourceNames, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler) throws org.apache.thrift.TException;
+
     public void resourceGet(java.lang.String sessionId, java.lang.String paragraphId, java.lang.String resourceName, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException;
 
     public void resourceRemove(java.lang.String sessionId, java.lang.String paragraphId, java.lang.String resourceName, org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> resultHandler) throws org.apache.thrift.TException;
@@ -421,6 +429,29 @@ public class RemoteInterpreterService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getStatus failed: unknown result");
     }
 
+    public java.util.List<RemoteJobProgress> getProgressAll(java.util.List<RemoteJobQuery> queries) throws org.apache.thrift.TException
+    {
+      send_getProgressAll(queries);
+      return recv_getProgressAll();
+    }
+
+    public void send_getProgressAll(java.util.List<RemoteJobQuery> queries) throws org.apache.thrift.TException
+    {
+      getProgressAll_args args = new getProgressAll_args();
+      args.setQueries(queries);
+      sendBase("getProgressAll", args);
+    }
+
+    public java.util.List<RemoteJobProgress> recv_getProgressAll() throws org.apache.thrift.TException
+    {
+      getProgressAll_result result = new getProgressAll_result();
+      receiveBase(result, "getProgressAll");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getProgressAll failed: unknown result");
+    }
+
     public java.util.List<java.lang.String> resourcePoolGetAll() throws org.apache.thrift.TException
     {
       send_resourcePoolGetAll();
@@ -443,6 +474,30 @@ public class RemoteInterpreterService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "resourcePoolGetAll failed: unknown result");
     }
 
+    public java.util.List<java.lang.String> resourcePoolGetAllOf(java.lang.String noteId, java.util.List<java.lang.String> resourceNames) throws org.apache.thrift.TException
+    {
+      send_resourcePoolGetAllOf(noteId, resourceNames);
+      return recv_resourcePoolGetAllOf();
+    }
+
+    public void send_resourcePoolGetAllOf(java.lang.String noteId, java.util.List<java.lang.String> resourceNames) throws org.apache.thrift.TException
+    {
+      resourcePoolGetAllOf_args args = new resourcePoolGetAllOf_args();
+      args.setNoteId(noteId);
+      args.setResourceNames(resourceNames);
+      sendBase("resourcePoolGetAllOf", args);
+    }
+
+    public java.util.List<java.lang.String> recv_resourcePoolGetAllOf() throws org.apache.thrift.TException
+    {
+      resourcePoolGetAllOf_result result = new resourcePoolGetAllOf_result();
+      receiveBase(result, "resourcePoolGetAllOf");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "resourcePoolGetAllOf failed: unknown result");
+    }
+
     public java.nio.ByteBuffer resourceGet(java.lang.String sessionId, java.lang.String paragraphId, java.lang.String resourceName) throws org.apache.thrift.TException
     {
       send_resourceGet(sessionId, paragraphId, resourceName);
@@ -1138,6 +1193,38 @@ public class RemoteInterpreterService {
       }
     }
 
+    public void getProgressAll(java.util.List<RemoteJobQuery> queries, org.apache.thrift.async.AsyncMethodCallback<java.util.List<RemoteJobProgress>> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getProgressAll_call method_call = new getProgressAll_call(queries, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getProgressAll_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<RemoteJobProgress>> {
+      private java.util.List<RemoteJobQuery> queries;
+      public getProgressAll_call(java.util.List<RemoteJobQuery> queries, org.apache.thrift.async.AsyncMethodCallback<java.util.List<RemoteJobProgress>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.queries = queries;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getProgressAll", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getProgressAll_args args = new getProgressAll_args();
+        args.setQueries(queries);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public java.util.List<RemoteJobProgress> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getProgressAll();
+      }
+    }
+
     public void resourcePoolGetAll(org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       resourcePoolGetAll_call method_call = new resourcePoolGetAll_call(resultHandler, this, ___protocolFactory, ___transport);
@@ -1167,6 +1254,41 @@ public class RemoteInterpreterService {
       }
     }
 
+    public void resourcePoolGetAllOf(java.lang.String noteId, java.util.List<java.lang.String> resourceNames, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      resourcePoolGetAllOf_call method_call = new resourcePoolGetAllOf_call(noteId, resourceNames, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class resourcePoolGetAllOf_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<java.lang.String>> {
+      private java.lang.String noteId;
+      private java.util.List<java.lang.String> resourceNames;
+      public resourcePoolGetAllOf_call(java.lang.String noteId, java.util.List<java.lang.String> resourceNames, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.noteId = noteId;
+        this.resourceNames = resourceNames;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("resourcePoolGetAllOf", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        resourcePoolGetAllOf_args args = new resourcePoolGetAllOf_args();
+        args.setNoteId(noteId);
+        args.setResourceNames(resourceNames);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public java.util.List<java.lang.String> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_resourcePoolGetAllOf();
+      }
+    }
+
     public void resourceGet(java.lang.String sessionId, java.lang.String paragraphId, java.lang.String resourceName, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       resourceGet_call method_call = new resourceGet_call(sessionId, paragraphId, resourceName, resultHandler, this, ___protocolFactory, ___transport);
@@ -1566,7 +1688,9 @@ public class RemoteInterpreterService {
       processMap.put("completion", new completion());
       processMap.put("shutdown", new shutdown());
       processMap.put("getStatus", new getStatus());
+      processMap.put("getProgressAll", new getProgressAll());
       processMap.put("resourcePoolGetAll", new resourcePoolGetAll());
+      processMap.put("resourcePoolGetAllOf", new resourcePoolGetAllOf());
       processMap.put("resourceGet", new resourceGet());
       processMap.put("resourceRemove", new resourceRemove());
       processMap.put("resourceInvokeMethod", new resourceInvokeMethod());
@@ -1881,6 +2005,31 @@ public class RemoteInterpreterService {
       }
     }
 
+    public static class getProgressAll<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getProgressAll_args> {
+      public getProgressAll() {
+        super("getProgressAll");
+      }
+
+      public getProgressAll_args getEmptyArgsInstance() {
+        return new getProgressAll_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public getProgressAll_result getResult(I iface, getProgressAll_args args) throws org.apache.thrift.TException {
+        getProgressAll_result result = new getProgressAll_result();
+        result.success = iface.getProgressAll(args.queries);
+        return result;
+      }
+    }
+
     public static class resourcePoolGetAll<I extends Iface> extends org.apache.thrift.ProcessFunction<I, resourcePoolGetAll_args> {
       public resourcePoolGetAll() {
         super("resourcePoolGetAll");
@@ -1906,6 +2055,31 @@ public class RemoteInterpreterService {
       }
     }
 
+    public static class resourcePoolGetAllOf<I extends Iface> extends org.apache.thrift.ProcessFunction<I, resourcePoolGetAllOf_args> {
+      public resourcePoolGetAllOf() {
+        super("resourcePoolGetAllOf");
+      }
+
+      public resourcePoolGetAllOf_args getEmptyArgsInstance() {
+        return new resourcePoolGetAllOf_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public resourcePoolGetAllOf_result getResult(I iface, resourcePoolGetAllOf_args args) throws org.apache.thrift.TException {
+        resourcePoolGetAllOf_result result = new resourcePoolGetAllOf_result();
+        result.success = iface.resourcePoolGetAllOf(args.noteId, args.resourceNames);
+        return result;
+      }
+    }
+
     public static class resourceGet<I extends Iface> extends org.apache.thrift.ProcessFunction<I, resourceGet_args> {
       public resourceGet() {
         super("resourceGet");
@@ -2182,7 +2356,9 @@ public class RemoteInterpreterService {
       processMap.put("completion", new completion());
       processMap.put("shutdown", new shutdown());
       processMap.put("getStatus", new getStatus());
+      processMap.put("getProgressAll", new getProgressAll());
       processMap.put("resourcePoolGetAll", new resourcePoolGetAll());
+      processMap.put("resourcePoolGetAllOf", new resourcePoolGetAllOf());
       processMap.put("resourceGet", new resourceGet());
       processMap.put("resourceRemove", new resourceRemove());
       processMap.put("resourceInvokeMethod", new resourceInvokeMethod());
@@ -2922,6 +3098,67 @@ public class RemoteInterpreterService {
       }
     }
 
+    public static class getProgressAll<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getProgressAll_args, java.util.List<RemoteJobProgress>> {
+      public getProgressAll() {
+        super("getProgressAll");
+      }
+
+      public getProgressAll_args getEmptyArgsInstance() {
+        return new getProgressAll_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<RemoteJobProgress>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<RemoteJobProgress>>() { 
+          public void onComplete(java.util.List<RemoteJobProgress> o) {
+            getProgressAll_result result = new getProgressAll_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            getProgressAll_result result = new getProgressAll_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getProgressAll_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<RemoteJobProgress>> resultHandler) throws org.apache.thrift.TException {
+        iface.getProgressAll(args.queries,resultHandler);
+      }
+    }
+
     public static class resourcePoolGetAll<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourcePoolGetAll_args, java.util.List<java.lang.String>> {
       public resourcePoolGetAll() {
         super("resourcePoolGetAll");
@@ -2983,6 +3220,67 @@ public class RemoteInterpreterService {
       }
     }
 
+    public static class resourcePoolGetAllOf<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourcePoolGetAllOf_args, java.util.List<java.lang.String>> {
+      public resourcePoolGetAllOf() {
+        super("resourcePoolGetAllOf");
+      }
+
+      public resourcePoolGetAllOf_args getEmptyArgsInstance() {
+        return new resourcePoolGetAllOf_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>>() { 
+          public void onComplete(java.util.List<java.lang.String> o) {
+            resourcePoolGetAllOf_result result = new resourcePoolGetAllOf_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            resourcePoolGetAllOf_result result = new resourcePoolGetAllOf_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, resourcePoolGetAllOf_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler) throws org.apache.thrift.TException {
+        iface.resourcePoolGetAllOf(args.noteId, args.resourceNames,resultHandler);
+      }
+    }
+
     public static class resourceGet<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourceGet_args, java.nio.ByteBuffer> {
       public resourceGet() {
         super("resourceGet");
@@ -4257,15 +4555,15 @@ public class RemoteInterpreterService {
             case 4: // PROPERTIES
               if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
                 {
-                  org.apache.thrift.protocol.TMap _map18 = iprot.readMapBegin();
-                  struct.properties = new java.util.HashMap<java.lang.String,java.lang.String>(2*_map18.size);
-                  @org.apache.thrift.annotation.Nullable java.lang.String _key19;
-                  @org.apache.thrift.annotation.Nullable java.lang.String _val20;
-                  for (int _i21 = 0; _i21 < _map18.size; ++_i21)
+                  org.apache.thrift.protocol.TMap _map38 = iprot.readMapBegin();
+                  struct.properties = new java.util.HashMap<java.lang.String,java.lang.String>(2*_map38.size);
+                  @org.apache.thrift.annotation.Nullable java.lang.String _key39;
+                  @org.apache.thrift.annotation.Nullable java.lang.String _val40;
+                  for (int _i41 = 0; _i41 < _map38.size; ++_i41)
                   {
-                    _key19 = iprot.readString();
-                    _val20 = iprot.readString();
-                    struct.properties.put(_key19, _val20);
+                    _key39 = iprot.readString();
+                    _val40 = iprot.readString();
+                    struct.properties.put(_key39, _val40);
                   }
                   iprot.readMapEnd();
                 }
@@ -4316,10 +4614,10 @@ public class RemoteInterpreterService {
           oprot.writeFieldBegin(PROPERTIES_FIELD_DESC);
           {
             oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, struct.properties.size()));
-            for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter22 : struct.properties.entrySet())
+            for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter42 : struct.properties.entrySet())
             {
-              oprot.writeString(_iter22.getKey());
-              oprot.writeString(_iter22.getValue());
+              oprot.writeString(_iter42.getKey());
+              oprot.writeString(_iter42.getValue());
             }
             oprot.writeMapEnd();
           }
@@ -4376,10 +4674,10 @@ public class RemoteInterpreterService {
         if (struct.isSetProperties()) {
           {
             oprot.writeI32(struct.properties.size());
-            for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter23 : struct.properties.entrySet())
+            for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter43 : struct.properties.entrySet())
             {
-              oprot.writeString(_iter23.getKey());
-              oprot.writeString(_iter23.getValue());
+              oprot.writeString(_iter43.getKey());
+              oprot.writeString(_iter43.getValue());
             }
           }
         }
@@ -4406,15 +4704,15 @@ public class RemoteInterpreterService {
         }
         if (incoming.get(3)) {
           {
-            org.apache.thrift.protocol.TMap _map24 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-            struct.properties = new java.util.HashMap<java.lang.String,java.lang.String>(2*_map24.size);
-            @org.apache.thrift.annotation.Nullable java.lang.String _key25;
-            @org.apache.thrift.annotation.Nullable java.lang.String _val26;
-            for (int _i27 = 0; _i27 < _map24.size; ++_i27)
+            org.apache.thrift.protocol.TMap _map44 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.properties = new java.util.HashMap<java.lang.String,java.lang.String>(2*_map44.size);
+            @org.apache.thrift.annotation.Nullable java.lang.String _key45;
+            @org.apache.thrift.annotation.Nullable java.lang.String _val46;
+            for (int _i47 = 0; _i47 < _map44.size; ++_i47)
             {
-              _key25 = iprot.readString();
-              _val26 = iprot.readString();
-              struct.properties.put(_key25, _val26);
+              _key45 = iprot.readString();
+              _val46 = iprot.readString();
+              struct.properties.put(_key45, _val46);
             }
           }
           struct.setPropertiesIsSet(true);
@@ -4998,15 +5296,15 @@ public class RemoteInterpreterService {
             case 1: // PROPERTIES
               if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
                 {
-                  org.apache.thrift.protocol.TMap _map28 = iprot.readMapBegin();
-                  struct.properties = new java.util.HashMap<java.lang.String,java.lang.String>(2*_map28.size);
-                  @org.apache.thrift.annotation.Nullable java.lang.String _key29;
-                  @org.apache.thrift.annotation.Nullable java.lang.String _val30;
-                  for (int _i31 = 0; _i31 < _map28.size; ++_i31)
+                  org.apache.thrift.protocol.TMap _map48 = iprot.readMapBegin();
+                  struct.properties = new java.util.HashMap<java.lang.String,java.lang.String>(2*_map48.size);
+                  @org.apache.thrift.annotation.Nullable java.lang.String _key49;
+                  @org.apache.thrift.annotation.Nullable java.lang.String _val50;
+                  for (int _i51 = 0; _i51 < _map48.size; ++_i51)
                   {
-                    _key29 = iprot.readString();
-                    _val30 = iprot.readString();
-                    struct.properties.put(_key29, _val30);
+                    _key49 = iprot.readString();
+                    _val50 = iprot.readString();
+                    struct.properties.put(_key49, _val50);
                   }
                   iprot.readMapEnd();
                 }
@@ -5034,10 +5332,10 @@ public class RemoteInterpreterService {
           oprot.writeFieldBegin(PROPERTIES_FIELD_DESC);
           {
             oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, struct.properties.size()));
-            for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter32 : struct.properties.entrySet())
+            for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter52 : struct.properties.entrySet())
             {
-              oprot.writeString(_iter32.getKey());
-              oprot.writeString(_iter32.getValue());
+              oprot.writeString(_iter52.getKey());
+              oprot.writeString(_iter52.getValue());
             }
             oprot.writeMapEnd();
           }
@@ -5068,10 +5366,10 @@ public class RemoteInterpreterService {
         if (struct.isSetProperties()) {
           {
             oprot.writeI32(struct.properties.size());
-            for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter33 : struct.properties.entrySet())
+            for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter53 : struct.properties.entrySet())
             {
-              oprot.writeString(_iter33.getKey());
-              oprot.writeString(_iter33.getValue());
+              oprot.writeString(_iter53.getKey());
+              oprot.writeString(_iter53.getValue());
             }
           }
         }
@@ -5083,15 +5381,15 @@ public class RemoteInterpreterService {
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TMap _map34 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-            struct.properties = new java.util.HashMap<java.lang.String,java.lang.String>(2*_map34.size);
-            @org.apache.thrift.annotation.Nullable java.lang.String _key35;
-            @org.apache.thrift.annotation.Nullable java.lang.String _val36;
-            for (int _i37 = 0; _i37 < _map34.size; ++_i37)
+            org.apache.thrift.protocol.TMap _map54 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.properties = new java.util.HashMap<java.lang.String,java.lang.String>(2*_map54.size);
+            @org.apache.thrift.annotation.Nullable java.lang.String _key55;
+            @org.apache.thrift.annotation.Nullable java.lang.String _val56;
+            for (int _i57 = 0; _i57 < _map54.size; ++_i57)
             {
-              _key35 = iprot.readString();
-              _val36 = iprot.readString();
-              struct.properties.put(_key35, _val36);
+              _key55 = iprot.readString();
+              _val56 = iprot.readString();
+              struct.properties.put(_key55, _val56);
             }
           }
           struct.setPropertiesIsSet(true);
@@ -12318,14 +12616,14 @@ public class RemoteInterpreterService {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list38 = iprot.readListBegin();
-                  struct.success = new java.util.ArrayList<InterpreterCompletion>(_list38.size);
-                  @org.apache.thrift.annotation.Nullable InterpreterCompletion _elem39;
-                  for (int _i40 = 0; _i40 < _list38.size; ++_i40)
+                  org.apache.thrift.protocol.TList _list58 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<InterpreterCompletion>(_list58.size);
+                  @org.apache.thrift.annotation.Nullable InterpreterCompletion _elem59;
+                  for (int _i60 = 0; _i60 < _list58.size; ++_i60)
                   {
-                    _elem39 = new InterpreterCompletion();
-                    _elem39.read(iprot);
-                    struct.success.add(_elem39);
+                    _elem59 = new InterpreterCompletion();
+                    _elem59.read(iprot);
+                    struct.success.add(_elem59);
                   }
                   iprot.readListEnd();
                 }
@@ -12353,9 +12651,9 @@ public class RemoteInterpreterService {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (InterpreterCompletion _iter41 : struct.success)
+            for (InterpreterCompletion _iter61 : struct.success)
             {
-              _iter41.write(oprot);
+              _iter61.write(oprot);
             }
             oprot.writeListEnd();
           }
@@ -12386,9 +12684,9 @@ public class RemoteInterpreterService {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (InterpreterCompletion _iter42 : struct.success)
+            for (InterpreterCompletion _iter62 : struct.success)
             {
-              _iter42.write(oprot);
+              _iter62.write(oprot);
             }
           }
         }
@@ -12400,14 +12698,14 @@ public class RemoteInterpreterService {
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list43 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new java.util.ArrayList<InterpreterCompletion>(_list43.size);
-            @org.apache.thrift.annotation.Nullable InterpreterCompletion _elem44;
-            for (int _i45 = 0; _i45 < _list43.size; ++_i45)
+            org.apache.thrift.protocol.TList _list63 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new java.util.ArrayList<InterpreterCompletion>(_list63.size);
+            @org.apache.thrift.annotation.Nullable InterpreterCompletion _elem64;
+            for (int _i65 = 0; _i65 < _list63.size; ++_i65)
             {
-              _elem44 = new InterpreterCompletion();
-              _elem44.read(iprot);
-              struct.success.add(_elem44);
+              _elem64 = new InterpreterCompletion();
+              _elem64.read(iprot);
+              struct.success.add(_elem64);
             }
           }
           struct.setSuccessIsSet(true);
@@ -13767,17 +14065,19 @@ public class RemoteInterpreterService {
     }
   }
 
-  public static class resourcePoolGetAll_args implements org.apache.thrift.TBase<resourcePoolGetAll_args, resourcePoolGetAll_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourcePoolGetAll_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourcePoolGetAll_args");
+  public static class getProgressAll_args implements org.apache.thrift.TBase<getProgressAll_args, getProgressAll_args._Fields>, java.io.Serializable, Cloneable, Comparable<getProgressAll_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getProgressAll_args");
 
+    private static final org.apache.thrift.protocol.TField QUERIES_FIELD_DESC = new org.apache.thrift.protocol.TField("queries", org.apache.thrift.protocol.TType.LIST, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourcePoolGetAll_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourcePoolGetAll_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getProgressAll_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getProgressAll_argsTupleSchemeFactory();
 
+    public @org.apache.thrift.annotation.Nullable java.util.List<RemoteJobQuery> queries; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      QUERIES((short)1, "queries");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -13793,6 +14093,8 @@ public class RemoteInterpreterService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 1: // QUERIES
+            return QUERIES;
           default:
             return null;
         }
@@ -13832,38 +14134,110 @@ public class RemoteInterpreterService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.QUERIES, new org.apache.thrift.meta_data.FieldMetaData("queries", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RemoteJobQuery.class))));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourcePoolGetAll_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getProgressAll_args.class, metaDataMap);
     }
 
-    public resourcePoolGetAll_args() {
+    public getProgressAll_args() {
+    }
+
+    public getProgressAll_args(
+      java.util.List<RemoteJobQuery> queries)
+    {
+      this();
+      this.queries = queries;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourcePoolGetAll_args(resourcePoolGetAll_args other) {
+    public getProgressAll_args(getProgressAll_args other) {
+      if (other.isSetQueries()) {
+        java.util.List<RemoteJobQuery> __this__queries = new java.util.ArrayList<RemoteJobQuery>(other.queries.size());
+        for (RemoteJobQuery other_element : other.queries) {
+          __this__queries.add(new RemoteJobQuery(other_element));
+        }
+        this.queries = __this__queries;
+      }
     }
 
-    public resourcePoolGetAll_args deepCopy() {
-      return new resourcePoolGetAll_args(this);
+    public getProgressAll_args deepCopy() {
+      return new getProgressAll_args(this);
     }
 
     @Override
     public void clear() {
+      this.queries = null;
+    }
+
+    public int getQueriesSize() {
+      return (this.queries == null) ? 0 : this.queries.size();
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.Iterator<RemoteJobQuery> getQueriesIterator() {
+      return (this.queries == null) ? null : this.queries.iterator();
+    }
+
+    public void addToQueries(RemoteJobQuery elem) {
+      if (this.queries == null) {
+        this.queries = new java.util.ArrayList<RemoteJobQuery>();
+      }
+      this.queries.add(elem);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.List<RemoteJobQuery> getQueries() {
+      return this.queries;
+    }
+
+    public getProgressAll_args setQueries(@org.apache.thrift.annotation.Nullable java.util.List<RemoteJobQuery> queries) {
+      this.queries = queries;
+      return this;
+    }
+
+    public void unsetQueries() {
+      this.queries = null;
+    }
+
+    /** Returns true if field queries is set (has been assigned a value) and false otherwise */
+    public boolean isSetQueries() {
+      return this.queries != null;
+    }
+
+    public void setQueriesIsSet(boolean value) {
+      if (!value) {
+        this.queries = null;
+      }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
+      case QUERIES:
+        if (value == null) {
+          unsetQueries();
+        } else {
+          setQueries((java.util.List<RemoteJobQuery>)value);
+        }
+        break;
+
       }
     }
 
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
+      case QUERIES:
+        return getQueries();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -13875,6 +14249,8 @@ public class RemoteInterpreterService {
       }
 
       switch (field) {
+      case QUERIES:
+        return isSetQueries();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -13883,17 +14259,1598 @@ public class RemoteInterpreterService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourcePoolGetAll_args)
-        return this.equals((resourcePoolGetAll_args)that);
+      if (that instanceof getProgressAll_args)
+        return this.equals((getProgressAll_args)that);
       return false;
     }
 
-    public boolean equals(resourcePoolGetAll_args that) {
+    public boolean equals(getProgressAll_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
+      boolean this_present_queries = true && this.isSetQueries();
+      boolean that_present_queries = true && that.isSetQueries();
+      if (this_present_queries || that_present_queries) {
+        if (!(this_present_queries && that_present_queries))
+          return false;
+        if (!this.queries.equals(that.queries))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetQueries()) ? 131071 : 524287);
+      if (isSetQueries())
+        hashCode = hashCode * 8191 + queries.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getProgressAll_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetQueries()).compareTo(other.isSetQueries());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetQueries()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.queries, other.queries);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getProgressAll_args(");
+      boolean first = true;
+
+      sb.append("queries:");
+      if (this.queries == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.queries);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getProgressAll_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getProgressAll_argsStandardScheme getScheme() {
+        return new getProgressAll_argsStandardScheme();
+      }
+    }
+
+    private static class getProgressAll_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getProgressAll_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getProgressAll_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // QUERIES
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list66 = iprot.readListBegin();
+                  struct.queries = new java.util.ArrayList<RemoteJobQuery>(_list66.size);
+                  @org.apache.thrift.annotation.Nullable RemoteJobQuery _elem67;
+                  for (int _i68 = 0; _i68 < _list66.size; ++_i68)
+                  {
+                    _elem67 = new RemoteJobQuery();
+                    _elem67.read(iprot);
+                    struct.queries.add(_elem67);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setQueriesIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getProgressAll_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.queries != null) {
+          oprot.writeFieldBegin(QUERIES_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.queries.size()));
+            for (RemoteJobQuery _iter69 : struct.queries)
+            {
+              _iter69.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getProgressAll_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getProgressAll_argsTupleScheme getScheme() {
+        return new getProgressAll_argsTupleScheme();
+      }
+    }
+
+    private static class getProgressAll_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getProgressAll_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getProgressAll_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetQueries()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetQueries()) {
+          {
+            oprot.writeI32(struct.queries.size());
+            for (RemoteJobQuery _iter70 : struct.queries)
+            {
+              _iter70.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getProgressAll_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list71 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.queries = new java.util.ArrayList<RemoteJobQuery>(_list71.size);
+            @org.apache.thrift.annotation.Nullable RemoteJobQuery _elem72;
+            for (int _i73 = 0; _i73 < _list71.size; ++_i73)
+            {
+              _elem72 = new RemoteJobQuery();
+              _elem72.read(iprot);
+              struct.queries.add(_elem72);
+            }
+          }
+          struct.setQueriesIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getProgressAll_result implements org.apache.thrift.TBase<getProgressAll_result, getProgressAll_result._Fields>, java.io.Serializable, Cloneable, Comparable<getProgressAll_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getProgressAll_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getProgressAll_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getProgressAll_resultTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.util.List<RemoteJobProgress> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RemoteJobProgress.class))));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getProgressAll_result.class, metaDataMap);
+    }
+
+    public getProgressAll_result() {
+    }
+
+    public getProgressAll_result(
+      java.util.List<RemoteJobProgress> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getProgressAll_result(getProgressAll_result other) {
+      if (other.isSetSuccess()) {
+        java.util.List<RemoteJobProgress> __this__success = new java.util.ArrayList<RemoteJobProgress>(other.success.size());
+        for (RemoteJobProgress other_element : other.success) {
+          __this__success.add(new RemoteJobProgress(other_element));
+        }
+        this.success = __this__success;
+      }
+    }
+
+    public getProgressAll_result deepCopy() {
+      return new getProgressAll_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.Iterator<RemoteJobProgress> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(RemoteJobProgress elem) {
+      if (this.success == null) {
+        this.success = new java.util.ArrayList<RemoteJobProgress>();
+      }
+      this.success.add(elem);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.List<RemoteJobProgress> getSuccess() {
+      return this.success;
+    }
+
+    public getProgressAll_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.List<RemoteJobProgress> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.util.List<RemoteJobProgress>)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getProgressAll_result)
+        return this.equals((getProgressAll_result)that);
+      return false;
+    }
+
+    public boolean equals(getProgressAll_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getProgressAll_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getProgressAll_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getProgressAll_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getProgressAll_resultStandardScheme getScheme() {
+        return new getProgressAll_resultStandardScheme();
+      }
+    }
+
+    private static class getProgressAll_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getProgressAll_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getProgressAll_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list74 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<RemoteJobProgress>(_list74.size);
+                  @org.apache.thrift.annotation.Nullable RemoteJobProgress _elem75;
+                  for (int _i76 = 0; _i76 < _list74.size; ++_i76)
+                  {
+                    _elem75 = new RemoteJobProgress();
+                    _elem75.read(iprot);
+                    struct.success.add(_elem75);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getProgressAll_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (RemoteJobProgress _iter77 : struct.success)
+            {
+              _iter77.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getProgressAll_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getProgressAll_resultTupleScheme getScheme() {
+        return new getProgressAll_resultTupleScheme();
+      }
+    }
+
+    private static class getProgressAll_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getProgressAll_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getProgressAll_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (RemoteJobProgress _iter78 : struct.success)
+            {
+              _iter78.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getProgressAll_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list79 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new java.util.ArrayList<RemoteJobProgress>(_list79.size);
+            @org.apache.thrift.annotation.Nullable RemoteJobProgress _elem80;
+            for (int _i81 = 0; _i81 < _list79.size; ++_i81)
+            {
+              _elem80 = new RemoteJobProgress();
+              _elem80.read(iprot);
+              struct.success.add(_elem80);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class resourcePoolGetAll_args implements org.apache.thrift.TBase<resourcePoolGetAll_args, resourcePoolGetAll_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourcePoolGetAll_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourcePoolGetAll_args");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourcePoolGetAll_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourcePoolGetAll_argsTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourcePoolGetAll_args.class, metaDataMap);
+    }
+
+    public resourcePoolGetAll_args() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public resourcePoolGetAll_args(resourcePoolGetAll_args other) {
+    }
+
+    public resourcePoolGetAll_args deepCopy() {
+      return new resourcePoolGetAll_args(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof resourcePoolGetAll_args)
+        return this.equals((resourcePoolGetAll_args)that);
+      return false;
+    }
+
+    public boolean equals(resourcePoolGetAll_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(resourcePoolGetAll_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourcePoolGetAll_args(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class resourcePoolGetAll_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourcePoolGetAll_argsStandardScheme getScheme() {
+        return new resourcePoolGetAll_argsStandardScheme();
+      }
+    }
+
+    private static class resourcePoolGetAll_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourcePoolGetAll_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class resourcePoolGetAll_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourcePoolGetAll_argsTupleScheme getScheme() {
+        return new resourcePoolGetAll_argsTupleScheme();
+      }
+    }
+
+    private static class resourcePoolGetAll_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourcePoolGetAll_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class resourcePoolGetAll_result implements org.apache.thrift.TBase<resourcePoolGetAll_result, resourcePoolGetAll_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourcePoolGetAll_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourcePoolGetAll_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourcePoolGetAll_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourcePoolGetAll_resultTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourcePoolGetAll_result.class, metaDataMap);
+    }
+
+    public resourcePoolGetAll_result() {
+    }
+
+    public resourcePoolGetAll_result(
+      java.util.List<java.lang.String> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public resourcePoolGetAll_result(resourcePoolGetAll_result other) {
+      if (other.isSetSuccess()) {
+        java.util.List<java.lang.String> __this__success = new java.util.ArrayList<java.lang.String>(other.success);
+        this.success = __this__success;
+      }
+    }
+
+    public resourcePoolGetAll_result deepCopy() {
+      return new resourcePoolGetAll_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.Iterator<java.lang.String> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(java.lang.String elem) {
+      if (this.success == null) {
+        this.success = new java.util.ArrayList<java.lang.String>();
+      }
+      this.success.add(elem);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.List<java.lang.String> getSuccess() {
+      return this.success;
+    }
+
+    public resourcePoolGetAll_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.util.List<java.lang.String>)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof resourcePoolGetAll_result)
+        return this.equals((resourcePoolGetAll_result)that);
+      return false;
+    }
+
+    public boolean equals(resourcePoolGetAll_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(resourcePoolGetAll_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourcePoolGetAll_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class resourcePoolGetAll_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourcePoolGetAll_resultStandardScheme getScheme() {
+        return new resourcePoolGetAll_resultStandardScheme();
+      }
+    }
+
+    private static class resourcePoolGetAll_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourcePoolGetAll_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list82 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<java.lang.String>(_list82.size);
+                  @org.apache.thrift.annotation.Nullable java.lang.String _elem83;
+                  for (int _i84 = 0; _i84 < _list82.size; ++_i84)
+                  {
+                    _elem83 = iprot.readString();
+                    struct.success.add(_elem83);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
+            for (java.lang.String _iter85 : struct.success)
+            {
+              oprot.writeString(_iter85);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class resourcePoolGetAll_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourcePoolGetAll_resultTupleScheme getScheme() {
+        return new resourcePoolGetAll_resultTupleScheme();
+      }
+    }
+
+    private static class resourcePoolGetAll_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourcePoolGetAll_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (java.lang.String _iter86 : struct.success)
+            {
+              oprot.writeString(_iter86);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list87 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.success = new java.util.ArrayList<java.lang.String>(_list87.size);
+            @org.apache.thrift.annotation.Nullable java.lang.String _elem88;
+            for (int _i89 = 0; _i89 < _list87.size; ++_i89)
+            {
+              _elem88 = iprot.readString();
+              struct.success.add(_elem88);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class resourcePoolGetAllOf_args implements org.apache.thrift.TBase<resourcePoolGetAllOf_args, resourcePoolGetAllOf_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourcePoolGetAllOf_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourcePoolGetAllOf_args");
+
+    private static final org.apache.thrift.protocol.TField NOTE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("noteId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField RESOURCE_NAMES_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceNames", org.apache.thrift.protocol.TType.LIST, (short)2);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourcePoolGetAllOf_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourcePoolGetAllOf_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.lang.String noteId; // required
+    public @org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> resourceNames; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      NOTE_ID((short)1, "noteId"),
+      RESOURCE_NAMES((short)2, "resourceNames");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // NOTE_ID
+            return NOTE_ID;
+          case 2: // RESOURCE_NAMES
+            return RESOURCE_NAMES;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.NOTE_ID, new org.apache.thrift.meta_data.FieldMetaData("noteId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.RESOURCE_NAMES, new org.apache.thrift.meta_data.FieldMetaData("resourceNames", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourcePoolGetAllOf_args.class, metaDataMap);
+    }
+
+    public resourcePoolGetAllOf_args() {
+    }
+
+    public resourcePoolGetAllOf_args(
+      java.lang.String noteId,
+      java.util.List<java.lang.String> resourceNames)
+    {
+      this();
+      this.noteId = noteId;
+      this.resourceNames = resourceNames;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public resourcePoolGetAllOf_args(resourcePoolGetAllOf_args other) {
+      if (other.isSetNoteId()) {
+        this.noteId = other.noteId;
+      }
+      if (other.isSetResourceNames()) {
+        java.util.List<java.lang.String> __this__resourceNames = new java.util.ArrayList<java.lang.String>(other.resourceNames);
+        this.resourceNames = __this__resourceNames;
+      }
+    }
+
+    public resourcePoolGetAllOf_args deepCopy() {
+      return new resourcePoolGetAllOf_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.noteId = null;
+      this.resourceNames = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getNoteId() {
+      return this.noteId;
+    }
+
+    public resourcePoolGetAllOf_args setNoteId(@org.apache.thrift.annotation.Nullable java.lang.String noteId) {
+      this.noteId = noteId;
+      return this;
+    }
+
+    public void unsetNoteId() {
+      this.noteId = null;
+    }
+
+    /** Returns true if field noteId is set (has been assigned a value) and false otherwise */
+    public boolean isSetNoteId() {
+      return this.noteId != null;
+    }
+
+    public void setNoteIdIsSet(boolean value) {
+      if (!value) {
+        this.noteId = null;
+      }
+    }
+
+    public int getResourceNamesSize() {
+      return (this.resourceNames == null) ? 0 : this.resourceNames.size();
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.Iterator<java.lang.String> getResourceNamesIterator() {
+      return (this.resourceNames == null) ? null : this.resourceNames.iterator();
+    }
+
+    public void addToResourceNames(java.lang.String elem) {
+      if (this.resourceNames == null) {
+        this.resourceNames = new java.util.ArrayList<java.lang.String>();
+      }
+      this.resourceNames.add(elem);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.List<java.lang.String> getResourceNames() {
+      return this.resourceNames;
+    }
+
+    public resourcePoolGetAllOf_args setResourceNames(@org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> resourceNames) {
+      this.resourceNames = resourceNames;
+      return this;
+    }
+
+    public void unsetResourceNames() {
+      this.resourceNames = null;
+    }
+
+    /** Returns true if field resourceNames is set (has been assigned a value) and false otherwise */
+    public boolean isSetResourceNames() {
+      return this.resourceNames != null;
+    }
+
+    public void setResourceNamesIsSet(boolean value) {
+      if (!value) {
+        this.resourceNames = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case NOTE_ID:
+        if (value == null) {
+          unsetNoteId();
+        } else {
+          setNoteId((java.lang.String)value);
+        }
+        break;
+
+      case RESOURCE_NAMES:
+        if (value == null) {
+          unsetResourceNames();
+        } else {
+          setResourceNames((java.util.List<java.lang.String>)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case NOTE_ID:
+        return getNoteId();
+
+      case RESOURCE_NAMES:
+        return getResourceNames();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case NOTE_ID:
+        return isSetNoteId();
+      case RESOURCE_NAMES:
+        return isSetResourceNames();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof resourcePoolGetAllOf_args)
+        return this.equals((resourcePoolGetAllOf_args)that);
+      return false;
+    }
+
+    public boolean equals(resourcePoolGetAllOf_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_noteId = true && this.isSetNoteId();
+      boolean that_present_noteId = true && that.isSetNoteId();
+      if (this_present_noteId || that_present_noteId) {
+        if (!(this_present_noteId && that_present_noteId))
+          return false;
+        if (!this.noteId.equals(that.noteId))
+          return false;
+      }
+
+      boolean this_present_resourceNames = true && this.isSetResourceNames();
+      boolean that_present_resourceNames = true && that.isSetResourceNames();
+      if (this_present_resourceNames || that_present_resourceNames) {
+        if (!(this_present_resourceNames && that_present_resourceNames))
+          return false;
+        if (!this.resourceNames.equals(that.resourceNames))
+          return false;
+      }
+
       return true;
     }
 
@@ -13901,17 +15858,45 @@ public class RemoteInterpreterService {
     public int hashCode() {
       int hashCode = 1;
 
+      hashCode = hashCode * 8191 + ((isSetNoteId()) ? 131071 : 524287);
+      if (isSetNoteId())
+        hashCode = hashCode * 8191 + noteId.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetResourceNames()) ? 131071 : 524287);
+      if (isSetResourceNames())
+        hashCode = hashCode * 8191 + resourceNames.hashCode();
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(resourcePoolGetAll_args other) {
+    public int compareTo(resourcePoolGetAllOf_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = java.lang.Boolean.valueOf(isSetNoteId()).compareTo(other.isSetNoteId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetNoteId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.noteId, other.noteId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetResourceNames()).compareTo(other.isSetResourceNames());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetResourceNames()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourceNames, other.resourceNames);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -13930,9 +15915,24 @@ public class RemoteInterpreterService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourcePoolGetAll_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourcePoolGetAllOf_args(");
       boolean first = true;
 
+      sb.append("noteId:");
+      if (this.noteId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.noteId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("resourceNames:");
+      if (this.resourceNames == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.resourceNames);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -13958,15 +15958,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class resourcePoolGetAll_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourcePoolGetAll_argsStandardScheme getScheme() {
-        return new resourcePoolGetAll_argsStandardScheme();
+    private static class resourcePoolGetAllOf_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourcePoolGetAllOf_argsStandardScheme getScheme() {
+        return new resourcePoolGetAllOf_argsStandardScheme();
       }
     }
 
-    private static class resourcePoolGetAll_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourcePoolGetAll_args> {
+    private static class resourcePoolGetAllOf_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourcePoolGetAllOf_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourcePoolGetAllOf_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -13976,6 +15976,32 @@ public class RemoteInterpreterService {
             break;
           }
           switch (schemeField.id) {
+            case 1: // NOTE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.noteId = iprot.readString();
+                struct.setNoteIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // RESOURCE_NAMES
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list90 = iprot.readListBegin();
+                  struct.resourceNames = new java.util.ArrayList<java.lang.String>(_list90.size);
+                  @org.apache.thrift.annotation.Nullable java.lang.String _elem91;
+                  for (int _i92 = 0; _i92 < _list90.size; ++_i92)
+                  {
+                    _elem91 = iprot.readString();
+                    struct.resourceNames.add(_elem91);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setResourceNamesIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -13987,32 +16013,87 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourcePoolGetAllOf_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.noteId != null) {
+          oprot.writeFieldBegin(NOTE_ID_FIELD_DESC);
+          oprot.writeString(struct.noteId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.resourceNames != null) {
+          oprot.writeFieldBegin(RESOURCE_NAMES_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.resourceNames.size()));
+            for (java.lang.String _iter93 : struct.resourceNames)
+            {
+              oprot.writeString(_iter93);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class resourcePoolGetAll_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourcePoolGetAll_argsTupleScheme getScheme() {
-        return new resourcePoolGetAll_argsTupleScheme();
+    private static class resourcePoolGetAllOf_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourcePoolGetAllOf_argsTupleScheme getScheme() {
+        return new resourcePoolGetAllOf_argsTupleScheme();
       }
     }
 
-    private static class resourcePoolGetAll_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourcePoolGetAll_args> {
+    private static class resourcePoolGetAllOf_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourcePoolGetAllOf_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAllOf_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetNoteId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetResourceNames()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetNoteId()) {
+          oprot.writeString(struct.noteId);
+        }
+        if (struct.isSetResourceNames()) {
+          {
+            oprot.writeI32(struct.resourceNames.size());
+            for (java.lang.String _iter94 : struct.resourceNames)
+            {
+              oprot.writeString(_iter94);
+            }
+          }
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAllOf_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.noteId = iprot.readString();
+          struct.setNoteIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          {
+            org.apache.thrift.protocol.TList _list95 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.resourceNames = new java.util.ArrayList<java.lang.String>(_list95.size);
+            @org.apache.thrift.annotation.Nullable java.lang.String _elem96;
+            for (int _i97 = 0; _i97 < _list95.size; ++_i97)
+            {
+              _elem96 = iprot.readString();
+              struct.resourceNames.add(_elem96);
+            }
+          }
+          struct.setResourceNamesIsSet(true);
+        }
       }
     }
 
@@ -14021,13 +16102,13 @@ public class RemoteInterpreterService {
     }
   }
 
-  public static class resourcePoolGetAll_result implements org.apache.thrift.TBase<resourcePoolGetAll_result, resourcePoolGetAll_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourcePoolGetAll_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourcePoolGetAll_result");
+  public static class resourcePoolGetAllOf_result implements org.apache.thrift.TBase<resourcePoolGetAllOf_result, resourcePoolGetAllOf_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourcePoolGetAllOf_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourcePoolGetAllOf_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourcePoolGetAll_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourcePoolGetAll_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourcePoolGetAllOf_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourcePoolGetAllOf_resultTupleSchemeFactory();
 
     public @org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> success; // required
 
@@ -14099,13 +16180,13 @@ public class RemoteInterpreterService {
           new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
               new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourcePoolGetAll_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourcePoolGetAllOf_result.class, metaDataMap);
     }
 
-    public resourcePoolGetAll_result() {
+    public resourcePoolGetAllOf_result() {
     }
 
-    public resourcePoolGetAll_result(
+    public resourcePoolGetAllOf_result(
       java.util.List<java.lang.String> success)
     {
       this();
@@ -14115,15 +16196,15 @@ public class RemoteInterpreterService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourcePoolGetAll_result(resourcePoolGetAll_result other) {
+    public resourcePoolGetAllOf_result(resourcePoolGetAllOf_result other) {
       if (other.isSetSuccess()) {
         java.util.List<java.lang.String> __this__success = new java.util.ArrayList<java.lang.String>(other.success);
         this.success = __this__success;
       }
     }
 
-    public resourcePoolGetAll_result deepCopy() {
-      return new resourcePoolGetAll_result(this);
+    public resourcePoolGetAllOf_result deepCopy() {
+      return new resourcePoolGetAllOf_result(this);
     }
 
     @Override
@@ -14152,7 +16233,7 @@ public class RemoteInterpreterService {
       return this.success;
     }
 
-    public resourcePoolGetAll_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> success) {
+    public resourcePoolGetAllOf_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> success) {
       this.success = success;
       return this;
     }
@@ -14212,12 +16293,12 @@ public class RemoteInterpreterService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourcePoolGetAll_result)
-        return this.equals((resourcePoolGetAll_result)that);
+      if (that instanceof resourcePoolGetAllOf_result)
+        return this.equals((resourcePoolGetAllOf_result)that);
       return false;
     }
 
-    public boolean equals(resourcePoolGetAll_result that) {
+    public boolean equals(resourcePoolGetAllOf_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -14247,7 +16328,7 @@ public class RemoteInterpreterService {
     }
 
     @Override
-    public int compareTo(resourcePoolGetAll_result other) {
+    public int compareTo(resourcePoolGetAllOf_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -14282,7 +16363,7 @@ public class RemoteInterpreterService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourcePoolGetAll_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourcePoolGetAllOf_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -14317,15 +16398,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class resourcePoolGetAll_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourcePoolGetAll_resultStandardScheme getScheme() {
-        return new resourcePoolGetAll_resultStandardScheme();
+    private static class resourcePoolGetAllOf_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourcePoolGetAllOf_resultStandardScheme getScheme() {
+        return new resourcePoolGetAllOf_resultStandardScheme();
       }
     }
 
-    private static class resourcePoolGetAll_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourcePoolGetAll_result> {
+    private static class resourcePoolGetAllOf_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourcePoolGetAllOf_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourcePoolGetAllOf_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -14338,13 +16419,13 @@ public class RemoteInterpreterService {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list46 = iprot.readListBegin();
-                  struct.success = new java.util.ArrayList<java.lang.String>(_list46.size);
-                  @org.apache.thrift.annotation.Nullable java.lang.String _elem47;
-                  for (int _i48 = 0; _i48 < _list46.size; ++_i48)
+                  org.apache.thrift.protocol.TList _list98 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<java.lang.String>(_list98.size);
+                  @org.apache.thrift.annotation.Nullable java.lang.String _elem99;
+                  for (int _i100 = 0; _i100 < _list98.size; ++_i100)
                   {
-                    _elem47 = iprot.readString();
-                    struct.success.add(_elem47);
+                    _elem99 = iprot.readString();
+                    struct.success.add(_elem99);
                   }
                   iprot.readListEnd();
                 }
@@ -14364,7 +16445,7 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourcePoolGetAllOf_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -14372,9 +16453,9 @@ public class RemoteInterpreterService {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
-            for (java.lang.String _iter49 : struct.success)
+            for (java.lang.String _iter101 : struct.success)
             {
-              oprot.writeString(_iter49);
+              oprot.writeString(_iter101);
             }
             oprot.writeListEnd();
           }
@@ -14386,16 +16467,16 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class resourcePoolGetAll_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourcePoolGetAll_resultTupleScheme getScheme() {
-        return new resourcePoolGetAll_resultTupleScheme();
+    private static class resourcePoolGetAllOf_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourcePoolGetAllOf_resultTupleScheme getScheme() {
+        return new resourcePoolGetAllOf_resultTupleScheme();
       }
     }
 
-    private static class resourcePoolGetAll_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourcePoolGetAll_result> {
+    private static class resourcePoolGetAllOf_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourcePoolGetAllOf_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAllOf_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -14405,27 +16486,27 @@ public class RemoteInterpreterService {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (java.lang.String _iter50 : struct.success)
+            for (java.lang.String _iter102 : struct.success)
             {
-              oprot.writeString(_iter50);
+              oprot.writeString(_iter102);
             }
           }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAllOf_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list51 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-            struct.success = new java.util.ArrayList<java.lang.String>(_list51.size);
-            @org.apache.thrift.annotation.Nullable java.lang.String _elem52;
-            for (int _i53 = 0; _i53 < _list51.size; ++_i53)
+            org.apache.thrift.protocol.TList _list103 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.success = new java.util.ArrayList<java.lang.String>(_list103.size);
+            @org.apache.thrift.annotation.Nullable java.lang.String _elem104;
+            for (int _i105 = 0; _i105 < _list103.size; ++_i105)
             {
-              _elem52 = iprot.readString();
-              struct.success.add(_elem52);
+              _elem104 = iprot.readString();
+              struct.success.add(_elem104);
             }
           }
           struct.setSuccessIsSet(true);
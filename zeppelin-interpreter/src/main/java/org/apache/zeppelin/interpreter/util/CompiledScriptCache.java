@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+/**
+ * Cache of the compiled form of paragraph scripts, e.g. the classes compiled by a Groovy shell
+ * or the units parsed by a JRuby container, shared by the interpreters of a process.
+ *
+ * A script is keyed by the SHA-256 hash of its text and by a namespace, the compiler it was
+ * compiled by, as a compiled script is only valid there. The cache is bounded by the total
+ * length of the cached scripts and evicts the least recently used ones first. The compiled
+ * scripts are softly referenced, so the GC can also reclaim them when memory is short.
+ */
+public class CompiledScriptCache {
+
+  public static final String MAX_WEIGHT = "zeppelin.interpreter.scriptCache.maxChars";
+  public static final long DEFAULT_MAX_WEIGHT = 8 * 1024 * 1024;
+
+  private static CompiledScriptCache shared;
+
+  private final Cache<Key, Object> cache;
+
+  /**
+   * Cache shared by the interpreters of this process, created with the settings of the first
+   * caller.
+   */
+  public static synchronized CompiledScriptCache getShared(Properties properties) {
+    if (shared == null) {
+      shared = new CompiledScriptCache(Long.parseLong(
+          properties.getProperty(MAX_WEIGHT, DEFAULT_MAX_WEIGHT + "")));
+    }
+    return shared;
+  }
+
+  /**
+   * @param maxWeight max total length in characters of the cached scripts
+   */
+  public CompiledScriptCache(long maxWeight) {
+    this.cache = CacheBuilder.newBuilder()
+        .maximumWeight(maxWeight)
+        .weigher((Key key, Object value) -> key.weight)
+        .softValues()
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Compiled form of the script, compiled by the given function if it is not cached. The
+   * exceptions of the compiler are thrown as is.
+   *
+   * @param namespace compiler of the script, e.g. the shell of an interpreter
+   */
+  @SuppressWarnings("unchecked")
+  public <V> V get(String namespace, String script, Function<String, V> compiler) {
+    Key key = new Key(namespace, script);
+    try {
+      return (V) cache.get(key, () -> compiler.apply(script));
+    } catch (UncheckedExecutionException | ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    } catch (ExecutionError e) {
+      throw (Error) e.getCause();
+    }
+  }
+
+  /**
+   * Drop the scripts of the namespace, e.g. when its shell is closed.
+   */
+  public void invalidate(String namespace) {
+    cache.asMap().keySet().removeIf(key -> key.namespace.equals(namespace));
+  }
+
+  public long size() {
+    return cache.size();
+  }
+
+  public long getHitCount() {
+    return cache.stats().hitCount();
+  }
+
+  public long getMissCount() {
+    return cache.stats().missCount();
+  }
+
+  private static final class Key {
+    private final String namespace;
+    private final byte[] hash;
+    private final int weight;
+
+    Key(String namespace, String script) {
+      this.namespace = namespace;
+      this.hash = sha256(script);
+      this.weight = script.length();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) o;
+      return namespace.equals(that.namespace) && Arrays.equals(hash, that.hash);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * namespace.hashCode() + Arrays.hashCode(hash);
+    }
+  }
+
+  private static byte[] sha256(String script) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(script.getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
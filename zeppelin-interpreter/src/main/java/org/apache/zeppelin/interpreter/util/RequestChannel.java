@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.util;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Request/response channel between an interpreter and the process serving its requests, such
+ * as the python or R process calling back into the interpreter.
+ *
+ * The interpreter sends a request and gets the future of its response. The serving process
+ * takes the requests from a queue in order, and completes each of them by its id. Several
+ * requests can be outstanding, e.g. a code completion sent while a statement runs, and a
+ * response to a request nobody waits for anymore is dropped.
+ *
+ * @param <T> request
+ * @param <R> response
+ */
+public class RequestChannel<T, R> {
+
+  /**
+   * Request with its correlation id.
+   */
+  public static class Request<T> {
+    private final long id;
+    private final T payload;
+
+    Request(long id, T payload) {
+      this.id = id;
+      this.payload = payload;
+    }
+
+    public long getId() {
+      return id;
+    }
+
+    public T getPayload() {
+      return payload;
+    }
+  }
+
+  // put in the queue by close(), so that the blocked takers return
+  private static final Request<?> CLOSED = new Request<>(-1, null);
+
+  private final BlockingQueue<Request<?>> requests = new LinkedBlockingQueue<>();
+  private final Map<Long, CompletableFuture<R>> pending = new ConcurrentHashMap<>();
+  private final AtomicLong nextId = new AtomicLong();
+  private volatile Throwable closeCause;
+
+  /**
+   * Queue a request.
+   *
+   * @return future of the response, failed if the channel is closed
+   */
+  public CompletableFuture<R> send(T payload) {
+    long id = nextId.incrementAndGet();
+    CompletableFuture<R> future = new CompletableFuture<>();
+    pending.put(id, future);
+    future.whenComplete((response, error) -> pending.remove(id));
+    requests.add(new Request<>(id, payload));
+    // checked after queuing, so that a concurrent close() can't miss the request
+    if (closeCause != null) {
+      future.completeExceptionally(closeCause);
+    }
+    return future;
+  }
+
+  /**
+   * Take the next request, waiting until there's one.
+   *
+   * @return null if the channel is closed
+   */
+  public Request<T> take() throws InterruptedException {
+    return unlessClosed(requests.take());
+  }
+
+  /**
+   * Take the next request, waiting at most the given time.
+   *
+   * @return null if there's no request or the channel is closed
+   */
+  public Request<T> poll(long timeout, TimeUnit unit) throws InterruptedException {
+    return unlessClosed(requests.poll(timeout, unit));
+  }
+
+  @SuppressWarnings("unchecked")
+  private Request<T> unlessClosed(Request<?> request) {
+    if (request == CLOSED) {
+      // for the other takers
+      requests.add(CLOSED);
+      return null;
+    }
+    return (Request<T>) request;
+  }
+
+  /**
+   * @return false if nobody waits for this response
+   */
+  public boolean complete(long id, R response) {
+    CompletableFuture<R> future = pending.get(id);
+    return future != null && future.complete(response);
+  }
+
+  public boolean completeExceptionally(long id, Throwable error) {
+    CompletableFuture<R> future = pending.get(id);
+    return future != null && future.completeExceptionally(error);
+  }
+
+  /**
+   * Number of requests sent and not completed yet.
+   */
+  public int getPendingCount() {
+    return pending.size();
+  }
+
+  public boolean isClosed() {
+    return closeCause != null;
+  }
+
+  /**
+   * Fail the outstanding and the next requests, e.g. when the serving process exits.
+   */
+  public void close(String reason) {
+    if (closeCause != null) {
+      return;
+    }
+    closeCause = new IOException(reason);
+    requests.clear();
+    requests.add(CLOSED);
+    for (CompletableFuture<R> future : pending.values()) {
+      future.completeExceptionally(closeCause);
+    }
+  }
+}
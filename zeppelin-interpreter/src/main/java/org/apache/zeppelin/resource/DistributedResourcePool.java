@@ -24,7 +24,12 @@ public class DistributedResourcePool extends LocalResourcePool {
   private final ResourcePoolConnector connector;
 
   public DistributedResourcePool(String id, ResourcePoolConnector connector) {
-    super(id);
+    this(id, connector, null);
+  }
+
+  public DistributedResourcePool(String id, ResourcePoolConnector connector,
+                                 ResourceMemoryManager memoryManager) {
+    super(id, memoryManager);
     this.connector = connector;
   }
 
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+
+/**
+ * Java serialization. Its payloads are written without content type, as they were before the
+ * serializers were pluggable, so the processes of older versions can read them.
+ */
+public class JavaResourceSerializer implements ResourceSerializer {
+  public static final String NAME = "java";
+  public static final byte CONTENT_TYPE = 0;
+
+  @Override
+  public String name() {
+    return NAME;
+  }
+
+  @Override
+  public byte contentType() {
+    return CONTENT_TYPE;
+  }
+
+  @Override
+  public void serialize(Object object, OutputStream out) throws IOException {
+    ObjectOutputStream oos = new ObjectOutputStream(out);
+    oos.writeObject(object);
+    oos.flush();
+  }
+
+  @Override
+  public Object deserialize(InputStream in, ClassLoader classLoader)
+      throws IOException, ClassNotFoundException {
+    ObjectInputStream ois = new ClassLoaderObjectInputStream(in, classLoader);
+    return ois.readObject();
+  }
+
+  /**
+   * Resolves the classes with the given class loader first, e.g. the one of a REPL.
+   */
+  private static class ClassLoaderObjectInputStream extends ObjectInputStream {
+    private final ClassLoader classLoader;
+
+    ClassLoaderObjectInputStream(InputStream in, ClassLoader classLoader) throws IOException {
+      super(in);
+      this.classLoader = classLoader;
+    }
+
+    @Override
+    protected Class<?> resolveClass(ObjectStreamClass desc)
+        throws IOException, ClassNotFoundException {
+      if (classLoader != null) {
+        try {
+          return Class.forName(desc.getName(), false, classLoader);
+        } catch (ClassNotFoundException e) {
+          // fall back to the default resolution
+        }
+      }
+      return super.resolveClass(desc);
+    }
+  }
+}
@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.resource;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.KryoException;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import com.esotericsoftware.kryo.serializers.CollectionSerializer;
+import com.esotericsoftware.kryo.serializers.DefaultSerializers;
+import com.esotericsoftware.kryo.serializers.FieldSerializer;
+import com.esotericsoftware.kryo.serializers.JavaSerializer;
+import com.esotericsoftware.kryo.serializers.MapSerializer;
+import org.objenesis.strategy.StdInstantiatorStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Kryo serialization, several times faster and smaller than the java one for the usual
+ * resources. Classes whose state Kryo can't rebuild field by field, such as the ones with a
+ * custom readObject or the collections without a no-arg constructor, are written with java
+ * serialization inside the Kryo payload.
+ *
+ * The common collection and value classes are registered, plus the classes listed in the
+ * configuration. The list must be the same in every process: a class is written with its
+ * registration id rather than its name.
+ */
+public class KryoResourceSerializer implements ResourceSerializer {
+  private static final Logger LOGGER = LoggerFactory.getLogger(KryoResourceSerializer.class);
+
+  public static final String NAME = "kryo";
+  public static final byte CONTENT_TYPE = 1;
+
+  private static final List<Class<?>> COMMON_CLASSES = Arrays.asList(
+      byte[].class, char[].class, short[].class, int[].class, long[].class, float[].class,
+      double[].class, boolean[].class, Object[].class, String[].class,
+      ArrayList.class, LinkedList.class, HashMap.class, LinkedHashMap.class, TreeMap.class,
+      HashSet.class, LinkedHashSet.class, TreeSet.class,
+      Date.class, java.sql.Date.class, BigInteger.class, BigDecimal.class,
+      ResourceId.class, Resource.class, RemoteResource.class);
+  private static final int COMMON_CLASSES_FIRST_ID = 100;
+  private static final int CLASSES_FIRST_ID = 1000;
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final int MAX_POOLED = 16;
+
+  private final List<String> classNames;
+  // Kryo instances are not thread safe, and costly to create
+  private final Queue<Context> pool = new ConcurrentLinkedQueue<>();
+
+  private static class Context {
+    private final Kryo kryo;
+    private final Output output = new Output(BUFFER_SIZE, -1);
+    private final Input input = new Input(BUFFER_SIZE);
+
+    Context(Kryo kryo) {
+      this.kryo = kryo;
+    }
+  }
+
+  public KryoResourceSerializer() {
+    this(Collections.emptyList());
+  }
+
+  /**
+   * @param classNames classes to register in addition to the common ones
+   */
+  public KryoResourceSerializer(List<String> classNames) {
+    this.classNames = classNames;
+  }
+
+  @Override
+  public String name() {
+    return NAME;
+  }
+
+  @Override
+  public byte contentType() {
+    return CONTENT_TYPE;
+  }
+
+  @Override
+  public void serialize(Object object, OutputStream out) throws IOException {
+    Context context = borrow();
+    try {
+      context.output.setOutputStream(out);
+      context.kryo.writeClassAndObject(context.output, object);
+      context.output.flush();
+    } catch (KryoException e) {
+      throw new IOException("Fail to serialize " + object.getClass().getName(), e);
+    } finally {
+      context.output.setOutputStream(null);
+      release(context);
+    }
+  }
+
+  @Override
+  public Object deserialize(InputStream in, ClassLoader classLoader)
+      throws IOException, ClassNotFoundException {
+    Context context = borrow();
+    ClassLoader defaultClassLoader = context.kryo.getClassLoader();
+    try {
+      if (classLoader != null) {
+        context.kryo.setClassLoader(classLoader);
+      }
+      context.input.setInputStream(in);
+      return context.kryo.readClassAndObject(context.input);
+    } catch (KryoException e) {
+      if (e.getCause() instanceof ClassNotFoundException) {
+        throw (ClassNotFoundException) e.getCause();
+      }
+      throw new IOException("Fail to deserialize", e);
+    } finally {
+      context.input.setInputStream(null);
+      context.kryo.setClassLoader(defaultClassLoader);
+      release(context);
+    }
+  }
+
+  private Context borrow() {
+    Context context = pool.poll();
+    return context != null ? context : new Context(createKryo());
+  }
+
+  private void release(Context context) {
+    if (pool.size() < MAX_POOLED) {
+      pool.offer(context);
+    }
+  }
+
+  private Kryo createKryo() {
+    Kryo kryo = new Kryo() {
+      @Override
+      public Serializer getDefaultSerializer(Class type) {
+        Serializer serializer = super.getDefaultSerializer(type);
+        return needsJavaSerializer(type, serializer) ? new JavaSerializer() : serializer;
+      }
+    };
+    kryo.setRegistrationRequired(false);
+    kryo.setInstantiatorStrategy(
+        new Kryo.DefaultInstantiatorStrategy(new StdInstantiatorStrategy()));
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    if (classLoader != null) {
+      kryo.setClassLoader(classLoader);
+    }
+
+    int id = COMMON_CLASSES_FIRST_ID;
+    for (Class<?> clazz : COMMON_CLASSES) {
+      kryo.register(clazz, id++);
+    }
+    kryo.register(Timestamp.class, new TimestampSerializer(), id);
+    // ids are kept when a class is missing, so the other ones match in every process
+    id = CLASSES_FIRST_ID;
+    for (String className : classNames) {
+      try {
+        kryo.register(Class.forName(className, false, kryo.getClassLoader()), id);
+      } catch (ClassNotFoundException e) {
+        LOGGER.debug("Class {} to register is not found", className);
+      }
+      id++;
+    }
+    return kryo;
+  }
+
+  static boolean needsJavaSerializer(Class<?> type, Serializer serializer) {
+    if (!Serializable.class.isAssignableFrom(type)) {
+      return false;
+    }
+    if (serializer instanceof CollectionSerializer || serializer instanceof MapSerializer) {
+      // e.g. Arrays.asList() or Collections.unmodifiableMap() can't be rebuilt element by element
+      return !hasNoArgConstructor(type);
+    }
+    if (serializer instanceof DefaultSerializers.DateSerializer) {
+      // it only keeps the time of the subclasses of Date
+      return type != Date.class && type != java.sql.Date.class && type != java.sql.Time.class;
+    }
+    if (serializer instanceof FieldSerializer) {
+      return Externalizable.class.isAssignableFrom(type)
+          || declaresMethod(type, "readObject", ObjectInputStream.class)
+          || declaresMethod(type, "readResolve")
+          || declaresMethod(type, "writeReplace");
+    }
+    return false;
+  }
+
+  // the Date serializer of Kryo loses the nanoseconds
+  private static class TimestampSerializer extends Serializer<Timestamp> {
+    @Override
+    public void write(Kryo kryo, Output output, Timestamp timestamp) {
+      output.writeLong(timestamp.getTime());
+      output.writeInt(timestamp.getNanos());
+    }
+
+    @Override
+    public Timestamp read(Kryo kryo, Input input, Class<Timestamp> type) {
+      Timestamp timestamp = new Timestamp(input.readLong());
+      timestamp.setNanos(input.readInt());
+      return timestamp;
+    }
+  }
+
+  private static boolean hasNoArgConstructor(Class<?> type) {
+    try {
+      type.getDeclaredConstructor();
+      return true;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  private static boolean declaresMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+    for (Class<?> clazz = type; clazz != null && clazz != Object.class;
+         clazz = clazz.getSuperclass()) {
+      try {
+        clazz.getDeclaredMethod(name, parameterTypes);
+        return true;
+      } catch (NoSuchMethodException e) {
+        // look in the super class
+      }
+    }
+    return false;
+  }
+}
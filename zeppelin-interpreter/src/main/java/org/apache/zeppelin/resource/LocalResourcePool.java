@@ -25,6 +25,7 @@ import java.util.Map;
  */
 public class LocalResourcePool implements ResourcePool {
   private final String resourcePoolId;
+  private final ResourceMemoryManager memoryManager;
   private final Map<ResourceId, Resource> resources = Collections.synchronizedMap(
       new HashMap<ResourceId, Resource>());
 
@@ -32,7 +33,21 @@ public class LocalResourcePool implements ResourcePool {
    * @param id unique id
    */
   public LocalResourcePool(String id) {
+    this(id, null);
+  }
+
+  /**
+   * @param id unique id
+   * @param memoryManager spills the objects of the pool over its budget, null to keep all of
+   *                      them on the heap
+   */
+  public LocalResourcePool(String id, ResourceMemoryManager memoryManager) {
     resourcePoolId = id;
+    this.memoryManager = memoryManager;
+  }
+
+  public ResourceMemoryManager getMemoryManager() {
+    return memoryManager;
   }
 
   /**
@@ -77,25 +92,39 @@ public class LocalResourcePool implements ResourcePool {
   public void put(String name, Object object) {
     ResourceId resourceId = new ResourceId(resourcePoolId, name);
 
-    Resource resource = new Resource(this, resourceId, object);
-    resources.put(resourceId, resource);
+    put(resourceId, object);
   }
 
   @Override
   public void put(String noteId, String paragraphId, String name, Object object) {
     ResourceId resourceId = new ResourceId(resourcePoolId, noteId, paragraphId, name);
 
+    put(resourceId, object);
+  }
+
+  private void put(ResourceId resourceId, Object object) {
     Resource resource = new Resource(this, resourceId, object);
-    resources.put(resourceId, resource);
+    release(resources.put(resourceId, resource));
+    if (memoryManager != null) {
+      memoryManager.add(resource);
+    }
   }
 
   @Override
   public Resource remove(String name) {
-    return resources.remove(new ResourceId(resourcePoolId, name));
+    return release(resources.remove(new ResourceId(resourcePoolId, name)));
   }
 
   @Override
   public Resource remove(String noteId, String paragraphId, String name) {
-    return resources.remove(new ResourceId(resourcePoolId, noteId, paragraphId, name));
+    return release(resources.remove(new ResourceId(resourcePoolId, noteId, paragraphId, name)));
+  }
+
+  // the object of a removed resource which was spilled is not loaded back
+  private Resource release(Resource resource) {
+    if (resource != null && memoryManager != null) {
+      memoryManager.remove(resource);
+    }
+    return resource;
   }
 }
@@ -25,14 +25,11 @@ import org.apache.zeppelin.common.JsonSerializable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Information and reference to the resource
@@ -40,13 +37,16 @@ import java.nio.ByteBuffer;
 public class Resource implements JsonSerializable, Serializable {
   private static final Logger LOGGER = LoggerFactory.getLogger(Resource.class);
   private static final Gson gson = new Gson();
+  // versions are unique across the restarts of the interpreter process
+  private static final AtomicLong VERSIONS = new AtomicLong(System.currentTimeMillis() * 1000);
 
-  private final transient Object r;
+  // null while the object is spilled by the memory manager of the pool
+  private transient volatile Object r;
   private final transient LocalResourcePool pool;
   private final boolean serializable;
   private final ResourceId resourceId;
   private final String className;
-
+  private final long version;
 
   /**
    * Create local resource
@@ -60,6 +60,7 @@ public class Resource implements JsonSerializable, Serializable {
     this.resourceId = resourceId;
     this.serializable = r instanceof Serializable;
     this.className = r.getClass().getName();
+    this.version = VERSIONS.incrementAndGet();
   }
 
   /**
@@ -73,6 +74,7 @@ public class Resource implements JsonSerializable, Serializable {
     this.resourceId = resourceId;
     this.serializable = serializable;
     this.className = className;
+    this.version = 0;
   }
 
   public ResourceId getResourceId() {
@@ -83,19 +85,40 @@ public class Resource implements JsonSerializable, Serializable {
     return className;
   }
 
+  /**
+   * Version of the resource, which changes every time an object is put in the pool with the
+   * same resource id. 0 when unknown.
+   */
+  public long getVersion() {
+    return version;
+  }
+
   /**
    * @return null when this is remote resource and not serializable.
    */
   public Object get() {
     if (isLocal() || isSerializable()) {
-      return r;
+      return object();
     } else {
       return null;
     }
   }
 
   public <T> T get(Class<T> clazz) {
-    return Primitives.wrap(clazz).cast(r);
+    return Primitives.wrap(clazz).cast(object());
+  }
+
+  private Object object() {
+    ResourceMemoryManager memoryManager = pool == null ? null : pool.getMemoryManager();
+    return memoryManager == null ? r : memoryManager.get(this);
+  }
+
+  Object getLocalObject() {
+    return r;
+  }
+
+  void setLocalObject(Object r) {
+    this.r = r;
   }
 
   public boolean isSerializable() {
@@ -283,7 +306,11 @@ public class Resource implements JsonSerializable, Serializable {
     } else {
       // inference method param types
       boolean found = false;
-      Method[] methods = r.getClass().getDeclaredMethods();
+      Object object = object();
+      if (object == null) {
+        throw new ClassNotFoundException("No object found for resource " + resourceId);
+      }
+      Method[] methods = object.getClass().getDeclaredMethods();
 
       for (Method m : methods) {
         // try to find method by name
@@ -333,13 +360,14 @@ public class Resource implements JsonSerializable, Serializable {
    */
   public Object invokeMethod(
       String methodName, Class[] paramTypes, Object[] params) {
-    if (r != null) {
+    Object object = object();
+    if (object != null) {
       try {
-        Method method = r.getClass().getMethod(
+        Method method = object.getClass().getMethod(
             methodName,
             paramTypes);
         method.setAccessible(true);
-        Object ret = method.invoke(r, params);
+        Object ret = method.invoke(object, params);
         return ret;
       } catch (Exception e) {
         logException(e);
@@ -361,12 +389,13 @@ public class Resource implements JsonSerializable, Serializable {
    */
   public Resource invokeMethod(
       String methodName, Class[] paramTypes, Object[] params, String returnResourceName) {
-    if (r != null) {
+    Object object = object();
+    if (object != null) {
       try {
-        Method method = r.getClass().getMethod(
+        Method method = object.getClass().getMethod(
             methodName,
             paramTypes);
-        Object ret = method.invoke(r, params);
+        Object ret = method.invoke(object, params);
         pool.put(
             resourceId.getNoteId(),
             resourceId.getParagraphId(),
@@ -386,39 +415,19 @@ public class Resource implements JsonSerializable, Serializable {
     }
   }
 
+  /**
+   * Serialize the object with the serializer configured in {@link ResourceSerializers}.
+   */
   public static ByteBuffer serializeObject(Object o) throws IOException {
     if (o == null || !(o instanceof Serializable)) {
       return null;
     }
-
-    ByteArrayOutputStream out = new ByteArrayOutputStream();
-    try {
-      ObjectOutputStream oos;
-      oos = new ObjectOutputStream(out);
-      oos.writeObject(o);
-      oos.close();
-      out.close();
-    } catch (Exception e) {
-      e.printStackTrace();
-    }
-    return ByteBuffer.wrap(out.toByteArray());
+    return ResourceSerializers.serialize(o);
   }
 
   public static Object deserializeObject(ByteBuffer buf)
       throws IOException, ClassNotFoundException {
-    if (buf == null) {
-      return null;
-    }
-    InputStream ins = ByteBufferInputStream.get(buf);
-    ObjectInputStream oin;
-    Object object = null;
-
-    oin = new ObjectInputStream(ins);
-    object = oin.readObject();
-    oin.close();
-    ins.close();
-
-    return object;
+    return ResourceSerializers.deserialize(buf);
   }
 
   private void logException(Exception e) {
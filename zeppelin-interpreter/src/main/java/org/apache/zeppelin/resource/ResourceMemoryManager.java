@@ -0,0 +1,349 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.resource;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the objects of a {@link LocalResourcePool} within a heap budget.
+ *
+ * The serialized size of the serializable objects put into the pool is tracked. When it exceeds
+ * the budget, the least recently used objects larger than the spill threshold are serialized
+ * into off-heap buffers, or into spill files once the off-heap budget is used, and released from
+ * the heap. Their {@link Resource} stays in the pool and the object is deserialized back on the
+ * next access.
+ */
+public class ResourceMemoryManager implements Closeable {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ResourceMemoryManager.class);
+
+  public static final String MEMORY_LIMIT = "zeppelin.interpreter.resourcePool.memory.limit";
+  public static final String OFF_HEAP_LIMIT = "zeppelin.interpreter.resourcePool.offHeap.limit";
+  public static final String SPILL_THRESHOLD =
+      "zeppelin.interpreter.resourcePool.spill.threshold";
+  public static final String SPILL_DIR = "zeppelin.interpreter.resourcePool.spill.dir";
+
+  private static final long DEFAULT_SPILL_THRESHOLD = 1024 * 1024;
+
+  private enum Location {
+    HEAP,
+    OFF_HEAP,
+    DISK
+  }
+
+  private static class Entry {
+    private long size;
+    private Location location = Location.HEAP;
+    // failed to serialize, stays on the heap
+    private boolean pinned;
+    private ClassLoader classLoader;
+    private ByteBuffer buffer;
+    private File file;
+  }
+
+  private final long memoryLimit;
+  private final long offHeapLimit;
+  private final long spillThreshold;
+  private final File spillRoot;
+  private File spillDir;
+
+  // least recently used first
+  private final Map<Resource, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long heapBytes;
+  private long offHeapBytes;
+  private long diskBytes;
+  private long spillCount;
+  private long loadCount;
+
+  /**
+   * @param memoryLimit    bytes of serializable objects kept on the heap
+   * @param offHeapLimit   bytes of spilled objects kept in direct buffers, the others are written
+   *                       to spill files
+   * @param spillThreshold objects smaller than this are never spilled
+   * @param spillRoot      directory in which the spill files are created
+   */
+  public ResourceMemoryManager(long memoryLimit, long offHeapLimit, long spillThreshold,
+                               File spillRoot) {
+    this.memoryLimit = memoryLimit;
+    this.offHeapLimit = offHeapLimit;
+    this.spillThreshold = spillThreshold;
+    this.spillRoot = spillRoot;
+  }
+
+  /**
+   * Create the memory manager configured by the interpreter properties.
+   *
+   * @return null when no memory limit is set
+   */
+  public static ResourceMemoryManager create(Map<String, String> properties) {
+    long memoryLimit = Long.parseLong(properties.getOrDefault(MEMORY_LIMIT, "0"));
+    if (memoryLimit <= 0) {
+      return null;
+    }
+    long offHeapLimit = Long.parseLong(properties.getOrDefault(OFF_HEAP_LIMIT, "0"));
+    long spillThreshold = Long.parseLong(
+        properties.getOrDefault(SPILL_THRESHOLD, String.valueOf(DEFAULT_SPILL_THRESHOLD)));
+    String spillDir = properties.get(SPILL_DIR);
+    if (spillDir == null || spillDir.trim().isEmpty()) {
+      spillDir = System.getProperty("java.io.tmpdir");
+    }
+    LOGGER.info("Resource pool memory limit: {} bytes, off-heap limit: {} bytes, " +
+        "spill threshold: {} bytes, spill dir: {}",
+        memoryLimit, offHeapLimit, spillThreshold, spillDir);
+    return new ResourceMemoryManager(memoryLimit, offHeapLimit, spillThreshold,
+        new File(spillDir.trim()));
+  }
+
+  synchronized void add(Resource resource) {
+    Object object = resource.getLocalObject();
+    if (!(object instanceof Serializable)) {
+      return;
+    }
+    long size;
+    try {
+      CountingOutputStream out = new CountingOutputStream();
+      writeObject(object, out);
+      size = out.count;
+    } catch (IOException e) {
+      // some field is not serializable, the object can't be spilled
+      LOGGER.debug("Can't serialize resource {}", resource.getResourceId(), e);
+      return;
+    }
+    Entry entry = new Entry();
+    entry.size = size;
+    entries.put(resource, entry);
+    heapBytes += size;
+    evict(null);
+  }
+
+  synchronized void remove(Resource resource) {
+    Entry entry = entries.remove(resource);
+    if (entry != null) {
+      release(entry);
+    }
+  }
+
+  /**
+   * Get the object of the resource, deserializing it back onto the heap if it was spilled.
+   */
+  synchronized Object get(Resource resource) {
+    Entry entry = entries.get(resource);
+    if (entry == null || entry.location == Location.HEAP) {
+      return resource.getLocalObject();
+    }
+    Object object;
+    try {
+      object = readObject(entry);
+    } catch (IOException | ClassNotFoundException e) {
+      LOGGER.error("Fail to load spilled resource {}", resource.getResourceId(), e);
+      return null;
+    }
+    release(entry);
+    entry.location = Location.HEAP;
+    heapBytes += entry.size;
+    resource.setLocalObject(object);
+    loadCount++;
+    // make room for it without spilling it again
+    evict(resource);
+    return object;
+  }
+
+  private void evict(Resource keep) {
+    Iterator<Map.Entry<Resource, Entry>> iterator = entries.entrySet().iterator();
+    while (heapBytes > memoryLimit && iterator.hasNext()) {
+      Map.Entry<Resource, Entry> candidate = iterator.next();
+      Entry entry = candidate.getValue();
+      if (candidate.getKey() != keep && entry.location == Location.HEAP && !entry.pinned
+          && entry.size >= spillThreshold) {
+        spill(candidate.getKey(), entry);
+      }
+    }
+  }
+
+  private void spill(Resource resource, Entry entry) {
+    Object object = resource.getLocalObject();
+    long size;
+    try {
+      if (offHeapBytes + entry.size <= offHeapLimit && entry.size <= Integer.MAX_VALUE) {
+        SpillOutputStream out = new SpillOutputStream((int) entry.size);
+        writeObject(object, out);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(out.size());
+        buffer.put(out.toByteBuffer());
+        buffer.flip();
+        entry.buffer = buffer;
+        entry.location = Location.OFF_HEAP;
+        size = buffer.capacity();
+        offHeapBytes += size;
+      } else {
+        File file = File.createTempFile("resource-", ".bin", getSpillDir());
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+          writeObject(object, out);
+        } catch (IOException e) {
+          FileUtils.deleteQuietly(file);
+          throw e;
+        }
+        entry.file = file;
+        entry.location = Location.DISK;
+        size = file.length();
+        diskBytes += size;
+      }
+    } catch (IOException e) {
+      LOGGER.warn("Fail to spill resource {}, keep it on the heap", resource.getResourceId(), e);
+      entry.pinned = true;
+      return;
+    }
+    // the object may have changed since it was put
+    heapBytes -= entry.size;
+    entry.size = size;
+    entry.classLoader = object.getClass().getClassLoader();
+    resource.setLocalObject(null);
+    spillCount++;
+    LOGGER.debug("Spill resource {} of {} bytes to {}", resource.getResourceId(), size,
+        entry.location);
+  }
+
+  private void release(Entry entry) {
+    switch (entry.location) {
+      case HEAP:
+        heapBytes -= entry.size;
+        break;
+      case OFF_HEAP:
+        offHeapBytes -= entry.size;
+        entry.buffer = null;
+        break;
+      case DISK:
+        diskBytes -= entry.size;
+        FileUtils.deleteQuietly(entry.file);
+        entry.file = null;
+        break;
+      default:
+        break;
+    }
+  }
+
+  private File getSpillDir() throws IOException {
+    if (spillDir == null) {
+      FileUtils.forceMkdir(spillRoot);
+      spillDir = Files.createTempDirectory(spillRoot.toPath(), "zeppelin-resource-pool-")
+          .toFile();
+    }
+    return spillDir;
+  }
+
+  private static void writeObject(Object object, OutputStream out) throws IOException {
+    ResourceSerializers.serialize(object, out);
+  }
+
+  private static Object readObject(Entry entry) throws IOException, ClassNotFoundException {
+    ByteBuffer buffer;
+    if (entry.location == Location.OFF_HEAP) {
+      buffer = entry.buffer.duplicate();
+    } else {
+      try (FileChannel channel = FileChannel.open(entry.file.toPath(), StandardOpenOption.READ)) {
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      }
+    }
+    try (InputStream in = new ByteBufferInputStream(buffer)) {
+      return ResourceSerializers.deserialize(in, entry.classLoader);
+    }
+  }
+
+  public synchronized long getResidentBytes() {
+    return heapBytes;
+  }
+
+  public synchronized long getOffHeapBytes() {
+    return offHeapBytes;
+  }
+
+  public synchronized long getDiskBytes() {
+    return diskBytes;
+  }
+
+  public synchronized long getSpilledBytes() {
+    return offHeapBytes + diskBytes;
+  }
+
+  public synchronized long getSpillCount() {
+    return spillCount;
+  }
+
+  public synchronized long getLoadCount() {
+    return loadCount;
+  }
+
+  @Override
+  public synchronized void close() {
+    for (Entry entry : entries.values()) {
+      release(entry);
+    }
+    entries.clear();
+    if (spillDir != null) {
+      FileUtils.deleteQuietly(spillDir);
+      spillDir = null;
+    }
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "ResourceMemoryManager{resident=" + heapBytes + ", offHeap=" + offHeapBytes +
+        ", disk=" + diskBytes + ", spills=" + spillCount + ", loads=" + loadCount + "}";
+  }
+
+  private static class CountingOutputStream extends OutputStream {
+    private long count;
+
+    @Override
+    public void write(int b) {
+      count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      count += len;
+    }
+  }
+
+  private static class SpillOutputStream extends ByteArrayOutputStream {
+    SpillOutputStream(int size) {
+      super(size);
+    }
+
+    ByteBuffer toByteBuffer() {
+      return ByteBuffer.wrap(buf, 0, count);
+    }
+  }
+}
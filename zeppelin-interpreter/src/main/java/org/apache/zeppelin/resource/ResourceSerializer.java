@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Serializes the objects of the resource pool which are sent to other processes or spilled.
+ *
+ * Implementations are registered in {@link ResourceSerializers}, the ones on the classpath are
+ * discovered with {@link java.util.ServiceLoader}. The content type of the serializer is written
+ * before every payload, so the payload can be read whatever the serializer configured in the
+ * reading process.
+ */
+public interface ResourceSerializer {
+
+  /**
+   * Name used to select the serializer in the configuration, e.g. kryo.
+   */
+  String name();
+
+  /**
+   * Tag written before the payloads, unique among the serializers. 0 to 15 are reserved for the
+   * ones of Zeppelin.
+   */
+  byte contentType();
+
+  void serialize(Object object, OutputStream out) throws IOException;
+
+  /**
+   * @param classLoader class loader of the classes of the object, null for the default one
+   */
+  Object deserialize(InputStream in, ClassLoader classLoader)
+      throws IOException, ClassNotFoundException;
+}
@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.resource;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Serializers of the resource pool, and format of their payloads.
+ *
+ * A payload starts with the {@link #MAGIC} bytes and the content type of its serializer. Java
+ * serialization payloads are written without header, they start with the java stream magic
+ * instead, so that they are readable by the processes of the versions before the serializers
+ * were pluggable. Set the serializer to java in a cluster mixing such versions.
+ */
+public class ResourceSerializers {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ResourceSerializers.class);
+
+  public static final String SERIALIZER = "zeppelin.interpreter.resourcePool.serializer";
+  public static final String KRYO_CLASSES = "zeppelin.interpreter.resourcePool.kryo.classes";
+
+  static final byte[] MAGIC = new byte[]{(byte) 0x5a, (byte) 0x52};
+  private static final byte[] JAVA_MAGIC = new byte[]{(byte) 0xac, (byte) 0xed};
+  // scratch buffers larger than this are not kept
+  private static final int MAX_SCRATCH_SIZE = 1024 * 1024;
+
+  private static final Map<Byte, ResourceSerializer> SERIALIZERS = new ConcurrentHashMap<>();
+  private static volatile ResourceSerializer serializer;
+  private static final ThreadLocal<ScratchOutputStream> SCRATCH =
+      ThreadLocal.withInitial(ScratchOutputStream::new);
+
+  static {
+    register(new JavaResourceSerializer());
+    register(new KryoResourceSerializer());
+    try {
+      for (ResourceSerializer plugin : ServiceLoader.load(ResourceSerializer.class)) {
+        register(plugin);
+      }
+    } catch (ServiceConfigurationError e) {
+      LOGGER.warn("Fail to load resource serializers", e);
+    }
+    serializer = SERIALIZERS.get(KryoResourceSerializer.CONTENT_TYPE);
+  }
+
+  private ResourceSerializers() {
+  }
+
+  public static void register(ResourceSerializer resourceSerializer) {
+    SERIALIZERS.put(resourceSerializer.contentType(), resourceSerializer);
+  }
+
+  /**
+   * Configure the serializer of this process.
+   *
+   * @param name       name of the serializer, kryo by default
+   * @param kryoClasses comma separated classes registered in kryo
+   */
+  public static void configure(String name, String kryoClasses) {
+    if (StringUtils.isNotBlank(kryoClasses)) {
+      register(new KryoResourceSerializer(Arrays.stream(kryoClasses.split(","))
+          .map(String::trim)
+          .filter(StringUtils::isNotEmpty)
+          .collect(Collectors.toList())));
+    }
+    String serializerName = StringUtils.isBlank(name) ? KryoResourceSerializer.NAME : name.trim();
+    ResourceSerializer configured = SERIALIZERS.values().stream()
+        .filter(s -> s.name().equals(serializerName))
+        .findFirst()
+        .orElse(null);
+    if (configured == null) {
+      LOGGER.warn("Unknown resource serializer {}, use {}", serializerName,
+          KryoResourceSerializer.NAME);
+      configured = SERIALIZERS.get(KryoResourceSerializer.CONTENT_TYPE);
+    }
+    LOGGER.info("Use resource serializer {}", configured.name());
+    serializer = configured;
+  }
+
+  public static void configure(Map<String, String> properties) {
+    configure(properties.get(SERIALIZER), properties.get(KRYO_CLASSES));
+  }
+
+  public static ResourceSerializer get() {
+    return serializer;
+  }
+
+  public static ByteBuffer serialize(Object object) throws IOException {
+    ScratchOutputStream out = SCRATCH.get();
+    out.reset();
+    try {
+      serialize(object, out);
+    } catch (IOException e) {
+      if (serializer.contentType() == JavaResourceSerializer.CONTENT_TYPE) {
+        throw e;
+      }
+      LOGGER.debug("Fail to serialize with {}, use java serialization", serializer.name(), e);
+      out.reset();
+      serialize(object, out, SERIALIZERS.get(JavaResourceSerializer.CONTENT_TYPE));
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+    if (out.capacity() > MAX_SCRATCH_SIZE) {
+      SCRATCH.remove();
+    }
+    return buffer;
+  }
+
+  public static void serialize(Object object, OutputStream out) throws IOException {
+    serialize(object, out, serializer);
+  }
+
+  private static void serialize(Object object, OutputStream out,
+                                ResourceSerializer resourceSerializer) throws IOException {
+    if (resourceSerializer.contentType() != JavaResourceSerializer.CONTENT_TYPE) {
+      out.write(MAGIC);
+      out.write(resourceSerializer.contentType());
+    }
+    resourceSerializer.serialize(object, out);
+  }
+
+  /**
+   * @return null for an empty buffer
+   */
+  public static Object deserialize(ByteBuffer buffer) throws IOException, ClassNotFoundException {
+    if (buffer == null || !buffer.hasRemaining()) {
+      return null;
+    }
+    InputStream in = buffer.hasArray()
+        ? new ByteArrayInputStream(buffer.array(), buffer.arrayOffset() + buffer.position(),
+            buffer.remaining())
+        : new ByteBufferInputStream(buffer.duplicate());
+    return deserialize(in, null);
+  }
+
+  public static Object deserialize(InputStream in, ClassLoader classLoader)
+      throws IOException, ClassNotFoundException {
+    byte[] header = new byte[MAGIC.length];
+    int read = 0;
+    while (read < header.length) {
+      int n = in.read(header, read, header.length - read);
+      if (n < 0) {
+        throw new IOException("Truncated resource payload");
+      }
+      read += n;
+    }
+    if (Arrays.equals(header, JAVA_MAGIC)) {
+      return SERIALIZERS.get(JavaResourceSerializer.CONTENT_TYPE)
+          .deserialize(new SequenceInputStream(new ByteArrayInputStream(header), in), classLoader);
+    }
+    if (!Arrays.equals(header, MAGIC)) {
+      throw new IOException("Unknown resource payload format");
+    }
+    int contentType = in.read();
+    ResourceSerializer resourceSerializer = SERIALIZERS.get((byte) contentType);
+    if (contentType < 0 || resourceSerializer == null) {
+      throw new IOException("Unknown resource content type " + contentType);
+    }
+    return resourceSerializer.deserialize(in, classLoader);
+  }
+
+  // reused by the thread to serialize the payloads
+  private static class ScratchOutputStream extends ByteArrayOutputStream {
+    ScratchOutputStream() {
+      super(4096);
+    }
+
+    int capacity() {
+      return buf.length;
+    }
+  }
+}
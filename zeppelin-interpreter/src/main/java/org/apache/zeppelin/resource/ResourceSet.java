@@ -98,6 +98,20 @@ public class ResourceSet extends LinkedList<Resource> implements JsonSerializabl
     return result;
   }
 
+  /**
+   * @return the resources of the note, and the resources with one of the given names
+   */
+  public ResourceSet filterByNoteIdOrNames(String noteId, Collection<String> names) {
+    ResourceSet result = new ResourceSet();
+    for (Resource r : this) {
+      if (equals(r.getResourceId().getNoteId(), noteId)
+          || names.contains(r.getResourceId().getName())) {
+        result.add(r);
+      }
+    }
+    return result;
+  }
+
   private boolean equals(String a, String b) {
     if (a == null && b == null) {
       return true;
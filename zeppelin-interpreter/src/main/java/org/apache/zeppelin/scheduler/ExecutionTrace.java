@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time in msec spent in each stage of a job run, e.g. a paragraph run from its submission to the
+ * broadcast of its result. A stage is timed by a {@link Span}, the spans of the same stage are
+ * summed up.
+ *
+ * The trace of the job run by the current thread is returned by {@link #current()}, so the code
+ * called by the job can time its own stages. The trace id is sent to the interpreter process in
+ * the trace context of RemoteInterpreterContext, and the stages run there are sent back in
+ * RemoteInterpreterResult.
+ */
+public class ExecutionTrace {
+
+  public static final String TRACE_ID = "traceId";
+
+  private static final ThreadLocal<ExecutionTrace> CURRENT = new ThreadLocal<>();
+  // running traces, for the components which only know what is traced, e.g. a paragraph id
+  private static final Map<String, ExecutionTrace> RUNNING = new ConcurrentHashMap<>();
+
+  private final String traceId;
+  private final long startTime;
+  private final Map<String, Long> spans = new LinkedHashMap<>();
+
+  public ExecutionTrace() {
+    this(UUID.randomUUID().toString());
+  }
+
+  public ExecutionTrace(String traceId) {
+    this.traceId = traceId;
+    this.startTime = System.currentTimeMillis();
+  }
+
+  /**
+   * @return null if the context has no trace id
+   */
+  public static ExecutionTrace fromContext(Map<String, String> traceContext) {
+    if (traceContext == null || traceContext.get(TRACE_ID) == null) {
+      return null;
+    }
+    return new ExecutionTrace(traceContext.get(TRACE_ID));
+  }
+
+  public Map<String, String> toContext() {
+    Map<String, String> traceContext = new HashMap<>();
+    traceContext.put(TRACE_ID, traceId);
+    return traceContext;
+  }
+
+  public String getTraceId() {
+    return traceId;
+  }
+
+  public long getStartTime() {
+    return startTime;
+  }
+
+  /**
+   * Time in msec since the trace is created.
+   */
+  public long getElapsed() {
+    return System.currentTimeMillis() - startTime;
+  }
+
+  public Span start(String stage) {
+    return new Span(this, stage);
+  }
+
+  public synchronized void add(String stage, long millis) {
+    spans.merge(stage, millis, Long::sum);
+  }
+
+  /**
+   * Keep the longest time of the stage, e.g. the longest wait of an output.
+   */
+  public synchronized void max(String stage, long millis) {
+    spans.merge(stage, millis, Math::max);
+  }
+
+  public synchronized void addAll(Map<String, Long> stages) {
+    if (stages != null) {
+      stages.forEach(this::add);
+    }
+  }
+
+  public synchronized Long getSpan(String stage) {
+    return spans.get(stage);
+  }
+
+  /**
+   * Stages in the order they are first traced.
+   */
+  public synchronized Map<String, Long> getSpans() {
+    return new LinkedHashMap<>(spans);
+  }
+
+  public static ExecutionTrace current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * @param trace null to remove the trace of the current thread
+   */
+  public static void setCurrent(ExecutionTrace trace) {
+    if (trace == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(trace);
+    }
+  }
+
+  /**
+   * Start a span of the trace of the current thread, it does nothing if there is none.
+   */
+  public static Span startSpan(String stage) {
+    return new Span(current(), stage);
+  }
+
+  public static void register(String key, ExecutionTrace trace) {
+    RUNNING.put(key, trace);
+  }
+
+  public static ExecutionTrace get(String key) {
+    return RUNNING.get(key);
+  }
+
+  public static void unregister(String key, ExecutionTrace trace) {
+    RUNNING.remove(key, trace);
+  }
+
+  @Override
+  public String toString() {
+    return "ExecutionTrace{traceId=" + traceId + ", spans=" + getSpans() + "}";
+  }
+
+  /**
+   * Time of one stage, added to the trace when closed.
+   */
+  public static class Span implements AutoCloseable {
+    private final ExecutionTrace trace;
+    private final String stage;
+    private final long startNanos = System.nanoTime();
+
+    private Span(ExecutionTrace trace, String stage) {
+      this.trace = trace;
+      this.stage = stage;
+    }
+
+    @Override
+    public void close() {
+      if (trace != null) {
+        trace.add(stage, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+      }
+    }
+  }
+}
@@ -0,0 +1,306 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pending jobs of a scheduler, taken in the order described in {@link FairScheduler} rather
+ * than in submission order. Used by {@link FairScheduler}, and by the RemoteScheduler of
+ * Zeppelin Server, which picks the next paragraph sent to a shared interpreter process.
+ */
+public class FairJobQueue {
+
+  /**
+   * What the jobs are queued by.
+   */
+  public enum ShareBy {
+    USER,
+    NOTE;
+
+    public static ShareBy fromString(String shareBy) {
+      return valueOf(shareBy.trim().toUpperCase());
+    }
+  }
+
+  // queue of the jobs without user or note
+  private static final String DEFAULT_SHARE = "";
+
+  private final String name;
+  private final ShareBy shareBy;
+  private final Map<String, Double> weights;
+  private final int maxPending;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition jobAdded = lock.newCondition();
+  // guarded by lock
+  private final Map<JobPriority, Map<String, Share>> shares = new EnumMap<>(JobPriority.class);
+  private final Map<JobPriority, Double> virtualTimes = new EnumMap<>(JobPriority.class);
+  private final Map<JobPriority, long[]> queueWaits = new EnumMap<>(JobPriority.class);
+  private long sequence;
+  private boolean closed;
+
+  private final AtomicLong rejectedJobs = new AtomicLong();
+
+  /**
+   * @param name name of the scheduler, for the error messages
+   * @param properties interpreter properties, see {@link FairScheduler}
+   */
+  public FairJobQueue(String name, Properties properties) {
+    this.name = name;
+    this.shareBy = ShareBy.fromString(
+        properties.getProperty(FairScheduler.SHARE_BY_PROPERTY, "user"));
+    this.weights = parseWeights(properties.getProperty(FairScheduler.WEIGHTS_PROPERTY, ""));
+    this.maxPending = Integer.parseInt(properties.getProperty(
+        FairScheduler.MAX_PENDING_PROPERTY, String.valueOf(FairScheduler.DEFAULT_MAX_PENDING)));
+  }
+
+  /**
+   * Parse weights like "user1:2,user2:0.5". The users or notes not listed have weight 1.
+   */
+  static Map<String, Double> parseWeights(String weights) {
+    Map<String, Double> result = new HashMap<>();
+    for (String weight : StringUtils.split(weights, ',')) {
+      String[] keyValue = weight.trim().split(":");
+      double value = keyValue.length == 2 ? Double.parseDouble(keyValue[1].trim()) : -1;
+      if (value <= 0) {
+        throw new IllegalArgumentException("Invalid weight: " + weight
+            + ", it should be <name>:<positive number>");
+      }
+      result.put(keyValue[0].trim(), value);
+    }
+    return result;
+  }
+
+  /**
+   * Queue the job and set it PENDING.
+   *
+   * @throws RejectedExecutionException if the queue of its user or note is full, or if the
+   * queue is closed. The job is left unchanged.
+   */
+  public void add(Job job) {
+    JobPriority priority = job.getPriority();
+    String key = getShareKey(job);
+    lock.lock();
+    try {
+      if (closed) {
+        throw new RejectedExecutionException("Scheduler " + name + " is stopped");
+      }
+      Map<String, Share> priorityShares =
+          shares.computeIfAbsent(priority, p -> new HashMap<>());
+      Share share = priorityShares.get(key);
+      if (share != null && maxPending > 0 && share.jobs.size() >= maxPending) {
+        rejectedJobs.incrementAndGet();
+        throw new RejectedExecutionException(String.format(
+            "Too many pending jobs of %s '%s' in scheduler %s, at most %d are allowed",
+            shareBy.name().toLowerCase(), key, name, maxPending));
+      }
+      if (share == null) {
+        // a queue starts at the current virtual time, it can't use the time it was empty
+        share = new Share(weights.getOrDefault(key, 1.0),
+            virtualTimes.getOrDefault(priority, 0.0));
+        priorityShares.put(key, share);
+      }
+      job.setStatus(Job.Status.PENDING);
+      share.jobs.add(new PendingJob(job, System.currentTimeMillis(), sequence++));
+      jobAdded.signal();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private String getShareKey(Job job) {
+    String key = shareBy == ShareBy.USER ? job.getUser() : job.getNoteId();
+    return key != null ? key : DEFAULT_SHARE;
+  }
+
+  /**
+   * Remove the next job to run, waiting for one if the queue is empty.
+   */
+  public Job take() throws InterruptedException {
+    lock.lockInterruptibly();
+    try {
+      PendingJob next;
+      while ((next = pollNextJob()) == null) {
+        jobAdded.await();
+      }
+      return next.job;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // called with the lock
+  private PendingJob pollNextJob() {
+    for (JobPriority priority : JobPriority.values()) {
+      Map<String, Share> priorityShares = shares.get(priority);
+      if (priorityShares == null || priorityShares.isEmpty()) {
+        continue;
+      }
+      String nextKey = null;
+      Share next = null;
+      for (Map.Entry<String, Share> entry : priorityShares.entrySet()) {
+        Share share = entry.getValue();
+        if (next == null || share.virtualTime < next.virtualTime
+            || (share.virtualTime == next.virtualTime
+                && share.jobs.peek().sequence < next.jobs.peek().sequence)) {
+          nextKey = entry.getKey();
+          next = share;
+        }
+      }
+      PendingJob job = next.jobs.poll();
+      virtualTimes.put(priority, next.virtualTime);
+      next.virtualTime += 1 / next.weight;
+      if (next.jobs.isEmpty()) {
+        priorityShares.remove(nextKey);
+      }
+      long wait = System.currentTimeMillis() - job.submitTime;
+      long[] waits = queueWaits.computeIfAbsent(priority, p -> new long[3]);
+      waits[0]++;
+      waits[1] += wait;
+      waits[2] = Math.max(waits[2], wait);
+      return job;
+    }
+    return null;
+  }
+
+  /**
+   * Reject the jobs added from now on.
+   *
+   * @return the pending jobs, removed from the queue
+   */
+  public List<Job> close() {
+    lock.lock();
+    try {
+      closed = true;
+      List<Job> pending = new ArrayList<>();
+      for (Map<String, Share> priorityShares : shares.values()) {
+        for (Share share : priorityShares.values()) {
+          for (PendingJob job : share.jobs) {
+            pending.add(job.job);
+          }
+        }
+      }
+      shares.clear();
+      return pending;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Queue wait of the jobs which were taken since the previous call, by priority:
+   * number of jobs, total and max wait in msec.
+   */
+  public Map<JobPriority, long[]> drainQueueWaits() {
+    lock.lock();
+    try {
+      Map<JobPriority, long[]> result = new EnumMap<>(queueWaits);
+      queueWaits.clear();
+      return result;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Number of jobs rejected since the queue was created.
+   */
+  public long getRejectedJobs() {
+    return rejectedJobs.get();
+  }
+
+  /**
+   * Number of pending jobs with the given priority.
+   */
+  public int getPendingJobs(JobPriority priority) {
+    lock.lock();
+    try {
+      Map<String, Share> priorityShares = shares.get(priority);
+      return priorityShares == null ? 0 :
+          priorityShares.values().stream().mapToInt(share -> share.jobs.size()).sum();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Put the rejections and the queue waits since the previous call of the given queues into
+   * the metrics of an interpreter process. Nothing is put if there is no queue.
+   */
+  public static void putMetrics(Map<String, Double> metrics, Collection<FairJobQueue> queues) {
+    if (queues.isEmpty()) {
+      return;
+    }
+    long rejected = 0;
+    Map<JobPriority, long[]> waits = new EnumMap<>(JobPriority.class);
+    for (FairJobQueue queue : queues) {
+      rejected += queue.getRejectedJobs();
+      for (Map.Entry<JobPriority, long[]> wait : queue.drainQueueWaits().entrySet()) {
+        long[] total = waits.computeIfAbsent(wait.getKey(), p -> new long[3]);
+        total[0] += wait.getValue()[0];
+        total[1] += wait.getValue()[1];
+        total[2] = Math.max(total[2], wait.getValue()[2]);
+      }
+    }
+    metrics.put("scheduler.jobs.rejected", (double) rejected);
+    for (JobPriority priority : JobPriority.values()) {
+      long[] wait = waits.getOrDefault(priority, new long[3]);
+      String prefix = "scheduler.queue.wait." + priority.name().toLowerCase();
+      metrics.put(prefix + ".avg", wait[0] == 0 ? 0 : (double) wait[1] / wait[0]);
+      metrics.put(prefix + ".max", (double) wait[2]);
+    }
+  }
+
+  private static class Share {
+    private final double weight;
+    private final Deque<PendingJob> jobs = new ArrayDeque<>();
+    private double virtualTime;
+
+    Share(double weight, double virtualTime) {
+      this.weight = weight;
+      this.virtualTime = virtualTime;
+    }
+  }
+
+  private static class PendingJob {
+    private final Job job;
+    private final long submitTime;
+    private final long sequence;
+
+    PendingJob(Job job, long submitTime, long sequence) {
+      this.job = job;
+      this.submitTime = submitTime;
+      this.sequence = sequence;
+    }
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import org.apache.zeppelin.util.ExecutorUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FairScheduler runs at most maxConcurrency jobs at once, like {@link FIFOScheduler} and
+ * {@link ParallelScheduler}, but doesn't run the pending jobs in submission order:
+ *
+ * <ul>
+ *   <li>The jobs of a higher {@link JobPriority} always run first.</li>
+ *   <li>Within a priority, the jobs are queued per user or per note, and the queues are served
+ *   by weighted fair queuing: each job dispatched from a queue moves its virtual time by
+ *   1 / weight, and the queue with the lowest virtual time runs next. So a user running 50
+ *   paragraphs at once doesn't delay the next paragraph of another user by 50 runs.</li>
+ *   <li>Each queue holds at most maxPending jobs, the jobs over it are rejected with a
+ *   {@link RejectedExecutionException}.</li>
+ * </ul>
+ *
+ * The pending jobs are kept in a {@link FairJobQueue}. Setting
+ * zeppelin.interpreter.scheduler=fair on an interpreter setting makes Zeppelin Server queue its
+ * paragraphs this way before they are sent to the interpreter process, see
+ * {@link #isEnabled(Properties)}.
+ */
+public class FairScheduler extends AbstractScheduler {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(FairScheduler.class);
+
+  public static final String SCHEDULER_PROPERTY = "zeppelin.interpreter.scheduler";
+  public static final String SHARE_BY_PROPERTY = "zeppelin.interpreter.scheduler.fair.shareBy";
+  public static final String WEIGHTS_PROPERTY = "zeppelin.interpreter.scheduler.fair.weights";
+  public static final String MAX_PENDING_PROPERTY =
+      "zeppelin.interpreter.scheduler.fair.maxPending";
+  public static final int DEFAULT_MAX_PENDING = 100;
+
+  private final FairJobQueue pendingJobs;
+  private final ExecutorService executor;
+  private final Semaphore workers;
+  private volatile Thread schedulerThread;
+
+  FairScheduler(String name, int maxConcurrency, Properties properties) {
+    super(name);
+    this.pendingJobs = new FairJobQueue(name, properties);
+    this.workers = new Semaphore(maxConcurrency);
+    this.executor = Executors.newFixedThreadPool(maxConcurrency,
+        new SchedulerThreadFactory("FairScheduler-" + name + "-Worker-"));
+  }
+
+  /**
+   * @return true if the interpreter properties select this scheduler
+   */
+  public static boolean isEnabled(Properties properties) {
+    return properties != null
+        && "fair".equalsIgnoreCase(properties.getProperty(SCHEDULER_PROPERTY, "").trim());
+  }
+
+  @Override
+  public void submit(Job job) {
+    jobs.put(job.getId(), job);
+    try {
+      pendingJobs.add(job);
+    } catch (RejectedExecutionException e) {
+      jobs.remove(job.getId());
+      throw e;
+    }
+  }
+
+  @Override
+  public void run() {
+    schedulerThread = Thread.currentThread();
+    while (!terminate && !schedulerThread.isInterrupted()) {
+      try {
+        // pick the next job only when it can run, so that a job submitted meanwhile is
+        // still queued fairly
+        workers.acquire();
+        runJobInScheduler(pendingJobs.take());
+      } catch (InterruptedException e) {
+        LOGGER.warn("{} is interrupted", getClass().getSimpleName());
+        break;
+      }
+    }
+  }
+
+  @Override
+  public void runJobInScheduler(Job job) {
+    try {
+      executor.execute(() -> {
+        try {
+          runJob(job);
+        } finally {
+          workers.release();
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      // stopped meanwhile
+      workers.release();
+      job.setStatus(Job.Status.ABORT);
+      jobs.remove(job.getId());
+    }
+  }
+
+  public FairJobQueue getQueue() {
+    return pendingJobs;
+  }
+
+  /**
+   * Queue wait of the jobs which started since the previous call, by priority:
+   * number of jobs, total and max wait in msec.
+   */
+  public Map<JobPriority, long[]> drainQueueWaits() {
+    return pendingJobs.drainQueueWaits();
+  }
+
+  /**
+   * Number of jobs rejected since the scheduler started.
+   */
+  public long getRejectedJobs() {
+    return pendingJobs.getRejectedJobs();
+  }
+
+  /**
+   * Number of pending jobs with the given priority.
+   */
+  public int getPendingJobs(JobPriority priority) {
+    return pendingJobs.getPendingJobs(priority);
+  }
+
+  @Override
+  public void stop() {
+    stop(2, TimeUnit.MINUTES);
+  }
+
+  @Override
+  public void stop(int stopTimeoutVal, TimeUnit stopTimeoutUnit) {
+    terminate = true;
+    // the pending jobs won't run, abort them so that no one waits for them
+    for (Job job : pendingJobs.close()) {
+      job.aborted = true;
+      job.jobAbort();
+      job.setStatus(Job.Status.ABORT);
+      jobs.remove(job.getId());
+    }
+    if (schedulerThread != null) {
+      schedulerThread.interrupt();
+    }
+    ExecutorUtil.softShutdown(name, executor, stopTimeoutVal, stopTimeoutUnit);
+  }
+}
@@ -264,4 +264,25 @@ public abstract class Job<T> {
   public void setErrorMessage(String errorMessage) {
     this.errorMessage = errorMessage;
   }
+
+  /**
+   * User running this job, null if unknown. Used by {@link FairScheduler}.
+   */
+  public String getUser() {
+    return null;
+  }
+
+  /**
+   * Note of this job, null if unknown. Used by {@link FairScheduler}.
+   */
+  public String getNoteId() {
+    return null;
+  }
+
+  /**
+   * Used by {@link FairScheduler}.
+   */
+  public JobPriority getPriority() {
+    return JobPriority.INTERACTIVE;
+  }
 }
@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hashed wheel timer shared by all the jobs which poll the progress or the status of something
+ * periodically, instead of one sleeping thread per job.
+ *
+ * The polls which are due in the same tick and belong to the same {@link PollBatch} are run
+ * together, e.g. with one rpc call to an interpreter process. A poll is scheduled again once it
+ * is done, so the polls of a job never overlap.
+ */
+public class JobPollingTimer {
+  private static final Logger LOGGER = LoggerFactory.getLogger(JobPollingTimer.class);
+
+  public static final long DEFAULT_TICK_MSEC = 50;
+  private static final int DEFAULT_WHEEL_SIZE = 512;
+  private static final int MAX_POLL_THREADS = 8;
+
+  /**
+   * Something polled periodically.
+   */
+  public interface PollTask {
+
+    /**
+     * The batch this task is run with, null to run it alone.
+     */
+    default PollBatch getBatch() {
+      return null;
+    }
+
+    void poll();
+  }
+
+  /**
+   * Runs the tasks of the same batch which are due at the same time.
+   */
+  public interface PollBatch {
+    void pollAll(List<PollTask> tasks);
+  }
+
+  /**
+   * Handle of a scheduled task.
+   */
+  public final class Registration {
+    private final PollTask task;
+    private final long intervalTicks;
+    private long remainingRounds;
+    private int bucket = -1;
+    private volatile boolean cancelled;
+
+    private Registration(PollTask task, long intervalTicks) {
+      this.task = task;
+      this.intervalTicks = intervalTicks;
+    }
+
+    public PollTask getTask() {
+      return task;
+    }
+
+    public boolean isCancelled() {
+      return cancelled;
+    }
+
+    public void cancel() {
+      cancelled = true;
+      remove(this);
+    }
+  }
+
+  private static final class InstanceHolder {
+    private static final JobPollingTimer INSTANCE =
+        new JobPollingTimer(DEFAULT_TICK_MSEC, DEFAULT_WHEEL_SIZE);
+  }
+
+  public static JobPollingTimer getInstance() {
+    return InstanceHolder.INSTANCE;
+  }
+
+  private final long tickMs;
+  private final List<Set<Registration>> wheel;
+  private final ExecutorService pollExecutor;
+  private final Thread timerThread;
+  private long tick;
+  private volatile boolean shutdown;
+
+  public JobPollingTimer(long tickMs, int wheelSize) {
+    if (tickMs <= 0 || wheelSize <= 0) {
+      throw new IllegalArgumentException("Invalid tick " + tickMs + " or wheel size " + wheelSize);
+    }
+    this.tickMs = tickMs;
+    this.wheel = new ArrayList<>(wheelSize);
+    for (int i = 0; i < wheelSize; i++) {
+      wheel.add(new LinkedHashSet<>());
+    }
+    AtomicLong threadCount = new AtomicLong(1);
+    ThreadFactory threadFactory = r -> {
+      Thread thread = new Thread(r, "JobPollingTimer-poll-" + threadCount.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    };
+    // polls mostly wait for rpc calls, a few threads are enough since they are batched
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_POLL_THREADS, MAX_POLL_THREADS,
+        60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+    executor.allowCoreThreadTimeOut(true);
+    this.pollExecutor = executor;
+    this.timerThread = new Thread(this::run, "JobPollingTimer");
+    this.timerThread.setDaemon(true);
+    this.timerThread.start();
+  }
+
+  /**
+   * Polls the task every intervalMs until it is cancelled. The first poll happens within
+   * intervalMs.
+   */
+  public Registration schedule(PollTask task, long intervalMs) {
+    if (intervalMs <= 0) {
+      throw new IllegalArgumentException("polling interval can't be " + intervalMs);
+    }
+    Registration registration =
+        new Registration(task, Math.max(1, (intervalMs + tickMs - 1) / tickMs));
+    add(registration);
+    return registration;
+  }
+
+  public void shutdown() {
+    shutdown = true;
+    timerThread.interrupt();
+    pollExecutor.shutdownNow();
+  }
+
+  private synchronized void add(Registration registration) {
+    if (registration.cancelled || shutdown) {
+      return;
+    }
+    // deadlines are aligned on the interval, so that the polls with the same interval are due in
+    // the same tick and can be batched
+    long deadline = (tick / registration.intervalTicks + 1) * registration.intervalTicks;
+    registration.remainingRounds = (deadline - tick - 1) / wheel.size();
+    registration.bucket = (int) (deadline % wheel.size());
+    wheel.get(registration.bucket).add(registration);
+  }
+
+  private synchronized void remove(Registration registration) {
+    if (registration.bucket >= 0) {
+      wheel.get(registration.bucket).remove(registration);
+      registration.bucket = -1;
+    }
+  }
+
+  private synchronized List<Registration> advance() {
+    tick++;
+    List<Registration> due = new ArrayList<>();
+    Iterator<Registration> it = wheel.get((int) (tick % wheel.size())).iterator();
+    while (it.hasNext()) {
+      Registration registration = it.next();
+      if (registration.remainingRounds > 0) {
+        registration.remainingRounds--;
+      } else {
+        it.remove();
+        registration.bucket = -1;
+        due.add(registration);
+      }
+    }
+    return due;
+  }
+
+  private void run() {
+    long nextTick = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(tickMs);
+    while (!shutdown) {
+      long sleepNanos = nextTick - System.nanoTime();
+      if (sleepNanos > 0) {
+        try {
+          TimeUnit.NANOSECONDS.sleep(sleepNanos);
+        } catch (InterruptedException e) {
+          break;
+        }
+      }
+      nextTick += TimeUnit.MILLISECONDS.toNanos(tickMs);
+
+      List<Registration> due = advance();
+      if (due.isEmpty()) {
+        continue;
+      }
+      Map<PollBatch, List<Registration>> batches = new IdentityHashMap<>();
+      for (Registration registration : due) {
+        PollBatch batch = null;
+        try {
+          batch = registration.task.getBatch();
+        } catch (Exception e) {
+          LOGGER.warn("Fail to get the batch of " + registration.task, e);
+        }
+        if (batch == null) {
+          submit(null, Collections.singletonList(registration));
+        } else {
+          batches.computeIfAbsent(batch, b -> new ArrayList<>()).add(registration);
+        }
+      }
+      for (Map.Entry<PollBatch, List<Registration>> entry : batches.entrySet()) {
+        submit(entry.getKey(), entry.getValue());
+      }
+    }
+  }
+
+  private void submit(PollBatch batch, List<Registration> registrations) {
+    try {
+      pollExecutor.execute(() -> {
+        try {
+          List<PollTask> tasks = new ArrayList<>(registrations.size());
+          for (Registration registration : registrations) {
+            if (!registration.cancelled) {
+              tasks.add(registration.task);
+            }
+          }
+          if (tasks.isEmpty()) {
+            return;
+          }
+          if (batch == null) {
+            tasks.get(0).poll();
+          } else {
+            batch.pollAll(tasks);
+          }
+        } catch (Exception e) {
+          LOGGER.error("Fail to poll", e);
+        } finally {
+          for (Registration registration : registrations) {
+            add(registration);
+          }
+        }
+      });
+    } catch (Exception e) {
+      if (!shutdown) {
+        LOGGER.error("Fail to submit poll tasks", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+/**
+ * Priority class of a job in a {@link FairScheduler}. Interactive runs go before the runs of
+ * the cron scheduler, which go before the runs submitted through the REST api.
+ */
+public enum JobPriority {
+  INTERACTIVE,
+  CRON,
+  BATCH;
+
+  // paragraph local property which carries the priority to the interpreter process
+  public static final String LOCAL_PROPERTY = "jobPriority";
+
+  /**
+   * @return INTERACTIVE if the priority is null or unknown
+   */
+  public static JobPriority fromString(String priority) {
+    if (priority == null) {
+      return INTERACTIVE;
+    }
+    try {
+      return valueOf(priority.trim().toUpperCase());
+    } catch (IllegalArgumentException e) {
+      return INTERACTIVE;
+    }
+  }
+}
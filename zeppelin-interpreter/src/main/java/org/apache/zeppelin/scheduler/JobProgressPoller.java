@@ -21,22 +21,20 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Polls job progress with given interval
+ * Polls job progress with given interval, on the shared {@link JobPollingTimer}.
  *
  * @see Job#progress()
  * @see JobListener#onProgressUpdate(org.apache.zeppelin.scheduler.Job, int)
- *
- * TODO(moon) : add description.
  */
-public class JobProgressPoller extends Thread {
+public class JobProgressPoller implements JobPollingTimer.PollTask {
   public static final long DEFAULT_INTERVAL_MSEC = 500;
   private static final Logger logger = LoggerFactory.getLogger(JobProgressPoller.class);
 
-  private Job job;
+  protected final Job job;
   private long intervalMs;
+  private volatile JobPollingTimer.Registration registration;
 
   public JobProgressPoller(Job job, long intervalMs) {
-    super("JobProgressPoller, jobId=" + job.getId());
     this.job = job;
     if (intervalMs < 0) {
       throw new IllegalArgumentException("polling interval can't be " + intervalMs);
@@ -44,24 +42,50 @@ public class JobProgressPoller extends Thread {
     this.intervalMs = intervalMs == 0 ? DEFAULT_INTERVAL_MSEC : intervalMs;
   }
 
+  public Job getJob() {
+    return job;
+  }
+
+  public void start() {
+    registration = JobPollingTimer.getInstance().schedule(this, intervalMs);
+  }
+
+  public void stop() {
+    JobPollingTimer.Registration r = registration;
+    if (r != null) {
+      r.cancel();
+    }
+  }
+
+  public boolean isStopped() {
+    JobPollingTimer.Registration r = registration;
+    return r == null || r.isCancelled();
+  }
+
   @Override
-  public void run() {
-    try {
-      while (!Thread.interrupted()) {
-        JobListener listener = job.getListener();
-        if (listener != null) {
-          try {
-            if (job.isRunning()) {
-              listener.onProgressUpdate(job, job.progress());
-            }
-          } catch (Exception e) {
-            logger.error("Can not get or update progress", e);
-          }
-        }
-        Thread.sleep(intervalMs);
+  public void poll() {
+    if (job.isRunning()) {
+      try {
+        onProgress(job.progress());
+      } catch (Exception e) {
+        logger.error("Can not get or update progress", e);
       }
-    } catch (InterruptedException ignored) {
-      // just ignore this exception
     }
   }
+
+  /**
+   * Sends the progress to the listener of the job, called by the batch with the progress
+   * it fetched for the job.
+   */
+  public void onProgress(int progress) {
+    JobListener listener = job.getListener();
+    if (listener != null && job.isRunning() && !isStopped()) {
+      listener.onProgressUpdate(job, progress);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "JobProgressPoller, jobId=" + job.getId();
+  }
 }
@@ -41,7 +41,7 @@ public abstract class JobWithProgressPoller<T> extends Job<T> {
   @Override
   public void onJobStarted() {
     super.onJobStarted();
-    progressPoller = new JobProgressPoller(this, progressUpdateIntervalMs);
+    progressPoller = createProgressPoller(progressUpdateIntervalMs);
     progressPoller.start();
   }
 
@@ -49,7 +49,14 @@ public abstract class JobWithProgressPoller<T> extends Job<T> {
   public void onJobEnded() {
     super.onJobEnded();
     if (this.progressPoller != null) {
-      this.progressPoller.interrupt();
+      this.progressPoller.stop();
     }
   }
+
+  /**
+   * Subclasses can return a poller which fetches the progress in batch with other jobs.
+   */
+  protected JobProgressPoller createProgressPoller(long intervalMs) {
+    return new JobProgressPoller(this, intervalMs);
+  }
 }
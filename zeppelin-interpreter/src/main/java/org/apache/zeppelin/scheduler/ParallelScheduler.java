@@ -33,13 +33,19 @@ public class ParallelScheduler extends AbstractScheduler {
   private static final Logger LOGGER = LoggerFactory.getLogger(ParallelScheduler.class);
 
   private ExecutorService executor;
+  private final int maxConcurrency;
 
   ParallelScheduler(String name, int maxConcurrency) {
     super(name);
+    this.maxConcurrency = maxConcurrency;
     this.executor = Executors.newFixedThreadPool(maxConcurrency,
         new SchedulerThreadFactory("ParallelScheduler-Worker-"));
   }
 
+  public int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
   @Override
   public void runJobInScheduler(final Job runningJob) {
     // submit this job to a FixedThreadPool so that at most maxConcurrencyJobs running
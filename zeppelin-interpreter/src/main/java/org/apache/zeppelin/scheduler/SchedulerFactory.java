@@ -22,9 +22,12 @@ import org.apache.zeppelin.util.ExecutorUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Properties;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
@@ -92,6 +95,30 @@ public class SchedulerFactory {
     }
   }
 
+  /**
+   * Create a {@link FairScheduler} running the jobs with the concurrency of the given FIFO or
+   * parallel scheduler, configured by the interpreter properties. Other schedulers, e.g. the
+   * ones of the interpreters which run their jobs themselves, are returned as is.
+   */
+  public Scheduler createOrGetFairScheduler(Scheduler scheduler, Properties properties) {
+    int maxConcurrency;
+    if (scheduler instanceof FIFOScheduler) {
+      maxConcurrency = 1;
+    } else if (scheduler instanceof ParallelScheduler) {
+      maxConcurrency = ((ParallelScheduler) scheduler).getMaxConcurrency();
+    } else {
+      return scheduler;
+    }
+    String name = scheduler.getName() + "-fair";
+    synchronized (schedulers) {
+      if (!schedulers.containsKey(name)) {
+        FairScheduler s = new FairScheduler(name, maxConcurrency, properties);
+        schedulers.put(name, s);
+        executor.execute(s);
+      }
+      return schedulers.get(name);
+    }
+  }
 
   public Scheduler createOrGetScheduler(Scheduler scheduler) {
     synchronized (schedulers) {
@@ -112,6 +139,15 @@ public class SchedulerFactory {
     }
   }
 
+  /**
+   * Schedulers created by this factory.
+   */
+  public List<Scheduler> getSchedulers() {
+    synchronized (schedulers) {
+      return new ArrayList<>(schedulers.values());
+    }
+  }
+
   public ExecutorService getExecutor() {
     return executor;
   }
@@ -17,33 +17,138 @@
 package org.apache.zeppelin.tabledata;
 
 import org.apache.zeppelin.resource.Resource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
- * Proxy row iterator
+ * Proxy row iterator, rows are fetched from the table in batches and the next batch is
+ * prefetched while the current one is consumed.
+ *
+ * The remote cursor is released once all the rows are read or a fetch fails. A reader stopping
+ * before the end should close the iterator, e.g. with try-with-resources.
  */
-public class ProxyRowIterator implements Iterator<Row> {
+public class ProxyRowIterator implements Iterator<Row>, AutoCloseable {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ProxyRowIterator.class);
+
+  private static final ExecutorService PREFETCH_EXECUTOR = Executors.newCachedThreadPool(
+      runnable -> {
+        Thread thread = new Thread(runnable, "ProxyRowIterator-prefetch");
+        thread.setDaemon(true);
+        return thread;
+      });
+
+  private static final Class[] FETCH_PARAM_TYPES = {String.class, Integer.class};
+  private static final Class[] CLOSE_PARAM_TYPES = {String.class};
 
-  private final Resource rows;
+  private final Resource table;
+  private final int batchSize;
+  private final String cursorId;
 
-  public ProxyRowIterator(Resource rows) {
-    this.rows = rows;
+  private Iterator<Row> batch = Collections.emptyIterator();
+  private CompletableFuture<TableDataCursor.RowBatch> nextBatch;
+  private boolean closed;
+
+  public ProxyRowIterator(Resource table, int batchSize) {
+    this.table = table;
+    this.batchSize = batchSize;
+    this.cursorId = table.getResourceId().getName() + ".rows." + UUID.randomUUID();
+    try {
+      this.nextBatch = CompletableFuture.completedFuture(fetch());
+    } catch (RuntimeException e) {
+      close();
+      throw e;
+    }
   }
 
   @Override
   public boolean hasNext() {
-    rows.invokeMethod("hasNext");
-    return false;
+    while (!batch.hasNext()) {
+      if (nextBatch == null) {
+        return false;
+      }
+      TableDataCursor.RowBatch rowBatch;
+      try {
+        rowBatch = nextBatch.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        close();
+        throw new IllegalStateException("Interrupted while fetching rows", e);
+      } catch (ExecutionException e) {
+        nextBatch = null;
+        close();
+        throw new IllegalStateException("Fail to fetch rows", e.getCause());
+      }
+      batch = rowBatch.rows.iterator();
+      if (rowBatch.hasMore) {
+        nextBatch = CompletableFuture.supplyAsync(this::fetch, PREFETCH_EXECUTOR);
+      } else {
+        nextBatch = null;
+        close();
+      }
+    }
+    return true;
   }
 
   @Override
   public Row next() {
-    return (Row) rows.invokeMethod("next");
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return batch.next();
   }
 
   @Override
   public void remove() {
     // operation not supported
   }
+
+  /**
+   * Release the remote cursor. The rows already fetched can still be read.
+   */
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    if (nextBatch == null) {
+      closeRows();
+    } else {
+      // a prefetch in progress would open the cursor again
+      nextBatch.whenComplete((rowBatch, e) -> closeRows());
+      nextBatch = null;
+    }
+  }
+
+  private void closeRows() {
+    try {
+      table.invokeMethod("closeRows", CLOSE_PARAM_TYPES, new Object[]{cursorId});
+    } catch (RuntimeException e) {
+      LOGGER.warn("Fail to close the rows of {}", table.getResourceId().getName(), e);
+    }
+  }
+
+  private TableDataCursor.RowBatch fetch() {
+    byte[] data = (byte[]) table.invokeMethod(
+        "fetchRows", FETCH_PARAM_TYPES, new Object[]{cursorId, batchSize});
+    if (data == null) {
+      throw new IllegalStateException("Fail to fetch rows of "
+          + table.getResourceId().getName());
+    }
+    try {
+      return TableDataCursor.decode(data);
+    } catch (Exception e) {
+      throw new IllegalStateException("Fail to decode rows of "
+          + table.getResourceId().getName(), e);
+    }
+  }
 }
@@ -16,6 +16,7 @@
  */
 package org.apache.zeppelin.tabledata;
 
+import java.io.IOException;
 import java.util.Iterator;
 
 /**
@@ -34,4 +35,24 @@ public interface TableData {
    * @return
    */
   Iterator<Row> rows();
+
+  /**
+   * Read the next rows of a cursor over {@link #rows()}, the cursor is opened on the first
+   * call and released once all its rows are read. Used by {@link TableDataProxy} to read
+   * the rows of a remote table in batches.
+   *
+   * @param cursorId id chosen by the reader
+   * @param maxRows maximum number of rows to return
+   * @return the rows encoded in a compact binary format
+   */
+  default byte[] fetchRows(String cursorId, Integer maxRows) throws IOException {
+    return TableDataCursor.fetch(this, cursorId, maxRows);
+  }
+
+  /**
+   * Release a cursor opened by {@link #fetchRows(String, Integer)} before its end.
+   */
+  default void closeRows(String cursorId) {
+    TableDataCursor.close(cursorId);
+  }
 }
@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.tabledata;
+
+import org.apache.zeppelin.resource.Resource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cursor over the rows of a TableData, kept in the process which owns the table so that
+ * remote readers can fetch the rows in batches instead of one by one.
+ *
+ * A cursor is released when its last batch is fetched, when it is closed, or when it has
+ * not been read for {@link #IDLE_TIMEOUT_MS}.
+ */
+class TableDataCursor {
+  private static final Logger LOGGER = LoggerFactory.getLogger(TableDataCursor.class);
+
+  static final long IDLE_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(10);
+
+  private static final Map<String, TableDataCursor> CURSORS = new ConcurrentHashMap<>();
+
+  private static final byte NULL = 0;
+  private static final byte STRING = 1;
+  private static final byte INT = 2;
+  private static final byte LONG = 3;
+  private static final byte DOUBLE = 4;
+  private static final byte BOOLEAN = 5;
+  private static final byte OBJECT = 6;
+
+  private final Iterator<Row> rows;
+  private volatile long lastAccessTime = System.currentTimeMillis();
+
+  private TableDataCursor(Iterator<Row> rows) {
+    this.rows = rows;
+  }
+
+  /**
+   * Rows fetched by one call and whether the cursor has more rows.
+   */
+  static class RowBatch {
+    final List<Row> rows;
+    final boolean hasMore;
+
+    RowBatch(List<Row> rows, boolean hasMore) {
+      this.rows = rows;
+      this.hasMore = hasMore;
+    }
+  }
+
+  /**
+   * Read the next rows of the cursor, the cursor is opened on the first call.
+   *
+   * @return the encoded batch, see {@link #decode(byte[])}
+   */
+  static byte[] fetch(TableData table, String cursorId, int maxRows) throws IOException {
+    expireIdleCursors();
+    TableDataCursor cursor = CURSORS.computeIfAbsent(cursorId,
+        id -> new TableDataCursor(table.rows()));
+    try {
+      byte[] batch;
+      boolean hasMore;
+      synchronized (cursor) {
+        cursor.lastAccessTime = System.currentTimeMillis();
+        List<Row> rows = new ArrayList<>(Math.min(maxRows, 1024));
+        while (rows.size() < maxRows && cursor.rows.hasNext()) {
+          rows.add(cursor.rows.next());
+        }
+        hasMore = cursor.rows.hasNext();
+        batch = encode(rows, hasMore);
+      }
+      if (!hasMore) {
+        CURSORS.remove(cursorId);
+      }
+      return batch;
+    } catch (IOException | RuntimeException e) {
+      CURSORS.remove(cursorId);
+      throw e;
+    }
+  }
+
+  static void close(String cursorId) {
+    CURSORS.remove(cursorId);
+  }
+
+  static int openCursors() {
+    return CURSORS.size();
+  }
+
+  private static void expireIdleCursors() {
+    long now = System.currentTimeMillis();
+    CURSORS.entrySet().removeIf(entry -> {
+      if (now - entry.getValue().lastAccessTime > IDLE_TIMEOUT_MS) {
+        LOGGER.info("Close the idle table cursor {}", entry.getKey());
+        return true;
+      }
+      return false;
+    });
+  }
+
+  static byte[] encode(List<Row> rows, boolean hasMore) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    out.writeBoolean(hasMore);
+    out.writeInt(rows.size());
+    for (Row row : rows) {
+      Object[] values = row.get();
+      out.writeInt(values.length);
+      for (Object value : values) {
+        writeValue(out, value);
+      }
+    }
+    out.flush();
+    return bytes.toByteArray();
+  }
+
+  static RowBatch decode(byte[] batch) throws IOException, ClassNotFoundException {
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(batch));
+    boolean hasMore = in.readBoolean();
+    int rowCount = in.readInt();
+    List<Row> rows = new ArrayList<>(rowCount);
+    for (int r = 0; r < rowCount; r++) {
+      Object[] values = new Object[in.readInt()];
+      for (int c = 0; c < values.length; c++) {
+        values[c] = readValue(in);
+      }
+      rows.add(new Row(values));
+    }
+    return new RowBatch(rows, hasMore);
+  }
+
+  private static void writeValue(DataOutputStream out, Object value) throws IOException {
+    if (value == null) {
+      out.writeByte(NULL);
+    } else if (value instanceof String) {
+      out.writeByte(STRING);
+      writeBytes(out, ((String) value).getBytes(StandardCharsets.UTF_8));
+    } else if (value instanceof Integer) {
+      out.writeByte(INT);
+      out.writeInt((Integer) value);
+    } else if (value instanceof Long) {
+      out.writeByte(LONG);
+      out.writeLong((Long) value);
+    } else if (value instanceof Double) {
+      out.writeByte(DOUBLE);
+      out.writeDouble((Double) value);
+    } else if (value instanceof Boolean) {
+      out.writeByte(BOOLEAN);
+      out.writeBoolean((Boolean) value);
+    } else {
+      ByteBuffer serialized = Resource.serializeObject(value);
+      if (serialized == null) {
+        // not serializable, send its string representation
+        out.writeByte(STRING);
+        writeBytes(out, value.toString().getBytes(StandardCharsets.UTF_8));
+      } else {
+        out.writeByte(OBJECT);
+        byte[] data = new byte[serialized.remaining()];
+        serialized.get(data);
+        writeBytes(out, data);
+      }
+    }
+  }
+
+  private static Object readValue(DataInputStream in) throws IOException, ClassNotFoundException {
+    byte type = in.readByte();
+    switch (type) {
+      case NULL:
+        return null;
+      case STRING:
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+      case INT:
+        return in.readInt();
+      case LONG:
+        return in.readLong();
+      case DOUBLE:
+        return in.readDouble();
+      case BOOLEAN:
+        return in.readBoolean();
+      case OBJECT:
+        return Resource.deserializeObject(ByteBuffer.wrap(readBytes(in)));
+      default:
+        throw new IOException("Unknown value type " + type);
+    }
+  }
+
+  private static void writeBytes(DataOutputStream out, byte[] data) throws IOException {
+    out.writeInt(data.length);
+    out.write(data);
+  }
+
+  private static byte[] readBytes(DataInputStream in) throws IOException {
+    byte[] data = new byte[in.readInt()];
+    in.readFully(data);
+    return data;
+  }
+}
@@ -18,16 +18,25 @@ package org.apache.zeppelin.tabledata;
 
 import org.apache.zeppelin.resource.Resource;
 
-import java.util.Iterator;
-
 /**
  * Proxy TableData for ResourcePool
  */
 public class TableDataProxy implements TableData {
+  public static final int DEFAULT_BATCH_SIZE = 1000;
+
   private final Resource resource;
+  private final int batchSize;
 
   public TableDataProxy(Resource tableDataRemoteResource) {
+    this(tableDataRemoteResource, DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * @param batchSize number of rows fetched from the table by each remote call
+   */
+  public TableDataProxy(Resource tableDataRemoteResource, int batchSize) {
     this.resource = tableDataRemoteResource;
+    this.batchSize = batchSize;
   }
 
   @Override
@@ -36,12 +45,11 @@ public class TableDataProxy implements TableData {
         "columns");
   }
 
+  /**
+   * @return rows of the remote table, to close if not read until the end
+   */
   @Override
-  public Iterator<Row> rows() {
-    String resourceName = resource.getResourceId().getName() + ".rows";
-    Resource rows = resource.invokeMethod("rows", resourceName);
-
-    ProxyRowIterator it = new ProxyRowIterator(rows);
-    return it;
+  public ProxyRowIterator rows() {
+    return new ProxyRowIterator(resource, batchSize);
   }
 }
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.tabledata;
+
+import org.apache.zeppelin.interpreter.InterpreterOutput;
+import org.apache.zeppelin.interpreter.ResultMessages;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Writes a table result into an {@link InterpreterOutput} row by row, so that the rows reach
+ * the frontend while the query still runs instead of being built in one string.
+ *
+ * The columns are declared first, the header is written with the first row. The values are
+ * escaped with {@link TableDataUtils}. Rows over the limit are rejected and
+ * {@link #close()} appends the exceeded-limit message.
+ */
+public class TableWriter implements Closeable {
+
+  // rows written between two flushes of the output
+  static final int FLUSH_ROWS = 1000;
+
+  private final InterpreterOutput out;
+  private final int maxRows;
+  private final String maxRowsProperty;
+  private final List<ColumnDef> columns = new ArrayList<>();
+  private final StringBuilder line = new StringBuilder();
+
+  private boolean headerWritten;
+  private boolean limitExceeded;
+  private boolean closed;
+  private volatile long rowCount;
+  private volatile long expectedRows = -1;
+
+  /**
+   * @param maxRows         max number of rows written
+   * @param maxRowsProperty interpreter property setting maxRows, shown when it is exceeded
+   */
+  public TableWriter(InterpreterOutput out, int maxRows, String maxRowsProperty) {
+    this.out = out;
+    this.maxRows = maxRows;
+    this.maxRowsProperty = maxRowsProperty;
+  }
+
+  public TableWriter addColumn(String name, ColumnDef.TYPE type) {
+    if (headerWritten) {
+      throw new IllegalStateException("Columns must be declared before the first row");
+    }
+    columns.add(new ColumnDef(TableDataUtils.normalizeColumn(name), type));
+    return this;
+  }
+
+  public TableWriter addColumn(String name) {
+    return addColumn(name, ColumnDef.TYPE.STRING);
+  }
+
+  public List<ColumnDef> getColumns() {
+    return Collections.unmodifiableList(columns);
+  }
+
+  /**
+   * Number of rows the query is expected to return, when known, used for the progress.
+   */
+  public void setExpectedRows(long expectedRows) {
+    this.expectedRows = expectedRows;
+  }
+
+  /**
+   * @return false if the row is over the limit and is not written
+   */
+  public boolean addRow(Object... values) throws IOException {
+    writeHeader();
+    if (rowCount >= maxRows) {
+      limitExceeded = true;
+      return false;
+    }
+    line.setLength(0);
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) {
+        line.append('\t');
+      }
+      line.append(TableDataUtils.normalizeColumn(values[i]));
+    }
+    line.append('\n');
+    out.write(line.toString());
+    if (++rowCount % FLUSH_ROWS == 0) {
+      out.flush();
+    }
+    return true;
+  }
+
+  public boolean addRow(List<?> values) throws IOException {
+    return addRow(values.toArray());
+  }
+
+  public long getRowCount() {
+    return rowCount;
+  }
+
+  public boolean isLimitExceeded() {
+    return limitExceeded;
+  }
+
+  /**
+   * Progress in percent, from the rows written out of the expected ones.
+   */
+  public int getProgress() {
+    long expected = expectedRows < 0 ? maxRows : Math.min(expectedRows, maxRows);
+    if (expected <= 0) {
+      return 0;
+    }
+    return (int) Math.min(100, rowCount * 100 / expected);
+  }
+
+  /**
+   * Write the header if there was no row, and the exceeded-limit message if rows were
+   * rejected. The output itself is not closed.
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    writeHeader();
+    if (limitExceeded) {
+      out.write("\n" + ResultMessages.getExceedsLimitRowsMessage(maxRows, maxRowsProperty));
+    }
+    out.flush();
+  }
+
+  private void writeHeader() throws IOException {
+    if (headerWritten) {
+      return;
+    }
+    headerWritten = true;
+    line.setLength(0);
+    // starts a new result after any previous output, blank text results are dropped
+    line.append("\n%table ");
+    for (int i = 0; i < columns.size(); i++) {
+      if (i > 0) {
+        line.append('\t');
+      }
+      line.append(columns.get(i).name());
+    }
+    line.append('\n');
+    out.write(line.toString());
+  }
+}
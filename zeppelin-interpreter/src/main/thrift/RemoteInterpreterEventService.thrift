@@ -131,4 +131,7 @@ service RemoteInterpreterEventService {
   binary invokeMethod(1: string intpGroupId, 2: string invokeMethodJson);
 
   list<ParagraphInfo> getParagraphList(1: string user, 2: string noteId) throws (1: ServiceException e);
+
+  // jvm and scheduler metrics of the interpreter process, sent periodically
+  void sendProcessMetrics(1: string intpGroupId, 2: map<string, double> metrics);
 }
\ No newline at end of file
@@ -29,7 +29,8 @@ struct RemoteInterpreterContext {
   8: string config,   // json serialized config
   9: string gui,      // json serialized gui
   10: string noteGui,      // json serialized note gui
-  11: map<string, string> localProperties
+  11: map<string, string> localProperties,
+  12: map<string, string> traceContext  // see ExecutionTrace
 }
 
 struct RemoteInterpreterResultMessage {
@@ -42,6 +43,7 @@ struct RemoteInterpreterResult {
   3: string config,   // json serialized config
   4: string gui       // json serialized gui
   5: string noteGui       // json serialized note gui
+  6: map<string, i64> traceSpans  // msec spent in the interpreter process, per stage
 }
 
 enum RemoteInterpreterEventType {
@@ -86,6 +88,17 @@ struct InterpreterCompletion {
   3: string meta
 }
 
+struct RemoteJobQuery {
+  1: string sessionId,
+  2: string className,     // progress is only queried when set
+  3: RemoteInterpreterContext interpreterContext
+}
+
+struct RemoteJobProgress {
+  1: i32 progress,
+  2: string status
+}
+
 
 
 service RemoteInterpreterService {
@@ -103,8 +116,12 @@ service RemoteInterpreterService {
   void shutdown();
 
   string getStatus(1: string sessionId, 2:string jobId);
+  // progress and status of several jobs in one call, in the order of the queries
+  list<RemoteJobProgress> getProgressAll(1: list<RemoteJobQuery> queries);
 
   list<string> resourcePoolGetAll();
+  // get the resources of a note, and the resources with one of the given names
+  list<string> resourcePoolGetAllOf(1: string noteId, 2: list<string> resourceNames);
   // get value of resource
   binary resourceGet(1: string sessionId, 2: string paragraphId, 3: string resourceName);
   // remove resource
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.cluster.event;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ClusterNoteEventCodecTest {
+
+  @Test
+  public void testDiffAndApply() {
+    JsonObject from = parse("{\"id\":\"p1\",\"text\":\"%sh ls\",\"status\":\"RUNNING\"," +
+        "\"results\":{\"msg\":[{\"type\":\"TEXT\",\"data\":\"line 1\\n\"}]}," +
+        "\"config\":{\"editorHide\":true}}");
+    JsonObject to = parse("{\"id\":\"p1\",\"text\":\"%sh ls\",\"status\":\"FINISHED\"," +
+        "\"results\":{\"msg\":[{\"type\":\"TEXT\",\"data\":\"line 1\\nline 2\\n\"}," +
+        "{\"type\":\"HTML\",\"data\":\"<b>done</b>\"}]},\"config\":{}}");
+
+    List<JsonDelta.Op> ops = JsonDelta.diff(from, to);
+    // status, appended output, new result, removed config
+    assertEquals(4, ops.size());
+    JsonDelta.Op append = ops.stream()
+        .filter(op -> op.type == JsonDelta.OpType.APPEND).findFirst().get();
+    assertEquals(Arrays.asList("results", "msg", 0, "data"), append.path);
+    assertEquals("line 2\n", append.value.getAsString());
+
+    JsonDelta.apply(from, ops);
+    assertEquals(to, from);
+    assertTrue(JsonDelta.diff(from, to).isEmpty());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testApplyMismatch() {
+    JsonObject from = parse("{\"results\":{\"msg\":[{\"data\":\"a\"}]}}");
+    JsonObject to = parse("{\"results\":{\"msg\":[{\"data\":\"ab\"}]}}");
+    JsonDelta.apply(parse("{\"text\":\"\"}"), JsonDelta.diff(from, to));
+  }
+
+  @Test
+  public void testEncodeDecode() throws IOException {
+    JsonObject from = parse("{\"id\":\"p1\",\"text\":\"1 + 1\"}");
+    JsonObject to = parse("{\"id\":\"p1\",\"text\":\"1 + 1\",\"progress\":50}");
+    ClusterNoteEvent delta = ClusterNoteEvent.paragraph(ClusterNoteEvent.Type.PARAGRAPH_DELTA,
+        "note1", "p1", "msg1", -1, false, JsonDelta.diff(new JsonObject(), parse("{\"name\":\"n\"}")),
+        JsonDelta.diff(from, to));
+    delta.setVersion(3);
+    ClusterNoteEvent snapshot = ClusterNoteEvent.snapshot("note2", "{\"id\":\"note2\"}");
+    snapshot.setVersion(1);
+    ClusterNoteEvent resync = ClusterNoteEvent.resyncRequest("note3", "node2");
+
+    ClusterNoteEventCodec.Frame frame = ClusterNoteEventCodec.decode(
+        ClusterNoteEventCodec.encode("node1", Arrays.asList(delta, snapshot, resync)));
+    assertEquals("node1", frame.senderId);
+    assertEquals(3, frame.events.size());
+
+    ClusterNoteEvent decodedDelta = frame.events.get(0);
+    assertEquals(ClusterNoteEvent.Type.PARAGRAPH_DELTA, decodedDelta.getType());
+    assertEquals("note1", decodedDelta.getNoteId());
+    assertEquals("p1", decodedDelta.getParagraphId());
+    assertEquals("msg1", decodedDelta.getMsgId());
+    assertEquals(3, decodedDelta.getVersion());
+    JsonDelta.apply(from, decodedDelta.getParagraphOps());
+    assertEquals(to, from);
+    JsonObject header = new JsonObject();
+    JsonDelta.apply(header, decodedDelta.getNoteOps());
+    assertEquals("n", header.get("name").getAsString());
+
+    assertEquals("{\"id\":\"note2\"}", frame.events.get(1).getNoteJson());
+    assertEquals(1, frame.events.get(1).getVersion());
+    assertEquals("node2", frame.events.get(2).getTargetNodeId());
+  }
+
+  @Test
+  public void testLargeFrameIsCompressed() throws IOException {
+    String output = StringUtils.repeat("zeppelin cluster output\n", 1000);
+    JsonObject to = new JsonObject();
+    to.addProperty("data", output);
+    ClusterNoteEvent event = ClusterNoteEvent.paragraph(ClusterNoteEvent.Type.NEW_PARAGRAPH,
+        "note1", "p1", null, 2, true, JsonDelta.diff(new JsonObject(), new JsonObject()),
+        JsonDelta.diff(new JsonObject(), to));
+
+    byte[] encoded = ClusterNoteEventCodec.encode("node1", Arrays.asList(event));
+    assertTrue(encoded.length < output.length() / 10);
+    ClusterNoteEvent decoded = ClusterNoteEventCodec.decode(encoded).events.get(0);
+    assertEquals(2, decoded.getIndex());
+    assertTrue(decoded.isFull());
+    JsonObject paragraph = new JsonObject();
+    JsonDelta.apply(paragraph, decoded.getParagraphOps());
+    assertEquals(output, paragraph.get("data").getAsString());
+  }
+
+  private static JsonObject parse(String json) {
+    return JsonParser.parseString(json).getAsJsonObject();
+  }
+}
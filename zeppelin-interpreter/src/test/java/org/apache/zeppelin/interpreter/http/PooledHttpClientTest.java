@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.http;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.io.IOUtils;
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreterUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PooledHttpClientTest {
+
+  private HttpServer server;
+  private String url;
+  private PooledHttpClient client;
+  // remote ports of the connections accepted by the server
+  private final Set<Integer> connections = ConcurrentHashMap.newKeySet();
+
+  @Before
+  public void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/echo", exchange -> {
+      connections.add(exchange.getRemoteAddress().getPort());
+      byte[] body = IOUtils.toByteArray(exchange.getRequestBody());
+      String response = exchange.getRequestMethod() + " "
+          + exchange.getRequestHeaders().getFirst("X-Test") + " "
+          + new String(body, StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().add("Content-Type", "text/plain; charset=utf-8");
+      byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+      exchange.sendResponseHeaders(200, bytes.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(bytes);
+      }
+    });
+    server.createContext("/stream", exchange -> {
+      exchange.sendResponseHeaders(200, 0);
+      try (OutputStream out = exchange.getResponseBody()) {
+        for (int i = 0; i < 3; i++) {
+          out.write(("line" + i + "\n").getBytes(StandardCharsets.UTF_8));
+          out.flush();
+        }
+      }
+    });
+    server.createContext("/error", exchange -> {
+      exchange.sendResponseHeaders(503, -1);
+      exchange.close();
+    });
+    server.start();
+    url = "http://127.0.0.1:" + server.getAddress().getPort();
+    client = new PooledHttpClient(new HttpClientConfig().setRetryBackoffMs(10));
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    client.close();
+    server.stop(0);
+  }
+
+  @Test
+  public void testKeepAlive() throws IOException {
+    for (int i = 0; i < 5; i++) {
+      try (HttpResponse response = client.execute(HttpRequest.post(url + "/echo")
+          .header("X-Test", "h" + i)
+          .body("body" + i, "text/plain; charset=utf-8"))) {
+        assertEquals(200, response.getStatus());
+        assertTrue(response.isSuccess());
+        assertEquals("POST h" + i + " body" + i, response.getBodyAsString());
+        assertEquals("text/plain; charset=utf-8", response.getHeader("Content-Type"));
+      }
+    }
+    // the connection is reused
+    assertEquals(1, connections.size());
+
+    HttpHostStats stats = client.getHostStats().get(server.getAddress().getHostString() + ":"
+        + server.getAddress().getPort());
+    assertEquals(5, stats.getRequests());
+    assertEquals(0, stats.getFailures());
+    assertEquals(0, stats.getLeased());
+    assertEquals(1, stats.getAvailable());
+  }
+
+  @Test
+  public void testStreamedBody() throws IOException {
+    try (HttpResponse response = client.execute(HttpRequest.get(url + "/stream"));
+         BufferedReader reader = new BufferedReader(
+             new InputStreamReader(response.getBody(), StandardCharsets.UTF_8))) {
+      assertEquals("line0", reader.readLine());
+      assertEquals("line1", reader.readLine());
+      assertEquals("line2", reader.readLine());
+      assertNull(reader.readLine());
+    }
+  }
+
+  @Test
+  public void testServerError() throws IOException {
+    try (HttpResponse response = client.execute(HttpRequest.get(url + "/error"))) {
+      assertEquals(503, response.getStatus());
+      assertFalse(response.isSuccess());
+    }
+    HttpHostStats stats = client.getHostStats().values().iterator().next();
+    assertEquals(1, stats.getServerErrors());
+    // a response is not retried
+    assertEquals(1, stats.getRequests());
+  }
+
+  @Test
+  public void testRetryConnectionFailure() throws IOException {
+    int port = RemoteInterpreterUtils.findRandomAvailablePortOnAllLocalInterfaces();
+    String unreachable = "http://127.0.0.1:" + port + "/echo";
+    try {
+      client.execute(HttpRequest.post(unreachable).retries(2));
+      fail("Connection should fail");
+    } catch (ConnectException e) {
+      // expected
+    }
+    HttpHostStats stats = client.getHostStats().get("127.0.0.1:" + port);
+    assertEquals(3, stats.getRequests());
+    assertEquals(3, stats.getFailures());
+    assertEquals(2, stats.getRetries());
+  }
+
+  @Test
+  public void testRetriable() {
+    IOException reset = new IOException("Connection reset");
+    assertTrue(PooledHttpClient.isRetriable(HttpRequest.get(url), reset));
+    assertFalse(PooledHttpClient.isRetriable(HttpRequest.post(url), reset));
+    assertTrue(PooledHttpClient.isRetriable(HttpRequest.post(url), new ConnectException()));
+    assertFalse(PooledHttpClient.isRetriable(HttpRequest.get(url),
+        new SocketTimeoutException()));
+  }
+
+  @Test
+  public void testConfig() {
+    Properties properties = new Properties();
+    properties.setProperty(HttpClientConfig.MAX_CONNECTIONS_PER_HOST, "3");
+    properties.setProperty(HttpClientConfig.SOCKET_TIMEOUT, "5000");
+    HttpClientConfig config = HttpClientConfig.fromProperties(properties);
+    assertEquals(3, config.getMaxConnectionsPerHost());
+    assertEquals(5000, config.getSocketTimeoutMs());
+    assertEquals(200, config.getMaxConnections());
+    assertEquals(Collections.emptyMap(), client.getHostStats());
+  }
+
+  @Test
+  public void testShared() {
+    Properties properties = new Properties();
+    properties.setProperty(HttpClientConfig.SOCKET_TIMEOUT, "5000");
+    PooledHttpClient shared = PooledHttpClient.getShared(properties);
+    assertEquals(5000, shared.getConfig().getSocketTimeoutMs());
+    assertSame(shared, PooledHttpClient.getShared((Properties) properties.clone()));
+
+    // the interpreters with other settings get their own client
+    properties.setProperty(HttpClientConfig.SOCKET_TIMEOUT, "60000");
+    PooledHttpClient other = PooledHttpClient.getShared(properties);
+    assertNotSame(shared, other);
+    assertEquals(60000, other.getConfig().getSocketTimeoutMs());
+  }
+}
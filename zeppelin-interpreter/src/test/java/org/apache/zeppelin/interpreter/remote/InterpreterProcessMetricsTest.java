@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import org.apache.zeppelin.scheduler.Job;
+import org.apache.zeppelin.scheduler.Scheduler;
+import org.apache.zeppelin.scheduler.SchedulerFactory;
+import org.apache.zeppelin.scheduler.SleepingJob;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class InterpreterProcessMetricsTest {
+
+  @Test
+  public void testCollect() {
+    InterpreterProcessMetrics processMetrics = new InterpreterProcessMetrics();
+    processMetrics.register("custom", () -> 42);
+    Map<String, Double> metrics = processMetrics.collect();
+    assertTrue(metrics.get("jvm.memory.heap.used") > 0);
+    assertTrue(metrics.get("jvm.memory.heap.committed") >= metrics.get("jvm.memory.heap.used"));
+    assertTrue(metrics.get("jvm.threads.live") > 0);
+    assertTrue(metrics.get("jvm.gc.time.ratio") >= 0);
+    assertTrue(metrics.containsKey("process.cpu.load"));
+    assertEquals(42, metrics.get("custom"), 0);
+
+    processMetrics.unregister("custom");
+    assertTrue(!processMetrics.collect().containsKey("custom"));
+  }
+
+  @Test
+  public void testJobs() throws InterruptedException {
+    InterpreterProcessMetrics processMetrics = new InterpreterProcessMetrics();
+    Scheduler scheduler =
+        SchedulerFactory.singleton().createOrGetFIFOScheduler("InterpreterProcessMetricsTest");
+    try {
+      Job<?> job1 = new SleepingJob("job1", null, 1000);
+      Job<?> job2 = new SleepingJob("job2", null, 1000);
+      scheduler.submit(job1);
+      scheduler.submit(job2);
+      long start = System.currentTimeMillis();
+      while (job1.getStatus() != Job.Status.RUNNING && System.currentTimeMillis() - start < 5000) {
+        Thread.sleep(10);
+      }
+      assertEquals(1, processMetrics.getRunningJobs());
+      assertEquals(1, processMetrics.getPendingJobs());
+      Map<String, Double> metrics = processMetrics.collect();
+      assertEquals(1, metrics.get("scheduler.jobs.running"), 0);
+      assertEquals(1, metrics.get("scheduler.jobs.pending"), 0);
+    } finally {
+      SchedulerFactory.singleton().removeScheduler(scheduler.getName());
+    }
+  }
+}
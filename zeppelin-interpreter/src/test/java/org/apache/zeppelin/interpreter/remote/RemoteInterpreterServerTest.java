@@ -25,10 +25,15 @@ import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.LazyOpenInterpreter;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterContext;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResult;
+import org.apache.zeppelin.interpreter.thrift.RemoteJobProgress;
+import org.apache.zeppelin.interpreter.thrift.RemoteJobQuery;
+import org.apache.zeppelin.scheduler.ExecutionTrace;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -36,6 +41,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -160,6 +166,16 @@ public class RemoteInterpreterServerTest {
     assertEquals(1, result.getMsg().size());
     assertEquals("SINGLE_OUTPUT_ERROR", result.getMsg().get(0).getData());
 
+    // the stages run in the interpreter process are sent back for a traced paragraph
+    assertNull(result.getTraceSpans());
+    intpContext.setTraceContext(new ExecutionTrace("trace_1").toContext());
+    result = server.interpret("session_1", Test1Interpreter.class.getName(),
+        "SINGLE_OUTPUT_SUCCESS", intpContext);
+    assertEquals("SUCCESS", result.code);
+    assertTrue(result.getTraceSpans().containsKey("interpreter.queue"));
+    assertTrue(result.getTraceSpans().containsKey("interpreter.run"));
+    intpContext.setTraceContext(null);
+
     // getFormType
     String formType = server.getFormType("session_1", Test1Interpreter.class.getName());
     assertEquals("NATIVE", formType);
@@ -188,6 +204,19 @@ public class RemoteInterpreterServerTest {
     assertEquals(10, server.getProgress("session_1", Test1Interpreter.class.getName(),
         intpContext));
 
+    // getProgressAll, the progress of an unknown interpreter is not set
+    RemoteInterpreterContext otherContext = new RemoteInterpreterContext();
+    otherContext.setParagraphId("paragraph_2");
+    List<RemoteJobProgress> progresses = server.getProgressAll(Arrays.asList(
+        new RemoteJobQuery("session_1", Test1Interpreter.class.getName(), intpContext),
+        new RemoteJobQuery("session_1", "UnknownInterpreter", otherContext),
+        new RemoteJobQuery("session_1", null, otherContext)));
+    assertEquals(3, progresses.size());
+    assertEquals(10, progresses.get(0).getProgress());
+    assertFalse(progresses.get(1).isSetProgress());
+    assertFalse(progresses.get(2).isSetProgress());
+    assertEquals("UNKNOWN", progresses.get(2).getStatus());
+
     // close
     server.close("session_1", Test1Interpreter.class.getName());
     assertTrue(interpreter1.closed.get());
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TServerTransport;
+import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEventService;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RemoteTransportTest {
+
+  @Test
+  public void testBlocking() throws Exception {
+    testTransport(RemoteTransport.BLOCKING);
+  }
+
+  @Test
+  public void testNonblocking() throws Exception {
+    testTransport(RemoteTransport.NONBLOCKING);
+  }
+
+  private void testTransport(RemoteTransport transport) throws Exception {
+    CountDownLatch called = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    RemoteInterpreterEventService.Iface handler = mock(RemoteInterpreterEventService.Iface.class);
+    doAnswer(invocation -> {
+      called.countDown();
+      release.await(10, TimeUnit.SECONDS);
+      return Arrays.asList("r1", "r2");
+    }).when(handler).getAllResources(anyString());
+    byte[] large = new byte[4 * 1024 * 1024];
+    large[large.length - 1] = 1;
+    when(handler.getResource(anyString())).thenReturn(ByteBuffer.wrap(large));
+
+    int port = RemoteInterpreterUtils.findRandomAvailablePortOnAllLocalInterfaces();
+    TServerTransport serverTransport = transport.createServerTransport(port);
+    TServer server = transport.createServer(serverTransport,
+        new RemoteInterpreterEventService.Processor<>(handler), 1000, "RemoteTransportTest");
+    Thread serverThread = new Thread(server::serve);
+    serverThread.start();
+    PooledRemoteClient<RemoteInterpreterEventService.Client> client = null;
+    try {
+      long start = System.currentTimeMillis();
+      while (!server.isServing() && System.currentTimeMillis() - start < 10_000) {
+        Thread.sleep(50);
+      }
+      assertEquals(port, RemoteTransport.getLocalPort(serverTransport));
+      client = new PooledRemoteClient<>(() -> new RemoteInterpreterEventService.Client(
+          transport.openProtocol("localhost", port)), 2);
+      PooledRemoteClient<RemoteInterpreterEventService.Client> pool = client;
+
+      // a long call only holds its own client
+      CompletableFuture<List<String>> longCall = CompletableFuture.supplyAsync(() ->
+          pool.callRemoteFunction(c -> c.getAllResources("group")));
+      assertTrue(called.await(10, TimeUnit.SECONDS));
+      assertEquals(1, client.getNumActive());
+      ByteBuffer resource = client.callRemoteFunction(c -> c.getResource("id"));
+      byte[] bytes = new byte[resource.remaining()];
+      resource.get(bytes);
+      assertArrayEquals(large, bytes);
+      Map<String, Double> metrics = new HashMap<>();
+      metrics.put("jvm.memory.heap.used", 1024.0);
+      metrics.put("process.cpu.load", 0.5);
+      client.callRemoteFunction(c -> {
+        c.sendProcessMetrics("group", metrics);
+        return null;
+      });
+      verify(handler).sendProcessMetrics("group", metrics);
+
+      release.countDown();
+      assertEquals(Arrays.asList("r1", "r2"), longCall.get(10, TimeUnit.SECONDS));
+      assertEquals(0, client.getNumActive());
+      assertEquals(2, client.getNumIdle());
+      assertTrue(client.getMaxBorrowWaitTimeMillis() >= 0);
+    } finally {
+      release.countDown();
+      if (client != null) {
+        client.shutdown();
+      }
+      server.stop();
+      serverThread.join(10_000);
+      serverTransport.close();
+    }
+  }
+}
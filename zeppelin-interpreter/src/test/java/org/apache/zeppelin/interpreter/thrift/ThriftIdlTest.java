@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.thrift;
+
+import org.apache.thrift.TBase;
+import org.apache.thrift.TFieldIdEnum;
+import org.apache.thrift.meta_data.EnumMetaData;
+import org.apache.thrift.meta_data.FieldMetaData;
+import org.apache.thrift.meta_data.FieldValueMetaData;
+import org.apache.thrift.meta_data.ListMetaData;
+import org.apache.thrift.meta_data.MapMetaData;
+import org.apache.thrift.meta_data.SetMetaData;
+import org.apache.thrift.meta_data.StructMetaData;
+import org.apache.thrift.protocol.TType;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Checks that the classes of this package match the thrift IDL in src/main/thrift, so that
+ * they can be regenerated by genthrift.sh without changing the protocol.
+ */
+public class ThriftIdlTest {
+
+  private static final String PACKAGE = "org.apache.zeppelin.interpreter.thrift.";
+  private static final File THRIFT_DIR = new File("src/main/thrift");
+
+  private static final Pattern COMMENT = Pattern.compile("/\\*.*?\\*/|//[^\\n]*|#[^\\n]*",
+      Pattern.DOTALL);
+  private static final Pattern STRUCT = Pattern.compile(
+      "(?:struct|exception)\\s+(\\w+)\\s*\\{(.*?)\\}", Pattern.DOTALL);
+  private static final Pattern SERVICE = Pattern.compile(
+      "service\\s+(\\w+)\\s*\\{(.*?)\\n\\s*\\}", Pattern.DOTALL);
+  private static final Pattern METHOD = Pattern.compile(
+      "(?:oneway\\s+)?(\\S.*?)\\s+(\\w+)\\s*\\(([^()]*)\\)\\s*(?:throws\\s*\\(([^()]*)\\))?");
+  private static final Pattern FIELD_ID = Pattern.compile("(?<![\\w<])(\\d+)\\s*:");
+
+  @Test
+  public void testRemoteInterpreterService() throws Exception {
+    String idl = readIdl("RemoteInterpreterService.thrift");
+    checkStructs(idl);
+    checkService(idl, "RemoteInterpreterService");
+  }
+
+  @Test
+  public void testRemoteInterpreterEventService() throws Exception {
+    String idl = readIdl("RemoteInterpreterEventService.thrift");
+    checkStructs(idl);
+    checkService(idl, "RemoteInterpreterEventService");
+  }
+
+  private static String readIdl(String name) throws IOException {
+    String idl = new String(Files.readAllBytes(new File(THRIFT_DIR, name).toPath()),
+        StandardCharsets.UTF_8);
+    return COMMENT.matcher(idl).replaceAll("");
+  }
+
+  private static void checkStructs(String idl) throws Exception {
+    Matcher m = STRUCT.matcher(idl);
+    while (m.find()) {
+      String name = m.group(1);
+      assertEquals("fields of " + name, parseFields(m.group(2)),
+          javaFields(Class.forName(PACKAGE + name)));
+    }
+  }
+
+  private static void checkService(String idl, String service) throws Exception {
+    Matcher m = SERVICE.matcher(idl);
+    assertEquals(true, m.find());
+    assertEquals(service, m.group(1));
+    Class<?> iface = Class.forName(PACKAGE + service + "$Iface");
+
+    TreeSet<String> methods = new TreeSet<>();
+    for (String line : m.group(2).split("\\n")) {
+      Matcher method = METHOD.matcher(line.trim());
+      if (!method.lookingAt()) {
+        continue;
+      }
+      String name = method.group(2);
+      methods.add(name);
+      Map<Short, String> args = parseFields(method.group(3));
+      assertNotNull(name, findMethod(iface, name, args.size()));
+      assertEquals("args of " + name, args,
+          javaFields(Class.forName(PACKAGE + service + "$" + name + "_args")));
+
+      Map<Short, String> result = new TreeMap<>();
+      if (!method.group(1).equals("void")) {
+        result.put((short) 0, "success: " + normalizeType(method.group(1)));
+      }
+      if (method.group(4) != null) {
+        result.putAll(parseFields(method.group(4)));
+      }
+      assertEquals("result of " + name, result,
+          javaFields(Class.forName(PACKAGE + service + "$" + name + "_result")));
+    }
+
+    TreeSet<String> javaMethods = new TreeSet<>();
+    for (Method method : iface.getDeclaredMethods()) {
+      javaMethods.add(method.getName());
+    }
+    assertEquals("methods of " + service, methods, javaMethods);
+  }
+
+  /**
+   * @return the names and types of the fields of a struct or method declaration, by field id
+   */
+  private static Map<Short, String> parseFields(String declaration) {
+    Map<Short, String> fields = new TreeMap<>();
+    Matcher m = FIELD_ID.matcher(declaration);
+    int start = -1;
+    short id = 0;
+    while (true) {
+      boolean found = m.find();
+      if (start >= 0) {
+        String field = declaration.substring(start, found ? m.start() : declaration.length())
+            .replaceAll("[,;\\s]+$", "");
+        int nameStart = field.lastIndexOf(' ');
+        String type = field.substring(0, nameStart)
+            .replaceFirst("^\\s*(required|optional)\\s", "");
+        fields.put(id, field.substring(nameStart + 1) + ": " + normalizeType(type));
+      }
+      if (!found) {
+        return fields;
+      }
+      id = Short.parseShort(m.group(1));
+      start = m.end();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<Short, String> javaFields(Class<?> cls) {
+    Map<Short, String> fields = new TreeMap<>();
+    for (Map.Entry<? extends TFieldIdEnum, FieldMetaData> entry :
+        FieldMetaData.getStructMetaDataMap((Class<? extends TBase>) cls).entrySet()) {
+      fields.put(entry.getKey().getThriftFieldId(),
+          entry.getValue().fieldName + ": " + javaType(entry.getValue().valueMetaData));
+    }
+    return fields;
+  }
+
+  // without spaces and the name of the included file, e.g. RemoteInterpreterService.X
+  private static String normalizeType(String type) {
+    return type.replaceAll("\\s+", "").replaceAll("\\w+\\.", "");
+  }
+
+  private static String javaType(FieldValueMetaData value) {
+    if (value.isTypedef()) {
+      return value.getTypedefName();
+    }
+    switch (value.type) {
+      case TType.BOOL:
+        return "bool";
+      case TType.BYTE:
+        return "byte";
+      case TType.I16:
+        return "i16";
+      case TType.I32:
+        return "i32";
+      case TType.I64:
+        return "i64";
+      case TType.DOUBLE:
+        return "double";
+      case TType.STRING:
+        return value.isBinary() ? "binary" : "string";
+      case TType.MAP:
+        MapMetaData map = (MapMetaData) value;
+        return "map<" + javaType(map.keyMetaData) + "," + javaType(map.valueMetaData) + ">";
+      case TType.LIST:
+        return "list<" + javaType(((ListMetaData) value).elemMetaData) + ">";
+      case TType.SET:
+        return "set<" + javaType(((SetMetaData) value).elemMetaData) + ">";
+      case TType.STRUCT:
+        return ((StructMetaData) value).structClass.getSimpleName();
+      case TType.ENUM:
+        return ((EnumMetaData) value).enumClass.getSimpleName();
+      default:
+        throw new IllegalArgumentException("Unknown thrift type " + value.type);
+    }
+  }
+
+  private static Method findMethod(Class<?> iface, String name, int parameterCount) {
+    for (Method method : iface.getMethods()) {
+      if (method.getName().equals(name) && method.getParameterCount() == parameterCount) {
+        return method;
+      }
+    }
+    return null;
+  }
+}
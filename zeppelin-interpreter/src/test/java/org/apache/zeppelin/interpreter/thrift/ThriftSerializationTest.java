@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.thrift;
+
+import org.apache.thrift.TBase;
+import org.apache.thrift.TDeserializer;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.TSerializer;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.protocol.TTupleProtocol;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Round-trips the thrift classes of this package through the standard and tuple schemes, and
+ * through the generated clients and processors.
+ */
+public class ThriftSerializationTest {
+
+  private static final TProtocolFactory[] PROTOCOLS = {
+      new TBinaryProtocol.Factory(),
+      new TCompactProtocol.Factory(),
+      new TTupleProtocol.Factory()
+  };
+
+  @Test
+  public void testTraceContext() throws Exception {
+    RemoteInterpreterContext context = newContext();
+    context.putToTraceContext("traceId", "trace_1");
+    context.putToTraceContext("spanId", "span_1");
+    for (TProtocolFactory protocol : PROTOCOLS) {
+      RemoteInterpreterContext copy = roundTrip(context, new RemoteInterpreterContext(), protocol);
+      assertEquals(context, copy);
+      assertEquals("trace_1", copy.getTraceContext().get("traceId"));
+    }
+
+    // contexts of servers which don't trace
+    RemoteInterpreterContext untraced = newContext();
+    for (TProtocolFactory protocol : PROTOCOLS) {
+      RemoteInterpreterContext copy =
+          roundTrip(untraced, new RemoteInterpreterContext(), protocol);
+      assertEquals(untraced, copy);
+      assertEquals(false, copy.isSetTraceContext());
+    }
+  }
+
+  @Test
+  public void testTraceSpans() throws Exception {
+    RemoteInterpreterResult result = new RemoteInterpreterResult("SUCCESS",
+        Arrays.asList(new RemoteInterpreterResultMessage("TEXT", "2")), "{}", "{}", "{}", null);
+    result.putToTraceSpans("interpret", 120L);
+    result.putToTraceSpans("output", 3L);
+    for (TProtocolFactory protocol : PROTOCOLS) {
+      RemoteInterpreterResult copy = roundTrip(result, new RemoteInterpreterResult(), protocol);
+      assertEquals(result, copy);
+      assertEquals(Long.valueOf(120L), copy.getTraceSpans().get("interpret"));
+    }
+  }
+
+  @Test
+  public void testRemoteJobQuery() throws Exception {
+    RemoteJobQuery query = new RemoteJobQuery("session_1", "org.apache.zeppelin.FooInterpreter",
+        newContext());
+    for (TProtocolFactory protocol : PROTOCOLS) {
+      assertEquals(query, roundTrip(query, new RemoteJobQuery(), protocol));
+    }
+
+    // unset fields stay unset
+    RemoteJobQuery empty = new RemoteJobQuery();
+    empty.setSessionId("session_1");
+    for (TProtocolFactory protocol : PROTOCOLS) {
+      RemoteJobQuery copy = roundTrip(empty, new RemoteJobQuery(), protocol);
+      assertEquals(empty, copy);
+      assertEquals(false, copy.isSetInterpreterContext());
+    }
+  }
+
+  @Test
+  public void testRemoteJobProgress() throws Exception {
+    RemoteJobProgress progress = new RemoteJobProgress(42, "RUNNING");
+    for (TProtocolFactory protocol : PROTOCOLS) {
+      RemoteJobProgress copy = roundTrip(progress, new RemoteJobProgress(), protocol);
+      assertEquals(progress, copy);
+      assertEquals(true, copy.isSetProgress());
+    }
+  }
+
+  @Test
+  public void testGetProgressAll() throws Exception {
+    List<RemoteJobQuery> queries = Arrays.asList(
+        new RemoteJobQuery("session_1", "org.apache.zeppelin.FooInterpreter", newContext()),
+        new RemoteJobQuery("session_2", "org.apache.zeppelin.BarInterpreter", newContext()));
+    List<RemoteJobProgress> progress = Arrays.asList(
+        new RemoteJobProgress(10, "RUNNING"),
+        new RemoteJobProgress(0, "PENDING"));
+
+    RemoteInterpreterService.Iface handler =
+        handler(RemoteInterpreterService.Iface.class, "getProgressAll", args -> {
+          assertEquals(queries, args[0]);
+          return progress;
+        });
+
+    for (TProtocolFactory protocol : PROTOCOLS) {
+      Call call = new Call(protocol);
+      RemoteInterpreterService.Client client =
+          new RemoteInterpreterService.Client(call.response, call.request);
+      client.send_getProgressAll(queries);
+      call.process(new RemoteInterpreterService.Processor<>(handler));
+      assertEquals(progress, client.recv_getProgressAll());
+    }
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testSendProcessMetrics() throws Exception {
+    Map<String, Double> metrics = new HashMap<>();
+    metrics.put("heap.used", 1024.0);
+    metrics.put("cpu.load", 0.5);
+
+    for (TProtocolFactory protocol : PROTOCOLS) {
+      Map<String, Double> received = new HashMap<>();
+      RemoteInterpreterEventService.Iface handler =
+          handler(RemoteInterpreterEventService.Iface.class, "sendProcessMetrics", args -> {
+            assertEquals("group_1", args[0]);
+            received.putAll((Map<String, Double>) args[1]);
+            return null;
+          });
+      Call call = new Call(protocol);
+      RemoteInterpreterEventService.Client client =
+          new RemoteInterpreterEventService.Client(call.response, call.request);
+      client.send_sendProcessMetrics("group_1", metrics);
+      call.process(new RemoteInterpreterEventService.Processor<>(handler));
+      client.recv_sendProcessMetrics();
+      assertEquals(metrics, received);
+    }
+  }
+
+  static RemoteInterpreterContext newContext() {
+    Map<String, String> localProperties = new HashMap<>();
+    localProperties.put("key", "value");
+    return new RemoteInterpreterContext("note_1", "My Note", "paragraph_1", "foo",
+        "Paragraph", "%foo 1 + 1", "{}", "{}", "{}", "{}", localProperties, null);
+  }
+
+  /**
+   * @return an implementation of the given service interface which only supports one method
+   */
+  static <T> T handler(Class<T> iface, String method, Handler handler) {
+    return iface.cast(Proxy.newProxyInstance(iface.getClassLoader(), new Class<?>[]{iface},
+        (proxy, m, args) -> {
+          assertEquals(method, m.getName());
+          return handler.handle(args);
+        }));
+  }
+
+  interface Handler {
+    Object handle(Object[] args) throws Exception;
+  }
+
+  static <T extends TBase> T roundTrip(T value, T empty, TProtocolFactory protocol)
+      throws Exception {
+    byte[] bytes = new TSerializer(protocol).serialize(value);
+    new TDeserializer(protocol).deserialize(empty, bytes);
+    return empty;
+  }
+
+  /**
+   * A request and its response, passed in memory between a generated client and processor.
+   */
+  static class Call {
+    final TProtocol request;
+    final TProtocol response;
+
+    Call(TProtocolFactory protocol) throws Exception {
+      this.request = protocol.getProtocol(new TMemoryBuffer(1024));
+      this.response = protocol.getProtocol(new TMemoryBuffer(1024));
+    }
+
+    void process(TProcessor processor) throws Exception {
+      processor.process(request, response);
+    }
+  }
+}
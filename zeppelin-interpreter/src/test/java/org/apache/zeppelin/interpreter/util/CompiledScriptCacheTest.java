@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.util;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CompiledScriptCacheTest {
+
+  @Test
+  public void testCache() {
+    CompiledScriptCache cache = new CompiledScriptCache(1000);
+    AtomicInteger compilations = new AtomicInteger();
+    for (int i = 0; i < 3; i++) {
+      assertEquals("compiled print(1)", cache.get("shell1", "print(1)", script -> {
+        compilations.incrementAndGet();
+        return "compiled " + script;
+      }));
+    }
+    assertEquals(1, compilations.get());
+    assertEquals(2, cache.getHitCount());
+
+    // a script is compiled again by another compiler
+    cache.get("shell2", "print(1)", script -> compilations.incrementAndGet());
+    assertEquals(2, compilations.get());
+    assertEquals(2, cache.size());
+
+    cache.invalidate("shell1");
+    assertEquals(1, cache.size());
+    cache.get("shell1", "print(1)", script -> compilations.incrementAndGet());
+    assertEquals(3, compilations.get());
+  }
+
+  @Test
+  public void testMaxWeight() {
+    CompiledScriptCache cache = new CompiledScriptCache(1000);
+    for (int i = 0; i < 100; i++) {
+      String script = String.format("%0100d", i);
+      cache.get("shell", script, s -> s);
+    }
+    assertTrue(cache.size() <= 10);
+  }
+
+  @Test
+  public void testCompileError() {
+    CompiledScriptCache cache = new CompiledScriptCache(1000);
+    try {
+      cache.get("shell", "print(", script -> {
+        throw new IllegalArgumentException("syntax error");
+      });
+      fail("The compile error should be thrown");
+    } catch (IllegalArgumentException e) {
+      assertEquals("syntax error", e.getMessage());
+    }
+    assertEquals(0, cache.size());
+  }
+}
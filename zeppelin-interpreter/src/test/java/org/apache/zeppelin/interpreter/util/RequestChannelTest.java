@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.util;
+
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RequestChannelTest {
+
+  @Test
+  public void testOutstandingRequests() throws Exception {
+    RequestChannel<String, String> channel = new RequestChannel<>();
+    CompletableFuture<String> statement = channel.send("statement");
+    CompletableFuture<String> completion = channel.send("completion");
+    assertEquals(2, channel.getPendingCount());
+
+    RequestChannel.Request<String> first = channel.take();
+    RequestChannel.Request<String> second = channel.take();
+    assertEquals("statement", first.getPayload());
+    assertEquals("completion", second.getPayload());
+
+    // responses are matched by id, not by order
+    assertTrue(channel.complete(second.getId(), "completion done"));
+    assertFalse(statement.isDone());
+    assertTrue(channel.complete(first.getId(), "statement done"));
+    assertEquals("statement done", statement.get(10, TimeUnit.SECONDS));
+    assertEquals("completion done", completion.get(10, TimeUnit.SECONDS));
+    assertEquals(0, channel.getPendingCount());
+    assertNull(channel.poll(10, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  public void testAbandonedRequest() throws Exception {
+    RequestChannel<String, String> channel = new RequestChannel<>();
+    CompletableFuture<String> response = channel.send("statement");
+    RequestChannel.Request<String> request = channel.take();
+    response.cancel(true);
+    assertFalse(channel.complete(request.getId(), "late"));
+    assertEquals(0, channel.getPendingCount());
+  }
+
+  @Test
+  public void testClose() throws Exception {
+    RequestChannel<String, String> channel = new RequestChannel<>();
+    CompletableFuture<RequestChannel.Request<String>> taken = CompletableFuture.supplyAsync(() -> {
+      try {
+        channel.take();
+        return channel.take();
+      } catch (InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+    });
+    CompletableFuture<String> response = channel.send("statement");
+    channel.close("process exited");
+
+    // the blocked taker returns, and the outstanding and next requests fail
+    assertNull(taken.get(10, TimeUnit.SECONDS));
+    assertNull(channel.take());
+    assertTrue(channel.isClosed());
+    for (CompletableFuture<String> future : new CompletableFuture[]{response, channel.send("x")}) {
+      try {
+        future.get(10, TimeUnit.SECONDS);
+        fail("Request should fail when the channel is closed");
+      } catch (ExecutionException e) {
+        assertEquals("process exited", e.getCause().getMessage());
+      }
+    }
+  }
+}
@@ -16,7 +16,12 @@
  */
 package org.apache.zeppelin.resource;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.Arrays;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -28,6 +33,9 @@ import static org.junit.Assert.assertTrue;
  */
 public class LocalResourcePoolTest {
 
+  @Rule
+  public TemporaryFolder tmpDir = new TemporaryFolder();
+
   @Test
   public void testGetPutResourcePool() {
 
@@ -48,4 +56,46 @@ public class LocalResourcePoolTest {
     assertNotNull(pool.remove("item1"));
     assertNull(pool.remove("item1"));
   }
+
+  @Test
+  public void testSpillResources() {
+    File spillRoot = tmpDir.getRoot();
+    // room for one array on the heap and one off-heap
+    ResourceMemoryManager memoryManager = new ResourceMemoryManager(1000, 1000, 100, spillRoot);
+    LocalResourcePool pool = new LocalResourcePool("pool1", memoryManager);
+    String a = text('a');
+    String b = text('b');
+    String c = text('c');
+    pool.put("small", "value");
+    pool.put("a", a);
+    pool.put("b", b);
+    pool.put("c", c);
+
+    assertTrue(memoryManager.getResidentBytes() <= 1000);
+    assertTrue(memoryManager.getOffHeapBytes() > 0);
+    assertTrue(memoryManager.getDiskBytes() > 0);
+    assertEquals(2, memoryManager.getSpillCount());
+    assertEquals(4, pool.getAll().size());
+    assertEquals("value", pool.get("small").get());
+
+    // spilled resources are loaded back transparently
+    assertEquals(b, pool.get("b").get());
+    assertEquals(a, pool.get("a").get());
+    assertEquals(2, memoryManager.getLoadCount());
+    assertTrue(memoryManager.getResidentBytes() <= 1000);
+    assertEquals(Integer.valueOf(600), pool.get("c").invokeMethod("length"));
+
+    pool.remove("a");
+    pool.remove("b");
+    pool.remove("c");
+    assertEquals(0, memoryManager.getSpilledBytes());
+    memoryManager.close();
+    assertEquals(0, spillRoot.listFiles().length);
+  }
+
+  private static String text(char c) {
+    char[] chars = new char[600];
+    Arrays.fill(chars, c);
+    return new String(chars);
+  }
 }
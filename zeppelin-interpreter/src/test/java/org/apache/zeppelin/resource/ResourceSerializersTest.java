@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.resource;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ResourceSerializersTest {
+
+  @After
+  public void tearDown() {
+    ResourceSerializers.configure(null, null);
+  }
+
+  @Test
+  public void testKryo() throws IOException, ClassNotFoundException {
+    ResourceSerializers.configure("kryo", null);
+    Map<String, Object> map = new HashMap<>();
+    map.put("list", Arrays.asList(1, 2, 3));
+    map.put("unmodifiable", Collections.unmodifiableList(Arrays.asList("a", "b")));
+    Timestamp timestamp = new Timestamp(1000);
+    timestamp.setNanos(123456789);
+    map.put("timestamp", timestamp);
+    map.put("bean", new Bean("zeppelin", 3));
+    map.put("custom", new CustomSerialization("value"));
+
+    ByteBuffer buffer = ResourceSerializers.serialize(map);
+    assertEquals(ResourceSerializers.MAGIC[0], buffer.get(0));
+    assertEquals(KryoResourceSerializer.CONTENT_TYPE, buffer.get(2));
+    assertEquals(map, ResourceSerializers.deserialize(buffer));
+    assertEquals(map, Resource.deserializeObject(Resource.serializeObject(map)));
+  }
+
+  @Test
+  public void testMixedSerializers() throws IOException, ClassNotFoundException {
+    ResourceSerializers.configure("java", null);
+    ByteBuffer javaPayload = ResourceSerializers.serialize(new Bean("java", 1));
+    ResourceSerializers.configure("kryo", null);
+    ByteBuffer kryoPayload = ResourceSerializers.serialize(new Bean("kryo", 2));
+    assertTrue(kryoPayload.remaining() < javaPayload.remaining());
+
+    // a process configured with any serializer reads both
+    assertEquals(new Bean("java", 1), ResourceSerializers.deserialize(javaPayload));
+    ResourceSerializers.configure("java", null);
+    assertEquals(new Bean("kryo", 2), ResourceSerializers.deserialize(kryoPayload));
+
+    // payloads of the versions before the serializers were pluggable
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (ObjectOutputStream oos = new ObjectOutputStream(out)) {
+      oos.writeObject("hello");
+    }
+    assertEquals("hello", ResourceSerializers.deserialize(ByteBuffer.wrap(out.toByteArray())));
+    assertNull(ResourceSerializers.deserialize(ByteBuffer.allocate(0)));
+  }
+
+  @Test
+  public void testUnknownContentType() throws ClassNotFoundException {
+    ByteBuffer buffer = ByteBuffer.wrap(new byte[]{ResourceSerializers.MAGIC[0],
+        ResourceSerializers.MAGIC[1], 42, 0, 0});
+    try {
+      ResourceSerializers.deserialize(buffer);
+      fail("Unknown content type should fail");
+    } catch (IOException e) {
+      assertTrue(e.getMessage().contains("42"));
+    }
+  }
+
+  @Test
+  public void testClassRegistration() throws IOException, ClassNotFoundException {
+    ResourceSerializers.configure("kryo", null);
+    int unregistered = ResourceSerializers.serialize(new Bean("a", 1)).remaining();
+    ResourceSerializers.configure("kryo", "org.apache.zeppelin.NotFound," + Bean.class.getName());
+    ByteBuffer registered = ResourceSerializers.serialize(new Bean("a", 1));
+    // the id of the class is written instead of its name
+    assertTrue(registered.remaining() < unregistered);
+    assertEquals(new Bean("a", 1), ResourceSerializers.deserialize(registered));
+  }
+
+  public static class Bean implements Serializable {
+    private final String name;
+    private final int count;
+    private final List<String> tags;
+
+    public Bean(String name, int count) {
+      this.name = name;
+      this.count = count;
+      this.tags = Arrays.asList(name, String.valueOf(count));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Bean)) {
+        return false;
+      }
+      Bean bean = (Bean) o;
+      return name.equals(bean.name) && count == bean.count && tags.equals(bean.tags);
+    }
+
+    @Override
+    public int hashCode() {
+      return name.hashCode() * 31 + count;
+    }
+  }
+
+  // derives its state in readObject, which Kryo doesn't call
+  public static class CustomSerialization implements Serializable {
+    private final String value;
+    private transient String derived;
+
+    public CustomSerialization(String value) {
+      this.value = value;
+      this.derived = value.toUpperCase();
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+      in.defaultReadObject();
+      derived = value.toUpperCase();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof CustomSerialization
+          && value.equals(((CustomSerialization) o).value)
+          && derived.equals(((CustomSerialization) o).derived);
+    }
+
+    @Override
+    public int hashCode() {
+      return value.hashCode();
+    }
+  }
+}
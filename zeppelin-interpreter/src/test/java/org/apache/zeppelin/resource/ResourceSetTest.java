@@ -18,6 +18,9 @@ package org.apache.zeppelin.resource;
 
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import static org.junit.Assert.assertEquals;
 
 /**
@@ -38,6 +41,22 @@ public class ResourceSetTest {
     assertEquals(2, set.filterByNameRegex("res.*").size());
   }
 
+  @Test
+  public void testFilterByNoteIdOrNames() {
+    ResourceSet set = new ResourceSet();
+
+    set.add(new Resource(null, new ResourceId("pool1", "note1", "paragraph1", "resource1"), "1"));
+    set.add(new Resource(null, new ResourceId("pool1", "note2", "paragraph2", "resource2"), "2"));
+    set.add(new Resource(null, new ResourceId("pool1", "resource3"), "3"));
+
+    assertEquals(1, set.filterByNoteIdOrNames("note1", Collections.emptySet()).size());
+    assertEquals(2,
+        set.filterByNoteIdOrNames("note1", Collections.singleton("resource3")).size());
+    assertEquals(2,
+        set.filterByNoteIdOrNames("note3", Arrays.asList("resource2", "resource3")).size());
+    assertEquals(0, set.filterByNoteIdOrNames("note3", Collections.emptySet()).size());
+  }
+
   @Test
   public void testFilterByClassName() {
     ResourceSet set = new ResourceSet();
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ExecutionTraceTest {
+
+  @Test
+  public void testSpans() throws InterruptedException {
+    ExecutionTrace trace = new ExecutionTrace();
+    try (ExecutionTrace.Span span = trace.start("run")) {
+      Thread.sleep(20);
+    }
+    trace.add("queue", 5);
+    trace.add("queue", 7);
+    trace.max("lag", 10);
+    trace.max("lag", 3);
+
+    assertTrue(trace.getSpan("run") >= 20);
+    assertEquals(12L, (long) trace.getSpan("queue"));
+    assertEquals(10L, (long) trace.getSpan("lag"));
+    assertEquals(Arrays.asList("run", "queue", "lag"),
+        Arrays.asList(trace.getSpans().keySet().toArray()));
+  }
+
+  @Test
+  public void testContext() {
+    ExecutionTrace trace = new ExecutionTrace();
+    ExecutionTrace remote = ExecutionTrace.fromContext(trace.toContext());
+    assertEquals(trace.getTraceId(), remote.getTraceId());
+    assertNull(ExecutionTrace.fromContext(null));
+    assertNull(ExecutionTrace.fromContext(new HashMap<>()));
+
+    Map<String, Long> remoteSpans = new HashMap<>();
+    remoteSpans.put("interpreter.run", 100L);
+    trace.add("interpreter.run", 1);
+    trace.addAll(remoteSpans);
+    assertEquals(101L, (long) trace.getSpan("interpreter.run"));
+  }
+
+  @Test
+  public void testCurrent() {
+    // nothing is traced without a trace
+    try (ExecutionTrace.Span span = ExecutionTrace.startSpan("stage")) {
+      assertNull(ExecutionTrace.current());
+    }
+
+    ExecutionTrace trace = new ExecutionTrace();
+    ExecutionTrace.setCurrent(trace);
+    try {
+      try (ExecutionTrace.Span span = ExecutionTrace.startSpan("stage")) {
+        assertSame(trace, ExecutionTrace.current());
+      }
+      assertEquals(0L, (long) trace.getSpan("stage"));
+    } finally {
+      ExecutionTrace.setCurrent(null);
+    }
+    assertNull(ExecutionTrace.current());
+
+    ExecutionTrace.register("paragraph_1", trace);
+    assertSame(trace, ExecutionTrace.get("paragraph_1"));
+    // a newer run of the paragraph is not unregistered by the older one
+    ExecutionTrace newer = new ExecutionTrace();
+    ExecutionTrace.register("paragraph_1", newer);
+    ExecutionTrace.unregister("paragraph_1", trace);
+    assertSame(newer, ExecutionTrace.get("paragraph_1"));
+    ExecutionTrace.unregister("paragraph_1", newer);
+    assertNull(ExecutionTrace.get("paragraph_1"));
+  }
+}
@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class FairSchedulerTest {
+
+  private final List<String> runs = new CopyOnWriteArrayList<>();
+  private final CountDownLatch release = new CountDownLatch(1);
+  private Scheduler scheduler;
+
+  @After
+  public void tearDown() {
+    release.countDown();
+    if (scheduler != null) {
+      SchedulerFactory.singleton().removeScheduler(scheduler.getName());
+    }
+  }
+
+  private Scheduler createScheduler(String name, Properties properties) {
+    properties.setProperty(FairScheduler.SCHEDULER_PROPERTY, "fair");
+    assertTrue(FairScheduler.isEnabled(properties));
+    Scheduler fifo = SchedulerFactory.singleton().createOrGetFIFOScheduler(name);
+    SchedulerFactory.singleton().removeScheduler(fifo.getName());
+    scheduler = SchedulerFactory.singleton().createOrGetFairScheduler(fifo, properties);
+    assertTrue(scheduler instanceof FairScheduler);
+    return scheduler;
+  }
+
+  // blocks the single worker, so that the next jobs are queued
+  private RecordingJob submitBlockingJob() throws InterruptedException {
+    RecordingJob job = new RecordingJob("blocking", "user1", "note1", JobPriority.INTERACTIVE);
+    job.latch = release;
+    scheduler.submit(job);
+    waitFor(job, Job.Status.RUNNING);
+    return job;
+  }
+
+  private void waitFor(Job job, Job.Status status) throws InterruptedException {
+    long start = System.currentTimeMillis();
+    while (job.getStatus() != status && System.currentTimeMillis() - start < 10_000) {
+      Thread.sleep(10);
+    }
+    assertEquals(status, job.getStatus());
+  }
+
+  @Test
+  public void testFairShare() throws InterruptedException {
+    createScheduler("testFairShare", new Properties());
+    submitBlockingJob();
+    scheduler.submit(new RecordingJob("a1", "user1", "note1", JobPriority.INTERACTIVE));
+    scheduler.submit(new RecordingJob("a2", "user1", "note1", JobPriority.INTERACTIVE));
+    scheduler.submit(new RecordingJob("a3", "user1", "note1", JobPriority.INTERACTIVE));
+    RecordingJob last = new RecordingJob("b1", "user2", "note1", JobPriority.INTERACTIVE);
+    scheduler.submit(last);
+    assertEquals(4, ((FairScheduler) scheduler).getPendingJobs(JobPriority.INTERACTIVE));
+
+    release.countDown();
+    waitFor(last, Job.Status.FINISHED);
+    waitUntilRuns(5);
+    // user2 doesn't wait for all the jobs of user1
+    assertEquals(Arrays.asList("blocking", "a1", "b1", "a2", "a3"), runs);
+  }
+
+  @Test
+  public void testShareByNoteWithWeights() throws InterruptedException {
+    Properties properties = new Properties();
+    properties.setProperty(FairScheduler.SHARE_BY_PROPERTY, "note");
+    properties.setProperty(FairScheduler.WEIGHTS_PROPERTY, "note1:2");
+    createScheduler("testShareByNoteWithWeights", properties);
+    submitBlockingJob();
+    for (int i = 1; i <= 4; i++) {
+      scheduler.submit(new RecordingJob("a" + i, "user1", "note1", JobPriority.INTERACTIVE));
+    }
+    scheduler.submit(new RecordingJob("b1", "user1", "note2", JobPriority.INTERACTIVE));
+    scheduler.submit(new RecordingJob("b2", "user1", "note2", JobPriority.INTERACTIVE));
+
+    release.countDown();
+    waitUntilRuns(7);
+    // note1 runs two jobs for each job of note2
+    assertEquals(Arrays.asList("blocking", "a1", "b1", "a2", "a3", "b2", "a4"), runs);
+  }
+
+  @Test
+  public void testPriority() throws InterruptedException {
+    createScheduler("testPriority", new Properties());
+    submitBlockingJob();
+    scheduler.submit(new RecordingJob("batch", "user1", "note1", JobPriority.BATCH));
+    scheduler.submit(new RecordingJob("cron", "user1", "note1", JobPriority.CRON));
+    scheduler.submit(new RecordingJob("interactive", "user1", "note1",
+        JobPriority.INTERACTIVE));
+
+    release.countDown();
+    waitUntilRuns(4);
+    assertEquals(Arrays.asList("blocking", "interactive", "cron", "batch"), runs);
+
+    Map<JobPriority, long[]> waits = ((FairScheduler) scheduler).drainQueueWaits();
+    assertEquals(2, waits.get(JobPriority.INTERACTIVE)[0]);
+    assertEquals(1, waits.get(JobPriority.CRON)[0]);
+    assertEquals(1, waits.get(JobPriority.BATCH)[0]);
+    assertTrue(((FairScheduler) scheduler).drainQueueWaits().isEmpty());
+  }
+
+  @Test
+  public void testMaxPending() throws InterruptedException {
+    Properties properties = new Properties();
+    properties.setProperty(FairScheduler.MAX_PENDING_PROPERTY, "2");
+    createScheduler("testMaxPending", properties);
+    submitBlockingJob();
+    scheduler.submit(new RecordingJob("a1", "user1", "note1", JobPriority.INTERACTIVE));
+    scheduler.submit(new RecordingJob("a2", "user1", "note1", JobPriority.INTERACTIVE));
+    RecordingJob rejected = new RecordingJob("a3", "user1", "note1", JobPriority.INTERACTIVE);
+    try {
+      scheduler.submit(rejected);
+      fail("The 3rd pending job of user1 should be rejected");
+    } catch (RejectedExecutionException e) {
+      assertTrue(e.getMessage(), e.getMessage().contains("user1"));
+    }
+    assertEquals(Job.Status.READY, rejected.getStatus());
+    assertEquals(1, ((FairScheduler) scheduler).getRejectedJobs());
+    // the other users are not limited by user1
+    scheduler.submit(new RecordingJob("b1", "user2", "note1", JobPriority.INTERACTIVE));
+
+    release.countDown();
+    waitUntilRuns(4);
+    assertFalse(runs.contains("a3"));
+  }
+
+  @Test
+  public void testStop() throws InterruptedException {
+    createScheduler("testStop", new Properties());
+    submitBlockingJob();
+    RecordingJob pending = new RecordingJob("a1", "user1", "note1", JobPriority.INTERACTIVE);
+    scheduler.submit(pending);
+    release.countDown();
+    scheduler.stop(10, TimeUnit.SECONDS);
+    SchedulerFactory.singleton().removeScheduler(scheduler.getName());
+    scheduler = null;
+    // the pending job either ran before the stop, or is aborted
+    assertTrue(pending.getStatus().isCompleted());
+    assertEquals(pending.getStatus() == Job.Status.FINISHED,
+        runs.contains("a1"));
+  }
+
+  @Test
+  public void testParseWeights() {
+    assertEquals(Collections.emptyMap(), FairJobQueue.parseWeights(""));
+    Map<String, Double> weights = FairJobQueue.parseWeights("user1:2, user2 : 0.5");
+    assertEquals(2.0, weights.get("user1"), 0);
+    assertEquals(0.5, weights.get("user2"), 0);
+    try {
+      FairJobQueue.parseWeights("user1:0");
+      fail("Weight should be positive");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+
+  private void waitUntilRuns(int count) throws InterruptedException {
+    long start = System.currentTimeMillis();
+    while (runs.size() < count && System.currentTimeMillis() - start < 10_000) {
+      Thread.sleep(10);
+    }
+    assertEquals(count, runs.size());
+  }
+
+  private class RecordingJob extends Job<Object> {
+    private final String user;
+    private final String noteId;
+    private final JobPriority priority;
+    private CountDownLatch latch;
+    private Object result;
+
+    RecordingJob(String jobName, String user, String noteId, JobPriority priority) {
+      super(jobName, null);
+      this.user = user;
+      this.noteId = noteId;
+      this.priority = priority;
+    }
+
+    @Override
+    public String getUser() {
+      return user;
+    }
+
+    @Override
+    public String getNoteId() {
+      return noteId;
+    }
+
+    @Override
+    public JobPriority getPriority() {
+      return priority;
+    }
+
+    @Override
+    protected Object jobRun() throws Throwable {
+      runs.add(getJobName());
+      if (latch != null) {
+        latch.await(10, TimeUnit.SECONDS);
+      }
+      return null;
+    }
+
+    @Override
+    protected boolean jobAbort() {
+      return true;
+    }
+
+    @Override
+    public void setResult(Object result) {
+      this.result = result;
+    }
+
+    @Override
+    public Object getReturn() {
+      return result;
+    }
+
+    @Override
+    public int progress() {
+      return 0;
+    }
+
+    @Override
+    public Map<String, Object> info() {
+      return null;
+    }
+  }
+}
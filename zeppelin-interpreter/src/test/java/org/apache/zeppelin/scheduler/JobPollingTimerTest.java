@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class JobPollingTimerTest {
+
+  private JobPollingTimer timer;
+
+  @Before
+  public void setUp() {
+    timer = new JobPollingTimer(10, 8);
+  }
+
+  @After
+  public void tearDown() {
+    timer.shutdown();
+  }
+
+  @Test
+  public void testPollUntilCancelled() throws InterruptedException {
+    AtomicInteger count = new AtomicInteger();
+    // longer than one turn of the wheel
+    JobPollingTimer.Registration registration = timer.schedule(count::incrementAndGet, 100);
+    Thread.sleep(550);
+    registration.cancel();
+    int polled = count.get();
+    assertTrue("polled " + polled + " times", polled >= 3 && polled <= 6);
+    Thread.sleep(250);
+    assertEquals(polled, count.get());
+  }
+
+  @Test
+  public void testBatch() throws InterruptedException {
+    List<List<JobPollingTimer.PollTask>> batches = Collections.synchronizedList(new ArrayList<>());
+    JobPollingTimer.PollBatch batch = tasks -> batches.add(new ArrayList<>(tasks));
+    List<JobPollingTimer.Registration> registrations = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      registrations.add(timer.schedule(new JobPollingTimer.PollTask() {
+        @Override
+        public JobPollingTimer.PollBatch getBatch() {
+          return batch;
+        }
+
+        @Override
+        public void poll() {
+        }
+      }, 50));
+    }
+    Thread.sleep(180);
+    for (JobPollingTimer.Registration registration : registrations) {
+      registration.cancel();
+    }
+    assertTrue(batches.size() >= 2);
+    // the tasks with the same interval are due in the same tick
+    for (List<JobPollingTimer.PollTask> tasks : batches) {
+      assertEquals(10, tasks.size());
+    }
+  }
+
+  @Test
+  public void testJobProgressPoller() throws InterruptedException {
+    List<Integer> updates = Collections.synchronizedList(new ArrayList<>());
+    JobListener listener = new JobListener() {
+      @Override
+      public void onProgressUpdate(Job job, int progress) {
+        updates.add(progress);
+      }
+
+      @Override
+      public void onStatusChange(Job job, Job.Status before, Job.Status after) {
+      }
+    };
+    Job<Object> job = new JobWithProgressPoller<Object>("job1", "job1", listener, 50) {
+      @Override
+      public Object getReturn() {
+        return null;
+      }
+
+      @Override
+      public int progress() {
+        return 50;
+      }
+
+      @Override
+      public Map<String, Object> info() {
+        return null;
+      }
+
+      @Override
+      protected Object jobRun() throws Throwable {
+        Thread.sleep(500);
+        return null;
+      }
+
+      @Override
+      protected boolean jobAbort() {
+        return false;
+      }
+
+      @Override
+      public void setResult(Object result) {
+      }
+    };
+    job.setStatus(Job.Status.RUNNING);
+    job.run();
+    assertTrue(updates.size() >= 5);
+    assertEquals(50, (int) updates.get(0));
+    int received = updates.size();
+    Thread.sleep(200);
+    // the poller is stopped once the job is done
+    assertEquals(received, updates.size());
+  }
+}
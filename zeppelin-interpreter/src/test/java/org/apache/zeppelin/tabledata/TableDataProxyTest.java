@@ -22,10 +22,18 @@ import org.apache.zeppelin.resource.LocalResourcePool;
 import org.junit.Before;
 import org.junit.Test;
 
-import java.util.Iterator;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class TableDataProxyTest {
   private LocalResourcePool pool;
@@ -51,16 +59,113 @@ public class TableDataProxyTest {
     assertEquals("key", cols[0].name());
     assertEquals("value", cols[1].name());
 
-    Iterator<Row> it = proxy.rows();
-    Row row = it.next();
-    assertEquals(2, row.get().length);
-    assertEquals("sun", row.get()[0]);
-    assertEquals("100", row.get()[1]);
+    try (ProxyRowIterator it = proxy.rows()) {
+      Row row = it.next();
+      assertEquals(2, row.get().length);
+      assertEquals("sun", row.get()[0]);
+      assertEquals("100", row.get()[1]);
 
-    row = it.next();
-    assertEquals("moon", row.get()[0]);
-    assertEquals("200", row.get()[1]);
+      row = it.next();
+      assertEquals("moon", row.get()[0]);
+      assertEquals("200", row.get()[1]);
 
-    assertFalse(it.hasNext());
+      assertFalse(it.hasNext());
+    }
+  }
+
+  @Test
+  public void testProxyTableInBatches() {
+    StringBuilder data = new StringBuilder("key\tvalue\n");
+    for (int i = 0; i < 5; i++) {
+      data.append("key").append(i).append("\t").append(i).append("\n");
+    }
+    InterpreterResultTableData table = new InterpreterResultTableData(
+        new InterpreterResultMessage(InterpreterResult.Type.TABLE, data.toString()));
+    pool.put("table", table);
+
+    TableDataProxy proxy = new TableDataProxy(pool.get("table"), 2);
+    try (ProxyRowIterator it = proxy.rows()) {
+      for (int i = 0; i < 5; i++) {
+        assertTrue(it.hasNext());
+        Row row = it.next();
+        assertEquals("key" + i, row.get()[0]);
+        assertEquals(String.valueOf(i), row.get()[1]);
+      }
+      assertFalse(it.hasNext());
+      // the cursor is released once all the rows are read
+      assertEquals(0, TableDataCursor.openCursors());
+    }
+  }
+
+  @Test
+  public void testProxyTableClosedEarly() throws InterruptedException {
+    StringBuilder data = new StringBuilder("key\tvalue\n");
+    for (int i = 0; i < 10; i++) {
+      data.append("key").append(i).append("\t").append(i).append("\n");
+    }
+    pool.put("table", new InterpreterResultTableData(
+        new InterpreterResultMessage(InterpreterResult.Type.TABLE, data.toString())));
+
+    TableDataProxy proxy = new TableDataProxy(pool.get("table"), 2);
+    try (ProxyRowIterator it = proxy.rows()) {
+      assertEquals("key0", it.next().get()[0]);
+      assertEquals(1, TableDataCursor.openCursors());
+    }
+    // released once the prefetch in progress is done
+    long start = System.currentTimeMillis();
+    while (TableDataCursor.openCursors() > 0 && System.currentTimeMillis() - start < 10_000) {
+      Thread.sleep(10);
+    }
+    assertEquals(0, TableDataCursor.openCursors());
+  }
+
+  @Test
+  public void testProxyTableFetchFailure() {
+    List<String> closedCursors = new ArrayList<>();
+    AtomicInteger fetches = new AtomicInteger();
+    InterpreterResultTableData table = new InterpreterResultTableData(
+        new InterpreterResultMessage(InterpreterResult.Type.TABLE, "key\nk0\nk1\nk2\n")) {
+      @Override
+      public byte[] fetchRows(String cursorId, Integer maxRows) throws IOException {
+        if (fetches.incrementAndGet() > 1) {
+          throw new IOException("lost connection");
+        }
+        return super.fetchRows(cursorId, maxRows);
+      }
+
+      @Override
+      public void closeRows(String cursorId) {
+        closedCursors.add(cursorId);
+        super.closeRows(cursorId);
+      }
+    };
+    pool.put("table", table);
+
+    TableDataProxy proxy = new TableDataProxy(pool.get("table"), 2);
+    try (ProxyRowIterator it = proxy.rows()) {
+      assertEquals("k0", it.next().get()[0]);
+      assertEquals("k1", it.next().get()[0]);
+      // the rows are not silently truncated
+      it.hasNext();
+      fail("Expect a fetch failure");
+    } catch (IllegalStateException e) {
+      assertTrue(e.getMessage().startsWith("Fail to fetch rows"));
+    }
+    assertEquals(1, closedCursors.size());
+    assertEquals(0, TableDataCursor.openCursors());
+  }
+
+  @Test
+  public void testRowBatchEncoding() throws Exception {
+    List<Row> rows = Arrays.asList(
+        new Row(new Object[]{"text", 1, 2L, 3.5, true, null}),
+        new Row(new Object[]{new Date(1000), "\u00e9t\u00e9"}));
+
+    TableDataCursor.RowBatch batch =
+        TableDataCursor.decode(TableDataCursor.encode(rows, true));
+    assertTrue(batch.hasMore);
+    assertEquals(2, batch.rows.size());
+    assertArrayEquals(rows.get(0).get(), batch.rows.get(0).get());
+    assertArrayEquals(rows.get(1).get(), batch.rows.get(1).get());
   }
 }
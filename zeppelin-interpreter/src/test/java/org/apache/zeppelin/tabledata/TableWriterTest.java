@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.tabledata;
+
+import org.apache.zeppelin.interpreter.InterpreterOutput;
+import org.apache.zeppelin.interpreter.InterpreterOutputListener;
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
+import org.apache.zeppelin.interpreter.InterpreterResultMessageOutput;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TableWriterTest {
+
+  @Test
+  public void testWriteRows() throws IOException {
+    InterpreterOutput out = new InterpreterOutput(null);
+    out.write("some text\n");
+    TableWriter writer = new TableWriter(out, 10, "max.rows")
+        .addColumn("name")
+        .addColumn("age", ColumnDef.TYPE.INT);
+    writer.setExpectedRows(4);
+    assertTrue(writer.addRow("a\tb", 1));
+    assertTrue(writer.addRow(Arrays.asList(null, 2)));
+    assertEquals(2, writer.getRowCount());
+    assertEquals(50, writer.getProgress());
+    writer.close();
+
+    List<InterpreterResultMessage> messages = out.toInterpreterResultMessage();
+    assertEquals(2, messages.size());
+    assertEquals(InterpreterResult.Type.TABLE, messages.get(1).getType());
+    assertEquals("name\tage\na b\t1\nnull\t2\n", messages.get(1).getData());
+    assertFalse(writer.isLimitExceeded());
+  }
+
+  @Test
+  public void testMaxRows() throws IOException {
+    InterpreterOutput out = new InterpreterOutput(null);
+    TableWriter writer = new TableWriter(out, 2, "max.rows").addColumn("id");
+    assertTrue(writer.addRow(1));
+    assertTrue(writer.addRow(2));
+    assertFalse(writer.addRow(3));
+    assertTrue(writer.isLimitExceeded());
+    assertEquals(100, writer.getProgress());
+    writer.close();
+
+    List<InterpreterResultMessage> messages = out.toInterpreterResultMessage();
+    assertEquals(2, messages.size());
+    assertEquals("id\n1\n2\n", messages.get(0).getData());
+    assertEquals(InterpreterResult.Type.HTML, messages.get(1).getType());
+    assertTrue(messages.get(1).getData().contains("max.rows"));
+  }
+
+  @Test
+  public void testEmptyTableAndNextTable() throws IOException {
+    InterpreterOutput out = new InterpreterOutput(null);
+    TableWriter first = new TableWriter(out, 10, "max.rows").addColumn("a").addColumn("b");
+    first.close();
+    TableWriter second = new TableWriter(out, 10, "max.rows").addColumn("c");
+    second.addRow("x");
+    second.close();
+
+    List<InterpreterResultMessage> messages = out.toInterpreterResultMessage();
+    assertEquals(2, messages.size());
+    assertEquals("a\tb\n", messages.get(0).getData());
+    assertEquals("c\nx\n", messages.get(1).getData());
+  }
+
+  @Test
+  public void testFlush() throws IOException {
+    AtomicInteger tableUpdates = new AtomicInteger();
+    InterpreterOutput out = new InterpreterOutput(new InterpreterOutputListener() {
+      @Override
+      public void onUpdateAll(InterpreterOutput out) {
+      }
+
+      @Override
+      public void onAppend(int index, InterpreterResultMessageOutput out, byte[] line) {
+      }
+
+      @Override
+      public void onUpdate(int index, InterpreterResultMessageOutput out) {
+        if (out.getType() == InterpreterResult.Type.TABLE) {
+          tableUpdates.incrementAndGet();
+        }
+      }
+    });
+    out.setEnableTableAppend(false);
+    TableWriter writer = new TableWriter(out, TableWriter.FLUSH_ROWS * 2, "max.rows")
+        .addColumn("id");
+    for (int i = 0; i < TableWriter.FLUSH_ROWS - 1; i++) {
+      writer.addRow(i);
+    }
+    int updates = tableUpdates.get();
+    writer.addRow(TableWriter.FLUSH_ROWS);
+    assertEquals(updates + 1, tableUpdates.get());
+    // the rows since the last flush are sent on close
+    writer.addRow(-1);
+    writer.close();
+    assertEquals(updates + 2, tableUpdates.get());
+  }
+}
@@ -171,6 +171,7 @@ public class K8sStandardInterpreterLauncher extends InterpreterLauncher {
       }
     }
     env.put("INTERPRETER_GROUP_ID", context.getInterpreterGroupId());
+    setRpcTransportEnv(env);
     return env;
   }
 
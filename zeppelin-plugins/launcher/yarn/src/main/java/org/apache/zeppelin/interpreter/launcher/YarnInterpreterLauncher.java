@@ -59,6 +59,7 @@ public class YarnInterpreterLauncher extends InterpreterLauncher {
       }
     }
     env.put("INTERPRETER_GROUP_ID", context.getInterpreterGroupId());
+    setRpcTransportEnv(env);
     env.put("ZEPPELIN_INTERPRETER_LAUNCHER", "yarn");
     return env;
   }
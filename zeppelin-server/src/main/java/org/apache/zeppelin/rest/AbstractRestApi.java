@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.util.Set;
 import javax.ws.rs.WebApplicationException;
 
+import org.apache.zeppelin.scheduler.JobPriority;
 import org.apache.zeppelin.service.AuthenticationService;
 import org.apache.zeppelin.service.ServiceContext;
 import org.apache.zeppelin.service.SimpleServiceCallback;
@@ -40,7 +41,10 @@ public class AbstractRestApi {
     Set<String> userAndRoles = Sets.newHashSet();
     userAndRoles.add(authenticationService.getPrincipal());
     userAndRoles.addAll(authenticationService.getAssociatedRoles());
-    return new ServiceContext(authInfo, userAndRoles);
+    ServiceContext context = new ServiceContext(authInfo, userAndRoles);
+    // paragraphs run through the REST api are batch jobs
+    context.setJobPriority(JobPriority.BATCH);
+    return context;
   }
 
   public static class RestServiceCallback<T> extends SimpleServiceCallback<T> {
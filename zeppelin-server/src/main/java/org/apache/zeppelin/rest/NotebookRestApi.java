@@ -63,6 +63,7 @@ import org.apache.zeppelin.rest.message.ParagraphJobStatus;
 import org.apache.zeppelin.rest.message.RenameNoteRequest;
 import org.apache.zeppelin.rest.message.ParametersRequest;
 import org.apache.zeppelin.rest.message.UpdateParagraphRequest;
+import org.apache.zeppelin.scheduler.JobPriority;
 import org.apache.zeppelin.search.SearchService;
 import org.apache.zeppelin.server.JsonResponse;
 import org.apache.zeppelin.service.AuthenticationService;
@@ -739,7 +740,7 @@ public class NotebookRestApi extends AbstractRestApi {
     checkIfUserCanRun(noteId, "Insufficient privileges you cannot run job for this note");
 
     //TODO(zjffdu), can we run a note via rest api when cron is enabled ?
-    note.runAll(subject, blocking, isolated, params);
+    note.runAll(subject, blocking, isolated, params, JobPriority.BATCH);
     return new JsonResponse<>(Status.OK).build();
   }
 
@@ -317,6 +317,7 @@ public class ZeppelinServer extends ResourceConfig {
                   jettyWebServer.stop();
                 }
                 if (sharedServiceLocator != null) {
+                  sharedServiceLocator.getService(SchedulerService.class).close();
                   if (!conf.isRecoveryEnabled()) {
                     sharedServiceLocator.getService(InterpreterSettingManager.class).close();
                   }
@@ -438,6 +439,8 @@ public class ZeppelinServer extends ResourceConfig {
 
       NotebookServer notebookServer = serviceLocator.getService(NotebookServer.class);
       clusterManagerServer.addClusterEventListeners(ClusterManagerServer.CLUSTER_NOTE_EVENT_TOPIC, notebookServer);
+      clusterManagerServer.addClusterBinaryEventListeners(
+          ClusterManagerServer.CLUSTER_NOTE_DELTA_EVENT_TOPIC, notebookServer);
 
       AuthorizationService authorizationService = serviceLocator.getService(AuthorizationService.class);
       clusterManagerServer.addClusterEventListeners(ClusterManagerServer.CLUSTER_AUTH_EVENT_TOPIC, authorizationService);
@@ -365,7 +365,8 @@ public class NotebookService {
 
     try {
       notebook.saveNote(note, context.getAutheInfo());
-      note.run(p.getId(), sessionId, blocking, context.getAutheInfo().getUser());
+      note.run(p.getId(), sessionId, blocking, context.getAutheInfo().getUser(),
+          context.getJobPriority());
       callback.onSuccess(p, context);
       return true;
     } catch (Exception ex) {
@@ -442,7 +443,8 @@ public class NotebookService {
     } else {
       try {
         // run note directly when parameter `paragraphs` is null.
-        note.runAll(context.getAutheInfo(), true, false, new HashMap<>());
+        note.runAll(context.getAutheInfo(), true, false, new HashMap<>(),
+            context.getJobPriority());
         return true;
       } catch (Exception e) {
         LOGGER.warn("Fail to run note: " + note.getName(), e);
@@ -18,6 +18,7 @@
 
 package org.apache.zeppelin.service;
 
+import org.apache.zeppelin.scheduler.JobPriority;
 import org.apache.zeppelin.user.AuthenticationInfo;
 
 import java.util.Set;
@@ -29,6 +30,7 @@ public class ServiceContext {
 
   private AuthenticationInfo autheInfo;
   private Set<String> userAndRoles;
+  private JobPriority jobPriority = JobPriority.INTERACTIVE;
 
   public ServiceContext(AuthenticationInfo authInfo, Set<String> userAndRoles) {
     this.autheInfo = authInfo;
@@ -42,4 +44,16 @@ public class ServiceContext {
   public Set<String> getUserAndRoles() {
     return userAndRoles;
   }
+
+  /**
+   * Priority of the paragraphs run by this call, in the interpreters using the fair scheduler.
+   */
+  public JobPriority getJobPriority() {
+    // null when deserialized from a context without it
+    return jobPriority != null ? jobPriority : JobPriority.INTERACTIVE;
+  }
+
+  public void setJobPriority(JobPriority jobPriority) {
+    this.jobPriority = jobPriority;
+  }
 }
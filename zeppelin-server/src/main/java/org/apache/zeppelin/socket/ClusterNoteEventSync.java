@@ -0,0 +1,441 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.socket;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.apache.zeppelin.cluster.event.ClusterBinaryEventListener;
+import org.apache.zeppelin.cluster.event.ClusterNoteEvent;
+import org.apache.zeppelin.cluster.event.ClusterNoteEventCodec;
+import org.apache.zeppelin.cluster.event.JsonDelta;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.Paragraph;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Synchronize the notes shown by the zeppelin servers of a cluster.
+ *
+ * Instead of sending the whole note for every paragraph update, the changes are queued and
+ * sent once per tick as the delta between what was last sent and the current state of each
+ * paragraph. The events of a note are numbered, a peer which detects a gap (or which has no
+ * state for the paragraph) asks the sender for a snapshot of the note.
+ */
+public class ClusterNoteEventSync implements ClusterBinaryEventListener {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ClusterNoteEventSync.class);
+
+  static final long FLUSH_INTERVAL_MS = 100;
+  // time to wait for a snapshot before asking again
+  static final long RESYNC_TIMEOUT_MS = 5000;
+  private static final int MAX_TRACKED_NOTES = 1000;
+
+  /**
+   * Broadcast the notes received from the peers to the local websocket connections.
+   */
+  interface NoteBroadcaster {
+    void broadcastNote(Note note);
+
+    void broadcastParagraph(Note note, Paragraph paragraph, String msgId);
+
+    void broadcastNewParagraph(Note note, Paragraph paragraph, int index);
+
+    Note getNote(String noteId) throws IOException;
+  }
+
+  private enum PendingType {
+    NOTE,
+    PARAGRAPH,
+    NEW_PARAGRAPH,
+    RESYNC
+  }
+
+  private static class PendingEvent {
+    private final PendingType type;
+    private final String noteId;
+    // key in the pending queue, an event replaces the pending one with the same key
+    private String key;
+    private Note note;
+    private Paragraph paragraph;
+    private String msgId;
+    private String targetNodeId;
+
+    PendingEvent(PendingType type, String noteId) {
+      this.type = type;
+      this.noteId = noteId;
+    }
+  }
+
+  /**
+   * What was last sent for a note, or what was last received from a peer.
+   */
+  private static class NoteState {
+    private long version;
+    private JsonObject header;
+    private Note headerNote;
+    private final Map<String, JsonObject> paragraphs = new HashMap<>();
+    private long resyncRequestTime = -1;
+  }
+
+  private final String nodeId = UUID.randomUUID().toString();
+  private final NoteBroadcaster broadcaster;
+  private final Consumer<byte[]> transport;
+  private final ScheduledExecutorService flushExecutor;
+
+  private final Map<String, PendingEvent> pending = new LinkedHashMap<>();
+  private final Map<String, NoteState> sentNotes = createLruMap();
+  private final Map<String, NoteState> receivedNotes = createLruMap();
+
+  /**
+   * @param transport sends a frame to all the other servers of the cluster
+   */
+  ClusterNoteEventSync(NoteBroadcaster broadcaster, Consumer<byte[]> transport) {
+    this.broadcaster = broadcaster;
+    this.transport = transport;
+    this.flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "ClusterNoteEventSync-flush");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  void start() {
+    flushExecutor.scheduleWithFixedDelay(() -> {
+      try {
+        flush();
+      } catch (Exception e) {
+        LOGGER.error("Fail to send the cluster note events", e);
+      }
+    }, FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+  }
+
+  void stop() {
+    flushExecutor.shutdownNow();
+  }
+
+  String getNodeId() {
+    return nodeId;
+  }
+
+  private static <V> Map<String, V> createLruMap() {
+    return new LinkedHashMap<String, V>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+        return size() > MAX_TRACKED_NOTES;
+      }
+    };
+  }
+
+  public synchronized void noteChanged(Note note) {
+    // the snapshot contains the paragraphs, their pending updates are not needed anymore
+    Iterator<PendingEvent> it = pending.values().iterator();
+    while (it.hasNext()) {
+      PendingEvent event = it.next();
+      if (event.noteId.equals(note.getId()) && event.type != PendingType.RESYNC) {
+        it.remove();
+      }
+    }
+    PendingEvent event = new PendingEvent(PendingType.NOTE, note.getId());
+    event.note = note;
+    enqueue("note:" + note.getId(), event);
+  }
+
+  public synchronized void paragraphChanged(Note note, Paragraph paragraph, String msgId) {
+    if (pending.containsKey("note:" + note.getId())) {
+      return;
+    }
+    // several updates of a paragraph in the same tick are sent as one delta
+    PendingEvent event = new PendingEvent(PendingType.PARAGRAPH, note.getId());
+    event.note = note;
+    event.paragraph = paragraph;
+    event.msgId = msgId;
+    enqueue("paragraph:" + paragraph.getId(), event);
+  }
+
+  public synchronized void paragraphAdded(Note note, Paragraph paragraph) {
+    if (pending.containsKey("note:" + note.getId())) {
+      return;
+    }
+    PendingEvent event = new PendingEvent(PendingType.NEW_PARAGRAPH, note.getId());
+    event.note = note;
+    event.paragraph = paragraph;
+    enqueue("new-paragraph:" + paragraph.getId(), event);
+  }
+
+  private synchronized void requestResync(String senderId, String noteId) {
+    PendingEvent event = new PendingEvent(PendingType.RESYNC, noteId);
+    event.targetNodeId = senderId;
+    enqueue("resync:" + senderId + ":" + noteId, event);
+  }
+
+  private void enqueue(String key, PendingEvent event) {
+    event.key = key;
+    pending.put(key, event);
+  }
+
+  /**
+   * Send the events queued since the last tick in one frame.
+   */
+  void flush() throws IOException {
+    List<ClusterNoteEvent> events = new ArrayList<>();
+    synchronized (this) {
+      if (pending.isEmpty()) {
+        return;
+      }
+      List<PendingEvent> batch = new ArrayList<>(pending.values());
+      pending.clear();
+      for (PendingEvent pendingEvent : batch) {
+        try {
+          ClusterNoteEvent event = toClusterNoteEvent(pendingEvent);
+          if (event != null) {
+            events.add(event);
+          }
+        } catch (RuntimeException e) {
+          // the note may be modified while it is serialized, retry on the next tick
+          LOGGER.warn("Fail to serialize the cluster event of note {}, retry later",
+              pendingEvent.noteId, e);
+          pending.putIfAbsent(pendingEvent.key, pendingEvent);
+        }
+      }
+    }
+    if (!events.isEmpty()) {
+      transport.accept(ClusterNoteEventCodec.encode(nodeId, events));
+    }
+  }
+
+  private ClusterNoteEvent toClusterNoteEvent(PendingEvent pendingEvent) {
+    String noteId = pendingEvent.noteId;
+    if (pendingEvent.type == PendingType.RESYNC) {
+      return ClusterNoteEvent.resyncRequest(noteId, pendingEvent.targetNodeId);
+    }
+
+    NoteState state = sentNotes.get(noteId);
+    long version = state == null ? 1 : state.version + 1;
+    ClusterNoteEvent event;
+    if (pendingEvent.type == PendingType.NOTE) {
+      String noteJson = pendingEvent.note.toJson();
+      state = new NoteState();
+      readSnapshot(state, noteJson);
+      event = ClusterNoteEvent.snapshot(noteId, noteJson);
+    } else {
+      if (state == null) {
+        state = new NoteState();
+      }
+      JsonObject header = noteHeader(pendingEvent.note);
+      List<JsonDelta.Op> noteOps = JsonDelta.diff(
+          state.header == null ? new JsonObject() : state.header, header);
+
+      Paragraph paragraph = pendingEvent.paragraph;
+      JsonObject paragraphJson = JsonParser.parseString(paragraph.toJson()).getAsJsonObject();
+      JsonObject previous = state.paragraphs.get(paragraph.getId());
+      boolean full = previous == null;
+      List<JsonDelta.Op> paragraphOps =
+          JsonDelta.diff(full ? new JsonObject() : previous, paragraphJson);
+      if (pendingEvent.type == PendingType.PARAGRAPH && !full
+          && noteOps.isEmpty() && paragraphOps.isEmpty()) {
+        // nothing changed since the last event
+        return null;
+      }
+
+      int index = pendingEvent.type == PendingType.NEW_PARAGRAPH ?
+          pendingEvent.note.getParagraphs().indexOf(paragraph) : -1;
+      ClusterNoteEvent.Type type = pendingEvent.type == PendingType.NEW_PARAGRAPH ?
+          ClusterNoteEvent.Type.NEW_PARAGRAPH : ClusterNoteEvent.Type.PARAGRAPH_DELTA;
+      event = ClusterNoteEvent.paragraph(type, noteId, paragraph.getId(),
+          pendingEvent.msgId, index, full, noteOps, paragraphOps);
+      state.header = header;
+      state.paragraphs.put(paragraph.getId(), paragraphJson);
+    }
+    state.version = version;
+    sentNotes.put(noteId, state);
+    event.setVersion(version);
+    return event;
+  }
+
+  /**
+   * The fields of the note which are needed to broadcast a paragraph, so that the peers
+   * don't need the whole note.
+   */
+  static JsonObject noteHeader(Note note) {
+    Gson gson = Note.getGSON();
+    JsonObject header = new JsonObject();
+    header.addProperty("id", note.getId());
+    header.addProperty("name", note.getName());
+    header.add("config", gson.toJsonTree(note.getConfig()));
+    header.add("noteParams", gson.toJsonTree(note.getNoteParams()));
+    header.add("noteForms", gson.toJsonTree(note.getNoteForms()));
+    return header;
+  }
+
+  private static void readSnapshot(NoteState state, String noteJson) {
+    JsonObject noteObject = JsonParser.parseString(noteJson).getAsJsonObject();
+    JsonElement paragraphs = noteObject.remove("paragraphs");
+    if (paragraphs != null && paragraphs.isJsonArray()) {
+      for (JsonElement paragraph : (JsonArray) paragraphs) {
+        JsonObject paragraphObject = paragraph.getAsJsonObject();
+        state.paragraphs.put(paragraphObject.get("id").getAsString(), paragraphObject);
+      }
+    }
+    JsonObject header = new JsonObject();
+    for (String key : new String[]{"id", "name", "config", "noteParams", "noteForms"}) {
+      if (noteObject.has(key)) {
+        header.add(key, noteObject.get(key));
+      }
+    }
+    state.header = header;
+  }
+
+  @Override
+  public void onClusterEvent(byte[] msg) {
+    ClusterNoteEventCodec.Frame frame;
+    try {
+      frame = ClusterNoteEventCodec.decode(msg);
+    } catch (IOException e) {
+      LOGGER.error("Fail to decode the cluster note events", e);
+      return;
+    }
+    if (nodeId.equals(frame.senderId)) {
+      return;
+    }
+    for (ClusterNoteEvent event : frame.events) {
+      try {
+        onClusterNoteEvent(frame.senderId, event);
+      } catch (Exception e) {
+        LOGGER.error("Fail to handle the cluster event {} of note {}",
+            event.getType(), event.getNoteId(), e);
+      }
+    }
+  }
+
+  private void onClusterNoteEvent(String senderId, ClusterNoteEvent event) throws IOException {
+    switch (event.getType()) {
+      case RESYNC_REQUEST:
+        if (nodeId.equals(event.getTargetNodeId())) {
+          Note note = broadcaster.getNote(event.getNoteId());
+          if (note != null) {
+            LOGGER.info("Send a snapshot of note {} requested by a peer", event.getNoteId());
+            noteChanged(note);
+          }
+        }
+        break;
+      case NOTE_SNAPSHOT:
+        onSnapshot(senderId, event);
+        break;
+      default:
+        onParagraphEvent(senderId, event);
+        break;
+    }
+  }
+
+  private void onSnapshot(String senderId, ClusterNoteEvent event) throws IOException {
+    Note note = Note.fromJson(event.getNoteJson());
+    NoteState state = new NoteState();
+    readSnapshot(state, event.getNoteJson());
+    state.headerNote = note;
+    state.version = event.getVersion();
+    synchronized (receivedNotes) {
+      receivedNotes.put(senderId + ":" + event.getNoteId(), state);
+    }
+    broadcaster.broadcastNote(note);
+  }
+
+  private void onParagraphEvent(String senderId, ClusterNoteEvent event) throws IOException {
+    String key = senderId + ":" + event.getNoteId();
+    Note note;
+    Paragraph paragraph;
+    synchronized (receivedNotes) {
+      NoteState state = receivedNotes.get(key);
+      if (state == null && event.getVersion() == 1) {
+        // first event of a new note
+        state = new NoteState();
+        receivedNotes.put(key, state);
+      }
+      if (state == null || state.resyncRequestTime >= 0
+          || event.getVersion() != state.version + 1) {
+        resync(senderId, key, state, event);
+        return;
+      }
+
+      try {
+        if (!event.getNoteOps().isEmpty()) {
+          JsonObject header = state.header == null ? new JsonObject() : state.header.deepCopy();
+          JsonDelta.apply(header, event.getNoteOps());
+          state.header = header;
+          state.headerNote = Note.fromJson(header.toString());
+        }
+        JsonObject paragraphJson = event.isFull() ?
+            new JsonObject() : state.paragraphs.get(event.getParagraphId());
+        if (paragraphJson == null) {
+          resync(senderId, key, state, event);
+          return;
+        }
+        JsonDelta.apply(paragraphJson, event.getParagraphOps());
+        state.paragraphs.put(event.getParagraphId(), paragraphJson);
+        paragraph = Paragraph.fromJson(paragraphJson.toString());
+      } catch (IllegalArgumentException e) {
+        LOGGER.warn("Fail to apply the delta of paragraph {}", event.getParagraphId(), e);
+        resync(senderId, key, state, event);
+        return;
+      }
+      state.version = event.getVersion();
+
+      note = state.headerNote != null ? state.headerNote : broadcaster.getNote(event.getNoteId());
+      if (note == null) {
+        resync(senderId, key, state, event);
+        return;
+      }
+    }
+
+    if (event.getType() == ClusterNoteEvent.Type.NEW_PARAGRAPH) {
+      broadcaster.broadcastNewParagraph(note, paragraph, event.getIndex());
+    } else {
+      broadcaster.broadcastParagraph(note, paragraph, event.getMsgId());
+    }
+  }
+
+  private void resync(String senderId, String key, NoteState state, ClusterNoteEvent event) {
+    long now = System.currentTimeMillis();
+    if (state == null) {
+      state = new NoteState();
+      receivedNotes.put(key, state);
+    }
+    if (state.resyncRequestTime >= 0 && now - state.resyncRequestTime < RESYNC_TIMEOUT_MS) {
+      // already waiting for a snapshot
+      return;
+    }
+    LOGGER.info("Missing cluster events of note {} (got version {}, expected {}), " +
+        "request a snapshot", event.getNoteId(), event.getVersion(), state.version + 1);
+    state.resyncRequestTime = now;
+    requestResync(senderId, event.getNoteId());
+  }
+}
@@ -66,6 +66,8 @@ public class ConnectionManager {
       .setPrettyPrinting()
       .registerTypeAdapterFactory(Input.TypeAdapterFactory).create();
 
+  private final NotebookFrameEncoder frameEncoder = new NotebookFrameEncoder(gson);
+
   final Queue<NotebookSocket> connectedSockets = new ConcurrentLinkedQueue<>();
   // noteId -> connection
   final Map<String, List<NotebookSocket>> noteSocketMap = new HashMap<>();
@@ -106,6 +108,7 @@ public class ConnectionManager {
     synchronized (noteSocketMap) {
       // make sure a socket relates only an single note.
       removeConnectionFromAllNote(socket);
+      socket.resetFrameVersions(null);
       List<NotebookSocket> socketList = noteSocketMap.get(noteId);
       if (socketList == null) {
         socketList = new LinkedList<>();
@@ -220,10 +223,11 @@ public class ConnectionManager {
   }
 
   public void broadcast(Message m) {
+    NotebookFrameEncoder.Encoded encoded = frameEncoder.encode(m, null);
     synchronized (connectedSockets) {
       for (NotebookSocket ns : connectedSockets) {
         try {
-          ns.send(serializeMessage(m));
+          encoded.sendTo(ns);
         } catch (IOException | WebSocketException e) {
           LOGGER.error("Send error: " + m, e);
         }
@@ -242,9 +246,10 @@ public class ConnectionManager {
       socketsToBroadcast = new ArrayList<>(socketLists);
     }
     LOGGER.debug("SEND >> " + m);
+    NotebookFrameEncoder.Encoded encoded = frameEncoder.encode(m, null);
     for (NotebookSocket conn : socketsToBroadcast) {
       try {
-        conn.send(serializeMessage(m));
+        encoded.sendTo(conn);
       } catch (IOException | WebSocketException e) {
         LOGGER.error("socket error", e);
       }
@@ -280,12 +285,13 @@ public class ConnectionManager {
     }
 
     LOGGER.debug("SEND >> " + m);
+    NotebookFrameEncoder.Encoded encoded = frameEncoder.encode(m, null);
     for (NotebookSocket conn : socketsToBroadcast) {
       if (exclude.equals(conn)) {
         continue;
       }
       try {
-        conn.send(serializeMessage(m));
+        encoded.sendTo(conn);
       } catch (IOException | WebSocketException e) {
         LOGGER.error("socket error", e);
       }
@@ -330,14 +336,19 @@ public class ConnectionManager {
       return;
     }
 
+    NotebookFrameEncoder.Encoded encoded = frameEncoder.encode(m, user);
     for (NotebookSocket conn : userSocketMap.get(user)) {
-      unicast(m, conn);
+      unicast(encoded, m, conn);
     }
   }
 
   public void unicast(Message m, NotebookSocket conn) {
+    unicast(frameEncoder.encode(m, null), m, conn);
+  }
+
+  private void unicast(NotebookFrameEncoder.Encoded encoded, Message m, NotebookSocket conn) {
     try {
-      conn.send(serializeMessage(m));
+      encoded.sendTo(conn);
     } catch (IOException | WebSocketException e) {
       LOGGER.error("socket error", e);
     }
@@ -354,9 +365,10 @@ public class ConnectionManager {
       return;
     }
 
+    Message m = new Message(Message.OP.PARAGRAPH).withMsgId(msgId).put("paragraph", p);
+    NotebookFrameEncoder.Encoded encoded = frameEncoder.encode(m, user);
     for (NotebookSocket conn : userSocketMap.get(user)) {
-      Message m = new Message(Message.OP.PARAGRAPH).withMsgId(msgId).put("paragraph", p);
-      unicast(m, conn);
+      unicast(encoded, m, conn);
     }
   }
 
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.socket;
+
+import org.apache.zeppelin.cluster.event.JsonDelta;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Binary frame sent to the clients which negotiated the version 2 of the websocket protocol,
+ * instead of the json PARAGRAPH, PARAGRAPH_APPEND_OUTPUT and PARAGRAPH_UPDATE_OUTPUT messages.
+ *
+ * Every frame carries the version of the paragraph (or of the output) it produces on the client,
+ * and the deltas the version they apply to. A client which doesn't have the base version of a
+ * delta missed a frame, and asks for the full paragraph with PARAGRAPH_RESYNC.
+ */
+public class NotebookFrame {
+
+  /**
+   * Frame type.
+   */
+  public enum Type {
+    PARAGRAPH,        // the whole paragraph as json
+    PARAGRAPH_DELTA,  // changed fields of the paragraph
+    OUTPUT_APPEND,    // text appended to an output, at offset
+    OUTPUT_UPDATE     // the whole output
+  }
+
+  public static final long NO_VERSION = -1;
+
+  private final Type type;
+  private final String noteId;
+  private final String paragraphId;
+  private String msgId;
+  private long baseVersion = NO_VERSION;
+  private long version;
+
+  // PARAGRAPH
+  private String paragraphJson;
+  // PARAGRAPH_DELTA
+  private List<JsonDelta.Op> ops = Collections.emptyList();
+  // OUTPUT_APPEND and OUTPUT_UPDATE
+  private int index;
+  private int offset;
+  private String outputType;
+  private String data;
+
+  private NotebookFrame(Type type, String noteId, String paragraphId) {
+    this.type = type;
+    this.noteId = noteId;
+    this.paragraphId = paragraphId;
+  }
+
+  public static NotebookFrame paragraph(String noteId, String paragraphId, String msgId,
+                                        long version, String paragraphJson) {
+    NotebookFrame frame = new NotebookFrame(Type.PARAGRAPH, noteId, paragraphId);
+    frame.msgId = msgId;
+    frame.version = version;
+    frame.paragraphJson = paragraphJson;
+    return frame;
+  }
+
+  public static NotebookFrame paragraphDelta(String noteId, String paragraphId, String msgId,
+                                             long baseVersion, long version,
+                                             List<JsonDelta.Op> ops) {
+    NotebookFrame frame = new NotebookFrame(Type.PARAGRAPH_DELTA, noteId, paragraphId);
+    frame.msgId = msgId;
+    frame.baseVersion = baseVersion;
+    frame.version = version;
+    frame.ops = ops;
+    return frame;
+  }
+
+  public static NotebookFrame outputAppend(String noteId, String paragraphId, int index,
+                                           long baseVersion, long version, int offset,
+                                           String data) {
+    NotebookFrame frame = new NotebookFrame(Type.OUTPUT_APPEND, noteId, paragraphId);
+    frame.index = index;
+    frame.baseVersion = baseVersion;
+    frame.version = version;
+    frame.offset = offset;
+    frame.data = data;
+    return frame;
+  }
+
+  public static NotebookFrame outputUpdate(String noteId, String paragraphId, int index,
+                                           long version, String outputType, String data) {
+    NotebookFrame frame = new NotebookFrame(Type.OUTPUT_UPDATE, noteId, paragraphId);
+    frame.index = index;
+    frame.version = version;
+    frame.outputType = outputType;
+    frame.data = data;
+    return frame;
+  }
+
+  public Type getType() {
+    return type;
+  }
+
+  public String getNoteId() {
+    return noteId;
+  }
+
+  public String getParagraphId() {
+    return paragraphId;
+  }
+
+  public String getMsgId() {
+    return msgId;
+  }
+
+  public long getBaseVersion() {
+    return baseVersion;
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public String getParagraphJson() {
+    return paragraphJson;
+  }
+
+  public List<JsonDelta.Op> getOps() {
+    return ops;
+  }
+
+  public int getIndex() {
+    return index;
+  }
+
+  public int getOffset() {
+    return offset;
+  }
+
+  public String getOutputType() {
+    return outputType;
+  }
+
+  public String getData() {
+    return data;
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.socket;
+
+import org.apache.zeppelin.cluster.event.JsonDelta;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Binary encoding of a {@link NotebookFrame}.
+ *
+ * A frame starts with the protocol version and a compression flag, followed by the body which is
+ * deflated when the connection negotiated it and the body is large enough:
+ * <pre>
+ *   byte type, utf noteId, utf paragraphId, nullable string msgId,
+ *   long baseVersion, long version, then depending on the type
+ *   PARAGRAPH:       string json
+ *   PARAGRAPH_DELTA: ops, see {@link JsonDelta#writeOps}
+ *   OUTPUT_APPEND:   int index, int offset, string data
+ *   OUTPUT_UPDATE:   int index, nullable string outputType, string data
+ * </pre>
+ * Strings are utf-8 bytes prefixed by their length as an int.
+ */
+public class NotebookFrameCodec {
+  public static final byte PROTOCOL_VERSION = 2;
+  private static final byte UNCOMPRESSED = 0;
+  private static final byte DEFLATED = 1;
+  // bodies smaller than this are not worth compressing
+  private static final int COMPRESSION_THRESHOLD = 1024;
+
+  private NotebookFrameCodec() {
+  }
+
+  public static byte[] encode(NotebookFrame frame, boolean compress) throws IOException {
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(body);
+    out.writeByte(frame.getType().ordinal());
+    out.writeUTF(frame.getNoteId());
+    out.writeUTF(frame.getParagraphId());
+    writeNullableString(out, frame.getMsgId());
+    out.writeLong(frame.getBaseVersion());
+    out.writeLong(frame.getVersion());
+    switch (frame.getType()) {
+      case PARAGRAPH:
+        writeString(out, frame.getParagraphJson());
+        break;
+      case PARAGRAPH_DELTA:
+        JsonDelta.writeOps(out, frame.getOps());
+        break;
+      case OUTPUT_APPEND:
+        out.writeInt(frame.getIndex());
+        out.writeInt(frame.getOffset());
+        writeString(out, frame.getData());
+        break;
+      case OUTPUT_UPDATE:
+        out.writeInt(frame.getIndex());
+        writeNullableString(out, frame.getOutputType());
+        writeString(out, frame.getData());
+        break;
+      default:
+        throw new IOException("Unknown frame type " + frame.getType());
+    }
+    out.flush();
+
+    ByteArrayOutputStream encoded = new ByteArrayOutputStream(body.size() + 2);
+    encoded.write(PROTOCOL_VERSION);
+    if (compress && body.size() > COMPRESSION_THRESHOLD) {
+      encoded.write(DEFLATED);
+      try (DeflaterOutputStream deflater = new DeflaterOutputStream(encoded)) {
+        body.writeTo(deflater);
+      }
+    } else {
+      encoded.write(UNCOMPRESSED);
+      body.writeTo(encoded);
+    }
+    return encoded.toByteArray();
+  }
+
+  public static NotebookFrame decode(byte[] encoded) throws IOException {
+    if (encoded.length < 2 || encoded[0] != PROTOCOL_VERSION) {
+      throw new IOException("Unsupported notebook frame format");
+    }
+    InputStream body = new ByteArrayInputStream(encoded, 2, encoded.length - 2);
+    if (encoded[1] == DEFLATED) {
+      body = new InflaterInputStream(body);
+    }
+    try (DataInputStream in = new DataInputStream(body)) {
+      int typeOrdinal = in.readByte();
+      if (typeOrdinal < 0 || typeOrdinal >= NotebookFrame.Type.values().length) {
+        throw new IOException("Unknown frame type " + typeOrdinal);
+      }
+      NotebookFrame.Type type = NotebookFrame.Type.values()[typeOrdinal];
+      String noteId = in.readUTF();
+      String paragraphId = in.readUTF();
+      String msgId = readNullableString(in);
+      long baseVersion = in.readLong();
+      long version = in.readLong();
+      switch (type) {
+        case PARAGRAPH:
+          return NotebookFrame.paragraph(noteId, paragraphId, msgId, version, readString(in));
+        case PARAGRAPH_DELTA:
+          return NotebookFrame.paragraphDelta(noteId, paragraphId, msgId, baseVersion, version,
+              JsonDelta.readOps(in));
+        case OUTPUT_APPEND:
+          int index = in.readInt();
+          int offset = in.readInt();
+          return NotebookFrame.outputAppend(noteId, paragraphId, index, baseVersion, version,
+              offset, readString(in));
+        default:
+          int updateIndex = in.readInt();
+          String outputType = readNullableString(in);
+          return NotebookFrame.outputUpdate(noteId, paragraphId, updateIndex, version,
+              outputType, readString(in));
+      }
+    }
+  }
+
+  private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      writeString(out, value);
+    }
+  }
+
+  private static String readNullableString(DataInputStream in) throws IOException {
+    return in.readBoolean() ? readString(in) : null;
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
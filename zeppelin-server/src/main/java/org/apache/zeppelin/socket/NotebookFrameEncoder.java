@@ -0,0 +1,303 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.socket;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.apache.zeppelin.cluster.event.JsonDelta;
+import org.apache.zeppelin.common.Message;
+import org.apache.zeppelin.notebook.Paragraph;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Encodes the messages sent to the websocket connections, once per message whatever the number
+ * of connections.
+ *
+ * The connections of the version 1 of the protocol receive the json message. The ones of the
+ * version 2 receive the paragraph updates as {@link NotebookFrame}: the fields of the paragraph
+ * which changed since the version they have, and the text appended to the outputs. The last
+ * version sent of each paragraph is kept to compute the deltas, so it is done only once.
+ */
+public class NotebookFrameEncoder {
+  // paragraphs whose last version is kept, the connections get the full paragraph after eviction
+  private static final int MAX_PARAGRAPHS = 1024;
+  // version of what a connection got as a json message
+  private static final long UNKNOWN_VERSION = -2;
+
+  private final Gson gson;
+  private final AtomicLong versions = new AtomicLong();
+  private final Map<String, ParagraphState> paragraphs =
+      new LinkedHashMap<String, ParagraphState>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ParagraphState> eldest) {
+          return size() > MAX_PARAGRAPHS;
+        }
+      };
+
+  private static class ParagraphState {
+    private long version;
+    private JsonObject json;
+    private final List<OutputState> outputs = new ArrayList<>();
+  }
+
+  private static class OutputState {
+    private long version;
+    private String type;
+    private final StringBuilder data = new StringBuilder();
+  }
+
+  public NotebookFrameEncoder(Gson gson) {
+    this.gson = gson;
+  }
+
+  /**
+   * Prefix of the keys of the frames of the paragraph, whatever the user and output.
+   */
+  public static String paragraphKeyPrefix(String noteId, String paragraphId) {
+    return noteId + "/" + paragraphId + "/";
+  }
+
+  private static String paragraphKey(String noteId, String paragraphId, String user) {
+    return paragraphKeyPrefix(noteId, paragraphId) + (user == null ? "" : user);
+  }
+
+  private static String outputKey(String paragraphKey, int index) {
+    return paragraphKey + "#" + index;
+  }
+
+  /**
+   * @param user the user the message is sent to in personalized mode, null when it is
+   *             broadcasted to every user of the note
+   */
+  public Encoded encode(Message message, String user) {
+    return new Encoded(message, user);
+  }
+
+  /**
+   * Message encoded for all the protocol versions, lazily.
+   */
+  public class Encoded {
+    private final Message message;
+    private final String user;
+    private String text;
+
+    private boolean framesComputed;
+    private String key;
+    private NotebookFrame delta;
+    private NotebookFrame full;
+    // output frames only apply to the version of the paragraph they were computed for
+    private String paragraphKey;
+    private long paragraphVersion;
+    // versions of the outputs when the results of the paragraph changed, set on the
+    // connections which receive the paragraph
+    private List<Long> outputVersions;
+    private final byte[][] encodedDelta = new byte[2][];
+    private final byte[][] encodedFull = new byte[2][];
+
+    private Encoded(Message message, String user) {
+      this.message = message;
+      this.user = user;
+    }
+
+    public synchronized String getText() {
+      if (text == null) {
+        text = gson.toJson(message);
+      }
+      return text;
+    }
+
+    public synchronized void sendTo(NotebookSocket conn) throws IOException {
+      if (conn.getProtocolVersion() < NotebookFrameCodec.PROTOCOL_VERSION) {
+        conn.send(getText());
+        return;
+      }
+      if (!framesComputed) {
+        framesComputed = true;
+        computeFrames();
+      }
+      if (full == null) {
+        conn.send(getText());
+        if (key != null) {
+          // the version the connection has now is unknown
+          conn.setFrameVersion(key, UNKNOWN_VERSION);
+        }
+        return;
+      }
+
+      boolean compress = conn.isCompressionEnabled();
+      int variant = compress ? 1 : 0;
+      if (delta != null && conn.getFrameVersion(key) == delta.getBaseVersion()
+          && (paragraphKey == null || conn.getFrameVersion(paragraphKey) == paragraphVersion)) {
+        if (encodedDelta[variant] == null) {
+          encodedDelta[variant] = NotebookFrameCodec.encode(delta, compress);
+        }
+        conn.send(encodedDelta[variant]);
+      } else {
+        if (encodedFull[variant] == null) {
+          encodedFull[variant] = NotebookFrameCodec.encode(full, compress);
+        }
+        conn.send(encodedFull[variant]);
+        if (full.getType() == NotebookFrame.Type.PARAGRAPH) {
+          // the outputs may have been appended to since the results of the paragraph
+          conn.resetFrameVersions(key + "#");
+        }
+      }
+      conn.setFrameVersion(key, full.getVersion());
+      if (outputVersions != null) {
+        conn.resetFrameVersions(key + "#");
+        for (int i = 0; i < outputVersions.size(); i++) {
+          conn.setFrameVersion(outputKey(key, i), outputVersions.get(i));
+        }
+      }
+    }
+
+    private void computeFrames() {
+      switch (message.op) {
+        case PARAGRAPH:
+          Object paragraph = message.get("paragraph");
+          if (paragraph instanceof Paragraph) {
+            computeParagraphFrames((Paragraph) paragraph);
+          }
+          break;
+        case PARAGRAPH_APPEND_OUTPUT:
+        case PARAGRAPH_UPDATE_OUTPUT:
+          Object index = message.get("index");
+          if (index instanceof Number) {
+            computeOutputFrames(((Number) index).intValue());
+          }
+          break;
+        default:
+          break;
+      }
+    }
+
+    private void computeParagraphFrames(Paragraph p) {
+      String noteId = p.getNote() == null ? "" : p.getNote().getId();
+      JsonObject json = gson.toJsonTree(p).getAsJsonObject();
+      key = paragraphKey(noteId, p.getId(), user);
+      synchronized (paragraphs) {
+        ParagraphState state = paragraphs.get(key);
+        boolean resultsChanged = true;
+        if (state == null) {
+          state = new ParagraphState();
+          paragraphs.put(key, state);
+        } else {
+          List<JsonDelta.Op> ops = JsonDelta.diff(state.json, json);
+          delta = NotebookFrame.paragraphDelta(noteId, p.getId(), message.msgId,
+              state.version, ops.isEmpty() ? state.version : versions.incrementAndGet(), ops);
+          resultsChanged = ops.stream().anyMatch(op -> "results".equals(op.path.get(0)));
+        }
+        state.version = delta == null ? versions.incrementAndGet() : delta.getVersion();
+        state.json = json;
+        if (resultsChanged) {
+          resetOutputs(state, json);
+          outputVersions = new ArrayList<>();
+          for (OutputState output : state.outputs) {
+            outputVersions.add(output.version);
+          }
+        }
+        full = NotebookFrame.paragraph(noteId, p.getId(), message.msgId, state.version,
+            json.toString());
+      }
+    }
+
+    // the outputs of the client are the ones of the paragraph it received
+    private void resetOutputs(ParagraphState state, JsonObject json) {
+      state.outputs.clear();
+      JsonElement results = json.get("results");
+      if (results == null || !results.isJsonObject()
+          || !results.getAsJsonObject().has("msg")) {
+        return;
+      }
+      JsonArray messages = results.getAsJsonObject().getAsJsonArray("msg");
+      for (JsonElement element : messages) {
+        OutputState output = new OutputState();
+        output.version = versions.incrementAndGet();
+        if (element.isJsonObject()) {
+          JsonObject resultMessage = element.getAsJsonObject();
+          if (resultMessage.has("type") && !resultMessage.get("type").isJsonNull()) {
+            output.type = resultMessage.get("type").getAsString();
+          }
+          if (resultMessage.has("data") && !resultMessage.get("data").isJsonNull()) {
+            output.data.append(resultMessage.get("data").getAsString());
+          }
+        }
+        state.outputs.add(output);
+      }
+    }
+
+    private void computeOutputFrames(int index) {
+      String noteId = String.valueOf(message.get("noteId"));
+      String paragraphId = String.valueOf(message.get("paragraphId"));
+      String data = String.valueOf(message.get("data"));
+      paragraphKey = paragraphKey(noteId, paragraphId, user);
+      key = outputKey(paragraphKey, index);
+      synchronized (paragraphs) {
+        ParagraphState state = paragraphs.get(paragraphKey);
+        if (state == null || index > state.outputs.size()) {
+          // the outputs of the client are unknown
+          return;
+        }
+        paragraphVersion = state.version;
+        OutputState output;
+        if (index == state.outputs.size()) {
+          // new output, the clients don't have any version of it
+          output = new OutputState();
+          output.version = NotebookFrame.NO_VERSION;
+          state.outputs.add(output);
+        } else {
+          output = state.outputs.get(index);
+        }
+
+        long baseVersion = output.version;
+        int offset = output.data.length();
+        Object type = message.get("type");
+        boolean append;
+        if (message.op == Message.OP.PARAGRAPH_APPEND_OUTPUT) {
+          append = true;
+        } else {
+          String newType = type == null ? null : type.toString();
+          append = offset > 0
+              && (newType == null || output.type == null || newType.equals(output.type))
+              && data.length() >= offset
+              && data.regionMatches(0, output.data.toString(), 0, offset);
+          output.type = newType;
+          data = append ? data.substring(offset) : data;
+          if (!append) {
+            output.data.setLength(0);
+          }
+        }
+        output.data.append(data);
+        output.version = versions.incrementAndGet();
+        if (append) {
+          delta = NotebookFrame.outputAppend(noteId, paragraphId, index, baseVersion,
+              output.version, offset, data);
+        }
+        full = NotebookFrame.outputUpdate(noteId, paragraphId, index, output.version,
+            output.type, output.data.toString());
+      }
+    }
+  }
+}
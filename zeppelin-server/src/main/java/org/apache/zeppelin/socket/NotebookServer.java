@@ -43,6 +43,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.thrift.TException;
 import org.apache.zeppelin.cluster.ClusterManagerServer;
+import org.apache.zeppelin.cluster.event.ClusterBinaryEventListener;
 import org.apache.zeppelin.cluster.event.ClusterEvent;
 import org.apache.zeppelin.cluster.event.ClusterEventListener;
 import org.apache.zeppelin.cluster.event.ClusterMessage;
@@ -75,6 +76,7 @@ import org.apache.zeppelin.notebook.repo.NotebookRepoWithVersionControl.Revision
 import org.apache.zeppelin.common.Message;
 import org.apache.zeppelin.common.Message.OP;
 import org.apache.zeppelin.rest.exception.ForbiddenException;
+import org.apache.zeppelin.scheduler.ExecutionTrace;
 import org.apache.zeppelin.scheduler.Job.Status;
 import org.apache.zeppelin.service.ConfigurationService;
 import org.apache.zeppelin.service.JobManagerService;
@@ -111,7 +113,8 @@ public class NotebookServer extends WebSocketServlet
         ApplicationEventListener,
         ParagraphJobListener,
         NoteEventListener,
-        ClusterEventListener {
+        ClusterEventListener,
+        ClusterBinaryEventListener {
 
   /**
    * Job manager service type.
@@ -149,6 +152,9 @@ public class NotebookServer extends WebSocketServlet
   private Provider<ConfigurationService> configurationServiceProvider;
   private Provider<JobManagerService> jobManagerServiceProvider;
   private Provider<ConnectionManager> connectionManagerProvider;
+  private volatile ClusterNoteEventSync clusterNoteEventSync;
+  // set once clusterNoteEventSync is created, or known to be disabled
+  private volatile boolean clusterNoteEventSyncInitialized;
 
   public NotebookServer() {
     NotebookServer.self.set(this);
@@ -454,6 +460,12 @@ public class NotebookServer extends WebSocketServlet
         case PATCH_PARAGRAPH:
           patchParagraph(conn, messagereceived);
           break;
+        case PROTOCOL:
+          negotiateProtocol(conn, messagereceived);
+          break;
+        case PARAGRAPH_RESYNC:
+          resyncParagraph(conn, messagereceived);
+          break;
         default:
           break;
       }
@@ -581,7 +593,10 @@ public class NotebookServer extends WebSocketServlet
 
   public void broadcastNote(Note note) {
     inlineBroadcastNote(note);
-    broadcastClusterEvent(ClusterEvent.BROADCAST_NOTE, MSG_ID_NOT_DEFINED, note);
+    ClusterNoteEventSync clusterNoteEventSync = getClusterNoteEventSync();
+    if (clusterNoteEventSync != null) {
+      clusterNoteEventSync.noteChanged(note);
+    }
   }
 
   private void inlineBroadcastNote(Note note) {
@@ -602,7 +617,10 @@ public class NotebookServer extends WebSocketServlet
 
   public void broadcastParagraph(Note note, Paragraph p, String msgId) {
     inlineBroadcastParagraph(note, p, msgId);
-    broadcastClusterEvent(ClusterEvent.BROADCAST_PARAGRAPH, msgId, note, p);
+    ClusterNoteEventSync clusterNoteEventSync = getClusterNoteEventSync();
+    if (clusterNoteEventSync != null) {
+      clusterNoteEventSync.paragraphChanged(note, p, msgId);
+    }
   }
 
   private void inlineBroadcastParagraphs(Map<String, Paragraph> userParagraphMap,
@@ -623,17 +641,18 @@ public class NotebookServer extends WebSocketServlet
     broadcastClusterEvent(ClusterEvent.BROADCAST_PARAGRAPHS, msgId, userParagraphMap, defaultParagraph);
   }
 
-  private void inlineBroadcastNewParagraph(Note note, Paragraph para) {
+  private void inlineBroadcastNewParagraph(Note note, Paragraph para, int paraIndex) {
     LOG.info("Broadcasting paragraph on run call instead of note.");
-    int paraIndex = note.getParagraphs().indexOf(para);
-
     Message message = new Message(OP.PARAGRAPH_ADDED).put("paragraph", para).put("index", paraIndex);
     getConnectionManager().broadcast(note.getId(), message);
   }
 
   private void broadcastNewParagraph(Note note, Paragraph para) {
-    inlineBroadcastNewParagraph(note, para);
-    broadcastClusterEvent(ClusterEvent.BROADCAST_NEW_PARAGRAPH, MSG_ID_NOT_DEFINED, note, para);
+    inlineBroadcastNewParagraph(note, para, note.getParagraphs().indexOf(para));
+    ClusterNoteEventSync clusterNoteEventSync = getClusterNoteEventSync();
+    if (clusterNoteEventSync != null) {
+      clusterNoteEventSync.paragraphAdded(note, para);
+    }
   }
 
   public void inlineBroadcastNoteList(AuthenticationInfo subject, Set<String> userAndRoles) {
@@ -660,6 +679,64 @@ public class NotebookServer extends WebSocketServlet
     broadcastClusterEvent(ClusterEvent.BROADCAST_NOTE_LIST, MSG_ID_NOT_DEFINED, subject, userAndRoles);
   }
 
+  /**
+   * The note and paragraph updates are sent to the other servers of the cluster as deltas,
+   * null when the cluster mode is disabled.
+   */
+  private ClusterNoteEventSync getClusterNoteEventSync() {
+    if (clusterNoteEventSyncInitialized) {
+      return clusterNoteEventSync;
+    }
+    synchronized (this) {
+      if (!clusterNoteEventSyncInitialized) {
+        clusterNoteEventSync = createClusterNoteEventSync();
+        clusterNoteEventSyncInitialized = true;
+      }
+      return clusterNoteEventSync;
+    }
+  }
+
+  private ClusterNoteEventSync createClusterNoteEventSync() {
+    ZeppelinConfiguration conf = ZeppelinConfiguration.create();
+    if (!conf.isClusterMode()) {
+      return null;
+    }
+    ClusterNoteEventSync sync = new ClusterNoteEventSync(
+        new ClusterNoteEventSync.NoteBroadcaster() {
+          @Override
+          public void broadcastNote(Note note) {
+            inlineBroadcastNote(note);
+          }
+
+          @Override
+          public void broadcastParagraph(Note note, Paragraph paragraph, String msgId) {
+            inlineBroadcastParagraph(note, paragraph, msgId);
+          }
+
+          @Override
+          public void broadcastNewParagraph(Note note, Paragraph paragraph, int index) {
+            inlineBroadcastNewParagraph(note, paragraph, index);
+          }
+
+          @Override
+          public Note getNote(String noteId) throws IOException {
+            return getNotebook().getNote(noteId);
+          }
+        },
+        frame -> ClusterManagerServer.getInstance(conf).broadcastClusterEvent(
+            ClusterManagerServer.CLUSTER_NOTE_DELTA_EVENT_TOPIC, frame));
+    sync.start();
+    return sync;
+  }
+
+  @Override
+  public void onClusterEvent(byte[] msg) {
+    ClusterNoteEventSync clusterNoteEventSync = getClusterNoteEventSync();
+    if (clusterNoteEventSync != null) {
+      clusterNoteEventSync.onClusterEvent(msg);
+    }
+  }
+
   // broadcast ClusterEvent
   private void broadcastClusterEvent(ClusterEvent event, String msgId, Object... objects) {
     ZeppelinConfiguration conf = ZeppelinConfiguration.create();
@@ -756,7 +833,7 @@ public class NotebookServer extends WebSocketServlet
         inlineBroadcastParagraphs(userParagraphMap, paragraph, message.getMsgId());
         break;
       case BROADCAST_NEW_PARAGRAPH:
-        inlineBroadcastNewParagraph(note, paragraph);
+        inlineBroadcastNewParagraph(note, paragraph, note.getParagraphs().indexOf(paragraph));
         break;
       default:
         LOG.error("Unknown clusterEvent:{}, msg:{} ", message.clusterEvent, msg);
@@ -1157,6 +1234,52 @@ public class NotebookServer extends WebSocketServlet
         });
   }
 
+  /**
+   * Switch the connection to the highest protocol version both the client and the server
+   * support. Version 2 sends the paragraph updates as binary {@link NotebookFrame}.
+   */
+  private void negotiateProtocol(NotebookSocket conn, Message fromMessage) throws IOException {
+    int version = 1;
+    Object requestedVersion = fromMessage.get("version");
+    if (requestedVersion != null) {
+      try {
+        version = Math.min((int) Double.parseDouble(requestedVersion.toString()),
+            NotebookFrameCodec.PROTOCOL_VERSION);
+      } catch (NumberFormatException e) {
+        LOG.warn("Invalid protocol version {} from {}", requestedVersion, conn);
+      }
+    }
+    version = Math.max(version, 1);
+    boolean compression = version >= NotebookFrameCodec.PROTOCOL_VERSION
+        && "deflate".equals(fromMessage.get("compression"));
+    conn.setProtocolVersion(version, compression);
+    conn.send(serializeMessage(new Message(OP.PROTOCOL).put("version", version)
+        .put("compression", compression ? "deflate" : "none")));
+  }
+
+  /**
+   * The client missed a frame of the paragraph, send it the whole paragraph.
+   */
+  private void resyncParagraph(NotebookSocket conn, Message fromMessage) throws IOException {
+    String noteId = getConnectionManager().getAssociatedNoteId(conn);
+    String paragraphId = (String) fromMessage.get("paragraphId");
+    if (noteId == null || !noteId.equals(fromMessage.get("noteId")) || paragraphId == null) {
+      return;
+    }
+    Note note = getNotebook().getNote(noteId);
+    Paragraph p = note == null ? null : note.getParagraph(paragraphId);
+    if (p == null) {
+      return;
+    }
+    conn.resetFrameVersions(NotebookFrameEncoder.paragraphKeyPrefix(noteId, paragraphId));
+    if (note.isPersonalizedMode()) {
+      getConnectionManager().unicastParagraph(note, p.getUserParagraph(conn.getUser()),
+          conn.getUser(), MSG_ID_NOT_DEFINED);
+    } else {
+      getConnectionManager().unicast(new Message(OP.PARAGRAPH).put("paragraph", p), conn);
+    }
+  }
+
   private void cloneNote(NotebookSocket conn,
                          Message fromMessage) throws IOException {
     String noteId = getConnectionManager().getAssociatedNoteId(conn);
@@ -1906,6 +2029,8 @@ public class NotebookServer extends WebSocketServlet
       }
     }
 
+    // the paragraph completes its trace once the completion is saved and broadcast here
+    ExecutionTrace trace = p.isTerminated() ? p.getExecutionTrace() : null;
     if (p.isTerminated() || after == Status.RUNNING) {
       if (p.getStatus() == Status.FINISHED) {
         LOG.info("Job {} is finished successfully, status: {}", p.getId(), p.getStatus());
@@ -1916,7 +2041,7 @@ public class NotebookServer extends WebSocketServlet
         LOG.info("Job {} starts to RUNNING", p.getId());
       }
 
-      try {
+      try (ExecutionTrace.Span span = trace != null ? trace.start("note.save") : null) {
         if (getNotebook().getNote(p.getNote().getId()) == null) {
           // It is possible the note is removed, but the job is still running
           LOG.warn("Note {} doesn't existed.", p.getNote().getId());
@@ -1929,7 +2054,9 @@ public class NotebookServer extends WebSocketServlet
     }
 
     p.setStatusToUserParagraph(p.getStatus());
-    broadcastParagraph(p.getNote(), p, MSG_ID_NOT_DEFINED);
+    try (ExecutionTrace.Span span = trace != null ? trace.start("broadcast") : null) {
+      broadcastParagraph(p.getNote(), p, MSG_ID_NOT_DEFINED);
+    }
     try {
       broadcastUpdateNoteJobInfo(p.getNote(), System.currentTimeMillis() - 5000);
     } catch (IOException e) {
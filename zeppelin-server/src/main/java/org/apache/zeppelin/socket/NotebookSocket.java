@@ -21,6 +21,9 @@ import org.eclipse.jetty.websocket.api.Session;
 import org.eclipse.jetty.websocket.api.WebSocketAdapter;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -33,6 +36,10 @@ public class NotebookSocket extends WebSocketAdapter {
   private HttpServletRequest request;
   private String protocol;
   private String user;
+  private volatile int protocolVersion = 1;
+  private volatile boolean compression;
+  // versions of the paragraphs and outputs this connection received binary frames of
+  private final Map<String, Long> frameVersions = new ConcurrentHashMap<>();
 
   public NotebookSocket(HttpServletRequest req, String protocol,
       NotebookSocketListener listener) {
@@ -70,6 +77,43 @@ public class NotebookSocket extends WebSocketAdapter {
     connection.getRemote().sendString(serializeMessage);
   }
 
+  public synchronized void send(byte[] frame) throws IOException {
+    connection.getRemote().sendBytes(ByteBuffer.wrap(frame));
+  }
+
+  public int getProtocolVersion() {
+    return protocolVersion;
+  }
+
+  public void setProtocolVersion(int protocolVersion, boolean compression) {
+    this.protocolVersion = protocolVersion;
+    this.compression = compression;
+    frameVersions.clear();
+  }
+
+  public boolean isCompressionEnabled() {
+    return compression;
+  }
+
+  public long getFrameVersion(String key) {
+    return frameVersions.getOrDefault(key, NotebookFrame.NO_VERSION);
+  }
+
+  public void setFrameVersion(String key, long version) {
+    frameVersions.put(key, version);
+  }
+
+  /**
+   * Forget the versions of the frames received, the next frames are sent in full.
+   */
+  public void resetFrameVersions(String keyPrefix) {
+    if (keyPrefix == null) {
+      frameVersions.clear();
+    } else {
+      frameVersions.keySet().removeIf(key -> key.startsWith(keyPrefix));
+    }
+  }
+
   public String getUser() {
     return user;
   }
@@ -141,6 +141,7 @@ public class ClusterEventTest extends ZeppelinServerMock {
   @AfterClass
   public static void destroy() throws Exception {
     try {
+      schedulerService.close();
       if (null != clusterClient) {
         clusterClient.shutdown();
       }
@@ -195,6 +196,7 @@ public class ClusterEventTest extends ZeppelinServerMock {
     clusterServer.initTestCluster(clusterAddrList, clusterHost, clusterPort);
 
     clusterServer.addClusterEventListeners(ClusterManagerServer.CLUSTER_NOTE_EVENT_TOPIC, notebookServer);
+    clusterServer.addClusterBinaryEventListeners(ClusterManagerServer.CLUSTER_NOTE_DELTA_EVENT_TOPIC, notebookServer);
     clusterServer.addClusterEventListeners(ClusterManagerServer.CLUSTER_AUTH_EVENT_TOPIC, authorizationService);
     return clusterServer;
   }
@@ -230,6 +232,7 @@ public class ClusterEventTest extends ZeppelinServerMock {
       ClusterNoteEventListenerTest clusterNoteEventListenerTest = new ClusterNoteEventListenerTest();
       clusterNoteEventListenerTests.add(clusterNoteEventListenerTest);
       clusterServer.addClusterEventListeners(ClusterManagerServer.CLUSTER_NOTE_EVENT_TOPIC, clusterNoteEventListenerTest);
+      clusterServer.addClusterBinaryEventListeners(ClusterManagerServer.CLUSTER_NOTE_DELTA_EVENT_TOPIC, clusterNoteEventListenerTest);
 
       ClusterIntpSettingEventListenerTest clusterIntpSettingEventListenerTest = new ClusterIntpSettingEventListenerTest();
       clusterIntpSettingEventListenerTests.add(clusterIntpSettingEventListenerTest);
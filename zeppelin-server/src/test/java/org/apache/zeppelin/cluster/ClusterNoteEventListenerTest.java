@@ -18,8 +18,11 @@ package org.apache.zeppelin.cluster;
 
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
+import org.apache.zeppelin.cluster.event.ClusterBinaryEventListener;
 import org.apache.zeppelin.cluster.event.ClusterEventListener;
 import org.apache.zeppelin.cluster.event.ClusterMessage;
+import org.apache.zeppelin.cluster.event.ClusterNoteEvent;
+import org.apache.zeppelin.cluster.event.ClusterNoteEventCodec;
 import org.apache.zeppelin.notebook.Note;
 import org.apache.zeppelin.notebook.Paragraph;
 import org.apache.zeppelin.user.AuthenticationInfo;
@@ -33,7 +36,8 @@ import java.util.Set;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.fail;
 
-public class ClusterNoteEventListenerTest implements ClusterEventListener {
+public class ClusterNoteEventListenerTest
+    implements ClusterEventListener, ClusterBinaryEventListener {
   private static Logger LOGGER = LoggerFactory.getLogger(ClusterNoteEventListenerTest.class);
 
   public String receiveMsg = null;
@@ -81,4 +85,20 @@ public class ClusterNoteEventListenerTest implements ClusterEventListener {
       }
     }
   }
+
+  @Override
+  public void onClusterEvent(byte[] msg) {
+    try {
+      ClusterNoteEventCodec.Frame frame = ClusterNoteEventCodec.decode(msg);
+      assertFalse(frame.events.isEmpty());
+      for (ClusterNoteEvent event : frame.events) {
+        LOGGER.debug("ClusterNoteEventListenerTest#onClusterEvent : {} {} {}",
+            event.getType(), event.getNoteId(), event.getVersion());
+      }
+      receiveMsg = frame.senderId;
+    } catch (IOException e) {
+      receiveMsg = null;
+      fail("Fail to decode cluster note events : " + e.getMessage());
+    }
+  }
 }
@@ -78,6 +78,7 @@ import com.google.gson.reflect.TypeToken;
 public class NotebookServiceTest {
 
   private static NotebookService notebookService;
+  private QuartzSchedulerService schedulerService;
 
   private File notebookDir;
   private ServiceContext context =
@@ -130,7 +131,7 @@ public class NotebookServiceTest {
             credentials,
             null);
 
-    QuartzSchedulerService schedulerService = new QuartzSchedulerService(zeppelinConfiguration, notebook);
+    schedulerService = new QuartzSchedulerService(zeppelinConfiguration, notebook);
     schedulerService.waitForFinishInit();
     notebookService =
         new NotebookService(
@@ -144,6 +145,7 @@ public class NotebookServiceTest {
 
   @After
   public void tearDown() {
+    schedulerService.close();
     notebookDir.delete();
   }
 
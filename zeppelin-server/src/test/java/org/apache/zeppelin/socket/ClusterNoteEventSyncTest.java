@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.socket;
+
+import org.apache.zeppelin.cluster.event.ClusterNoteEvent;
+import org.apache.zeppelin.cluster.event.ClusterNoteEventCodec;
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.Paragraph;
+import org.apache.zeppelin.user.AuthenticationInfo;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ClusterNoteEventSyncTest {
+
+  private Note note;
+  private List<byte[]> sentFrames;
+  private ClusterNoteEventSync sender;
+  private RecordingBroadcaster received;
+  private ClusterNoteEventSync receiver;
+
+  @Before
+  public void setUp() {
+    note = new Note("/note1", "test", null, null, null, null, new ArrayList<>());
+    sentFrames = new ArrayList<>();
+    sender = new ClusterNoteEventSync(new RecordingBroadcaster(note), sentFrames::add);
+    received = new RecordingBroadcaster(null);
+    List<byte[]> resyncFrames = new ArrayList<>();
+    received.resyncFrames = resyncFrames;
+    receiver = new ClusterNoteEventSync(received, resyncFrames::add);
+  }
+
+  @Test
+  public void testParagraphDeltas() throws IOException {
+    Paragraph p = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p.setText("%sh echo hello");
+    sender.paragraphAdded(note, p);
+    deliver();
+    assertEquals(1, received.newParagraphs.size());
+    assertEquals("%sh echo hello", received.newParagraphs.get(0).getText());
+    assertEquals(0, received.lastIndex);
+
+    // several updates in one tick are sent as one delta
+    p.setResult(new InterpreterResult(InterpreterResult.Code.SUCCESS, "line 1\n"));
+    sender.paragraphChanged(note, p, "msg1");
+    p.setResult(new InterpreterResult(InterpreterResult.Code.SUCCESS, "line 1\nline 2\n"));
+    sender.paragraphChanged(note, p, "msg2");
+    deliver();
+    assertEquals(1, received.paragraphs.size());
+    assertEquals("line 1\nline 2\n",
+        received.paragraphs.get(0).getReturn().message().get(0).getData());
+    assertEquals(note.getName(), received.lastNote.getName());
+
+    // nothing changed, nothing sent
+    sender.paragraphChanged(note, p, "msg3");
+    sender.flush();
+    assertTrue(sentFrames.isEmpty());
+  }
+
+  @Test
+  public void testResyncAfterMissedEvent() throws IOException {
+    Paragraph p = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    sender.noteChanged(note);
+    deliver();
+    assertEquals(1, received.notes.size());
+
+    p.setText("1 + 1");
+    sender.paragraphChanged(note, p, null);
+    sender.flush();
+    // the event is lost
+    sentFrames.clear();
+
+    p.setText("1 + 2");
+    sender.paragraphChanged(note, p, null);
+    deliver();
+    assertTrue(received.paragraphs.isEmpty());
+
+    // the receiver asks the sender for a snapshot
+    receiver.flush();
+    assertEquals(1, received.resyncFrames.size());
+    ClusterNoteEvent resync =
+        ClusterNoteEventCodec.decode(received.resyncFrames.get(0)).events.get(0);
+    assertEquals(ClusterNoteEvent.Type.RESYNC_REQUEST, resync.getType());
+    assertEquals(sender.getNodeId(), resync.getTargetNodeId());
+    sender.onClusterEvent(received.resyncFrames.get(0));
+    deliver();
+    assertEquals(2, received.notes.size());
+    assertEquals("1 + 2", received.notes.get(1).getParagraph(p.getId()).getText());
+
+    // the deltas are applied again after the snapshot
+    p.setText("1 + 3");
+    sender.paragraphChanged(note, p, null);
+    deliver();
+    assertEquals("1 + 3", received.paragraphs.get(0).getText());
+  }
+
+  @Test
+  public void testIgnoreOwnEvents() throws IOException {
+    sender.noteChanged(note);
+    sender.flush();
+    sender.onClusterEvent(sentFrames.get(0));
+    assertNull(received.lastNote);
+  }
+
+  private void deliver() throws IOException {
+    sender.flush();
+    for (byte[] frame : sentFrames) {
+      receiver.onClusterEvent(frame);
+    }
+    sentFrames.clear();
+  }
+
+  private static class RecordingBroadcaster implements ClusterNoteEventSync.NoteBroadcaster {
+    private final Note localNote;
+    private final List<Note> notes = new ArrayList<>();
+    private final List<Paragraph> paragraphs = new ArrayList<>();
+    private final List<Paragraph> newParagraphs = new ArrayList<>();
+    private List<byte[]> resyncFrames;
+    private Note lastNote;
+    private int lastIndex = -1;
+
+    RecordingBroadcaster(Note localNote) {
+      this.localNote = localNote;
+    }
+
+    @Override
+    public void broadcastNote(Note note) {
+      notes.add(note);
+      lastNote = note;
+    }
+
+    @Override
+    public void broadcastParagraph(Note note, Paragraph paragraph, String msgId) {
+      paragraphs.add(paragraph);
+      lastNote = note;
+    }
+
+    @Override
+    public void broadcastNewParagraph(Note note, Paragraph paragraph, int index) {
+      newParagraphs.add(paragraph);
+      lastNote = note;
+      lastIndex = index;
+    }
+
+    @Override
+    public Note getNote(String noteId) {
+      return localNote;
+    }
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.socket;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.zeppelin.cluster.event.JsonDelta;
+import org.apache.zeppelin.common.Message;
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.Paragraph;
+import org.apache.zeppelin.user.AuthenticationInfo;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class NotebookFrameEncoderTest {
+
+  private Gson gson = Note.getGSON();
+  private NotebookFrameEncoder encoder;
+  private Note note;
+  private Paragraph p;
+
+  @Before
+  public void setUp() {
+    encoder = new NotebookFrameEncoder(gson);
+    note = new Note("/note1", "test", null, null, null, null, new ArrayList<>());
+    p = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p.setText("%sh echo hello");
+  }
+
+  @Test
+  public void testParagraphDelta() throws IOException {
+    RecordingSocket v1 = new RecordingSocket(1, false);
+    RecordingSocket v2 = new RecordingSocket(2, false);
+
+    send(paragraphMessage("msg1"), v1, v2);
+    assertEquals(1, v1.texts.size());
+    NotebookFrame full = v2.lastFrame();
+    assertEquals(NotebookFrame.Type.PARAGRAPH, full.getType());
+    assertEquals(p.getId(), full.getParagraphId());
+    assertEquals("msg1", full.getMsgId());
+    JsonObject clientParagraph = JsonParser.parseString(full.getParagraphJson()).getAsJsonObject();
+
+    p.setResult(new InterpreterResult(InterpreterResult.Code.SUCCESS, "hello\n"));
+    send(paragraphMessage("msg2"), v1, v2);
+    assertEquals(2, v1.texts.size());
+    NotebookFrame delta = v2.lastFrame();
+    assertEquals(NotebookFrame.Type.PARAGRAPH_DELTA, delta.getType());
+    assertEquals(full.getVersion(), delta.getBaseVersion());
+    JsonDelta.apply(clientParagraph, delta.getOps());
+    assertEquals(gson.toJsonTree(p), clientParagraph);
+
+    // a connection which missed the delta gets the whole paragraph
+    RecordingSocket late = new RecordingSocket(2, false);
+    late.setFrameVersion(NotebookFrameEncoder.paragraphKeyPrefix(note.getId(), p.getId()),
+        full.getVersion());
+    p.setText("%sh echo world");
+    send(paragraphMessage("msg3"), v2, late);
+    assertEquals(NotebookFrame.Type.PARAGRAPH_DELTA, v2.lastFrame().getType());
+    assertEquals(NotebookFrame.Type.PARAGRAPH, late.lastFrame().getType());
+    assertEquals(v2.lastFrame().getVersion(), late.lastFrame().getVersion());
+  }
+
+  @Test
+  public void testOutputAppend() throws IOException {
+    RecordingSocket v2 = new RecordingSocket(2, false);
+    send(paragraphMessage("msg1"), v2);
+
+    send(outputMessage(Message.OP.PARAGRAPH_APPEND_OUTPUT, 0, "line 1\n"), v2);
+    NotebookFrame append = v2.lastFrame();
+    assertEquals(NotebookFrame.Type.OUTPUT_APPEND, append.getType());
+    assertEquals(0, append.getOffset());
+    assertEquals("line 1\n", append.getData());
+
+    // the whole output is resent, only the new text goes to the client
+    send(outputMessage(Message.OP.PARAGRAPH_UPDATE_OUTPUT, 0, "line 1\nline 2\n"), v2);
+    append = v2.lastFrame();
+    assertEquals(NotebookFrame.Type.OUTPUT_APPEND, append.getType());
+    assertEquals(7, append.getOffset());
+    assertEquals("line 2\n", append.getData());
+
+    send(outputMessage(Message.OP.PARAGRAPH_UPDATE_OUTPUT, 0, "replaced"), v2);
+    NotebookFrame update = v2.lastFrame();
+    assertEquals(NotebookFrame.Type.OUTPUT_UPDATE, update.getType());
+    assertEquals("replaced", update.getData());
+    assertEquals("TEXT", update.getOutputType());
+
+    // the output of a paragraph the client never received is sent as json
+    RecordingSocket other = new RecordingSocket(2, false);
+    Message message = outputMessage(Message.OP.PARAGRAPH_APPEND_OUTPUT, 0, "x");
+    message.put("paragraphId", "unknown");
+    send(message, other);
+    assertEquals(1, other.texts.size());
+    assertTrue(other.frames.isEmpty());
+  }
+
+  @Test
+  public void testCompression() throws IOException {
+    RecordingSocket plain = new RecordingSocket(2, false);
+    RecordingSocket compressed = new RecordingSocket(2, true);
+    p.setResult(new InterpreterResult(InterpreterResult.Code.SUCCESS,
+        StringUtils.repeat("zeppelin output\n", 1000)));
+    send(paragraphMessage("msg1"), plain, compressed);
+    assertTrue(compressed.rawFrames.get(0).length < plain.rawFrames.get(0).length / 10);
+    assertEquals(plain.lastFrame().getParagraphJson(), compressed.lastFrame().getParagraphJson());
+  }
+
+  private Message paragraphMessage(String msgId) {
+    return new Message(Message.OP.PARAGRAPH).withMsgId(msgId).put("paragraph", p);
+  }
+
+  private Message outputMessage(Message.OP op, int index, String data) {
+    return new Message(op).put("noteId", note.getId()).put("paragraphId", p.getId())
+        .put("index", index).put("type", InterpreterResult.Type.TEXT).put("data", data);
+  }
+
+  private void send(Message message, RecordingSocket... sockets) throws IOException {
+    NotebookFrameEncoder.Encoded encoded = encoder.encode(message, null);
+    for (RecordingSocket socket : sockets) {
+      encoded.sendTo(socket);
+    }
+  }
+
+  private static class RecordingSocket extends NotebookSocket {
+    private final List<String> texts = new ArrayList<>();
+    private final List<NotebookFrame> frames = new ArrayList<>();
+    private final List<byte[]> rawFrames = new ArrayList<>();
+
+    RecordingSocket(int protocolVersion, boolean compression) {
+      super(null, null, null);
+      setProtocolVersion(protocolVersion, compression);
+    }
+
+    @Override
+    public synchronized void send(String serializeMessage) {
+      texts.add(serializeMessage);
+    }
+
+    @Override
+    public synchronized void send(byte[] frame) throws IOException {
+      rawFrames.add(frame);
+      frames.add(NotebookFrameCodec.decode(frame));
+    }
+
+    NotebookFrame lastFrame() {
+      return frames.get(frames.size() - 1);
+    }
+  }
+}
@@ -1268,6 +1268,18 @@ function ParagraphCtrl($scope, $rootScope, $route, $window, $routeParams, $locat
     return desc;
   };
 
+  $scope.getExecutionTrace = function(pdata) {
+    const trace = pdata.runtimeInfos && pdata.runtimeInfos.trace;
+    if (!trace || !trace.values || trace.values.length === 0) {
+      return '';
+    }
+    const spans = trace.values[0];
+    return Object.keys(spans)
+      .filter((stage) => stage !== 'traceId')
+      .map((stage) => `${stage} ${spans[stage]} ms`)
+      .join(', ');
+  };
+
   $scope.getElapsedTime = function(paragraph) {
     return 'Started ' + moment(paragraph.dateStarted).fromNow() + '.';
   };
@@ -32,6 +32,7 @@ import com.google.gson.stream.JsonWriter;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
 import org.apache.zeppelin.dep.Dependency;
 import org.apache.zeppelin.dep.DependencyResolver;
 import org.apache.zeppelin.display.AngularObjectRegistry;
@@ -70,6 +71,12 @@ import java.util.stream.Collectors;
 
 import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_CONNECTION_POOL_SIZE;
 import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_OUTPUT_LIMIT;
+import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RESOURCE_POOL_KRYO_CLASSES;
+import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RESOURCE_POOL_MEMORY_LIMIT;
+import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RESOURCE_POOL_OFF_HEAP_LIMIT;
+import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RESOURCE_POOL_SERIALIZER;
+import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RESOURCE_POOL_SPILL_DIR;
+import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RESOURCE_POOL_SPILL_THRESHOLD;
 import static org.apache.zeppelin.util.IdHashes.generateId;
 
 /**
@@ -643,6 +650,30 @@ public class InterpreterSetting {
           conf.getInt(ZEPPELIN_INTERPRETER_CONNECTION_POOL_SIZE) + "");
     }
 
+    // the interpreter processes serialize the resources as the server does
+    for (ConfVars serializerVar : new ConfVars[]{
+        ZEPPELIN_INTERPRETER_RESOURCE_POOL_SERIALIZER,
+        ZEPPELIN_INTERPRETER_RESOURCE_POOL_KRYO_CLASSES}) {
+      if (!jProperties.containsKey(serializerVar.getVarName())) {
+        jProperties.setProperty(serializerVar.getVarName(), conf.getString(serializerVar));
+      }
+    }
+
+    if (conf.getLong(ZEPPELIN_INTERPRETER_RESOURCE_POOL_MEMORY_LIMIT) > 0) {
+      for (ConfVars resourcePoolVar : new ConfVars[]{
+          ZEPPELIN_INTERPRETER_RESOURCE_POOL_MEMORY_LIMIT,
+          ZEPPELIN_INTERPRETER_RESOURCE_POOL_OFF_HEAP_LIMIT,
+          ZEPPELIN_INTERPRETER_RESOURCE_POOL_SPILL_THRESHOLD}) {
+        if (!jProperties.containsKey(resourcePoolVar.getVarName())) {
+          jProperties.setProperty(resourcePoolVar.getVarName(), conf.getLong(resourcePoolVar) + "");
+        }
+      }
+      if (!jProperties.containsKey(ZEPPELIN_INTERPRETER_RESOURCE_POOL_SPILL_DIR.getVarName())) {
+        jProperties.setProperty(ZEPPELIN_INTERPRETER_RESOURCE_POOL_SPILL_DIR.getVarName(),
+            conf.getString(ZEPPELIN_INTERPRETER_RESOURCE_POOL_SPILL_DIR));
+      }
+    }
+
     String interpreterLocalRepoPath = conf.getInterpreterLocalRepoPath();
     //TODO(zjffdu) change it to interpreterDir/{interpreter_name}
     jProperties.setProperty("zeppelin.interpreter.localRepo",
@@ -888,6 +919,13 @@ public class InterpreterSetting {
     return null;
   }
 
+  /**
+   * @return whether replName is one of the interpreters of this setting, without creating it
+   */
+  public boolean hasInterpreter(String replName) {
+    return getInterpreterClassFromInterpreterSetting(replName) != null;
+  }
+
   private String getInterpreterClassFromInterpreterSetting(String replName) {
     Preconditions.checkNotNull(replName, "replName should be not null");
 
@@ -91,6 +91,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -565,6 +566,34 @@ public class InterpreterSettingManager implements NoteEventListener, ClusterEven
     return null;
   }
 
+  /**
+   * Interpreter setting of a paragraph, resolved like {@link InterpreterFactory} resolves its
+   * interpreter, but without creating the interpreter.
+   *
+   * @param replName interpreter of the paragraph, e.g. spark.sql, sql or spark
+   * @param defaultInterpreterGroup default interpreter group of the note
+   * @return null if there's no such interpreter
+   */
+  public InterpreterSetting getInterpreterSettingByReplName(String replName,
+                                                           String defaultInterpreterGroup) {
+    if (StringUtils.isBlank(replName)) {
+      return getByName(defaultInterpreterGroup);
+    }
+    String[] replNameSplits = replName.split("\\.");
+    if (replNameSplits.length == 2) {
+      InterpreterSetting setting = getByName(replNameSplits[0]);
+      return setting != null && setting.hasInterpreter(replNameSplits[1]) ? setting : null;
+    } else if (replNameSplits.length == 1) {
+      // first assume group is omitted, then assume interpreter name is omitted
+      InterpreterSetting setting = getByName(defaultInterpreterGroup);
+      if (setting != null && setting.hasInterpreter(replName)) {
+        return setting;
+      }
+      return getByName(replName);
+    }
+    return null;
+  }
+
   public ManagedInterpreterGroup getInterpreterGroupById(String groupId) {
     for (InterpreterSetting setting : interpreterSettings.values()) {
       ManagedInterpreterGroup interpreterGroup = setting.getInterpreterGroup(groupId);
@@ -684,6 +713,33 @@ public class InterpreterSettingManager implements NoteEventListener, ClusterEven
     return getAllResourcesExcept(null);
   }
 
+  /**
+   * Resources of the note, and resources with one of the given names, of all the interpreter
+   * groups. Only these resources are sent by the interpreter processes.
+   */
+  public ResourceSet getAllResourcesOf(String noteId, Collection<String> resourceNames) {
+    ResourceSet resourceSet = new ResourceSet();
+    List<String> names = new ArrayList<>(resourceNames);
+    for (ManagedInterpreterGroup intpGroup : getAllInterpreterGroup()) {
+      RemoteInterpreterProcess remoteInterpreterProcess = intpGroup.getRemoteInterpreterProcess();
+      if (remoteInterpreterProcess == null) {
+        ResourcePool localPool = intpGroup.getResourcePool();
+        if (localPool != null) {
+          resourceSet.addAll(localPool.getAll().filterByNoteIdOrNames(noteId, resourceNames));
+        }
+      } else if (remoteInterpreterProcess.isRunning()) {
+        List<String> resourceList = remoteInterpreterProcess.callRemoteFunction(
+            client -> client.resourcePoolGetAllOf(noteId, names));
+        if (resourceList != null) {
+          for (String res : resourceList) {
+            resourceSet.add(Resource.fromJson(res));
+          }
+        }
+      }
+    }
+    return resourceSet;
+  }
+
   private ResourceSet getAllResourcesExcept(String interpreterGroupExcludsion) {
     ResourceSet resourceSet = new ResourceSet();
     for (ManagedInterpreterGroup intpGroup : getAllInterpreterGroup()) {
@@ -20,6 +20,7 @@ package org.apache.zeppelin.interpreter;
 
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
+import org.apache.zeppelin.scheduler.ExecutionTrace;
 import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.scheduler.Scheduler;
 import org.apache.zeppelin.scheduler.SchedulerFactory;
@@ -41,6 +42,7 @@ public class ManagedInterpreterGroup extends InterpreterGroup {
 
   private InterpreterSetting interpreterSetting;
   private RemoteInterpreterProcess remoteInterpreterProcess; // attached remote interpreter process
+  private String processOwner; // user who started the interpreter process
   private Object interpreterProcessCreationLock = new Object();
 
   /**
@@ -63,12 +65,15 @@ public class ManagedInterpreterGroup extends InterpreterGroup {
     synchronized (interpreterProcessCreationLock) {
       if (remoteInterpreterProcess == null) {
         LOGGER.info("Create InterpreterProcess for InterpreterGroup: {}", getId());
-        remoteInterpreterProcess = interpreterSetting.createInterpreterProcess(id, userName,
-                properties);
-        remoteInterpreterProcess.start(userName);
-        remoteInterpreterProcess.init(ZeppelinConfiguration.create());
-        getInterpreterSetting().getRecoveryStorage()
-                .onInterpreterClientStart(remoteInterpreterProcess);
+        try (ExecutionTrace.Span span = ExecutionTrace.startSpan("process.start")) {
+          remoteInterpreterProcess = interpreterSetting.createInterpreterProcess(id, userName,
+                  properties);
+          processOwner = userName;
+          remoteInterpreterProcess.start(userName);
+          remoteInterpreterProcess.init(ZeppelinConfiguration.create());
+          getInterpreterSetting().getRecoveryStorage()
+                  .onInterpreterClientStart(remoteInterpreterProcess);
+        }
       }
       return remoteInterpreterProcess;
     }
@@ -82,6 +87,14 @@ public class ManagedInterpreterGroup extends InterpreterGroup {
     return remoteInterpreterProcess;
   }
 
+  /**
+   * User who started the interpreter process, the process is shared by other users unless it is
+   * isolated per user.
+   */
+  public String getProcessOwner() {
+    return processOwner;
+  }
+
 
   /**
    * Close all interpreter instances in this group
@@ -19,19 +19,22 @@ package org.apache.zeppelin.interpreter;
 
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
+import io.micrometer.core.instrument.Tags;
 import org.apache.thrift.TException;
-import org.apache.thrift.server.TThreadPoolServer;
-import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TServerTransport;
 import org.apache.thrift.transport.TTransportException;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.display.AngularObject;
 import org.apache.zeppelin.helium.ApplicationEventListener;
+import org.apache.zeppelin.interpreter.remote.AppendOutputBuffer;
 import org.apache.zeppelin.interpreter.remote.AppendOutputRunner;
 import org.apache.zeppelin.interpreter.remote.InvokeResourceMethodEventMessage;
 import org.apache.zeppelin.interpreter.remote.RemoteAngularObject;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcessListener;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterUtils;
+import org.apache.zeppelin.interpreter.remote.RemoteTransport;
 import org.apache.zeppelin.interpreter.thrift.AppOutputAppendEvent;
 import org.apache.zeppelin.interpreter.thrift.AppOutputUpdateEvent;
 import org.apache.zeppelin.interpreter.thrift.AppStatusUpdateEvent;
@@ -50,37 +53,40 @@ import org.apache.zeppelin.resource.RemoteResource;
 import org.apache.zeppelin.resource.Resource;
 import org.apache.zeppelin.resource.ResourceId;
 import org.apache.zeppelin.resource.ResourcePool;
+import org.apache.zeppelin.resource.ResourceSerializers;
 import org.apache.zeppelin.resource.ResourceSet;
+import org.apache.zeppelin.scheduler.FairJobQueue;
+import org.apache.zeppelin.scheduler.RemoteScheduler;
+import org.apache.zeppelin.scheduler.Scheduler;
+import org.apache.zeppelin.scheduler.SchedulerFactory;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
 public class RemoteInterpreterEventServer implements RemoteInterpreterEventService.Iface {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(RemoteInterpreterEventServer.class);
   private static final Gson GSON = new Gson();
+  // same as the default of TThreadPoolServer
+  private static final int STOP_TIMEOUT_MS = 60_000;
 
   private String portRange;
   private int port;
   private String host;
   private ZeppelinConfiguration zConf;
-  private TThreadPoolServer thriftServer;
+  private final RemoteTransport transport;
+  private TServer thriftServer;
   private InterpreterSettingManager interpreterSettingManager;
 
-  private final ScheduledExecutorService appendService =
-      Executors.newSingleThreadScheduledExecutor();
-  private ScheduledFuture<?> appendFuture;
   private AppendOutputRunner runner;
   private final RemoteInterpreterProcessListener listener;
   private final ApplicationEventListener appListener;
@@ -90,26 +96,33 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
                                       InterpreterSettingManager interpreterSettingManager) {
     this.zConf = zConf;
     this.portRange = zConf.getZeppelinServerRPCPortRange();
+    this.transport = RemoteTransport.fromConf(zConf);
     this.interpreterSettingManager = interpreterSettingManager;
     this.listener = interpreterSettingManager.getRemoteInterpreterProcessListener();
     this.appListener = interpreterSettingManager.getAppEventListener();
+    ResourceSerializers.configure(zConf.getString(
+        ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RESOURCE_POOL_SERIALIZER),
+        zConf.getString(
+            ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RESOURCE_POOL_KRYO_CLASSES));
   }
 
   public void start() throws IOException {
     Thread startingThread = new Thread() {
       @Override
       public void run() {
-        try (TServerSocket tSocket = new TServerSocket(RemoteInterpreterUtils.findAvailablePort(portRange))){
-          port = tSocket.getServerSocket().getLocalPort();
+        try (TServerTransport serverTransport = transport.createServerTransport(
+            RemoteInterpreterUtils.findAvailablePort(portRange))) {
+          port = RemoteTransport.getLocalPort(serverTransport);
           host = RemoteInterpreterUtils.findAvailableHostAddress();
-          LOGGER.info("InterpreterEventServer is starting at {}:{}", host, port);
+          LOGGER.info("InterpreterEventServer is starting at {}:{} with {} transport",
+              host, port, transport);
           RemoteInterpreterEventService.Processor<RemoteInterpreterEventServer> processor =
               new RemoteInterpreterEventService.Processor<>(RemoteInterpreterEventServer.this);
-          thriftServer = new TThreadPoolServer(
-              new TThreadPoolServer.Args(tSocket).processor(processor));
+          thriftServer = transport.createServer(serverTransport, processor, STOP_TIMEOUT_MS,
+              "InterpreterEventServer-Worker");
           thriftServer.serve();
         } catch (IOException | TTransportException e ) {
-          throw new RuntimeException("Fail to create TServerSocket", e);
+          throw new RuntimeException("Fail to create TServerTransport", e);
         }
         LOGGER.info("ThriftServer-Thread finished");
       }
@@ -132,22 +145,36 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
     }
     LOGGER.info("RemoteInterpreterEventServer is started");
 
-    runner = new AppendOutputRunner(listener);
-    appendFuture = appendService.scheduleWithFixedDelay(
-        runner, 0, AppendOutputRunner.BUFFER_TIME_MS, TimeUnit.MILLISECONDS);
+    runner = new AppendOutputRunner(listener,
+        zConf.getInt(
+            ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_OUTPUT_APPEND_FLUSH_THREADS),
+        zConf.getInt(
+            ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_OUTPUT_APPEND_BUFFER_SIZE),
+        getOverflowPolicy());
+    runner.start();
   }
 
   public void stop() {
     if (thriftServer != null) {
       thriftServer.stop();
     }
-    if (appendFuture != null) {
-      appendFuture.cancel(true);
+    if (runner != null) {
+      runner.stop();
     }
-    appendService.shutdownNow();
     LOGGER.info("RemoteInterpreterEventServer is stopped");
   }
 
+  private AppendOutputBuffer.OverflowPolicy getOverflowPolicy() {
+    String policy = zConf.getString(
+        ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_OUTPUT_APPEND_OVERFLOW_POLICY);
+    try {
+      return AppendOutputBuffer.OverflowPolicy.fromString(policy);
+    } catch (IllegalArgumentException e) {
+      LOGGER.warn("Unknown output overflow policy {}, use truncate_middle", policy);
+      return AppendOutputBuffer.OverflowPolicy.TRUNCATE_MIDDLE;
+    }
+  }
+
 
   public int getPort() {
     return port;
@@ -195,6 +222,40 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
     interpreterSettingManager.removeInterpreterGroup(intpGroupId);
   }
 
+  @Override
+  public void sendProcessMetrics(String intpGroupId, Map<String, Double> metrics)
+      throws TException {
+    InterpreterGroup interpreterGroup =
+        interpreterSettingManager.getInterpreterGroupById(intpGroupId);
+    if (!(interpreterGroup instanceof ManagedInterpreterGroup)) {
+      LOGGER.debug("Ignore the metrics of interpreterGroup: {}, which is not found", intpGroupId);
+      return;
+    }
+    ManagedInterpreterGroup managedGroup = (ManagedInterpreterGroup) interpreterGroup;
+    RemoteInterpreterProcess interpreterProcess = managedGroup.getInterpreterProcess();
+    if (interpreterProcess == null) {
+      return;
+    }
+    // in paragraph execution mode, the paragraphs of a fair interpreter setting are queued in
+    // Zeppelin Server rather than in the interpreter process
+    List<FairJobQueue> fairQueues = new ArrayList<>();
+    for (Scheduler scheduler : SchedulerFactory.singleton().getSchedulers()) {
+      if (scheduler instanceof RemoteScheduler
+          && ((RemoteScheduler) scheduler).getFairQueue() != null
+          && intpGroupId.equals(((RemoteScheduler) scheduler).getInterpreterGroupId())) {
+        fairQueues.add(((RemoteScheduler) scheduler).getFairQueue());
+      }
+    }
+    if (!fairQueues.isEmpty()) {
+      metrics = new HashMap<>(metrics);
+      FairJobQueue.putMetrics(metrics, fairQueues);
+    }
+    interpreterProcess.updateProcessMetrics(metrics, Tags.of(
+        "setting", String.valueOf(managedGroup.getInterpreterSetting().getName()),
+        "group", intpGroupId,
+        "user", String.valueOf(managedGroup.getProcessOwner())));
+  }
+
   @Override
   public void sendWebUrl(WebUrlInfo weburlInfo) throws TException {
     InterpreterGroup interpreterGroup =
@@ -464,7 +525,7 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
             return res.invokeMethod(
                 message.methodName,
                 message.getParamTypes(),
-                message.params,
+                message.getParams(),
                 message.returnResourceName);
           } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
@@ -89,6 +89,7 @@ public class StandardInterpreterLauncher extends InterpreterLauncher {
       }
     }
     env.put("INTERPRETER_GROUP_ID", context.getInterpreterGroupId());
+    setRpcTransportEnv(env);
     return env;
   }
 }
@@ -17,22 +17,62 @@
 
 package org.apache.zeppelin.interpreter.remote;
 
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
 /**
  * This element stores the buffered
  * append-data of paragraph's output.
+ *
+ * The buffer is bounded, the data over its size is dropped according to its
+ * {@link OverflowPolicy} and replaced by a marker when flushed. It also keeps the output rate
+ * of the paragraph, which {@link AppendOutputRunner} uses to choose when to flush it.
  */
-public class AppendOutputBuffer {
+public class AppendOutputBuffer implements Delayed {
+
+  /**
+   * What to drop when the output of a paragraph exceeds the buffer size between two flushes.
+   */
+  public enum OverflowPolicy {
+    // keep the latest output
+    DROP_OLDEST,
+    // keep the beginning and the end of the output
+    TRUNCATE_MIDDLE;
+
+    public static OverflowPolicy fromString(String policy) {
+      return valueOf(policy.trim().toUpperCase());
+    }
+  }
+
+  // weight of the last flush in the output rate
+  private static final double RATE_SMOOTHING = 0.5;
 
-  private String noteId;
-  private String paragraphId;
-  private int index;
-  private String data;
+  private final String noteId;
+  private final String paragraphId;
+  private final int index;
+  private final int maxSize;
+  private final OverflowPolicy policy;
 
-  public AppendOutputBuffer(String noteId, String paragraphId, int index, String data) {
+  private final StringBuilder data = new StringBuilder();
+  // characters dropped since the last flush
+  private long dropped;
+  private long totalDropped;
+  private long firstAppendTime;
+  private long lastAppendTime;
+  private long lastFlushTime;
+  private volatile double rate;
+  private volatile long lag;
+  // only changed while the buffer is out of the flush queue
+  private long dueTime;
+
+  public AppendOutputBuffer(String noteId, String paragraphId, int index, int maxSize,
+                            OverflowPolicy policy) {
     this.noteId = noteId;
     this.paragraphId = paragraphId;
     this.index = index;
-    this.data = data;
+    this.maxSize = maxSize;
+    this.policy = policy;
+    this.lastFlushTime = System.currentTimeMillis();
   }
 
   public String getNoteId() {
@@ -47,8 +87,93 @@ public class AppendOutputBuffer {
     return index;
   }
 
-  public String getData() {
-    return data;
+  /**
+   * @return true if the buffer was empty
+   */
+  synchronized boolean append(String output, long now) {
+    boolean wasEmpty = data.length() == 0 && dropped == 0;
+    if (wasEmpty) {
+      firstAppendTime = now;
+    }
+    lastAppendTime = now;
+    data.append(output);
+    int overflow = data.length() - maxSize;
+    if (overflow > 0) {
+      int start = policy == OverflowPolicy.DROP_OLDEST ? 0 : maxSize / 2;
+      data.delete(start, start + overflow);
+      dropped += overflow;
+      totalDropped += overflow;
+    }
+    return wasEmpty;
+  }
+
+  /**
+   * Take the buffered output, with a marker where output was dropped.
+   *
+   * @return null if there's nothing to flush
+   */
+  synchronized String take(long now) {
+    if (data.length() == 0 && dropped == 0) {
+      return null;
+    }
+    String output;
+    if (dropped > 0) {
+      String marker = "\n... " + dropped + " characters dropped ...\n";
+      int position = policy == OverflowPolicy.DROP_OLDEST ? 0 : Math.min(maxSize / 2,
+          data.length());
+      output = data.insert(position, marker).toString();
+    } else {
+      output = data.toString();
+    }
+    double currentRate = (data.length() + dropped) * 1000.0 / Math.max(1, now - lastFlushTime);
+    rate = RATE_SMOOTHING * currentRate + (1 - RATE_SMOOTHING) * rate;
+    lag = now - firstAppendTime;
+    lastFlushTime = now;
+    data.setLength(0);
+    if (data.capacity() > maxSize / 4) {
+      data.trimToSize();
+    }
+    dropped = 0;
+    return output;
+  }
+
+  synchronized int size() {
+    return data.length();
+  }
+
+  synchronized boolean isIdle(long now, long idleTimeMs) {
+    return data.length() == 0 && dropped == 0 && now - lastAppendTime > idleTimeMs;
+  }
+
+  /**
+   * Output rate of the paragraph in characters per second, smoothed over the last flushes.
+   */
+  public double getRate() {
+    return rate;
+  }
+
+  /**
+   * Time in msec the last flushed output waited in the buffer.
+   */
+  public long getLag() {
+    return lag;
+  }
+
+  public synchronized long getTotalDropped() {
+    return totalDropped;
+  }
+
+  void setDueTime(long dueTime) {
+    this.dueTime = dueTime;
   }
 
+  @Override
+  public long getDelay(TimeUnit unit) {
+    return unit.convert(dueTime - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public int compareTo(Delayed o) {
+    return Long.compare(dueTime, ((AppendOutputBuffer) o).dueTime);
+  }
 }
@@ -17,22 +17,41 @@
 
 package org.apache.zeppelin.interpreter.remote;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import org.apache.zeppelin.interpreter.remote.AppendOutputBuffer.OverflowPolicy;
+import org.apache.zeppelin.scheduler.ExecutionTrace;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This thread sends paragraph's append-data
- * periodically, rather than continously, with
- * a period of BUFFER_TIME_MS. It handles append-data
+ * periodically, rather than continously. It handles append-data
  * for all paragraphs across all notebooks.
+ *
+ * Each paragraph output has its own bounded {@link AppendOutputBuffer}. A buffer is flushed
+ * after an interval which grows with the output rate of the paragraph: the output of an
+ * interactive paragraph is sent almost at once, while a paragraph printing a lot is sent in
+ * larger and fewer messages. A buffer reaching {@link #FLUSH_SIZE} is flushed at once.
+ *
+ * The paragraphs are sharded across the flush threads started by {@link #start()}, so that the
+ * output of a paragraph stays ordered. {@link #run()} flushes the due buffers of all shards in
+ * the calling thread instead, every {@link #BUFFER_TIME_MS} when scheduled.
+ *
+ * The time spent sending the output and its longest wait in the buffer are added to the
+ * {@link ExecutionTrace} of the running paragraph.
  */
 public class AppendOutputRunner implements Runnable {
 
@@ -42,73 +61,250 @@ public class AppendOutputRunner implements Runnable {
   private static final Long SAFE_PROCESSING_TIME = new Long(10);
   private static final Long SAFE_PROCESSING_STRING_SIZE = new Long(100000);
 
-  private final BlockingQueue<AppendOutputBuffer> queue = new LinkedBlockingQueue<>();
+  public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+  static final long MIN_FLUSH_INTERVAL_MS = 20;
+  static final long MAX_FLUSH_INTERVAL_MS = 1000;
+  // output rate, in characters per second, which doubles the flush interval
+  private static final double INTERACTIVE_RATE = 1024;
+  static final int FLUSH_SIZE = 64 * 1024;
+  // buffers of the paragraphs without output for this time are released
+  private static final long IDLE_TIMEOUT_MS = 60 * 1000;
+
   private final RemoteInterpreterProcessListener listener;
+  private final int bufferSize;
+  private final OverflowPolicy overflowPolicy;
+  private final Map<OutputKey, AppendOutputBuffer> buffers = new ConcurrentHashMap<>();
+  private final Map<OutputKey, List<Meter>> meters = new ConcurrentHashMap<>();
+  private final DelayQueue<AppendOutputBuffer>[] shards;
+  private final List<Thread> flushThreads = new ArrayList<>();
+  private final Counter droppedCounter;
+  private volatile long lastCleanupTime = System.currentTimeMillis();
+  private volatile boolean stopped;
 
   public AppendOutputRunner(RemoteInterpreterProcessListener listener) {
-    this.listener = listener;
+    this(listener, 1, DEFAULT_BUFFER_SIZE, OverflowPolicy.TRUNCATE_MIDDLE);
   }
 
-  @Override
-  public void run() {
-
-    Map<String, StringBuilder> stringBufferMap = new HashMap<>();
-    List<AppendOutputBuffer> list = new LinkedList<>();
+  /**
+   * @param flushThreads   number of shards, each flushed by its own thread
+   * @param bufferSize     max characters buffered per paragraph output between two flushes
+   * @param overflowPolicy what to drop when a buffer is full
+   */
+  @SuppressWarnings("unchecked")
+  public AppendOutputRunner(RemoteInterpreterProcessListener listener,
+                            int flushThreads,
+                            int bufferSize,
+                            OverflowPolicy overflowPolicy) {
+    this.listener = listener;
+    this.bufferSize = bufferSize;
+    this.overflowPolicy = overflowPolicy;
+    this.shards = new DelayQueue[Math.max(1, flushThreads)];
+    for (int i = 0; i < shards.length; i++) {
+      shards[i] = new DelayQueue<>();
+    }
+    this.droppedCounter = Counter.builder("interpreter.output.append.dropped")
+        .description("Characters of paragraph output dropped by full buffers")
+        .register(Metrics.globalRegistry);
+  }
 
-    /* "drainTo" method does not wait for any element
-     * to be present in the queue, and thus this loop would
-     * continuosly run (with period of BUFFER_TIME_MS). "take()" method
-     * waits for the queue to become non-empty and then removes
-     * one element from it. Rest elements from queue (if present) are
-     * removed using "drainTo" method. Thus we save on some un-necessary
-     * cpu-cycles.
-     */
-    try {
-      list.add(queue.take());
-    } catch (InterruptedException e) {
-      LOGGER.error("Wait for OutputBuffer queue interrupted: {}", e.getMessage());
+  /**
+   * Start the flush threads.
+   */
+  public synchronized void start() {
+    for (int i = 0; i < shards.length; i++) {
+      DelayQueue<AppendOutputBuffer> shard = shards[i];
+      Thread thread = new Thread(() -> flushLoop(shard), "AppendOutputRunner-" + i);
+      thread.setDaemon(true);
+      thread.start();
+      flushThreads.add(thread);
     }
-    Long processingStartTime = System.currentTimeMillis();
-    queue.drainTo(list);
+  }
 
-    for (AppendOutputBuffer buffer: list) {
-      String noteId = buffer.getNoteId();
-      String paragraphId = buffer.getParagraphId();
-      int index = buffer.getIndex();
-      String stringBufferKey = noteId + ":" + paragraphId + ":" + index;
+  /**
+   * Stop the flush threads, and send what is buffered.
+   */
+  public synchronized void stop() {
+    stopped = true;
+    for (Thread thread : flushThreads) {
+      thread.interrupt();
+    }
+    for (Thread thread : flushThreads) {
+      try {
+        thread.join(MAX_FLUSH_INTERVAL_MS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+    flushThreads.clear();
+    for (DelayQueue<AppendOutputBuffer> shard : shards) {
+      shard.clear();
+    }
+    long now = System.currentTimeMillis();
+    for (AppendOutputBuffer buffer : buffers.values()) {
+      flush(buffer, now);
+    }
+  }
 
-      StringBuilder builder = stringBufferMap.containsKey(stringBufferKey) ?
-          stringBufferMap.get(stringBufferKey) : new StringBuilder();
+  @Override
+  public void run() {
+    long now = System.currentTimeMillis();
+    for (DelayQueue<AppendOutputBuffer> shard : shards) {
+      AppendOutputBuffer buffer;
+      while ((buffer = shard.poll()) != null) {
+        flush(buffer, now);
+      }
+    }
+    cleanup(now);
+  }
 
-      builder.append(buffer.getData());
-      stringBufferMap.put(stringBufferKey, builder);
+  private void flushLoop(DelayQueue<AppendOutputBuffer> shard) {
+    while (!stopped) {
+      try {
+        AppendOutputBuffer buffer = shard.poll(IDLE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        long now = System.currentTimeMillis();
+        if (buffer != null) {
+          flush(buffer, now);
+        }
+        cleanup(now);
+      } catch (InterruptedException e) {
+        LOGGER.debug("AppendOutputRunner flush thread is interrupted");
+        return;
+      } catch (RuntimeException e) {
+        LOGGER.error("Fail to flush append-output", e);
+      }
     }
-    Long processingTime = System.currentTimeMillis() - processingStartTime;
+  }
 
+  private void flush(AppendOutputBuffer buffer, long now) {
+    String output = buffer.take(now);
+    if (output == null) {
+      return;
+    }
+    long processingStartTime = System.currentTimeMillis();
+    listener.onOutputAppend(buffer.getNoteId(), buffer.getParagraphId(), buffer.getIndex(),
+        output);
+    long processingTime = System.currentTimeMillis() - processingStartTime;
+    ExecutionTrace trace = ExecutionTrace.get(buffer.getParagraphId());
+    if (trace != null) {
+      trace.add("output", processingTime);
+      trace.max("output.lag", buffer.getLag());
+    }
     if (processingTime > SAFE_PROCESSING_TIME) {
-      LOGGER.warn("Processing time for buffered append-output is high: {} milliseconds.", processingTime);
+      LOGGER.warn("Processing time for buffered append-output is high: {} milliseconds.",
+          processingTime);
+    }
+    if (output.length() > SAFE_PROCESSING_STRING_SIZE) {
+      LOGGER.warn("Processing size for buffered append-output is high: {} characters.",
+          output.length());
     } else {
-      LOGGER.debug("Processing time for append-output took {} milliseconds", processingTime);
+      LOGGER.debug("Processing size for append-output is {} characters", output.length());
     }
+  }
 
-    Long sizeProcessed = new Long(0);
-    for (Entry<String, StringBuilder> stringBufferMapEntry : stringBufferMap.entrySet()) {
-      String stringBufferKey = stringBufferMapEntry.getKey();
-      StringBuilder buffer = stringBufferMapEntry.getValue();
-      sizeProcessed += buffer.length();
-      String[] keys = stringBufferKey.split(":");
-      listener.onOutputAppend(keys[0], keys[1], Integer.parseInt(keys[2]), buffer.toString());
-    }
+  public void appendBuffer(String noteId, String paragraphId, int index, String outputToAppend) {
+    long now = System.currentTimeMillis();
+    OutputKey key = new OutputKey(noteId, paragraphId, index);
+    buffers.compute(key, (k, buffer) -> {
+      if (buffer == null) {
+        buffer = new AppendOutputBuffer(noteId, paragraphId, index, bufferSize, overflowPolicy);
+        registerMeters(k, buffer);
+      }
+      long dropped = buffer.getTotalDropped();
+      boolean wasEmpty = buffer.append(outputToAppend, now);
+      if (buffer.getTotalDropped() > dropped) {
+        droppedCounter.increment(buffer.getTotalDropped() - dropped);
+      }
+      if (wasEmpty) {
+        schedule(k, buffer, now + getFlushInterval(buffer.getRate()));
+      } else if (buffer.size() >= FLUSH_SIZE) {
+        schedule(k, buffer, now);
+      }
+      return buffer;
+    });
+  }
 
-    if (sizeProcessed > SAFE_PROCESSING_STRING_SIZE) {
-      LOGGER.warn("Processing size for buffered append-output is high: {} characters.", sizeProcessed);
-    } else {
-      LOGGER.debug("Processing size for append-output is {} characters", sizeProcessed);
+  /**
+   * Interval between the first output buffered and its flush, for the given output rate.
+   */
+  static long getFlushInterval(double rate) {
+    return Math.min(MAX_FLUSH_INTERVAL_MS,
+        (long) (MIN_FLUSH_INTERVAL_MS * (1 + rate / INTERACTIVE_RATE)));
+  }
+
+  // called with the lock of the key, a buffer is changed only out of its queue
+  private void schedule(OutputKey key, AppendOutputBuffer buffer, long dueTime) {
+    DelayQueue<AppendOutputBuffer> shard = shards[(key.hashCode() & Integer.MAX_VALUE)
+        % shards.length];
+    shard.remove(buffer);
+    buffer.setDueTime(dueTime);
+    shard.add(buffer);
+  }
+
+  private void cleanup(long now) {
+    if (now - lastCleanupTime < IDLE_TIMEOUT_MS) {
+      return;
+    }
+    lastCleanupTime = now;
+    for (OutputKey key : buffers.keySet()) {
+      buffers.computeIfPresent(key, (k, buffer) -> {
+        if (!buffer.isIdle(now, IDLE_TIMEOUT_MS)) {
+          return buffer;
+        }
+        List<Meter> bufferMeters = meters.remove(k);
+        if (bufferMeters != null) {
+          bufferMeters.forEach(Metrics.globalRegistry::remove);
+        }
+        return null;
+      });
     }
   }
 
-  public void appendBuffer(String noteId, String paragraphId, int index, String outputToAppend) {
-    queue.offer(new AppendOutputBuffer(noteId, paragraphId, index, outputToAppend));
+  private void registerMeters(OutputKey key, AppendOutputBuffer buffer) {
+    Tags tags = Tags.of("note", String.valueOf(key.noteId),
+        "paragraph", String.valueOf(key.paragraphId), "index", String.valueOf(key.index));
+    meters.put(key, Arrays.asList(
+        Gauge.builder("interpreter.output.append.rate", buffer, AppendOutputBuffer::getRate)
+            .description("Paragraph output rate in characters per second")
+            .tags(tags)
+            .register(Metrics.globalRegistry),
+        Gauge.builder("interpreter.output.append.lag", buffer, AppendOutputBuffer::getLag)
+            .description("Time in msec the last paragraph output waited to be sent")
+            .tags(tags)
+            .register(Metrics.globalRegistry)));
+  }
+
+  AppendOutputBuffer getBuffer(String noteId, String paragraphId, int index) {
+    return buffers.get(new OutputKey(noteId, paragraphId, index));
   }
 
+  private static final class OutputKey {
+    private final String noteId;
+    private final String paragraphId;
+    private final int index;
+
+    OutputKey(String noteId, String paragraphId, int index) {
+      this.noteId = noteId;
+      this.paragraphId = paragraphId;
+      this.index = index;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof OutputKey)) {
+        return false;
+      }
+      OutputKey that = (OutputKey) o;
+      return index == that.index && Objects.equals(noteId, that.noteId)
+          && Objects.equals(paragraphId, that.paragraphId);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(noteId, paragraphId, index);
+    }
+  }
 }
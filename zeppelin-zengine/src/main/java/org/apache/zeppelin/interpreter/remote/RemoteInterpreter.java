@@ -37,6 +37,8 @@ import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterContext;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResult;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResultMessage;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService.Client;
+import org.apache.zeppelin.interpreter.thrift.RemoteJobQuery;
+import org.apache.zeppelin.scheduler.ExecutionTrace;
 import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.scheduler.RemoteScheduler;
 import org.apache.zeppelin.scheduler.Scheduler;
@@ -61,7 +63,7 @@ public class RemoteInterpreter extends Interpreter {
   private String sessionId;
   private FormType formType;
 
-  private RemoteInterpreterProcess interpreterProcess;
+  private volatile RemoteInterpreterProcess interpreterProcess;
   private volatile boolean isOpened = false;
   private volatile boolean isCreated = false;
 
@@ -205,9 +207,19 @@ public class RemoteInterpreter extends Interpreter {
       return new InterpreterResult(InterpreterResult.Code.ERROR,
               "Interpreter process is not running\n" + interpreterProcess.getErrorMessage());
     }
+    ExecutionTrace trace = ExecutionTrace.current();
+    long rpcStartTime = System.currentTimeMillis();
     return interpreterProcess.callRemoteFunction(client -> {
+          RemoteInterpreterContext remoteContext = convert(context);
+          if (trace != null) {
+            remoteContext.setTraceContext(trace.toContext());
+          }
           RemoteInterpreterResult remoteResult = client.interpret(
-              sessionId, className, st, convert(context));
+              sessionId, className, st, remoteContext);
+          if (trace != null) {
+            addRemoteSpans(trace, remoteResult.getTraceSpans(),
+                System.currentTimeMillis() - rpcStartTime);
+          }
           Map<String, Object> remoteConfig = (Map<String, Object>) GSON.fromJson(
               remoteResult.getConfig(), new TypeToken<Map<String, Object>>() {
               }.getType());
@@ -336,6 +348,33 @@ public class RemoteInterpreter extends Interpreter {
   }
 
 
+  /**
+   * Batch polling the jobs of the interpreter process, null when it is not opened yet.
+   */
+  public RemoteJobPollBatch getJobPollBatch() {
+    RemoteInterpreterProcess process = this.interpreterProcess;
+    if (!isOpened || process == null) {
+      return null;
+    }
+    return process.getJobPollBatch();
+  }
+
+  /**
+   * Query of the progress and the status of the paragraph run in this context.
+   */
+  public RemoteJobQuery getProgressQuery(InterpreterContext context) {
+    return new RemoteJobQuery(sessionId, className, convert(context));
+  }
+
+  /**
+   * Query of the status of the job, without progress.
+   */
+  public RemoteJobQuery getStatusQuery(String jobId) {
+    RemoteInterpreterContext context = new RemoteInterpreterContext();
+    context.setParagraphId(jobId);
+    return new RemoteJobQuery(sessionId, null, context);
+  }
+
   @Override
   public Scheduler getScheduler() {
     // one session own one Scheduler, so that when one session is closed, all the jobs/paragraphs
@@ -365,7 +404,23 @@ public class RemoteInterpreter extends Interpreter {
         ic.getReplName(), ic.getParagraphTitle(), ic.getParagraphText(),
         GSON.toJson(ic.getAuthenticationInfo()), GSON.toJson(ic.getConfig()), ic.getGui().toJson(),
         GSON.toJson(ic.getNoteGui()),
-        ic.getLocalProperties());
+        ic.getLocalProperties(),
+        null);
+  }
+
+  /**
+   * Add the stages run in the interpreter process, the rest of the call is the rpc overhead:
+   * borrowing a client, transport and serialization.
+   */
+  static void addRemoteSpans(ExecutionTrace trace, Map<String, Long> remoteSpans,
+                             long callTime) {
+    long remoteTime = 0;
+    if (remoteSpans != null) {
+      trace.addAll(remoteSpans);
+      remoteTime = remoteSpans.getOrDefault("interpreter.queue", 0L)
+          + remoteSpans.getOrDefault("interpreter.run", 0L);
+    }
+    trace.add("rpc", Math.max(0, callTime - remoteTime));
   }
 
   private InterpreterResult convert(RemoteInterpreterResult result) {
@@ -17,19 +17,23 @@
 package org.apache.zeppelin.interpreter.remote;
 
 import com.google.gson.Gson;
-import org.apache.thrift.protocol.TBinaryProtocol;
-import org.apache.thrift.protocol.TProtocol;
-import org.apache.thrift.transport.TSocket;
-import org.apache.thrift.transport.TTransportException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.interpreter.launcher.InterpreterClient;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService.Client;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.ToDoubleFunction;
 
 /**
  * Abstract class for interpreter process
@@ -43,6 +47,10 @@ public abstract class RemoteInterpreterProcess implements InterpreterClient {
   protected int intpEventServerPort;
   private PooledRemoteClient<Client> remoteClient;
   private String startTime;
+  private final RemoteJobPollBatch jobPollBatch = new RemoteJobPollBatch(this);
+  private final List<Meter> meters = new CopyOnWriteArrayList<>();
+  // last metrics sent by the process
+  private final Map<String, Double> processMetrics = new ConcurrentHashMap<>();
 
   public RemoteInterpreterProcess(int connectTimeout,
                                   int connectionPoolSize,
@@ -52,16 +60,9 @@ public abstract class RemoteInterpreterProcess implements InterpreterClient {
     this.intpEventServerHost = intpEventServerHost;
     this.intpEventServerPort = intpEventServerPort;
     this.startTime = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date());
-    this.remoteClient = new PooledRemoteClient<>(() -> {
-      TSocket transport = new TSocket(getHost(), getPort());
-      try {
-        transport.open();
-      } catch (TTransportException e) {
-        throw new IOException(e);
-      }
-      TProtocol protocol = new  TBinaryProtocol(transport);
-      return new Client(protocol);
-    }, connectionPoolSize);
+    RemoteTransport transport = RemoteTransport.fromConf(ZeppelinConfiguration.create());
+    this.remoteClient = new PooledRemoteClient<>(
+        () -> new Client(transport.openProtocol(getHost(), getPort())), connectionPoolSize);
   }
 
   public int getConnectTimeout() {
@@ -73,6 +74,11 @@ public abstract class RemoteInterpreterProcess implements InterpreterClient {
   }
 
   public void shutdown() {
+    for (Meter meter : meters) {
+      Metrics.globalRegistry.remove(meter);
+    }
+    meters.clear();
+    processMetrics.clear();
     if (remoteClient != null) {
       remoteClient.shutdown();
     }
@@ -98,11 +104,68 @@ public abstract class RemoteInterpreterProcess implements InterpreterClient {
     return remoteClient.callRemoteFunction(func);
   }
 
+  /**
+   * Batch fetching the progress and the status of the jobs running in this process.
+   */
+  public RemoteJobPollBatch getJobPollBatch() {
+    return jobPollBatch;
+  }
+
   public void init(ZeppelinConfiguration zConf) {
     callRemoteFunction(client -> {
       client.init(zConf.getProperties());
       return null;
     });
+    registerPoolMetrics();
+  }
+
+  private void registerPoolMetrics() {
+    Tags tags = Tags.of("group", String.valueOf(getInterpreterGroupId()));
+    registerPoolGauge("interpreter.connection.pool.active", "Clients in use", tags,
+        PooledRemoteClient::getNumActive);
+    registerPoolGauge("interpreter.connection.pool.idle", "Idle clients", tags,
+        PooledRemoteClient::getNumIdle);
+    registerPoolGauge("interpreter.connection.pool.waiters", "Callers waiting for a client", tags,
+        PooledRemoteClient::getNumWaiters);
+    registerPoolGauge("interpreter.connection.pool.borrow.wait.mean",
+        "Mean time waited for a client in msec", tags,
+        PooledRemoteClient::getMeanBorrowWaitTimeMillis);
+    registerPoolGauge("interpreter.connection.pool.borrow.wait.max",
+        "Max time waited for a client in msec", tags,
+        PooledRemoteClient::getMaxBorrowWaitTimeMillis);
+  }
+
+  private void registerPoolGauge(String name, String description, Tags tags,
+                                 ToDoubleFunction<PooledRemoteClient<Client>> value) {
+    meters.add(Gauge.builder(name, remoteClient, value)
+        .description(description)
+        .tags(tags)
+        .register(Metrics.globalRegistry));
+  }
+
+  /**
+   * Update the metrics sent by the process, exported as gauges named interpreter.process.[name].
+   *
+   * @param tags tags of the gauges, used when a metric is sent for the first time
+   */
+  public void updateProcessMetrics(Map<String, Double> metrics, Tags tags) {
+    for (Map.Entry<String, Double> metric : metrics.entrySet()) {
+      String name = metric.getKey();
+      if (processMetrics.put(name, metric.getValue()) == null) {
+        meters.add(Gauge.builder("interpreter.process." + name, processMetrics,
+            values -> values.getOrDefault(name, Double.NaN))
+            .description("Metric " + name + " of the interpreter process")
+            .tags(tags)
+            .register(Metrics.globalRegistry));
+      }
+    }
+  }
+
+  /**
+   * Last value of a metric sent by the process, or null if not sent yet.
+   */
+  public Double getProcessMetric(String name) {
+    return processMetrics.get(name);
   }
 
   @Override
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import org.apache.thrift.TApplicationException;
+import org.apache.zeppelin.interpreter.thrift.RemoteJobProgress;
+import org.apache.zeppelin.interpreter.thrift.RemoteJobQuery;
+import org.apache.zeppelin.scheduler.JobPollingTimer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fetches the progress and the status of the jobs of one interpreter process which are due
+ * in the same tick of the {@link JobPollingTimer} with one getProgressAll call.
+ */
+public class RemoteJobPollBatch implements JobPollingTimer.PollBatch {
+  private static final Logger LOGGER = LoggerFactory.getLogger(RemoteJobPollBatch.class);
+
+  /**
+   * Poll whose result is fetched by the batch.
+   */
+  public interface RemoteJobPoll extends JobPollingTimer.PollTask {
+
+    /**
+     * Query to send to the interpreter process, null when nothing needs to be fetched.
+     */
+    RemoteJobQuery getQuery();
+
+    void onResult(RemoteJobProgress result);
+  }
+
+  private final RemoteInterpreterProcess interpreterProcess;
+  // false when the interpreter process was started by a version without getProgressAll
+  private volatile boolean batchSupported = true;
+
+  public RemoteJobPollBatch(RemoteInterpreterProcess interpreterProcess) {
+    this.interpreterProcess = interpreterProcess;
+  }
+
+  @Override
+  public void pollAll(List<JobPollingTimer.PollTask> tasks) {
+    if (!batchSupported) {
+      pollEach(tasks);
+      return;
+    }
+    List<RemoteJobPoll> polls = new ArrayList<>(tasks.size());
+    List<RemoteJobQuery> queries = new ArrayList<>(tasks.size());
+    for (JobPollingTimer.PollTask task : tasks) {
+      if (task instanceof RemoteJobPoll) {
+        RemoteJobQuery query = ((RemoteJobPoll) task).getQuery();
+        if (query != null) {
+          polls.add((RemoteJobPoll) task);
+          queries.add(query);
+        }
+      } else {
+        task.poll();
+      }
+    }
+    if (queries.isEmpty()) {
+      return;
+    }
+
+    AtomicBoolean unknownMethod = new AtomicBoolean();
+    List<RemoteJobProgress> results = interpreterProcess.callRemoteFunction(client -> {
+      try {
+        return client.getProgressAll(queries);
+      } catch (TApplicationException e) {
+        if (e.getType() == TApplicationException.UNKNOWN_METHOD) {
+          unknownMethod.set(true);
+          return null;
+        }
+        throw e;
+      }
+    });
+    if (unknownMethod.get()) {
+      LOGGER.warn("Interpreter process doesn't support getProgressAll, poll the jobs one by one");
+      batchSupported = false;
+      pollEach(polls);
+      return;
+    }
+    if (results == null) {
+      return;
+    }
+    for (int i = 0; i < polls.size() && i < results.size(); i++) {
+      try {
+        polls.get(i).onResult(results.get(i));
+      } catch (Exception e) {
+        LOGGER.error("Can not update " + polls.get(i), e);
+      }
+    }
+  }
+
+  private void pollEach(List<? extends JobPollingTimer.PollTask> tasks) {
+    for (JobPollingTimer.PollTask task : tasks) {
+      try {
+        task.poll();
+      } catch (Exception e) {
+        LOGGER.error("Fail to poll " + task, e);
+      }
+    }
+  }
+}
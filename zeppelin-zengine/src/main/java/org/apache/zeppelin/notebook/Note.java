@@ -45,6 +45,7 @@ import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
 import org.apache.zeppelin.notebook.utility.IdHashes;
 import org.apache.zeppelin.scheduler.ExecutorFactory;
 import org.apache.zeppelin.scheduler.Job.Status;
+import org.apache.zeppelin.scheduler.JobPriority;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.apache.zeppelin.user.Credentials;
 import org.apache.zeppelin.util.Util;
@@ -746,6 +747,18 @@ public class Note implements JsonSerializable {
                      boolean blocking,
                      boolean isolated,
                      Map<String, Object> params) throws Exception {
+    runAll(authInfo, blocking, isolated, params, JobPriority.INTERACTIVE);
+  }
+
+  /**
+   * Run all the paragraphs of this note, with the given priority in the interpreter processes
+   * which use the fair scheduler.
+   */
+  public void runAll(AuthenticationInfo authInfo,
+                     boolean blocking,
+                     boolean isolated,
+                     Map<String, Object> params,
+                     JobPriority priority) throws Exception {
     if (isRunning()) {
       throw new Exception("Unable to run note:" + id + " because it is still in RUNNING state.");
     }
@@ -754,7 +767,7 @@ public class Note implements JsonSerializable {
     setStartTime(DATE_TIME_FORMATTER.format(LocalDateTime.now()));
     if (blocking) {
       try {
-        runAllSync(authInfo, isolated, params);
+        runAllSync(authInfo, isolated, params, priority);
       } finally {
         setRunning(false);
         setIsolatedMode(false);
@@ -763,7 +776,7 @@ public class Note implements JsonSerializable {
     } else {
       ExecutorFactory.singleton().getNoteJobExecutor().submit(() -> {
         try {
-          runAllSync(authInfo, isolated, params);
+          runAllSync(authInfo, isolated, params, priority);
         } catch (Exception e) {
           LOGGER.warn("Fail to run note: {}", id, e);
         } finally {
@@ -781,7 +794,8 @@ public class Note implements JsonSerializable {
    * @param authInfo
    * @param isolated
    */
-  private void runAllSync(AuthenticationInfo authInfo, boolean isolated, Map<String, Object> params) throws Exception {
+  private void runAllSync(AuthenticationInfo authInfo, boolean isolated, Map<String, Object> params,
+                          JobPriority priority) throws Exception {
     try {
       for (Paragraph p : getParagraphs()) {
         if (!p.isEnabled()) {
@@ -801,7 +815,7 @@ public class Note implements JsonSerializable {
             interpreter.setProperty(".noteId", id);
           }
           // Must run each paragraph in blocking way.
-          if (!run(p.getId(), true)) {
+          if (!run(p.getId(), null, true, null, priority)) {
             LOGGER.warn("Skip running the remain notes because paragraph {} fails", p.getId());
             return;
           }
@@ -863,12 +877,25 @@ public class Note implements JsonSerializable {
                      String interpreterGroupId,
                      boolean blocking,
                      String ctxUser) {
+    return run(paragraphId, interpreterGroupId, blocking, ctxUser, JobPriority.INTERACTIVE);
+  }
+
+  /**
+   * Run a single paragraph with the given priority in the interpreter process, if it uses the
+   * fair scheduler. Return true only when paragraph run successfully.
+   */
+  public boolean run(String paragraphId,
+                     String interpreterGroupId,
+                     boolean blocking,
+                     String ctxUser,
+                     JobPriority priority) {
     Paragraph p = getParagraph(paragraphId);
 
     if (isPersonalizedMode() && ctxUser != null)
       p = p.getUserParagraph(ctxUser);
 
     p.setListener(this.paragraphJobListener);
+    p.setPriority(priority);
     return p.execute(interpreterGroupId, blocking);
   }
 
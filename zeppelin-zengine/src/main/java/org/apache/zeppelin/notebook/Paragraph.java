@@ -20,6 +20,7 @@ package org.apache.zeppelin.notebook;
 import java.io.IOException;
 import java.security.SecureRandom;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -28,8 +29,13 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.zeppelin.common.JsonSerializable;
 import org.apache.zeppelin.display.AngularObject;
@@ -49,12 +55,21 @@ import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.InterpreterResult.Code;
 import org.apache.zeppelin.interpreter.InterpreterResultMessage;
 import org.apache.zeppelin.interpreter.InterpreterSetting;
+import org.apache.zeppelin.interpreter.InterpreterSettingManager;
 import org.apache.zeppelin.interpreter.ManagedInterpreterGroup;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreter;
+import org.apache.zeppelin.interpreter.remote.RemoteJobPollBatch;
 import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
+import org.apache.zeppelin.interpreter.thrift.RemoteJobProgress;
+import org.apache.zeppelin.interpreter.thrift.RemoteJobQuery;
+import org.apache.zeppelin.resource.Resource;
+import org.apache.zeppelin.resource.ResourceId;
 import org.apache.zeppelin.resource.ResourcePool;
+import org.apache.zeppelin.scheduler.ExecutionTrace;
 import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.scheduler.JobListener;
+import org.apache.zeppelin.scheduler.JobPriority;
+import org.apache.zeppelin.scheduler.JobProgressPoller;
 import org.apache.zeppelin.scheduler.JobWithProgressPoller;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.apache.zeppelin.user.Credentials;
@@ -65,6 +80,7 @@ import org.slf4j.LoggerFactory;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Strings;
 import com.google.common.collect.Maps;
+import com.google.gson.Gson;
 
 /**
  * Paragraph is a representation of an execution unit.
@@ -75,6 +91,7 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
   private static final Logger LOGGER = LoggerFactory.getLogger(Paragraph.class);
   private static final Pattern REPL_PATTERN =
       Pattern.compile("(\\s*)%([\\w\\.]+)(\\(.*?\\))?.*", Pattern.DOTALL);
+  public static final String TRACE_RUNTIME_INFO = "trace";
 
   private String title;
   // text is composed of intpText and scriptText.
@@ -103,6 +120,9 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
 
   private Map<String, ParagraphRuntimeInfo> runtimeInfos = new HashMap<>();
   private transient List<InterpreterResultMessage> outputBuffer = new ArrayList<>();
+  // trace of the run from its submission until its completion is broadcast
+  private transient volatile ExecutionTrace executionTrace;
+  private transient volatile JobPriority priority;
 
 
   @VisibleForTesting
@@ -174,10 +194,29 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
     userParagraphMap.put(user, p);
   }
 
+  @Override
   public String getUser() {
     return user;
   }
 
+  @Override
+  public String getNoteId() {
+    return note != null ? note.getId() : null;
+  }
+
+  @Override
+  public JobPriority getPriority() {
+    return priority != null ? priority : JobPriority.INTERACTIVE;
+  }
+
+  /**
+   * Priority of the next run in the interpreter process, if its interpreter setting uses the
+   * fair scheduler.
+   */
+  public void setPriority(JobPriority priority) {
+    this.priority = priority;
+  }
+
   public String getText() {
     return text;
   }
@@ -323,6 +362,49 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
     return null;
   }
 
+  @Override
+  protected JobProgressPoller createProgressPoller(long intervalMs) {
+    return new ParagraphProgressPoller(intervalMs);
+  }
+
+  /**
+   * Fetches the progress of the paragraph together with the other paragraphs running in the
+   * same interpreter process.
+   */
+  private class ParagraphProgressPoller extends JobProgressPoller
+      implements RemoteJobPollBatch.RemoteJobPoll {
+
+    ParagraphProgressPoller(long intervalMs) {
+      super(Paragraph.this, intervalMs);
+    }
+
+    @Override
+    public RemoteJobPollBatch getBatch() {
+      Interpreter intp = interpreter;
+      if (intp instanceof RemoteInterpreter) {
+        return ((RemoteInterpreter) intp).getJobPollBatch();
+      }
+      return null;
+    }
+
+    @Override
+    public RemoteJobQuery getQuery() {
+      Interpreter intp = interpreter;
+      if (!isRunning() || isStopped() || !(intp instanceof RemoteInterpreter)) {
+        return null;
+      }
+      return ((RemoteInterpreter) intp).getProgressQuery(getInterpreterContext());
+    }
+
+    @Override
+    public void onResult(RemoteJobProgress result) {
+      if (result.isSetProgress()) {
+        progress = result.getProgress();
+        onProgress(result.getProgress());
+      }
+    }
+  }
+
   public boolean shouldSkipRunParagraph() {
     boolean checkEmptyConfig =
             (Boolean) config.getOrDefault(InterpreterSetting.PARAGRAPH_CONFIG_CHECK_EMTPY, true);
@@ -360,6 +442,9 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
 
       if (isEnabled()) {
         setAuthenticationInfo(getAuthenticationInfo());
+        ExecutionTrace trace = new ExecutionTrace();
+        this.executionTrace = trace;
+        ExecutionTrace.register(getId(), trace);
         interpreter.getScheduler().submit(this);
        } else {
         LOGGER.info("Skip disabled paragraph. {}", getId());
@@ -387,6 +472,11 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
       setReturn(intpResult, e);
       setStatus(Job.Status.ERROR);
       return false;
+    } catch (RejectedExecutionException e) {
+      // the queue of the fair scheduler is full
+      setReturn(new InterpreterResult(InterpreterResult.Code.ERROR, e.getMessage()), e);
+      setStatus(Job.Status.ERROR);
+      return false;
     } catch (Throwable e) {
       InterpreterResult intpResult =
               new InterpreterResult(InterpreterResult.Code.ERROR,
@@ -403,15 +493,78 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
     // reset interpreterGroupId when paragraph is completed.
     if (status.isCompleted()) {
       this.interpreterGroupId = null;
+      completeExecutionTrace();
     }
   }
 
+  /**
+   * Trace of the current run, null if the paragraph is not running.
+   */
+  public ExecutionTrace getExecutionTrace() {
+    return executionTrace;
+  }
+
+  // called once the listeners have handled the completion, e.g. saved and broadcast the result
+  private void completeExecutionTrace() {
+    ExecutionTrace trace = this.executionTrace;
+    if (trace == null) {
+      return;
+    }
+    this.executionTrace = null;
+    ExecutionTrace.unregister(getId(), trace);
+    trace.add("total", trace.getElapsed());
+    updateTraceRuntimeInfo(trace);
+    LOGGER.debug("Paragraph {} run: {}", getId(), trace);
+
+    InterpreterSetting interpreterSetting = getTracedInterpreterSetting();
+    String interpreterName = interpreterSetting != null ? interpreterSetting.getName() : "unknown";
+    for (Map.Entry<String, Long> span : trace.getSpans().entrySet()) {
+      Timer.builder("paragraph.execution")
+          .description("Time spent by the paragraph runs in each stage")
+          .tags("stage", span.getKey(), "interpreter", interpreterName)
+          .publishPercentileHistogram()
+          .register(Metrics.globalRegistry)
+          .record(span.getValue(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void updateTraceRuntimeInfo(ExecutionTrace trace) {
+    InterpreterSetting interpreterSetting = getTracedInterpreterSetting();
+    if (interpreterSetting == null) {
+      return;
+    }
+    Map<String, String> spans = new LinkedHashMap<>();
+    spans.put(ExecutionTrace.TRACE_ID, trace.getTraceId());
+    for (Map.Entry<String, Long> span : trace.getSpans().entrySet()) {
+      spans.put(span.getKey(), String.valueOf(span.getValue()));
+    }
+    ParagraphRuntimeInfo info = new ParagraphRuntimeInfo(TRACE_RUNTIME_INFO, "Execution trace",
+        "Time in msec spent in each stage of the last run", interpreterSetting.getGroup(),
+        interpreterSetting.getId());
+    info.addValue(spans);
+    runtimeInfos.put(TRACE_RUNTIME_INFO, info);
+  }
+
+  private InterpreterSetting getTracedInterpreterSetting() {
+    if (interpreter == null
+        || !(interpreter.getInterpreterGroup() instanceof ManagedInterpreterGroup)) {
+      return null;
+    }
+    return ((ManagedInterpreterGroup) interpreter.getInterpreterGroup()).getInterpreterSetting();
+  }
+
   @Override
   protected InterpreterResult jobRun() throws Throwable {
+    ExecutionTrace trace = this.executionTrace;
+    if (trace != null) {
+      trace.add("queue", trace.getElapsed());
+      ExecutionTrace.setCurrent(trace);
+    }
     try {
       if (localProperties.getOrDefault("isRecover", "false").equals("false")) {
         this.runtimeInfos.clear();
       }
+      localProperties.put(JobPriority.LOCAL_PROPERTY, getPriority().name());
       this.interpreter = getBindedInterpreter();
       if (this.interpreter == null) {
         LOGGER.error("Can not find interpreter name " + intpText);
@@ -439,6 +592,23 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
         p.setText(getText());
       }
 
+      // looked up before the forms are resolved, which may need the interpreter process
+      ParagraphResultCache resultCache = ParagraphResultCache.getInstance();
+      String resultCacheKey = null;
+      if (resultCache.isCacheable(config)) {
+        resultCacheKey = getResultCacheKey(interpreterSetting);
+        InterpreterResult cachedResult = resultCache.get(resultCacheKey);
+        if (cachedResult != null) {
+          LOGGER.info("Use the cached result of paragraph {}", getId());
+          Paragraph p = getUserParagraph(getUser());
+          if (null != p) {
+            p.setResult(cachedResult);
+            p.settings.setParams(settings.getParams());
+          }
+          return cachedResult;
+        }
+      }
+
       // inject form
       String script = this.scriptText;
       String form = localProperties.getOrDefault("form", interpreter.getFormType().name());
@@ -498,6 +668,9 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
         if (Code.KEEP_PREVIOUS_RESULT == ret.code()) {
           return getReturn();
         }
+        if (resultCacheKey != null && Code.SUCCESS == ret.code()) {
+          resultCache.put(resultCacheKey, ret, resultCache.getTtlMs(config));
+        }
 
         Paragraph p = getUserParagraph(getUser());
         if (null != p) {
@@ -513,7 +686,87 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
       return new InterpreterResult(Code.ERROR, ExceptionUtils.getStackTrace(e));
     } finally {
       localProperties.remove("isRecover");
+      localProperties.remove(JobPriority.LOCAL_PROPERTY);
+      if (trace != null) {
+        ExecutionTrace.setCurrent(null);
+        // broadcast with the result, completeExecutionTrace adds the stages after it
+        updateTraceRuntimeInfo(trace);
+      }
+    }
+  }
+
+  /**
+   * Key of the result in the {@link ParagraphResultCache}. The raw script is hashed together with
+   * all the params and angular objects of the paragraph, since the forms are not resolved yet.
+   */
+  private String getResultCacheKey(InterpreterSetting interpreterSetting) {
+    Gson gson = Note.getGSON();
+    // set by the scheduler for this run only, they don't change the result
+    TreeMap<String, String> resultProperties = new TreeMap<>(localProperties);
+    resultProperties.remove("isRecover");
+    resultProperties.remove(JobPriority.LOCAL_PROPERTY);
+    ParagraphResultCache.KeyBuilder key = new ParagraphResultCache.KeyBuilder()
+        .add("intpText", intpText)
+        .add("script", scriptText)
+        .add("localProperties", resultProperties)
+        .add("className", interpreter.getClassName())
+        .add("setting", interpreterSetting.getId())
+        .add("properties", gson.toJson(sorted(interpreterSetting.getProperties())))
+        .add("params", gson.toJson(sorted(settings.getParams())))
+        .add("noteParams", gson.toJson(sorted(note.getNoteParams())))
+        .add("user", getUser());
+
+    AngularObjectRegistry angularRegistry =
+        interpreter.getInterpreterGroup().getAngularObjectRegistry();
+    if (angularRegistry != null) {
+      TreeMap<String, Object> angularObjects = new TreeMap<>();
+      for (AngularObject ao : angularRegistry.getAll(note.getId(), null)) {
+        angularObjects.put(ao.getName(), ao.get());
+      }
+      for (AngularObject ao : angularRegistry.getAll(note.getId(), getId())) {
+        angularObjects.put(ao.getName(), ao.get());
+      }
+      key.add("angularObjects", gson.toJson(angularObjects));
+    }
+
+    // the resources of the other paragraphs of the note and the ones listed in the config
+    InterpreterSettingManager interpreterSettingManager = note.getInterpreterSettingManager();
+    if (interpreterSettingManager != null) {
+      Set<String> resourceNames = new HashSet<>();
+      Object configResources = config.get(ParagraphResultCache.CONFIG_RESOURCES);
+      if (configResources instanceof Collection) {
+        for (Object name : (Collection<?>) configResources) {
+          resourceNames.add(String.valueOf(name));
+        }
+      } else if (configResources != null) {
+        for (String name : configResources.toString().split(",")) {
+          resourceNames.add(name.trim());
+        }
+      }
+      TreeMap<String, Long> versions = new TreeMap<>();
+      for (Resource resource :
+          interpreterSettingManager.getAllResourcesOf(note.getId(), resourceNames)) {
+        ResourceId id = resource.getResourceId();
+        boolean upstream =
+            note.getId().equals(id.getNoteId()) && !getId().equals(id.getParagraphId());
+        if (upstream || resourceNames.contains(id.getName())) {
+          versions.put(id.toJson(), resource.getVersion());
+        }
+      }
+      key.add("resources", gson.toJson(versions));
+    }
+    return key.build();
+  }
+
+  private static Object sorted(Object o) {
+    if (o instanceof Map) {
+      TreeMap<String, Object> map = new TreeMap<>();
+      for (Map.Entry<?, ?> e : ((Map<?, ?>) o).entrySet()) {
+        map.put(String.valueOf(e.getKey()), e.getValue());
+      }
+      return map;
     }
+    return o;
   }
 
   @Override
@@ -0,0 +1,346 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import org.apache.commons.io.FileUtils;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Cache of the paragraph results, keyed by a hash of everything the result depends on: the
+ * paragraph text, the form params, the interpreter setting and the versions of the upstream
+ * resources. Only the paragraphs which set {@link #CONFIG_ENABLED} in their config are cached.
+ *
+ * The least recently used results are spilled to disk when the memory budget is exceeded, and
+ * dropped when the disk budget is exceeded or their ttl is over.
+ */
+public class ParagraphResultCache {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ParagraphResultCache.class);
+
+  /** Paragraph config to enable the cache of the paragraph result. */
+  public static final String CONFIG_ENABLED = "resultCache";
+  /** Paragraph config to override the ttl in seconds. */
+  public static final String CONFIG_TTL = "resultCacheTtl";
+  /**
+   * Paragraph config listing the names of the resources the result depends on, besides the
+   * resources of the other paragraphs of the note.
+   */
+  public static final String CONFIG_RESOURCES = "resultCacheResources";
+
+  private static final Pattern SPILL_FILE_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+  private static ParagraphResultCache instance;
+
+  public static synchronized ParagraphResultCache getInstance() {
+    if (instance == null) {
+      instance = new ParagraphResultCache(ZeppelinConfiguration.create());
+    }
+    return instance;
+  }
+
+  @VisibleForTesting
+  static synchronized void setInstance(ParagraphResultCache cache) {
+    instance = cache;
+  }
+
+  private static class Entry {
+    private final long size;
+    private final long expireTime;
+    // null when spilled to disk
+    private final byte[] data;
+
+    Entry(long size, long expireTime, byte[] data) {
+      this.size = size;
+      this.expireTime = expireTime;
+      this.data = data;
+    }
+  }
+
+  private final boolean enabled;
+  private final long defaultTtlMs;
+  private final long memorySize;
+  private final long diskSize;
+  private final File spillDir;
+
+  // access ordered, the eldest entries are the least recently used
+  private final LinkedHashMap<String, Entry> memory = new LinkedHashMap<>(16, 0.75f, true);
+  private final LinkedHashMap<String, Entry> disk = new LinkedHashMap<>(16, 0.75f, true);
+  private long memoryUsed;
+  private long diskUsed;
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  public ParagraphResultCache(ZeppelinConfiguration conf) {
+    this(conf.isParagraphResultCacheEnabled(),
+        TimeUnit.SECONDS.toMillis(conf.getLong(ConfVars.ZEPPELIN_PARAGRAPH_RESULT_CACHE_TTL)),
+        conf.getLong(ConfVars.ZEPPELIN_PARAGRAPH_RESULT_CACHE_MEMORY_SIZE),
+        conf.getLong(ConfVars.ZEPPELIN_PARAGRAPH_RESULT_CACHE_DISK_SIZE),
+        new File(conf.getParagraphResultCacheDir()));
+  }
+
+  public ParagraphResultCache(boolean enabled, long defaultTtlMs, long memorySize, long diskSize,
+                              File spillDir) {
+    this.enabled = enabled;
+    this.defaultTtlMs = defaultTtlMs;
+    this.memorySize = memorySize;
+    this.diskSize = diskSize;
+    this.spillDir = spillDir;
+    // the spilled results of the previous run can't be hit, the resource versions changed
+    File[] spilled = spillDir.listFiles((dir, name) -> SPILL_FILE_PATTERN.matcher(name).matches());
+    if (spilled != null) {
+      for (File file : spilled) {
+        FileUtils.deleteQuietly(file);
+      }
+    }
+    this.hitCounter = Metrics.counter("paragraph.result.cache", "result", "hit");
+    this.missCounter = Metrics.counter("paragraph.result.cache", "result", "miss");
+    Metrics.gauge("paragraph.result.cache.hit.ratio", this, ParagraphResultCache::getHitRate);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Whether the result of the paragraph with this config is cached.
+   */
+  public boolean isCacheable(Map<String, Object> paragraphConfig) {
+    return enabled && paragraphConfig != null
+        && Boolean.parseBoolean(String.valueOf(paragraphConfig.get(CONFIG_ENABLED)));
+  }
+
+  public long getTtlMs(Map<String, Object> paragraphConfig) {
+    Object ttl = paragraphConfig == null ? null : paragraphConfig.get(CONFIG_TTL);
+    if (ttl == null) {
+      return defaultTtlMs;
+    }
+    try {
+      return (long) (Double.parseDouble(ttl.toString()) * 1000);
+    } catch (NumberFormatException e) {
+      LOGGER.warn("Invalid {}: {}", CONFIG_TTL, ttl);
+      return defaultTtlMs;
+    }
+  }
+
+  /**
+   * @return the cached result, null when it is not cached or expired.
+   */
+  public synchronized InterpreterResult get(String key) {
+    long now = System.currentTimeMillis();
+    byte[] data = null;
+    Entry entry = memory.get(key);
+    if (entry != null) {
+      if (entry.expireTime > now) {
+        data = entry.data;
+      } else {
+        removeFromMemory(key);
+      }
+    } else {
+      entry = disk.get(key);
+      if (entry != null) {
+        if (entry.expireTime > now) {
+          data = readSpilled(key);
+        }
+        removeFromDisk(key);
+        if (data != null) {
+          // recently used again, back in memory
+          putInMemory(key, new Entry(data.length, entry.expireTime, data));
+        }
+      }
+    }
+
+    if (data == null) {
+      misses.incrementAndGet();
+      missCounter.increment();
+      return null;
+    }
+    hits.incrementAndGet();
+    hitCounter.increment();
+    return InterpreterResult.fromJson(new String(data, StandardCharsets.UTF_8));
+  }
+
+  public synchronized void put(String key, InterpreterResult result, long ttlMs) {
+    if (ttlMs <= 0) {
+      return;
+    }
+    byte[] data = result.toJson().getBytes(StandardCharsets.UTF_8);
+    removeFromMemory(key);
+    removeFromDisk(key);
+    putInMemory(key, new Entry(data.length, System.currentTimeMillis() + ttlMs, data));
+  }
+
+  public synchronized void clear() {
+    memory.clear();
+    memoryUsed = 0;
+    for (String key : disk.keySet()) {
+      FileUtils.deleteQuietly(spillFile(key));
+    }
+    disk.clear();
+    diskUsed = 0;
+  }
+
+  public long getHitCount() {
+    return hits.get();
+  }
+
+  public long getMissCount() {
+    return misses.get();
+  }
+
+  public double getHitRate() {
+    long hitCount = hits.get();
+    long total = hitCount + misses.get();
+    return total == 0 ? 0 : (double) hitCount / total;
+  }
+
+  synchronized long getMemoryUsed() {
+    return memoryUsed;
+  }
+
+  synchronized long getDiskUsed() {
+    return diskUsed;
+  }
+
+  private void putInMemory(String key, Entry entry) {
+    memory.put(key, entry);
+    memoryUsed += entry.size;
+    Iterator<Map.Entry<String, Entry>> it = memory.entrySet().iterator();
+    while (memoryUsed > memorySize && it.hasNext()) {
+      Map.Entry<String, Entry> eldest = it.next();
+      it.remove();
+      memoryUsed -= eldest.getValue().size;
+      if (eldest.getValue().expireTime > System.currentTimeMillis()) {
+        spill(eldest.getKey(), eldest.getValue());
+      }
+    }
+  }
+
+  private void removeFromMemory(String key) {
+    Entry entry = memory.remove(key);
+    if (entry != null) {
+      memoryUsed -= entry.size;
+    }
+  }
+
+  private void spill(String key, Entry entry) {
+    if (entry.size > diskSize) {
+      return;
+    }
+    try {
+      FileUtils.forceMkdir(spillDir);
+      Files.write(spillFile(key).toPath(), entry.data);
+    } catch (IOException e) {
+      LOGGER.warn("Fail to spill the paragraph result to " + spillDir, e);
+      return;
+    }
+    disk.put(key, new Entry(entry.size, entry.expireTime, null));
+    diskUsed += entry.size;
+    Iterator<Map.Entry<String, Entry>> it = disk.entrySet().iterator();
+    while (diskUsed > diskSize && it.hasNext()) {
+      Map.Entry<String, Entry> eldest = it.next();
+      it.remove();
+      diskUsed -= eldest.getValue().size;
+      FileUtils.deleteQuietly(spillFile(eldest.getKey()));
+    }
+  }
+
+  private byte[] readSpilled(String key) {
+    try {
+      return Files.readAllBytes(spillFile(key).toPath());
+    } catch (IOException e) {
+      LOGGER.warn("Fail to read the spilled paragraph result " + key, e);
+      return null;
+    }
+  }
+
+  private void removeFromDisk(String key) {
+    Entry entry = disk.remove(key);
+    if (entry != null) {
+      diskUsed -= entry.size;
+      FileUtils.deleteQuietly(spillFile(key));
+    }
+  }
+
+  private File spillFile(String key) {
+    return new File(spillDir, key);
+  }
+
+  /**
+   * Builds the cache key, a hex encoded sha-256 of the given parts.
+   */
+  public static class KeyBuilder {
+    private final MessageDigest digest;
+
+    public KeyBuilder() {
+      try {
+        digest = MessageDigest.getInstance("SHA-256");
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    public KeyBuilder add(String name, Object value) {
+      update(name);
+      update(value == null ? null : value.toString());
+      return this;
+    }
+
+    private void update(String s) {
+      if (s == null) {
+        digest.update((byte) 0);
+        return;
+      }
+      byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+      // length prefixed, so that the parts can't be shifted into each other
+      digest.update((byte) 1);
+      digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) ':');
+      digest.update(bytes);
+    }
+
+    public String build() {
+      StringBuilder sb = new StringBuilder();
+      for (byte b : digest.digest()) {
+        sb.append(String.format("%02x", b));
+      }
+      return sb.toString();
+    }
+  }
+}
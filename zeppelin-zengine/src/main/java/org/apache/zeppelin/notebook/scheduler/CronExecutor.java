@@ -0,0 +1,378 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook.scheduler;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.interpreter.InterpreterSetting;
+import org.apache.zeppelin.interpreter.InterpreterSettingManager;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.Notebook;
+import org.apache.zeppelin.notebook.Paragraph;
+import org.apache.zeppelin.scheduler.ExecutorFactory;
+import org.apache.zeppelin.scheduler.JobPriority;
+import org.apache.zeppelin.scheduler.SchedulerThreadFactory;
+import org.apache.zeppelin.user.AuthenticationInfo;
+import org.apache.zeppelin.util.ExecutorUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the notes whose cron fired, out of the quartz threads.
+ *
+ * The runs wait in a queue, and start when there are less than maxConcurrency runs in total and
+ * less than maxConcurrencyPerSetting runs using each interpreter setting of the note. A run can
+ * be delayed by a random jitter, so that the notes scheduled at the same time don't start their
+ * interpreters at once. When the cron of a note fires while its previous run is queued or
+ * running, the new run is skipped or coalesced into one more run, according to the
+ * {@link MisfirePolicy}.
+ */
+public class CronExecutor {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CronExecutor.class);
+
+  /**
+   * What to do when the cron of a note fires while its previous run is queued or running.
+   */
+  public enum MisfirePolicy {
+    SKIP,
+    COALESCE;
+
+    public static MisfirePolicy fromString(String policy) {
+      return valueOf(policy.trim().toUpperCase());
+    }
+  }
+
+  /**
+   * Result of a cron fire.
+   */
+  public enum Result {
+    // the run is queued, or started
+    QUEUED,
+    // the note will run once more after its current run
+    COALESCED,
+    SKIPPED
+  }
+
+  private static final String RESULT_SUCCEEDED = "succeeded";
+  private static final String RESULT_FAILED = "failed";
+  private static final String RESULT_SKIPPED = "skipped";
+
+  private final Notebook notebook;
+  private final int maxConcurrency;
+  private final int maxConcurrencyPerSetting;
+  private final long maxJitterMs;
+  private final MisfirePolicy misfirePolicy;
+  private final CronOwnership ownership;
+  private final ExecutorService workers;
+  private final ScheduledExecutorService delayer;
+
+  // guarded by this
+  private final Map<String, CronRun> runs = new HashMap<>();
+  private final LinkedList<CronRun> queue = new LinkedList<>();
+  private final Map<String, Integer> runningPerSetting = new HashMap<>();
+  private int running;
+  private boolean closed;
+
+  @VisibleForTesting
+  CronExecutor(Notebook notebook,
+               int maxConcurrency,
+               int maxConcurrencyPerSetting,
+               long maxJitterMs,
+               MisfirePolicy misfirePolicy,
+               CronOwnership ownership) {
+    this.notebook = notebook;
+    this.maxConcurrency = Math.max(1, maxConcurrency);
+    this.maxConcurrencyPerSetting = maxConcurrencyPerSetting;
+    this.maxJitterMs = maxJitterMs;
+    this.misfirePolicy = misfirePolicy;
+    this.ownership = ownership;
+    // the runs are limited by the executor, idle threads are released
+    this.workers = Executors.newCachedThreadPool(new SchedulerThreadFactory("CronJobThread-"));
+    this.delayer = ExecutorFactory.singleton().createOrGetScheduled("CronJitterThread-", 1);
+  }
+
+  public static CronExecutor create(ZeppelinConfiguration zConf, Notebook notebook) {
+    return new CronExecutor(notebook,
+        zConf.getZeppelinNotebookCronMaxConcurrency(),
+        zConf.getZeppelinNotebookCronMaxConcurrencyPerSetting(),
+        zConf.getZeppelinNotebookCronMaxJitter(),
+        MisfirePolicy.fromString(zConf.getZeppelinNotebookCronMisfire()),
+        CronOwnership.create(zConf));
+  }
+
+  public MisfirePolicy getMisfirePolicy() {
+    return misfirePolicy;
+  }
+
+  /**
+   * Called by the cron of the note.
+   */
+  public Result submit(String noteId) {
+    if (ownership != null && !ownership.isOwner(noteId)) {
+      LOGGER.debug("Skip cron of note {}, it is run by another zeppelin server", noteId);
+      return Result.SKIPPED;
+    }
+    Note note = getNote(noteId);
+    if (note == null) {
+      return Result.SKIPPED;
+    }
+    long delay;
+    synchronized (this) {
+      if (closed) {
+        LOGGER.debug("Skip cron of note {}, the cron executor is closed", noteId);
+        return Result.SKIPPED;
+      }
+      CronRun run = runs.get(noteId);
+      if (run != null) {
+        if (misfirePolicy == MisfirePolicy.SKIP) {
+          LOGGER.warn("Skip cron of note {}, its previous run is still {}", noteId,
+              run.started ? "running" : "queued");
+          return Result.SKIPPED;
+        }
+        if (run.started) {
+          run.rerun = true;
+        }
+        return Result.COALESCED;
+      }
+      if (note.haveRunningOrPendingParagraphs()) {
+        LOGGER.warn("execution of the cron job is skipped because there is a running or pending "
+            + "paragraph (note id: {})", noteId);
+        return Result.SKIPPED;
+      }
+      run = new CronRun(noteId,
+          getInterpreterSettings(notebook.getInterpreterSettingManager(), note));
+      runs.put(noteId, run);
+      delay = maxJitterMs > 0 ? ThreadLocalRandom.current().nextLong(maxJitterMs + 1) : 0;
+      if (delay == 0) {
+        queue.add(run);
+        dispatch();
+        return Result.QUEUED;
+      }
+      LOGGER.debug("Delay cron of note {} by {} ms", noteId, delay);
+      CronRun delayed = run;
+      delayer.schedule(() -> enqueue(delayed), delay, TimeUnit.MILLISECONDS);
+    }
+    return Result.QUEUED;
+  }
+
+  private synchronized void enqueue(CronRun run) {
+    if (closed) {
+      runs.remove(run.noteId);
+      return;
+    }
+    queue.add(run);
+    dispatch();
+  }
+
+  // start the queued runs which are allowed to, in the order they were queued
+  private synchronized void dispatch() {
+    if (closed) {
+      return;
+    }
+    Iterator<CronRun> iterator = queue.iterator();
+    while (iterator.hasNext() && running < maxConcurrency) {
+      CronRun run = iterator.next();
+      if (!canStart(run)) {
+        continue;
+      }
+      iterator.remove();
+      run.started = true;
+      running++;
+      for (String setting : run.settings) {
+        runningPerSetting.merge(setting, 1, Integer::sum);
+      }
+      workers.execute(() -> execute(run));
+    }
+  }
+
+  private boolean canStart(CronRun run) {
+    if (maxConcurrencyPerSetting <= 0) {
+      return true;
+    }
+    for (String setting : run.settings) {
+      if (runningPerSetting.getOrDefault(setting, 0) >= maxConcurrencyPerSetting) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void execute(CronRun run) {
+    try {
+      runNote(run.noteId);
+    } finally {
+      finish(run);
+    }
+  }
+
+  private synchronized void finish(CronRun run) {
+    running--;
+    for (String setting : run.settings) {
+      runningPerSetting.computeIfPresent(setting, (k, count) -> count > 1 ? count - 1 : null);
+    }
+    if (run.rerun) {
+      LOGGER.info("Run note {} once more for the cron fired during its run", run.noteId);
+      run.rerun = false;
+      run.started = false;
+      queue.add(run);
+    } else {
+      runs.remove(run.noteId);
+    }
+    dispatch();
+  }
+
+  private void runNote(String noteId) {
+    Timer.Sample sample = Timer.start(Metrics.globalRegistry);
+    String result = RESULT_SKIPPED;
+    Note note = getNote(noteId);
+    try {
+      if (note == null) {
+        return;
+      }
+      if (note.haveRunningOrPendingParagraphs()) {
+        LOGGER.warn("execution of the cron job is skipped because there is a running or pending "
+            + "paragraph (note id: {})", noteId);
+        return;
+      }
+      String cronExecutingUser = (String) note.getConfig().get("cronExecutingUser");
+      String cronExecutingRoles = (String) note.getConfig().get("cronExecutingRoles");
+      if (null == cronExecutingUser) {
+        cronExecutingUser = "anonymous";
+      }
+      AuthenticationInfo authenticationInfo =
+          new AuthenticationInfo(
+              cronExecutingUser,
+              StringUtils.isEmpty(cronExecutingRoles) ? null : cronExecutingRoles,
+              null);
+      try {
+        note.runAll(authenticationInfo, true, true, new HashMap<>(), JobPriority.CRON);
+        result = RESULT_SUCCEEDED;
+      } catch (Exception e) {
+        result = RESULT_FAILED;
+        LOGGER.warn("Fail to run note: {}", note.getName(), e);
+      }
+    } finally {
+      LOGGER.info("cron run of note {} is {}", noteId, result);
+      String name = note == null ? null : note.getName();
+      sample.stop(Metrics.timer("cronjob", Tags.of(Tag.of("nodeid", noteId),
+          Tag.of("name", StringUtils.defaultString(name, "unknown")),
+          Tag.of("result", result))));
+    }
+  }
+
+  private Note getNote(String noteId) {
+    try {
+      Note note = notebook.getNote(noteId);
+      if (note == null) {
+        LOGGER.warn("Skip cron of note {} because there's no such note", noteId);
+      }
+      return note;
+    } catch (IOException e) {
+      LOGGER.warn("Skip cron of note {} because fail to get it", noteId, e);
+      return null;
+    }
+  }
+
+  /**
+   * Ids of the interpreter settings used by the paragraphs of the note, so that the aliases of
+   * a setting (e.g. %spark and %sql) count as the same setting. They are resolved from the
+   * paragraph text, no interpreter is created before the run starts.
+   */
+  @VisibleForTesting
+  static Set<String> getInterpreterSettings(InterpreterSettingManager interpreterSettingManager,
+                                            Note note) {
+    Set<String> settings = new HashSet<>();
+    for (Paragraph paragraph : note.getParagraphs()) {
+      if (!paragraph.isEnabled() || StringUtils.isBlank(paragraph.getText())) {
+        continue;
+      }
+      InterpreterSetting setting = interpreterSettingManager.getInterpreterSettingByReplName(
+          paragraph.getIntpText(), note.getDefaultInterpreterGroup());
+      if (setting == null) {
+        // the paragraph fails when it is run, it doesn't use any setting
+        LOGGER.debug("No interpreter for paragraph {} of note {}", paragraph.getId(),
+            note.getId());
+        continue;
+      }
+      settings.add(setting.getId());
+    }
+    return settings;
+  }
+
+  /**
+   * Drop the queued runs, and wait for the running ones to finish before interrupting them.
+   */
+  public void close() {
+    synchronized (this) {
+      closed = true;
+      for (CronRun run : queue) {
+        runs.remove(run.noteId);
+      }
+      queue.clear();
+    }
+    ExecutorUtil.softShutdown("CronJobThread", workers, 1, TimeUnit.MINUTES);
+  }
+
+  @VisibleForTesting
+  synchronized int getRunning() {
+    return running;
+  }
+
+  @VisibleForTesting
+  synchronized List<String> getQueuedNotes() {
+    List<String> noteIds = new ArrayList<>();
+    for (CronRun run : queue) {
+      noteIds.add(run.noteId);
+    }
+    return noteIds;
+  }
+
+  private static final class CronRun {
+    private final String noteId;
+    private final Set<String> settings;
+    // guarded by the executor
+    private boolean started;
+    private boolean rerun;
+
+    CronRun(String noteId, Set<String> settings) {
+      this.noteId = noteId;
+      this.settings = settings;
+    }
+  }
+}
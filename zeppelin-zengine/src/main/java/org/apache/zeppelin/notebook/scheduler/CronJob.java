@@ -17,53 +17,23 @@
 
 package org.apache.zeppelin.notebook.scheduler;
 
-import org.apache.commons.lang3.StringUtils;
-import org.apache.zeppelin.notebook.Note;
-import org.apache.zeppelin.user.AuthenticationInfo;
 import org.quartz.JobDataMap;
 import org.quartz.JobExecutionContext;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
-
-/** Cron task for the note. */
+/**
+ * Quartz job of the cron of a note. It only hands the note over to the {@link CronExecutor},
+ * so that the quartz threads are not blocked by the runs.
+ */
 public class CronJob implements org.quartz.Job {
-  private static final Logger LOGGER = LoggerFactory.getLogger(CronJob.class);
 
-  private static final String RESULT_SUCCEEDED = "succeeded";
-  private static final String RESULT_FAILED = "failed";
-  private static final String RESULT_SKIPPED = "skipped";
+  static final String NOTE_ID = "noteId";
+  static final String CRON_EXECUTOR = "cronExecutor";
 
   @Override
   public void execute(JobExecutionContext context) {
     JobDataMap jobDataMap = context.getJobDetail().getJobDataMap();
-    Note note = (Note) jobDataMap.get("note");
-    if (note.haveRunningOrPendingParagraphs()) {
-      LOGGER.warn(
-          "execution of the cron job is skipped because there is a running or pending "
-              + "paragraph (note id: {})",
-          note.getId());
-      context.setResult(RESULT_SKIPPED);
-      return;
-    }
-
-    String cronExecutingUser = (String) note.getConfig().get("cronExecutingUser");
-    String cronExecutingRoles = (String) note.getConfig().get("cronExecutingRoles");
-    if (null == cronExecutingUser) {
-      cronExecutingUser = "anonymous";
-    }
-    AuthenticationInfo authenticationInfo =
-            new AuthenticationInfo(
-                    cronExecutingUser,
-                    StringUtils.isEmpty(cronExecutingRoles) ? null : cronExecutingRoles,
-                    null);
-    try {
-      note.runAll(authenticationInfo, true, true, new HashMap<>());
-      context.setResult(RESULT_SUCCEEDED);
-    } catch (Exception e) {
-      context.setResult(RESULT_FAILED);
-      LOGGER.warn("Fail to run note: {}", note.getName(), e);
-    }
+    String noteId = jobDataMap.getString(NOTE_ID);
+    CronExecutor cronExecutor = (CronExecutor) jobDataMap.get(CRON_EXECUTOR);
+    context.setResult(cronExecutor.submit(noteId).name().toLowerCase());
   }
 }
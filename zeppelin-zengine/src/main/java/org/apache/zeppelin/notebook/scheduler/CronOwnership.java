@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook.scheduler;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hashing;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.zeppelin.cluster.ClusterManagerServer;
+import org.apache.zeppelin.cluster.meta.ClusterMeta;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.apache.zeppelin.cluster.meta.ClusterMetaType.SERVER_META;
+
+/**
+ * Chooses the zeppelin server which runs the cron of a note in cluster mode, so that each cron
+ * runs once in the cluster.
+ *
+ * All the servers schedule all the crons, and a cron is run by the owner of its note when it
+ * fires. The owner is chosen among the servers online in the cluster metadata by rendezvous
+ * hashing: the notes are spread evenly, and only the notes of a server going offline move to
+ * the other servers.
+ */
+public class CronOwnership {
+
+  private final String nodeName;
+  private final Supplier<Collection<String>> liveNodes;
+  private final long refreshIntervalMs;
+
+  private volatile List<String> nodes;
+  private volatile long refreshTime;
+
+  @VisibleForTesting
+  CronOwnership(String nodeName, Supplier<Collection<String>> liveNodes, long refreshIntervalMs) {
+    this.nodeName = nodeName;
+    this.liveNodes = liveNodes;
+    this.refreshIntervalMs = refreshIntervalMs;
+  }
+
+  /**
+   * @return null when zeppelin server is not in cluster mode
+   */
+  public static CronOwnership create(ZeppelinConfiguration zConf) {
+    if (!zConf.isClusterMode()) {
+      return null;
+    }
+    ClusterManagerServer clusterManager = ClusterManagerServer.getInstance(zConf);
+    return new CronOwnership(clusterManager.getClusterNodeName(),
+        () -> getOnlineServers(clusterManager), zConf.getClusterHeartbeatInterval());
+  }
+
+  private static Collection<String> getOnlineServers(ClusterManagerServer clusterManager) {
+    List<String> servers = new ArrayList<>();
+    HashMap<String, HashMap<String, Object>> clusterMeta =
+        clusterManager.getClusterMeta(SERVER_META, "");
+    for (Map.Entry<String, HashMap<String, Object>> entry : clusterMeta.entrySet()) {
+      String status = (String) entry.getValue().get(ClusterMeta.STATUS);
+      if (StringUtils.isNotEmpty(status) && !status.equals(ClusterMeta.OFFLINE_STATUS)) {
+        servers.add(entry.getKey());
+      }
+    }
+    return servers;
+  }
+
+  public boolean isOwner(String noteId) {
+    return nodeName.equals(getOwner(noteId, getNodes()));
+  }
+
+  private List<String> getNodes() {
+    long now = System.currentTimeMillis();
+    if (nodes == null || now - refreshTime >= refreshIntervalMs) {
+      List<String> newNodes = new ArrayList<>(liveNodes.get());
+      // this server is alive, even before its metadata is in the cluster
+      if (!newNodes.contains(nodeName)) {
+        newNodes.add(nodeName);
+      }
+      nodes = newNodes;
+      refreshTime = now;
+    }
+    return nodes;
+  }
+
+  @VisibleForTesting
+  static String getOwner(String noteId, Collection<String> nodes) {
+    String owner = null;
+    long ownerHash = Long.MIN_VALUE;
+    for (String node : nodes) {
+      long hash = Hashing.murmur3_128().newHasher()
+          .putString(node, StandardCharsets.UTF_8)
+          .putString(noteId, StandardCharsets.UTF_8)
+          .hash().asLong();
+      if (owner == null || hash > ownerHash || (hash == ownerHash && node.compareTo(owner) < 0)) {
+        owner = node;
+        ownerHash = hash;
+      }
+    }
+    return owner;
+  }
+}
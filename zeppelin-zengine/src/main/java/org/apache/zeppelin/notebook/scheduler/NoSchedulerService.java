@@ -30,4 +30,8 @@ public class NoSchedulerService implements SchedulerService {
   public Set<?> getJobs() {
     return Collections.emptySet();
   }
+
+  @Override
+  public void close() {
+  }
 }
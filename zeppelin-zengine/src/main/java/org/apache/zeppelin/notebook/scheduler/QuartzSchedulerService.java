@@ -48,6 +48,7 @@ public class QuartzSchedulerService implements SchedulerService {
   private final ZeppelinConfiguration zeppelinConfiguration;
   private final Notebook notebook;
   private final Scheduler scheduler;
+  private final CronExecutor cronExecutor;
   private final Thread loadingNotesThread;
 
   @Inject
@@ -55,6 +56,7 @@ public class QuartzSchedulerService implements SchedulerService {
       throws SchedulerException {
     this.zeppelinConfiguration = zeppelinConfiguration;
     this.notebook = notebook;
+    this.cronExecutor = CronExecutor.create(zeppelinConfiguration, notebook);
     this.scheduler = getScheduler();
     this.scheduler.getListenerManager().addJobListener(new CronJobListener());
     this.scheduler.start();
@@ -139,7 +141,8 @@ public class QuartzSchedulerService implements SchedulerService {
     }
 
     JobDataMap jobDataMap = new JobDataMap();
-    jobDataMap.put("note", note);
+    jobDataMap.put(CronJob.NOTE_ID, noteId);
+    jobDataMap.put(CronJob.CRON_EXECUTOR, cronExecutor);
     JobDetail newJob =
         JobBuilder.newJob(CronJob.class)
             .withIdentity(noteId, "note")
@@ -151,10 +154,17 @@ public class QuartzSchedulerService implements SchedulerService {
 
     CronTrigger trigger = null;
     try {
+      CronScheduleBuilder schedule = CronScheduleBuilder.cronSchedule(cronExpr);
+      // the fires missed while the server was down are skipped, or run once
+      if (cronExecutor.getMisfirePolicy() == CronExecutor.MisfirePolicy.SKIP) {
+        schedule = schedule.withMisfireHandlingInstructionDoNothing();
+      } else {
+        schedule = schedule.withMisfireHandlingInstructionFireAndProceed();
+      }
       trigger =
           TriggerBuilder.newTrigger()
               .withIdentity("trigger_" + noteId, "note")
-              .withSchedule(CronScheduleBuilder.cronSchedule(cronExpr))
+              .withSchedule(schedule)
               .forJob(noteId, "note")
               .build();
     } catch (Exception e) {
@@ -184,6 +194,16 @@ public class QuartzSchedulerService implements SchedulerService {
     }
   }
 
+  @Override
+  public void close() {
+    try {
+      scheduler.shutdown();
+    } catch (SchedulerException e) {
+      LOGGER.warn("Fail to shutdown quartz scheduler", e);
+    }
+    cronExecutor.close();
+  }
+
   private void removeCron(String id) {
     try {
       scheduler.deleteJob(new JobKey(id, "note"));
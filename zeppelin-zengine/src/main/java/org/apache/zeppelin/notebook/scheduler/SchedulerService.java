@@ -22,4 +22,9 @@ import java.util.Set;
 public interface SchedulerService {
   boolean refreshCron(String noteId);
   Set<?> getJobs();
+
+  /**
+   * Stop running the cron jobs.
+   */
+  void close();
 }
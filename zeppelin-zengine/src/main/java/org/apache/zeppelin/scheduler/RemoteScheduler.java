@@ -18,24 +18,36 @@
 package org.apache.zeppelin.scheduler;
 
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreter;
+import org.apache.zeppelin.interpreter.remote.RemoteJobPollBatch;
+import org.apache.zeppelin.interpreter.thrift.RemoteJobProgress;
+import org.apache.zeppelin.interpreter.thrift.RemoteJobQuery;
 import org.apache.zeppelin.scheduler.Job.Status;
 import org.apache.zeppelin.util.ExecutorUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
 /**
  * RemoteScheduler runs in ZeppelinServer and proxies Scheduler running on RemoteInterpreter.
  * It is some kind of FIFOScheduler, but only run the next job after the current job is submitted
  * to remote.
+ *
+ * In paragraph execution mode, the interpreter process never has more than one pending job of
+ * this scheduler. So when the interpreter setting uses the fair scheduler, the next job is
+ * picked here from a {@link FairJobQueue} rather than in submission order.
  */
 public class RemoteScheduler extends AbstractScheduler {
   private static final Logger LOGGER = LoggerFactory.getLogger(RemoteScheduler.class);
 
   private RemoteInterpreter remoteInterpreter;
   private ExecutorService executor;
+  // null unless the interpreter setting uses the fair scheduler in paragraph execution mode
+  private final FairJobQueue fairQueue;
+  private volatile Thread fairSchedulerThread;
 
   public RemoteScheduler(String name,
                          ExecutorService executor,
@@ -43,6 +55,55 @@ public class RemoteScheduler extends AbstractScheduler {
     super(name);
     this.executor = executor;
     this.remoteInterpreter = remoteInterpreter;
+    if (FairScheduler.isEnabled(remoteInterpreter.getProperties()) &&
+        remoteInterpreter.getProperty(".execution.mode", "paragraph").equals("paragraph")) {
+      this.fairQueue = new FairJobQueue(name, remoteInterpreter.getProperties());
+    } else {
+      this.fairQueue = null;
+    }
+  }
+
+  /**
+   * @return the queue picking the next job fairly, null if the jobs run in submission order
+   */
+  public FairJobQueue getFairQueue() {
+    return fairQueue;
+  }
+
+  public String getInterpreterGroupId() {
+    return remoteInterpreter.getInterpreterGroup().getId();
+  }
+
+  @Override
+  public void submit(Job job) {
+    if (fairQueue == null) {
+      super.submit(job);
+      return;
+    }
+    jobs.put(job.getId(), job);
+    try {
+      fairQueue.add(job);
+    } catch (RejectedExecutionException e) {
+      jobs.remove(job.getId());
+      throw e;
+    }
+  }
+
+  @Override
+  public void run() {
+    if (fairQueue == null) {
+      super.run();
+      return;
+    }
+    fairSchedulerThread = Thread.currentThread();
+    while (!terminate && !fairSchedulerThread.isInterrupted()) {
+      try {
+        runJobInScheduler(fairQueue.take());
+      } catch (InterruptedException e) {
+        LOGGER.warn("{} is interrupted", getClass().getSimpleName());
+        break;
+      }
+    }
   }
 
   @Override
@@ -79,77 +140,145 @@ public class RemoteScheduler extends AbstractScheduler {
 
   /**
    * Role of the class is getting status info from remote process from PENDING to
-   * RUNNING status. This thread will exist after job is in RUNNING/FINISHED state.
+   * RUNNING status. It is polled by the shared {@link JobPollingTimer}, together with the
+   * other jobs of the interpreter process, and stops once the job is in RUNNING/FINISHED state.
    */
-  private class JobStatusPoller extends Thread {
+  private class JobStatusPoller implements RemoteJobPollBatch.RemoteJobPoll {
     private long checkIntervalMsec;
-    private volatile boolean terminate;
     private JobListener listener;
     private Job job;
     private volatile Status lastStatus;
+    private volatile JobPollingTimer.Registration registration;
+    // statuses being delivered to the listener, no new delivery starts once shut down
+    private int deliveries;
+    private boolean shutdown;
+    private final CountDownLatch delivered = new CountDownLatch(1);
 
     public JobStatusPoller(Job job,
                            JobListener listener,
                            long checkIntervalMsec) {
-      setName("JobStatusPoller-" + job.getId());
       this.checkIntervalMsec = checkIntervalMsec;
       this.job = job;
       this.listener = listener;
-      this.terminate = false;
     }
 
-    @Override
-    public void run() {
-      while (terminate == false) {
-        synchronized (this) {
-          try {
-            this.wait(checkIntervalMsec);
-          } catch (InterruptedException e) {
-            LOGGER.error("Exception in RemoteScheduler while run this.wait", e);
-          }
-        }
+    public void start() {
+      registration = JobPollingTimer.getInstance().schedule(this, checkIntervalMsec);
+    }
 
-        if (terminate) {
-          // terminated by shutdown
-          break;
+    public void shutdown() {
+      JobPollingTimer.Registration r = registration;
+      if (r != null) {
+        r.cancel();
+      }
+      synchronized (this) {
+        shutdown = true;
+        if (deliveries == 0) {
+          delivered.countDown();
         }
+      }
+    }
 
-        Status newStatus = getStatus();
-        if (newStatus == Status.RUNNING ||
-                newStatus == Status.FINISHED ||
-                newStatus == Status.ERROR ||
-                newStatus == Status.ABORT) {
-          // Exit this thread when job is in RUNNING/FINISHED/ERROR/ABORT state.
-          break;
-        }
+    /**
+     * Wait for the status being delivered by the polling timer, if any. No status is delivered
+     * after shutdown() and join() returned.
+     */
+    public void join() {
+      try {
+        delivered.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
       }
-      terminate = true;
     }
 
-    public void shutdown() {
-      terminate = true;
-      synchronized (this) {
-        this.notify();
+    private synchronized boolean beginDelivery() {
+      if (shutdown || isTerminated()) {
+        return false;
       }
+      deliveries++;
+      return true;
+    }
+
+    private synchronized void endDelivery() {
+      deliveries--;
+      if (deliveries == 0 && shutdown) {
+        delivered.countDown();
+      }
+    }
+
+    private boolean isTerminated() {
+      JobPollingTimer.Registration r = registration;
+      return r == null || r.isCancelled();
     }
 
-    public Status getStatus() {
+    @Override
+    public RemoteJobPollBatch getBatch() {
+      return remoteInterpreter.getJobPollBatch();
+    }
+
+    @Override
+    public RemoteJobQuery getQuery() {
+      if (isTerminated() || !remoteInterpreter.isOpened()) {
+        return null;
+      }
+      return remoteInterpreter.getStatusQuery(job.getId());
+    }
+
+    @Override
+    public void onResult(RemoteJobProgress result) {
+      deliver(Status.valueOf(result.getStatus()));
+    }
+
+    // polled alone when the remote interpreter is not opened yet
+    @Override
+    public void poll() {
+      if (isTerminated()) {
+        return;
+      }
       if (!remoteInterpreter.isOpened()) {
-        if (lastStatus != null) {
-          return lastStatus;
-        } else {
-          return job.getStatus();
-        }
+        checkTerminated(lastStatus != null ? lastStatus : job.getStatus());
+      } else {
+        // fetched without holding any lock, so that shutdown() doesn't wait for the rpc
+        deliver(Status.valueOf(remoteInterpreter.getStatus(job.getId())));
+      }
+    }
+
+    private void deliver(Status status) {
+      if (!beginDelivery()) {
+        return;
       }
-      Status status = Status.valueOf(remoteInterpreter.getStatus(job.getId()));
+      try {
+        onStatus(status);
+      } finally {
+        endDelivery();
+      }
+    }
+
+    private void onStatus(Status status) {
       if (status == Status.UNKNOWN) {
         // not found this job in the remote schedulers.
         // maybe not submitted, maybe already finished
-        return job.getStatus();
+        checkTerminated(job.getStatus());
+        return;
       }
       listener.onStatusChange(job, lastStatus, status);
       lastStatus = status;
-      return status;
+      checkTerminated(status);
+    }
+
+    private void checkTerminated(Status status) {
+      if (status == Status.RUNNING ||
+              status == Status.FINISHED ||
+              status == Status.ERROR ||
+              status == Status.ABORT) {
+        // Stop polling when job is in RUNNING/FINISHED/ERROR/ABORT state.
+        shutdown();
+      }
+    }
+
+    @Override
+    public String toString() {
+      return "JobStatusPoller-" + job.getId();
     }
   }
 
@@ -183,18 +312,14 @@ public class RemoteScheduler extends AbstractScheduler {
       jobExecuted = true;
       jobSubmittedRemotely = true;
       jobStatusPoller.shutdown();
-      try {
-        jobStatusPoller.join();
-      } catch (InterruptedException e) {
-        logger.error("JobStatusPoller interrupted", e);
-      }
+      jobStatusPoller.join();
     }
 
     @Override
     public void onProgressUpdate(Job job, int progress) {
     }
 
-    // Call by JobStatusPoller thread, update status when JobStatusPoller get new status.
+    // Call by JobStatusPoller, update status when JobStatusPoller get new status.
     @Override
     public void onStatusChange(Job job, Status before, Status after) {
       if (jobExecuted == false) {
@@ -223,8 +348,31 @@ public class RemoteScheduler extends AbstractScheduler {
   }
 
   @Override
-  public void stop(int stopTimeoutVal, TimeUnit stopTimeoutUnit) {
+  public void stop() {
     super.stop();
+    if (fairQueue != null) {
+      // the pending jobs won't run, abort them so that no one waits for them
+      for (Job job : fairQueue.close()) {
+        job.aborted = true;
+        job.jobAbort();
+        job.setStatus(Job.Status.ABORT);
+        jobs.remove(job.getId());
+      }
+      Thread thread = fairSchedulerThread;
+      if (thread != null) {
+        thread.interrupt();
+      }
+    }
+  }
+
+  /**
+   * Same as {@link #stop()}, the timeout is not used: the jobs run in the executor of
+   * {@link SchedulerFactory}, which is shared by all the schedulers and shut down by
+   * SchedulerFactory, so there is no executor of this scheduler to wait for.
+   */
+  @Override
+  public void stop(int stopTimeoutVal, TimeUnit stopTimeoutUnit) {
+    stop();
   }
 
 }
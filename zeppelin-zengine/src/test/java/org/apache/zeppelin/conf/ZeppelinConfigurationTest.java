@@ -24,10 +24,17 @@ import org.junit.Before;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
+import java.io.IOException;
 import java.net.MalformedURLException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 public class ZeppelinConfigurationTest {
@@ -136,4 +143,74 @@ public class ZeppelinConfigurationTest {
     System.setProperty(ConfVars.ZEPPELIN_CONFIG_STORAGE_CLASS.getVarName(), "org.apache.zeppelin.storage.FileSystemConfigStorage");
     assertEquals("conf", conf.getConfigFSDir(false));
   }
+
+  @Test
+  public void testSetPropertyUpdatesSnapshot() throws ConfigurationException {
+    ZeppelinConfiguration conf = new ZeppelinConfiguration(this.getClass().getResource("/zeppelin-test-site.xml"));
+    int port = conf.getServerPort();
+    conf.setServerPort(port + 1);
+    assertEquals(port + 1, conf.getServerPort());
+
+    conf.setClusterAddress("127.0.0.1:6000");
+    assertTrue(conf.isClusterMode());
+    conf.setClusterAddress(null);
+    Assert.assertFalse(conf.isClusterMode());
+  }
+
+  @Test
+  public void testSystemPropertyUpdatesSnapshot() throws ConfigurationException {
+    ZeppelinConfiguration conf = new ZeppelinConfiguration(this.getClass().getResource("/zeppelin-test-site.xml"));
+    String name = ConfVars.ZEPPELIN_INTERPRETER_CONNECT_TIMEOUT.getVarName();
+    Properties systemProperties = System.getProperties();
+    int timeout = conf.getInt(ConfVars.ZEPPELIN_INTERPRETER_CONNECT_TIMEOUT);
+    try {
+      System.setProperty(name, "1234");
+      assertEquals(1234, conf.getInt(ConfVars.ZEPPELIN_INTERPRETER_CONNECT_TIMEOUT));
+      System.setProperty(name, "4321");
+      assertEquals(4321, conf.getInt(ConfVars.ZEPPELIN_INTERPRETER_CONNECT_TIMEOUT));
+      assertEquals(4321, conf.getInt("ZEPPELIN_NOT_SET", name, 0));
+      // the configuration only reads the system properties
+      assertSame(systemProperties, System.getProperties());
+    } finally {
+      System.clearProperty(name);
+    }
+    assertEquals(timeout, conf.getInt(ConfVars.ZEPPELIN_INTERPRETER_CONNECT_TIMEOUT));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testPropertiesAreReadOnly() throws ConfigurationException {
+    ZeppelinConfiguration conf = new ZeppelinConfiguration(this.getClass().getResource("/zeppelin-test-site.xml"));
+    conf.getProperties().put(ConfVars.ZEPPELIN_PORT.getVarName(), "1");
+  }
+
+  @Test
+  public void testReloadConfiguration() throws ConfigurationException, IOException {
+    File site = File.createTempFile("zeppelin-site", ".xml");
+    try {
+      writeSite(site, ConfVars.ZEPPELIN_INTERPRETER_CONNECT_TIMEOUT.getVarName(), "1000");
+      ZeppelinConfiguration conf = new ZeppelinConfiguration(site.toURI().toURL());
+      assertEquals(1000, conf.getInt(ConfVars.ZEPPELIN_INTERPRETER_CONNECT_TIMEOUT));
+      conf.setServerPort(9090);
+
+      AtomicInteger reloads = new AtomicInteger();
+      conf.addReloadListener(c -> reloads.incrementAndGet());
+      writeSite(site, ConfVars.ZEPPELIN_INTERPRETER_CONNECT_TIMEOUT.getVarName(), "2000");
+      // not visible until reloaded
+      assertEquals(1000, conf.getInt(ConfVars.ZEPPELIN_INTERPRETER_CONNECT_TIMEOUT));
+
+      conf.reloadConfiguration();
+      assertEquals(1, reloads.get());
+      assertEquals(2000, conf.getInt(ConfVars.ZEPPELIN_INTERPRETER_CONNECT_TIMEOUT));
+      // properties set programmatically are kept
+      assertEquals(9090, conf.getServerPort());
+    } finally {
+      site.delete();
+    }
+  }
+
+  private void writeSite(File site, String name, String value) throws IOException {
+    String xml = "<configuration><property><name>" + name + "</name><value>" + value
+        + "</value></property></configuration>";
+    Files.write(site.toPath(), xml.getBytes(StandardCharsets.UTF_8));
+  }
 }
@@ -35,6 +35,7 @@ import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
@@ -49,11 +50,13 @@ public class InterpreterSettingManagerTest extends AbstractInterpreterTest {
     assertEquals("test", interpreterSetting.getName());
     assertEquals("test", interpreterSetting.getGroup());
     assertEquals(8, interpreterSetting.getInterpreterInfos().size());
-    // 3 other builtin properties:
+    // 5 other builtin properties:
     //   * zeppelin.interpreter.output.limit
     //   * zeppelin.interpreter.localRepo
     //   * zeppelin.interpreter.max.poolsize
-    assertEquals(6, interpreterSetting.getJavaProperties().size());
+    //   * zeppelin.interpreter.resourcePool.serializer
+    //   * zeppelin.interpreter.resourcePool.kryo.classes
+    assertEquals(8, interpreterSetting.getJavaProperties().size());
     assertEquals("value_1", interpreterSetting.getJavaProperties().getProperty("property_1"));
     assertEquals("new_value_2", interpreterSetting.getJavaProperties().getProperty("property_2"));
     assertEquals("value_3", interpreterSetting.getJavaProperties().getProperty("property_3"));
@@ -78,7 +81,7 @@ public class InterpreterSettingManagerTest extends AbstractInterpreterTest {
     assertEquals("test", interpreterSetting.getName());
     assertEquals("test", interpreterSetting.getGroup());
     assertEquals(8, interpreterSetting.getInterpreterInfos().size());
-    assertEquals(6, interpreterSetting.getJavaProperties().size());
+    assertEquals(8, interpreterSetting.getJavaProperties().size());
     assertEquals("value_1", interpreterSetting.getJavaProperties().getProperty("property_1"));
     assertEquals("new_value_2", interpreterSetting.getJavaProperties().getProperty("property_2"));
     assertEquals("value_3", interpreterSetting.getJavaProperties().getProperty("property_3"));
@@ -113,11 +116,13 @@ public class InterpreterSettingManagerTest extends AbstractInterpreterTest {
     InterpreterSetting interpreterSetting = interpreterSettingManager.getByName("test3");
     assertEquals("test3", interpreterSetting.getName());
     assertEquals("test", interpreterSetting.getGroup());
-    // 3 other builtin properties:
+    // 5 other builtin properties:
     //   * zeppelin.interpeter.output.limit
     //   * zeppelin.interpreter.localRepo
     //   * zeppelin.interpreter.max.poolsize
-    assertEquals(4, interpreterSetting.getJavaProperties().size());
+    //   * zeppelin.interpreter.resourcePool.serializer
+    //   * zeppelin.interpreter.resourcePool.kryo.classes
+    assertEquals(6, interpreterSetting.getJavaProperties().size());
     assertEquals("value_4", interpreterSetting.getJavaProperties().getProperty("property_4"));
     assertEquals("scoped", interpreterSetting.getOption().perNote);
     assertEquals("scoped", interpreterSetting.getOption().perUser);
@@ -135,7 +140,7 @@ public class InterpreterSettingManagerTest extends AbstractInterpreterTest {
     interpreterSetting = interpreterSettingManager2.getByName("test3");
     assertEquals("test3", interpreterSetting.getName());
     assertEquals("test", interpreterSetting.getGroup());
-    assertEquals(4, interpreterSetting.getJavaProperties().size());
+    assertEquals(6, interpreterSetting.getJavaProperties().size());
     assertEquals("value_4", interpreterSetting.getJavaProperties().getProperty("property_4"));
     assertEquals("scoped", interpreterSetting.getOption().perNote);
     assertEquals("scoped", interpreterSetting.getOption().perUser);
@@ -153,7 +158,7 @@ public class InterpreterSettingManagerTest extends AbstractInterpreterTest {
     interpreterSetting = interpreterSettingManager.get(interpreterSetting.getId());
     assertEquals("test3", interpreterSetting.getName());
     assertEquals("test", interpreterSetting.getGroup());
-    assertEquals(4, interpreterSetting.getJavaProperties().size());
+    assertEquals(6, interpreterSetting.getJavaProperties().size());
     assertEquals("new_value_4", interpreterSetting.getJavaProperties().getProperty("property_4"));
     assertEquals("scoped", interpreterSetting.getOption().perNote);
     assertEquals("isolated", interpreterSetting.getOption().perUser);
@@ -197,6 +202,21 @@ public class InterpreterSettingManagerTest extends AbstractInterpreterTest {
     assertEquals("python", editor.get("language"));
   }
 
+  @Test
+  public void testGetInterpreterSettingByReplName() {
+    InterpreterSetting test = interpreterSettingManager.getByName("test");
+    InterpreterSetting mock1 = interpreterSettingManager.getByName("mock1");
+    assertEquals(test, interpreterSettingManager.getInterpreterSettingByReplName("", "test"));
+    assertEquals(test,
+        interpreterSettingManager.getInterpreterSettingByReplName("test.echo", "mock1"));
+    assertEquals(test, interpreterSettingManager.getInterpreterSettingByReplName("echo", "test"));
+    assertEquals(mock1, interpreterSettingManager.getInterpreterSettingByReplName("mock1", "test"));
+    assertNull(interpreterSettingManager.getInterpreterSettingByReplName("test.unknown", "test"));
+    assertNull(interpreterSettingManager.getInterpreterSettingByReplName("unknown", "test"));
+    // the settings are resolved without creating interpreters
+    assertEquals(0, test.getAllInterpreterGroups().size());
+  }
+
   @Test
   public void testRestartShared() throws InterpreterException {
     InterpreterSetting interpreterSetting = interpreterSettingManager.getByName("test");
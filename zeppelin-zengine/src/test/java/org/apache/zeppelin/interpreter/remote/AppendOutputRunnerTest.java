@@ -27,6 +27,7 @@ import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -34,6 +35,7 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyInt;
@@ -143,24 +145,106 @@ public class AppendOutputRunnerTest {
     runner.run();
     List<LoggingEvent> log;
 
-    int warnLogCounter;
     LoggingEvent sizeWarnLogEntry = null;
     do {
-      warnLogCounter = 0;
       log = appender.getLog();
       for (LoggingEvent logEntry: log) {
-        if (Level.WARN.equals(logEntry.getLevel())) {
+        if (Level.WARN.equals(logEntry.getLevel())
+            && logEntry.getMessage().toString().startsWith("Processing size")) {
           sizeWarnLogEntry = logEntry;
-          warnLogCounter += 1;
         }
       }
-    } while(warnLogCounter != 2);
+    } while(sizeWarnLogEntry == null);
 
     String loggerString = "Processing size for buffered append-output is high: " +
         (data.length() * numEvents) + " characters.";
     assertEquals(loggerString, sizeWarnLogEntry.getMessage());
   }
 
+  @Test
+  public void testOverflowPolicies() {
+    RemoteInterpreterProcessListener listener = mock(RemoteInterpreterProcessListener.class);
+    AppendOutputRunner runner = new AppendOutputRunner(listener, 1, 10,
+        AppendOutputBuffer.OverflowPolicy.DROP_OLDEST);
+    runner.appendBuffer("note", "para", 0, "0123456789");
+    runner.appendBuffer("note", "para", 0, "abcde");
+    assertEquals(5, runner.getBuffer("note", "para", 0).getTotalDropped());
+    AppendOutputBuffer buffer = runner.getBuffer("note", "para", 0);
+    assertEquals("\n... 5 characters dropped ...\n56789abcde", buffer.take(1000));
+
+    runner = new AppendOutputRunner(listener, 1, 10,
+        AppendOutputBuffer.OverflowPolicy.TRUNCATE_MIDDLE);
+    runner.appendBuffer("note", "para", 0, "0123456789");
+    runner.appendBuffer("note", "para", 0, "abcde");
+    buffer = runner.getBuffer("note", "para", 0);
+    assertEquals("01234\n... 5 characters dropped ...\nabcde", buffer.take(1000));
+    assertEquals(null, buffer.take(2000));
+  }
+
+  @Test
+  public void testAdaptiveFlushInterval() {
+    assertEquals(AppendOutputRunner.MIN_FLUSH_INTERVAL_MS, AppendOutputRunner.getFlushInterval(0));
+    long interactive = AppendOutputRunner.getFlushInterval(100);
+    long batch = AppendOutputRunner.getFlushInterval(10 * 1024);
+    assertTrue(interactive < batch);
+    assertEquals(AppendOutputRunner.MAX_FLUSH_INTERVAL_MS,
+        AppendOutputRunner.getFlushInterval(100 * 1024 * 1024));
+  }
+
+  @Test
+  public void testFlushThreads() throws InterruptedException {
+    List<String> outputs = Collections.synchronizedList(new ArrayList<>());
+    RemoteInterpreterProcessListener listener = mock(RemoteInterpreterProcessListener.class);
+    doAnswer(invocation -> {
+      outputs.add(invocation.getArgumentAt(1, String.class) + ":"
+          + invocation.getArgumentAt(3, String.class));
+      return null;
+    }).when(listener).onOutputAppend(any(String.class), any(String.class), anyInt(),
+        any(String.class));
+    AppendOutputRunner runner = new AppendOutputRunner(listener, 4,
+        AppendOutputRunner.DEFAULT_BUFFER_SIZE, AppendOutputBuffer.OverflowPolicy.DROP_OLDEST);
+    runner.start();
+    try {
+      StringBuilder expected = new StringBuilder();
+      for (int i = 0; i < 1000; i++) {
+        for (int p = 0; p < 8; p++) {
+          runner.appendBuffer("note", "para" + p, 0, i + ",");
+        }
+        if (i % 100 == 0) {
+          Thread.sleep(1);
+        }
+        expected.append(i).append(",");
+      }
+      long start = System.currentTimeMillis();
+      for (int p = 0; p < 8; p++) {
+        while (joinOutputs(outputs, "para" + p).length() < expected.length()
+            && System.currentTimeMillis() - start < 5000) {
+          Thread.sleep(50);
+        }
+      }
+      // the output of every paragraph is flushed in order by its shard
+      for (int p = 0; p < 8; p++) {
+        assertEquals(expected.toString(), joinOutputs(outputs, "para" + p));
+      }
+      assertTrue(outputs.size() < 8 * 1000);
+      assertTrue(runner.getBuffer("note", "para0", 0).getRate() > 0);
+    } finally {
+      runner.stop();
+    }
+  }
+
+  private static String joinOutputs(List<String> outputs, String paragraphId) {
+    StringBuilder builder = new StringBuilder();
+    synchronized (outputs) {
+      for (String output : outputs) {
+        if (output.startsWith(paragraphId + ":")) {
+          builder.append(output.substring(paragraphId.length() + 1));
+        }
+      }
+    }
+    return builder.toString();
+  }
+
   private class BombardEvents implements Runnable {
 
     private final AppendOutputRunner runner;
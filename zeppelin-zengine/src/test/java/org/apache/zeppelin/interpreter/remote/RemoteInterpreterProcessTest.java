@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class RemoteInterpreterProcessTest {
+
+  @Test
+  public void testProcessMetrics() {
+    RemoteInterpreterProcess process = new RemoteInterpreterRunningProcess("test",
+        "test-shared_process", 1000, 1, "localhost", 0, "localhost", 0, false);
+    Tags tags = Tags.of("setting", "test", "group", "test-shared_process", "user", "user1");
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    Metrics.addRegistry(registry);
+    try {
+      Map<String, Double> metrics = new HashMap<>();
+      metrics.put("jvm.memory.heap.used", 1024.0);
+      process.updateProcessMetrics(metrics, tags);
+      metrics.put("jvm.memory.heap.used", 2048.0);
+      metrics.put("scheduler.jobs.running", 1.0);
+      process.updateProcessMetrics(metrics, tags);
+
+      Gauge heapUsed = registry.find("interpreter.process.jvm.memory.heap.used")
+          .tags(tags).gauge();
+      assertEquals(2048, heapUsed.value(), 0);
+      assertEquals(1, registry.find("interpreter.process.scheduler.jobs.running")
+          .tags(tags).gauge().value(), 0);
+      assertEquals(2048, process.getProcessMetric("jvm.memory.heap.used"), 0);
+
+      process.shutdown();
+      assertNull(registry.find("interpreter.process.jvm.memory.heap.used").tags(tags).gauge());
+    } finally {
+      process.shutdown();
+      Metrics.removeRegistry(registry);
+    }
+  }
+}
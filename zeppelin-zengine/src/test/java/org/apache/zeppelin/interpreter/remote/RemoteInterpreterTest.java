@@ -32,6 +32,7 @@ import org.apache.zeppelin.interpreter.InterpreterOption;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.InterpreterResult.Code;
 import org.apache.zeppelin.interpreter.InterpreterSetting;
+import org.apache.zeppelin.scheduler.ExecutionTrace;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -430,6 +431,27 @@ public class RemoteInterpreterTest extends AbstractInterpreterTest {
     }
   }
 
+  @Test
+  public void testExecutionTrace() throws InterpreterException {
+    interpreterSetting.getOption().setPerUser(InterpreterOption.SHARED);
+    RemoteInterpreter interpreter =
+        (RemoteInterpreter) interpreterSetting.getDefaultInterpreter("user1", "note1");
+    InterpreterContext context = createDummyInterpreterContext();
+    ExecutionTrace trace = new ExecutionTrace();
+    ExecutionTrace.setCurrent(trace);
+    try {
+      assertEquals("hello", interpreter.interpret("hello", context).message().get(0).getData());
+    } finally {
+      ExecutionTrace.setCurrent(null);
+    }
+    // the first run launches the interpreter process
+    assertNotNull(trace.getSpan("process.start"));
+    assertNotNull(trace.getSpan("rpc"));
+    assertNotNull(trace.getSpan("interpreter.queue"));
+    assertNotNull(trace.getSpan("interpreter.run"));
+    interpreter.getInterpreterGroup().close(interpreter.getSessionId());
+  }
+
   @Test
   public void testFailToLaunchInterpreterProcess_Timeout() {
     try {
@@ -109,6 +109,7 @@ public class NotebookTest extends AbstractInterpreterTest implements ParagraphJo
   @Override
   @After
   public void tearDown() throws Exception {
+    schedulerService.close();
     super.tearDown();
     System.clearProperty(ConfVars.ZEPPELIN_NOTEBOOK_PUBLIC.getVarName());
     System.clearProperty(ConfVars.ZEPPELIN_NOTEBOOK_CRON_ENABLE.getVarName());
@@ -591,7 +592,8 @@ public class NotebookTest extends AbstractInterpreterTest implements ParagraphJo
   public void testSchedulePoolUsage() throws InterruptedException, IOException {
     final int timeout = 30;
     final String everySecondCron = "* * * * * ?";
-    final CountDownLatch jobsToExecuteCount = new CountDownLatch(13);
+    // a run starts its isolated interpreter process, the fires during a run are skipped
+    final CountDownLatch jobsToExecuteCount = new CountDownLatch(5);
     final Note note = notebook.createNote("note1", anonymous);
 
     executeNewParagraphByCron(note, everySecondCron);
@@ -677,7 +679,7 @@ public class NotebookTest extends AbstractInterpreterTest implements ParagraphJo
       afterStatusChangedListener = null;
 
       final Note noteNameSystem = notebook.createNote("/System/test1", anonymous);
-      final CountDownLatch jobsToExecuteCountNameSystem = new CountDownLatch(5);
+      final CountDownLatch jobsToExecuteCountNameSystem = new CountDownLatch(2);
 
       executeNewParagraphByCron(noteNameSystem, everySecondCron);
       afterStatusChangedListener = new StatusChangedListener() {
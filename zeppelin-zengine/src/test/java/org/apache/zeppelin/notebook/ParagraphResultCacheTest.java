@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import org.apache.zeppelin.display.AngularObjectRegistry;
+import org.apache.zeppelin.interpreter.Interpreter;
+import org.apache.zeppelin.interpreter.Interpreter.FormType;
+import org.apache.zeppelin.interpreter.InterpreterContext;
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterSetting;
+import org.apache.zeppelin.interpreter.ManagedInterpreterGroup;
+import org.apache.zeppelin.resource.ResourcePool;
+import org.apache.zeppelin.scheduler.JobPriority;
+import org.apache.zeppelin.user.AuthenticationInfo;
+import org.apache.zeppelin.user.Credentials;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ParagraphResultCacheTest {
+
+  @Rule
+  public TemporaryFolder tmpDir = new TemporaryFolder();
+
+  private File spillDir;
+
+  @Before
+  public void setUp() {
+    spillDir = new File(tmpDir.getRoot(), "cache");
+  }
+
+  @Test
+  public void testHitAndMiss() {
+    ParagraphResultCache cache = new ParagraphResultCache(true, 60000, 1024 * 1024, 1024 * 1024,
+        spillDir);
+    assertNull(cache.get(key("1 + 1")));
+    cache.put(key("1 + 1"), new InterpreterResult(InterpreterResult.Code.SUCCESS, "2"), 60000);
+
+    InterpreterResult result = cache.get(key("1 + 1"));
+    assertEquals(InterpreterResult.Code.SUCCESS, result.code());
+    assertEquals("2", result.message().get(0).getData());
+    assertNull(cache.get(key("1 + 2")));
+    assertEquals(1, cache.getHitCount());
+    assertEquals(2, cache.getMissCount());
+    assertEquals(1.0 / 3, cache.getHitRate(), 0.001);
+  }
+
+  @Test
+  public void testTtl() throws InterruptedException {
+    ParagraphResultCache cache = new ParagraphResultCache(true, 60000, 1024 * 1024, 1024 * 1024,
+        spillDir);
+    cache.put(key("1 + 1"), new InterpreterResult(InterpreterResult.Code.SUCCESS, "2"), 50);
+    Thread.sleep(100);
+    assertNull(cache.get(key("1 + 1")));
+    assertEquals(0, cache.getMemoryUsed());
+
+    Map<String, Object> config = new HashMap<>();
+    assertEquals(60000, cache.getTtlMs(config));
+    config.put(ParagraphResultCache.CONFIG_TTL, 10.0);
+    assertEquals(10000, cache.getTtlMs(config));
+  }
+
+  @Test
+  public void testSpill() {
+    // room for about 2 results in memory and 2 on disk
+    String output = new String(new char[400]).replace('\0', 'x');
+    ParagraphResultCache cache = new ParagraphResultCache(true, 60000, 1000, 1000, spillDir);
+    for (int i = 0; i < 6; i++) {
+      cache.put(key("p" + i), new InterpreterResult(InterpreterResult.Code.SUCCESS, output + i),
+          60000);
+    }
+    assertTrue(cache.getMemoryUsed() <= 1000);
+    assertTrue(cache.getDiskUsed() > 0 && cache.getDiskUsed() <= 1000);
+    assertEquals(2, spillDir.listFiles().length);
+
+    // the least recently used ones are dropped
+    assertNull(cache.get(key("p0")));
+    assertNull(cache.get(key("p1")));
+    // read back from disk
+    assertEquals(output + 2, cache.get(key("p2")).message().get(0).getData());
+    assertEquals(output + 5, cache.get(key("p5")).message().get(0).getData());
+
+    cache.clear();
+    assertEquals(0, spillDir.listFiles().length);
+  }
+
+  @Test
+  public void testCacheable() {
+    Map<String, Object> config = new HashMap<>();
+    ParagraphResultCache cache = new ParagraphResultCache(true, 60000, 1024, 1024, spillDir);
+    assertFalse(cache.isCacheable(config));
+    config.put(ParagraphResultCache.CONFIG_ENABLED, true);
+    assertTrue(cache.isCacheable(config));
+    assertFalse(new ParagraphResultCache(false, 60000, 1024, 1024, spillDir).isCacheable(config));
+  }
+
+  @Test
+  public void testKey() {
+    assertEquals(key("1 + 1"), key("1 + 1"));
+    assertNotEquals(key("1 + 1"), key("1 + 2"));
+    // parts can't be shifted into each other
+    assertNotEquals(new ParagraphResultCache.KeyBuilder().add("a", "bc").add("d", null).build(),
+        new ParagraphResultCache.KeyBuilder().add("a", "b").add("cd", null).build());
+  }
+
+  @Test
+  public void testHitAcrossPriorities() throws Throwable {
+    Note mockNote = mock(Note.class);
+    when(mockNote.getCredentials()).thenReturn(mock(Credentials.class));
+    when(mockNote.getId()).thenReturn("note_1");
+    Paragraph spyParagraph = spy(new Paragraph("para_1", mockNote,  null));
+
+    Interpreter mockInterpreter = mock(Interpreter.class);
+    spyParagraph.setInterpreter(mockInterpreter);
+    doReturn(mockInterpreter).when(spyParagraph).getBindedInterpreter();
+    ManagedInterpreterGroup mockInterpreterGroup = mock(ManagedInterpreterGroup.class);
+    when(mockInterpreter.getInterpreterGroup()).thenReturn(mockInterpreterGroup);
+    when(mockInterpreterGroup.getAngularObjectRegistry())
+        .thenReturn(mock(AngularObjectRegistry.class));
+    when(mockInterpreterGroup.getResourcePool()).thenReturn(mock(ResourcePool.class));
+    InterpreterSetting mockInterpreterSetting = mock(InterpreterSetting.class);
+    when(mockInterpreterGroup.getInterpreterSetting()).thenReturn(mockInterpreterSetting);
+    when(mockInterpreterSetting.getStatus()).thenReturn(InterpreterSetting.Status.READY);
+    when(mockInterpreterSetting.getId()).thenReturn("setting_1");
+    when(mockInterpreterSetting.isUserAuthorized(any(List.class))).thenReturn(true);
+    when(mockInterpreter.getFormType()).thenReturn(FormType.NONE);
+    doReturn(mock(ParagraphJobListener.class)).when(spyParagraph).getListener();
+    when(mockInterpreter.interpret(anyString(), any(InterpreterContext.class)))
+        .thenReturn(new InterpreterResult(InterpreterResult.Code.SUCCESS, "2"));
+
+    ParagraphResultCache cache = new ParagraphResultCache(true, 60000, 1024 * 1024, 0,
+        spillDir);
+    ParagraphResultCache.setInstance(cache);
+    try {
+      spyParagraph.setAuthenticationInfo(new AuthenticationInfo("user1"));
+      spyParagraph.setText("1 + 1");
+      spyParagraph.getConfig().put(ParagraphResultCache.CONFIG_ENABLED, true);
+      spyParagraph.setPriority(JobPriority.CRON);
+      spyParagraph.jobRun();
+
+      // the priority is only for the scheduler, the result is the same
+      spyParagraph.setPriority(JobPriority.INTERACTIVE);
+      assertEquals("2", spyParagraph.jobRun().message().get(0).getData());
+      spyParagraph.setPriority(JobPriority.BATCH);
+      assertEquals("2", spyParagraph.jobRun().message().get(0).getData());
+      verify(mockInterpreter, times(1)).interpret(anyString(), any(InterpreterContext.class));
+      assertEquals(2, cache.getHitCount());
+    } finally {
+      ParagraphResultCache.setInstance(null);
+    }
+  }
+
+  private static String key(String script) {
+    return new ParagraphResultCache.KeyBuilder().add("script", script).build();
+  }
+}
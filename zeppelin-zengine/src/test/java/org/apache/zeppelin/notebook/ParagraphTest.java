@@ -21,20 +21,28 @@ package org.apache.zeppelin.notebook;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.apache.commons.lang3.tuple.Triple;
 import org.apache.zeppelin.display.AngularObject;
 import org.apache.zeppelin.display.AngularObjectBuilder;
@@ -54,6 +62,10 @@ import org.apache.zeppelin.interpreter.InterpreterSetting;
 import org.apache.zeppelin.interpreter.InterpreterSetting.Status;
 import org.apache.zeppelin.interpreter.ManagedInterpreterGroup;
 import org.apache.zeppelin.resource.ResourcePool;
+import org.apache.zeppelin.scheduler.ExecutionTrace;
+import org.apache.zeppelin.scheduler.Job;
+import org.apache.zeppelin.scheduler.JobPriority;
+import org.apache.zeppelin.scheduler.Scheduler;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.apache.zeppelin.user.Credentials;
 import org.apache.zeppelin.user.UserCredentials;
@@ -321,6 +333,153 @@ public class ParagraphTest extends AbstractInterpreterTest {
     assertEquals(p1, spyParagraph.getUserParagraph(user1.getUser()));
   }
 
+  @Test
+  public void testResultCache() throws Throwable {
+    Note mockNote = mock(Note.class);
+    when(mockNote.getCredentials()).thenReturn(mock(Credentials.class));
+    when(mockNote.getId()).thenReturn("note_1");
+    Paragraph spyParagraph = spy(new Paragraph("para_1", mockNote,  null));
+
+    Interpreter mockInterpreter = mock(Interpreter.class);
+    spyParagraph.setInterpreter(mockInterpreter);
+    doReturn(mockInterpreter).when(spyParagraph).getBindedInterpreter();
+    ManagedInterpreterGroup mockInterpreterGroup = mock(ManagedInterpreterGroup.class);
+    when(mockInterpreter.getInterpreterGroup()).thenReturn(mockInterpreterGroup);
+    when(mockInterpreterGroup.getAngularObjectRegistry()).thenReturn(mock(AngularObjectRegistry.class));
+    when(mockInterpreterGroup.getResourcePool()).thenReturn(mock(ResourcePool.class));
+    InterpreterSetting mockInterpreterSetting = mock(InterpreterSetting.class);
+    when(mockInterpreterGroup.getInterpreterSetting()).thenReturn(mockInterpreterSetting);
+    when(mockInterpreterSetting.getStatus()).thenReturn(Status.READY);
+    when(mockInterpreterSetting.getId()).thenReturn("setting_1");
+    when(mockInterpreterSetting.isUserAuthorized(any(List.class))).thenReturn(true);
+    when(mockInterpreter.getFormType()).thenReturn(FormType.NONE);
+    doReturn(mock(ParagraphJobListener.class)).when(spyParagraph).getListener();
+    when(mockInterpreter.interpret(anyString(), Mockito.<InterpreterContext>any()))
+        .thenReturn(new InterpreterResult(Code.SUCCESS, "2"));
+
+    ParagraphResultCache cache = new ParagraphResultCache(true, 60000, 1024 * 1024, 0,
+        new File(System.getProperty("java.io.tmpdir"), "zeppelin-paragraph-cache-test"));
+    ParagraphResultCache.setInstance(cache);
+    try {
+      spyParagraph.setAuthenticationInfo(new AuthenticationInfo("user1"));
+      spyParagraph.setText("1 + 1");
+      // not cached unless enabled in the paragraph config
+      spyParagraph.jobRun();
+      spyParagraph.getConfig().put(ParagraphResultCache.CONFIG_ENABLED, true);
+      spyParagraph.jobRun();
+      assertEquals("2", spyParagraph.jobRun().message().get(0).getData());
+      verify(mockInterpreter, times(2)).interpret(anyString(), any(InterpreterContext.class));
+      assertEquals(1, cache.getHitCount());
+
+      spyParagraph.setText("1 + 2");
+      spyParagraph.jobRun();
+      verify(mockInterpreter, times(3)).interpret(anyString(), any(InterpreterContext.class));
+    } finally {
+      ParagraphResultCache.setInstance(null);
+    }
+  }
+
+  @Test
+  public void testExecutionTrace() throws Throwable {
+    Note mockNote = mock(Note.class);
+    when(mockNote.getCredentials()).thenReturn(mock(Credentials.class));
+    when(mockNote.getId()).thenReturn("note_1");
+    Paragraph spyParagraph = spy(new Paragraph("para_1", mockNote,  null));
+
+    Interpreter mockInterpreter = mock(Interpreter.class);
+    doReturn(mockInterpreter).when(spyParagraph).getBindedInterpreter();
+    ManagedInterpreterGroup mockInterpreterGroup = mock(ManagedInterpreterGroup.class);
+    when(mockInterpreter.getInterpreterGroup()).thenReturn(mockInterpreterGroup);
+    when(mockInterpreterGroup.getAngularObjectRegistry()).thenReturn(mock(AngularObjectRegistry.class));
+    when(mockInterpreterGroup.getResourcePool()).thenReturn(mock(ResourcePool.class));
+    InterpreterSetting mockInterpreterSetting = mock(InterpreterSetting.class);
+    when(mockInterpreterGroup.getInterpreterSetting()).thenReturn(mockInterpreterSetting);
+    when(mockInterpreterSetting.getStatus()).thenReturn(Status.READY);
+    when(mockInterpreterSetting.getId()).thenReturn("setting_1");
+    when(mockInterpreterSetting.getName()).thenReturn("mock");
+    when(mockInterpreterSetting.getConfig(any())).thenReturn(new HashMap<>());
+    when(mockInterpreterSetting.isUserAuthorized(any(List.class))).thenReturn(true);
+    when(mockInterpreter.getFormType()).thenReturn(FormType.NONE);
+    doReturn(mock(ParagraphJobListener.class)).when(spyParagraph).getListener();
+    when(mockInterpreter.interpret(anyString(), Mockito.<InterpreterContext>any()))
+        .thenAnswer(invocation -> {
+          ExecutionTrace.current().add("interpreter.run", 5);
+          return new InterpreterResult(Code.SUCCESS, "2");
+        });
+    // run the paragraph in the calling thread
+    Scheduler mockScheduler = mock(Scheduler.class);
+    doAnswer(invocation -> {
+      Job job = (Job) invocation.getArguments()[0];
+      job.setStatus(Job.Status.RUNNING);
+      job.run();
+      job.setStatus(Job.Status.FINISHED);
+      return null;
+    }).when(mockScheduler).submit(any(Job.class));
+    when(mockInterpreter.getScheduler()).thenReturn(mockScheduler);
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    Metrics.addRegistry(registry);
+    try {
+      spyParagraph.setAuthenticationInfo(new AuthenticationInfo("user1"));
+      spyParagraph.setText("1 + 1");
+      spyParagraph.execute(false);
+      assertEquals(Job.Status.FINISHED, spyParagraph.getStatus());
+      assertNull(spyParagraph.getExecutionTrace());
+
+      Map<String, String> spans = (Map<String, String>) spyParagraph.getRuntimeInfos()
+          .get(Paragraph.TRACE_RUNTIME_INFO).getValue().get(0);
+      assertNotNull(spans.get(ExecutionTrace.TRACE_ID));
+      assertNotNull(spans.get("queue"));
+      assertEquals("5", spans.get("interpreter.run"));
+      assertNotNull(spans.get("total"));
+      Timer timer = registry.find("paragraph.execution")
+          .tags("stage", "interpreter.run", "interpreter", "mock").timer();
+      assertEquals(1, timer.count());
+    } finally {
+      Metrics.removeRegistry(registry);
+    }
+  }
+
+  @Test
+  public void testPriority() throws Throwable {
+    Note mockNote = mock(Note.class);
+    when(mockNote.getCredentials()).thenReturn(mock(Credentials.class));
+    when(mockNote.getId()).thenReturn("note_1");
+    Paragraph spyParagraph = spy(new Paragraph("para_1", mockNote,  null));
+
+    Interpreter mockInterpreter = mock(Interpreter.class);
+    spyParagraph.setInterpreter(mockInterpreter);
+    doReturn(mockInterpreter).when(spyParagraph).getBindedInterpreter();
+    ManagedInterpreterGroup mockInterpreterGroup = mock(ManagedInterpreterGroup.class);
+    when(mockInterpreter.getInterpreterGroup()).thenReturn(mockInterpreterGroup);
+    when(mockInterpreterGroup.getAngularObjectRegistry()).thenReturn(mock(AngularObjectRegistry.class));
+    when(mockInterpreterGroup.getResourcePool()).thenReturn(mock(ResourcePool.class));
+    InterpreterSetting mockInterpreterSetting = mock(InterpreterSetting.class);
+    when(mockInterpreterGroup.getInterpreterSetting()).thenReturn(mockInterpreterSetting);
+    when(mockInterpreterSetting.getStatus()).thenReturn(Status.READY);
+    when(mockInterpreterSetting.isUserAuthorized(any(List.class))).thenReturn(true);
+    when(mockInterpreter.getFormType()).thenReturn(FormType.NONE);
+    doReturn(mock(ParagraphJobListener.class)).when(spyParagraph).getListener();
+    List<String> priorities = new ArrayList<>();
+    when(mockInterpreter.interpret(anyString(), Mockito.<InterpreterContext>any()))
+        .thenAnswer(invocation -> {
+          InterpreterContext context = (InterpreterContext) invocation.getArguments()[1];
+          priorities.add(context.getLocalProperties().get(JobPriority.LOCAL_PROPERTY));
+          return new InterpreterResult(Code.SUCCESS, "2");
+        });
+
+    spyParagraph.setAuthenticationInfo(new AuthenticationInfo("user1"));
+    spyParagraph.setText("1 + 1");
+    assertEquals("user1", spyParagraph.getUser());
+    assertEquals("note_1", spyParagraph.getNoteId());
+    spyParagraph.jobRun();
+    spyParagraph.setPriority(JobPriority.CRON);
+    spyParagraph.jobRun();
+    assertEquals(Arrays.asList("INTERACTIVE", "CRON"), priorities);
+    // only sent with the run
+    assertNull(spyParagraph.getLocalProperties().get(JobPriority.LOCAL_PROPERTY));
+  }
+
   @Test
   public void testCursorPosition() {
     Paragraph paragraph = spy(new Paragraph());
@@ -0,0 +1,345 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook.scheduler;
+
+import org.apache.zeppelin.interpreter.InterpreterSetting;
+import org.apache.zeppelin.interpreter.InterpreterSettingManager;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.Notebook;
+import org.apache.zeppelin.notebook.Paragraph;
+import org.apache.zeppelin.scheduler.JobPriority;
+import org.apache.zeppelin.user.AuthenticationInfo;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyMap;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CronExecutorTest {
+
+  // interpreter setting of each alias
+  private static final Map<String, String> SETTINGS = new HashMap<>();
+
+  static {
+    SETTINGS.put("spark", "spark");
+    SETTINGS.put("sql", "spark");
+    SETTINGS.put("md", "md");
+    SETTINGS.put("python", "python");
+  }
+
+  private Notebook notebook;
+  private InterpreterSettingManager interpreterSettingManager;
+  // permits given to the runs of each note to finish
+  private Map<String, Semaphore> releases;
+  private Map<String, AtomicInteger> runCounts;
+  private List<String> started;
+
+  @Before
+  public void setUp() {
+    notebook = mock(Notebook.class);
+    interpreterSettingManager = mockInterpreterSettingManager();
+    when(notebook.getInterpreterSettingManager()).thenReturn(interpreterSettingManager);
+    releases = new ConcurrentHashMap<>();
+    runCounts = new ConcurrentHashMap<>();
+    started = Collections.synchronizedList(new ArrayList<>());
+  }
+
+  @After
+  public void tearDown() {
+    // let the runs left finish
+    releases.values().forEach(release -> release.release(100));
+  }
+
+  @Test
+  public void testMaxConcurrency() throws Exception {
+    addNote("note1", "%spark 1");
+    addNote("note2", "%spark 2");
+    addNote("note3", "%spark 3");
+    CronExecutor executor = new CronExecutor(notebook, 2, 0, 0,
+        CronExecutor.MisfirePolicy.SKIP, null);
+
+    assertEquals(CronExecutor.Result.QUEUED, executor.submit("note1"));
+    assertEquals(CronExecutor.Result.QUEUED, executor.submit("note2"));
+    assertEquals(CronExecutor.Result.QUEUED, executor.submit("note3"));
+    waitFor(() -> started.size() == 2);
+    assertEquals(new HashSet<>(Arrays.asList("note1", "note2")), new HashSet<>(started));
+    assertEquals(2, executor.getRunning());
+    assertEquals(Arrays.asList("note3"), executor.getQueuedNotes());
+
+    releases.get("note1").release();
+    waitFor(() -> started.size() == 3);
+    assertEquals("note3", started.get(2));
+    assertTrue(executor.getQueuedNotes().isEmpty());
+  }
+
+  @Test
+  public void testMaxConcurrencyPerSetting() throws Exception {
+    addNote("note1", "%spark 1");
+    addNote("note2", "%spark.sql 2");
+    addNote("note3", "%md 3");
+    CronExecutor executor = new CronExecutor(notebook, 10, 1, 0,
+        CronExecutor.MisfirePolicy.SKIP, null);
+
+    executor.submit("note1");
+    executor.submit("note2");
+    executor.submit("note3");
+    // note2 waits for note1 which uses spark too, but doesn't delay note3
+    waitFor(() -> started.size() == 2);
+    assertEquals(new HashSet<>(Arrays.asList("note1", "note3")), new HashSet<>(started));
+    assertEquals(Arrays.asList("note2"), executor.getQueuedNotes());
+
+    releases.get("note3").release();
+    waitFor(() -> executor.getRunning() == 1);
+    assertEquals(Arrays.asList("note2"), executor.getQueuedNotes());
+
+    releases.get("note1").release();
+    waitFor(() -> started.size() == 3);
+    assertEquals("note2", started.get(2));
+  }
+
+  @Test
+  public void testMaxConcurrencyPerSettingAliases() throws Exception {
+    // %spark and %sql are two aliases of the same spark setting
+    addNote("note1", "%spark 1");
+    addNote("note2", "%sql 2");
+    CronExecutor executor = new CronExecutor(notebook, 10, 1, 0,
+        CronExecutor.MisfirePolicy.SKIP, null);
+
+    executor.submit("note1");
+    executor.submit("note2");
+    waitFor(() -> started.size() == 1);
+    assertEquals(Arrays.asList("note2"), executor.getQueuedNotes());
+
+    releases.get("note1").release();
+    waitFor(() -> started.size() == 2);
+    assertEquals("note2", started.get(1));
+  }
+
+  @Test
+  public void testMisfireSkip() throws Exception {
+    addNote("note1", "%spark 1");
+    CronExecutor executor = new CronExecutor(notebook, 10, 0, 0,
+        CronExecutor.MisfirePolicy.SKIP, null);
+
+    assertEquals(CronExecutor.Result.QUEUED, executor.submit("note1"));
+    waitFor(() -> started.size() == 1);
+    assertEquals(CronExecutor.Result.SKIPPED, executor.submit("note1"));
+    assertEquals(CronExecutor.Result.SKIPPED, executor.submit("note1"));
+
+    releases.get("note1").release();
+    waitFor(() -> executor.getRunning() == 0);
+    assertEquals(1, runCounts.get("note1").get());
+    assertEquals(CronExecutor.Result.QUEUED, executor.submit("note1"));
+    waitFor(() -> started.size() == 2);
+  }
+
+  @Test
+  public void testMisfireCoalesce() throws Exception {
+    addNote("note1", "%spark 1");
+    CronExecutor executor = new CronExecutor(notebook, 10, 0, 0,
+        CronExecutor.MisfirePolicy.COALESCE, null);
+
+    assertEquals(CronExecutor.Result.QUEUED, executor.submit("note1"));
+    waitFor(() -> started.size() == 1);
+    // the fires during the run are coalesced into one more run
+    assertEquals(CronExecutor.Result.COALESCED, executor.submit("note1"));
+    assertEquals(CronExecutor.Result.COALESCED, executor.submit("note1"));
+
+    releases.get("note1").release();
+    waitFor(() -> started.size() == 2);
+    releases.get("note1").release();
+    waitFor(() -> executor.getRunning() == 0);
+    assertEquals(2, runCounts.get("note1").get());
+  }
+
+  @Test
+  public void testSkipRunningNote() throws Exception {
+    Note note = addNote("note1", "%spark 1");
+    when(note.haveRunningOrPendingParagraphs()).thenReturn(true);
+    CronExecutor executor = new CronExecutor(notebook, 10, 0, 0,
+        CronExecutor.MisfirePolicy.COALESCE, null);
+
+    assertEquals(CronExecutor.Result.SKIPPED, executor.submit("note1"));
+    assertEquals(CronExecutor.Result.SKIPPED, executor.submit("unknown"));
+    assertEquals(0, executor.getRunning());
+  }
+
+  @Test
+  public void testClose() throws Exception {
+    addNote("note1", "%spark 1");
+    addNote("note2", "%spark 2");
+    CronExecutor executor = new CronExecutor(notebook, 1, 0, 0,
+        CronExecutor.MisfirePolicy.SKIP, null);
+
+    executor.submit("note1");
+    assertEquals(CronExecutor.Result.QUEUED, executor.submit("note2"));
+    waitFor(() -> started.size() == 1);
+
+    // close waits for the running note1
+    Thread closer = new Thread(executor::close);
+    closer.start();
+    waitFor(() -> executor.getQueuedNotes().isEmpty());
+    assertEquals(CronExecutor.Result.SKIPPED, executor.submit("note2"));
+    releases.get("note1").release();
+    closer.join(10_000);
+    assertFalse(closer.isAlive());
+    assertEquals(Arrays.asList("note1"), started);
+    assertEquals(0, executor.getRunning());
+  }
+
+  @Test
+  public void testJitter() throws Exception {
+    addNote("note1", "%spark 1");
+    addNote("note2", "%spark 2");
+    CronExecutor executor = new CronExecutor(notebook, 10, 0, 200,
+        CronExecutor.MisfirePolicy.SKIP, null);
+
+    assertEquals(CronExecutor.Result.QUEUED, executor.submit("note1"));
+    assertEquals(CronExecutor.Result.QUEUED, executor.submit("note2"));
+    // a delayed note is not run twice
+    assertEquals(CronExecutor.Result.SKIPPED, executor.submit("note1"));
+    waitFor(() -> started.size() == 2);
+  }
+
+  @Test
+  public void testNotOwner() throws Exception {
+    addNote("note1", "%spark 1");
+    CronOwnership ownership = new CronOwnership("server1",
+        () -> Arrays.asList("server1", "server2"), 1000);
+    CronExecutor executor = new CronExecutor(notebook, 10, 0, 0,
+        CronExecutor.MisfirePolicy.SKIP, ownership);
+
+    CronExecutor.Result expected = ownership.isOwner("note1")
+        ? CronExecutor.Result.QUEUED : CronExecutor.Result.SKIPPED;
+    assertEquals(expected, executor.submit("note1"));
+  }
+
+  @Test
+  public void testGetInterpreterSettings() throws Exception {
+    Note note = mockNote("note1", "%spark.sql select 1", "%sql select 2", "%md hello",
+        "print(1)", "", "%unknown 1");
+    assertEquals(new HashSet<>(Arrays.asList("spark_id", "md_id", "python_id")),
+        CronExecutor.getInterpreterSettings(interpreterSettingManager, note));
+    // no interpreter is created to find the settings
+    for (Paragraph paragraph : note.getParagraphs()) {
+      verify(paragraph, never()).getBindedInterpreter();
+    }
+  }
+
+  @Test
+  public void testSkipDoesNotResolveSettings() throws Exception {
+    Note note = addNote("note1", "%spark 1");
+    CronExecutor executor = new CronExecutor(notebook, 10, 0, 0,
+        CronExecutor.MisfirePolicy.SKIP, null);
+
+    assertEquals(CronExecutor.Result.QUEUED, executor.submit("note1"));
+    waitFor(() -> started.size() == 1);
+    assertEquals(CronExecutor.Result.SKIPPED, executor.submit("note1"));
+    // the settings are only resolved for the accepted run
+    verify(interpreterSettingManager).getInterpreterSettingByReplName("spark", "python");
+    verify(note.getParagraphs().get(0), never()).getBindedInterpreter();
+  }
+
+  private Note addNote(String noteId, String... texts) throws Exception {
+    Note note = mockNote(noteId, texts);
+    when(notebook.getNote(noteId)).thenReturn(note);
+    Semaphore release = new Semaphore(0);
+    releases.put(noteId, release);
+    runCounts.put(noteId, new AtomicInteger());
+    doAnswer(invocation -> {
+      started.add(noteId);
+      runCounts.get(noteId).incrementAndGet();
+      assertTrue(release.tryAcquire(30, TimeUnit.SECONDS));
+      return null;
+    }).when(note).runAll(any(AuthenticationInfo.class), anyBoolean(), anyBoolean(), anyMap(),
+        eq(JobPriority.CRON));
+    return note;
+  }
+
+  private Note mockNote(String noteId, String... texts) {
+    Note note = mock(Note.class);
+    when(note.getId()).thenReturn(noteId);
+    when(note.getName()).thenReturn(noteId);
+    when(note.getConfig()).thenReturn(new HashMap<>());
+    when(note.getDefaultInterpreterGroup()).thenReturn("python");
+    List<Paragraph> paragraphs = new ArrayList<>();
+    for (String text : texts) {
+      Paragraph paragraph = mock(Paragraph.class);
+      when(paragraph.isEnabled()).thenReturn(true);
+      when(paragraph.getText()).thenReturn(text);
+      String intpText = text.startsWith("%") ? text.substring(1, text.indexOf(' ')) : "";
+      when(paragraph.getIntpText()).thenReturn(intpText);
+      paragraphs.add(paragraph);
+    }
+    when(note.getParagraphs()).thenReturn(paragraphs);
+    return note;
+  }
+
+  // resolves the aliases of SETTINGS
+  private static InterpreterSettingManager mockInterpreterSettingManager() {
+    Map<String, InterpreterSetting> settings = new HashMap<>();
+    for (String setting : SETTINGS.values()) {
+      InterpreterSetting interpreterSetting = mock(InterpreterSetting.class);
+      when(interpreterSetting.getId()).thenReturn(setting + "_id");
+      settings.put(setting, interpreterSetting);
+    }
+    InterpreterSettingManager interpreterSettingManager = mock(InterpreterSettingManager.class);
+    when(interpreterSettingManager.getInterpreterSettingByReplName(anyString(), anyString()))
+        .thenAnswer(invocation -> {
+          String replName = (String) invocation.getArguments()[0];
+          String defaultGroup = (String) invocation.getArguments()[1];
+          String setting = replName.isEmpty() ? defaultGroup
+              : SETTINGS.get(replName.split("\\.")[0]);
+          return setting == null ? null : settings.get(setting);
+        });
+    return interpreterSettingManager;
+  }
+
+  private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+    long start = System.currentTimeMillis();
+    while (!condition.getAsBoolean()) {
+      assertTrue("Timeout", System.currentTimeMillis() - start < 10_000);
+      Thread.sleep(10);
+    }
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook.scheduler;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CronOwnershipTest {
+
+  @Test
+  public void testGetOwner() {
+    List<String> nodes = Arrays.asList("server1", "server2", "server3");
+    Map<String, Integer> notesPerNode = new HashMap<>();
+    for (int i = 0; i < 300; i++) {
+      String noteId = "note" + i;
+      String owner = CronOwnership.getOwner(noteId, nodes);
+      assertTrue(nodes.contains(owner));
+      // the same owner whatever the order of the nodes
+      assertEquals(owner, CronOwnership.getOwner(noteId,
+          Arrays.asList("server3", "server1", "server2")));
+      notesPerNode.merge(owner, 1, Integer::sum);
+
+      // only the notes of a node going offline move
+      List<String> others = new ArrayList<>(nodes);
+      others.remove(owner.equals("server1") ? "server2" : "server1");
+      assertEquals(owner, CronOwnership.getOwner(noteId, others));
+    }
+    for (String node : nodes) {
+      assertTrue(notesPerNode.get(node) > 60);
+    }
+  }
+
+  @Test
+  public void testIsOwner() {
+    AtomicInteger refreshes = new AtomicInteger();
+    List<String> liveNodes = new ArrayList<>(Arrays.asList("server1", "server2"));
+    CronOwnership server1 = new CronOwnership("server1", () -> {
+      refreshes.incrementAndGet();
+      return new ArrayList<>(liveNodes);
+    }, 60_000);
+    CronOwnership server2 = new CronOwnership("server2", () -> liveNodes, 0);
+
+    for (int i = 0; i < 20; i++) {
+      String noteId = "note" + i;
+      // each note has one owner
+      assertTrue(server1.isOwner(noteId) ^ server2.isOwner(noteId));
+    }
+    // the live nodes are cached
+    assertEquals(1, refreshes.get());
+
+    // a server not yet in the cluster metadata still runs its notes
+    liveNodes.clear();
+    assertTrue(server2.isOwner("note1"));
+    CronOwnership server3 = new CronOwnership("server3", ArrayList::new, 0);
+    assertTrue(server3.isOwner("note1"));
+    assertFalse(new CronOwnership("server4", () -> Arrays.asList("server5"), 0)
+        .isOwner(findNoteOwnedBy("server5", Arrays.asList("server4", "server5"))));
+  }
+
+  private static String findNoteOwnedBy(String node, List<String> nodes) {
+    for (int i = 0; ; i++) {
+      if (CronOwnership.getOwner("note" + i, nodes).equals(node)) {
+        return "note" + i;
+      }
+    }
+  }
+}
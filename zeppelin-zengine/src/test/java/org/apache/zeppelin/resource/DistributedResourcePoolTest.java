@@ -27,6 +27,8 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Collections;
+
 import static org.apache.zeppelin.interpreter.InterpreterOption.ISOLATED;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -161,6 +163,12 @@ public class DistributedResourcePoolTest extends AbstractInterpreterTest {
     // then get all resources.
     assertEquals(4, interpreterSettingManager.getAllResources().size());
 
+    // the resources of a note, and the resources with the given names
+    assertEquals(2, interpreterSettingManager.getAllResourcesOf("note1",
+        Collections.emptySet()).size());
+    assertEquals(3, interpreterSettingManager.getAllResourcesOf("note1",
+        Collections.singleton("key2")).size());
+
     // when remove all resources from note1
     interpreterSettingManager.removeResourcesBelongsToNote("note1");
 
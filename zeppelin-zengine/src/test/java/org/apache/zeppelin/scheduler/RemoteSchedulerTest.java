@@ -32,6 +32,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -265,6 +266,129 @@ public class RemoteSchedulerTest extends AbstractInterpreterTest
     schedulerSvc.removeScheduler("test");
   }
 
+  @Test
+  public void testFairScheduler() throws Exception {
+    interpreterSetting.setProperty(FairScheduler.SCHEDULER_PROPERTY, "fair");
+    final RemoteInterpreter intpA =
+        (RemoteInterpreter) interpreterSetting.getInterpreter("user1", "note1", "mock");
+    intpA.open();
+
+    Scheduler scheduler = intpA.getScheduler();
+    assertNotNull(((RemoteScheduler) scheduler).getFairQueue());
+
+    List<Job<Object>> user1Jobs = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      user1Jobs.add(new UserJob(intpA, "user1Job" + i, "user1"));
+    }
+    Job<Object> user2Job = new UserJob(intpA, "user2Job", "user2");
+    for (Job<Object> job : user1Jobs) {
+      scheduler.submit(job);
+    }
+    scheduler.submit(user2Job);
+
+    int cycles = 0;
+    while (!user1Jobs.get(3).isTerminated() && cycles < MAX_WAIT_CYCLES) {
+      Thread.sleep(TICK_WAIT);
+      cycles++;
+    }
+    assertTrue(user1Jobs.get(3).isTerminated());
+    assertTrue(user2Job.isTerminated());
+
+    // at most 2 jobs of user1 are sent to the interpreter process before the job of user2
+    assertEquals(Status.FINISHED, user2Job.getStatus());
+    assertTrue(user2Job.getDateFinished().before(user1Jobs.get(2).getDateFinished()));
+
+    intpA.close();
+  }
+
+  @Test
+  public void testFairSchedulerStop() throws Exception {
+    interpreterSetting.setProperty(FairScheduler.SCHEDULER_PROPERTY, "fair");
+    final RemoteInterpreter intpA =
+        (RemoteInterpreter) interpreterSetting.getInterpreter("user1", "note1", "mock");
+    intpA.open();
+
+    Scheduler scheduler = intpA.getScheduler();
+    List<Job<Object>> userJobs = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      userJobs.add(new UserJob(intpA, "userJob" + i, "user1"));
+    }
+    for (Job<Object> job : userJobs) {
+      scheduler.submit(job);
+    }
+
+    int cycles = 0;
+    while (userJobs.get(0).getStatus() != Status.RUNNING && cycles < MAX_WAIT_CYCLES) {
+      Thread.sleep(TICK_WAIT);
+      cycles++;
+    }
+    assertEquals(Status.RUNNING, userJobs.get(0).getStatus());
+
+    // the jobs still in the fair queue are aborted
+    scheduler.stop();
+    for (Job<Object> job : userJobs.subList(2, 4)) {
+      assertEquals(Status.ABORT, job.getStatus());
+      assertNull(scheduler.getJob(job.getId()));
+    }
+
+    intpA.close();
+  }
+
+  /**
+   * Job of a user, sleeping 300 msec in the interpreter process.
+   */
+  private static class UserJob extends Job<Object> {
+    private final RemoteInterpreter intp;
+    private final String user;
+    private Object results;
+
+    UserJob(RemoteInterpreter intp, String jobId, String user) {
+      super(jobId, jobId, null);
+      this.intp = intp;
+      this.user = user;
+    }
+
+    @Override
+    public String getUser() {
+      return user;
+    }
+
+    @Override
+    public Object getReturn() {
+      return results;
+    }
+
+    @Override
+    public int progress() {
+      return 0;
+    }
+
+    @Override
+    public Map<String, Object> info() {
+      return null;
+    }
+
+    @Override
+    protected Object jobRun() throws Throwable {
+      intp.interpret("300", InterpreterContext.builder()
+          .setNoteId("noteId")
+          .setParagraphId(getId())
+          .setResourcePool(new LocalResourcePool("pool1"))
+          .build());
+      return "300";
+    }
+
+    @Override
+    protected boolean jobAbort() {
+      return false;
+    }
+
+    @Override
+    public void setResult(Object results) {
+      this.results = results;
+    }
+  }
+
   @Override
   public void onOutputAppend(String noteId, String paragraphId, int index, String output) {
 